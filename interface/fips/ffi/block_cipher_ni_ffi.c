@@ -10,7 +10,6 @@
 #include <openssl/evp.h>
 #include "types.h"
 #include "../util/block_cipher_ctx.h"
-#include "../util/jo_assert.h"
 
 /*
  * Check that nominates offset and len are within the "size" of the array we re accessing.
@@ -50,7 +49,9 @@ int32_t BlockCipherNI_init(
     size_t iv_size,
     int32_t tag_len) {
     block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
 
     int32_t return_code = JO_FAIL;
 
@@ -85,7 +86,9 @@ exit:
  */
 int32_t BlockCipherNI_getBlockSize(uint64_t ref) {
     block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
     return block_cipher_ctx_get_block_size(ctx);
 }
 
@@ -107,7 +110,9 @@ int32_t BlockCipherNI_updateAAD
     int32_t in_off,
     int32_t in_len) {
     block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
     int32_t return_code = JO_FAIL;
 
     if (input == NULL) {
@@ -168,7 +173,9 @@ int32_t BlockCipherNI_update
     int32_t in_off,
     int32_t in_len) {
     block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
     int32_t return_code = JO_FAIL;
 
     if (input == NULL) {
@@ -233,7 +240,9 @@ exit:
  * @return number of bytes written to output array
  */
 int32_t BlockCipherNI_doFinal(block_cipher_ctx *ctx, uint8_t *output, size_t output_size, int32_t out_off) {
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
 
     int32_t return_code = JO_FAIL;
 
@@ -263,8 +272,137 @@ exit:
     return return_code;
 }
 
+/**
+ * Update the block cipher with explicitly bounded regions, the regions may be native
+ * memory (direct ByteBuffers) or heap arrays and may overlap.
+ *
+ * @param ref Pointer to block_cipher_ctx
+ * @param output Output region
+ * @param output_size total length of output region
+ * @param out_off offset within output region
+ * @param out_len number of bytes available for output from out_off
+ * @param input pointer to input region
+ * @param input_size total length of input region
+ * @param in_off offset within input region to start at
+ * @param in_len number of bytes to process
+ * @return number of bytes written to output region
+ */
+int32_t BlockCipherNI_updateBuffer
+(
+    uint64_t ref,
+    uint8_t *output,
+    size_t output_size,
+    int32_t out_off,
+    int32_t out_len,
+    uint8_t *input,
+    size_t input_size,
+    int32_t in_off,
+    int32_t in_len) {
+    block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
+    int32_t return_code = JO_FAIL;
+
+    if (input == NULL) {
+        return_code = JO_INPUT_IS_NULL;
+        goto exit;
+    }
+
+    if (output == NULL) {
+        return_code = JO_OUTPUT_IS_NULL;
+        goto exit;
+    }
+
+    if (out_off < 0) {
+        return_code = JO_OUTPUT_OFFSET_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (out_len < 0) {
+        return_code = JO_OUTPUT_LEN_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (in_off < 0) {
+        return_code = JO_INPUT_OFFSET_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (in_len < 0) {
+        return_code = JO_INPUT_LEN_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (!range_check(input_size, in_len, in_off)) {
+        return_code = JO_INPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    if (!range_check(output_size, out_len, out_off)) {
+        return_code = JO_OUTPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    /* in_off and out_off asserted as non-negative and in range by this point */
+
+    uint8_t *input_data = input + (size_t) in_off;
+    uint8_t *output_data = output + (size_t) out_off;
+
+    return_code = block_cipher_ctx_update_overlapping(ctx, input_data, (size_t) in_len, output_data, (size_t) out_len);
+
+exit:
+    return return_code;
+}
+
+/**
+ * Call final on the block cipher with an explicitly bounded output region.
+ *
+ * @param ctx pointer to block_cipher_ctx
+ * @param output pointer to output region
+ * @param output_size total length of output region
+ * @param out_off the offset within the output region
+ * @param out_len number of bytes available for output from out_off
+ * @return number of bytes written to output region
+ */
+int32_t BlockCipherNI_doFinalBuffer(block_cipher_ctx *ctx, uint8_t *output, size_t output_size, int32_t out_off, int32_t out_len) {
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
+
+    int32_t return_code = JO_FAIL;
+
+    if (output == NULL) {
+        return_code = JO_OUTPUT_IS_NULL;
+        goto exit;
+    }
+
+    if (out_off < 0) {
+        return_code = JO_OUTPUT_OFFSET_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (out_len < 0) {
+        return_code = JO_OUTPUT_LEN_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (!range_check(output_size, out_len, out_off)) {
+        return_code = JO_OUTPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    uint8_t *output_data = output + (size_t) out_off;
+    return_code = block_cipher_ctx_final(ctx, output_data, (size_t) out_len);
+
+exit:
+    return return_code;
+}
+
 int32_t BlockCipherNI_getUpdateSize(block_cipher_ctx *ctx, int32_t len) {
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
     int32_t return_code = JO_FAIL;
 
     if (len < 0) {
@@ -280,7 +418,9 @@ exit:
 
 
 int32_t BlockCipherNI_getFinalSize(block_cipher_ctx *ctx, int32_t len) {
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
     int32_t return_code = JO_FAIL;
 
     if (len < 0) {
@@ -295,6 +435,75 @@ exit:
 }
 
 
+/**
+ * Reset the block cipher instance so it can be initialised again
+ * @param ctx pointer to block_cipher_ctx
+ * @return JO_SUCCESS or a negative error code
+ */
+/**
+ * Seal or open a batch of AEAD records, see block_cipher_ctx_aead_batch.
+ *
+ * @param ctx pointer to block_cipher_ctx
+ * @param opp_mode ENCRYPT_MODE to seal, DECRYPT_MODE to open
+ * @param nonces the record nonces back to back
+ * @param aad the buffer holding the associated data of every record
+ * @param input the buffer holding the plaintext or sealed records
+ * @param spans four entries per record, aad offset, aad length, input offset, input length
+ * @param spans_len number of entries in spans
+ * @param count number of records
+ * @param output output array, the records are written back to back from out_off
+ * @param status per record bytes written or error, at least count entries
+ * @return total bytes written or a negative error
+ */
+int32_t BlockCipherNI_aeadBatch(
+    block_cipher_ctx *ctx,
+    int32_t opp_mode,
+    uint8_t *nonces,
+    size_t nonces_size,
+    uint8_t *aad,
+    size_t aad_size,
+    uint8_t *input,
+    size_t input_size,
+    int32_t *spans,
+    size_t spans_len,
+    int32_t count,
+    uint8_t *output,
+    size_t output_size,
+    int32_t out_off,
+    int32_t *status,
+    size_t status_len) {
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
+
+    if (spans == NULL || status == NULL) {
+        return JO_INPUT_IS_NULL;
+    }
+
+    if (count < 0) {
+        return JO_INPUT_LEN_IS_NEGATIVE;
+    }
+
+    if (spans_len / 4 < (size_t) count || status_len < (size_t) count) {
+        return JO_INPUT_OUT_OF_RANGE;
+    }
+
+    if (output == NULL) {
+        return JO_OUTPUT_IS_NULL;
+    }
+
+    return block_cipher_ctx_aead_batch(ctx, opp_mode, nonces, nonces_size, aad, aad_size, input, input_size,
+                                       spans, count, output, output_size, out_off, status);
+}
+
+int32_t BlockCipherNI_reset(block_cipher_ctx *ctx) {
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
+    return block_cipher_ctx_reset(ctx);
+}
+
+
 /**
  * Dispose of the block cipher instance, underlying implementation is null safe
  * @param ctx pointer to block_cipher_ctx
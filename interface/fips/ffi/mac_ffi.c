@@ -57,6 +57,15 @@ int32_t JoMAC_init(mac_ctx * ctx, uint8_t *key, size_t key_len) {
     return mac_init(ctx, key, key_len);
 }
 
+int32_t JoMAC_initFrom(mac_ctx *ctx, mac_ctx *tmpl) {
+
+    if (ctx == NULL || tmpl == NULL) {
+        return JO_MAC_CTX_IS_NULL;
+    }
+
+    return mac_init_from(ctx, tmpl);
+}
+
 int32_t JoMAC_updateByte(mac_ctx *ctx, uint8_t b) {
 
     if (ctx == NULL) {
@@ -133,6 +142,98 @@ int32_t JoMAC_final(mac_ctx *ctx, uint8_t *output, size_t output_size, int32_t o
     return mac_final(ctx, output, output_offset, (int32_t) output_size);
 }
 
+/*
+ * Trailing input, final and reset in one call. The input may be NULL when input_len is zero.
+ */
+int32_t JoMAC_updateFinalReset(mac_ctx *ctx, uint8_t *input, size_t input_size, int32_t input_offset,
+                               int32_t input_len, uint8_t *output, size_t output_size, int32_t output_offset) {
+
+    if (ctx == NULL) {
+        return JO_MAC_CTX_IS_NULL;
+    }
+
+    if (!ctx->initialized) {
+        return JO_NOT_INITIALIZED;
+    }
+
+    if (input_offset < 0) {
+        return JO_INPUT_OFFSET_IS_NEGATIVE;
+    }
+
+    if (input_len < 0) {
+        return JO_INPUT_LEN_IS_NEGATIVE;
+    }
+
+    if (input == NULL) {
+        if (input_len != 0) {
+            return JO_INPUT_IS_NULL;
+        }
+    } else if (!check_in_range(input_size, (size_t) input_offset, (size_t) input_len)) {
+        return JO_INPUT_OUT_OF_RANGE;
+    }
+
+    if (output == NULL) {
+        return JO_OUTPUT_IS_NULL;
+    }
+
+    if (output_offset < 0) {
+        return JO_OUTPUT_OFFSET_IS_NEGATIVE;
+    }
+
+    if (OPS_INT32_OVERFLOW_2 output_size > INT32_MAX) {
+        return JO_OUTPUT_SIZE_INT_OVERFLOW;
+    }
+
+    int32_t m_len = mac_len(ctx);
+    if (UNSUCCESSFUL(m_len)) {
+        return m_len;
+    }
+
+    if (!check_in_range(output_size, output_offset, m_len)) {
+        return JO_OUTPUT_OUT_OF_RANGE;
+    }
+
+    return mac_update_final_reset(ctx, input, input_offset, input_len, output, output_offset, (int32_t) output_size);
+}
+
+int32_t JoMAC_finalBatch(mac_ctx *ctx, uint8_t *input, size_t input_size, int32_t *spans, size_t spans_len,
+                         int32_t count, uint8_t *output, size_t output_size, int32_t output_offset) {
+    if (ctx == NULL) {
+        return JO_MAC_CTX_IS_NULL;
+    }
+
+    if (!ctx->initialized) {
+        return JO_NOT_INITIALIZED;
+    }
+
+    if (spans == NULL) {
+        return JO_INPUT_IS_NULL;
+    }
+
+    if (count < 0) {
+        return JO_INPUT_LEN_IS_NEGATIVE;
+    }
+
+    if (spans_len / 2 < (size_t) count) {
+        return JO_INPUT_OUT_OF_RANGE;
+    }
+
+    if (output == NULL) {
+        return JO_OUTPUT_IS_NULL;
+    }
+
+    if (output_offset < 0) {
+        return JO_OUTPUT_OFFSET_IS_NEGATIVE;
+    }
+
+    if (OPS_INT32_OVERFLOW_2 output_size > INT32_MAX) {
+        return JO_OUTPUT_SIZE_INT_OVERFLOW;
+    }
+
+    return mac_final_batch(ctx, input, input == NULL ? 0 : input_size, spans, count,
+                           output, output_offset, (int32_t) output_size);
+}
+
 int32_t JoMAC_len(mac_ctx *ctx) {
     if (ctx == NULL) {
         return JO_MAC_CTX_IS_NULL;
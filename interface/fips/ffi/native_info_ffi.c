@@ -8,6 +8,7 @@
 
 #include "native_info_ffi.h"
 #include "openssl/opensslconf.h"
+#include "../util/fetch_cache.h"
 
 
 const char * openssl_library_version(size_t *len) {
@@ -18,3 +19,11 @@ const char * openssl_library_version(size_t *len) {
 int32_t is_native_available(void) {
     return FFI_TRUE;
 }
+
+int64_t fetch_cache_hit_count(void) {
+    return fetch_cache_hits();
+}
+
+int64_t fetch_cache_miss_count(void) {
+    return fetch_cache_misses();
+}
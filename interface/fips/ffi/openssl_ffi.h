@@ -19,6 +19,11 @@
 */
 int32_t set_openssl_module(const char *prov_name);
 
+/*
+* set the up-call prefetch block size
+*/
+void set_rand_up_call_block(int32_t block);
+
 /*
 * return any available openssl errors
 */
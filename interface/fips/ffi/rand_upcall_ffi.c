@@ -18,6 +18,8 @@
 
 #include "../util/bc_err_codes.h"
 #include "../util/ops.h"
+#include "../util/rand.h"
+#include "../util/rand/rand_upcall.h"
 
 int rand_up_call_next_bytes(void *rnd_up_call, unsigned char *out, size_t out_len,
                             unsigned int strength, int prediction_resistance,
@@ -32,6 +34,13 @@ int rand_up_call_next_bytes(void *rnd_up_call, unsigned char *out, size_t out_le
         return JO_RAND_NO_RAND_UP_CALL;
     }
 
+    if (((uintptr_t) rnd_up_call & RAND_UP_CALL_DIRECT_TAG) != 0) {
+        // A DRBG, not a function, rand_up_call_direct_bytes serves these.
+        ERR_raise_data(ERR_LIB_RAND, ERR_R_RAND_LIB, "handler fail, rand up call is a DRBG: %d",
+                       JO_RAND_ERROR);
+        return JO_RAND_ERROR;
+    }
+
     if (OPS_INT32_OVERFLOW_1 out_len > INT32_MAX) {
         ERR_raise_data(ERR_LIB_RAND, ERR_R_RAND_LIB, "out_len > INT32_MAX: %d", JO_OPENSSL_ERROR);
         return JO_OPENSSL_ERROR;
@@ -62,3 +71,18 @@ int rand_up_call_next_bytes(void *rnd_up_call, unsigned char *out, size_t out_le
 
     return rc;
 }
+
+int rand_up_call_direct_bytes(void *rnd_up_call, unsigned char *out, size_t out_len,
+                              unsigned int strength, int prediction_resistance) {
+    uintptr_t target = (uintptr_t) rnd_up_call;
+
+    if ((target & RAND_UP_CALL_DIRECT_TAG) == 0) {
+        return 0;
+    }
+
+    // The Java arena that issued the tagged address keeps the SecureRandom,
+    // and so the DRBG, alive until the call returns.
+    int32_t rc = rand_ctx_fill((JO_RAND_CTX *) (target & ~RAND_UP_CALL_DIRECT_TAG), out, out_len,
+                               strength, prediction_resistance);
+    return UNSUCCESSFUL(rc) ? rc : 1;
+}
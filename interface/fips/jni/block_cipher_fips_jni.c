@@ -21,8 +21,12 @@
 #define Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1update         Java_org_openssl_jostle_jcajce_provider_fips_BlockCipherFIPSJNI_ni_1update
 #define Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1doFinal        Java_org_openssl_jostle_jcajce_provider_fips_BlockCipherFIPSJNI_ni_1doFinal
 #define Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1updateAAD      Java_org_openssl_jostle_jcajce_provider_fips_BlockCipherFIPSJNI_ni_1updateAAD
+#define Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1updateBuffer   Java_org_openssl_jostle_jcajce_provider_fips_BlockCipherFIPSJNI_ni_1updateBuffer
+#define Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1doFinalBuffer  Java_org_openssl_jostle_jcajce_provider_fips_BlockCipherFIPSJNI_ni_1doFinalBuffer
 #define Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1getFinalSize   Java_org_openssl_jostle_jcajce_provider_fips_BlockCipherFIPSJNI_ni_1getFinalSize
 #define Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1getUpdateSize  Java_org_openssl_jostle_jcajce_provider_fips_BlockCipherFIPSJNI_ni_1getUpdateSize
+#define Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1aeadBatch      Java_org_openssl_jostle_jcajce_provider_fips_BlockCipherFIPSJNI_ni_1aeadBatch
+#define Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1reset          Java_org_openssl_jostle_jcajce_provider_fips_BlockCipherFIPSJNI_ni_1reset
 #define Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1dispose        Java_org_openssl_jostle_jcajce_provider_fips_BlockCipherFIPSJNI_ni_1dispose
 /* *INDENT-ON* */
 
@@ -71,3 +71,53 @@ void release_critical_ctx(critical_bytearray_ctx *ctx) {
 bool check_critical_in_range(critical_bytearray_ctx *ctx, size_t offset, size_t len) {
     return (len <= ctx->size) && (offset <= ctx->size - len);
 }
+
+
+void init_critical_buffer_ctx(critical_buffer_ctx *ctx, JNIEnv *env, jobject buffer) {
+    ctx->direct = NULL;
+    ctx->size = 0;
+    ctx->is_null = buffer == NULL;
+    init_critical_ctx(&ctx->array, env, NULL);
+
+    if (buffer == NULL) {
+        return;
+    }
+
+    // GetDirectBufferAddress returns NULL for anything that is not a direct buffer.
+    ctx->direct = (*env)->GetDirectBufferAddress(env, buffer);
+    if (ctx->direct != NULL) {
+        jlong capacity = (*env)->GetDirectBufferCapacity(env, buffer);
+        ctx->size = capacity < 0 ? 0 : (size_t) capacity;
+        return;
+    }
+
+    init_critical_ctx(&ctx->array, env, (jbyteArray) buffer);
+    ctx->size = ctx->array.size;
+}
+
+bool load_critical_buffer_ctx(critical_buffer_ctx *ctx) {
+    if (ctx == NULL) {
+        return false;
+    }
+
+    if (ctx->direct != NULL) {
+        return true;
+    }
+
+    return load_critical_ctx(&ctx->array);
+}
+
+uint8_t *critical_buffer_ptr(critical_buffer_ctx *ctx) {
+    return ctx->direct != NULL ? ctx->direct : ctx->array.critical;
+}
+
+void release_critical_buffer_ctx(critical_buffer_ctx *ctx) {
+    if (ctx == NULL) {
+        return;
+    }
+    release_critical_ctx(&ctx->array);
+}
+
+bool check_critical_buffer_in_range(critical_buffer_ctx *ctx, size_t offset, size_t len) {
+    return (len <= ctx->size) && (offset <= ctx->size - len);
+}
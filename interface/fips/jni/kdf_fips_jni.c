@@ -14,6 +14,8 @@
 /* *INDENT-OFF* */
 #define Java_org_openssl_jostle_jcajce_provider_kdf_KdfNIJNI_hkdf                      Java_org_openssl_jostle_jcajce_provider_fips_KdfFIPSJNI_hkdf
 #define Java_org_openssl_jostle_jcajce_provider_kdf_KdfNIJNI_pbkdf2                    Java_org_openssl_jostle_jcajce_provider_fips_KdfFIPSJNI_pbkdf2
+#define Java_org_openssl_jostle_jcajce_provider_kdf_KdfNIJNI_x942kdf                   Java_org_openssl_jostle_jcajce_provider_fips_KdfFIPSJNI_x942kdf
+#define Java_org_openssl_jostle_jcajce_provider_kdf_KdfNIJNI_x963kdf                   Java_org_openssl_jostle_jcajce_provider_fips_KdfFIPSJNI_x963kdf
 /* *INDENT-ON* */
 
 #include "kdf_jni.c"
@@ -18,9 +18,13 @@
 #define Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1allocateMac    Java_org_openssl_jostle_jcajce_provider_fips_MacServiceFIPSJNI_ni_1allocateMac
 #define Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1init           Java_org_openssl_jostle_jcajce_provider_fips_MacServiceFIPSJNI_ni_1init
 #define Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1copyMac        Java_org_openssl_jostle_jcajce_provider_fips_MacServiceFIPSJNI_ni_1copyMac
+#define Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1initFrom       Java_org_openssl_jostle_jcajce_provider_fips_MacServiceFIPSJNI_ni_1initFrom
 #define Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1updateByte     Java_org_openssl_jostle_jcajce_provider_fips_MacServiceFIPSJNI_ni_1updateByte
 #define Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1updateBytes    Java_org_openssl_jostle_jcajce_provider_fips_MacServiceFIPSJNI_ni_1updateBytes
+#define Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1updateBuffer   Java_org_openssl_jostle_jcajce_provider_fips_MacServiceFIPSJNI_ni_1updateBuffer
 #define Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1doFinal        Java_org_openssl_jostle_jcajce_provider_fips_MacServiceFIPSJNI_ni_1doFinal
+#define Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1updateDoFinalReset Java_org_openssl_jostle_jcajce_provider_fips_MacServiceFIPSJNI_ni_1updateDoFinalReset
+#define Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1doFinalBatch    Java_org_openssl_jostle_jcajce_provider_fips_MacServiceFIPSJNI_ni_1doFinalBatch
 #define Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1getMacLength   Java_org_openssl_jostle_jcajce_provider_fips_MacServiceFIPSJNI_ni_1getMacLength
 #define Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1macLengthMeta  Java_org_openssl_jostle_jcajce_provider_fips_MacServiceFIPSJNI_ni_1macLengthMeta
 #define Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1reset          Java_org_openssl_jostle_jcajce_provider_fips_MacServiceFIPSJNI_ni_1reset
@@ -26,9 +26,12 @@
 #define Java_org_openssl_jostle_jcajce_provider_md_MDServiceJNI_ni_1copyDigest          Java_org_openssl_jostle_jcajce_provider_fips_MDServiceFIPSJNI_ni_1copyDigest
 #define Java_org_openssl_jostle_jcajce_provider_md_MDServiceJNI_ni_1updateByte          Java_org_openssl_jostle_jcajce_provider_fips_MDServiceFIPSJNI_ni_1updateByte
 #define Java_org_openssl_jostle_jcajce_provider_md_MDServiceJNI_ni_1updateBytes         Java_org_openssl_jostle_jcajce_provider_fips_MDServiceFIPSJNI_ni_1updateBytes
+#define Java_org_openssl_jostle_jcajce_provider_md_MDServiceJNI_ni_1updateBuffer        Java_org_openssl_jostle_jcajce_provider_fips_MDServiceFIPSJNI_ni_1updateBuffer
 #define Java_org_openssl_jostle_jcajce_provider_md_MDServiceJNI_ni_1dispose             Java_org_openssl_jostle_jcajce_provider_fips_MDServiceFIPSJNI_ni_1dispose
 #define Java_org_openssl_jostle_jcajce_provider_md_MDServiceJNI_ni_1getDigestOutputLen  Java_org_openssl_jostle_jcajce_provider_fips_MDServiceFIPSJNI_ni_1getDigestOutputLen
 #define Java_org_openssl_jostle_jcajce_provider_md_MDServiceJNI_ni_1digest              Java_org_openssl_jostle_jcajce_provider_fips_MDServiceFIPSJNI_ni_1digest
+#define Java_org_openssl_jostle_jcajce_provider_md_MDServiceJNI_ni_1updateDigestReset   Java_org_openssl_jostle_jcajce_provider_fips_MDServiceFIPSJNI_ni_1updateDigestReset
+#define Java_org_openssl_jostle_jcajce_provider_md_MDServiceJNI_ni_1digestBatch         Java_org_openssl_jostle_jcajce_provider_fips_MDServiceFIPSJNI_ni_1digestBatch
 #define Java_org_openssl_jostle_jcajce_provider_md_MDServiceJNI_ni_1reset               Java_org_openssl_jostle_jcajce_provider_fips_MDServiceFIPSJNI_ni_1reset
 /* *INDENT-ON* */
 
@@ -164,6 +164,48 @@ exit:
     return ret_code;
 }
 
+/*
+ * Class:     org_openssl_jostle_jcajce_provider_md_MDServiceJNI
+ * Method:    ni_updateBuffer
+ * Signature: (JLjava/nio/ByteBuffer;II)I
+ *
+ * Direct buffers only, the address is used in place without entering a critical region
+ * so long updates over mapped files do not hold off the GC.
+ */
+JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_md_MDServiceJNI_ni_1updateBuffer
+(JNIEnv *env, jobject jo, jlong ref, jobject _input, jint in_off, jint in_len) {
+    UNUSED(jo);
+
+    md_ctx *ctx = (md_ctx *) ref;
+    if (ctx == NULL) {
+        return JO_MD_CTX_IS_NULL;
+    }
+
+    if (_input == NULL) {
+        return JO_INPUT_IS_NULL;
+    }
+
+    if (in_off < 0) {
+        return JO_INPUT_OFFSET_IS_NEGATIVE;
+    }
+
+    if (in_len < 0) {
+        return JO_INPUT_LEN_IS_NEGATIVE;
+    }
+
+    uint8_t *input = (*env)->GetDirectBufferAddress(env, _input);
+    if (OPS_FAILED_ACCESS_1 input == NULL) {
+        return JO_FAILED_ACCESS_INPUT;
+    }
+
+    const jlong capacity = (*env)->GetDirectBufferCapacity(env, _input);
+    if (capacity < 0 || (jlong) in_len > capacity || (jlong) in_off > capacity - in_len) {
+        return JO_INPUT_OUT_OF_RANGE;
+    }
+
+    return md_ctx_update(ctx, input + in_off, in_len);
+}
+
 /*
  * Class:     org_openssl_jostle_jcajce_provider_md_MDServiceJNI
  * Method:    ni_dispose
@@ -276,6 +318,182 @@ exit:
     return ret_code;
 }
 
+/*
+ * Class:     org_openssl_jostle_jcajce_provider_md_MDServiceJNI
+ * Method:    ni_updateDigestReset
+ * Signature: (J[BII[BII)I
+ *
+ * Trailing input, final and reset in one crossing. The input may be null when in_len is zero.
+ */
+JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_md_MDServiceJNI_ni_1updateDigestReset
+(JNIEnv *env, jobject jo, jlong ref, jbyteArray _input, jint in_off, jint in_len, jbyteArray _output, jint out_off,
+ jint out_len) {
+    UNUSED(jo);
+
+    md_ctx *ctx = (md_ctx *) ref;
+    if (ctx == NULL) {
+        return JO_MD_CTX_IS_NULL;
+    }
+
+    int32_t ret_code = JO_FAIL;
+
+    critical_bytearray_ctx input;
+    critical_bytearray_ctx output;
+    init_critical_ctx(&input, env, _input);
+    init_critical_ctx(&output, env, _output);
+
+    if (in_off < 0) {
+        ret_code = JO_INPUT_OFFSET_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (in_len < 0) {
+        ret_code = JO_INPUT_LEN_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (input.array == NULL) {
+        if (in_len != 0) {
+            ret_code = JO_INPUT_IS_NULL;
+            goto exit;
+        }
+    } else if (!check_critical_in_range(&input, in_off, in_len)) {
+        ret_code = JO_INPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    if (output.array == NULL) {
+        ret_code = JO_OUTPUT_IS_NULL;
+        goto exit;
+    }
+
+    if (out_off < 0) {
+        ret_code = JO_OUTPUT_OFFSET_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (out_len < 0) {
+        ret_code = JO_OUTPUT_LEN_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (!check_critical_in_range(&output, out_off, out_len)) {
+        ret_code = JO_OUTPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    if (out_len < ctx->digest_byte_length) {
+        ret_code = JO_OUTPUT_TOO_SMALL;
+        goto exit;
+    }
+
+    uint8_t *in = NULL;
+    if (input.array != NULL) {
+        if (OPS_FAILED_ACCESS_1 !load_critical_ctx(&input)) {
+            ret_code = JO_FAILED_ACCESS_INPUT;
+            goto exit;
+        }
+        in = input.critical + (size_t) in_off;
+    }
+
+    if (OPS_FAILED_ACCESS_2 !load_critical_ctx(&output)) {
+        ret_code = JO_FAILED_ACCESS_OUTPUT;
+        goto exit;
+    }
+
+    ret_code = md_ctx_update_finalize_reset(ctx, in, (size_t) in_len, output.critical + (size_t) out_off);
+
+exit:
+    release_critical_ctx(&output);
+    release_critical_ctx(&input);
+    return ret_code;
+}
+
+/*
+ * Class:     org_openssl_jostle_jcajce_provider_md_MDServiceJNI
+ * Method:    ni_digestBatch
+ * Signature: (J[B[II[BI)I
+ *
+ * count independent messages digested in one crossing, spans holds an offset and
+ * length pair per message. The input may be null when every message is empty.
+ */
+JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_md_MDServiceJNI_ni_1digestBatch
+(JNIEnv *env, jobject jo, jlong ref, jbyteArray _input, jintArray _spans, jint count, jbyteArray _output,
+ jint out_off) {
+    UNUSED(jo);
+
+    md_ctx *ctx = (md_ctx *) ref;
+    if (ctx == NULL) {
+        return JO_MD_CTX_IS_NULL;
+    }
+
+    if (_spans == NULL) {
+        return JO_INPUT_IS_NULL;
+    }
+
+    if (count < 0) {
+        return JO_INPUT_LEN_IS_NEGATIVE;
+    }
+
+    if ((int64_t) (*env)->GetArrayLength(env, _spans) < 2 * (int64_t) count) {
+        return JO_INPUT_OUT_OF_RANGE;
+    }
+
+    if (_output == NULL) {
+        return JO_OUTPUT_IS_NULL;
+    }
+
+    if (out_off < 0) {
+        return JO_OUTPUT_OFFSET_IS_NEGATIVE;
+    }
+
+    int32_t ret_code = JO_FAIL;
+    jint *spans = NULL;
+
+    critical_bytearray_ctx input;
+    critical_bytearray_ctx output;
+    init_critical_ctx(&input, env, _input);
+    init_critical_ctx(&output, env, _output);
+
+    const int64_t total = (int64_t) count * ctx->digest_byte_length;
+    if (total > INT32_MAX) {
+        ret_code = JO_OUTPUT_SIZE_INT_OVERFLOW;
+        goto exit;
+    }
+
+    if (!check_critical_in_range(&output, out_off, (size_t) total)) {
+        ret_code = JO_OUTPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    if (OPS_FAILED_ACCESS_1 !load_critical_ctx(&input)) {
+        ret_code = JO_FAILED_ACCESS_INPUT;
+        goto exit;
+    }
+
+    if (OPS_FAILED_ACCESS_2 !load_critical_ctx(&output)) {
+        ret_code = JO_FAILED_ACCESS_OUTPUT;
+        goto exit;
+    }
+
+    spans = (*env)->GetPrimitiveArrayCritical(env, _spans, NULL);
+    if (spans == NULL) {
+        ret_code = JO_FAILED_ACCESS_INPUT;
+        goto exit;
+    }
+
+    ret_code = md_ctx_digest_batch(ctx, input.critical, input.size, (const int32_t *) spans, count,
+                                   output.critical + (size_t) out_off);
+
+exit:
+    if (spans != NULL) {
+        (*env)->ReleasePrimitiveArrayCritical(env, _spans, spans, JNI_ABORT);
+    }
+    release_critical_ctx(&output);
+    release_critical_ctx(&input);
+    return ret_code;
+}
+
 /*
  * Class:     org_openssl_jostle_jcajce_provider_md_MDServiceJNI
  * Method:    ni_reset
@@ -324,6 +324,16 @@
 #define JO_KDF_ARGON2_LANES_TOO_SMALL -148
 #define JO_KDF_ARGON2_MEMORY_TOO_SMALL -149
 
+/*
+ * X9.63 / X9.42 key agreement KDF inputs: the shared secret (ZZ) is null or
+ * could not be accessed, the shared info / UKM could not be accessed, or the
+ * X9.42 key wrap cipher name is missing.
+ */
+#define JO_KDF_SECRET_NULL -150
+#define JO_KDF_SECRET_FAILED_ACCESS -151
+#define JO_KDF_INFO_FAILED_ACCESS -152
+#define JO_KDF_CEK_ALG_UNKNOWN -153
+
 /*
  * FIPS lib-ctx initialisation (rand/jostle_fips_ctx.c). Distinct codes so
  * the Java layer can surface actionable configuration errors: a module
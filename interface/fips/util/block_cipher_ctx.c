@@ -13,6 +13,7 @@
 #include <openssl/err.h>
 
 #include "ctr_u128_t.h"
+#include "fetch_cache.h"
 #include "ops.h"
 #include "jo_assert.h"
 #include "rand/jostle_lib_ctx.h"
@@ -133,6 +134,38 @@ failed:
 }
 
 
+int32_t block_cipher_ctx_reset(block_cipher_ctx *ctx) {
+    if (1 != EVP_CIPHER_CTX_reset(ctx->evp)) {
+        ctx->poisoned = 1;
+        return JO_OPENSSL_ERROR;
+    }
+
+    if (ctx->counter != NULL) {
+        OPENSSL_cleanse(ctx->counter, sizeof(ctr_u128_t));
+    }
+
+    OPENSSL_cleanse(ctx->last_key, MAX_KEY_LEN);
+    OPENSSL_cleanse(ctx->last_iv, MAX_IV_LEN);
+    OPENSSL_cleanse(ctx->tag_buffer, MAX_TAG_LEN);
+
+    // Identity (cipher, mode, padding) and the owned allocations are kept,
+    // everything an init establishes is cleared.
+    ctx->op_mode = 0;
+    ctx->cipher_block_size = 0;
+    ctx->processed = 0;
+    ctx->streaming = 0;
+    ctx->key_len = 0;
+    ctx->iv_len = 0;
+    ctx->tag_len = 0;
+    ctx->tag_index = 0;
+    ctx->buffered = 0;
+    ctx->poisoned = 0;
+    ctx->initialized = 0;
+
+    return JO_SUCCESS;
+}
+
+
 int32_t block_cipher_ctx_init(
     block_cipher_ctx *ctx,
     int32_t opp_mode,
@@ -229,45 +262,45 @@ int32_t block_cipher_ctx_init(
             }
             switch (ctx->mode_id) {
                 case ECB:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-128-ECB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-128-ECB",NULL);
                     break;
                 case CBC:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-128-CBC",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-128-CBC",NULL);
                     break;
                 case CFB1:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-128-CFB1",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-128-CFB1",NULL);
                     break;
                 case CFB8:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-128-CFB8",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-128-CFB8",NULL);
                     break;
                 case CFB128:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-128-CFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-128-CFB",NULL);
                     break;
                 case OFB:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-128-OFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-128-OFB",NULL);
                     break;
                 case CTR:
                     if (valid_for_ctr(iv_len, BLOCK_SIZE_AES) < JO_SUCCESS) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-128-CTR",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-128-CTR",NULL);
 
                     break;
                 case XTS:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-128-XTS",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-128-XTS",NULL);
                     break;
 
                 case WRAP:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-128-WRAP",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-128-WRAP",NULL);
                     break;
                 case WRAP_PAD:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-128-WRAP-PAD",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-128-WRAP-PAD",NULL);
                     break;
 
                 // case CCM: Authenticated (requires upfront-length streaming model)
@@ -278,13 +311,13 @@ int32_t block_cipher_ctx_init(
                     if (iv_len < 1 || iv_len > 15) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-128-OCB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-128-OCB",NULL);
                     break;
                 case GCM:
                     if (iv_len != 12) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-128-GCM",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-128-GCM",NULL);
                     break;
                 default:
                     return JO_INVALID_MODE;
@@ -298,40 +331,40 @@ int32_t block_cipher_ctx_init(
             }
             switch (ctx->mode_id) {
                 case ECB:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-192-ECB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-192-ECB",NULL);
                     break;
                 case CBC:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-192-CBC",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-192-CBC",NULL);
                     break;
                 case CFB1:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-192-CFB1",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-192-CFB1",NULL);
                     break;
                 case CFB8:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-192-CFB8",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-192-CFB8",NULL);
                     break;
                 case CFB128:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-192-CFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-192-CFB",NULL);
                     break;
                 case OFB:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-192-OFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-192-OFB",NULL);
                     break;
                 case CTR:
                     if (valid_for_ctr(iv_len, BLOCK_SIZE_AES) < JO_SUCCESS) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-192-CTR",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-192-CTR",NULL);
 
                     break;
                 case WRAP:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-192-WRAP",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-192-WRAP",NULL);
                     break;
                 case WRAP_PAD:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-192-WRAP-PAD",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-192-WRAP-PAD",NULL);
                     break;
 
                 // case CCM: Authenticated (requires upfront-length streaming model)
@@ -340,13 +373,13 @@ int32_t block_cipher_ctx_init(
                     if (iv_len < 1 || iv_len > 15) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-192-OCB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-192-OCB",NULL);
                     break;
                 case GCM:
                     if (iv_len != 12) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-192-GCM",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-192-GCM",NULL);
                     break;
                 // case XTS: Not available
                 default:
@@ -362,45 +395,45 @@ int32_t block_cipher_ctx_init(
             }
             switch (ctx->mode_id) {
                 case ECB:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-256-ECB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-256-ECB",NULL);
                     break;
                 case CBC:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-256-CBC",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-256-CBC",NULL);
                     break;
                 case CFB1:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-256-CFB1",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-256-CFB1",NULL);
                     break;
                 case CFB8:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-256-CFB8",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-256-CFB8",NULL);
                     break;
                 case CFB128:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-256-CFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-256-CFB",NULL);
                     break;
                 case OFB:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-256-OFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-256-OFB",NULL);
                     break;
                 case CTR:
                     if (valid_for_ctr(iv_len, BLOCK_SIZE_AES) < JO_SUCCESS) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-256-CTR",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-256-CTR",NULL);
 
                     break;
                 case XTS:
                     REQUIRE_IV_LEN(BLOCK_SIZE_AES)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-256-XTS",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-256-XTS",NULL);
                     break;
 
                 case WRAP:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-256-WRAP",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-256-WRAP",NULL);
                     break;
                 case WRAP_PAD:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-256-WRAP-PAD",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-256-WRAP-PAD",NULL);
                     break;
 
                 // case CCM: Authenticated (requires upfront-length streaming model)
@@ -409,13 +442,13 @@ int32_t block_cipher_ctx_init(
                     if (iv_len < 1 || iv_len > 15) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-256-OCB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-256-OCB",NULL);
                     break;
                 case GCM:
                     if (iv_len != 12) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "AES-256-GCM",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "AES-256-GCM",NULL);
                     break;
                 default:
                     return JO_INVALID_MODE;
@@ -429,39 +462,39 @@ int32_t block_cipher_ctx_init(
             }
             switch (ctx->mode_id) {
                 case ECB:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-128-ECB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-128-ECB",NULL);
                     break;
                 case CBC:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-128-CBC",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-128-CBC",NULL);
                     break;
                 case CFB1:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-128-CFB1",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-128-CFB1",NULL);
                     break;
                 case CFB8:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-128-CFB8",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-128-CFB8",NULL);
                     break;
                 case CFB128:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-128-CFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-128-CFB",NULL);
                     break;
                 case CTR:
                     if (valid_for_ctr(iv_len, BLOCK_SIZE_ARIA) < JO_SUCCESS) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-128-CTR",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-128-CTR",NULL);
                     break;
                 case OFB:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-128-OFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-128-OFB",NULL);
                     break;
                 case GCM:
                     if (iv_len != 12) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-128-GCM",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-128-GCM",NULL);
                     break;
 
                 // case CCM: Authenticated
@@ -477,40 +510,40 @@ int32_t block_cipher_ctx_init(
             }
             switch (ctx->mode_id) {
                 case ECB:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-192-ECB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-192-ECB",NULL);
                     break;
                 case CBC:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-192-CBC",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-192-CBC",NULL);
                     break;
                 case CFB1:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-192-CFB1",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-192-CFB1",NULL);
                     break;
                 case CFB8:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-192-CFB8",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-192-CFB8",NULL);
                     break;
                 case CFB128:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-192-CFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-192-CFB",NULL);
                     break;
                 case CTR:
                     if (valid_for_ctr(iv_len, BLOCK_SIZE_ARIA) < JO_SUCCESS) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-192-CTR",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-192-CTR",NULL);
 
                     break;
                 case OFB:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-192-OFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-192-OFB",NULL);
                     break;
                 case GCM:
                     if (iv_len != 12) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-192-GCM",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-192-GCM",NULL);
                     break;
 
                 // case CCM: Authenticated
@@ -526,40 +559,40 @@ int32_t block_cipher_ctx_init(
             }
             switch (ctx->mode_id) {
                 case ECB:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-256-ECB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-256-ECB",NULL);
                     break;
                 case CBC:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-256-CBC",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-256-CBC",NULL);
                     break;
                 case CFB1:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-256-CFB1",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-256-CFB1",NULL);
                     break;
                 case CFB8:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-256-CFB8",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-256-CFB8",NULL);
                     break;
                 case CFB128:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-256-CFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-256-CFB",NULL);
                     break;
                 case CTR:
                     if (valid_for_ctr(iv_len, BLOCK_SIZE_ARIA) < JO_SUCCESS) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-256-CTR",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-256-CTR",NULL);
 
                     break;
                 case OFB:
                     REQUIRE_IV_LEN(BLOCK_SIZE_ARIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-256-OFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-256-OFB",NULL);
                     break;
                 case GCM:
                     if (iv_len != 12) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ARIA-256-GCM",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ARIA-256-GCM",NULL);
                     break;
 
                 // case CCM: Authenticated
@@ -575,33 +608,33 @@ int32_t block_cipher_ctx_init(
             }
             switch (ctx->mode_id) {
                 case ECB:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-ECB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-ECB",NULL);
                     break;
                 case CBC:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-CBC",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-CBC",NULL);
                     break;
                 case CFB1:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-CFB1",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-CFB1",NULL);
                     break;
                 case CFB8:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-CFB8",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-CFB8",NULL);
                     break;
                 case CFB128:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-CFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-CFB",NULL);
                     break;
                 case OFB:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-OFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-OFB",NULL);
                     break;
                 case CTR:
                     if (valid_for_ctr(iv_len, BLOCK_SIZE_CAMELLIA) < JO_SUCCESS) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-CTR",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-128-CTR",NULL);
 
                     break;
                 default:
@@ -616,33 +649,33 @@ int32_t block_cipher_ctx_init(
             }
             switch (ctx->mode_id) {
                 case ECB:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-ECB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-ECB",NULL);
                     break;
                 case CBC:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-CBC",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-CBC",NULL);
                     break;
                 case CFB1:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-CFB1",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-CFB1",NULL);
                     break;
                 case CFB8:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-CFB8",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-CFB8",NULL);
                     break;
                 case CFB128:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-CFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-CFB",NULL);
                     break;
                 case OFB:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-OFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-OFB",NULL);
                     break;
                 case CTR:
                     if (valid_for_ctr(iv_len, BLOCK_SIZE_CAMELLIA) < JO_SUCCESS) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-CTR",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-192-CTR",NULL);
 
                     break;
                 default:
@@ -657,33 +690,33 @@ int32_t block_cipher_ctx_init(
             }
             switch (ctx->mode_id) {
                 case ECB:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-ECB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-ECB",NULL);
                     break;
                 case CBC:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-CBC",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-CBC",NULL);
                     break;
                 case CFB1:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-CFB1",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-CFB1",NULL);
                     break;
                 case CFB8:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-CFB8",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-CFB8",NULL);
                     break;
                 case CFB128:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-CFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-CFB",NULL);
                     break;
                 case OFB:
                     REQUIRE_IV_LEN(BLOCK_SIZE_CAMELLIA)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-OFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-OFB",NULL);
                     break;
                 case CTR:
                     if (valid_for_ctr(iv_len, BLOCK_SIZE_CAMELLIA) < JO_SUCCESS) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-CTR",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "CAMELLIA-256-CTR",NULL);
 
                     break;
                 default:
@@ -714,7 +747,7 @@ int32_t block_cipher_ctx_init(
                     if (ctx->tag_len != 0) {
                         return JO_INVALID_TAG_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ChaCha20",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ChaCha20",NULL);
                     break;
                 default:
                     return JO_INVALID_MODE;
@@ -747,7 +780,7 @@ int32_t block_cipher_ctx_init(
                     if (ctx->tag_len != 16) {
                         return JO_INVALID_TAG_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "ChaCha20-Poly1305",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "ChaCha20-Poly1305",NULL);
                     break;
                 default:
                     return JO_INVALID_MODE;
@@ -761,25 +794,25 @@ int32_t block_cipher_ctx_init(
             }
             switch (ctx->mode_id) {
                 case ECB:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "SM4-ECB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "SM4-ECB",NULL);
                     break;
                 case CBC:
                     REQUIRE_IV_LEN(BLOCK_SIZE_SM4)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "SM4-CBC",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "SM4-CBC",NULL);
                     break;
                 case CFB128:
                     REQUIRE_IV_LEN(BLOCK_SIZE_SM4)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "SM4-CFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "SM4-CFB",NULL);
                     break;
                 case OFB:
                     REQUIRE_IV_LEN(BLOCK_SIZE_SM4)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "SM4-OFB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "SM4-OFB",NULL);
                     break;
                 case CTR:
                     if (valid_for_ctr(iv_len, BLOCK_SIZE_SM4) < JO_SUCCESS) {
                         return JO_INVALID_IV_LEN;
                     }
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "SM4-CTR",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "SM4-CTR",NULL);
 
                     break;
                 default:
@@ -797,11 +830,11 @@ int32_t block_cipher_ctx_init(
             }
             switch (ctx->mode_id) {
                 case ECB:
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "DES-EDE3-ECB",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "DES-EDE3-ECB",NULL);
                     break;
                 case CBC:
                     REQUIRE_IV_LEN(BLOCK_SIZE_DES_EDE3)
-                    evp_cipher = EVP_CIPHER_fetch(get_global_jostle_ossl_lib_ctx(), "DES-EDE3-CBC",NULL);
+                    evp_cipher = fetch_cache_cipher(get_global_jostle_ossl_lib_ctx(), "DES-EDE3-CBC",NULL);
                     break;
                 default:
                     return JO_INVALID_MODE;
@@ -1288,6 +1321,36 @@ int32_t block_cipher_ctx_update(
 }
 
 
+int32_t block_cipher_ctx_update_overlapping(
+    block_cipher_ctx *ctx,
+    uint8_t *input,
+    size_t in_len,
+    uint8_t *output,
+    size_t out_len) {
+    jo_assert(ctx != NULL);
+
+    // Regions addressed directly (eg. two views of one direct ByteBuffer) can
+    // alias in ways the Java side cannot see. EVP rejects partial overlap and
+    // the padded decrypt hold-back can shift output ahead of unread input, so
+    // stage any overlapping input through a private copy.
+    if (input == NULL || output == NULL || in_len == 0
+        || input >= output + out_len || output >= input + in_len) {
+        return block_cipher_ctx_update(ctx, input, in_len, output, out_len);
+    }
+
+    uint8_t *staged = OPENSSL_malloc(in_len);
+    if (staged == NULL) {
+        return JO_OPENSSL_ERROR;
+    }
+    memcpy(staged, input, in_len);
+
+    int32_t ret = block_cipher_ctx_update(ctx, staged, in_len, output, out_len);
+
+    OPENSSL_clear_free(staged, in_len);
+    return ret;
+}
+
+
 int32_t final_size(block_cipher_ctx *ctx, size_t len) {
     if (len > INT32_MAX) {
         return JO_OUTPUT_SIZE_INT_OVERFLOW;
@@ -1559,6 +1622,177 @@ failed:
 }
 
 
+/*
+ * Output length of one batch record, an open shorter than the tag yields nothing.
+ */
+static inline size_t aead_batch_out_len(block_cipher_ctx *ctx, int32_t opp_mode, int32_t in_len) {
+    if (opp_mode == ENCRYPT_MODE) {
+        return (size_t) in_len + ctx->tag_len;
+    }
+    return (size_t) in_len > ctx->tag_len ? (size_t) in_len - ctx->tag_len : 0;
+}
+
+int32_t block_cipher_ctx_aead_batch(
+    block_cipher_ctx *ctx,
+    int32_t opp_mode,
+    const uint8_t *nonces,
+    size_t nonces_size,
+    const uint8_t *aad,
+    size_t aad_size,
+    const uint8_t *input,
+    size_t input_size,
+    const int32_t *spans,
+    int32_t count,
+    uint8_t *output,
+    size_t output_size,
+    int32_t out_off,
+    int32_t *status) {
+    jo_assert(ctx != NULL);
+
+    if (ctx->poisoned) {
+        return JO_CTX_POISONED;
+    }
+
+    if (!ctx->initialized) {
+        return JO_NOT_INITIALIZED;
+    }
+
+    // OCB buffers whole blocks and needs its own size accounting, only the pure
+    // stream AEADs are batched.
+    if (ctx->mode_id != GCM && ctx->mode_id != POLY1305) {
+        return JO_INVALID_MODE;
+    }
+
+    if (opp_mode != ENCRYPT_MODE && opp_mode != DECRYPT_MODE) {
+        return JO_INVALID_OP_MODE;
+    }
+
+    if (count < 0) {
+        return JO_INPUT_LEN_IS_NEGATIVE;
+    }
+
+    if (out_off < 0) {
+        return JO_OUTPUT_OFFSET_IS_NEGATIVE;
+    }
+
+    if (output == NULL) {
+        return JO_OUTPUT_IS_NULL;
+    }
+
+    if ((size_t) out_off > output_size) {
+        return JO_OUTPUT_OUT_OF_RANGE;
+    }
+
+    if (count == 0) {
+        return 0;
+    }
+
+    jo_assert(spans != NULL);
+    jo_assert(status != NULL);
+    jo_assert(ctx->iv_len > 0);
+
+    if (nonces == NULL) {
+        return JO_IV_IS_NULL;
+    }
+
+    if (nonces_size / ctx->iv_len < (size_t) count) {
+        return JO_INVALID_IV_LEN;
+    }
+
+    //
+    // Validate every record before touching any, a rejected batch writes nothing.
+    //
+    size_t total = 0;
+    for (int32_t i = 0; i < count; i++) {
+        const int32_t *span = spans + (size_t) i * 4;
+        if (span[0] < 0 || span[2] < 0) {
+            return JO_INPUT_OFFSET_IS_NEGATIVE;
+        }
+        if (span[1] < 0 || span[3] < 0) {
+            return JO_INPUT_LEN_IS_NEGATIVE;
+        }
+        if (span[1] > 0 && (aad == NULL || (size_t) span[1] > aad_size || (size_t) span[0] > aad_size - (size_t) span[1])) {
+            return JO_INPUT_OUT_OF_RANGE;
+        }
+        if (span[3] > 0 && (input == NULL || (size_t) span[3] > input_size || (size_t) span[2] > input_size - (size_t) span[3])) {
+            return JO_INPUT_OUT_OF_RANGE;
+        }
+        total += aead_batch_out_len(ctx, opp_mode, span[3]);
+        if (total > output_size - (size_t) out_off) {
+            return JO_OUTPUT_OUT_OF_RANGE;
+        }
+    }
+
+    const int enc = opp_mode == ENCRYPT_MODE ? 1 : 0;
+    const int tag_len = (int) ctx->tag_len;
+    uint8_t *out = output + out_off;
+
+    ERR_clear_error();
+
+    for (int32_t i = 0; i < count; i++) {
+        const int32_t *span = spans + (size_t) i * 4;
+        const size_t rec_len = aead_batch_out_len(ctx, opp_mode, span[3]);
+        int written = 0;
+        int fin = 0;
+
+        if (!enc && span[3] < tag_len) {
+            // Too short to carry a tag, cannot be authentic.
+            status[i] = JO_TAG_INVALID;
+            continue;
+        }
+
+        const int body_len = enc ? span[3] : span[3] - tag_len;
+
+        // Only the nonce changes, the key schedule set up by init is kept.
+        if (1 != EVP_CipherInit_ex(ctx->evp, NULL, NULL, NULL, nonces + (size_t) i * ctx->iv_len, enc)) {
+            goto openssl_error;
+        }
+
+        if (span[1] > 0 && 1 != EVP_CipherUpdate(ctx->evp, NULL, &written, aad + span[0], span[1])) {
+            goto openssl_error;
+        }
+
+        written = 0;
+        if (body_len > 0 && 1 != EVP_CipherUpdate(ctx->evp, out, &written, input + span[2], body_len)) {
+            goto openssl_error;
+        }
+
+        if (enc) {
+            if (1 != EVP_CipherFinal_ex(ctx->evp, out + written, &fin)) {
+                goto openssl_error;
+            }
+            if (1 != EVP_CIPHER_CTX_ctrl(ctx->evp, EVP_CTRL_AEAD_GET_TAG, tag_len, out + written + fin)) {
+                goto openssl_error;
+            }
+            status[i] = written + fin + tag_len;
+        } else {
+            if (1 != EVP_CIPHER_CTX_ctrl(ctx->evp, EVP_CTRL_AEAD_SET_TAG, tag_len,
+                                         (void *) (input + span[2] + body_len))) {
+                goto openssl_error;
+            }
+            if (1 != EVP_CipherFinal_ex(ctx->evp, out + written, &fin)) {
+                // Withhold the unauthenticated plaintext and carry on with the batch.
+                OPENSSL_cleanse(out, rec_len);
+                ERR_clear_error();
+                status[i] = JO_TAG_INVALID;
+            } else {
+                status[i] = written + fin;
+            }
+        }
+
+        out += rec_len;
+    }
+
+    return (int32_t) total;
+
+openssl_error:
+    // Every record starts from a fresh nonce so the context stays usable, but no
+    // partial output is returned.
+    OPENSSL_cleanse(output + out_off, total);
+    return JO_OPENSSL_ERROR;
+}
+
+
 int32_t block_cipher_ctx_get_block_size(block_cipher_ctx *ctx) {
 
     if (!ctx->initialized) {
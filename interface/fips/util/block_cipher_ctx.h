@@ -60,6 +60,14 @@ block_cipher_ctx *block_cipher_ctx_create(uint32_t cipher_Id, uint32_t mode_Id,
  */
 void block_cipher_ctx_destroy(block_cipher_ctx *ctx);
 
+/*
+ * Return the context to the state block_cipher_ctx_create left it in so it
+ * can be reused for the same cipher, mode and padding. Key material, IV and
+ * tag state are cleansed. On failure the context is poisoned and must be
+ * destroyed.
+ */
+int32_t block_cipher_ctx_reset(block_cipher_ctx *ctx);
+
 /*
  * Init with key and optional IV, mode will determine if and how IV is used
  */
@@ -93,6 +101,18 @@ int32_t block_cipher_ctx_update(
     size_t out_len);
 
 
+/*
+ * As block_cipher_ctx_update but input and output may overlap,
+ * overlapping input is copied before processing.
+ * Returns number of bytes written to output
+ */
+int32_t block_cipher_ctx_update_overlapping(
+    block_cipher_ctx *ctx,
+    uint8_t *input,
+    size_t in_len,
+    uint8_t *output,
+    size_t out_len);
+
 /*
  * Classic block cipher update
  * Returns number of bytes written to output
@@ -102,6 +122,33 @@ int32_t block_cipher_ctx_final(
     uint8_t *output,
     size_t out_len);
 
+/*
+ * Seal (ENCRYPT_MODE) or open (DECRYPT_MODE) count independent GCM or
+ * ChaCha20-Poly1305 records under the key the context was last initialised with.
+ * spans holds four entries per record: aad offset, aad length, input offset and
+ * input length. Record i uses the iv_len byte nonce at nonces + i * iv_len and its
+ * output follows that of record i - 1: input length + tag length for seal, input
+ * length - tag length for open. status[i] receives the bytes written for record i,
+ * or JO_TAG_INVALID if it failed to open, in which case its output is cleansed and
+ * the remaining records are still processed.
+ * Returns the total output length, or a negative error if the batch was rejected.
+ */
+int32_t block_cipher_ctx_aead_batch(
+    block_cipher_ctx *ctx,
+    int32_t opp_mode,
+    const uint8_t *nonces,
+    size_t nonces_size,
+    const uint8_t *aad,
+    size_t aad_size,
+    const uint8_t *input,
+    size_t input_size,
+    const int32_t *spans,
+    int32_t count,
+    uint8_t *output,
+    size_t output_size,
+    int32_t out_off,
+    int32_t *status);
+
 /*
  * Return the actual size of the block cipher.
  */
@@ -144,3 +144,114 @@ exit:
     return ret;
 }
 
+
+int32_t jo_x963kdf(
+    uint8_t *secret, size_t secret_len,
+    uint8_t *shared_info, size_t shared_info_len,
+    uint8_t *digest, size_t digest_len,
+    uint8_t *out, size_t out_len
+) {
+    // The secret, digest and out are mandatory and validated by the bridge.
+    // The shared info is optional, absent and empty hash the same.
+    jo_assert(secret != NULL);
+    jo_assert(digest != NULL);
+    jo_assert(out != NULL);
+
+    int ret = JO_FAIL;
+    EVP_KDF *kdf = NULL;
+    EVP_KDF_CTX *kctx = NULL;
+
+    ERR_clear_error();
+
+    kdf = EVP_KDF_fetch(get_global_jostle_ossl_lib_ctx(), OSSL_KDF_NAME_X963KDF, NULL);
+    if (OPS_OPENSSL_ERROR_1 kdf == NULL) {
+        ret = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_1(4002);
+        goto exit;
+    }
+
+    kctx = EVP_KDF_CTX_new(kdf);
+
+    if (OPS_OPENSSL_ERROR_2 !kctx) {
+        ret = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_2(4000);
+        goto exit;
+    }
+
+    OSSL_PARAM params[4];
+    int idx = 0;
+    params[idx++] = OSSL_PARAM_construct_utf8_string(OSSL_KDF_PARAM_DIGEST, (char *) digest, digest_len);
+    params[idx++] = OSSL_PARAM_construct_octet_string(OSSL_KDF_PARAM_KEY, secret, secret_len);
+    if (shared_info != NULL && shared_info_len > 0) {
+        params[idx++] = OSSL_PARAM_construct_octet_string(OSSL_KDF_PARAM_INFO, shared_info, shared_info_len);
+    }
+    params[idx++] = OSSL_PARAM_construct_end();
+
+    if (OPS_OPENSSL_ERROR_3 EVP_KDF_derive(kctx, out, out_len, params) <= 0) {
+        ret = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_3(4001);
+        goto exit;
+    }
+
+    ret = JO_SUCCESS;
+exit:
+    EVP_KDF_free(kdf);
+    EVP_KDF_CTX_free(kctx);
+    return ret;
+}
+
+
+int32_t jo_x942kdf(
+    uint8_t *secret, size_t secret_len,
+    uint8_t *cek_alg, size_t cek_alg_len,
+    uint8_t *ukm, size_t ukm_len,
+    uint8_t *digest, size_t digest_len,
+    uint8_t *out, size_t out_len
+) {
+    // The secret, key wrap cipher, digest and out are mandatory and validated
+    // by the bridge. The UKM becomes partyAInfo, OpenSSL leaves an empty one
+    // out of OtherInfo altogether.
+    jo_assert(secret != NULL);
+    jo_assert(cek_alg != NULL);
+    jo_assert(digest != NULL);
+    jo_assert(out != NULL);
+
+    int ret = JO_FAIL;
+    EVP_KDF *kdf = NULL;
+    EVP_KDF_CTX *kctx = NULL;
+
+    ERR_clear_error();
+
+    kdf = EVP_KDF_fetch(get_global_jostle_ossl_lib_ctx(), OSSL_KDF_NAME_X942KDF_ASN1, NULL);
+    if (OPS_OPENSSL_ERROR_1 kdf == NULL) {
+        ret = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_1(5002);
+        goto exit;
+    }
+
+    kctx = EVP_KDF_CTX_new(kdf);
+
+    if (OPS_OPENSSL_ERROR_2 !kctx) {
+        ret = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_2(5000);
+        goto exit;
+    }
+
+    // The cipher name selects the OID in KeySpecificInfo and the key length
+    // encoded, in bits, as suppPubInfo.
+    OSSL_PARAM params[5];
+    int idx = 0;
+    params[idx++] = OSSL_PARAM_construct_utf8_string(OSSL_KDF_PARAM_DIGEST, (char *) digest, digest_len);
+    params[idx++] = OSSL_PARAM_construct_octet_string(OSSL_KDF_PARAM_KEY, secret, secret_len);
+    params[idx++] = OSSL_PARAM_construct_utf8_string(OSSL_KDF_PARAM_CEK_ALG, (char *) cek_alg, cek_alg_len);
+    if (ukm != NULL && ukm_len > 0) {
+        params[idx++] = OSSL_PARAM_construct_octet_string(OSSL_KDF_PARAM_UKM, ukm, ukm_len);
+    }
+    params[idx++] = OSSL_PARAM_construct_end();
+
+    if (OPS_OPENSSL_ERROR_3 EVP_KDF_derive(kctx, out, out_len, params) <= 0) {
+        ret = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_3(5001);
+        goto exit;
+    }
+
+    ret = JO_SUCCESS;
+exit:
+    EVP_KDF_free(kdf);
+    EVP_KDF_CTX_free(kctx);
+    return ret;
+}
@@ -30,4 +30,19 @@ int32_t jo_hkdf(
     uint8_t *out, size_t out_len
 );
 
+int32_t jo_x963kdf(
+    uint8_t *secret, size_t secret_len,
+    uint8_t *shared_info, size_t shared_info_len,
+    uint8_t *digest, size_t digest_len,
+    uint8_t *out, size_t out_len
+);
+
+int32_t jo_x942kdf(
+    uint8_t *secret, size_t secret_len,
+    uint8_t *cek_alg, size_t cek_alg_len,
+    uint8_t *ukm, size_t ukm_len,
+    uint8_t *digest, size_t digest_len,
+    uint8_t *out, size_t out_len
+);
+
 #endif //KDF_H
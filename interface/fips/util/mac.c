@@ -16,6 +16,7 @@
 #include <string.h>
 
 #include "bc_err_codes.h"
+#include "fetch_cache.h"
 #include "jo_assert.h"
 #include "ops.h"
 #include "rand/jostle_lib_ctx.h"
@@ -106,7 +107,7 @@ mac_ctx *allocate_mac(const char *mac_name, const char *function, int32_t *err)
 
 
     ERR_clear_error();
-    mctx->mac = EVP_MAC_fetch(get_global_jostle_ossl_lib_ctx(), mctx->mac_name, NULL);
+    mctx->mac = fetch_cache_mac(get_global_jostle_ossl_lib_ctx(), mctx->mac_name, NULL);
     if (OPS_OPENSSL_ERROR_1 mctx->mac == NULL) {
         *err = JO_OPENSSL_ERROR;
         goto exit;
@@ -249,6 +250,56 @@ int32_t mac_init(mac_ctx *mctx, const uint8_t *key, size_t key_len) {
     return JO_SUCCESS;
 }
 
+/*
+ * Key mctx by duplicating a keyed template that has not absorbed any input.
+ *
+ * EVP_MAC_CTX_dup copies the already processed key state, the HMAC inner and outer
+ * pad digests or the CMAC cipher schedule and subkeys, so none of the key setup
+ * is repeated. The key is copied as well so mac_reset can re-init mctx like any
+ * other ctx. The template must be for the same MAC and function.
+ */
+int32_t mac_init_from(mac_ctx *mctx, const mac_ctx *tmpl) {
+    jo_assert(mctx != NULL);
+    jo_assert(tmpl != NULL);
+
+    if (!tmpl->initialized) {
+        return JO_NOT_INITIALIZED;
+    }
+
+    jo_assert(tmpl->ctx != NULL);
+    jo_assert(tmpl->key != NULL);
+
+    if (0 != strcmp(mctx->mac_name, tmpl->mac_name) ||
+        0 != strcmp(mctx->function_name, tmpl->function_name)) {
+        return JO_UNEXPECTED_STATE;
+    }
+
+    ERR_clear_error();
+    EVP_MAC_CTX *ctx = EVP_MAC_CTX_dup(tmpl->ctx);
+    if (OPS_OPENSSL_ERROR_1 ctx == NULL) {
+        EVP_MAC_CTX_free(ctx);
+        return JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_1(1017);
+    }
+
+    uint8_t *new_key = OPENSSL_malloc(tmpl->key_len == 0 ? 1 : tmpl->key_len);
+    jo_assert(new_key != NULL);
+    if (tmpl->key_len > 0) {
+        memcpy(new_key, tmpl->key, tmpl->key_len);
+    }
+
+    if (mctx->key != NULL) {
+        OPENSSL_clear_free(mctx->key, mctx->key_len);
+    }
+    mctx->key = new_key;
+    mctx->key_len = tmpl->key_len;
+
+    EVP_MAC_CTX_free(mctx->ctx);
+    mctx->ctx = ctx;
+    mctx->initialized = 1;
+
+    return JO_SUCCESS;
+}
+
 int32_t mac_update(mac_ctx *mctx, const uint8_t *in, int32_t off, int32_t len) {
     jo_assert(mctx != NULL);
     jo_assert(off >= 0);
@@ -327,7 +378,7 @@ int32_t mac_len_for(mac_ctx *mctx) {
     // HMAC: output length == the underlying digest's output size, read from
     // OpenSSL metadata (no key, no EVP_MAC_init required).
     if (0 == strncmp(mctx->mac_name, "HMAC", sizeof("HMAC"))) {
-        md = EVP_MD_fetch(libctx, mctx->function_name, NULL);
+        md = fetch_cache_md(libctx, mctx->function_name, NULL);
         if (OPS_OPENSSL_ERROR_3 md == NULL) {
             ret = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_3(1010);
             goto exit;
@@ -348,7 +399,7 @@ int32_t mac_len_for(mac_ctx *mctx) {
             ret = JO_UNEXPECTED_STATE;
             goto exit;
         }
-        cipher = EVP_CIPHER_fetch(libctx, "aes-128-cbc", NULL);
+        cipher = fetch_cache_cipher(libctx, "aes-128-cbc", NULL);
         if (OPS_OPENSSL_ERROR_4 cipher == NULL) {
             ret = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_4(1011);
             goto exit;
@@ -400,6 +451,82 @@ int32_t mac_reset(mac_ctx *mctx) {
     return init_mac_ctx(mctx);
 }
 
+/*
+ * Absorb any trailing input, finalize and re-key in one call. The reset runs even
+ * if the update or final failed, a finalized ctx must not absorb the next message.
+ * The first failure is returned, otherwise the number of bytes written.
+ */
+int32_t mac_update_final_reset(mac_ctx *mctx, const uint8_t *in, int32_t in_off, int32_t in_len,
+                               uint8_t *out, int32_t out_off, int32_t out_len) {
+    jo_assert(mctx != NULL);
+    jo_assert(mctx->initialized != 0);
+
+    int32_t ret = JO_SUCCESS;
+    if (in_len > 0) {
+        ret = mac_update(mctx, in, in_off, in_len);
+    }
+
+    if (!UNSUCCESSFUL(ret)) {
+        ret = mac_final(mctx, out, out_off, out_len);
+    }
+
+    const int32_t reset = mac_reset(mctx);
+    if (!UNSUCCESSFUL(ret) && UNSUCCESSFUL(reset)) {
+        ret = reset;
+    }
+
+    return ret;
+}
+
+/*
+ * MAC count independent messages under the one key, message i is spans[2i] bytes in
+ * from the start of in and spans[2i + 1] bytes long. Tag i is written at
+ * out + out_off + i * mac length. Every span and the output region are checked before
+ * anything is processed, the ctx is left re-keyed, on failure as well.
+ * Returns the number of bytes written or the first failure.
+ */
+int32_t mac_final_batch(mac_ctx *mctx, const uint8_t *in, size_t in_size, const int32_t *spans, int32_t count,
+                        uint8_t *out, int32_t out_off, int32_t out_len) {
+    jo_assert(mctx != NULL);
+    jo_assert(mctx->initialized != 0);
+    jo_assert(spans != NULL);
+
+    for (int32_t i = 0; i < count; i++) {
+        const int32_t off = spans[2 * i];
+        const int32_t len = spans[2 * i + 1];
+        if (off < 0 || len < 0 || (size_t) len > in_size || (size_t) off > in_size - (size_t) len) {
+            return JO_INPUT_OUT_OF_RANGE;
+        }
+        if (in == NULL && len != 0) {
+            return JO_INPUT_IS_NULL;
+        }
+    }
+
+    const int32_t m_len = mac_len(mctx);
+    if (UNSUCCESSFUL(m_len)) {
+        return m_len;
+    }
+
+    const int64_t total = (int64_t) count * m_len;
+    if (total > INT32_MAX) {
+        return JO_OUTPUT_SIZE_INT_OVERFLOW;
+    }
+
+    if (out_off < 0 || out_len < 0 || total > (int64_t) out_len - out_off) {
+        return JO_OUTPUT_OUT_OF_RANGE;
+    }
+
+    for (int32_t i = 0; i < count; i++) {
+        const int32_t ret = mac_update_final_reset(mctx, in, spans[2 * i], spans[2 * i + 1],
+                                                   out, out_off + i * m_len, out_len);
+        if (UNSUCCESSFUL(ret)) {
+            return ret;
+        }
+    }
+
+    return (int32_t) total;
+}
+
 void mac_free(mac_ctx *mctx) {
     if (mctx == NULL) {
         return;
@@ -27,12 +27,17 @@ typedef struct jo_mac_ctx
 mac_ctx *allocate_mac(const char *mac_name, const char *function, int32_t *err);
 mac_ctx *mac_copy(const mac_ctx *src, int32_t *err);
 int32_t mac_init(mac_ctx *mctx, const uint8_t *key, size_t key_len);
+int32_t mac_init_from(mac_ctx *mctx, const mac_ctx *tmpl);
 int32_t mac_update(mac_ctx *ctx, const uint8_t *in, int32_t off, int32_t len);
 int32_t mac_final(mac_ctx *ctx, uint8_t *out, int32_t off, int32_t out_len);
 int32_t mac_len(mac_ctx *ctx);
 int32_t mac_len_for(mac_ctx *ctx);
 
 int32_t mac_reset(mac_ctx *ctx);
+int32_t mac_update_final_reset(mac_ctx *ctx, const uint8_t *in, int32_t in_off, int32_t in_len,
+                               uint8_t *out, int32_t out_off, int32_t out_len);
+int32_t mac_final_batch(mac_ctx *ctx, const uint8_t *in, size_t in_size, const int32_t *spans, int32_t count,
+                        uint8_t *out, int32_t out_off, int32_t out_len);
 void mac_free(mac_ctx *ctx);
 
 #endif
@@ -18,6 +18,7 @@
 #include <openssl/evp.h>
 
 #include "bc_err_codes.h"
+#include "fetch_cache.h"
 #include "ops.h"
 #include "jo_assert.h"
 #include "rand/jostle_lib_ctx.h"
@@ -25,7 +26,7 @@
 md_ctx *md_ctx_create(const char *name, int xof_len, int *err) {
     ERR_clear_error();
 
-    EVP_MD *md = EVP_MD_fetch(get_global_jostle_ossl_lib_ctx(), name,NULL);
+    EVP_MD *md = fetch_cache_md(get_global_jostle_ossl_lib_ctx(), name, NULL);
     if (md == NULL) {
         *err = JO_NAME_NOT_FOUND;
         return NULL;
@@ -208,3 +209,65 @@ int32_t md_ctx_reset(md_ctx *ctx) {
 
     return JO_SUCCESS;
 }
+
+/*
+ * Absorb any trailing input, finalize and re-initialise in one call. The reset
+ * runs even if the update or final failed, a finalized ctx must not absorb the
+ * next message. The first failure is returned, otherwise the digest length.
+ */
+int32_t md_ctx_update_finalize_reset(md_ctx *ctx, uint8_t *data, size_t len, uint8_t *digest) {
+    jo_assert(ctx != NULL);
+    jo_assert(ctx->mdctx != NULL);
+
+    int32_t ret_code = JO_SUCCESS;
+    if (len > 0) {
+        ret_code = md_ctx_update(ctx, data, len);
+    }
+
+    if (!UNSUCCESSFUL(ret_code)) {
+        ret_code = md_ctx_finalize(ctx, digest);
+    }
+
+    const int32_t reset_code = md_ctx_reset(ctx);
+    if (!UNSUCCESSFUL(ret_code) && UNSUCCESSFUL(reset_code)) {
+        ret_code = reset_code;
+    }
+
+    return ret_code;
+}
+
+/*
+ * Digest count independent messages, message i is spans[2i] bytes in from the start
+ * of in and spans[2i + 1] bytes long. Digest i is written at out + i * digest length,
+ * the caller has checked out holds count digests. Every span is checked against
+ * in_size before anything is hashed. The ctx is left reset, on failure as well.
+ * Returns the number of bytes written or the first failure.
+ */
+int32_t md_ctx_digest_batch(md_ctx *ctx, uint8_t *in, size_t in_size, const int32_t *spans, int32_t count,
+                            uint8_t *out) {
+    jo_assert(ctx != NULL);
+    jo_assert(spans != NULL);
+
+    for (int32_t i = 0; i < count; i++) {
+        const int32_t off = spans[2 * i];
+        const int32_t len = spans[2 * i + 1];
+        if (off < 0 || len < 0 || (size_t) len > in_size || (size_t) off > in_size - (size_t) len) {
+            return JO_INPUT_OUT_OF_RANGE;
+        }
+        if (in == NULL && len != 0) {
+            return JO_INPUT_IS_NULL;
+        }
+    }
+
+    const size_t digest_len = (size_t) ctx->digest_byte_length;
+    for (int32_t i = 0; i < count; i++) {
+        const int32_t ret_code = md_ctx_update_finalize_reset(ctx, in == NULL ? NULL : in + spans[2 * i],
+                                                              (size_t) spans[2 * i + 1],
+                                                              out + (size_t) i * digest_len);
+        if (UNSUCCESSFUL(ret_code)) {
+            return ret_code;
+        }
+    }
+
+    return (int32_t) ((size_t) count * digest_len);
+}
@@ -26,6 +26,9 @@
     int32_t md_ctx_update(md_ctx *ctx, uint8_t *data, size_t len);
     int32_t md_ctx_finalize(md_ctx *ctx, uint8_t *digest);
     int32_t md_ctx_reset(md_ctx *ctx);
+    int32_t md_ctx_update_finalize_reset(md_ctx *ctx, uint8_t *data, size_t len, uint8_t *digest);
+    int32_t md_ctx_digest_batch(md_ctx *ctx, uint8_t *in, size_t in_size, const int32_t *spans, int32_t count,
+                                uint8_t *out);
 
 
 #endif //MD_H
@@ -42,6 +42,16 @@ int32_t rand_ctx_random_bytes(JO_RAND_CTX *ctx, uint8_t *output,
                               const uint8_t *additional_input,
                               size_t additional_input_len);
 
+/*
+ * Fill output from ctx on behalf of the bridge provider, with the strength and
+ * prediction resistance the context was instantiated with. A request for
+ * prediction resistance the instance lacks is met by reseeding first, a
+ * request above the instance strength returns JO_RAND_INSUFFICIENT_STRENGTH.
+ * Unlike rand_ctx_random_bytes the caller's error queue is left intact.
+ */
+int32_t rand_ctx_fill(JO_RAND_CTX *ctx, uint8_t *output, size_t output_len,
+                      unsigned int strength, int prediction_resistant);
+
 int32_t rand_ctx_reseed(JO_RAND_CTX *ctx, int32_t strength,
                         int prediction_resistant,
                         const uint8_t *additional_input,
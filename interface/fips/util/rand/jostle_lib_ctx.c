@@ -5,7 +5,9 @@
 #include <openssl/provider.h>
 
 #include "../bc_err_codes.h"
+#include "../fetch_cache.h"
 #include "../jo_assert.h"
+#include "../macros.h"
 
 
 static jostle_lib_ctx *global_rand_ctx = NULL;
@@ -67,6 +69,8 @@ void jostle_ctx_destroy(jostle_lib_ctx *ctx) {
     }
     // Freeing the lib ctx unloads its providers.
     if (ctx->ossl_libctx != NULL) {
+        // Cached algorithm objects are keyed by this address, drop them first.
+        fetch_cache_flush(ctx->ossl_libctx);
         OSSL_LIB_CTX_free(ctx->ossl_libctx);
     }
     OPENSSL_free(ctx);
@@ -145,3 +149,7 @@ void rand_clear_java_srand_call(void) {
     jo_assert(CRYPTO_THREAD_set_local(&java_srand_id, NULL) != 0);
 }
 
+void rand_set_up_call_block(size_t block) {
+    // Nothing draws through an up-call in this tree, see above.
+    UNUSED(block);
+}
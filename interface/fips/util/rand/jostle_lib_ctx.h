@@ -56,5 +56,15 @@ void rand_set_java_srand_call(void *target);
  */
 void rand_clear_java_srand_call(void);
 
+#define RAND_UP_CALL_MAX_BLOCK ((size_t) 65536)
+
+/**
+ * Set how many bytes an up-call to a Java RandSource fetches when a smaller
+ * draw is requested; the surplus serves later draws by the same entry point.
+ * 0, the default, disables prefetching. Clamped to RAND_UP_CALL_MAX_BLOCK.
+ * Set once at provider startup, draws already in flight see either value.
+ */
+void rand_set_up_call_block(size_t block);
+
 
 #endif //RAND_PROV_H
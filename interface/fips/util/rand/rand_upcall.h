@@ -19,6 +19,21 @@ int rand_up_call_next_bytes(void * up_call_src, unsigned char *out, size_t out_l
                             unsigned int strength, int prediction_resistance,
                             const unsigned char *adin, size_t adin_len);
 
+// FFI and JNI both implement this. Serve the request from a Jostle DRBG
+// without crossing into Java, when up_call_src is backed by one.
+//
+// Contract:
+//   return 0:              up_call_src is not backed by a native DRBG, use
+//                          rand_up_call_next_bytes.
+//   return 1:              out holds out_len bytes.
+//   return < 0:            the DRBG could not serve the request, JO_xx code.
+//                          Do not fall back, the up-call target may not be
+//                          callable (FFI).
+//   strength / prediction_resistance: as the Java RandSource applies them,
+//                          see rand_ctx_fill.
+int rand_up_call_direct_bytes(void *up_call_src, unsigned char *out, size_t out_len,
+                              unsigned int strength, int prediction_resistance);
+
 
 
 
@@ -157,3 +157,130 @@ int32_t JoKDF_HKDF(
 exit:
     return ret_code;
 }
+
+int32_t JoKDF_X963(
+    uint8_t *secret, size_t secret_len,
+    uint8_t *shared_info, size_t shared_info_len,
+    uint8_t *digest_name, size_t digest_name_len,
+    uint8_t *output, size_t out_size,
+    int32_t out_offset,
+    int32_t out_len
+) {
+    int32_t ret_code = JO_FAIL;
+
+    if (secret == NULL) {
+        ret_code = JO_KDF_SECRET_NULL;
+        goto exit;
+    }
+
+    // shared_info is optional (NULL accepted); no null-check here.
+
+    if (output == NULL) {
+        ret_code = JO_OUTPUT_IS_NULL;
+        goto exit;
+    }
+
+    if (out_offset < 0) {
+        ret_code = JO_OUTPUT_OFFSET_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (out_len < 0) {
+        ret_code = JO_OUTPUT_LEN_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (!check_in_range(out_size, out_offset, out_len)) {
+        ret_code = JO_OUTPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    if (digest_name == NULL) {
+        ret_code = JO_KDF_PBE_UNKNOWN_DIGEST;
+        goto exit;
+    }
+
+    if (digest_name_len == 0) {
+        ret_code = JO_KDF_PBE_UNKNOWN_DIGEST;
+        goto exit;
+    }
+
+    uint8_t *out = output + out_offset;
+
+    ret_code = jo_x963kdf(
+        secret, secret_len,
+        shared_info, shared_info_len,
+        digest_name, digest_name_len,
+        out, out_len);
+
+
+exit:
+    return ret_code;
+}
+
+int32_t JoKDF_X942(
+    uint8_t *secret, size_t secret_len,
+    uint8_t *cek_alg, size_t cek_alg_len,
+    uint8_t *ukm, size_t ukm_len,
+    uint8_t *digest_name, size_t digest_name_len,
+    uint8_t *output, size_t out_size,
+    int32_t out_offset,
+    int32_t out_len
+) {
+    int32_t ret_code = JO_FAIL;
+
+    if (secret == NULL) {
+        ret_code = JO_KDF_SECRET_NULL;
+        goto exit;
+    }
+
+    // ukm is optional (NULL accepted); no null-check here.
+
+    if (output == NULL) {
+        ret_code = JO_OUTPUT_IS_NULL;
+        goto exit;
+    }
+
+    if (out_offset < 0) {
+        ret_code = JO_OUTPUT_OFFSET_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (out_len < 0) {
+        ret_code = JO_OUTPUT_LEN_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (!check_in_range(out_size, out_offset, out_len)) {
+        ret_code = JO_OUTPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    if (cek_alg == NULL || cek_alg_len == 0) {
+        ret_code = JO_KDF_CEK_ALG_UNKNOWN;
+        goto exit;
+    }
+
+    if (digest_name == NULL) {
+        ret_code = JO_KDF_PBE_UNKNOWN_DIGEST;
+        goto exit;
+    }
+
+    if (digest_name_len == 0) {
+        ret_code = JO_KDF_PBE_UNKNOWN_DIGEST;
+        goto exit;
+    }
+
+    uint8_t *out = output + out_offset;
+
+    ret_code = jo_x942kdf(
+        secret, secret_len,
+        cek_alg, cek_alg_len,
+        ukm, ukm_len,
+        digest_name, digest_name_len,
+        out, out_len);
+
+
+exit:
+    return ret_code;
+}
@@ -115,6 +115,7 @@ int32_t JoKDF_ARGON2(
     int32_t iterations,
     int32_t memory_kib,
     int32_t lanes,
+    int32_t threads,
     uint8_t *output,
     size_t out_size,
     int32_t out_offset,
@@ -196,6 +197,7 @@ int32_t JoKDF_ARGON2(
         (uint32_t) iterations,
         (uint32_t) memory_kib,
         (uint32_t) lanes,
+        threads < 1 ? 1 : (uint32_t) threads,
         out, out_len);
 
 exit:
@@ -421,6 +421,127 @@ exit:
     return ret;
 }
 
+int32_t JoKS_GetEntriesLen(ks_ctx *ctx, int32_t *err) {
+    uint8_t *out = NULL;
+    size_t out_len = 0;
+    int32_t result = 0;
+
+    if (err == NULL) {
+        return 0;
+    }
+    if (ctx == NULL) {
+        *err = JO_KS_CTX_IS_NULL;
+        return 0;
+    }
+
+    *err = ks_get_entries(ctx, &out, &out_len);
+    if (UNSUCCESSFUL(*err) || out == NULL) {
+        goto exit;
+    }
+    if (out_len > INT32_MAX) {
+        *err = JO_OUTPUT_TOO_LONG_INT32;
+        goto exit;
+    }
+    result = (int32_t) out_len;
+
+exit:
+    OPENSSL_clear_free(out, out_len);
+    return result;
+}
+
+int32_t JoKS_GetEntries(ks_ctx *ctx, uint8_t *output, size_t output_size) {
+    uint8_t *out = NULL;
+    size_t out_len = 0;
+    int32_t ret;
+
+    if (ctx == NULL) {
+        return JO_KS_CTX_IS_NULL;
+    }
+    if (output == NULL) {
+        return JO_OUTPUT_IS_NULL;
+    }
+
+    ret = ks_get_entries(ctx, &out, &out_len);
+    if (UNSUCCESSFUL(ret) || out == NULL) {
+        goto exit;
+    }
+    if (output_size < out_len) {
+        ret = JO_OUTPUT_TOO_SMALL;
+        goto exit;
+    }
+
+    memcpy(output, out, out_len);
+    ret = JO_SUCCESS;
+
+exit:
+    OPENSSL_clear_free(out, out_len);
+    return ret;
+}
+
+int32_t JoKS_GetEntryLen(ks_ctx *ctx, const char *alias, int32_t *err) {
+    uint8_t *out = NULL;
+    size_t out_len = 0;
+    int32_t result = 0;
+
+    if (err == NULL) {
+        return 0;
+    }
+    if (ctx == NULL) {
+        *err = JO_KS_CTX_IS_NULL;
+        return 0;
+    }
+    if (alias == NULL) {
+        *err = JO_KS_ALIAS_IS_NULL;
+        return 0;
+    }
+
+    *err = ks_get_entry(ctx, alias, &out, &out_len);
+    if (UNSUCCESSFUL(*err) || out == NULL) {
+        goto exit;
+    }
+    if (out_len > INT32_MAX) {
+        *err = JO_OUTPUT_TOO_LONG_INT32;
+        goto exit;
+    }
+    result = (int32_t) out_len;
+
+exit:
+    OPENSSL_clear_free(out, out_len);
+    return result;
+}
+
+int32_t JoKS_GetEntry(ks_ctx *ctx, const char *alias, uint8_t *output, size_t output_size) {
+    uint8_t *out = NULL;
+    size_t out_len = 0;
+    int32_t ret;
+
+    if (ctx == NULL) {
+        return JO_KS_CTX_IS_NULL;
+    }
+    if (alias == NULL) {
+        return JO_KS_ALIAS_IS_NULL;
+    }
+    if (output == NULL) {
+        return JO_OUTPUT_IS_NULL;
+    }
+
+    ret = ks_get_entry(ctx, alias, &out, &out_len);
+    if (UNSUCCESSFUL(ret) || out == NULL) {
+        goto exit;
+    }
+    if (output_size < out_len) {
+        ret = JO_OUTPUT_TOO_SMALL;
+        goto exit;
+    }
+
+    memcpy(output, out, out_len);
+    ret = JO_SUCCESS;
+
+exit:
+    OPENSSL_clear_free(out, out_len);
+    return ret;
+}
+
 int32_t JoKS_ContainsAlias(ks_ctx *ctx, const char *alias) {
     if (ctx == NULL) {
         return JO_KS_CTX_IS_NULL;
@@ -147,6 +147,94 @@ int32_t JoMD_Digest(md_ctx *ctx, uint8_t *output, size_t output_size, int32_t ou
     return ret_code;
 }
 
+/*
+ * Trailing input, final and reset in one call. The input may be NULL when in_len is zero.
+ */
+int32_t JoMD_UpdateDigestReset(md_ctx *ctx, uint8_t *input, size_t input_size, int32_t in_off, int32_t in_len,
+                               uint8_t *output, size_t output_size, int32_t out_off, int32_t out_len) {
+    if (ctx == NULL) {
+        return JO_MD_CTX_IS_NULL;
+    }
+
+    if (in_off < 0) {
+        return JO_INPUT_OFFSET_IS_NEGATIVE;
+    }
+
+    if (in_len < 0) {
+        return JO_INPUT_LEN_IS_NEGATIVE;
+    }
+
+    if (input == NULL) {
+        if (in_len != 0) {
+            return JO_INPUT_IS_NULL;
+        }
+    } else if (!check_in_range(input_size, in_off, in_len)) {
+        return JO_INPUT_OUT_OF_RANGE;
+    }
+
+    if (output == NULL) {
+        return JO_OUTPUT_IS_NULL;
+    }
+
+    if (out_off < 0) {
+        return JO_OUTPUT_OFFSET_IS_NEGATIVE;
+    }
+
+    if (out_len < 0) {
+        return JO_OUTPUT_LEN_IS_NEGATIVE;
+    }
+
+    if (!check_in_range(output_size, out_off, (size_t) out_len)) {
+        return JO_OUTPUT_OUT_OF_RANGE;
+    }
+
+    if (out_len < ctx->digest_byte_length) {
+        return JO_OUTPUT_TOO_SMALL;
+    }
+
+    uint8_t *in = input == NULL ? NULL : input + (size_t) in_off;
+
+    return md_ctx_update_finalize_reset(ctx, in, (size_t) in_len, output + (size_t) out_off);
+}
+
+int32_t JoMD_DigestBatch(md_ctx *ctx, uint8_t *input, size_t input_size, int32_t *spans, size_t spans_len,
+                         int32_t count, uint8_t *output, size_t output_size, int32_t out_off) {
+    if (ctx == NULL) {
+        return JO_MD_CTX_IS_NULL;
+    }
+
+    if (spans == NULL) {
+        return JO_INPUT_IS_NULL;
+    }
+
+    if (count < 0) {
+        return JO_INPUT_LEN_IS_NEGATIVE;
+    }
+
+    if (spans_len / 2 < (size_t) count) {
+        return JO_INPUT_OUT_OF_RANGE;
+    }
+
+    if (output == NULL) {
+        return JO_OUTPUT_IS_NULL;
+    }
+
+    if (out_off < 0) {
+        return JO_OUTPUT_OFFSET_IS_NEGATIVE;
+    }
+
+    const int64_t total = (int64_t) count * ctx->digest_byte_length;
+    if (total > INT32_MAX) {
+        return JO_OUTPUT_SIZE_INT_OVERFLOW;
+    }
+
+    if (!check_in_range(output_size, out_off, (size_t) total)) {
+        return JO_OUTPUT_OUT_OF_RANGE;
+    }
+
+    return md_ctx_digest_batch(ctx, input, input == NULL ? 0 : input_size, spans, count,
+                               output + (size_t) out_off);
+}
 
 int32_t JoMD_Reset(md_ctx *ctx) {
     if (ctx == NULL) {
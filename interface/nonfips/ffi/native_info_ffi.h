@@ -16,4 +16,8 @@ const char * openssl_library_version(size_t *len);
 
 FFI_BOOL is_native_available(void);
 
+int64_t fetch_cache_hit_count(void);
+
+int64_t fetch_cache_miss_count(void);
+
 #endif //NATIVE_INFO_FFI_H
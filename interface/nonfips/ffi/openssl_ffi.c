@@ -69,6 +69,13 @@ exit:
     return result;
 }
 
+/*
+* set the up-call prefetch block size
+*/
+void set_rand_up_call_block(int32_t block) {
+    rand_set_up_call_block(block < 0 ? 0 : (size_t) block);
+}
+
 /*
 * return any available openssl errors
 */
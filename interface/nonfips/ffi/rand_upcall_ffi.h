@@ -15,4 +15,12 @@
 
 typedef int32_t (*ffi_get_rand)(uint8_t *, size_t, int32_t, int32_t);
 
+//
+// A target with this bit set is not an up-call stub but the address of a
+// JO_RAND_CTX (EntropyUpcall.stub on the Java side). Upcall stubs are code
+// addresses and DRBG contexts heap allocations, neither is ever odd on the
+// platforms FFI supports.
+//
+#define RAND_UP_CALL_DIRECT_TAG ((uintptr_t) 1)
+
 #endif //RAND_UPCALL_FFI_H
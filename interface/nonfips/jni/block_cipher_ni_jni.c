@@ -13,7 +13,6 @@
 #include "types.h"
 #include "../util/block_cipher_ctx.h"
 #include "bytearrays.h"
-#include "../util/jo_assert.h"
 #include "../util/ops.h"
 
 /*
@@ -41,7 +40,9 @@ JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_blockcipher_Block
     UNUSED(cl);
 
     block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
     jint return_code = JO_FAIL;
     java_bytearray_ctx key;
     java_bytearray_ctx iv;
@@ -95,7 +96,9 @@ JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_blockcipher_Block
     UNUSED(cl);
 
     block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
     return block_cipher_ctx_get_block_size(ctx);
 }
 
@@ -112,7 +115,9 @@ JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_blockcipher_Block
     UNUSED(cl);
 
     block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
     jint return_code = JO_FAIL;
 
     critical_bytearray_ctx input;
@@ -179,7 +184,9 @@ JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_blockcipher_Block
     UNUSED(cl);
 
     block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
     jint return_code = JO_FAIL;
     size_t out_len;
 
@@ -265,7 +272,9 @@ JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_blockcipher_Block
 (JNIEnv *env, jobject cl, jlong ref, jbyteArray _output, jint out_off) {
     UNUSED(cl);
     block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
 
     jint return_code = JO_FAIL;
     size_t out_len;
@@ -304,6 +313,153 @@ exit:
     return return_code;
 }
 
+/*
+ * Class:     org_openssl_jostle_jcajce_provider_BlockCipherJNI
+ * Method:    updateBuffer
+ * Signature: (JLjava/lang/Object;IILjava/lang/Object;II)I
+ */
+JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1updateBuffer
+(
+    JNIEnv *env,
+    jobject cl,
+    jlong ref,
+    jobject _output,
+    jint out_off,
+    jint out_len,
+    jobject _input,
+    jint in_off,
+    jint in_len) {
+    UNUSED(cl);
+
+    block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
+    jint return_code = JO_FAIL;
+
+    critical_buffer_ctx input;
+    critical_buffer_ctx output;
+
+    init_critical_buffer_ctx(&input, env, _input);
+    init_critical_buffer_ctx(&output, env, _output);
+
+    if (input.is_null) {
+        return_code = JO_INPUT_IS_NULL;
+        goto exit;
+    }
+
+    if (output.is_null) {
+        return_code = JO_OUTPUT_IS_NULL;
+        goto exit;
+    }
+
+    if (out_off < 0) {
+        return_code = JO_OUTPUT_OFFSET_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (out_len < 0) {
+        return_code = JO_OUTPUT_LEN_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (in_off < 0) {
+        return_code = JO_INPUT_OFFSET_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (in_len < 0) {
+        return_code = JO_INPUT_LEN_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (!check_critical_buffer_in_range(&input, in_off, in_len)) {
+        return_code = JO_INPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    if (!check_critical_buffer_in_range(&output, out_off, out_len)) {
+        return_code = JO_OUTPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    /* Request access to critical regions from JVM, direct buffers are used in place */
+
+    if (OPS_FAILED_ACCESS_1 !load_critical_buffer_ctx(&input)) {
+        return_code = JO_FAILED_ACCESS_INPUT;
+        goto exit;
+    }
+
+    if (OPS_FAILED_ACCESS_2 !load_critical_buffer_ctx(&output)) {
+        return_code = JO_FAILED_ACCESS_OUTPUT;
+        goto exit;
+    }
+
+    /* in_off and out_off asserted as non-negative and in range by this point */
+
+    uint8_t *input_data = critical_buffer_ptr(&input) + (size_t) in_off;
+    uint8_t *output_data = critical_buffer_ptr(&output) + (size_t) out_off;
+
+    return_code = block_cipher_ctx_update_overlapping(ctx, input_data, (size_t) in_len, output_data, (size_t) out_len);
+
+exit:
+    release_critical_buffer_ctx(&output);
+    release_critical_buffer_ctx(&input);
+
+    return return_code;
+}
+
+/*
+ * Class:     org_openssl_jostle_jcajce_provider_BlockCipherJNI
+ * Method:    doFinalBuffer
+ * Signature: (JLjava/lang/Object;II)I
+ */
+JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1doFinalBuffer
+(JNIEnv *env, jobject cl, jlong ref, jobject _output, jint out_off, jint out_len) {
+    UNUSED(cl);
+    block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
+
+    jint return_code = JO_FAIL;
+    critical_buffer_ctx output;
+    init_critical_buffer_ctx(&output, env, _output);
+
+    if (output.is_null) {
+        return_code = JO_OUTPUT_IS_NULL;
+        goto exit;
+    }
+
+    if (out_off < 0) {
+        return_code = JO_OUTPUT_OFFSET_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (out_len < 0) {
+        return_code = JO_OUTPUT_LEN_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (OPS_FAILED_ACCESS_1 !check_critical_buffer_in_range(&output, out_off, out_len)) {
+        return_code = JO_OUTPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    if (OPS_FAILED_ACCESS_2 !load_critical_buffer_ctx(&output)) {
+        return_code = JO_FAILED_ACCESS_OUTPUT;
+        goto exit;
+    }
+
+    uint8_t *output_data = critical_buffer_ptr(&output) + (size_t) out_off;
+
+    return_code = block_cipher_ctx_final(ctx, output_data, (size_t) out_len);
+
+exit:
+    release_critical_buffer_ctx(&output);
+    return return_code;
+}
+
 /*
  * Class:     org_openssl_jostle_jcajce_provider_BlockCipherJNI
  * Method:    getFinalSize
@@ -314,7 +470,9 @@ JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_blockcipher_Block
     UNUSED(obj);
     UNUSED(env);
     block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
 
     int32_t return_code = JO_FAIL;
 
@@ -340,7 +498,9 @@ JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_blockcipher_Block
     UNUSED(obj);
 
     block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
-    jo_assert(ctx != NULL);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
 
     int32_t return_code = JO_FAIL;
 
@@ -356,6 +516,120 @@ exit:
 }
 
 
+/*
+ * Class:     org_openssl_jostle_jcajce_provider_BlockCipherJNI
+ * Method:    aeadBatch
+ * Signature: (JI[B[B[B[II[BI[I)I
+ */
+JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1aeadBatch
+(JNIEnv *env, jobject cl, jlong ref, jint opp_mode, jbyteArray _nonces, jbyteArray _aad, jbyteArray _input,
+ jintArray _spans, jint count, jbyteArray _output, jint out_off, jintArray _status) {
+    UNUSED(cl);
+
+    block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
+
+    if (_spans == NULL || _status == NULL) {
+        return JO_INPUT_IS_NULL;
+    }
+
+    if (count < 0) {
+        return JO_INPUT_LEN_IS_NEGATIVE;
+    }
+
+    if ((int64_t) (*env)->GetArrayLength(env, _spans) < 4 * (int64_t) count ||
+        (*env)->GetArrayLength(env, _status) < count) {
+        return JO_INPUT_OUT_OF_RANGE;
+    }
+
+    if (_output == NULL) {
+        return JO_OUTPUT_IS_NULL;
+    }
+
+    jint return_code = JO_FAIL;
+    critical_bytearray_ctx nonces;
+    critical_bytearray_ctx aad;
+    critical_bytearray_ctx input;
+    critical_bytearray_ctx output;
+    jint *spans = NULL;
+    jint *status = NULL;
+
+    init_critical_ctx(&nonces, env, _nonces);
+    init_critical_ctx(&aad, env, _aad);
+    init_critical_ctx(&input, env, _input);
+    init_critical_ctx(&output, env, _output);
+
+    if (OPS_FAILED_ACCESS_1 !load_critical_ctx(&input)) {
+        return_code = JO_FAILED_ACCESS_INPUT;
+        goto exit;
+    }
+
+    if (!load_critical_ctx(&nonces) || !load_critical_ctx(&aad)) {
+        return_code = JO_FAILED_ACCESS_INPUT;
+        goto exit;
+    }
+
+    if (OPS_FAILED_ACCESS_2 !load_critical_ctx(&output)) {
+        return_code = JO_FAILED_ACCESS_OUTPUT;
+        goto exit;
+    }
+
+    spans = (*env)->GetPrimitiveArrayCritical(env, _spans, NULL);
+    if (spans == NULL) {
+        return_code = JO_FAILED_ACCESS_INPUT;
+        goto exit;
+    }
+
+    status = (*env)->GetPrimitiveArrayCritical(env, _status, NULL);
+    if (status == NULL) {
+        return_code = JO_FAILED_ACCESS_OUTPUT;
+        goto exit;
+    }
+
+    return_code = block_cipher_ctx_aead_batch(
+        ctx, opp_mode,
+        nonces.critical, nonces.size,
+        aad.critical, aad.size,
+        input.critical, input.size,
+        (const int32_t *) spans, count,
+        output.critical, output.size, out_off,
+        (int32_t *) status);
+
+exit:
+    if (status != NULL) {
+        (*env)->ReleasePrimitiveArrayCritical(env, _status, status, 0);
+    }
+    if (spans != NULL) {
+        (*env)->ReleasePrimitiveArrayCritical(env, _spans, spans, JNI_ABORT);
+    }
+    release_critical_ctx(&output);
+    release_critical_ctx(&input);
+    release_critical_ctx(&aad);
+    release_critical_ctx(&nonces);
+    return return_code;
+}
+
+
+/*
+ * Class:     org_openssl_jostle_jcajce_provider_BlockCipherJNI
+ * Method:    reset
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_blockcipher_BlockCipherJNI_ni_1reset
+(JNIEnv *env, jobject cl, jlong ref) {
+    UNUSED(env);
+    UNUSED(cl);
+
+    block_cipher_ctx *ctx = (block_cipher_ctx *) ((void *) ref);
+    if (ctx == NULL) {
+        return JO_CIPHER_CTX_IS_NULL;
+    }
+    return block_cipher_ctx_reset(ctx);
+}
+
+
 /*
  * Class:     org_openssl_jostle_jcajce_provider_BlockCipherJNI
  * Method:    dispose
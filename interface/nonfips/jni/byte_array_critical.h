@@ -54,4 +54,46 @@ void release_critical_ctx(critical_bytearray_ctx *ctx);
  */
 bool check_critical_in_range(critical_bytearray_ctx *ctx, size_t offset, size_t len);
 
+/*
+ * A region passed from java as either a direct ByteBuffer or a byte[].
+ * Direct buffers are addressed in place, arrays go through the critical ctx.
+ */
+typedef struct {
+    critical_bytearray_ctx array;
+    uint8_t *direct;
+    size_t size;
+    bool is_null;
+} critical_buffer_ctx;
+
+
+/**
+ * Resolve a direct ByteBuffer or byte[], the array is not claimed until load_critical_buffer_ctx.
+ * @param ctx the ctx
+ * @param env the env
+ * @param buffer a direct ByteBuffer, a byte[] or NULL
+ */
+void init_critical_buffer_ctx(critical_buffer_ctx *ctx, JNIEnv *env, jobject buffer);
+
+/**
+ * Claim the region from the jvm, a direct buffer needs no claiming.
+ * @param ctx the ctx
+ * @return true on success
+ */
+bool load_critical_buffer_ctx(critical_buffer_ctx *ctx);
+
+/**
+ * The start of the region, only valid after a successful load_critical_buffer_ctx.
+ */
+uint8_t *critical_buffer_ptr(critical_buffer_ctx *ctx);
+
+/**
+ * Release the region, null safe and unclaimed safe.
+ */
+void release_critical_buffer_ctx(critical_buffer_ctx *ctx);
+
+/**
+ * Check the offset and length are wholly within the region
+ */
+bool check_critical_buffer_in_range(critical_buffer_ctx *ctx, size_t offset, size_t len);
+
 #endif //BYTEARRAYCRITICAL_H
@@ -251,3 +251,240 @@ exit:
 
     return ret_code;
 }
+
+
+/*
+ * Class:     org_openssl_jostle_jcajce_provider_kdf_KdfNIJNI
+ * Method:    x963kdf
+ * Signature: ([B[BLjava/lang/String;[BII)I
+ */
+JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_kdf_KdfNIJNI_x963kdf
+(JNIEnv *env, jobject jo, jbyteArray _secret, jbyteArray _shared_info, jstring digest, jbyteArray _out,
+ jint out_offset, jint out_len) {
+    UNUSED(jo);
+
+    int ret_code = JO_FAIL;
+    const char *digest_str = NULL;
+    jsize digest_str_len = 0;
+
+    java_bytearray_ctx secret;
+    java_bytearray_ctx shared_info;
+    java_bytearray_ctx output;
+
+    init_bytearray_ctx(&secret);
+    init_bytearray_ctx(&shared_info);
+    init_bytearray_ctx(&output);
+
+    if (OPS_FAILED_ACCESS_1 !load_bytearray_ctx(&secret, env, _secret)) {
+        ret_code = JO_KDF_SECRET_FAILED_ACCESS;
+        goto exit;
+    }
+
+    if (secret.array == NULL) {
+        ret_code = JO_KDF_SECRET_NULL;
+        goto exit;
+    }
+
+
+    // shared info is optional; a null array means "no shared info".
+    if (OPS_FAILED_ACCESS_2 !load_bytearray_ctx(&shared_info, env, _shared_info)) {
+        ret_code = JO_KDF_INFO_FAILED_ACCESS;
+        goto exit;
+    }
+
+
+    if (OPS_FAILED_ACCESS_3 !load_bytearray_ctx(&output, env, _out)) {
+        ret_code = JO_FAILED_ACCESS_OUTPUT;
+        goto exit;
+    }
+
+    if (output.array == NULL) {
+        ret_code = JO_OUTPUT_IS_NULL;
+        goto exit;
+    }
+
+    if (out_offset < 0) {
+        ret_code = JO_OUTPUT_OFFSET_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (out_len < 0) {
+        ret_code = JO_OUTPUT_LEN_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (!check_bytearray_in_range(&output, out_offset, out_len)) {
+        ret_code = JO_OUTPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    if (digest == NULL) {
+        ret_code = JO_KDF_PBE_UNKNOWN_DIGEST;
+        goto exit;
+    }
+
+    digest_str_len = (*env)->GetStringUTFLength(env, digest);
+    if (digest_str_len <= 0) {
+        ret_code = JO_KDF_PBE_UNKNOWN_DIGEST;
+        goto exit;
+    }
+
+    digest_str = (*env)->GetStringUTFChars(env, digest, NULL);
+    if (OPS_FAILED_ACCESS_4 digest_str == NULL) {
+        ret_code = JO_UNABLE_TO_ACCESS_NAME;
+        goto exit;
+    }
+
+    // out_offset is not negative by this point
+    uint8_t *out = output.bytearray + out_offset;
+
+    ret_code = jo_x963kdf(
+        secret.bytearray, secret.size,
+        shared_info.bytearray, shared_info.size,
+        (uint8_t *) digest_str,
+        digest_str_len,
+        out, out_len);
+
+
+exit:
+    release_bytearray_ctx(&secret);
+    release_bytearray_ctx(&shared_info);
+    release_bytearray_ctx(&output);
+
+    if (digest_str != NULL) {
+        (*env)->ReleaseStringUTFChars(env, digest, digest_str);
+    }
+
+    return ret_code;
+}
+
+
+/*
+ * Class:     org_openssl_jostle_jcajce_provider_kdf_KdfNIJNI
+ * Method:    x942kdf
+ * Signature: ([BLjava/lang/String;[BLjava/lang/String;[BII)I
+ */
+JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_kdf_KdfNIJNI_x942kdf
+(JNIEnv *env, jobject jo, jbyteArray _secret, jstring cek_alg, jbyteArray _ukm, jstring digest, jbyteArray _out,
+ jint out_offset, jint out_len) {
+    UNUSED(jo);
+
+    int ret_code = JO_FAIL;
+    const char *cek_alg_str = NULL;
+    jsize cek_alg_str_len = 0;
+    const char *digest_str = NULL;
+    jsize digest_str_len = 0;
+
+    java_bytearray_ctx secret;
+    java_bytearray_ctx ukm;
+    java_bytearray_ctx output;
+
+    init_bytearray_ctx(&secret);
+    init_bytearray_ctx(&ukm);
+    init_bytearray_ctx(&output);
+
+    if (OPS_FAILED_ACCESS_1 !load_bytearray_ctx(&secret, env, _secret)) {
+        ret_code = JO_KDF_SECRET_FAILED_ACCESS;
+        goto exit;
+    }
+
+    if (secret.array == NULL) {
+        ret_code = JO_KDF_SECRET_NULL;
+        goto exit;
+    }
+
+
+    // ukm is optional; a null array means "no partyAInfo".
+    if (OPS_FAILED_ACCESS_2 !load_bytearray_ctx(&ukm, env, _ukm)) {
+        ret_code = JO_KDF_INFO_FAILED_ACCESS;
+        goto exit;
+    }
+
+
+    if (OPS_FAILED_ACCESS_3 !load_bytearray_ctx(&output, env, _out)) {
+        ret_code = JO_FAILED_ACCESS_OUTPUT;
+        goto exit;
+    }
+
+    if (output.array == NULL) {
+        ret_code = JO_OUTPUT_IS_NULL;
+        goto exit;
+    }
+
+    if (out_offset < 0) {
+        ret_code = JO_OUTPUT_OFFSET_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (out_len < 0) {
+        ret_code = JO_OUTPUT_LEN_IS_NEGATIVE;
+        goto exit;
+    }
+
+    if (!check_bytearray_in_range(&output, out_offset, out_len)) {
+        ret_code = JO_OUTPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    if (cek_alg == NULL) {
+        ret_code = JO_KDF_CEK_ALG_UNKNOWN;
+        goto exit;
+    }
+
+    cek_alg_str_len = (*env)->GetStringUTFLength(env, cek_alg);
+    if (cek_alg_str_len <= 0) {
+        ret_code = JO_KDF_CEK_ALG_UNKNOWN;
+        goto exit;
+    }
+
+    if (digest == NULL) {
+        ret_code = JO_KDF_PBE_UNKNOWN_DIGEST;
+        goto exit;
+    }
+
+    digest_str_len = (*env)->GetStringUTFLength(env, digest);
+    if (digest_str_len <= 0) {
+        ret_code = JO_KDF_PBE_UNKNOWN_DIGEST;
+        goto exit;
+    }
+
+    cek_alg_str = (*env)->GetStringUTFChars(env, cek_alg, NULL);
+    if (OPS_FAILED_ACCESS_4 cek_alg_str == NULL) {
+        ret_code = JO_UNABLE_TO_ACCESS_NAME;
+        goto exit;
+    }
+
+    digest_str = (*env)->GetStringUTFChars(env, digest, NULL);
+    if (OPS_FAILED_ACCESS_5 digest_str == NULL) {
+        ret_code = JO_UNABLE_TO_ACCESS_NAME;
+        goto exit;
+    }
+
+    // out_offset is not negative by this point
+    uint8_t *out = output.bytearray + out_offset;
+
+    ret_code = jo_x942kdf(
+        secret.bytearray, secret.size,
+        (uint8_t *) cek_alg_str,
+        cek_alg_str_len,
+        ukm.bytearray, ukm.size,
+        (uint8_t *) digest_str,
+        digest_str_len,
+        out, out_len);
+
+
+exit:
+    release_bytearray_ctx(&secret);
+    release_bytearray_ctx(&ukm);
+    release_bytearray_ctx(&output);
+
+    if (cek_alg_str != NULL) {
+        (*env)->ReleaseStringUTFChars(env, cek_alg, cek_alg_str);
+    }
+
+    if (digest_str != NULL) {
+        (*env)->ReleaseStringUTFChars(env, digest, digest_str);
+    }
+
+    return ret_code;
+}
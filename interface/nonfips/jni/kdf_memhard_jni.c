@@ -138,11 +138,11 @@ exit:
 /*
  * Class:     org_openssl_jostle_jcajce_provider_kdf_MemoryHardKdfNIJNI
  * Method:    argon2
- * Signature: ([B[BIIIII[BII)I
+ * Signature: ([B[BIIIIII[BII)I
  */
 JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_kdf_MemoryHardKdfNIJNI_argon2
 (JNIEnv *env, jobject jo, jbyteArray _password, jbyteArray _salt, jint type, jint version, jint iterations,
- jint memory_kib, jint lanes, jbyteArray _out, jint out_offset, jint out_len) {
+ jint memory_kib, jint lanes, jint threads, jbyteArray _out, jint out_offset, jint out_len) {
     UNUSED(env);
     UNUSED(jo);
 
@@ -246,6 +246,7 @@ JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_kdf_MemoryHardKdf
         (uint32_t) iterations,
         (uint32_t) memory_kib,
         (uint32_t) lanes,
+        threads < 1 ? 1 : (uint32_t) threads,
         out, out_len);
 
 exit:
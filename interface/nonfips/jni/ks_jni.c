@@ -512,6 +512,115 @@ exit:
     return result;
 }
 
+JNIEXPORT jbyteArray JNICALL Java_org_openssl_jostle_jcajce_provider_ks_KSServiceJNI_ni_1getEntries
+(JNIEnv *env, jobject self, jlong ref, jintArray _err) {
+    UNUSED(self);
+
+    ks_ctx *ctx = (ks_ctx *) ref;
+    int32_t *err = NULL;
+    uint8_t *out = NULL;
+    size_t out_len = 0;
+    jbyteArray result = NULL;
+
+    if (_err == NULL) {
+        return NULL;
+    }
+
+    err = (*env)->GetIntArrayElements(env, _err, NULL);
+    jo_assert(err != NULL);
+
+    if (ctx == NULL) {
+        *err = JO_KS_CTX_IS_NULL;
+        goto exit;
+    }
+
+    *err = ks_get_entries(ctx, &out, &out_len);
+    if (UNSUCCESSFUL(*err) || out == NULL) {
+        goto exit;
+    }
+
+    if (OPS_INT32_OVERFLOW_2 out_len > INT32_MAX) {
+        *err = JO_OUTPUT_TOO_LONG_INT32;
+        goto exit;
+    }
+
+    result = (*env)->NewByteArray(env, (jsize) out_len);
+    if (result == NULL) {
+        *err = JO_FAILED_ACCESS_OUTPUT;
+        goto exit;
+    }
+    (*env)->SetByteArrayRegion(env, result, 0, (jsize) out_len, (jbyte *) out);
+
+exit:
+    if (out != NULL) {
+        OPENSSL_clear_free(out, out_len);
+    }
+    (*env)->ReleaseIntArrayElements(env, _err, err, 0);
+    return result;
+}
+
+JNIEXPORT jbyteArray JNICALL Java_org_openssl_jostle_jcajce_provider_ks_KSServiceJNI_ni_1getEntry
+(JNIEnv *env, jobject self, jlong ref, jstring _alias, jintArray _err) {
+    UNUSED(self);
+
+    ks_ctx *ctx = (ks_ctx *) ref;
+    const char *alias = NULL;
+    int32_t *err = NULL;
+    uint8_t *out = NULL;
+    size_t out_len = 0;
+    jbyteArray result = NULL;
+
+    if (_err == NULL) {
+        return NULL;
+    }
+
+    err = (*env)->GetIntArrayElements(env, _err, NULL);
+    jo_assert(err != NULL);
+
+    if (ctx == NULL) {
+        *err = JO_KS_CTX_IS_NULL;
+        goto exit;
+    }
+
+    if (_alias == NULL) {
+        *err = JO_KS_ALIAS_IS_NULL;
+        goto exit;
+    }
+
+    alias = (*env)->GetStringUTFChars(env, _alias, NULL);
+    if (OPS_FAILED_ACCESS_1 alias == NULL) {
+        *err = JO_KS_UNABLE_TO_ACCESS_ALIAS;
+        goto exit;
+    }
+
+    *err = ks_get_entry(ctx, alias, &out, &out_len);
+    if (UNSUCCESSFUL(*err) || out == NULL) {
+        goto exit;
+    }
+
+    if (OPS_INT32_OVERFLOW_2 out_len > INT32_MAX) {
+        *err = JO_OUTPUT_TOO_LONG_INT32;
+        goto exit;
+    }
+
+    result = (*env)->NewByteArray(env, (jsize) out_len);
+    if (result == NULL) {
+        *err = JO_FAILED_ACCESS_OUTPUT;
+        goto exit;
+    }
+    (*env)->SetByteArrayRegion(env, result, 0, (jsize) out_len, (jbyte *) out);
+
+exit:
+    if (alias != NULL) {
+        (*env)->ReleaseStringUTFChars(env, _alias, alias);
+    }
+    if (out != NULL) {
+        OPENSSL_clear_free(out, out_len);
+    }
+    (*env)->ReleaseIntArrayElements(env, _err, err, 0);
+    return result;
+}
+
 JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_ks_KSServiceJNI_ni_1containsAlias
 (JNIEnv *env, jobject self, jlong ref, jstring _alias) {
     UNUSED(self);
@@ -139,6 +139,20 @@ exit:
     return ret;
 }
 
+JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1initFrom
+(JNIEnv *env, jobject self, jlong ref, jlong templateRef) {
+    UNUSED(env);
+    UNUSED(self);
+
+    mac_ctx *tmpl_ctx = (void *) templateRef;
+    mac_ctx *mac_ctx = (void *) ref;
+    if (mac_ctx == NULL || tmpl_ctx == NULL) {
+        return JO_MAC_CTX_IS_NULL;
+    }
+
+    return mac_init_from(mac_ctx, tmpl_ctx);
+}
+
 JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1updateByte
 (JNIEnv *env, jobject self, jlong ref, jbyte in) {
     UNUSED(env);
@@ -207,6 +221,46 @@ exit:
     return ret;
 }
 
+/*
+ * Direct buffers only, the address is used in place without entering a critical region
+ * so long updates over mapped files do not hold off the GC.
+ */
+JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1updateBuffer
+(JNIEnv *env, jobject self, jlong ref, jobject in, jint inOff, jint inLen) {
+    UNUSED(self);
+
+    mac_ctx *mac_ctx = (void *) ref;
+    if (mac_ctx == NULL) {
+        return JO_MAC_CTX_IS_NULL;
+    }
+
+    if (!mac_ctx->initialized) {
+        return JO_NOT_INITIALIZED;
+    }
+
+    if (in == NULL) {
+        return JO_INPUT_IS_NULL;
+    }
+    if (inOff < 0) {
+        return JO_INPUT_OFFSET_IS_NEGATIVE;
+    }
+    if (inLen < 0) {
+        return JO_INPUT_LEN_IS_NEGATIVE;
+    }
+
+    uint8_t *input = (*env)->GetDirectBufferAddress(env, in);
+    if (OPS_FAILED_ACCESS_1 input == NULL) {
+        return JO_FAILED_ACCESS_INPUT;
+    }
+
+    const jlong capacity = (*env)->GetDirectBufferCapacity(env, in);
+    if (capacity < 0 || (jlong) inLen > capacity || (jlong) inOff > capacity - inLen) {
+        return JO_INPUT_OUT_OF_RANGE;
+    }
+
+    return mac_update(mac_ctx, input, inOff, inLen);
+}
+
 JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1doFinal
 (JNIEnv *env, jobject self, jlong ref, jbyteArray _out, jint outOff) {
     UNUSED(self);
@@ -260,6 +314,166 @@ exit:
     return ret;
 }
 
+/*
+ * Trailing input, final and reset in one crossing. The input may be null when inLen is zero.
+ */
+JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1updateDoFinalReset
+(JNIEnv *env, jobject self, jlong ref, jbyteArray in, jint inOff, jint inLen, jbyteArray _out, jint outOff) {
+    UNUSED(self);
+
+    mac_ctx *mac_ctx = (void *) ref;
+    if (mac_ctx == NULL) {
+        return JO_MAC_CTX_IS_NULL;
+    }
+
+    if (!mac_ctx->initialized) {
+        return JO_NOT_INITIALIZED;
+    }
+
+    if (inOff < 0) {
+        return JO_INPUT_OFFSET_IS_NEGATIVE;
+    }
+
+    if (inLen < 0) {
+        return JO_INPUT_LEN_IS_NEGATIVE;
+    }
+
+    if (in == NULL && inLen != 0) {
+        return JO_INPUT_IS_NULL;
+    }
+
+    if (_out == NULL) {
+        return JO_OUTPUT_IS_NULL;
+    }
+
+    if (outOff < 0) {
+        return JO_OUTPUT_OFFSET_IS_NEGATIVE;
+    }
+
+    int32_t m_len = mac_len(mac_ctx);
+    if (UNSUCCESSFUL(m_len)) {
+        return m_len;
+    }
+
+    critical_bytearray_ctx input;
+    critical_bytearray_ctx output;
+    int32_t ret;
+    init_critical_ctx(&input, env, in);
+    init_critical_ctx(&output, env, _out);
+
+    if (input.array != NULL && !check_critical_in_range(&input, inOff, inLen)) {
+        ret = JO_INPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    if (OPS_INT32_OVERFLOW_2 output.size > INT32_MAX) {
+        ret = JO_OUTPUT_SIZE_INT_OVERFLOW;
+        goto exit;
+    }
+
+    if (!check_critical_in_range(&output, outOff, m_len)) {
+        ret = JO_OUTPUT_OUT_OF_RANGE;
+        goto exit;
+    }
+
+    if (input.array != NULL) {
+        if (OPS_FAILED_ACCESS_1 !load_critical_ctx(&input)) {
+            ret = JO_FAILED_ACCESS_INPUT;
+            goto exit;
+        }
+    }
+
+    if (OPS_FAILED_ACCESS_2 !load_critical_ctx(&output)) {
+        ret = JO_FAILED_ACCESS_OUTPUT;
+        goto exit;
+    }
+
+    ret = mac_update_final_reset(mac_ctx, input.critical, inOff, inLen, output.critical, outOff,
+                                 (int32_t) output.size);
+
+exit:
+    release_critical_ctx(&output);
+    release_critical_ctx(&input);
+    return ret;
+}
+
+/*
+ * count independent messages MACed under the one key in one crossing, spans holds an
+ * offset and length pair per message. The input may be null when every message is empty.
+ */
+JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1doFinalBatch
+(JNIEnv *env, jobject self, jlong ref, jbyteArray in, jintArray _spans, jint count, jbyteArray _out, jint outOff) {
+    UNUSED(self);
+
+    mac_ctx *mac_ctx = (void *) ref;
+    if (mac_ctx == NULL) {
+        return JO_MAC_CTX_IS_NULL;
+    }
+
+    if (!mac_ctx->initialized) {
+        return JO_NOT_INITIALIZED;
+    }
+
+    if (_spans == NULL) {
+        return JO_INPUT_IS_NULL;
+    }
+
+    if (count < 0) {
+        return JO_INPUT_LEN_IS_NEGATIVE;
+    }
+
+    if ((int64_t) (*env)->GetArrayLength(env, _spans) < 2 * (int64_t) count) {
+        return JO_INPUT_OUT_OF_RANGE;
+    }
+
+    if (_out == NULL) {
+        return JO_OUTPUT_IS_NULL;
+    }
+
+    if (outOff < 0) {
+        return JO_OUTPUT_OFFSET_IS_NEGATIVE;
+    }
+
+    critical_bytearray_ctx input;
+    critical_bytearray_ctx output;
+    jint *spans = NULL;
+    int32_t ret;
+    init_critical_ctx(&input, env, in);
+    init_critical_ctx(&output, env, _out);
+
+    if (OPS_INT32_OVERFLOW_2 output.size > INT32_MAX) {
+        ret = JO_OUTPUT_SIZE_INT_OVERFLOW;
+        goto exit;
+    }
+
+    if (OPS_FAILED_ACCESS_1 !load_critical_ctx(&input)) {
+        ret = JO_FAILED_ACCESS_INPUT;
+        goto exit;
+    }
+
+    if (OPS_FAILED_ACCESS_2 !load_critical_ctx(&output)) {
+        ret = JO_FAILED_ACCESS_OUTPUT;
+        goto exit;
+    }
+
+    spans = (*env)->GetPrimitiveArrayCritical(env, _spans, NULL);
+    if (spans == NULL) {
+        ret = JO_FAILED_ACCESS_INPUT;
+        goto exit;
+    }
+
+    ret = mac_final_batch(mac_ctx, input.critical, input.size, (const int32_t *) spans, count,
+                          output.critical, outOff, (int32_t) output.size);
+
+exit:
+    if (spans != NULL) {
+        (*env)->ReleasePrimitiveArrayCritical(env, _spans, spans, JNI_ABORT);
+    }
+    release_critical_ctx(&output);
+    release_critical_ctx(&input);
+    return ret;
+}
+
 JNIEXPORT jint JNICALL Java_org_openssl_jostle_jcajce_provider_mac_MacServiceJNI_ni_1getMacLength
 (JNIEnv *env, jobject self, jlong ref) {
     UNUSED(env);
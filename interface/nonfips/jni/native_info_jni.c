@@ -9,6 +9,7 @@
 #include "org_openssl_jostle_NativeServiceJNI.h"
 #include "openssl/opensslconf.h"
 #include "types.h"
+#include "../util/fetch_cache.h"
 
 
 /*
@@ -34,3 +35,29 @@ JNIEXPORT jstring JNICALL Java_org_openssl_jostle_NativeServiceJNI_openSSLVersio
     UNUSED(cl);
     return (*env)->NewStringUTF(env,OPENSSL_FULL_VERSION_STR);
 }
+
+
+/*
+ * Class:     org_openssl_jostle_NativeServiceJNI
+ * Method:    fetchCacheHits
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_org_openssl_jostle_NativeServiceJNI_fetchCacheHits
+(JNIEnv *env, jclass cl) {
+    UNUSED(env);
+    UNUSED(cl);
+    return (jlong) fetch_cache_hits();
+}
+
+
+/*
+ * Class:     org_openssl_jostle_NativeServiceJNI
+ * Method:    fetchCacheMisses
+ * Signature: ()J
+ */
+JNIEXPORT jlong JNICALL Java_org_openssl_jostle_NativeServiceJNI_fetchCacheMisses
+(JNIEnv *env, jclass cl) {
+    UNUSED(env);
+    UNUSED(cl);
+    return (jlong) fetch_cache_misses();
+}
@@ -91,6 +91,19 @@ exit:
     return result;
 }
 
+/*
+ * Class:     org_openssl_jostle_jcajce_provider_OpenSSLJNI
+ * Method:    setRandUpCallBlock
+ * Signature: (I)V
+ */
+JNIEXPORT void JNICALL Java_org_openssl_jostle_jcajce_provider_OpenSSLJNI_setRandUpCallBlock
+(JNIEnv *env, jclass cl, jint block) {
+    UNUSED(env);
+    UNUSED(cl);
+
+    rand_set_up_call_block(block < 0 ? 0 : (size_t) block);
+}
+
 /*
  * Class:     org_openssl_jostle_jcajce_provider_OpenSSLJNI
  * Method:    getOSSLErrors
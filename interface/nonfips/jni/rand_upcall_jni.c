@@ -23,12 +23,15 @@
 #include "../util/jo_assert.h"
 #include "../util/bc_err_codes.h"
 #include "../util/ops.h"
+#include "../util/rand.h"
 #include "../util/rand/jostle_lib_ctx.h"
 
 // Definitions for the externs in rand_upcall_jni.h.
 JavaVM *java_vm = NULL;
 jclass target_class = NULL;
 jmethodID target_method = NULL;
+jclass direct_class = NULL;
+jfieldID direct_field = NULL;
 
 void rand_up_call_init_jni(JNIEnv *env) {
     int ret = (*env)->GetJavaVM(env, &java_vm);
@@ -48,6 +51,54 @@ void rand_up_call_init_jni(JNIEnv *env) {
 
     target_method = (*env)->GetMethodID(env, target_class, "getRandomBytes", "([BIIZ)I");
     jo_assert(target_method != NULL);
+
+    //
+    // DefaultRandSource records the native DRBG behind a JSL SecureRandom,
+    // zero for anything else.
+    //
+    clazz = (*env)->FindClass(env, "org/openssl/jostle/rand/DefaultRandSource");
+    jo_assert(clazz != NULL);
+
+    direct_class = (*env)->NewGlobalRef(env, clazz);
+    jo_assert(direct_class != NULL);
+    (*env)->DeleteLocalRef(env, clazz);
+
+    direct_field = (*env)->GetFieldID(env, direct_class, "nativeDrbg", "J");
+    jo_assert(direct_field != NULL);
+}
+
+int rand_up_call_direct_bytes(void *rnd_src, unsigned char *out, size_t out_len,
+                              unsigned int strength, int prediction_resistance) {
+    JNIEnv *env = NULL;
+
+    if (rnd_src == NULL || direct_field == NULL) {
+        return 0;
+    }
+
+    // Only ever reached on the thread that bound rnd_src, which is attached.
+    if ((*java_vm)->GetEnv(java_vm, (void *) &env, JNI_VERSION_1_6) != JNI_OK) {
+        return 0;
+    }
+
+    if (!(*env)->IsInstanceOf(env, (jobject) rnd_src, direct_class)) {
+        return 0;
+    }
+
+    jlong drbg = (*env)->GetLongField(env, (jobject) rnd_src, direct_field);
+    if (drbg == 0) {
+        return 0;
+    }
+
+    // rnd_src is a local ref held by the entry point, it keeps the
+    // SecureRandom, and so the DRBG, alive until the call returns.
+    int32_t rc = rand_ctx_fill((JO_RAND_CTX *) (uintptr_t) drbg, out, out_len, strength,
+                               prediction_resistance);
+    if (rc == JO_RAND_INSUFFICIENT_STRENGTH) {
+        // Whether that is an error depends on the Java version's
+        // DefaultRandSource, let it decide.
+        return 0;
+    }
+    return UNSUCCESSFUL(rc) ? rc : 1;
 }
 
 int rand_up_call_next_bytes(void *rnd_src, unsigned char *_out, size_t out_len,
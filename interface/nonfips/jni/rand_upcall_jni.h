@@ -15,6 +15,8 @@
 extern JavaVM *java_vm;
 extern jclass target_class;
 extern jmethodID target_method;
+extern jclass direct_class;
+extern jfieldID direct_field;
 
 
 void rand_up_call_init_jni(JNIEnv *env);
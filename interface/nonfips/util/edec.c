@@ -13,10 +13,12 @@
 
 #include <string.h>
 #include <openssl/core_names.h>
+#include <openssl/crypto.h>
 #include <openssl/err.h>
 #include <openssl/evp.h>
 
 #include "bc_err_codes.h"
+#include "fetch_cache.h"
 #include "jo_assert.h"
 #include "key_spec.h"
 #include "ops.h"
@@ -332,6 +334,123 @@ exit:
 }
 
 
+/*
+ * Release the pre-hash session state, the ctx is left ready for either kind
+ * of session.
+ */
+static void edec_ctx_clear_prehash(edec_ctx *ctx) {
+    EVP_MD_CTX_free(ctx->prehash);
+    ctx->prehash = NULL;
+    EVP_MD_free(ctx->prehash_md);
+    ctx->prehash_md = NULL;
+    EVP_PKEY_CTX_free(ctx->ph_ctx);
+    ctx->ph_ctx = NULL;
+}
+
+/*
+ * The signature algorithm and pre-hash for the HashEdDSA instances, name is
+ * the "instance" the caller asked for and is not NUL terminated.
+ * Returns 0 for pure and context EdDSA.
+ */
+static int edec_prehash_of(const char *name, int name_len, const char **sig_name, const char **md_name) {
+    if (name_len == 9 && OPENSSL_strncasecmp(name, "Ed25519ph", 9) == 0) {
+        *sig_name = "ED25519ph";
+        *md_name = "SHA512";
+        return 1;
+    }
+    if (name_len == 7 && OPENSSL_strncasecmp(name, "Ed448ph", 7) == 0) {
+        *sig_name = "ED448ph";
+        *md_name = "SHAKE256";
+        return 1;
+    }
+    return 0;
+}
+
+/*
+ * Start a HashEdDSA session: the message digest that update feeds, and a
+ * signature ctx that takes the finished 64 byte pre-hash.
+ */
+static int32_t edec_ctx_init_prehash(
+    edec_ctx *ctx,
+    const key_spec *key_spec,
+    const char *sig_name,
+    const char *md_name,
+    const uint8_t *context, int32_t context_len, int opp) {
+    OSSL_LIB_CTX *libctx = get_global_jostle_ossl_lib_ctx();
+    int32_t ret_code = JO_FAIL;
+    EVP_SIGNATURE *sig = NULL;
+
+    ctx->prehash = EVP_MD_CTX_new();
+    if (OPS_OPENSSL_ERROR_3 ctx->prehash == NULL) {
+        ret_code = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_3(1020);
+        goto exit;
+    }
+
+    ctx->prehash_md = fetch_cache_md(libctx, md_name, NULL);
+    if (OPS_OPENSSL_ERROR_4 ctx->prehash_md == NULL) {
+        ret_code = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_4(1021);
+        goto exit;
+    }
+
+    if (OPS_OPENSSL_ERROR_5 1 != EVP_DigestInit_ex2(ctx->prehash, ctx->prehash_md, NULL)) {
+        ret_code = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_5(1022);
+        goto exit;
+    }
+
+    sig = EVP_SIGNATURE_fetch(libctx, sig_name, NULL);
+    ctx->ph_ctx = EVP_PKEY_CTX_new_from_pkey(libctx, key_spec->key, NULL);
+    if (OPS_OPENSSL_ERROR_6 sig == NULL || ctx->ph_ctx == NULL) {
+        ret_code = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_6(1023);
+        goto exit;
+    }
+
+    OSSL_PARAM params[] = {
+        OSSL_PARAM_END,
+        OSSL_PARAM_END
+    };
+
+    if (context != NULL) {
+        params[0] = OSSL_PARAM_construct_octet_string("context-string", (void *) context, context_len);
+    }
+
+    // The signature is fetched by its ph name, so the provider expects the
+    // caller to supply PH(M) rather than M.
+    const int init_ok = (opp == EDEC_SIGN)
+                            ? EVP_PKEY_sign_init_ex2(ctx->ph_ctx, sig, params)
+                            : EVP_PKEY_verify_init_ex2(ctx->ph_ctx, sig, params);
+    if (OPS_OPENSSL_ERROR_7 1 != init_ok) {
+        ret_code = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_7(1024);
+        goto exit;
+    }
+
+    ctx->opp = opp;
+    ret_code = JO_SUCCESS;
+
+exit:
+    EVP_SIGNATURE_free(sig);
+    if (ret_code != JO_SUCCESS) {
+        edec_ctx_clear_prehash(ctx);
+    }
+    return ret_code;
+}
+
+/*
+ * Finish PH(M) into md and restart the digest so the message does not carry
+ * into the next operation.
+ */
+static int edec_prehash_final(edec_ctx *ctx, uint8_t md[EDEC_PREHASH_LEN]) {
+    unsigned int md_len = 0;
+    int ok;
+
+    if (EVP_MD_get_flags(ctx->prehash_md) & EVP_MD_FLAG_XOF) {
+        ok = EVP_DigestFinalXOF(ctx->prehash, md, EDEC_PREHASH_LEN);
+    } else {
+        ok = EVP_DigestFinal_ex(ctx->prehash, md, &md_len) && md_len == EDEC_PREHASH_LEN;
+    }
+
+    return EVP_DigestInit_ex2(ctx->prehash, ctx->prehash_md, NULL) && ok;
+}
+
 edec_ctx *edec_ctx_create(int32_t *err) {
     jo_assert(err != NULL);
 
@@ -366,6 +485,8 @@ void edec_ctx_destroy(edec_ctx *ctx) {
         EVP_MD_CTX_free(ctx->digest_ctx);
     }
 
+    edec_ctx_clear_prehash(ctx);
+
     OPENSSL_clear_free(ctx, sizeof(*ctx));
 }
 
@@ -396,7 +517,7 @@ int32_t edec_ctx_init_sign(
     }
 
     // Clear any prior session state up-front so a failed init leaves the ctx
-    // cleanly not-initialised (opp == 0, no digest_ctx) rather than
+    // cleanly not-initialised (opp == 0, no digest_ctx or prehash) rather than
     // half-configured — a later sign would otherwise misread stale opp and a
     // dangling digest_ctx (ec.c ec_ctx_clear_session pattern).
     BIO_reset(ctx->message);
@@ -404,8 +525,20 @@ int32_t edec_ctx_init_sign(
         EVP_MD_CTX_free(ctx->digest_ctx);
         ctx->digest_ctx = NULL;
     }
+    edec_ctx_clear_prehash(ctx);
     ctx->opp = 0;
 
+    if (context == NULL) {
+        context_len = 0;
+    }
+
+    const char *sig_name = NULL;
+    const char *md_name = NULL;
+    if (edec_prehash_of(name, name_len, &sig_name, &md_name)) {
+        ret_code = edec_ctx_init_prehash(ctx, key_spec, sig_name, md_name, context, context_len, EDEC_SIGN);
+        goto exit;
+    }
+
     ctx->digest_ctx = EVP_MD_CTX_new();
 
     if (OPS_OPENSSL_ERROR_1 ctx->digest_ctx == NULL) {
@@ -413,10 +546,6 @@ int32_t edec_ctx_init_sign(
         goto exit;
     }
 
-    if (context == NULL) {
-        context_len = 0;
-    }
-
 
     OSSL_PARAM params[] = {
         OSSL_PARAM_utf8_string("instance", (void*)name, name_len),
@@ -470,7 +599,7 @@ int32_t edec_ctx_init_verify(
     }
 
     // Clear any prior session state up-front so a failed init leaves the ctx
-    // cleanly not-initialised (opp == 0, no digest_ctx) rather than
+    // cleanly not-initialised (opp == 0, no digest_ctx or prehash) rather than
     // half-configured — a later verify would otherwise misread stale opp and a
     // dangling digest_ctx (ec.c ec_ctx_clear_session pattern).
     BIO_reset(ctx->message);
@@ -478,8 +607,20 @@ int32_t edec_ctx_init_verify(
         EVP_MD_CTX_free(ctx->digest_ctx);
         ctx->digest_ctx = NULL;
     }
+    edec_ctx_clear_prehash(ctx);
     ctx->opp = 0;
 
+    if (context == NULL) {
+        context_len = 0;
+    }
+
+    const char *sig_name = NULL;
+    const char *md_name = NULL;
+    if (edec_prehash_of(name, name_len, &sig_name, &md_name)) {
+        ret_code = edec_ctx_init_prehash(ctx, key_spec, sig_name, md_name, context, context_len, EDEC_VERIFY);
+        goto exit;
+    }
+
     ctx->digest_ctx = EVP_MD_CTX_new();
 
     if (OPS_OPENSSL_ERROR_1 ctx->digest_ctx == NULL) {
@@ -487,10 +628,6 @@ int32_t edec_ctx_init_verify(
         goto exit;
     }
 
-    if (context == NULL) {
-        context_len = 0;
-    }
-
     OSSL_PARAM params[] = {
         OSSL_PARAM_utf8_string("instance", (void*)name, name_len),
         OSSL_PARAM_END,
@@ -528,7 +665,7 @@ int32_t edec_ctx_update(edec_ctx *ctx, const uint8_t *in, const size_t in_len) {
     jo_assert(ctx != NULL);
     jo_assert(in != NULL);
 
-    if (ctx->digest_ctx == NULL) {
+    if (ctx->digest_ctx == NULL && ctx->prehash == NULL) {
         rand_clear_java_srand_call();
         return JO_NOT_INITIALIZED;
     }
@@ -538,6 +675,17 @@ int32_t edec_ctx_update(edec_ctx *ctx, const uint8_t *in, const size_t in_len) {
         return JO_INPUT_TOO_LONG_INT32;
     }
 
+    if (ctx->prehash != NULL) {
+        // HashEdDSA, absorbed as it arrives with no bound on the total.
+        ERR_clear_error();
+        if (1 != EVP_DigestUpdate(ctx->prehash, in, in_len)) {
+            rand_clear_java_srand_call();
+            return JO_OPENSSL_ERROR;
+        }
+        rand_clear_java_srand_call();
+        return JO_SUCCESS;
+    }
+
     // Bound the ACCUMULATED message, not just this chunk: edec_ctx_sign casts
     // the total to int, and BIO_get_mem_data returns a long that is only 32-bit
     // on some supported platforms (Windows). Mirrors ec_raw_append in ec.c.
@@ -563,6 +711,60 @@ int32_t edec_ctx_update(edec_ctx *ctx, const uint8_t *in, const size_t in_len) {
 }
 
 
+/*
+ * HashEdDSA counterpart to edec_ctx_sign, signs the finished pre-hash.
+ */
+static int32_t edec_ctx_sign_prehash(edec_ctx *ctx, uint8_t *out, const size_t out_len, void *rnd_src) {
+    int32_t ret_code = JO_FAIL;
+    uint8_t md[EDEC_PREHASH_LEN];
+    size_t sig_len = 0;
+
+    rand_set_java_srand_call(rnd_src);
+    ERR_clear_error();
+
+    if (OPS_OPENSSL_ERROR_1 1 != EVP_PKEY_sign(ctx->ph_ctx, NULL, &sig_len, NULL, 0)) {
+        ret_code = JO_OPENSSL_ERROR;
+        goto exit;
+    }
+
+    if (OPS_INT32_OVERFLOW_1 sig_len > INT32_MAX) {
+        ret_code = JO_OUTPUT_TOO_LONG_INT32;
+        goto exit;
+    }
+
+    if (out != NULL) {
+        if (sig_len > out_len) {
+            // recoverable — the pre-hash is not finished until the sign
+            ret_code = JO_OUTPUT_TOO_SMALL;
+            goto exit;
+        }
+
+        const size_t sig_len_ = sig_len;
+
+        if (!edec_prehash_final(ctx, md)) {
+            ret_code = JO_OPENSSL_ERROR;
+            goto exit;
+        }
+
+        if (OPS_OPENSSL_ERROR_2 EVP_PKEY_sign(ctx->ph_ctx, out, &sig_len, md, EDEC_PREHASH_LEN) != 1) {
+            ret_code = JO_OPENSSL_ERROR;
+            goto exit;
+        }
+
+        if (OPS_LEN_CHANGE_1 sig_len_ != sig_len) {
+            ret_code = JO_UNEXPECTED_SIG_LEN_CHANGE;
+            goto exit;
+        }
+    }
+
+    ret_code = (int32_t) sig_len;
+
+exit:
+    OPENSSL_cleanse(md, sizeof(md));
+    rand_clear_java_srand_call();
+    return ret_code;
+}
+
 int32_t edec_ctx_sign(edec_ctx *ctx, uint8_t *out, const size_t out_len, void *rnd_src) {
     jo_assert(ctx != NULL);
     int ret_code = JO_FAIL;
@@ -573,7 +775,7 @@ int32_t edec_ctx_sign(edec_ctx *ctx, uint8_t *out, const size_t out_len, void *r
         return JO_RAND_NO_RAND_UP_CALL;
     }
 
-    if (ctx->digest_ctx == NULL) {
+    if (ctx->digest_ctx == NULL && ctx->prehash == NULL) {
         ret_code = JO_NOT_INITIALIZED;
         goto exit;
     }
@@ -583,6 +785,10 @@ int32_t edec_ctx_sign(edec_ctx *ctx, uint8_t *out, const size_t out_len, void *r
         goto exit;
     }
 
+    if (ctx->prehash != NULL) {
+        return edec_ctx_sign_prehash(ctx, out, out_len, rnd_src);
+    }
+
     uint8_t *msg = NULL;
     const long raw_msg_len = BIO_get_mem_data(ctx->message, &msg);
     if (raw_msg_len < 0) {
@@ -647,7 +853,7 @@ int32_t edec_ctx_verify(edec_ctx *ctx, const uint8_t *sig, const size_t sig_len)
     jo_assert(ctx != NULL);
     int ret_code = JO_FAIL;
 
-    if (ctx->digest_ctx == NULL) {
+    if (ctx->digest_ctx == NULL && ctx->prehash == NULL) {
         ret_code = JO_NOT_INITIALIZED;
         goto exit;
     }
@@ -671,7 +877,14 @@ int32_t edec_ctx_verify(edec_ctx *ctx, const uint8_t *sig, const size_t sig_len)
         goto exit;
     }
     const size_t msg_len = (size_t) raw_msg_len;
-    int ret = EVP_DigestVerify(ctx->digest_ctx, sig, sig_len, msg, msg_len);
+    int ret;
+    if (ctx->prehash != NULL) {
+        uint8_t md[EDEC_PREHASH_LEN];
+        ret = edec_prehash_final(ctx, md) ? EVP_PKEY_verify(ctx->ph_ctx, sig, sig_len, md, EDEC_PREHASH_LEN) : -1;
+        OPENSSL_cleanse(md, sizeof(md));
+    } else {
+        ret = EVP_DigestVerify(ctx->digest_ctx, sig, sig_len, msg, msg_len);
+    }
     BIO_reset(ctx->message);
 
     if (OPS_OPENSSL_ERROR_1 0) {
@@ -17,12 +17,23 @@
 #define EDEC_SIGN 1
 #define EDEC_VERIFY 2
 
+/*
+ * Pure Ed25519 / Ed448 read the message twice, so it is buffered in message
+ * and signed in one EVP_DigestSign call. Ed25519ph / Ed448ph sign PH(M): the
+ * message is absorbed into prehash as it arrives and only the 64 byte digest
+ * is handed to the ph_ctx signature, memory use does not grow with M.
+ */
 typedef struct edec_ctx {
     EVP_MD_CTX *digest_ctx;
     BIO *message;
+    EVP_MD *prehash_md;
+    EVP_MD_CTX *prehash;
+    EVP_PKEY_CTX *ph_ctx;
     int opp;
 } edec_ctx;
 
+#define EDEC_PREHASH_LEN 64
+
 
 int32_t edec_generate_key(key_spec *spec, int32_t type, void *rnd_src);
 
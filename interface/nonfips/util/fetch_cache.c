@@ -0,0 +1,236 @@
+//  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+//
+//  Licensed under the Apache License 2.0 (the "License"). You may not use
+//  this file except in compliance with the License.  You can obtain a copy
+//  in the file LICENSE in the source distribution or at
+//  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+
+#include "fetch_cache.h"
+
+#include <string.h>
+#include <openssl/crypto.h>
+#include <openssl/evp.h>
+
+// Upper bound on cached objects. The provider only fetches a fixed set of
+// names so this is never reached in practice; past it lookups fall through
+// to a plain fetch.
+#define FETCH_CACHE_MAX 256
+
+typedef enum {
+    FETCH_KIND_CIPHER,
+    FETCH_KIND_MD,
+    FETCH_KIND_MAC
+} fetch_kind;
+
+typedef struct {
+    fetch_kind kind;
+    OSSL_LIB_CTX *libctx;
+    uint32_t hash;
+    char *name;
+    char *props;
+    void *alg; // holds one reference, owned by the cache
+} fetch_cache_entry;
+
+static fetch_cache_entry entries[FETCH_CACHE_MAX];
+static int entry_count = 0;
+
+static CRYPTO_RWLOCK *cache_lock = NULL;
+static CRYPTO_ONCE cache_once = CRYPTO_ONCE_STATIC_INIT;
+
+static uint64_t hit_count = 0;
+static uint64_t miss_count = 0;
+
+static void fetch_cache_init_once(void) {
+    cache_lock = CRYPTO_THREAD_lock_new();
+}
+
+static int fetch_cache_ready(void) {
+    return CRYPTO_THREAD_run_once(&cache_once, fetch_cache_init_once) && cache_lock != NULL;
+}
+
+// FNV-1a over the name, props only take part in the full compare.
+static uint32_t name_hash(const char *name) {
+    uint32_t h = 2166136261u;
+    for (const unsigned char *p = (const unsigned char *) name; *p != 0; p++) {
+        h ^= *p;
+        h *= 16777619u;
+    }
+    return h;
+}
+
+static int props_equal(const char *a, const char *b) {
+    if (a == NULL || b == NULL) {
+        return a == b;
+    }
+    return strcmp(a, b) == 0;
+}
+
+static int entry_matches(const fetch_cache_entry *e, fetch_kind kind, OSSL_LIB_CTX *libctx,
+                         uint32_t hash, const char *name, const char *props) {
+    return e->kind == kind && e->libctx == libctx && e->hash == hash
+           && strcmp(e->name, name) == 0 && props_equal(e->props, props);
+}
+
+static int alg_up_ref(fetch_kind kind, void *alg) {
+    switch (kind) {
+        case FETCH_KIND_CIPHER:
+            return EVP_CIPHER_up_ref((EVP_CIPHER *) alg);
+        case FETCH_KIND_MD:
+            return EVP_MD_up_ref((EVP_MD *) alg);
+        case FETCH_KIND_MAC:
+            return EVP_MAC_up_ref((EVP_MAC *) alg);
+    }
+    return 0;
+}
+
+static void alg_free(fetch_kind kind, void *alg) {
+    switch (kind) {
+        case FETCH_KIND_CIPHER:
+            EVP_CIPHER_free((EVP_CIPHER *) alg);
+            break;
+        case FETCH_KIND_MD:
+            EVP_MD_free((EVP_MD *) alg);
+            break;
+        case FETCH_KIND_MAC:
+            EVP_MAC_free((EVP_MAC *) alg);
+            break;
+    }
+}
+
+static void *alg_fetch(fetch_kind kind, OSSL_LIB_CTX *libctx, const char *name, const char *props) {
+    switch (kind) {
+        case FETCH_KIND_CIPHER:
+            return EVP_CIPHER_fetch(libctx, name, props);
+        case FETCH_KIND_MD:
+            return EVP_MD_fetch(libctx, name, props);
+        case FETCH_KIND_MAC:
+            return EVP_MAC_fetch(libctx, name, props);
+    }
+    return NULL;
+}
+
+static void count(uint64_t *counter) {
+    uint64_t ignored;
+    CRYPTO_atomic_add64(counter, 1, &ignored, cache_lock);
+}
+
+static void *fetch_cached(fetch_kind kind, OSSL_LIB_CTX *libctx, const char *name, const char *props) {
+    if (name == NULL || !fetch_cache_ready()) {
+        return alg_fetch(kind, libctx, name, props);
+    }
+
+    const uint32_t hash = name_hash(name);
+    void *alg = NULL;
+
+    //
+    // Hit path, shared lock only. The up-ref happens under the lock so a
+    // concurrent flush cannot drop the cache's reference first.
+    //
+    if (CRYPTO_THREAD_read_lock(cache_lock)) {
+        for (int i = 0; i < entry_count; i++) {
+            if (entry_matches(&entries[i], kind, libctx, hash, name, props)) {
+                if (alg_up_ref(kind, entries[i].alg)) {
+                    alg = entries[i].alg;
+                }
+                break;
+            }
+        }
+        CRYPTO_THREAD_unlock(cache_lock);
+    }
+
+    if (alg != NULL) {
+        count(&hit_count);
+        return alg;
+    }
+
+    count(&miss_count);
+
+    // Fetch outside the lock, the store locks are what we are avoiding holding on to.
+    alg = alg_fetch(kind, libctx, name, props);
+    if (alg == NULL) {
+        return NULL;
+    }
+
+    if (!CRYPTO_THREAD_write_lock(cache_lock)) {
+        return alg;
+    }
+
+    // Another thread may have raced us to it, in which case the caller keeps its own fetch.
+    for (int i = 0; i < entry_count; i++) {
+        if (entry_matches(&entries[i], kind, libctx, hash, name, props)) {
+            CRYPTO_THREAD_unlock(cache_lock);
+            return alg;
+        }
+    }
+
+    if (entry_count < FETCH_CACHE_MAX && alg_up_ref(kind, alg)) {
+        char *name_copy = OPENSSL_strdup(name);
+        char *props_copy = props == NULL ? NULL : OPENSSL_strdup(props);
+        if (name_copy != NULL && (props == NULL || props_copy != NULL)) {
+            fetch_cache_entry *e = &entries[entry_count++];
+            e->kind = kind;
+            e->libctx = libctx;
+            e->hash = hash;
+            e->name = name_copy;
+            e->props = props_copy;
+            e->alg = alg;
+        } else {
+            OPENSSL_free(name_copy);
+            OPENSSL_free(props_copy);
+            alg_free(kind, alg); // the reference taken for the cache
+        }
+    }
+
+    CRYPTO_THREAD_unlock(cache_lock);
+    return alg;
+}
+
+EVP_CIPHER *fetch_cache_cipher(OSSL_LIB_CTX *libctx, const char *name, const char *props) {
+    return (EVP_CIPHER *) fetch_cached(FETCH_KIND_CIPHER, libctx, name, props);
+}
+
+EVP_MD *fetch_cache_md(OSSL_LIB_CTX *libctx, const char *name, const char *props) {
+    return (EVP_MD *) fetch_cached(FETCH_KIND_MD, libctx, name, props);
+}
+
+EVP_MAC *fetch_cache_mac(OSSL_LIB_CTX *libctx, const char *name, const char *props) {
+    return (EVP_MAC *) fetch_cached(FETCH_KIND_MAC, libctx, name, props);
+}
+
+void fetch_cache_flush(OSSL_LIB_CTX *libctx) {
+    if (!fetch_cache_ready() || !CRYPTO_THREAD_write_lock(cache_lock)) {
+        return;
+    }
+
+    int kept = 0;
+    for (int i = 0; i < entry_count; i++) {
+        fetch_cache_entry *e = &entries[i];
+        if (e->libctx == libctx) {
+            alg_free(e->kind, e->alg);
+            OPENSSL_free(e->name);
+            OPENSSL_free(e->props);
+        } else {
+            entries[kept++] = *e;
+        }
+    }
+    memset(&entries[kept], 0, sizeof(fetch_cache_entry) * (size_t) (entry_count - kept));
+    entry_count = kept;
+
+    CRYPTO_THREAD_unlock(cache_lock);
+}
+
+static int64_t load_counter(uint64_t *counter) {
+    uint64_t value = 0;
+    if (!fetch_cache_ready() || !CRYPTO_atomic_load(counter, &value, cache_lock)) {
+        return 0;
+    }
+    return (int64_t) value;
+}
+
+int64_t fetch_cache_hits(void) {
+    return load_counter(&hit_count);
+}
+
+int64_t fetch_cache_misses(void) {
+    return load_counter(&miss_count);
+}
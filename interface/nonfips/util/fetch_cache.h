@@ -0,0 +1,62 @@
+//  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+//
+//  Licensed under the Apache License 2.0 (the "License"). You may not use
+//  this file except in compliance with the License.  You can obtain a copy
+//  in the file LICENSE in the source distribution or at
+//  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+
+#ifndef FETCH_CACHE_H
+#define FETCH_CACHE_H
+
+#include <stdint.h>
+#include <openssl/types.h>
+
+/*
+ * Process-wide cache of fetched algorithm objects.
+ *
+ * EVP_*_fetch takes the provider store locks of the library context on every
+ * call. The cache holds one reference to each fetched object keyed by library
+ * context, name and property query, and hands out an up-ref'd object on a hit
+ * so callers keep freeing with the matching EVP_*_free exactly as they would
+ * after EVP_*_fetch.
+ *
+ * Each interface library (base and FIPS) compiles its own copy so the two
+ * caches are independent. Failed fetches are not cached.
+ */
+
+/**
+ * Drop in for EVP_CIPHER_fetch.
+ * @return an up-ref'd cipher or NULL with the OpenSSL error queue set by the fetch
+ */
+EVP_CIPHER *fetch_cache_cipher(OSSL_LIB_CTX *libctx, const char *name, const char *props);
+
+/**
+ * Drop in for EVP_MD_fetch.
+ * @return an up-ref'd digest or NULL with the OpenSSL error queue set by the fetch
+ */
+EVP_MD *fetch_cache_md(OSSL_LIB_CTX *libctx, const char *name, const char *props);
+
+/**
+ * Drop in for EVP_MAC_fetch.
+ * @return an up-ref'd mac or NULL with the OpenSSL error queue set by the fetch
+ */
+EVP_MAC *fetch_cache_mac(OSSL_LIB_CTX *libctx, const char *name, const char *props);
+
+/**
+ * Release every entry fetched from libctx, must be called before the
+ * library context is freed so a later context at the same address cannot
+ * be served stale entries.
+ */
+void fetch_cache_flush(OSSL_LIB_CTX *libctx);
+
+/**
+ * Number of lookups served from the cache.
+ */
+int64_t fetch_cache_hits(void);
+
+/**
+ * Number of lookups that had to call EVP_*_fetch.
+ */
+int64_t fetch_cache_misses(void);
+
+#endif //FETCH_CACHE_H
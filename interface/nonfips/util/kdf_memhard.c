@@ -26,6 +26,8 @@
 #include <openssl/core_names.h>
 #include <openssl/err.h>
 #include <openssl/params.h>
+#include <openssl/provider.h>
+#include <openssl/thread.h>
 #include <openssl/types.h>
 
 #include "bc_err_codes.h"
@@ -89,6 +91,53 @@ exit:
     return ret;
 }
 
+/*
+ * Lib ctx for multi-threaded Argon2, separate from the shared jostle lib ctx
+ * so that OSSL_set_max_threads never changes the thread pool of the lib ctx
+ * every other service runs in. Argon2 is only served by the default provider
+ * so that is all this one loads. Created on first threaded derivation and kept
+ * for the life of the process, like the shared lib ctx.
+ */
+static CRYPTO_ONCE argon2_libctx_once = CRYPTO_ONCE_STATIC_INIT;
+static OSSL_LIB_CTX *argon2_libctx = NULL;
+
+static void argon2_libctx_init(void) {
+    if ((OSSL_get_thread_support_flags() & OSSL_THREAD_SUPPORT_FLAG_THREAD_POOL) == 0) {
+        // OpenSSL built without thread pool support, derivations stay single threaded.
+        return;
+    }
+
+    OSSL_LIB_CTX *libctx = OSSL_LIB_CTX_new();
+    if (libctx == NULL) {
+        return;
+    }
+
+    if (OSSL_PROVIDER_load(libctx, "default") == NULL) {
+        OSSL_LIB_CTX_free(libctx);
+        return;
+    }
+
+    argon2_libctx = libctx;
+}
+
+/*
+ * The threaded lib ctx with room for at least `threads` pool threads, or NULL
+ * if threaded derivation is unavailable. The cap only grows; concurrent
+ * derivations share the pool, which is why a threaded derive that finds it
+ * exhausted falls back to one thread rather than failing.
+ */
+static OSSL_LIB_CTX *get_argon2_libctx(uint32_t threads) {
+    if (!CRYPTO_THREAD_run_once(&argon2_libctx_once, argon2_libctx_init) || argon2_libctx == NULL) {
+        return NULL;
+    }
+
+    if (OSSL_get_max_threads(argon2_libctx) < threads && !OSSL_set_max_threads(argon2_libctx, threads)) {
+        return NULL;
+    }
+
+    return argon2_libctx;
+}
+
 /*
  * Argon2 (RFC 9106). The KDF name is selected from the caller's type; the
  * bridge has already restricted it to {0,1,2}.
@@ -99,13 +148,14 @@ exit:
  *             function of stated inputs alone. A future OpenSSL default
  *             change must not silently alter output for existing callers.
  *
- *   threads - pinned to 1. Argon2 output depends on `lanes`, NOT on how many
- *             threads compute them, so a fixed thread count keeps derivation
- *             deterministic across machines while `lanes` still varies freely.
- *             It also avoids OSSL_set_max_threads on the shared lib ctx (a
- *             process-wide side effect), and sidesteps OpenSSL rejecting
- *             threads > lanes. Do not raise this without re-reading all three
- *             reasons.
+ *   threads - 1 unless the caller asks for more. Argon2 output depends on
+ *             `lanes`, NOT on how many threads compute them, so the thread
+ *             count never changes the derived key. More than one thread runs
+ *             in the dedicated lib ctx above, never the shared one (a
+ *             process-wide side effect), and is clamped to `lanes` since
+ *             OpenSSL rejects threads > lanes. If the dedicated lib ctx is
+ *             unavailable, or its pool is busy, the derivation runs single
+ *             threaded in the shared lib ctx as before.
  */
 int32_t jo_argon2(
     int32_t type,
@@ -115,6 +165,7 @@ int32_t jo_argon2(
     uint32_t iterations,
     uint32_t memory_kib,
     uint32_t lanes,
+    uint32_t threads,
     uint8_t *out,
     size_t out_len
 ) {
@@ -126,8 +177,21 @@ int32_t jo_argon2(
     int ret = JO_FAIL;
     EVP_KDF *kdf = NULL;
     EVP_KDF_CTX *kctx = NULL;
+    OSSL_LIB_CTX *libctx = NULL;
     const char *kdf_name;
-    uint32_t threads = 1;
+
+    if (threads > lanes) {
+        threads = lanes;
+    }
+
+    if (threads > 1) {
+        libctx = get_argon2_libctx(threads);
+    }
+
+    if (libctx == NULL) {
+        libctx = get_global_jostle_ossl_lib_ctx();
+        threads = 1;
+    }
 
     switch (type) {
         case 0:
@@ -143,7 +207,7 @@ int32_t jo_argon2(
 
     ERR_clear_error();
 
-    kdf = EVP_KDF_fetch(get_global_jostle_ossl_lib_ctx(), kdf_name, NULL);
+    kdf = EVP_KDF_fetch(libctx, kdf_name, NULL);
     if (OPS_OPENSSL_ERROR_1 kdf == NULL) {
         ret = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_1(4002);
         goto exit;
@@ -167,6 +231,19 @@ int32_t jo_argon2(
         OSSL_PARAM_END
     };
 
+    if (threads > 1 && EVP_KDF_derive(kctx, out, out_len, params) > 0) {
+        ret = JO_SUCCESS;
+        goto exit;
+    }
+
+    if (threads > 1) {
+        // Most likely the pool is taken by concurrent derivations, the same
+        // derivation on one thread gives the same output. The params array
+        // points at threads so this is what the next derive sees.
+        ERR_clear_error();
+        threads = 1;
+    }
+
     if (OPS_OPENSSL_ERROR_3 EVP_KDF_derive(kctx, out, out_len, params) <= 0) {
         ret = JO_OPENSSL_ERROR OPS_OFFSET_OPENSSL_ERROR_3(4001);
         goto exit;
@@ -33,6 +33,7 @@ int32_t jo_argon2(
     uint32_t iterations,
     uint32_t memory_kib,
     uint32_t lanes,
+    uint32_t threads,
     uint8_t *out,
     size_t out_len
 );
@@ -57,6 +57,43 @@ static void write_u32_be(uint8_t *out, uint32_t value) {
     out[3] = (uint8_t) value;
 }
 
+static void write_u64_be(uint8_t *out, uint64_t value) {
+    write_u32_be(out, (uint32_t) (value >> 32));
+    write_u32_be(out + 4, (uint32_t) value);
+}
+
+/*
+ * Length of a chain serialised as concatenated DER, bounded to INT32_MAX so
+ * the encoding fits a single Java array.
+ */
+static int32_t chain_encoded_length(STACK_OF(X509) *chain, size_t *len) {
+    int64_t total = 0;
+
+    *len = 0;
+    for (int i = 0; i < sk_X509_num(chain); i++) {
+        int cert_len = i2d_X509(sk_X509_value(chain, i), NULL);
+        if (cert_len <= 0) {
+            return JO_FAIL;
+        }
+        total += cert_len;
+        if (total > INT32_MAX) {
+            return JO_OUTPUT_TOO_LONG_INT32;
+        }
+    }
+    *len = (size_t) total;
+    return JO_SUCCESS;
+}
+
+static int32_t encode_chain(STACK_OF(X509) *chain, uint8_t *out) {
+    unsigned char *p = out;
+    for (int i = 0; i < sk_X509_num(chain); i++) {
+        if (i2d_X509(sk_X509_value(chain, i), &p) <= 0) {
+            return JO_FAIL;
+        }
+    }
+    return JO_SUCCESS;
+}
+
 static int64_t current_time_ms(void) {
     return (int64_t) time(NULL) * 1000;
 }
@@ -997,31 +1034,23 @@ int32_t ks_get_certificate_chain(ks_ctx *ctx, const char *alias, uint8_t **out,
      * SEQUENCE is self-delimiting, so the Java side reconstructs the list with
      * CertificateFactory.generateCertificates without any framing.
      */
-    int64_t total = 0;
-    for (int i = 0; i < sk_X509_num(entry->certificate_chain); i++) {
-        int len = i2d_X509(sk_X509_value(entry->certificate_chain, i), NULL);
-        if (len <= 0) {
-            return JO_FAIL;
-        }
-        total += len;
-        if (total > INT32_MAX) {
-            return JO_OUTPUT_TOO_LONG_INT32;
-        }
+    size_t total = 0;
+    int32_t ret = chain_encoded_length(entry->certificate_chain, &total);
+    if (UNSUCCESSFUL(ret)) {
+        return ret;
     }
 
-    uint8_t *encoded = OPENSSL_zalloc((size_t) total);
+    uint8_t *encoded = OPENSSL_zalloc(total);
     jo_assert(encoded != NULL);
 
-    unsigned char *p = encoded;
-    for (int i = 0; i < sk_X509_num(entry->certificate_chain); i++) {
-        if (i2d_X509(sk_X509_value(entry->certificate_chain, i), &p) <= 0) {
-            OPENSSL_free(encoded);
-            return JO_FAIL;
-        }
+    ret = encode_chain(entry->certificate_chain, encoded);
+    if (UNSUCCESSFUL(ret)) {
+        OPENSSL_free(encoded);
+        return ret;
     }
 
     *out = encoded;
-    *out_len = (size_t) total;
+    *out_len = total;
     return JO_SUCCESS;
 }
 
@@ -1187,6 +1216,103 @@ int32_t ks_get_aliases(ks_ctx *ctx, uint8_t **out, size_t *out_len) {
     return JO_SUCCESS;
 }
 
+/*
+ * Encode the entries of ctx, or only the one under alias if alias is not NULL,
+ * in the ks_get_entries format.
+ */
+static int32_t encode_entries(ks_ctx *ctx, const char *alias, uint8_t **out, size_t *out_len) {
+    *out = NULL;
+    *out_len = 0;
+
+    /*
+     * u32 count, then per entry: u32 alias length, alias, u8 KS_ENTRY_* flags,
+     * i64 creation time, u32 chain length, chain as concatenated DER. All
+     * integers are big-endian.
+     */
+    uint32_t count = 0;
+    size_t total = 4;
+    for (ks_entry *entry = ctx->entries; entry != NULL; entry = entry->next) {
+        if (entry->alias == NULL || (alias != NULL && strcmp(entry->alias, alias) != 0)) {
+            continue;
+        }
+        size_t alias_len = strlen(entry->alias);
+        size_t chain_len = 0;
+        int32_t ret = chain_encoded_length(entry->certificate_chain, &chain_len);
+        if (UNSUCCESSFUL(ret)) {
+            return ret;
+        }
+        if (alias_len > UINT32_MAX || total > SIZE_MAX - 17 - alias_len
+                || total + 17 + alias_len > SIZE_MAX - chain_len) {
+            return JO_OUTPUT_TOO_LONG_INT32;
+        }
+        total += 17 + alias_len + chain_len;
+        count++;
+    }
+
+    uint8_t *encoded = OPENSSL_zalloc(total);
+    jo_assert(encoded != NULL);
+    size_t offset = 0;
+    write_u32_be(encoded + offset, count);
+    offset += 4;
+    for (ks_entry *entry = ctx->entries; entry != NULL; entry = entry->next) {
+        if (entry->alias == NULL || (alias != NULL && strcmp(entry->alias, alias) != 0)) {
+            continue;
+        }
+        size_t alias_len = strlen(entry->alias);
+        size_t chain_len = 0;
+        int32_t ret = chain_encoded_length(entry->certificate_chain, &chain_len);
+        if (SUCCESSFUL(ret)) {
+            ret = encode_chain(entry->certificate_chain, encoded + offset + 17 + alias_len);
+        }
+        if (UNSUCCESSFUL(ret)) {
+            OPENSSL_clear_free(encoded, total);
+            return ret;
+        }
+
+        uint8_t flags = 0;
+        if (entry->key != NULL) {
+            flags |= KS_ENTRY_KEY;
+        } else if (entry->certificate_entry) {
+            flags |= KS_ENTRY_CERTIFICATE;
+        }
+
+        write_u32_be(encoded + offset, (uint32_t) alias_len);
+        offset += 4;
+        memcpy(encoded + offset, entry->alias, alias_len);
+        offset += alias_len;
+        encoded[offset++] = flags;
+        write_u64_be(encoded + offset, (uint64_t) entry->creation_time);
+        offset += 8;
+        write_u32_be(encoded + offset, (uint32_t) chain_len);
+        offset += 4 + chain_len;
+    }
+
+    *out = encoded;
+    *out_len = total;
+    return JO_SUCCESS;
+}
+
+int32_t ks_get_entries(ks_ctx *ctx, uint8_t **out, size_t *out_len) {
+    jo_assert(ctx != NULL);
+    jo_assert(out != NULL);
+    jo_assert(out_len != NULL);
+
+    return encode_entries(ctx, NULL, out, out_len);
+}
+
+/*
+ * The entry under alias in the ks_get_entries format, a count of zero if there
+ * is none, so a caller can refresh one alias without exporting the store.
+ */
+int32_t ks_get_entry(ks_ctx *ctx, const char *alias, uint8_t **out, size_t *out_len) {
+    jo_assert(ctx != NULL);
+    jo_assert(alias != NULL);
+    jo_assert(out != NULL);
+    jo_assert(out_len != NULL);
+
+    return encode_entries(ctx, alias, out, out_len);
+}
+
 int32_t ks_contains_alias(ks_ctx *ctx, const char *alias) {
     jo_assert(ctx != NULL);
     jo_assert(alias != NULL);
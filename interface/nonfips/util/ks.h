@@ -72,6 +72,15 @@ typedef enum ks_md_e {
     KS_MD_SHA512 = 3
 } ks_md;
 
+/*
+ * Entry type flags in the ks_get_entries encoding, matching ks_is_key_entry
+ * and ks_is_certificate_entry.
+ */
+typedef enum ks_entry_flag_e {
+    KS_ENTRY_KEY = 1,
+    KS_ENTRY_CERTIFICATE = 2
+} ks_entry_flag;
+
 ks_ctx *ks_allocate(const char *type, int32_t *err);
 
 void ks_free(ks_ctx *ctx);
@@ -101,6 +110,10 @@ int32_t ks_delete_entry(ks_ctx *ctx, const char *alias);
 
 int32_t ks_get_aliases(ks_ctx *ctx, uint8_t **out, size_t *out_len);
 
+int32_t ks_get_entries(ks_ctx *ctx, uint8_t **out, size_t *out_len);
+
+int32_t ks_get_entry(ks_ctx *ctx, const char *alias, uint8_t **out, size_t *out_len);
+
 int32_t ks_contains_alias(ks_ctx *ctx, const char *alias);
 
 int32_t ks_size(ks_ctx *ctx);
@@ -14,6 +14,7 @@
 #include <openssl/err.h>
 
 #include "bc_err_codes.h"
+#include "fetch_cache.h"
 #include "key_spec.h"
 #include "ops.h"
 #include "jo_assert.h"
@@ -75,7 +76,7 @@ int setup_hash(int hash, int32_t *ret_code, EVP_MD_CTX **ctx) {
     }
 
     if (hash == MLDSA_HASH_NONE) {
-        EVP_MD *evp_md = EVP_MD_fetch(get_global_jostle_ossl_lib_ctx(), "SHAKE-256",NULL);
+        EVP_MD *evp_md = fetch_cache_md(get_global_jostle_ossl_lib_ctx(), "SHAKE-256", NULL);
         jo_assert(evp_md != NULL);
         const int init_ok = EVP_DigestInit_ex2(*ctx, evp_md, NULL);
         EVP_MD_free(evp_md);
@@ -147,7 +148,7 @@ int extract_tr(const key_spec *key_spec, int32_t type, uint8_t *tr, int32_t *ret
         goto exit;
     }
 
-    evp_md = EVP_MD_fetch(get_global_jostle_ossl_lib_ctx(), "SHAKE-256",NULL);
+    evp_md = fetch_cache_md(get_global_jostle_ossl_lib_ctx(), "SHAKE-256", NULL);
     jo_assert(evp_md != NULL);
 
     if (OPS_FAILED_INIT_1 1 != EVP_DigestInit_ex2(shake, evp_md, NULL)) {
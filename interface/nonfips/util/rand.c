@@ -39,6 +39,8 @@ static char *rand_provider_name = NULL;
 struct jo_rand_ctx_st {
     EVP_RAND_CTX *evp_ctx;
     size_t max_request;
+    unsigned int strength;
+    int prediction_resistant;
 };
 
 static unsigned int rand_strength(int32_t strength) {
@@ -209,6 +211,10 @@ JO_RAND_CTX *rand_ctx_create(const char *mechanism, const char *variant, int use
         ctx->max_request = RAND_MAX_REQUEST;
     }
 
+    // Instance defaults, rand_ctx_fill draws with these.
+    ctx->strength = rand_strength(strength);
+    ctx->prediction_resistant = prediction_resistant != 0;
+
     *err = JO_SUCCESS;
     return ctx;
 }
@@ -267,6 +273,50 @@ int32_t rand_ctx_random_bytes(JO_RAND_CTX *ctx, uint8_t *output,
     return JO_SUCCESS;
 }
 
+int32_t rand_ctx_fill(JO_RAND_CTX *ctx, uint8_t *output, size_t output_len,
+                      unsigned int strength, int prediction_resistant) {
+    jo_assert(ctx != NULL);
+    jo_assert(output != NULL || output_len == 0);
+
+    //
+    // Called from inside another provider's generate(), so the error queue
+    // belongs to the operation in flight and is not cleared here. Strength and
+    // prediction resistance follow what the Java RandSource would do with the
+    // same request: refuse a stronger request, reseed for prediction
+    // resistance the instance does not have.
+    //
+    if (strength > ctx->strength) {
+        return JO_RAND_INSUFFICIENT_STRENGTH;
+    }
+
+    if (EVP_RAND_get_state(ctx->evp_ctx) != EVP_RAND_STATE_READY) {
+        return JO_UNEXPECTED_STATE;
+    }
+
+    if (prediction_resistant && !ctx->prediction_resistant) {
+        if (1 != EVP_RAND_reseed(ctx->evp_ctx, 0, NULL, 0, NULL, 0)) {
+            return JO_RAND_RESEED;
+        }
+    }
+
+    uint8_t *out = output;
+    size_t remaining = output_len;
+
+    while (remaining > 0) {
+        size_t request = remaining > ctx->max_request ? ctx->max_request : remaining;
+
+        if (1 != EVP_RAND_generate(ctx->evp_ctx, out, request, ctx->strength,
+                                   ctx->prediction_resistant, NULL, 0)) {
+            return JO_OPENSSL_ERROR;
+        }
+
+        out += request;
+        remaining -= request;
+    }
+
+    return JO_SUCCESS;
+}
+
 int32_t rand_ctx_reseed(JO_RAND_CTX *ctx, int32_t strength,
                         int prediction_resistant,
                         const uint8_t *additional_input,
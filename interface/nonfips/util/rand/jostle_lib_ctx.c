@@ -13,6 +13,7 @@
 #include <openssl/rand.h>
 
 #include "../bc_err_codes.h"
+#include "../fetch_cache.h"
 #include "../jo_assert.h"
 #include "../macros.h"
 #include "../ops.h"
@@ -20,6 +21,20 @@
 
 static jostle_lib_ctx *global_rand_ctx = NULL;
 static CRYPTO_THREAD_LOCAL java_srand_id;
+static CRYPTO_THREAD_LOCAL up_call_buffer_id;
+
+// Prefetch size for up-calls, 0 = every draw crosses into Java.
+static size_t up_call_block = 0;
+
+// Per thread prefetch for one RandSource, emptied whenever the up-call
+// target is bound or cleared so bytes never outlive the entry point that
+// fetched them. The unread bytes are the last avail bytes of the block.
+typedef struct up_call_buffer_st {
+    size_t size;
+    size_t avail;
+    unsigned int strength;
+    unsigned char bytes[];
+} up_call_buffer;
 
 
 // OSSL_FUNC_PROVIDER_TEARDOWN
@@ -58,6 +73,65 @@ static int free_rand(void *vdrbg) {
 }
 
 
+static void up_call_buffer_free(void *vbuf) {
+    up_call_buffer *buf = vbuf;
+    if (buf != NULL) {
+        OPENSSL_clear_free(buf, sizeof(*buf) + buf->size);
+    }
+}
+
+static void up_call_buffer_reset(void) {
+    up_call_buffer *buf = CRYPTO_THREAD_get_local(&up_call_buffer_id);
+    if (buf != NULL && buf->avail > 0) {
+        OPENSSL_cleanse(buf->bytes, buf->size);
+        buf->avail = 0;
+    }
+}
+
+// Serve small draws for a Java RandSource from a block fetched in one
+// up-call. Prediction resistant draws and draws of a block or more always
+// go straight to the up-call.
+static int buffered_up_call(void *rand_src,
+                            unsigned char *out, size_t outlen,
+                            unsigned int strength, int prediction_resistance,
+                            const unsigned char *adin, size_t adin_len) {
+    size_t block = up_call_block;
+
+    if (block == 0 || outlen >= block || prediction_resistance) {
+        return rand_up_call_next_bytes(rand_src, out, outlen, strength, prediction_resistance, adin, adin_len);
+    }
+
+    up_call_buffer *buf = CRYPTO_THREAD_get_local(&up_call_buffer_id);
+    if (buf == NULL || buf->size != block) {
+        up_call_buffer_free(buf);
+        buf = OPENSSL_zalloc(sizeof(*buf) + block);
+        jo_assert(buf != NULL);
+        buf->size = block;
+        jo_assert(CRYPTO_THREAD_set_local(&up_call_buffer_id, buf) != 0);
+    }
+
+    if (buf->avail < outlen || strength > buf->strength) {
+        OPENSSL_cleanse(buf->bytes, buf->size);
+        buf->avail = 0;
+
+        int rc = rand_up_call_next_bytes(rand_src, buf->bytes, buf->size, strength, 0, adin, adin_len);
+        if (rc < 0) {
+            return rc;
+        }
+
+        buf->avail = buf->size;
+        buf->strength = strength;
+    }
+
+    unsigned char *from = buf->bytes + (buf->size - buf->avail);
+    memcpy(out, from, outlen);
+    OPENSSL_cleanse(from, outlen);
+    buf->avail -= outlen;
+
+    return (int) outlen;
+}
+
+
 // OSSL_FUNC_RAND_GENERATE
 // out == NULL: no-op success (treat as "ready" probe).
 // OPS_OPENSSL_ERROR_1 forces entry with NULL src; OPS_OPENSSL_ERROR_2 forces
@@ -73,7 +147,12 @@ static int generate(void *vdrbg,
         void *rand_src = CRYPTO_THREAD_get_local(&java_srand_id);
 
         if (OPS_OPENSSL_ERROR_1 rand_src != NULL) {
-            int rc = rand_up_call_next_bytes(rand_src, out, outlen, strength, prediction_resistance, adin, adin_len);
+            // A RandSource over a Jostle DRBG is served natively, anything
+            // else goes up to Java.
+            int rc = rand_up_call_direct_bytes(rand_src, out, outlen, strength, prediction_resistance);
+            if (rc == 0) {
+                rc = buffered_up_call(rand_src, out, outlen, strength, prediction_resistance, adin, adin_len);
+            }
             if (OPS_OPENSSL_ERROR_2 rc < 0) {
                 ERR_raise_data(ERR_LIB_RAND, ERR_R_RAND_LIB, "rand up-call failed with code %d", rc);
                 return 0;
@@ -306,6 +385,8 @@ void jostle_ctx_destroy(jostle_lib_ctx *ctx) {
     // per-thread bridge DRBGs (RAND_set_DRBG_type leaves ownership with the
     // lib ctx; nothing here holds an EVP_RAND_CTX ref).
     if (ctx->ossl_libctx != NULL) {
+        // Cached algorithm objects are keyed by this address, drop them first.
+        fetch_cache_flush(ctx->ossl_libctx);
         OSSL_LIB_CTX_free(ctx->ossl_libctx);
     }
     OPENSSL_free(ctx);
@@ -313,7 +394,8 @@ void jostle_ctx_destroy(jostle_lib_ctx *ctx) {
 
 // No provider-unload path today. State held for JVM lifetime, freed at JVM
 // shutdown. Future teardown must: clear global_rand_ctx, jostle_ctx_destroy,
-// DeleteGlobalRef target_class, CRYPTO_THREAD_cleanup_local java_srand_id.
+// DeleteGlobalRef target_class / direct_class, CRYPTO_THREAD_cleanup_local
+// java_srand_id and up_call_buffer_id.
 
 
 // CRYPTO_THREAD_init_local is UB on re-init; guard with run_once.
@@ -321,7 +403,8 @@ static CRYPTO_ONCE init_local_once = CRYPTO_ONCE_STATIC_INIT;
 static int init_local_ok = 0;
 
 static void init_thread_local_once(void) {
-    if (1 == CRYPTO_THREAD_init_local(&java_srand_id, NULL)) {
+    if (1 == CRYPTO_THREAD_init_local(&java_srand_id, NULL)
+        && 1 == CRYPTO_THREAD_init_local(&up_call_buffer_id, up_call_buffer_free)) {
         init_local_ok = 1;
     }
 }
@@ -370,12 +453,17 @@ OSSL_LIB_CTX *get_global_jostle_ossl_lib_ctx(void) {
  */
 void rand_set_java_srand_call(void *target) {
     jo_assert(target != NULL);
+    up_call_buffer_reset();
     jo_assert(CRYPTO_THREAD_set_local(&java_srand_id, target)!=0);
 }
 
 void rand_clear_java_srand_call(void) {
+    up_call_buffer_reset();
     // NULL is a legal thread-local value; generate() (nonfips bridge)
     // treats it as "no up-call target" and fails the draw typed.
     jo_assert(CRYPTO_THREAD_set_local(&java_srand_id, NULL) != 0);
 }
 
+void rand_set_up_call_block(size_t block) {
+    up_call_block = block > RAND_UP_CALL_MAX_BLOCK ? RAND_UP_CALL_MAX_BLOCK : block;
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openssl.jostle.jcajce.provider.NISelector;
+import org.openssl.jostle.jcajce.provider.kdf.MemoryHardKdfNI;
+import org.openssl.jostle.jcajce.spec.Argon2KeySpec;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Argon2id derivation at 64 MiB and 3 passes for 1 to 8 lanes, single threaded
+ * and with one thread per lane. The thread count is passed straight to the
+ * native interface, it is what "org.openssl.jostle.argon2.threads" sets for
+ * the SecretKeyFactory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Argon2Benchmark
+{
+    private static final int MEMORY_KIB = 64 * 1024;
+    private static final int ITERATIONS = 3;
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8"})
+    public int lanes;
+
+    @Param({"1", "8"})
+    public int threads;
+
+    private MemoryHardKdfNI kdfNI;
+    private byte[] password;
+    private byte[] salt;
+    private byte[] output;
+
+    @Setup
+    public void setup()
+    {
+        BenchProviders.install();
+
+        kdfNI = NISelector.getMemoryHardKdfNI();
+        password = BenchProviders.data(16);
+        salt = BenchProviders.data(16);
+        output = new byte[32];
+    }
+
+    @Benchmark
+    public byte[] derive()
+    {
+        kdfNI.handleErrorCodes(kdfNI.argon2(password, salt, Argon2KeySpec.ARGON2_id,
+                Argon2KeySpec.ARGON2_VERSION_13, ITERATIONS, MEMORY_KIB, lanes, threads,
+                output, 0, output.length));
+        return output;
+    }
+}
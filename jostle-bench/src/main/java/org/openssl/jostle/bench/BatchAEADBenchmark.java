@@ -0,0 +1,110 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openssl.jostle.jcajce.BatchAEAD;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many short AES-GCM records, each with its own nonce and associated data: one
+ * Cipher init / updateAAD / doFinal per record against BatchAEAD sealing the
+ * whole set in one native call. Scores are per record.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class BatchAEADBenchmark
+{
+    private static final int RECORDS = 256;
+    private static final int AAD = 13;
+
+    @Param({"JSL", "JDK"})
+    public String provider;
+
+    @Param({"64", "512", "1400"})
+    public int size;
+
+    private Cipher cipher;
+    private SecretKeySpec key;
+    private BatchAEAD batch;
+    private byte[] nonces;
+    private byte[] aad;
+    private byte[] input;
+    private int[] spans;
+    private byte[] output;
+
+    @Setup
+    public void setup()
+            throws Exception
+    {
+        key = new SecretKeySpec(BenchProviders.data(16), "AES");
+        cipher = Cipher.getInstance("AES/GCM/NoPadding", BenchProviders.resolve(provider, "Cipher", "AES/GCM/NoPadding"));
+
+        // The batch API is JSL only, the JDK rows are the per-record baseline.
+        batch = BatchAEAD.getInstance("AES/GCM/NoPadding", BenchProviders.resolve(BenchProviders.JSL, "Cipher", "AES/GCM/NoPadding"));
+        batch.init(key);
+
+        nonces = BenchProviders.data(RECORDS * BatchAEAD.NONCE_LENGTH);
+        aad = BenchProviders.data(RECORDS * AAD);
+        input = BenchProviders.data(RECORDS * size);
+        spans = new int[4 * RECORDS];
+        for (int i = 0; i < RECORDS; i++)
+        {
+            spans[4 * i] = i * AAD;
+            spans[4 * i + 1] = AAD;
+            spans[4 * i + 2] = i * size;
+            spans[4 * i + 3] = size;
+        }
+        output = new byte[BatchAEAD.getSealOutputSize(spans, RECORDS)];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public byte[] sealPerRecord()
+            throws Exception
+    {
+        int outOff = 0;
+        for (int i = 0; i < RECORDS; i++)
+        {
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, nonces, i * BatchAEAD.NONCE_LENGTH, BatchAEAD.NONCE_LENGTH));
+            cipher.updateAAD(aad, i * AAD, AAD);
+            outOff += cipher.doFinal(input, i * size, size, output, outOff);
+        }
+        return output;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public byte[] sealBatch()
+    {
+        batch.seal(nonces, aad, input, spans, RECORDS, output, 0);
+        return output;
+    }
+}
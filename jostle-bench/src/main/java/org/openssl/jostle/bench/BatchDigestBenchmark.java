@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openssl.jostle.jcajce.BatchDigest;
+import org.openssl.jostle.jcajce.BatchMac;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many short independent messages: one MessageDigest / Mac call per message
+ * against BatchDigest / BatchMac hashing the whole set in one native call.
+ * Scores are per message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class BatchDigestBenchmark
+{
+    private static final int MESSAGES = 1024;
+
+    @Param({"JSL", "JDK"})
+    public String provider;
+
+    @Param({"32", "64", "256"})
+    public int size;
+
+    private MessageDigest digest;
+    private Mac mac;
+    private BatchDigest batchDigest;
+    private BatchMac batchMac;
+    private byte[] input;
+    private int[] spans;
+    private byte[] output;
+
+    @Setup
+    public void setup()
+            throws Exception
+    {
+        digest = MessageDigest.getInstance("SHA-256", BenchProviders.resolve(provider, "MessageDigest", "SHA-256"));
+        mac = Mac.getInstance("HmacSHA256", BenchProviders.resolve(provider, "Mac", "HmacSHA256"));
+        SecretKeySpec key = new SecretKeySpec(BenchProviders.data(32), "HmacSHA256");
+        mac.init(key);
+
+        // The batch API is JSL only, the JDK rows are the per-message baseline.
+        batchDigest = BatchDigest.getInstance("SHA-256", BenchProviders.resolve(BenchProviders.JSL, "MessageDigest", "SHA-256"));
+        batchMac = BatchMac.getInstance("HmacSHA256", BenchProviders.resolve(BenchProviders.JSL, "Mac", "HmacSHA256"));
+        batchMac.init(key);
+
+        input = BenchProviders.data(MESSAGES * size);
+        spans = new int[2 * MESSAGES];
+        for (int i = 0; i < MESSAGES; i++)
+        {
+            spans[2 * i] = i * size;
+            spans[2 * i + 1] = size;
+        }
+        output = new byte[MESSAGES * 32];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public byte[] digestPerMessage()
+            throws Exception
+    {
+        for (int i = 0; i < MESSAGES; i++)
+        {
+            digest.update(input, i * size, size);
+            digest.digest(output, i * 32, 32);
+        }
+        return output;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public byte[] digestBatch()
+    {
+        batchDigest.digest(input, spans, MESSAGES, output, 0);
+        return output;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public byte[] macPerMessage()
+            throws Exception
+    {
+        for (int i = 0; i < MESSAGES; i++)
+        {
+            mac.update(input, i * size, size);
+            mac.doFinal(output, i * 32);
+        }
+        return output;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public byte[] macBatch()
+    {
+        batchMac.doFinal(input, spans, MESSAGES, output, 0);
+        return output;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.bench;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openssl.jostle.Loader;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Security;
+import java.util.Random;
+
+/**
+ * Provider resolution shared by the benchmarks.
+ * <p>
+ * Each benchmark is parameterised by a provider label rather than a provider name:
+ * <ul>
+ *     <li>"JSL" - the Jostle provider, using whichever interface the Loader selected,</li>
+ *     <li>"JDK" - the first installed JDK provider (SunJCE, SunEC, SUN, SunRsaSign ...)
+ *     that serves the algorithm,</li>
+ *     <li>"BC" - BouncyCastle, used where the JDK has no equivalent service.</li>
+ * </ul>
+ * If a provider does not serve an algorithm the benchmark setup fails and JMH moves
+ * on to the next parameter combination.
+ */
+public final class BenchProviders
+{
+    public static final String JSL = "JSL";
+    public static final String JDK = "JDK";
+    public static final String BC = "BC";
+
+    private static final String INTERFACE_PROPERTY = "org.openssl.jostle.loader.interface";
+
+    private BenchProviders()
+    {
+
+    }
+
+    /**
+     * Install the JSL and BC providers if they are not already installed and confirm
+     * the Loader resolved the interface the benchmark run asked for.
+     */
+    public static synchronized void install()
+    {
+        if (Security.getProvider(JostleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new JostleProvider());
+        }
+
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+
+        String requested = System.getProperty(INTERFACE_PROPERTY);
+        if (requested != null && !"auto".equalsIgnoreCase(requested)
+                && !requested.equalsIgnoreCase(Loader.getInterfaceTypeName()))
+        {
+            throw new IllegalStateException("requested interface " + requested + " but loader selected "
+                    + Loader.getInterfaceTypeName() + ": " + Loader.getMessage());
+        }
+    }
+
+    /**
+     * Resolve a provider label to an installed provider serving type/algorithm.
+     *
+     * @param label     JSL, JDK or BC
+     * @param type      the service type, eg "Cipher"
+     * @param algorithm the algorithm name
+     * @return the provider
+     * @throws NoSuchAlgorithmException if no provider for that label serves the algorithm
+     */
+    public static Provider resolve(String label, String type, String algorithm)
+            throws NoSuchAlgorithmException
+    {
+        install();
+
+        if (JSL.equals(label) || BC.equals(label))
+        {
+            Provider p = Security.getProvider(JSL.equals(label) ? JostleProvider.PROVIDER_NAME : BouncyCastleProvider.PROVIDER_NAME);
+            if (!serves(p, type, algorithm))
+            {
+                throw new NoSuchAlgorithmException(label + " does not support " + type + "." + algorithm);
+            }
+            return p;
+        }
+
+        if (JDK.equals(label))
+        {
+            for (Provider p : Security.getProviders())
+            {
+                if (JostleProvider.PROVIDER_NAME.equals(p.getName()) || BouncyCastleProvider.PROVIDER_NAME.equals(p.getName()))
+                {
+                    continue;
+                }
+                if (serves(p, type, algorithm))
+                {
+                    return p;
+                }
+            }
+            throw new NoSuchAlgorithmException("JDK does not support " + type + "." + algorithm);
+        }
+
+        throw new IllegalArgumentException("unknown provider label " + label);
+    }
+
+    /**
+     * A Cipher transformation may be served by its base algorithm, eg "AES/GCM/NoPadding" by "AES",
+     * unsupported modes are left to fail in Cipher.getInstance().
+     */
+    private static boolean serves(Provider p, String type, String algorithm)
+    {
+        if (p.getService(type, algorithm) != null)
+        {
+            return true;
+        }
+
+        int slash = algorithm.indexOf('/');
+        return "Cipher".equals(type) && slash > 0 && p.getService(type, algorithm.substring(0, slash)) != null;
+    }
+
+    /**
+     * Deterministic filler for benchmark inputs, the content does not matter only the length.
+     */
+    public static byte[] data(int len)
+    {
+        byte[] b = new byte[len];
+        new Random(len).nextBytes(b);
+        return b;
+    }
+}
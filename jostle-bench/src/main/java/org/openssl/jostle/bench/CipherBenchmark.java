@@ -0,0 +1,124 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cipher encrypt and decrypt, one init + doFinal per operation.
+ * <p>
+ * Covers BlockCipherSpi (GCM, CBC, CTR), CCMCipherSpi and ChaCha20Poly1305CipherSpi.
+ * Encryption uses a fresh IV per operation as the AEAD modes refuse IV reuse,
+ * decryption replays a ciphertext prepared during setup. The JDK has no AES/CCM
+ * so that combination only runs for JSL.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class CipherBenchmark
+{
+    @Param({"JSL", "JDK"})
+    public String provider;
+
+    @Param({"AES/GCM/NoPadding", "AES/CBC/PKCS5Padding", "AES/CTR/NoPadding", "AES/CCM/NoPadding", "ChaCha20-Poly1305"})
+    public String transformation;
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216"})
+    public int size;
+
+    private Cipher encryptor;
+    private Cipher decryptor;
+    private SecretKeySpec key;
+    private byte[] iv;
+    private long ivCounter;
+    private byte[] input;
+    private byte[] cipherText;
+    private int cipherTextLen;
+    private byte[] output;
+
+    @Setup
+    public void setup()
+            throws Exception
+    {
+        boolean chacha = transformation.startsWith("ChaCha20");
+        key = new SecretKeySpec(BenchProviders.data(32), chacha ? "ChaCha20" : "AES");
+        iv = new byte[transformation.contains("/CBC/") || transformation.contains("/CTR/") ? 16 : 12];
+
+        encryptor = Cipher.getInstance(transformation, BenchProviders.resolve(provider, "Cipher", transformation));
+        decryptor = Cipher.getInstance(transformation, encryptor.getProvider());
+
+        input = BenchProviders.data(size);
+
+        encryptor.init(Cipher.ENCRYPT_MODE, key, spec(iv));
+        cipherText = new byte[encryptor.getOutputSize(size)];
+        cipherTextLen = encryptor.doFinal(input, 0, input.length, cipherText, 0);
+
+        output = new byte[Math.max(cipherText.length, size + 16)];
+    }
+
+    private AlgorithmParameterSpec spec(byte[] iv)
+    {
+        if (transformation.contains("/GCM/") || transformation.contains("/CCM/"))
+        {
+            return new GCMParameterSpec(128, iv);
+        }
+        return new IvParameterSpec(iv);
+    }
+
+    private byte[] nextIv()
+    {
+        byte[] next = new byte[iv.length];
+        long c = ++ivCounter;
+        for (int i = 0; i < 8; i++)
+        {
+            next[next.length - 1 - i] = (byte)(c >>> (8 * i));
+        }
+        return next;
+    }
+
+    @Benchmark
+    public byte[] encrypt()
+            throws Exception
+    {
+        encryptor.init(Cipher.ENCRYPT_MODE, key, spec(nextIv()));
+        encryptor.doFinal(input, 0, input.length, output, 0);
+        return output;
+    }
+
+    @Benchmark
+    public byte[] decrypt()
+            throws Exception
+    {
+        decryptor.init(Cipher.DECRYPT_MODE, key, spec(iv));
+        decryptor.doFinal(cipherText, 0, cipherTextLen, output, 0);
+        return output;
+    }
+}
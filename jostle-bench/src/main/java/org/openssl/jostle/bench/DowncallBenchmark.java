@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openssl.jostle.jcajce.provider.NISelector;
+import org.openssl.jostle.jcajce.provider.blockcipher.OSSLCipher;
+import org.openssl.jostle.jcajce.provider.blockcipher.OSSLMode;
+
+import javax.crypto.Cipher;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single downcalls through the native interface, below the JCA layer, so the
+ * JNI and FFI bindings can be compared on the calls every service makes:
+ * context and signer allocation with an error out parameter, a small cipher
+ * update and a small DRBG request.
+ * <p>
+ * Run under both interfaces with the GC profiler and compare gc.alloc.rate.norm.
+ * The FFI allocation paths take their error slot and names from FFIScratch
+ * rather than a confined arena, the DRBG request keeps its arena because
+ * generation can call back into Java:
+ * <pre>
+ * ./gradlew :jostle-bench:jmhFFI -Pjmh.include=Downcall -Pjmh.args="-prof gc"
+ * ./gradlew :jostle-bench:jmhJNI -Pjmh.include=Downcall -Pjmh.args="-prof gc"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class DowncallBenchmark
+{
+    private long cipherRef;
+    private long randRef;
+
+    private final byte[] block = new byte[16];
+    private final byte[] out = new byte[32];
+
+    @Setup
+    public void setup()
+            throws Exception
+    {
+        // Loads the interface library.
+        BenchProviders.install();
+
+        cipherRef = NISelector.getBlockCipherNI().makeInstance(OSSLCipher.AES128.ordinal(), OSSLMode.CTR.ordinal(), 0);
+        NISelector.getBlockCipherNI().init(cipherRef, Cipher.ENCRYPT_MODE, new byte[16], new byte[16], 0);
+
+        randRef = NISelector.getRandServiceNI().createContext("CTR-DRBG", "AES-256-CTR", true, 256, false, null);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        NISelector.getBlockCipherNI().dispose(cipherRef);
+        NISelector.getRandServiceNI().disposeContext(randRef);
+    }
+
+    @Benchmark
+    public long cipherMakeInstance()
+    {
+        long ref = NISelector.getBlockCipherNI().makeInstance(OSSLCipher.AES128.ordinal(), OSSLMode.CBC.ordinal(), 1);
+        NISelector.getBlockCipherNI().dispose(ref);
+        return ref;
+    }
+
+    @Benchmark
+    public long digestAllocate()
+    {
+        long ref = NISelector.getMDServiceNI().allocateDigest("SHA2-256", 0);
+        NISelector.getMDServiceNI().dispose(ref);
+        return ref;
+    }
+
+    @Benchmark
+    public long macAllocate()
+    {
+        long ref = NISelector.getMacServiceNI().allocateMac("HMAC", "SHA2-256");
+        NISelector.getMacServiceNI().dispose(ref);
+        return ref;
+    }
+
+    @Benchmark
+    public long signerAllocate()
+    {
+        long ref = NISelector.getECServiceNI().allocateSigner();
+        NISelector.getECServiceNI().disposeSigner(ref);
+        return ref;
+    }
+
+    @Benchmark
+    public int cipherUpdate()
+            throws Exception
+    {
+        return NISelector.getBlockCipherNI().update(cipherRef, out, 0, block, 0, block.length);
+    }
+
+    @Benchmark
+    public byte[] randomBytes()
+    {
+        NISelector.getRandServiceNI().contextRandomBytes(randRef, out, out.length, 256, false, null);
+        return out;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.bench;
+
+import org.bouncycastle.asn1.nist.NISTObjectIdentifiers;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+import org.bouncycastle.asn1.x9.X9ObjectIdentifiers;
+import org.bouncycastle.jcajce.spec.KTSParameterSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Provider;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ML-KEM key transport (MLKEMKTSCipherSpi) wrap and unwrap of a 256 bit AES key
+ * using AES-KW and KDF3(SHA-256).
+ * <p>
+ * The JDK has no KTS Cipher for ML-KEM so BouncyCastle's MLKEMCipherSpi, which
+ * resolves to the same configuration, is the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class KEMBenchmark
+{
+    @Param({"JSL", "BC"})
+    public String provider;
+
+    @Param({"ML-KEM-512", "ML-KEM-768", "ML-KEM-1024"})
+    public String parameterSet;
+
+    private Cipher wrapper;
+    private Cipher unwrapper;
+    private KeyPair keyPair;
+    private KTSParameterSpec spec;
+    private SecretKeySpec cek;
+    private byte[] wrapped;
+
+    @Setup
+    public void setup()
+            throws Exception
+    {
+        Provider prov = BenchProviders.resolve(provider, "Cipher", "ML-KEM");
+
+        keyPair = KeyPairGenerator.getInstance(parameterSet, prov).generateKeyPair();
+        spec = new KTSParameterSpec.Builder("AES", 256, BenchProviders.data(16))
+                .withKdfAlgorithm(new AlgorithmIdentifier(X9ObjectIdentifiers.id_kdf_kdf3,
+                        new AlgorithmIdentifier(NISTObjectIdentifiers.id_sha256)))
+                .build();
+        cek = new SecretKeySpec(BenchProviders.data(32), "AES");
+
+        wrapper = Cipher.getInstance("ML-KEM", prov);
+        unwrapper = Cipher.getInstance("ML-KEM", prov);
+
+        wrapper.init(Cipher.WRAP_MODE, keyPair.getPublic(), spec);
+        wrapped = wrapper.wrap(cek);
+    }
+
+    @Benchmark
+    public byte[] wrap()
+            throws Exception
+    {
+        wrapper.init(Cipher.WRAP_MODE, keyPair.getPublic(), spec);
+        return wrapper.wrap(cek);
+    }
+
+    @Benchmark
+    public Key unwrap()
+            throws Exception
+    {
+        unwrapper.init(Cipher.UNWRAP_MODE, keyPair.getPrivate(), spec);
+        return unwrapper.unwrap(wrapped, "AES", Cipher.SECRET_KEY);
+    }
+}
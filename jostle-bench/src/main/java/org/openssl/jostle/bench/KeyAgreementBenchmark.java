@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.KeyAgreement;
+import javax.crypto.interfaces.DHPublicKey;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Provider;
+import java.security.spec.ECGenParameterSpec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KeyAgreement init + doPhase + generateSecret between two fixed key pairs.
+ * <p>
+ * Covers ECDH (P-256), X25519 and finite field DH (2048 bit).
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class KeyAgreementBenchmark
+{
+    @Param({"JSL", "JDK"})
+    public String provider;
+
+    @Param({"ECDH", "X25519", "DH"})
+    public String algorithm;
+
+    private KeyAgreement agreement;
+    private KeyPair ours;
+    private KeyPair theirs;
+
+    @Setup
+    public void setup()
+            throws Exception
+    {
+        Provider prov = BenchProviders.resolve(provider, "KeyAgreement", algorithm);
+
+        KeyPairGenerator kpg;
+        if ("ECDH".equals(algorithm))
+        {
+            kpg = KeyPairGenerator.getInstance("EC", prov);
+            kpg.initialize(new ECGenParameterSpec("secp256r1"));
+        }
+        else if ("DH".equals(algorithm))
+        {
+            kpg = KeyPairGenerator.getInstance("DH", prov);
+            kpg.initialize(2048);
+        }
+        else
+        {
+            kpg = KeyPairGenerator.getInstance(algorithm, prov);
+        }
+
+        ours = kpg.generateKeyPair();
+        if ("DH".equals(algorithm))
+        {
+            // Peer must share the domain parameters.
+            kpg.initialize(((DHPublicKey)ours.getPublic()).getParams());
+        }
+        theirs = kpg.generateKeyPair();
+
+        agreement = KeyAgreement.getInstance(algorithm, prov);
+    }
+
+    @Benchmark
+    public byte[] agree()
+            throws Exception
+    {
+        agreement.init(ours.getPrivate());
+        agreement.doPhase(theirs.getPublic(), true);
+        return agreement.generateSecret();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MessageDigest (MDServiceSPI) update + digest over a single buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MessageDigestBenchmark
+{
+    @Param({"JSL", "JDK"})
+    public String provider;
+
+    @Param({"SHA-256", "SHA-512", "SHA3-256"})
+    public String algorithm;
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216"})
+    public int size;
+
+    private MessageDigest digest;
+    private byte[] input;
+    private byte[] output;
+
+    @Setup
+    public void setup()
+            throws Exception
+    {
+        digest = MessageDigest.getInstance(algorithm, BenchProviders.resolve(provider, "MessageDigest", algorithm));
+        input = BenchProviders.data(size);
+        output = new byte[digest.getDigestLength()];
+    }
+
+    @Benchmark
+    public byte[] digest()
+            throws Exception
+    {
+        digest.update(input, 0, input.length);
+        digest.digest(output, 0, output.length);
+        return output;
+    }
+}
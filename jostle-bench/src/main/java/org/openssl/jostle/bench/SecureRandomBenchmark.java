@@ -0,0 +1,65 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SecureRandom (RandServiceSPI) nextBytes into a preallocated buffer.
+ * <p>
+ * JSL uses the "DEFAULT" DRBG, the JDK baseline is the JDK "DRBG" implementation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SecureRandomBenchmark
+{
+    @Param({"JSL", "JDK"})
+    public String provider;
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216"})
+    public int size;
+
+    private SecureRandom random;
+    private byte[] output;
+
+    @Setup
+    public void setup()
+            throws Exception
+    {
+        String algorithm = BenchProviders.JSL.equals(provider) ? "DEFAULT" : "DRBG";
+        random = SecureRandom.getInstance(algorithm, BenchProviders.resolve(provider, "SecureRandom", algorithm));
+        output = new byte[size];
+    }
+
+    @Benchmark
+    public byte[] nextBytes()
+    {
+        random.nextBytes(output);
+        return output;
+    }
+}
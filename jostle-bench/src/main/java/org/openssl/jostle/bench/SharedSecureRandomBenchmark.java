@@ -0,0 +1,96 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One SecureRandom shared by 1, 8 and 64 threads drawing IV sized (16 byte)
+ * and key sized (32 byte) outputs, the single context "DRBG" against the
+ * striped "DRBG-STRIPED". The score is the total across threads.
+ * <pre>
+ * ./gradlew :jostle-bench:jmhFFI -Pjmh.include=SharedSecureRandom
+ * ./gradlew :jostle-bench:jmhJNI -Pjmh.include=SharedSecureRandom
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SharedSecureRandomBenchmark
+{
+    @Param({"DRBG", "DRBG-STRIPED"})
+    public String algorithm;
+
+    @Param({"16", "32"})
+    public int size;
+
+    private SecureRandom random;
+
+    @Setup
+    public void setup()
+            throws Exception
+    {
+        random = SecureRandom.getInstance(algorithm, BenchProviders.resolve(BenchProviders.JSL, "SecureRandom", algorithm));
+    }
+
+    @State(Scope.Thread)
+    public static class Output
+    {
+        private byte[] bytes;
+
+        @Setup
+        public void setup(SharedSecureRandomBenchmark shared)
+        {
+            bytes = new byte[shared.size];
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] threads1(Output output)
+    {
+        random.nextBytes(output.bytes);
+        return output.bytes;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public byte[] threads8(Output output)
+    {
+        random.nextBytes(output.bytes);
+        return output.bytes;
+    }
+
+    @Benchmark
+    @Threads(64)
+    public byte[] threads64(Output output)
+    {
+        random.nextBytes(output.bytes);
+        return output.bytes;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Provider;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signature sign and verify over a single message.
+ * <p>
+ * Covers ECDSA (P-256), EdDSA (Ed25519), RSA (2048 bit, PKCS#1 v1.5), ML-DSA-65 and
+ * SLH-DSA-SHA2-128f. The JDK baseline has no SLH-DSA and only has ML-DSA from Java 24.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SignatureBenchmark
+{
+    @Param({"JSL", "JDK"})
+    public String provider;
+
+    @Param({"SHA256withECDSA", "Ed25519", "SHA256withRSA", "ML-DSA-65", "SLH-DSA-SHA2-128F"})
+    public String algorithm;
+
+    @Param({"16", "256", "4096", "65536", "1048576", "16777216"})
+    public int size;
+
+    private Signature signer;
+    private Signature verifier;
+    private byte[] message;
+    private byte[] signature;
+
+    @Setup
+    public void setup()
+            throws Exception
+    {
+        String sigName = algorithm.startsWith("SLH-DSA") ? "SLH-DSA" : algorithm;
+        Provider prov = BenchProviders.resolve(provider, "Signature", sigName);
+
+        KeyPairGenerator kpg;
+        if (algorithm.endsWith("withECDSA"))
+        {
+            kpg = KeyPairGenerator.getInstance("EC", prov);
+            kpg.initialize(new ECGenParameterSpec("secp256r1"));
+        }
+        else if (algorithm.endsWith("withRSA"))
+        {
+            kpg = KeyPairGenerator.getInstance("RSA", prov);
+            kpg.initialize(2048);
+        }
+        else
+        {
+            kpg = KeyPairGenerator.getInstance(algorithm, prov);
+        }
+        KeyPair kp = kpg.generateKeyPair();
+
+        signer = Signature.getInstance(sigName, prov);
+        signer.initSign(kp.getPrivate());
+        verifier = Signature.getInstance(sigName, prov);
+        verifier.initVerify(kp.getPublic());
+
+        message = BenchProviders.data(size);
+        signer.update(message);
+        signature = signer.sign();
+    }
+
+    @Benchmark
+    public byte[] sign()
+            throws Exception
+    {
+        signer.update(message, 0, message.length);
+        return signer.sign();
+    }
+
+    @Benchmark
+    public boolean verify()
+            throws Exception
+    {
+        verifier.update(message, 0, message.length);
+        if (!verifier.verify(signature))
+        {
+            throw new IllegalStateException("signature did not verify");
+        }
+        return true;
+    }
+}
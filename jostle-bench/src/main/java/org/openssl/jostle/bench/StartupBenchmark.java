@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to first digest in a fresh JVM: constructing the provider, which loads
+ * the interface library, and computing one SHA-256. Native interface families
+ * the digest does not use should not contribute to this figure.
+ * <p>
+ * Each fork measures a single cold invocation, so the score is the mean over
+ * forks:
+ * <pre>
+ * ./gradlew :jostle-bench:jmhFFI -Pjmh.include=Startup
+ * ./gradlew :jostle-bench:jmhJNI -Pjmh.include=Startup
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark
+{
+    private final byte[] message = new byte[64];
+
+    @Benchmark
+    public byte[] firstDigest()
+            throws Exception
+    {
+        return MessageDigest.getInstance("SHA-256", new JostleProvider()).digest(message);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        // Outside the measurement, confirms the interface the run asked for.
+        BenchProviders.install();
+    }
+}
@@ -45,7 +45,7 @@ public class CryptoServicesRegistrar
 
     public static boolean isNativeAvailable()
     {
-        return Loader.isLoadSuccessful() && NISelector.NativeServiceNI.isNativeAvailable();
+        return Loader.isLoadSuccessful() && NISelector.getNativeServiceNI().isNativeAvailable();
     }
 
     public static void assertNativeAvailable()
@@ -60,7 +60,7 @@ public class CryptoServicesRegistrar
 
     public String getOpenSSLVersion()
     {
-        return NISelector.NativeServiceNI.getOpenSSLVersion();
+        return NISelector.getNativeServiceNI().getOpenSSLVersion();
     }
 
     /**
@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle;
+
+import org.openssl.jostle.disposal.NativeReference;
+import org.openssl.jostle.disposal.ReleaseScope;
+import org.openssl.jostle.jcajce.interfaces.OSSLKey;
+import org.openssl.jostle.jcajce.provider.AsymmetricKeyImpl;
+import org.openssl.jostle.jcajce.spec.PKEYKeySpec;
+
+/**
+ * Deterministic release of native memory.
+ * <p>
+ * Native state is otherwise freed only once the owning Java object has been
+ * collected, which the GC schedules on heap pressure alone. High churn code
+ * can release it as soon as it is done:
+ * <pre>
+ *     try (ReleaseScope scope = JostleResources.openScope())
+ *     {
+ *         Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", "JSL");
+ *         ...
+ *     }
+ * </pre>
+ * Objects whose native state has been released must not be used again,
+ * doing so raises an exception from the native layer.
+ */
+public final class JostleResources
+{
+    private JostleResources()
+    {
+
+    }
+
+    /**
+     * Open a scope on the calling thread, closing it releases the native state
+     * of every JSL object the thread created in the meantime. This is the way
+     * to reach the state inside Cipher, Signature, MessageDigest and the like
+     * which have no handle of their own. DRBG backed SecureRandom instances are
+     * not collected.
+     *
+     * @return the scope, close it on the same thread.
+     */
+    public static ReleaseScope openScope()
+    {
+        return ReleaseScope.open();
+    }
+
+    /**
+     * Release the native state held directly by a JSL key, key spec or native reference.
+     * The two keys of a generated pair share one native key so releasing either releases both.
+     *
+     * @param obj the object to release.
+     * @return true if obj held native state, false if it is not a type this method knows.
+     */
+    public static boolean release(Object obj)
+    {
+        if (obj instanceof NativeReference)
+        {
+            ((NativeReference) obj).release();
+            return true;
+        }
+
+        if (obj instanceof PKEYKeySpec)
+        {
+            ((PKEYKeySpec) obj).release();
+            return true;
+        }
+
+        if (obj instanceof AsymmetricKeyImpl)
+        {
+            ((AsymmetricKeyImpl) obj).getSpec().release();
+            return true;
+        }
+
+        if (obj instanceof OSSLKey)
+        {
+            ((OSSLKey) obj).getSpec().release();
+            return true;
+        }
+
+        return false;
+    }
+}
@@ -98,6 +98,20 @@ public class Loader
      */
     public static final String OPENSSL_EXTRACT = "org.openssl.jostle.loader.extract_openssl";
 
+    /**
+     * Set this property true to extract into a persistent cache directory under the install
+     * directory, named for the content of the bundled native libraries, and reuse it on later
+     * starts rather than extracting afresh; default is false.
+     */
+    public static final String LIB_CACHE = "org.openssl.jostle.loader.cache";
+
+    /**
+     * Set this property true to compare the SHA-256 digest of every cached library with the
+     * library in the jar before reusing the cache, rather than its size and CRC-32, default is
+     * false.
+     */
+    public static final String LIB_CACHE_VERIFY = "org.openssl.jostle.loader.cache_verify";
+
 
     private static boolean loadAttempted = false;
     private static boolean loadSuccessful = true;
@@ -109,6 +123,8 @@ public class Loader
     private static boolean extractOpenSSL = true;
     private static boolean fixedInstallDir = false;
     private static String installDir;
+    private static boolean cacheInstall = false;
+    private static String cacheDir = null;
 
     // State captured by loadImpl for the lazy, provider-driven FIPS interface
     // load (loadFipsInterface). The FIPS entries (F_JNI:/F_FFI:) are parsed
@@ -367,7 +383,16 @@ public class Loader
 
         if (!extractions.isEmpty() && (extractOpenSSL || !"auto".equals(interfaceResolutionStrategy)))
         {
-            final File installRootDir = resolveInstallRootDir();
+            File installRootDir = null;
+            if (Properties.isOverrideSet(LIB_CACHE, false))
+            {
+                installRootDir = resolveCacheDir(libRootInJar, extractions);
+            }
+
+            if (installRootDir == null)
+            {
+                installRootDir = resolveInstallRootDir();
+            }
             installRootDirUsed = installRootDir;
 
             FileOutputStream fos = null;
@@ -375,8 +400,14 @@ public class Loader
 
             try
             {
-                fos = new FileOutputStream(LoaderUtils.makeFile(installRootDir, "jostle.lock"));
-                lock = fos.getChannel().lock();
+                //
+                // A cache directory is never written to once published, so there is nothing to lock.
+                //
+                if (!cacheInstall)
+                {
+                    fos = new FileOutputStream(LoaderUtils.makeFile(installRootDir, "jostle.lock"));
+                    lock = fos.getChannel().lock();
+                }
 
                 //
                 // Iterate the list of extractions, extracting and loading any library tagged OSSL in the deps
@@ -490,9 +521,91 @@ public class Loader
         return LoaderUtils.createTempDir("jostle");
     }
 
+    /**
+     * Returns the cache directory for the native resources listed in the deps file, populating
+     * it first if no valid one exists. Every entry is extracted, whatever the interface
+     * strategy, so one population serves any later configuration.
+     * <p>
+     * Returns null, after logging, if the cache cannot be used; the caller then falls back
+     * to the regular install dir. The cache is only used under an explicitly configured
+     * install dir, a directory with a predictable name in the shared temp dir could be
+     * created by another user first.
+     */
+    private static File resolveCacheDir(String libRootInJar, List<Extractions> extractions)
+    {
+        if (!fixedInstallDir)
+        {
+            L.warning(String.format("%s requires %s to be set, not using the library cache", LIB_CACHE, LIB_INSTALL_DIR));
+            return null;
+        }
+
+        try
+        {
+            List<String> names = new ArrayList<>();
+            for (Extractions extraction : extractions)
+            {
+                names.add(extraction.name);
+            }
+
+            List<LoaderUtils.CacheEntry> entries = LoaderUtils.nativeResourceEntries(libRootInJar, names);
+            if (entries == null)
+            {
+                L.warning("native resources missing, not using the library cache");
+                return null;
+            }
+
+            String key = LoaderUtils.nativeResourceKey(libRootInJar, entries);
+            boolean verifyContent = Properties.isOverrideSet(LIB_CACHE_VERIFY, false);
+            File cacheRoot = new File(installDir);
+            File target = LoaderUtils.makeFile(cacheRoot, "jostle_" + key);
+
+            if (!LoaderUtils.isCacheValid(target, key, entries, verifyContent))
+            {
+                File staging = LoaderUtils.createCacheStagingDir(cacheRoot, target.getName());
+                try
+                {
+                    for (Extractions extraction : extractions)
+                    {
+                        extractOnly(staging, libRootInJar, extraction, new String[2]);
+                    }
+                    LoaderUtils.writeCacheManifest(staging, key, names);
+                }
+                catch (Throwable t)
+                {
+                    LoaderUtils.deleteDir(staging);
+                    throw t;
+                }
+                target = LoaderUtils.publishCacheDir(staging, target, key, entries, verifyContent);
+            }
+            else
+            {
+                L.fine(String.format("reusing native library cache '%s'", target));
+            }
+
+            cacheInstall = true;
+            cacheDir = target.getAbsolutePath();
+            return target;
+        }
+        catch (Throwable t)
+        {
+            L.log(Level.WARNING, String.format("native library cache unavailable: %s", t.getMessage()), t);
+            return null;
+        }
+    }
+
     private static File extractOnly(File installRootDir, String libRootInJar, Extractions extraction, String[] sources)
             throws Exception
     {
+        if (cacheInstall)
+        {
+            //
+            // Already validated against the jar entries, skip the content comparison.
+            //
+            sources[0] = libRootInJar + "/" + extraction.name;
+            sources[1] = LoaderUtils.makeFile(installRootDir, extraction.name).getAbsolutePath();
+            return new File(sources[1]);
+        }
+
         String pathInJar = libRootInJar + "/" + extraction.name;
         File libFile = LoaderUtils.extractFromClasspath(installRootDir, pathInJar, extraction.name, sources);
         if (libFile == null)
@@ -514,14 +627,21 @@ public class Loader
         System.load(libFile.getAbsolutePath());
 
 
-        if (sources[0] != null && sources[1] != null)
+        if (cacheInstall)
         {
-            loadedLibs.add("Loaded: " + sources[1]);
-            loadedLibs.add("  Compared to: " + sources[0]);
+            loadedLibs.add("Cached: " + sources[1]);
         }
         else
         {
-            loadedLibs.add("Extracted: " + sources[0]);
+            if (sources[0] != null && sources[1] != null)
+            {
+                loadedLibs.add("Loaded: " + sources[1]);
+                loadedLibs.add("  Compared to: " + sources[0]);
+            }
+            else
+            {
+                loadedLibs.add("Extracted: " + sources[0]);
+            }
         }
     }
 
@@ -608,8 +728,11 @@ public class Loader
         FileLock lock = null;
         try
         {
-            fos = new FileOutputStream(LoaderUtils.makeFile(installRootDir, "jostle.lock"));
-            lock = fos.getChannel().lock();
+            if (!cacheInstall)
+            {
+                fos = new FileOutputStream(LoaderUtils.makeFile(installRootDir, "jostle.lock"));
+                lock = fos.getChannel().lock();
+            }
 
             String[] sources = new String[2];
             File libFile = extractOnly(installRootDir, libRootUsed, target, sources);
@@ -689,6 +812,22 @@ public class Loader
         return fixedInstallDir;
     }
 
+    /**
+     * Returns true if the libraries were loaded from the persistent cache, see {@link #LIB_CACHE}.
+     */
+    public static boolean isCacheInstall()
+    {
+        return cacheInstall;
+    }
+
+    /**
+     * Absolute path of the cache directory in use, or null if the cache is not in use.
+     */
+    public static String getCacheDir()
+    {
+        return cacheDir;
+    }
+
     public static boolean isFipsLoadAttempted()
     {
         return fipsLoadAttempted;
@@ -11,11 +11,32 @@
 package org.openssl.jostle;
 
 import java.io.*;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
 import java.security.AccessController;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.security.PrivilegedAction;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
 import java.security.Security;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -288,6 +309,572 @@ class LoaderUtils
         });
     }
 
+    /**
+     * Name of the manifest written last into a populated cache directory, its presence marks
+     * the directory as complete.
+     */
+    static final String CACHE_MANIFEST = "jostle.cache";
+
+    /**
+     * The size and CRC-32 of one native resource, as recorded in the jar it is served from.
+     * A cached copy of the resource is only used if it matches these; the cache directory's
+     * own manifest is never trusted for content.
+     */
+    static final class CacheEntry
+    {
+        final String name;
+        final long size;
+        final long crc;
+        private final String pathInJar;
+        private byte[] digest;
+
+        CacheEntry(String name, long size, long crc, String pathInJar)
+        {
+            this(name, size, crc, pathInJar, null);
+        }
+
+        CacheEntry(String name, long size, long crc, String pathInJar, byte[] digest)
+        {
+            this.name = name;
+            this.size = size;
+            this.crc = crc;
+            this.pathInJar = pathInJar;
+            this.digest = digest;
+        }
+
+        /**
+         * SHA-256 of the resource content read from the jar, computed on first use.
+         */
+        byte[] contentDigest()
+                throws IOException, GeneralSecurityException
+        {
+            if (digest == null)
+            {
+                try (InputStream in = Loader.class.getResourceAsStream(pathInJar))
+                {
+                    if (in == null)
+                    {
+                        throw new IOException(String.format("native resource '%s' not found", pathInJar));
+                    }
+                    digest = digestOf(in);
+                }
+            }
+            return digest;
+        }
+    }
+
+    /**
+     * Returns the size and CRC of each native resource under libRoot.
+     * <p>
+     * When a resource is served from a jar the size and CRC recorded in its jar entry are
+     * used, so this costs no decompression. Resources outside a jar, or entries without a
+     * recorded CRC, are read to compute them.
+     *
+     * @param libRoot root of the native resources in the jar.
+     * @param names   names of the resources under libRoot, in deps file order.
+     * @return the entries, or null if any of the resources is missing.
+     * @throws IOException
+     */
+    static List<CacheEntry> nativeResourceEntries(String libRoot, List<String> names)
+            throws IOException
+    {
+        return doPrivileged(new PrivilegedExceptionAction<List<CacheEntry>>()
+        {
+            @Override
+            public List<CacheEntry> run()
+                    throws Exception
+            {
+                List<CacheEntry> entries = new ArrayList<>();
+
+                for (String name : names)
+                {
+                    String pathInJar = libRoot + "/" + name;
+                    URL url = Loader.class.getResource(pathInJar);
+                    if (url == null)
+                    {
+                        return null;
+                    }
+
+                    URLConnection connection = url.openConnection();
+                    if (connection instanceof JarURLConnection)
+                    {
+                        JarEntry entry = ((JarURLConnection)connection).getJarEntry();
+                        if (entry != null && entry.getSize() >= 0 && entry.getCrc() >= 0)
+                        {
+                            entries.add(new CacheEntry(name, entry.getSize(), entry.getCrc(), pathInJar));
+                            continue;
+                        }
+                    }
+
+                    try (InputStream in = connection.getInputStream())
+                    {
+                        CRC32 crc = new CRC32();
+                        long size = crcOf(in, crc);
+                        entries.add(new CacheEntry(name, size, crc.getValue(), pathInJar));
+                    }
+                }
+
+                return entries;
+            }
+        });
+    }
+
+    /**
+     * Returns a key identifying the native resources under libRoot, derived from their names,
+     * sizes and CRCs.
+     *
+     * @param libRoot root of the native resources in the jar.
+     * @param entries the resources, from {@link #nativeResourceEntries(String, List)}.
+     * @return a hex key.
+     * @throws IOException
+     */
+    static String nativeResourceKey(String libRoot, List<CacheEntry> entries)
+            throws IOException
+    {
+        try
+        {
+            MessageDigest digest = newCacheDigest();
+            updateDigest(digest, libRoot);
+
+            for (CacheEntry entry : entries)
+            {
+                updateDigest(digest, entry.name);
+                updateDigest(digest, entry.size + ":" + entry.crc);
+            }
+
+            return toHex(digest.digest(), 16);
+        }
+        catch (GeneralSecurityException e)
+        {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns true if dir holds a complete cache population for key that only the current
+     * user could have written.
+     * <p>
+     * The directory, its manifest and every cached file must be owned by the current user,
+     * must not be symbolic links and, where the file system has POSIX permissions, must not be
+     * writable by group or others. Each file must have the size and CRC-32 the jar records for
+     * it; if verifyContent is set its SHA-256 is also compared with that of the jar content.
+     *
+     * @param dir           the cache directory.
+     * @param key           the expected key.
+     * @param entries       the expected content, from the jar.
+     * @param verifyContent true to compare content digests as well.
+     * @return true if the directory can be used as is.
+     * @throws IOException
+     */
+    static boolean isCacheValid(File dir, String key, List<CacheEntry> entries, boolean verifyContent)
+            throws IOException
+    {
+        return doPrivileged(new PrivilegedExceptionAction<Boolean>()
+        {
+            @Override
+            public Boolean run()
+                    throws Exception
+            {
+                File manifest = new File(dir, CACHE_MANIFEST);
+                if (!Files.isDirectory(dir.toPath(), LinkOption.NOFOLLOW_LINKS) || !Files.isRegularFile(manifest.toPath(), LinkOption.NOFOLLOW_LINKS))
+                {
+                    return false;
+                }
+
+                UserPrincipal user = currentUser(dir.getParentFile());
+                if (!isPrivate(dir, user) || !isPrivate(manifest, user))
+                {
+                    L.warning(String.format("native library cache '%s' is not private to the current user, not using it", dir));
+                    return false;
+                }
+
+                List<String> lines = readStreamToLines(new FileInputStream(manifest));
+                if (lines.isEmpty() || !lines.get(0).equals("key " + key))
+                {
+                    return false;
+                }
+
+                for (CacheEntry entry : entries)
+                {
+                    File link = new File(dir, entry.name);
+                    File file = makeFile(dir, entry.name);
+                    if (!Files.isRegularFile(link.toPath(), LinkOption.NOFOLLOW_LINKS) || !isPrivate(file, user))
+                    {
+                        L.warning(String.format("cached library '%s' is missing or not private to the current user", link));
+                        return false;
+                    }
+
+                    if (file.length() != entry.size)
+                    {
+                        L.fine(String.format("cached library '%s' has an unexpected length", file));
+                        return false;
+                    }
+
+                    try (InputStream in = new FileInputStream(file))
+                    {
+                        if (!verifyContent)
+                        {
+                            CRC32 crc = new CRC32();
+                            crcOf(in, crc);
+                            if (crc.getValue() != entry.crc)
+                            {
+                                L.fine(String.format("cached library '%s' has an unexpected CRC", file));
+                                return false;
+                            }
+                        }
+                        else
+                        {
+                            if (!MessageDigest.isEqual(entry.contentDigest(), digestOf(in)))
+                            {
+                                L.fine(String.format("cached library '%s' has an unexpected digest", file));
+                                return false;
+                            }
+                        }
+                    }
+                }
+
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Returns a new, uniquely named, staging directory next to where the cache directory
+     * will be published. Where the file system supports POSIX permissions the directory is
+     * created readable and writable by the owner only. Staging directories are never loaded
+     * from.
+     *
+     * @param cacheRoot the directory holding cache directories.
+     * @param name      the name of the cache directory being staged.
+     * @return the staging directory.
+     * @throws IOException
+     */
+    static File createCacheStagingDir(File cacheRoot, String name)
+            throws IOException
+    {
+        return doPrivileged(new PrivilegedExceptionAction<File>()
+        {
+            @Override
+            public File run()
+                    throws Exception
+            {
+                if (!cacheRoot.isDirectory() && !cacheRoot.mkdirs() && !cacheRoot.isDirectory())
+                {
+                    throw new IOException(String.format("failed to create cache directory '%s'", cacheRoot));
+                }
+
+                boolean posix = isPosix();
+                long now = System.nanoTime();
+                for (int t = 0; t < 10000; t++)
+                {
+                    File dir = makeFile(cacheRoot, String.format("%s.tmp_%d", name, now + t));
+                    if (dir.exists())
+                    {
+                        continue;
+                    }
+
+                    if (posix)
+                    {
+                        try
+                        {
+                            Files.createDirectory(dir.toPath(), PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+                            return dir;
+                        }
+                        catch (FileAlreadyExistsException ignored)
+                        {
+                        }
+                    }
+                    else
+                    {
+                        if (dir.mkdir())
+                        {
+                            return dir;
+                        }
+                    }
+                }
+
+                throw new IOException(String.format("failed to create staging directory in '%s'", cacheRoot));
+            }
+        });
+    }
+
+    /**
+     * Write the manifest for the files already extracted into a staging directory. The
+     * extracted files are first made accessible by the owner only. This is the last write
+     * before the directory is published.
+     *
+     * @param staging the staging directory.
+     * @param key     the key the directory is being populated for.
+     * @param names   the extracted file names.
+     * @throws IOException
+     */
+    static void writeCacheManifest(File staging, String key, List<String> names)
+            throws IOException
+    {
+        doPrivileged(new PrivilegedExceptionAction<Object>()
+        {
+            @Override
+            public Object run()
+                    throws Exception
+            {
+                boolean posix = isPosix();
+
+                StringBuilder sb = new StringBuilder();
+                sb.append("# jostle native library cache\n");
+                sb.append("key ").append(key).append('\n');
+                for (String name : names)
+                {
+                    File file = makeFile(staging, name);
+                    if (posix)
+                    {
+                        Files.setPosixFilePermissions(file.toPath(), PosixFilePermissions.fromString("rwx------"));
+                    }
+                    sb.append(name).append('\n');
+                }
+
+                File manifest = makeFile(staging, CACHE_MANIFEST);
+                try (FileOutputStream fos = new FileOutputStream(manifest))
+                {
+                    fos.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+                    fos.getFD().sync();
+                }
+                if (posix)
+                {
+                    Files.setPosixFilePermissions(manifest.toPath(), PosixFilePermissions.fromString("rw-------"));
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Publish a populated staging directory as the cache directory by atomic rename.
+     * <p>
+     * If another JVM published first the rename fails, the staging directory is discarded and
+     * the winner is used provided it is valid. A target that is present but not valid, for
+     * example left behind by a crash on a file system without atomic rename, is moved aside and
+     * the rename tried once more.
+     *
+     * @param staging       the populated staging directory.
+     * @param target        the cache directory.
+     * @param key           the key the directory was populated for.
+     * @param entries       the expected content, from the jar.
+     * @param verifyContent passed to {@link #isCacheValid(File, String, List, boolean)}.
+     * @return the cache directory.
+     * @throws IOException if the directory could not be published.
+     */
+    static File publishCacheDir(File staging, File target, String key, List<CacheEntry> entries, boolean verifyContent)
+            throws IOException
+    {
+        for (int attempt = 0; attempt < 2; attempt++)
+        {
+            try
+            {
+                doPrivileged(new PrivilegedExceptionAction<Object>()
+                {
+                    @Override
+                    public Object run()
+                            throws Exception
+                    {
+                        Files.move(staging.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                        return null;
+                    }
+                });
+                L.fine(String.format("published native library cache '%s'", target));
+                return target;
+            }
+            catch (IOException e)
+            {
+                L.fine(String.format("could not publish '%s': %s", target, e.getMessage()));
+            }
+
+            if (isCacheValid(target, key, entries, verifyContent))
+            {
+                deleteDir(staging);
+                return target;
+            }
+
+            if (attempt == 0)
+            {
+                File stale = makeFile(target.getParentFile(), String.format("%s.stale_%d", target.getName(), System.nanoTime()));
+                doPrivileged(new PrivilegedExceptionAction<Object>()
+                {
+                    @Override
+                    public Object run()
+                            throws Exception
+                    {
+                        if (target.exists())
+                        {
+                            Files.move(target.toPath(), stale.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                            delete(stale);
+                        }
+                        return null;
+                    }
+                });
+            }
+        }
+
+        deleteDir(staging);
+        throw new IOException(String.format("unable to publish native library cache '%s'", target));
+    }
+
+    /**
+     * Recursively delete a directory, used to discard a staging directory.
+     *
+     * @param dir the directory to delete.
+     */
+    static void deleteDir(File dir)
+    {
+        AccessController.doPrivileged(new PrivilegedAction<Object>()
+        {
+            @Override
+            public Object run()
+            {
+                if (dir.exists())
+                {
+                    delete(dir);
+                }
+                return null;
+            }
+        });
+    }
+
+    private static boolean isPosix()
+    {
+        return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    }
+
+    /**
+     * Returns the user this JVM runs as. If user.name does not name a known account the
+     * owner of a probe file created in dir is used instead.
+     */
+    private static UserPrincipal currentUser(File dir)
+            throws IOException
+    {
+        try
+        {
+            return FileSystems.getDefault().getUserPrincipalLookupService().lookupPrincipalByName(System.getProperty("user.name"));
+        }
+        catch (IOException | UnsupportedOperationException e)
+        {
+            Path probe = Files.createTempFile(dir.toPath(), "jostle", ".probe");
+            try
+            {
+                return Files.getOwner(probe);
+            }
+            finally
+            {
+                Files.deleteIfExists(probe);
+            }
+        }
+    }
+
+    /**
+     * Returns true if file is not a symbolic link, is owned by user and, where the file
+     * system has POSIX permissions, is not writable by group or others.
+     */
+    private static boolean isPrivate(File file, UserPrincipal user)
+            throws IOException
+    {
+        Path path = file.toPath();
+        if (Files.isSymbolicLink(path) || !user.equals(Files.getOwner(path, LinkOption.NOFOLLOW_LINKS)))
+        {
+            return false;
+        }
+
+        PosixFileAttributeView view = Files.getFileAttributeView(path, PosixFileAttributeView.class, LinkOption.NOFOLLOW_LINKS);
+        if (view != null)
+        {
+            Set<PosixFilePermission> permissions = view.readAttributes().permissions();
+            if (permissions.contains(PosixFilePermission.GROUP_WRITE) || permissions.contains(PosixFilePermission.OTHERS_WRITE))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long crcOf(InputStream in, CRC32 crc)
+            throws IOException
+    {
+        long size = 0;
+        byte[] buf = new byte[8192];
+        int len;
+        while ((len = in.read(buf)) > -1)
+        {
+            crc.update(buf, 0, len);
+            size += len;
+        }
+        return size;
+    }
+
+    private static MessageDigest newCacheDigest()
+            throws GeneralSecurityException
+    {
+        //
+        // Named provider, this provider may be installed ahead of SUN but is not loaded yet.
+        //
+        return MessageDigest.getInstance("SHA-256", "SUN");
+    }
+
+    private static byte[] digestOf(InputStream in)
+            throws IOException, GeneralSecurityException
+    {
+        MessageDigest digest = newCacheDigest();
+        byte[] buf = new byte[8192];
+        int len;
+        while ((len = in.read(buf)) > -1)
+        {
+            digest.update(buf, 0, len);
+        }
+        return digest.digest();
+    }
+
+    private static void updateDigest(MessageDigest digest, String value)
+    {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        updateDigest(digest, bytes);
+    }
+
+    private static void updateDigest(MessageDigest digest, byte[] bytes)
+    {
+        digest.update((byte)(bytes.length >>> 24));
+        digest.update((byte)(bytes.length >>> 16));
+        digest.update((byte)(bytes.length >>> 8));
+        digest.update((byte)bytes.length);
+        digest.update(bytes);
+    }
+
+    private static String toHex(byte[] data, int len)
+    {
+        StringBuilder sb = new StringBuilder(len * 2);
+        for (int t = 0; t != len; t++)
+        {
+            sb.append(Character.forDigit((data[t] >> 4) & 0x0F, 16));
+            sb.append(Character.forDigit(data[t] & 0x0F, 16));
+        }
+        return sb.toString();
+    }
+
+    private static <T> T doPrivileged(PrivilegedExceptionAction<T> action)
+            throws IOException
+    {
+        try
+        {
+            return AccessController.doPrivileged(action);
+        }
+        catch (PrivilegedActionException e)
+        {
+            Exception cause = e.getException();
+            if (cause instanceof IOException)
+            {
+                throw (IOException)cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
     static List<String> readStreamToLines(InputStream inputStream)
             throws IOException
     {
@@ -22,9 +22,23 @@ public class NativeServiceJNI implements NativeServiceNI
         return openSSLVersion();
     }
 
+    public long getFetchCacheHits()
+    {
+        return fetchCacheHits();
+    }
+
+    public long getFetchCacheMisses()
+    {
+        return fetchCacheMisses();
+    }
+
     private static native boolean nativeAvailable();
 
     private static native String openSSLVersion();
 
+    private static native long fetchCacheHits();
+
+    private static native long fetchCacheMisses();
+
 
 }
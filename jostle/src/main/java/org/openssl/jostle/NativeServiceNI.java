@@ -16,4 +16,16 @@ public interface NativeServiceNI
 
     String getOpenSSLVersion();
 
+    /**
+     * Number of EVP_CIPHER / EVP_MD / EVP_MAC lookups served from the interface
+     * library's fetch cache since it was loaded.
+     */
+    long getFetchCacheHits();
+
+    /**
+     * Number of lookups that missed the fetch cache and went to the OpenSSL
+     * provider store.
+     */
+    long getFetchCacheMisses();
+
 }
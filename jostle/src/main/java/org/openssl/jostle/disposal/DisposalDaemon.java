@@ -12,19 +12,24 @@ package org.openssl.jostle.disposal;
 
 import org.openssl.jostle.util.Properties;
 
+import java.lang.management.ManagementFactory;
 import java.lang.ref.PhantomReference;
 import java.lang.ref.ReferenceQueue;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.management.ObjectName;
+
 public class DisposalDaemon
         implements Runnable
 {
@@ -32,22 +37,52 @@ public class DisposalDaemon
 
     private static ReferenceQueue<Disposable> referenceQueue = new ReferenceQueue<Disposable>();
 
-    private static Set<ReferenceWrapperWithDisposerRunnable> refs =
-            Collections.synchronizedSet(new HashSet<ReferenceWrapperWithDisposerRunnable>());
-
-    private static AtomicLong ctr = new AtomicLong(Long.MIN_VALUE);
+    //
+    // Registration happens on every native allocation from any thread, the
+    // concurrent set avoids a single monitor shared by all of them.
+    //
+    private static final Set<ReferenceWrapperWithDisposerRunnable> refs =
+            ConcurrentHashMap.<ReferenceWrapperWithDisposerRunnable>newKeySet();
 
     private static final ScheduledExecutorService cleanupExecutor;
     private static final DisposalDaemon disposalDaemon = new DisposalDaemon();
-    private static final Thread disposalThread;
+    private static final Thread[] disposalThreads;
+    private static final Metrics metrics = new Metrics();
+
+    //
+    // When a disposal thread last polled the reference queue and found it
+    // empty, anything queued now arrived after this.
+    //
+    private static volatile long queueEmptyNanos = System.nanoTime();
 
     private static final long cleanupDelay;
+    private static final int batchSize;
     private static final String CLEANUP_DELAY_PROP = "org.bouncycastle.native.cleanup_delay";
 
+    /**
+     * Number of threads draining the reference queue.
+     */
+    public static final String WORKERS_PROP = "org.openssl.jostle.disposal.workers";
+
+    /**
+     * Maximum number of references a worker takes from the queue in one pass.
+     */
+    public static final String BATCH_SIZE_PROP = "org.openssl.jostle.disposal.batch_size";
+
+    /**
+     * Set to true to register {@link DisposalDaemonMXBean} with the platform MBean server.
+     */
+    public static final String JMX_PROP = "org.openssl.jostle.disposal.jmx";
+
+    public static final String MBEAN_NAME = "org.openssl.jostle:type=DisposalDaemon";
+
 
     static
     {
         cleanupDelay = Properties.asInteger(CLEANUP_DELAY_PROP, 0);
+        batchSize = Math.max(1, Properties.asInteger(BATCH_SIZE_PROP, 256));
+        int workers = Math.max(1, Properties.asInteger(WORKERS_PROP,
+                Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
 
         //
         // Clean up executor accepts references that are no longer needed
@@ -72,14 +107,48 @@ public class DisposalDaemon
         }
 
         //
-        // Sets up the daemon thread that deals with items on the reference
+        // Sets up the daemon threads that deal with items on the reference
         // queue that may have native code that needs disposing.
         //
-        disposalThread = new Thread(disposalDaemon, "JSL Disposal Daemon");
-        disposalThread.setDaemon(true);
-        disposalThread.start();
+        disposalThreads = new Thread[workers];
+        for (int i = 0; i < workers; i++)
+        {
+            disposalThreads[i] = new Thread(disposalDaemon, workers == 1 ? "JSL Disposal Daemon" : "JSL Disposal Daemon " + i);
+            disposalThreads[i].setDaemon(true);
+            disposalThreads[i].start();
+        }
 
         addShutdownHook();
+
+        if (Properties.isOverrideSet(JMX_PROP))
+        {
+            registerMBean();
+        }
+    }
+
+    private DisposalDaemon()
+    {
+        // only the disposal threads run an instance
+    }
+
+    private static void registerMBean()
+    {
+        try
+        {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(MBEAN_NAME));
+        }
+        catch (Throwable ex)
+        {
+            LOG.log(Level.WARNING, "Registering " + MBEAN_NAME + " failed.", ex);
+        }
+    }
+
+    /**
+     * Disposal metrics, the same object that is registered with JMX when enabled.
+     */
+    public static DisposalDaemonMXBean getMetrics()
+    {
+        return metrics;
     }
 
     private static void addShutdownHook()
@@ -103,7 +172,10 @@ public class DisposalDaemon
                     while (item != null)
                     {
                         refs.remove(item);
-                        item.dispose();
+                        if (item.dispose())
+                        {
+                            metrics.disposed.increment();
+                        }
                         item = (ReferenceWrapperWithDisposerRunnable) referenceQueue.poll();
 
                         if (LOG.isLoggable(Level.FINE))
@@ -122,13 +194,39 @@ public class DisposalDaemon
     }
 
     public static void addDisposable(Disposable disposable)
+    {
+        register(disposable);
+    }
+
+    static ReferenceWrapperWithDisposerRunnable register(Disposable disposable)
     {
         ReferenceWrapperWithDisposerRunnable ref = new ReferenceWrapperWithDisposerRunnable(disposable, referenceQueue);
         refs.add(ref);
+        metrics.registered.increment();
         if (LOG.isLoggable(Level.FINE))
         {
             LOG.fine("Registered: " + disposable.toString());
         }
+        return ref;
+    }
+
+    /**
+     * Run the dispose action now and stop tracking the reference, the caller
+     * must still hold the referent so it cannot already be queued.
+     */
+    static void release(ReferenceWrapperWithDisposerRunnable ref)
+    {
+        refs.remove(ref);
+        ref.clear();
+        if (ref.dispose())
+        {
+            metrics.disposed.increment();
+            metrics.released.increment();
+            if (LOG.isLoggable(Level.FINE))
+            {
+                LOG.fine("Released: " + ref);
+            }
+        }
     }
 
     public void run()
@@ -137,17 +235,40 @@ public class DisposalDaemon
         {
             try
             {
-                final ReferenceWrapperWithDisposerRunnable item =
-                        (ReferenceWrapperWithDisposerRunnable) referenceQueue.remove();
-                refs.remove(item);
+                //
+                // Block for the first reference then take whatever else is
+                // already queued, up to the batch size, without blocking.
+                //
+                // The JVM does not say when it queued a reference, so queued
+                // is the earliest it can have been: a reference waited for
+                // arrived just now, one already waiting arrived after a
+                // worker last found the queue empty.
+                //
+                final List<ReferenceWrapperWithDisposerRunnable> batch = new ArrayList<ReferenceWrapperWithDisposerRunnable>();
+                long polled = System.nanoTime();
+                ReferenceWrapperWithDisposerRunnable item =
+                        (ReferenceWrapperWithDisposerRunnable) referenceQueue.poll();
+                final long queued;
+                if (item == null)
+                {
+                    queueEmptyNanos = polled;
+                    item = (ReferenceWrapperWithDisposerRunnable) referenceQueue.remove();
+                    queued = System.nanoTime();
+                }
+                else
+                {
+                    queued = queueEmptyNanos;
+                }
+                while (item != null)
+                {
+                    refs.remove(item);
+                    batch.add(item);
+                    item = batch.size() < batchSize ? (ReferenceWrapperWithDisposerRunnable) referenceQueue.poll() : null;
+                }
 
                 if (cleanupExecutor == null)
                 {
-                    if (LOG.isLoggable(Level.FINE))
-                    {
-                        LOG.fine("Disposed: " + item);
-                    }
-                    item.dispose();
+                    disposeBatch(batch, queued);
                 }
                 else
                 {
@@ -160,11 +281,7 @@ public class DisposalDaemon
                         @Override
                         public void run()
                         {
-                            if (LOG.isLoggable(Level.FINE))
-                            {
-                                LOG.fine("Disposed: " + item);
-                            }
-                            item.dispose();
+                            disposeBatch(batch, queued);
                         }
                     }, cleanupDelay, TimeUnit.MILLISECONDS);
                 }
@@ -181,11 +298,142 @@ public class DisposalDaemon
         }
     }
 
-    private static class ReferenceWrapperWithDisposerRunnable
+    private static void disposeBatch(List<ReferenceWrapperWithDisposerRunnable> batch, long queued)
+    {
+        int count = 0;
+        for (ReferenceWrapperWithDisposerRunnable item : batch)
+        {
+            try
+            {
+                if (LOG.isLoggable(Level.FINE))
+                {
+                    LOG.fine("Disposed: " + item);
+                }
+                if (item.dispose())
+                {
+                    count++;
+                }
+            }
+            catch (Throwable e)
+            {
+                // One failure must not leak the rest of the batch.
+                LOG.warning("exception disposing " + item + ": " + e.getMessage());
+            }
+        }
+        metrics.disposed.add(count);
+        metrics.lagNanos = System.nanoTime() - queued;
+    }
+
+    private static class Metrics
+            implements DisposalDaemonMXBean
+    {
+        private final LongAdder registered = new LongAdder();
+        private final LongAdder disposed = new LongAdder();
+        private final LongAdder released = new LongAdder();
+        private volatile long lagNanos;
+
+        @Override
+        public int getWorkerCount()
+        {
+            return disposalThreads.length;
+        }
+
+        @Override
+        public long getRegisteredCount()
+        {
+            return registered.sum();
+        }
+
+        @Override
+        public long getDisposedCount()
+        {
+            return disposed.sum();
+        }
+
+        @Override
+        public long getReleasedCount()
+        {
+            return released.sum();
+        }
+
+        @Override
+        public long getPendingCount()
+        {
+            // Read disposed first so a concurrent disposal cannot drive this negative.
+            long done = disposed.sum();
+            return Math.max(0, registered.sum() - done);
+        }
+
+        @Override
+        public double getDisposedPerSecond()
+        {
+            return RateSampler.rate;
+        }
+
+        @Override
+        public long getQueueLagMillis()
+        {
+            return TimeUnit.NANOSECONDS.toMillis(lagNanos);
+        }
+    }
+
+    /**
+     * Samples the disposed count once a second on its own daemon thread, started
+     * the first time the rate is read, so readers share one window rather than
+     * each resetting it.
+     */
+    private static class RateSampler
+    {
+        private static final long PERIOD_MILLIS = 1000;
+
+        private static volatile double rate;
+
+        private static long lastNanos = System.nanoTime();
+        private static long lastDisposed = metrics.disposed.sum();
+
+        static
+        {
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory()
+            {
+                @Override
+                public Thread newThread(Runnable r)
+                {
+                    Thread t = new Thread(r, "JSL Disposal Metrics");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+            sampler.scheduleAtFixedRate(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    sample();
+                }
+            }, PERIOD_MILLIS, PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        // Only the sampler thread calls this.
+        private static void sample()
+        {
+            long now = System.nanoTime();
+            long count = metrics.disposed.sum();
+            long elapsed = now - lastNanos;
+            if (elapsed > 0)
+            {
+                rate = (count - lastDisposed) * 1e9 / elapsed;
+            }
+            lastNanos = now;
+            lastDisposed = count;
+        }
+    }
+
+    static class ReferenceWrapperWithDisposerRunnable
             extends PhantomReference<Disposable>
     {
 
         private final Runnable disposer;
+        private final AtomicBoolean disposed = new AtomicBoolean();
         private final String label;
 
         /**
@@ -208,9 +456,19 @@ public class DisposalDaemon
             this.disposer = referent.getDisposeAction();
         }
 
-        public void dispose()
+        /**
+         * Run the dispose action unless it has already run.
+         *
+         * @return true if this call ran it.
+         */
+        public boolean dispose()
         {
+            if (!disposed.compareAndSet(false, true))
+            {
+                return false;
+            }
             disposer.run();
+            return true;
         }
 
         public String toString()
@@ -0,0 +1,59 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.disposal;
+
+/**
+ * Disposal metrics, registered as "org.openssl.jostle:type=DisposalDaemon"
+ * when org.openssl.jostle.disposal.jmx is set to true.
+ */
+public interface DisposalDaemonMXBean
+{
+    /**
+     * @return number of disposal worker threads.
+     */
+    int getWorkerCount();
+
+    /**
+     * @return total number of references registered since startup.
+     */
+    long getRegisteredCount();
+
+    /**
+     * @return total number of references whose dispose action has run.
+     */
+    long getDisposedCount();
+
+    /**
+     * @return number of the disposed references that were released explicitly
+     * rather than on becoming unreachable.
+     */
+    long getReleasedCount();
+
+    /**
+     * @return references registered but not yet disposed, live or awaiting disposal.
+     */
+    long getPendingCount();
+
+    /**
+     * @return disposals per second over the most recent one second sample, zero
+     * until the first sample after this is first read.
+     */
+    double getDisposedPerSecond();
+
+    /**
+     * @return milliseconds the most recent batch spent between being put on the
+     * reference queue and its last dispose action completing, includes any
+     * configured cleanup delay. The JVM does not report when it queues a
+     * reference, so when a batch was already waiting its wait is counted from
+     * the last time the queue was seen empty, an upper bound.
+     */
+    long getQueueLagMillis();
+}
@@ -16,6 +16,8 @@ public abstract class NativeReference
     protected final long reference;
     protected final String label;
     private final Runnable disposeAction;
+    private final DisposalDaemon.ReferenceWrapperWithDisposerRunnable registration;
+    private volatile boolean released;
 
 
     /**
@@ -24,7 +26,7 @@ public abstract class NativeReference
      * @param disposeAction the action that frees the native handle. It MUST be
      *                      built by the concrete subclass from its constructor
      *                      parameters and passed in here — never captured from
-     *                      an instance field. {@link DisposalDaemon#addDisposable}
+     *                      an instance field. Registration with {@link DisposalDaemon}
      *                      calls {@link #getDisposeAction()} from within this
      *                      constructor (a deliberate registration point), so any
      *                      state the action needs must already be set. Reading a
@@ -32,11 +34,44 @@ public abstract class NativeReference
      *                      because the subclass constructor body has not run yet.
      */
     public NativeReference(long reference, String name, Runnable disposeAction)
+    {
+        this(reference, name, disposeAction, true);
+    }
+
+    /**
+     * @param scoped false for handles that are routinely cached beyond the
+     *               code that created them, these are never collected by an
+     *               open {@link ReleaseScope} and only freed by {@link #release()}
+     *               or on becoming unreachable.
+     */
+    protected NativeReference(long reference, String name, Runnable disposeAction, boolean scoped)
     {
         this.reference = reference;
         this.label = "Reference(" + name + ") 0x" + Long.toHexString(reference);
         this.disposeAction = disposeAction;
-        DisposalDaemon.addDisposable(this);
+        this.registration = DisposalDaemon.register(this);
+        if (scoped)
+        {
+            ReleaseScope.track(this);
+        }
+    }
+
+    /**
+     * Free the native handle now rather than when this reference becomes
+     * unreachable. Safe to call more than once, but not while another thread
+     * is using the handle. Afterwards {@link #getReference()} returns 0 so
+     * later use fails in the native layer's null checks rather than touching
+     * freed memory.
+     */
+    public final void release()
+    {
+        released = true;
+        DisposalDaemon.release(registration);
+    }
+
+    public final boolean isReleased()
+    {
+        return released;
     }
 
 
@@ -48,7 +83,7 @@ public abstract class NativeReference
 
     public final long getReference()
     {
-        return reference;
+        return released ? 0 : reference;
     }
 
     public final String toString()
@@ -0,0 +1,142 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.disposal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects every native reference created by the opening thread while the
+ * scope is open and releases them, newest first, when it is closed.
+ * <p>
+ * This reaches native state held inside JCA engines (Cipher, Signature,
+ * MessageDigest, KeyStore...) which the caller has no handle on. Anything
+ * created in the scope must not be used after the scope is closed, operations
+ * on a released reference fail rather than touch freed memory.
+ * <p>
+ * Scopes nest and must be closed by the thread that opened them in reverse
+ * order of opening.
+ */
+public final class ReleaseScope
+        implements AutoCloseable
+{
+    private static final ThreadLocal<ReleaseScope> current = new ThreadLocal<ReleaseScope>();
+
+    // Number of open scopes on all threads, avoids the thread local lookup when there are none.
+    private static final AtomicInteger openScopes = new AtomicInteger();
+
+    private final ReleaseScope parent;
+    private final Thread owner;
+    private final List<NativeReference> tracked = new ArrayList<NativeReference>();
+    private boolean closed;
+
+    private ReleaseScope()
+    {
+        this.parent = current.get();
+        this.owner = Thread.currentThread();
+    }
+
+    /**
+     * Open a scope on the calling thread.
+     */
+    public static ReleaseScope open()
+    {
+        ReleaseScope scope = new ReleaseScope();
+        current.set(scope);
+        openScopes.incrementAndGet();
+        return scope;
+    }
+
+    /**
+     * Detach the calling thread from its open scope, if any, so objects that
+     * outlive the caller (shared caches) are not released with it.
+     *
+     * @return the detached scope, to be passed to {@link #resume(ReleaseScope)}.
+     */
+    public static ReleaseScope suspend()
+    {
+        if (openScopes.get() == 0)
+        {
+            return null;
+        }
+        ReleaseScope scope = current.get();
+        current.remove();
+        return scope;
+    }
+
+    /**
+     * Reattach a scope returned by {@link #suspend()}.
+     */
+    public static void resume(ReleaseScope scope)
+    {
+        if (scope != null)
+        {
+            current.set(scope);
+        }
+    }
+
+    static void track(NativeReference reference)
+    {
+        if (openScopes.get() == 0)
+        {
+            return;
+        }
+
+        ReleaseScope scope = current.get();
+        if (scope != null)
+        {
+            scope.tracked.add(reference);
+        }
+    }
+
+    /**
+     * @return the number of native references collected so far.
+     */
+    public int size()
+    {
+        return tracked.size();
+    }
+
+    @Override
+    public void close()
+    {
+        if (closed)
+        {
+            return;
+        }
+        if (Thread.currentThread() != owner)
+        {
+            throw new IllegalStateException("scope must be closed by the thread that opened it");
+        }
+        if (current.get() != this)
+        {
+            throw new IllegalStateException("scopes must be closed in reverse order of opening");
+        }
+
+        closed = true;
+        if (parent == null)
+        {
+            current.remove();
+        }
+        else
+        {
+            current.set(parent);
+        }
+        openScopes.decrementAndGet();
+
+        for (int i = tracked.size() - 1; i >= 0; i--)
+        {
+            tracked.get(i).release();
+        }
+        tracked.clear();
+    }
+}
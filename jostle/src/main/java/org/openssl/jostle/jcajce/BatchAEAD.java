@@ -0,0 +1,331 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.jcajce;
+
+import org.openssl.jostle.jcajce.provider.blockcipher.AEADBatchSpi;
+import org.openssl.jostle.util.Strings;
+
+import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.Provider;
+import java.security.Security;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Seal or open many independent AEAD records under one key in a single native call.
+ * <p>
+ * Record protocols encrypt a stream of short records, each with its own nonce and
+ * associated data. Through Cipher every record costs an init, an AAD update and a
+ * doFinal, each a crossing into the native layer, and re-keying the cipher each time.
+ * A batch keys once and passes the records as spans into shared buffers:
+ * <pre>
+ *     BatchAEAD batch = BatchAEAD.getInstance("AES/GCM/NoPadding", "JSL");
+ *     batch.init(key);
+ *     // record i: nonce at 12 * i in nonces, spans {aadOff, aadLen, inOff, inLen}
+ *     int len = batch.seal(nonces, aad, plaintexts, spans, count, sealed, 0);
+ *     int failed = batch.open(nonces, aad, sealed, openSpans, count, plain, 0, verified);
+ * </pre>
+ * Sealed record i is its ciphertext followed by its tag, the same bytes Cipher from
+ * the same provider produces. Outputs are written back to back. A record that fails
+ * its tag check when opening is reported in {@code verified} and its output zeroed,
+ * the rest of the batch is still opened.
+ * <p>
+ * Nonces are {@link #NONCE_LENGTH} bytes and tags {@link #TAG_LENGTH} bytes. Each nonce
+ * must be unique for the key. Seal rejects a batch that repeats a nonce, but keeps no
+ * history, so uniqueness across batches, like across Cipher instances, is the caller's
+ * responsibility. AES-GCM and ChaCha20-Poly1305 from the JSL and JSLFIPS providers
+ * support batching. Like Cipher an instance is not safe for concurrent use.
+ */
+public final class BatchAEAD
+{
+    /**
+     * Length of every record nonce.
+     */
+    public static final int NONCE_LENGTH = 12;
+
+    /**
+     * Length of every record tag.
+     */
+    public static final int TAG_LENGTH = 16;
+
+    private final AEADBatchSpi spi;
+    private final String algorithm;
+    private final Provider provider;
+    private boolean initialised;
+
+    private BatchAEAD(AEADBatchSpi spi, String algorithm, Provider provider)
+    {
+        this.spi = spi;
+        this.algorithm = algorithm;
+        this.provider = provider;
+    }
+
+    /**
+     * Create a batch AEAD for transformation from the named provider.
+     *
+     * @param transformation "AES/GCM/NoPadding", "ChaCha20-Poly1305" or an alias, as for Cipher.
+     * @param provider       the provider name, JSL or JSLFIPS.
+     * @throws NoSuchProviderException  if the provider is not installed.
+     * @throws NoSuchAlgorithmException if the provider cannot batch the transformation.
+     */
+    public static BatchAEAD getInstance(String transformation, String provider)
+            throws NoSuchAlgorithmException, NoSuchProviderException
+    {
+        if (provider == null)
+        {
+            throw new IllegalArgumentException("provider is null");
+        }
+
+        Provider p = Security.getProvider(provider);
+        if (p == null)
+        {
+            throw new NoSuchProviderException("provider " + provider + " not found");
+        }
+
+        return getInstance(transformation, p);
+    }
+
+    /**
+     * Create a batch AEAD for transformation from provider.
+     *
+     * @param transformation "AES/GCM/NoPadding", "ChaCha20-Poly1305" or an alias, as for Cipher.
+     * @param provider       a JSL or JSLFIPS provider instance.
+     * @throws NoSuchAlgorithmException if the provider cannot batch the transformation.
+     */
+    public static BatchAEAD getInstance(String transformation, Provider provider)
+            throws NoSuchAlgorithmException
+    {
+        if (transformation == null)
+        {
+            throw new NullPointerException("transformation is null");
+        }
+        if (provider == null)
+        {
+            throw new IllegalArgumentException("provider is null");
+        }
+
+        String[] parts = transformation.split("/");
+        if (parts.length != 1 && parts.length != 3)
+        {
+            throw new NoSuchAlgorithmException("invalid transformation " + transformation);
+        }
+        if (parts.length == 3 && !"NOPADDING".equals(Strings.toUpperCase(parts[2]).trim()))
+        {
+            throw new NoSuchAlgorithmException(transformation + " cannot be batched, AEAD records take no padding");
+        }
+
+        Provider.Service service = provider.getService("Cipher", parts[0].trim());
+        if (service == null)
+        {
+            throw new NoSuchAlgorithmException(transformation + " Cipher not available from " + provider.getName());
+        }
+
+        Object spi = service.newInstance(null);
+        if (!(spi instanceof AEADBatchSpi))
+        {
+            throw new NoSuchAlgorithmException(transformation + " from " + provider.getName() + " does not support batching");
+        }
+
+        AEADBatchSpi batchSpi = (AEADBatchSpi) spi;
+        batchSpi.engineSetBatchMode(parts.length == 3 ? parts[1].trim() : null);
+
+        return new BatchAEAD(batchSpi, transformation, provider);
+    }
+
+    public String getAlgorithm()
+    {
+        return algorithm;
+    }
+
+    public Provider getProvider()
+    {
+        return provider;
+    }
+
+    /**
+     * Key the cipher, the key applies to every following batch until init is called again.
+     *
+     * @param key the cipher key.
+     * @throws InvalidKeyException if the key is not suitable.
+     */
+    public void init(Key key)
+            throws InvalidKeyException
+    {
+        initialised = false;
+        spi.engineInitBatch(key);
+        initialised = true;
+    }
+
+    /**
+     * Seal count records. Record i uses the nonce at NONCE_LENGTH * i in nonces, the
+     * spans[4i + 1] bytes at spans[4i] in aad as associated data and the spans[4i + 3]
+     * bytes at spans[4i + 2] in input as plaintext. Its ciphertext and tag follow
+     * those of record i - 1 in out, starting at outOff.
+     *
+     * @param nonces the record nonces back to back.
+     * @param aad    the buffer holding the associated data, may be null if no record has any.
+     * @param input  the buffer holding the plaintexts, may be null if every record is empty.
+     * @param spans  an (aad offset, aad length, input offset, input length) quad per record.
+     * @param count  the number of records, spans must hold at least 4 * count entries.
+     * @param out    the buffer receiving the sealed records, see {@link #getSealOutputSize}.
+     * @param outOff where the first record is written.
+     * @return the number of bytes written.
+     * @throws IllegalStateException    if init has not been called.
+     * @throws IllegalArgumentException if a span lies outside its buffer, there are too few
+     *                                  nonces, two records share a nonce or the records do
+     *                                  not fit in out.
+     */
+    public int seal(byte[] nonces, byte[] aad, byte[] input, int[] spans, int count, byte[] out, int outOff)
+    {
+        checkBatch(nonces, aad, input, spans, count, out);
+        checkNoncesUnique(nonces, count);
+
+        return spi.engineAEADBatch(true, nonces, aad, input, spans, count, out, outOff, new int[count]);
+    }
+
+    /**
+     * Open count records sealed by {@link #seal}, the input span of each record covers
+     * its ciphertext and tag. Record i's plaintext follows that of record i - 1 in out,
+     * starting at outOff. A record failing its tag check does not stop the batch, its
+     * plaintext is zeroed and verified[i] is set false.
+     *
+     * @param nonces   the record nonces back to back.
+     * @param aad      the buffer holding the associated data, may be null if no record has any.
+     * @param input    the buffer holding the sealed records.
+     * @param spans    an (aad offset, aad length, input offset, input length) quad per record.
+     * @param count    the number of records, spans must hold at least 4 * count entries.
+     * @param out      the buffer receiving the plaintexts, see {@link #getOpenOutputSize}.
+     * @param outOff   where the first plaintext is written.
+     * @param verified receives true for each record that authenticated, may be null.
+     * @return the number of records that failed to authenticate, zero if all opened.
+     * @throws IllegalStateException    if init has not been called.
+     * @throws IllegalArgumentException if a span lies outside its buffer, there are too few
+     *                                  nonces or the records do not fit in out.
+     */
+    public int open(byte[] nonces, byte[] aad, byte[] input, int[] spans, int count, byte[] out, int outOff, boolean[] verified)
+    {
+        checkBatch(nonces, aad, input, spans, count, out);
+        if (verified != null && verified.length < count)
+        {
+            throw new IllegalArgumentException("verified is shorter than count");
+        }
+
+        int[] status = new int[count];
+        spi.engineAEADBatch(false, nonces, aad, input, spans, count, out, outOff, status);
+
+        int failed = 0;
+        for (int i = 0; i != count; i++)
+        {
+            boolean ok = status[i] >= 0;
+            if (!ok)
+            {
+                failed++;
+            }
+            if (verified != null)
+            {
+                verified[i] = ok;
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * The number of bytes seal writes for the records described by spans.
+     */
+    public static int getSealOutputSize(int[] spans, int count)
+    {
+        checkSpans(spans, count);
+
+        int total = 0;
+        for (int i = 0; i != count; i++)
+        {
+            total = Math.addExact(total, Math.addExact(spans[4 * i + 3], TAG_LENGTH));
+        }
+        return total;
+    }
+
+    /**
+     * The number of bytes open writes for the records described by spans.
+     */
+    public static int getOpenOutputSize(int[] spans, int count)
+    {
+        checkSpans(spans, count);
+
+        int total = 0;
+        for (int i = 0; i != count; i++)
+        {
+            total = Math.addExact(total, Math.max(0, spans[4 * i + 3] - TAG_LENGTH));
+        }
+        return total;
+    }
+
+    private void checkBatch(byte[] nonces, byte[] aad, byte[] input, int[] spans, int count, byte[] out)
+    {
+        if (!initialised)
+        {
+            throw new IllegalStateException("not initialized");
+        }
+        checkSpans(spans, count);
+        if (count > 0)
+        {
+            if (nonces == null)
+            {
+                throw new NullPointerException("nonces is null");
+            }
+            if (nonces.length / NONCE_LENGTH < count)
+            {
+                throw new IllegalArgumentException("fewer than count nonces");
+            }
+        }
+        // Records are read and written in one pass, an output over any input is corrupted.
+        if (out != null && (out == input || out == aad || out == nonces))
+        {
+            throw new IllegalArgumentException("output must not share an array with the input");
+        }
+    }
+
+    /**
+     * Sealing two records under one nonce and key gives away the keystream and, for GCM,
+     * the authentication key, so a batch must not repeat a nonce.
+     */
+    private static void checkNoncesUnique(byte[] nonces, int count)
+    {
+        if (count < 2)
+        {
+            return;
+        }
+
+        Set<ByteBuffer> seen = new HashSet<ByteBuffer>(count * 2);
+        for (int i = 0; i != count; i++)
+        {
+            if (!seen.add(ByteBuffer.wrap(nonces, i * NONCE_LENGTH, NONCE_LENGTH)))
+            {
+                throw new IllegalArgumentException("duplicate nonce in batch");
+            }
+        }
+    }
+
+    private static void checkSpans(int[] spans, int count)
+    {
+        if (spans == null)
+        {
+            throw new NullPointerException("spans is null");
+        }
+        if (count < 0 || count > spans.length / 4)
+        {
+            throw new IllegalArgumentException("count out of range for spans");
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.jcajce;
+
+import org.openssl.jostle.jcajce.provider.md.MDServiceSPI;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.Provider;
+import java.security.Security;
+
+/**
+ * Digest many short, independent messages in a single native call.
+ * <p>
+ * Each MessageDigest.digest costs at least one crossing into the native layer and an
+ * output allocation. When the messages are small, a Merkle tree level or a queue of
+ * requests to sign, that overhead dominates the hashing. A batch passes all the
+ * messages as (offset, length) spans into one input buffer and receives the digests
+ * back to back in one output buffer:
+ * <pre>
+ *     BatchDigest batch = BatchDigest.getInstance("SHA-256", "JSL");
+ *     int[] spans = {0, 32, 32, 64, 96, 17};  // three messages
+ *     byte[] digests = new byte[3 * batch.getDigestLength()];
+ *     batch.digest(input, spans, 3, digests, 0);
+ * </pre>
+ * The digests are the same as those of a MessageDigest from the same provider. Only
+ * the JSL and JSLFIPS providers support batching. Like MessageDigest an instance is
+ * not safe for concurrent use.
+ */
+public final class BatchDigest
+{
+    private final MDServiceSPI spi;
+    private final String algorithm;
+    private final Provider provider;
+    private final int digestLength;
+
+    private BatchDigest(MDServiceSPI spi, String algorithm, Provider provider)
+    {
+        this.spi = spi;
+        this.algorithm = algorithm;
+        this.provider = provider;
+        this.digestLength = spi.engineGetDigestLength();
+    }
+
+    /**
+     * Create a batch digest for algorithm from the named provider.
+     *
+     * @param algorithm the digest name or an alias, as for MessageDigest.
+     * @param provider  the provider name, JSL or JSLFIPS.
+     * @throws NoSuchProviderException  if the provider is not installed.
+     * @throws NoSuchAlgorithmException if the provider has no batch capable digest of that name.
+     */
+    public static BatchDigest getInstance(String algorithm, String provider)
+            throws NoSuchAlgorithmException, NoSuchProviderException
+    {
+        if (provider == null)
+        {
+            throw new IllegalArgumentException("provider is null");
+        }
+
+        Provider p = Security.getProvider(provider);
+        if (p == null)
+        {
+            throw new NoSuchProviderException("provider " + provider + " not found");
+        }
+
+        return getInstance(algorithm, p);
+    }
+
+    /**
+     * Create a batch digest for algorithm from provider.
+     *
+     * @param algorithm the digest name or an alias, as for MessageDigest.
+     * @param provider  a JSL or JSLFIPS provider instance.
+     * @throws NoSuchAlgorithmException if the provider has no batch capable digest of that name.
+     */
+    public static BatchDigest getInstance(String algorithm, Provider provider)
+            throws NoSuchAlgorithmException
+    {
+        if (algorithm == null)
+        {
+            throw new NullPointerException("algorithm is null");
+        }
+        if (provider == null)
+        {
+            throw new IllegalArgumentException("provider is null");
+        }
+
+        Provider.Service service = provider.getService("MessageDigest", algorithm);
+        if (service == null)
+        {
+            throw new NoSuchAlgorithmException(algorithm + " MessageDigest not available from " + provider.getName());
+        }
+
+        Object spi = service.newInstance(null);
+        if (!(spi instanceof MDServiceSPI))
+        {
+            throw new NoSuchAlgorithmException(algorithm + " from " + provider.getName() + " does not support batching");
+        }
+
+        return new BatchDigest((MDServiceSPI) spi, algorithm, provider);
+    }
+
+    public String getAlgorithm()
+    {
+        return algorithm;
+    }
+
+    public Provider getProvider()
+    {
+        return provider;
+    }
+
+    public int getDigestLength()
+    {
+        return digestLength;
+    }
+
+    /**
+     * Digest count messages, message i is the spans[2i + 1] bytes starting at
+     * spans[2i] in input. Digest i is written at outOff + i * getDigestLength().
+     *
+     * @param input  the buffer holding the messages, may be null if every message is empty.
+     * @param spans  an (offset, length) pair per message.
+     * @param count  the number of messages, spans must hold at least 2 * count entries.
+     * @param out    the buffer receiving the digests.
+     * @param outOff where the first digest is written.
+     * @return the number of bytes written, count * getDigestLength().
+     * @throws IllegalArgumentException if a span lies outside input or the digests do not fit in out.
+     */
+    public int digest(byte[] input, int[] spans, int count, byte[] out, int outOff)
+    {
+        if (spans == null)
+        {
+            throw new NullPointerException("spans is null");
+        }
+        if (count < 0 || count > spans.length / 2)
+        {
+            throw new IllegalArgumentException("count out of range for spans");
+        }
+
+        return spi.engineDigestBatch(input, spans, count, out, outOff);
+    }
+
+    /**
+     * Digest every message described by spans.
+     *
+     * @param input the buffer holding the messages, may be null if every message is empty.
+     * @param spans an (offset, length) pair per message.
+     * @return the digests back to back, spans.length / 2 of them.
+     */
+    public byte[] digest(byte[] input, int[] spans)
+    {
+        if (spans == null)
+        {
+            throw new NullPointerException("spans is null");
+        }
+
+        int count = spans.length / 2;
+        byte[] out = new byte[Math.multiplyExact(count, digestLength)];
+        digest(input, spans, count, out, 0);
+        return out;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.jcajce;
+
+import org.openssl.jostle.jcajce.provider.mac.MacServiceSPI;
+
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.Provider;
+import java.security.Security;
+
+/**
+ * MAC many short, independent messages under one key in a single native call.
+ * <p>
+ * The MAC counterpart of {@link BatchDigest}, the messages are (offset, length) spans
+ * into one input buffer and the tags are written back to back into one output buffer:
+ * <pre>
+ *     BatchMac batch = BatchMac.getInstance("HmacSHA256", "JSL");
+ *     batch.init(key);
+ *     byte[] tags = batch.doFinal(input, spans);
+ * </pre>
+ * The key stays in place between batches. The tags are the same as those of a Mac from
+ * the same provider. Only the JSL and JSLFIPS providers support batching. Like Mac an
+ * instance is not safe for concurrent use.
+ */
+public final class BatchMac
+{
+    private final MacServiceSPI spi;
+    private final String algorithm;
+    private final Provider provider;
+    private boolean initialised;
+
+    private BatchMac(MacServiceSPI spi, String algorithm, Provider provider)
+    {
+        this.spi = spi;
+        this.algorithm = algorithm;
+        this.provider = provider;
+    }
+
+    /**
+     * Create a batch MAC for algorithm from the named provider.
+     *
+     * @param algorithm the MAC name or an alias, as for Mac.
+     * @param provider  the provider name, JSL or JSLFIPS.
+     * @throws NoSuchProviderException  if the provider is not installed.
+     * @throws NoSuchAlgorithmException if the provider has no batch capable MAC of that name.
+     */
+    public static BatchMac getInstance(String algorithm, String provider)
+            throws NoSuchAlgorithmException, NoSuchProviderException
+    {
+        if (provider == null)
+        {
+            throw new IllegalArgumentException("provider is null");
+        }
+
+        Provider p = Security.getProvider(provider);
+        if (p == null)
+        {
+            throw new NoSuchProviderException("provider " + provider + " not found");
+        }
+
+        return getInstance(algorithm, p);
+    }
+
+    /**
+     * Create a batch MAC for algorithm from provider.
+     *
+     * @param algorithm the MAC name or an alias, as for Mac.
+     * @param provider  a JSL or JSLFIPS provider instance.
+     * @throws NoSuchAlgorithmException if the provider has no batch capable MAC of that name.
+     */
+    public static BatchMac getInstance(String algorithm, Provider provider)
+            throws NoSuchAlgorithmException
+    {
+        if (algorithm == null)
+        {
+            throw new NullPointerException("algorithm is null");
+        }
+        if (provider == null)
+        {
+            throw new IllegalArgumentException("provider is null");
+        }
+
+        Provider.Service service = provider.getService("Mac", algorithm);
+        if (service == null)
+        {
+            throw new NoSuchAlgorithmException(algorithm + " Mac not available from " + provider.getName());
+        }
+
+        Object spi = service.newInstance(null);
+        if (!(spi instanceof MacServiceSPI))
+        {
+            throw new NoSuchAlgorithmException(algorithm + " from " + provider.getName() + " does not support batching");
+        }
+
+        return new BatchMac((MacServiceSPI) spi, algorithm, provider);
+    }
+
+    public String getAlgorithm()
+    {
+        return algorithm;
+    }
+
+    public Provider getProvider()
+    {
+        return provider;
+    }
+
+    public int getMacLength()
+    {
+        return spi.engineGetMacLength();
+    }
+
+    /**
+     * Key the MAC, the key applies to every following batch until init is called again.
+     *
+     * @param key the MAC key.
+     * @throws InvalidKeyException if the key is not suitable.
+     */
+    public void init(Key key)
+            throws InvalidKeyException
+    {
+        initialised = false;
+        spi.engineInit(key);
+        initialised = true;
+    }
+
+    /**
+     * MAC count messages, message i is the spans[2i + 1] bytes starting at spans[2i]
+     * in input. Tag i is written at outOff + i * getMacLength().
+     *
+     * @param input  the buffer holding the messages, may be null if every message is empty.
+     * @param spans  an (offset, length) pair per message.
+     * @param count  the number of messages, spans must hold at least 2 * count entries.
+     * @param out    the buffer receiving the tags.
+     * @param outOff where the first tag is written.
+     * @return the number of bytes written, count * getMacLength().
+     * @throws IllegalStateException    if init has not been called.
+     * @throws IllegalArgumentException if a span lies outside input or the tags do not fit in out.
+     */
+    public int doFinal(byte[] input, int[] spans, int count, byte[] out, int outOff)
+    {
+        if (!initialised)
+        {
+            throw new IllegalStateException("not initialized");
+        }
+        if (spans == null)
+        {
+            throw new NullPointerException("spans is null");
+        }
+        if (count < 0 || count > spans.length / 2)
+        {
+            throw new IllegalArgumentException("count out of range for spans");
+        }
+
+        return spi.engineDoFinalBatch(input, spans, count, out, outOff);
+    }
+
+    /**
+     * MAC every message described by spans.
+     *
+     * @param input the buffer holding the messages, may be null if every message is empty.
+     * @param spans an (offset, length) pair per message.
+     * @return the tags back to back, spans.length / 2 of them.
+     * @throws IllegalStateException if init has not been called.
+     */
+    public byte[] doFinal(byte[] input, int[] spans)
+    {
+        if (spans == null)
+        {
+            throw new NullPointerException("spans is null");
+        }
+
+        int count = spans.length / 2;
+        byte[] out = new byte[Math.multiplyExact(count, getMacLength())];
+        doFinal(input, spans, count, out, 0);
+        return out;
+    }
+}
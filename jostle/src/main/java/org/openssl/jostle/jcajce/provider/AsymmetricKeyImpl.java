@@ -37,6 +37,11 @@ public class AsymmetricKeyImpl
         return spec.getReference();
     }
 
+    public PKEYKeySpec getSpec()
+    {
+        return spec;
+    }
+
     /**
      * Two keys are equal when their encoded forms match. Every concrete subclass
      * implements {@link java.security.Key} (a public key encodes as X.509
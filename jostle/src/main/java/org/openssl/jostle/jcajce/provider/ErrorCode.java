@@ -208,6 +208,12 @@ public enum ErrorCode
     // Below the RFC 9106 floor of 8 * lanes KiB.
     JO_KDF_ARGON2_MEMORY_TOO_SMALL(-149),
 
+    // X9.63 / X9.42 key agreement KDF inputs.
+    JO_KDF_SECRET_NULL(-150),
+    JO_KDF_SECRET_FAILED_ACCESS(-151),
+    JO_KDF_INFO_FAILED_ACCESS(-152),
+    JO_KDF_CEK_ALG_UNKNOWN(-153),
+
     JO_FIPS_MODULE_PATH_INVALID(-400),
     JO_FIPS_CONFIG_LOAD_FAILED(-401),
     JO_FIPS_PROVIDER_UNAVAILABLE(-402),
@@ -19,7 +19,6 @@ import org.openssl.jostle.util.asn1.ASN1ObjectIdentifier;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.lang.ref.WeakReference;
 import java.security.NoSuchAlgorithmException;
 import java.security.Provider;
 import java.security.Security;
@@ -37,11 +36,14 @@ public class JostleProvider
      */
     public static final String OPENSSL_PROVIDER_NAME = "org.openssl.jostle.ossl_prov";
 
-    private transient Map<String, JoService> serviceMap;
     private transient Map<String, EngineCreator> creatorMap;
     private transient Map<Map<String, String>, Map<String, String>> attributeMaps;
 
-    private transient WeakReference<Set<Service>> serviceSetCache;
+    /**
+     * Immutable service table, rebuilt after registration and read without locking.
+     * Null until first built or after any registration invalidates it.
+     */
+    private transient volatile ServiceIndex serviceIndex;
 
     public JostleProvider()
     {
@@ -98,10 +100,9 @@ public class JostleProvider
 
     private void initTransientState()
     {
-        serviceMap = new HashMap<String, JoService>();
         creatorMap = new HashMap<String, EngineCreator>();
         attributeMaps = new HashMap<Map<String, String>, Map<String, String>>();
-        serviceSetCache = new WeakReference<Set<Service>>(null);
+        serviceIndex = null;
     }
 
     private void readObject(ObjectInputStream in)
@@ -154,6 +155,8 @@ public class JostleProvider
         new ProvMac().configure(this);
         new ProvX509().configure(this);
         new ProvKS().configure(this);
+
+        publishServices();
     }
 
     void addAttribute(String type, String name, String attributeName, String attributeValue)
@@ -165,7 +168,7 @@ public class JostleProvider
             throw new IllegalStateException("duplicate provider attribute key (" + attributeKey + ") found");
         }
 
-        put(attributeKey, attributeValue);
+        putEntry(attributeKey, attributeValue);
     }
 
     void addAttribute(String type, ASN1ObjectIdentifier name, String attributeName, String attributeValue)
@@ -177,7 +180,7 @@ public class JostleProvider
             throw new IllegalStateException("duplicate provider attribute key (" + attributeKey + ") found");
         }
 
-        put(attributeKey, attributeValue);
+        putEntry(attributeKey, attributeValue);
     }
 
     void addAttributes(String type, String name, Map<String, String> attributes)
@@ -216,7 +219,7 @@ public class JostleProvider
         }
 
 
-        put(key1, className);
+        putEntry(key1, className);
         if (creatorMap.containsKey(className))
         {
             throw new IllegalStateException("duplicate creatorMap key (" + className + ") found");
@@ -242,7 +245,7 @@ public class JostleProvider
 
 
 
-        put(key1, className);
+        putEntry(key1, className);
         if (creatorMap.containsKey(className))
         {
             throw new IllegalStateException("duplicate creatorMap key (" + className + ") found");
@@ -259,7 +262,7 @@ public class JostleProvider
             throw new IllegalStateException("duplicate provider key (" + key + ") found");
         }
 
-        put(key, value);
+        putEntry(key, value);
     }
 
     public void addAlias(String type, String name, String... aliases)
@@ -321,101 +324,187 @@ public class JostleProvider
             throw new IllegalStateException("duplicate provider key (" + key + ") found");
         }
 
-        put(key, name);
+        putEntry(key, name);
     }
 
-    public synchronized final Service getService(String type, String algorithm)
+    private synchronized void putEntry(String key, String value)
     {
-        String upperCaseAlgName = algorithm.toUpperCase(Locale.ROOT);
+        put(key, value);
+        serviceIndex = null;
+    }
 
-        JoService service = serviceMap.get(type + "." + upperCaseAlgName);
+    public final Service getService(String type, String algorithm)
+    {
+        return getServiceIndex().services.get(indexKey(type, algorithm));
+    }
 
-        if (service == null)
+    public final Set<Service> getServices()
+    {
+        return getServiceIndex().serviceSet;
+    }
+
+    private ServiceIndex getServiceIndex()
+    {
+        ServiceIndex index = serviceIndex;
+        if (index == null)
         {
-            String aliasString = "Alg.Alias." + type + ".";
-            String realName = (String) this.get(aliasString + upperCaseAlgName);
+            index = buildServiceIndex();
+        }
+        return index;
+    }
 
-            if (realName == null)
-            {
-                realName = upperCaseAlgName;
-            }
+    private static String indexKey(String type, String name)
+    {
+        return Strings.toUpperCase(type) + "." + Strings.toUpperCase(name);
+    }
+
+    /**
+     * Build the service table from the current registrations and publish it.
+     * Called once registration is complete, any later registration discards
+     * the table and the next lookup rebuilds it.
+     */
+    protected final void publishServices()
+    {
+        buildServiceIndex();
+    }
+
+    private synchronized ServiceIndex buildServiceIndex()
+    {
+        ServiceIndex index = serviceIndex;
+        if (index != null)
+        {
+            return index;
+        }
 
-            String className = (String) this.get(type + "." + realName);
+        Map<String, String> classNames = new LinkedHashMap<String, String>();
+        Map<String, String> primaryNames = new HashMap<String, String>();
+        Map<String, List<String>> aliases = new HashMap<String, List<String>>();
+        Map<String, Map<String, String>> attributes = new HashMap<String, Map<String, String>>();
 
-            if (className == null)
+        for (Map.Entry<Object, Object> entry : this.entrySet())
+        {
+            if (!(entry.getKey() instanceof String) || !(entry.getValue() instanceof String))
             {
-                return null;
+                continue;
             }
 
-            String attributeKeyStart = type + "." + upperCaseAlgName + " ";
+            String key = (String) entry.getKey();
+            String value = (String) entry.getValue();
 
-            List<String> aliases = new ArrayList<String>();
-            Map<String, String> attributes = new HashMap<String, String>();
-
-            for (Map.Entry<Object, Object> entry : this.entrySet())
+            if (key.startsWith("Alg.Alias."))
             {
-                String sKey = (String) entry.getKey();
-                if (sKey.startsWith(aliasString))
+                String typeAndAlias = key.substring("Alg.Alias.".length());
+                int dot = typeAndAlias.indexOf('.');
+                if (dot > 0)
                 {
-                    if (entry.getValue().equals(algorithm))
+                    String target = indexKey(typeAndAlias.substring(0, dot), value);
+                    List<String> targetAliases = aliases.get(target);
+                    if (targetAliases == null)
                     {
-                        aliases.add(sKey.substring(aliasString.length()));
+                        targetAliases = new ArrayList<String>();
+                        aliases.put(target, targetAliases);
                     }
+                    targetAliases.add(typeAndAlias.substring(dot + 1));
                 }
-                if (sKey.startsWith(attributeKeyStart))
-                {
-                    attributes.put(sKey.substring(attributeKeyStart.length()), (String) entry.getValue());
-                }
+                continue;
+            }
+
+            if (key.startsWith("Provider."))
+            {
+                continue;
             }
 
-            service = new JoService(this, type, upperCaseAlgName, className, aliases, getAttributeMap(attributes), creatorMap.get(className));
+            int space = key.indexOf(' ');
+            String typeAndName = space < 0 ? key : key.substring(0, space);
+            int dot = typeAndName.indexOf('.');
+            if (dot <= 0)
+            {
+                continue;
+            }
 
-            serviceMap.put(type + "." + upperCaseAlgName, service);
+            String serviceKey = indexKey(typeAndName.substring(0, dot), typeAndName.substring(dot + 1));
+            if (space < 0)
+            {
+                classNames.put(serviceKey, value);
+                primaryNames.put(serviceKey, typeAndName);
+            }
+            else
+            {
+                Map<String, String> serviceAttributes = attributes.get(serviceKey);
+                if (serviceAttributes == null)
+                {
+                    serviceAttributes = new HashMap<String, String>();
+                    attributes.put(serviceKey, serviceAttributes);
+                }
+                serviceAttributes.put(key.substring(space + 1).trim(), value);
+            }
         }
 
-        return service;
-    }
-
-    public synchronized final Set<Service> getServices()
-    {
-        Set<Service> bcServiceSet = serviceSetCache.get();
+        Map<String, Service> services = new HashMap<String, Service>();
+        List<Service> ordered = new ArrayList<Service>();
 
-        if (bcServiceSet == null)
+        for (Map.Entry<String, String> entry : classNames.entrySet())
         {
-            Set<Service> serviceSet = super.getServices();
-
-            bcServiceSet = new LinkedHashSet<Service>();
+            String serviceKey = entry.getKey();
+            String typeAndName = primaryNames.get(serviceKey);
+            int dot = typeAndName.indexOf('.');
+            String className = entry.getValue();
+
+            List<String> serviceAliases = aliases.get(serviceKey);
+            Map<String, String> serviceAttributes = attributes.get(serviceKey);
+
+            JoService service = new JoService(this,
+                    typeAndName.substring(0, dot),
+                    Strings.toUpperCase(typeAndName.substring(dot + 1)),
+                    className,
+                    serviceAliases == null ? new ArrayList<String>() : serviceAliases,
+                    getAttributeMap(serviceAttributes == null ? new HashMap<String, String>() : serviceAttributes),
+                    creatorMap.get(className));
+
+            services.put(serviceKey, service);
+            ordered.add(service);
+        }
 
-            // Only add SecureRandom services if they are actually registered.
-            // Previous behavior unconditionally added the results of getService(...),
-            // which could be null and leak nulls into the returned Set, causing
-            // callers iterating over getServices() to hit NPEs.
-            Service srDefault = getService("SecureRandom", "DEFAULT");
-            if (srDefault != null)
-            {
-                bcServiceSet.add(srDefault);
-            }
-            Service srNonceAndIv = getService("SecureRandom", "NONCEANDIV");
-            if (srNonceAndIv != null)
+        //
+        // Aliases resolve to the service of their target, a primary name always
+        // wins over an alias spelt the same way.
+        //
+        for (Map.Entry<String, List<String>> entry : aliases.entrySet())
+        {
+            Service target = services.get(entry.getKey());
+            if (target == null)
             {
-                bcServiceSet.add(srNonceAndIv);
+                continue;
             }
 
-            for (Service service : serviceSet)
+            for (String alias : entry.getValue())
             {
-                Service serv = getService(service.getType(), service.getAlgorithm());
-                if (serv != null)
+                String aliasKey = indexKey(target.getType(), alias);
+                if (!classNames.containsKey(aliasKey))
                 {
-                    bcServiceSet.add(serv);
+                    services.put(aliasKey, target);
                 }
             }
+        }
 
-            bcServiceSet = Collections.unmodifiableSet(bcServiceSet);
-
-            serviceSetCache = new WeakReference<Set<Service>>(bcServiceSet);
+        // SecureRandom DEFAULT and NONCEANDIV lead the set so they are picked first.
+        Set<Service> serviceSet = new LinkedHashSet<Service>();
+        Service srDefault = services.get(indexKey("SecureRandom", "DEFAULT"));
+        if (srDefault != null)
+        {
+            serviceSet.add(srDefault);
         }
+        Service srNonceAndIv = services.get(indexKey("SecureRandom", "NONCEANDIV"));
+        if (srNonceAndIv != null)
+        {
+            serviceSet.add(srNonceAndIv);
+        }
+        serviceSet.addAll(ordered);
 
-        return bcServiceSet;
+        index = new ServiceIndex(Collections.unmodifiableMap(services), Collections.unmodifiableSet(serviceSet));
+        serviceIndex = index;
+
+        return index;
     }
 
     private Map<String, String> getAttributeMap(Map<String, String> attributeMap)
@@ -431,6 +520,21 @@ public class JostleProvider
         return attributeMap;
     }
 
+    /**
+     * Snapshot of every service keyed by upper case type and name, alias or OID.
+     */
+    private static final class ServiceIndex
+    {
+        private final Map<String, Service> services;
+        private final Set<Service> serviceSet;
+
+        private ServiceIndex(Map<String, Service> services, Set<Service> serviceSet)
+        {
+            this.services = services;
+            this.serviceSet = serviceSet;
+        }
+    }
+
     private static class JoService
             extends Service
     {
@@ -487,12 +591,12 @@ public class JostleProvider
             throw new IllegalStateException("duplicate provider key (" + key + ") found");
         }
 
-        put(key, value);
+        putEntry(key, value);
     }
 
     public void addAttributes(String key, Map<String, String> attributeMap)
     {
-        put(key + " ImplementedIn", "Software");
+        putEntry(key + " ImplementedIn", "Software");
 
         for (Iterator it = attributeMap.keySet().iterator(); it.hasNext(); )
         {
@@ -503,7 +607,7 @@ public class JostleProvider
                 throw new IllegalStateException("duplicate provider attribute key (" + attributeKey + ") found");
             }
 
-            put(attributeKey, attributeMap.get(attributeName));
+            putEntry(attributeKey, attributeMap.get(attributeName));
         }
     }
 
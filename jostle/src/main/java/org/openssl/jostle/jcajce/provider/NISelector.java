@@ -55,63 +55,251 @@ import org.openssl.jostle.util.ops.OperationsTestNI;
 /**
  * Implemented in here and in java22 code path
  * Version in Java 22 src path will check for the use of FFI interface and use that if loaded.
+ * <p>
+ * Each family is held in its own nested class, so an implementation is only
+ * constructed the first time its getter is called.
  */
 public class NISelector
 {
-    public static final BlockCipherNI BlockCipherNI;
-    public static final CCMCipherNI CCMCipherNI;
-    public static final OpenSSLNI OpenSSLNI;
-    public static final OperationsTestNI OperationsTestNI;
-
-    public static final NativeServiceNI NativeServiceNI;
-    public static final MLDSAServiceNI MLDSAServiceNI;
-    public static final SpecNI SpecNI;
-    public static final Asn1Ni Asn1NI;
-    public static final SLHDSAServiceNI SLHDSAServiceNI;
-    public static final MLKEMServiceNI MLKEMServiceNI;
-    public static final KdfNI KdfNI;
+    public static BlockCipherNI getBlockCipherNI()
+    {
+        return BlockCipherHolder.NI;
+    }
+
+    private static final class BlockCipherHolder
+    {
+        static final BlockCipherNI NI = new BlockCipherJNI();
+    }
+
+    public static CCMCipherNI getCCMCipherNI()
+    {
+        return CCMCipherHolder.NI;
+    }
+
+    private static final class CCMCipherHolder
+    {
+        static final CCMCipherNI NI = new CCMCipherJNI();
+    }
+
+    public static OpenSSLNI getOpenSSLNI()
+    {
+        return OpenSSLHolder.NI;
+    }
+
+    private static final class OpenSSLHolder
+    {
+        static final OpenSSLNI NI = new OpenSSLJNI();
+    }
+
+    public static OperationsTestNI getOperationsTestNI()
+    {
+        return OperationsTestHolder.NI;
+    }
+
+    private static final class OperationsTestHolder
+    {
+        static final OperationsTestNI NI = new OperationsTestJNI();
+    }
+
+    public static NativeServiceNI getNativeServiceNI()
+    {
+        return NativeServiceHolder.NI;
+    }
+
+    private static final class NativeServiceHolder
+    {
+        static final NativeServiceNI NI = new NativeServiceJNI();
+    }
+
+    public static MLDSAServiceNI getMLDSAServiceNI()
+    {
+        return MLDSAServiceHolder.NI;
+    }
+
+    private static final class MLDSAServiceHolder
+    {
+        static final MLDSAServiceNI NI = new MLDSAServiceJNI();
+    }
+
+    public static SpecNI getSpecNI()
+    {
+        return SpecHolder.NI;
+    }
+
+    private static final class SpecHolder
+    {
+        static final SpecNI NI = new SpecJNI();
+    }
+
+    public static Asn1Ni getAsn1NI()
+    {
+        return Asn1Holder.NI;
+    }
+
+    private static final class Asn1Holder
+    {
+        static final Asn1Ni NI = new Asn1NiJNI();
+    }
+
+    public static SLHDSAServiceNI getSLHDSAServiceNI()
+    {
+        return SLHDSAServiceHolder.NI;
+    }
+
+    private static final class SLHDSAServiceHolder
+    {
+        static final SLHDSAServiceNI NI = new SLHDSAServiceJNI();
+    }
+
+    public static MLKEMServiceNI getMLKEMServiceNI()
+    {
+        return MLKEMServiceHolder.NI;
+    }
+
+    private static final class MLKEMServiceHolder
+    {
+        static final MLKEMServiceNI NI = new MLKEMServiceJNI();
+    }
+
+    public static KdfNI getKdfNI()
+    {
+        return KdfHolder.NI;
+    }
+
+    private static final class KdfHolder
+    {
+        static final KdfNI NI = new KdfNIJNI();
+    }
 
     // Base-provider only: scrypt / Argon2 are not served by the FIPS module,
     // so there is no FIPSNISelector counterpart (see MemoryHardKdfNI).
-    public static final MemoryHardKdfNI MemoryHardKdfNI;
-    public static final MDServiceNI MDServiceNI;
-    public static final EDServiceNI EDServiceNI;
-    public static final RSAServiceNI RSAServiceNI;
-    public static final RSAOAEPCipherNI RSAOAEPCipherNI;
-    public static final RSAPKCS1CipherNI RSAPKCS1CipherNI;
-    public static final ECServiceNI ECServiceNI;
-    public static final DSAServiceNI DSAServiceNI;
-    public static final DHServiceNI DHServiceNI;
-    public static final XECServiceNI XECServiceNI;
-    public static final MacServiceNI MacServiceNI;
-    public static final RandServiceNI RandServiceNI;
-    public static final KSServiceNI KSServiceNI;
-
-    static
-    {
-        BlockCipherNI = new BlockCipherJNI();
-        CCMCipherNI = new CCMCipherJNI();
-        OpenSSLNI = new OpenSSLJNI();
-        NativeServiceNI = new NativeServiceJNI();
-        MLDSAServiceNI = new MLDSAServiceJNI();
-        SpecNI = new SpecJNI();
-        Asn1NI = new Asn1NiJNI();
-        OperationsTestNI = new OperationsTestJNI();
-        SLHDSAServiceNI = new SLHDSAServiceJNI();
-        MLKEMServiceNI = new MLKEMServiceJNI();
-        KdfNI = new KdfNIJNI();
-        MemoryHardKdfNI = new MemoryHardKdfNIJNI();
-        MDServiceNI = new MDServiceJNI();
-        EDServiceNI = new EDServiceJNI();
-        RSAServiceNI = new RSAServiceJNI();
-        RSAOAEPCipherNI = new RSAOAEPCipherJNI();
-        RSAPKCS1CipherNI = new RSAPKCS1CipherJNI();
-        ECServiceNI = new ECServiceJNI();
-        DSAServiceNI = new DSAServiceJNI();
-        DHServiceNI = new DHServiceJNI();
-        XECServiceNI = new XECServiceJNI();
-        MacServiceNI = new MacServiceJNI();
-        RandServiceNI = new RandServiceJNI();
-        KSServiceNI = new KSServiceJNI();
+    public static MemoryHardKdfNI getMemoryHardKdfNI()
+    {
+        return MemoryHardKdfHolder.NI;
+    }
+
+    private static final class MemoryHardKdfHolder
+    {
+        static final MemoryHardKdfNI NI = new MemoryHardKdfNIJNI();
+    }
+
+    public static MDServiceNI getMDServiceNI()
+    {
+        return MDServiceHolder.NI;
+    }
+
+    private static final class MDServiceHolder
+    {
+        static final MDServiceNI NI = new MDServiceJNI();
+    }
+
+    public static EDServiceNI getEDServiceNI()
+    {
+        return EDServiceHolder.NI;
+    }
+
+    private static final class EDServiceHolder
+    {
+        static final EDServiceNI NI = new EDServiceJNI();
+    }
+
+    public static RSAServiceNI getRSAServiceNI()
+    {
+        return RSAServiceHolder.NI;
+    }
+
+    private static final class RSAServiceHolder
+    {
+        static final RSAServiceNI NI = new RSAServiceJNI();
+    }
+
+    public static RSAOAEPCipherNI getRSAOAEPCipherNI()
+    {
+        return RSAOAEPCipherHolder.NI;
+    }
+
+    private static final class RSAOAEPCipherHolder
+    {
+        static final RSAOAEPCipherNI NI = new RSAOAEPCipherJNI();
+    }
+
+    public static RSAPKCS1CipherNI getRSAPKCS1CipherNI()
+    {
+        return RSAPKCS1CipherHolder.NI;
+    }
+
+    private static final class RSAPKCS1CipherHolder
+    {
+        static final RSAPKCS1CipherNI NI = new RSAPKCS1CipherJNI();
+    }
+
+    public static ECServiceNI getECServiceNI()
+    {
+        return ECServiceHolder.NI;
+    }
+
+    private static final class ECServiceHolder
+    {
+        static final ECServiceNI NI = new ECServiceJNI();
+    }
+
+    public static DSAServiceNI getDSAServiceNI()
+    {
+        return DSAServiceHolder.NI;
+    }
+
+    private static final class DSAServiceHolder
+    {
+        static final DSAServiceNI NI = new DSAServiceJNI();
+    }
+
+    public static DHServiceNI getDHServiceNI()
+    {
+        return DHServiceHolder.NI;
+    }
+
+    private static final class DHServiceHolder
+    {
+        static final DHServiceNI NI = new DHServiceJNI();
+    }
+
+    public static XECServiceNI getXECServiceNI()
+    {
+        return XECServiceHolder.NI;
+    }
+
+    private static final class XECServiceHolder
+    {
+        static final XECServiceNI NI = new XECServiceJNI();
+    }
+
+    public static MacServiceNI getMacServiceNI()
+    {
+        return MacServiceHolder.NI;
+    }
+
+    private static final class MacServiceHolder
+    {
+        static final MacServiceNI NI = new MacServiceJNI();
+    }
+
+    public static RandServiceNI getRandServiceNI()
+    {
+        return RandServiceHolder.NI;
+    }
+
+    private static final class RandServiceHolder
+    {
+        static final RandServiceNI NI = new RandServiceJNI();
+    }
+
+    public static KSServiceNI getKSServiceNI()
+    {
+        return KSServiceHolder.NI;
+    }
+
+    private static final class KSServiceHolder
+    {
+        static final KSServiceNI NI = new KSServiceJNI();
     }
 }
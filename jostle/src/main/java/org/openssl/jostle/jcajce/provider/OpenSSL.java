@@ -11,12 +11,19 @@
 package org.openssl.jostle.jcajce.provider;
 
 import org.openssl.jostle.CryptoServicesRegistrar;
+import org.openssl.jostle.util.Properties;
 
 /**
  * Allow setting of OpenSSL Specific parameters
  */
 public class OpenSSL
 {
+    /**
+     * Bytes fetched per up-call to a non-Jostle SecureRandom, 0 (the default)
+     * fetches exactly what each draw asks for.
+     */
+    public static final String RAND_UPCALL_BLOCK_PROP = "org.openssl.jostle.rand.upcall_block";
+
     private static String lastModuleName;
 
     /**
@@ -45,7 +52,7 @@ public class OpenSSL
 
         CryptoServicesRegistrar.assertNativeAvailable();
 
-        ErrorCode code = ErrorCode.forCode(NISelector.OpenSSLNI.setOSSLProviderModule(moduleName));
+        ErrorCode code = ErrorCode.forCode(NISelector.getOpenSSLNI().setOSSLProviderModule(moduleName));
         switch (code)
         {
             case JO_SUCCESS:
@@ -64,6 +71,8 @@ public class OpenSSL
                 throw new IllegalArgumentException("unexpected return code: " + code);
         }
 
+        NISelector.getOpenSSLNI().setRandUpCallBlock(Math.max(0, Properties.asInteger(RAND_UPCALL_BLOCK_PROP, 0)));
+
         lastModuleName = moduleName;
     }
 
@@ -77,7 +86,7 @@ public class OpenSSL
     {
 
         CryptoServicesRegistrar.assertNativeAvailable();
-        String error = NISelector.OpenSSLNI.getOSSLErrors();
+        String error = NISelector.getOpenSSLNI().getOSSLErrors();
         if (error.isEmpty())
         {
             error = null;
@@ -15,6 +15,9 @@ class OpenSSLJNI implements OpenSSLNI
     @Override
     public native int setOSSLProviderModule(String provider);
 
+    @Override
+    public native void setRandUpCallBlock(int blockSize);
+
     @Override
     public native String getOSSLErrors();
 }
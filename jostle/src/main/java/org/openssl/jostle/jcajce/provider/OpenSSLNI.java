@@ -14,5 +14,7 @@ public interface OpenSSLNI
 {
     int setOSSLProviderModule(String provider);
 
+    void setRandUpCallBlock(int blockSize);
+
     String getOSSLErrors();
 }
@@ -0,0 +1,47 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.jcajce.provider.blockcipher;
+
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Entry points for {@link org.openssl.jostle.jcajce.BatchAEAD}, implemented by the
+ * cipher SPIs so a batch runs on the same native context and key checks as Cipher.
+ * Batches use a 12 byte nonce and a 16 byte tag.
+ */
+public interface AEADBatchSpi
+{
+    /**
+     * Select the AEAD mode for batching.
+     *
+     * @param mode the mode from the transformation, null keeps the mode the algorithm mandates.
+     * @throws NoSuchAlgorithmException if the mode cannot be batched, only GCM and
+     *                                  ChaCha20-Poly1305 can.
+     */
+    void engineSetBatchMode(String mode)
+            throws NoSuchAlgorithmException;
+
+    /**
+     * Key the native context, the key is kept for every following batch.
+     */
+    void engineInitBatch(Key key)
+            throws InvalidKeyException;
+
+    /**
+     * Seal or open count records in one native call, see BlockCipherNI.ni_aeadBatch.
+     *
+     * @return the total number of bytes written.
+     */
+    int engineAEADBatch(boolean seal, byte[] nonces, byte[] aad, byte[] input, int[] spans, int count,
+                        byte[] out, int outOff, int[] status);
+}
@@ -38,10 +38,38 @@ public interface BlockCipherNI extends DefaultServiceNI
 
     int ni_updateAAD(long ref, byte[] input, int inputOffset, int inputLen);
 
+    /**
+     * Update using buffers addressed in place, each of output and input is either a direct
+     * ByteBuffer or a byte[]. Offsets are absolute, for a direct buffer relative to its address
+     * and for an array relative to the start of the array.
+     */
+    int ni_updateBuffer(long ref, Object output, int outputOffset, int outputLen, Object input, int inputOffset, int inputLen);
+
+    /**
+     * Final using an output addressed in place, either a direct ByteBuffer or a byte[].
+     */
+    int ni_doFinalBuffer(long ref, Object output, int outputOffset, int outputLen);
+
     int ni_getFinalSize(long ref, int length);
 
     int ni_getUpdateSize(long ref, int length);
 
+    /**
+     * Return the context to its freshly created state, key material is cleansed.
+     */
+    int ni_reset(long ref);
+
+    /**
+     * Seal or open count AEAD records under the key ref was initialised with. Record i
+     * uses nonce i from nonces and the spans[4i + 1] aad bytes at spans[4i] and the
+     * spans[4i + 3] input bytes at spans[4i + 2]. Outputs are written back to back from
+     * outputOffset, status[i] receives the bytes written for record i or a negative
+     * error, a record failing its tag check does not stop the batch.
+     *
+     * @return total bytes written or a negative error.
+     */
+    int ni_aeadBatch(long ref, int oppmode, byte[] nonces, byte[] aad, byte[] input, int[] spans, int count, byte[] output, int outputOffset, int[] status);
+
     void ni_dispose(long ref);
 
 
@@ -128,6 +156,39 @@ public interface BlockCipherNI extends DefaultServiceNI
 
     }
 
+    default int updateBuffer(long ref, Object output, int outputOffset, int outputLen, Object input, int inputOffset, int inputLen) throws ShortBufferException, IllegalBlockSizeException
+    {
+        try
+        {
+            return (int) handleError(ni_updateBuffer(ref, output, outputOffset, outputLen, input, inputOffset, inputLen));
+        }
+        catch (ShortBufferException | IllegalBlockSizeException ex)
+        {
+            throw ex;
+        }
+        catch (InvalidKeyException | InvalidAlgorithmParameterException |
+               BadPaddingException others)
+        {
+            throw new RuntimeException(others.getMessage(), others);
+        }
+    }
+
+    default int doFinalBuffer(long ref, Object output, int outputOffset, int outputLen) throws ShortBufferException, IllegalBlockSizeException, BadPaddingException
+    {
+        try
+        {
+            return (int) handleError(ni_doFinalBuffer(ref, output, outputOffset, outputLen));
+        }
+        catch (ShortBufferException | IllegalBlockSizeException | BadPaddingException gsecEx)
+        {
+            throw gsecEx;
+        }
+        catch (InvalidKeyException | InvalidAlgorithmParameterException others)
+        {
+            throw new RuntimeException(others.getMessage(), others);
+        }
+    }
+
     default int updateAAD(long ref, byte[] input, int inputOffset, int inputLen)
     {
         try
@@ -167,6 +228,36 @@ public interface BlockCipherNI extends DefaultServiceNI
         }
     }
 
+    default void reset(long ref)
+    {
+        try
+        {
+            handleError(ni_reset(ref));
+        }
+        catch (InvalidKeyException | InvalidAlgorithmParameterException | ShortBufferException |
+               IllegalBlockSizeException | BadPaddingException others)
+        {
+            throw new RuntimeException(others.getMessage(), others);
+        }
+    }
+
+    default int aeadBatch(long ref, int oppmode, byte[] nonces, byte[] aad, byte[] input, int[] spans, int count, byte[] output, int outputOffset, int[] status)
+    {
+        try
+        {
+            return (int) handleError(ni_aeadBatch(ref, oppmode, nonces, aad, input, spans, count, output, outputOffset, status));
+        }
+        catch (InvalidAlgorithmParameterException ex)
+        {
+            throw new IllegalArgumentException(ex.getMessage(), ex);
+        }
+        catch (InvalidKeyException | ShortBufferException |
+               IllegalBlockSizeException | BadPaddingException others)
+        {
+            throw new RuntimeException(others.getMessage(), others);
+        }
+    }
+
     default void dispose(long ref)
     {
         ni_dispose(ref);
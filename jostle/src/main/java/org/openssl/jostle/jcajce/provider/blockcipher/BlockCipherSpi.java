@@ -24,6 +24,7 @@ import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.security.*;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.InvalidKeySpecException;
@@ -31,7 +32,7 @@ import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 
 
-class BlockCipherSpi extends CipherSpi
+class BlockCipherSpi extends CipherSpi implements AEADBatchSpi
 {
     final OSSLCipher mandatedCipher;
     final OSSLMode mandatedMode;
@@ -60,8 +61,8 @@ class BlockCipherSpi extends CipherSpi
     private static int BUF_SIZE = 1024;
 
     // Instance field, not a NISelector static: the SPI is bound to whichever
-    // NI backend its provider passes in - NISelector.BlockCipherNI for JSL,
-    // FIPSNISelector.BlockCipherNI (the FIPS interface library) for JSLFIPS.
+    // NI backend its provider passes in - NISelector.getBlockCipherNI() for JSL,
+    // FIPSNISelector.getBlockCipherNI() (the FIPS interface library) for JSLFIPS.
     private final BlockCipherNI blockCipherNi;
 
     Class[] availableSpecs = new Class[]{
@@ -71,7 +72,7 @@ class BlockCipherSpi extends CipherSpi
 
     BlockCipherSpi(Object params, String expectedKeyAlgorithm)
     {
-        this(NISelector.BlockCipherNI, params, expectedKeyAlgorithm);
+        this(NISelector.getBlockCipherNI(), params, expectedKeyAlgorithm);
     }
 
     BlockCipherSpi(BlockCipherNI blockCipherNi, Object params, String expectedKeyAlgorithm)
@@ -84,7 +85,7 @@ class BlockCipherSpi extends CipherSpi
 
     BlockCipherSpi(OSSLCipher osslCipher, String expectedKeyAlgorithm)
     {
-        this(NISelector.BlockCipherNI, osslCipher, expectedKeyAlgorithm);
+        this(NISelector.getBlockCipherNI(), osslCipher, expectedKeyAlgorithm);
     }
 
     BlockCipherSpi(BlockCipherNI blockCipherNi, OSSLCipher osslCipher, String expectedKeyAlgorithm)
@@ -97,7 +98,7 @@ class BlockCipherSpi extends CipherSpi
 
     BlockCipherSpi(OSSLCipher osslCipher, OSSLMode osslMode, String expectedKeyAlgorithm)
     {
-        this(NISelector.BlockCipherNI, osslCipher, osslMode, expectedKeyAlgorithm);
+        this(NISelector.getBlockCipherNI(), osslCipher, osslMode, expectedKeyAlgorithm);
     }
 
     BlockCipherSpi(BlockCipherNI blockCipherNi, OSSLCipher osslCipher, OSSLMode osslMode, String expectedKeyAlgorithm)
@@ -486,6 +487,49 @@ class BlockCipherSpi extends CipherSpi
     }
 
 
+    @Override
+    public void engineSetBatchMode(String mode)
+            throws NoSuchAlgorithmException
+    {
+        if (mode != null)
+        {
+            engineSetMode(mode);
+        }
+        if (osslMode != OSSLMode.GCM && osslMode != OSSLMode.POLY1305)
+        {
+            throw new NoSuchAlgorithmException("batching requires GCM or ChaCha20-Poly1305, not " + osslMode);
+        }
+    }
+
+    @Override
+    public void engineInitBatch(Key key)
+            throws InvalidKeyException
+    {
+        // Keyed once through the usual init so cipher selection and key checks
+        // match Cipher, each record then only replaces the nonce.
+        try
+        {
+            engineInit(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(128, new byte[12]), null);
+        }
+        catch (InvalidAlgorithmParameterException e)
+        {
+            throw new InvalidKeyException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int engineAEADBatch(boolean seal, byte[] nonces, byte[] aad, byte[] input, int[] spans, int count,
+                               byte[] out, int outOff, int[] status)
+    {
+        synchronized (this)
+        {
+            requireInitialized();
+            return blockCipherNi.aeadBatch(refWrapper.getReference(),
+                    seal ? Cipher.ENCRYPT_MODE : Cipher.DECRYPT_MODE,
+                    nonces, aad, input, spans, count, out, outOff, status);
+        }
+    }
+
     @Override
     protected void engineInit(int opmode, Key key, AlgorithmParameters params, SecureRandom random) throws InvalidKeyException, InvalidAlgorithmParameterException
     {
@@ -605,9 +649,11 @@ class BlockCipherSpi extends CipherSpi
 
     /**
      * ByteBuffer override. CipherSpi provides a default that funnels through
-     * the byte[] path, but it allocates an intermediate buffer per call even
-     * when both buffers are array-backed; this override sidesteps that copy
-     * when possible and keeps the position bookkeeping in one place.
+     * the byte[] path, allocating and copying for any buffer that is not
+     * array-backed. Here direct buffers are handed to the native layer by
+     * address and array-backed buffers by their backing array, in any
+     * combination, so no intermediate array is created. Read-only heap
+     * buffers expose neither and take the CipherSpi default.
      *
      * Behaviour:
      *   - input.position() advances by inLen on success;
@@ -627,63 +673,53 @@ class BlockCipherSpi extends CipherSpi
                 return 0;
             }
 
-            // Resolve input bytes without committing input.position() yet —
-            // a thrown ShortBufferException must leave the buffer untouched.
-            byte[] inputArray;
-            int inputOffset;
-            int inputStartPos = input.position();
-            boolean inputOwned = false; // true if we allocated a transient copy
-            if (input.hasArray())
+            if (!isAddressable(input) || !isAddressable(output))
             {
-                inputArray = input.array();
-                inputOffset = input.arrayOffset() + inputStartPos;
+                return super.engineUpdate(input, output);
             }
-            else
+
+            if (output.isReadOnly())
             {
-                inputArray = new byte[inLen];
-                input.get(inputArray);
-                input.position(inputStartPos); // restore — we'll commit after success
-                inputOffset = 0;
-                inputOwned = true;
+                throw new ReadOnlyBufferException();
             }
 
-            try
+            int outputStartPos = output.position();
+            int written;
+
+            if (input.hasArray() && output.hasArray())
+            {
+                // The byte[] path also handles overlap within a shared array.
+                written = engineUpdate(input.array(), input.arrayOffset() + input.position(), inLen,
+                        output.array(), output.arrayOffset() + outputStartPos);
+            }
+            else
             {
-                if (output.hasArray())
+                checkEncryptReuse();
+                if (output.remaining() < engineGetOutputSize(inLen))
                 {
-                    int outputStartPos = output.position();
-                    int written = engineUpdate(inputArray, inputOffset, inLen,
-                            output.array(),
-                            output.arrayOffset() + outputStartPos);
-                    input.position(inputStartPos + inLen);
-                    output.position(outputStartPos + written);
-                    return written;
+                    throw new ShortBufferException("output buffer too small");
                 }
-                else
+
+                try
                 {
-                    // Output is a direct buffer; route via the byte[]-returning
-                    // engineUpdate which sizes its own staging buffer correctly,
-                    // then copy out. ShortBufferException is raised before any
-                    // position is advanced.
-                    byte[] result = engineUpdate(inputArray, inputOffset, inLen);
-                    if (output.remaining() < result.length)
-                    {
-                        Arrays.clear(result);
-                        throw new ShortBufferException("output buffer too small");
-                    }
-                    output.put(result);
-                    input.position(inputStartPos + inLen);
-                    Arrays.clear(result);
-                    return result.length;
+                    written = blockCipherNi.updateBuffer(
+                            refWrapper.getReference(),
+                            regionOf(output),
+                            regionOffset(output),
+                            output.remaining(),
+                            regionOf(input),
+                            regionOffset(input),
+                            inLen);
                 }
-            }
-            finally
-            {
-                if (inputOwned)
+                catch (IllegalBlockSizeException ibsx)
                 {
-                    Arrays.clear(inputArray);
+                    throw new RuntimeException(ibsx.getMessage(), ibsx);
                 }
             }
+
+            input.position(input.limit());
+            output.position(outputStartPos + written);
+            return written;
         }
     }
 
@@ -799,16 +835,99 @@ class BlockCipherSpi extends CipherSpi
 
             written += code;
 
-            if (opMode == Cipher.ENCRYPT_MODE && (osslMode == OSSLMode.GCM || osslMode == OSSLMode.OCB || osslMode == OSSLMode.POLY1305))
+            markNonceConsumed();
+
+            return written;
+        }
+    }
+
+
+    /**
+     * ByteBuffer override, as engineUpdate(ByteBuffer, ByteBuffer) a direct
+     * buffer on either side is processed in place. When both buffers are
+     * array-backed, or either is a read-only heap buffer, the CipherSpi
+     * default is used as it already passes backing arrays straight through.
+     */
+    @Override
+    protected int engineDoFinal(ByteBuffer input, ByteBuffer output) throws ShortBufferException, IllegalBlockSizeException, BadPaddingException
+    {
+        synchronized (this)
+        {
+            requireInitialized();
+
+            if (!isAddressable(input) || !isAddressable(output) || (input.hasArray() && output.hasArray()))
+            {
+                return super.engineDoFinal(input, output);
+            }
+
+            if (output.isReadOnly())
             {
-                // A successful AEAD encryption consumes the nonce; block reuse until re-init.
-                encryptionReinitRequired = true;
+                throw new ReadOnlyBufferException();
             }
 
+            checkEncryptReuse();
+
+            int inLen = input.remaining();
+            int outLen = output.remaining();
+            if (outLen < blockCipherNi.getFinalSize(refWrapper.getReference(), inLen))
+            {
+                throw new ShortBufferException("output buffer too small");
+            }
+
+            Object outputRegion = regionOf(output);
+            int outputOffset = regionOffset(output);
+            int written = 0;
+
+            if (inLen > 0)
+            {
+                written += blockCipherNi.updateBuffer(
+                        refWrapper.getReference(),
+                        outputRegion,
+                        outputOffset,
+                        outLen,
+                        regionOf(input),
+                        regionOffset(input),
+                        inLen);
+            }
+
+            written += blockCipherNi.doFinalBuffer(refWrapper.getReference(), outputRegion, outputOffset + written, outLen - written);
+
+            markNonceConsumed();
+
+            input.position(input.limit());
+            output.position(output.position() + written);
             return written;
         }
     }
 
+    /**
+     * A buffer the native layer can address without a copy, direct or array-backed.
+     * Zero capacity direct buffers may not have an address so are excluded.
+     */
+    private static boolean isAddressable(ByteBuffer buffer)
+    {
+        return buffer.hasArray() || (buffer.isDirect() && buffer.capacity() > 0);
+    }
+
+    private static Object regionOf(ByteBuffer buffer)
+    {
+        return buffer.hasArray() ? buffer.array() : buffer;
+    }
+
+    private static int regionOffset(ByteBuffer buffer)
+    {
+        return buffer.hasArray() ? buffer.arrayOffset() + buffer.position() : buffer.position();
+    }
+
+    private void markNonceConsumed()
+    {
+        if (opMode == Cipher.ENCRYPT_MODE && (osslMode == OSSLMode.GCM || osslMode == OSSLMode.OCB || osslMode == OSSLMode.POLY1305))
+        {
+            // A successful AEAD encryption consumes the nonce; block reuse until re-init.
+            encryptionReinitRequired = true;
+        }
+    }
+
 
     @Override
     protected byte[] engineWrap(Key key)
@@ -880,10 +999,11 @@ class BlockCipherSpi extends CipherSpi
     {
         synchronized (this)
         {
-            if (refWrapper == null)
+            // A released context is not coming back, init takes a fresh one.
+            if (refWrapper == null || refWrapper.isReleased())
             {
-                long ref = blockCipherNi.makeInstance(osslCipher.ordinal(), osslMode.ordinal(), padding);
-                refWrapper = new OSSLBlockCipherRefWrapper(blockCipherNi, ref, osslCipher.name());
+                CipherContextPool.Key key = new CipherContextPool.Key(blockCipherNi, osslCipher, osslMode, padding);
+                refWrapper = new OSSLBlockCipherRefWrapper(key, CipherContextPool.borrow(key), osslCipher.name());
             }
         }
     }
@@ -896,16 +1016,34 @@ class BlockCipherSpi extends CipherSpi
         // cipher must be disposed through the FIPS interface library.
         private final BlockCipherNI blockCipherNi;
 
+        // Set when the context was borrowed from CipherContextPool.
+        private final CipherContextPool.Key poolKey;
+
         Disposer(BlockCipherNI blockCipherNi, long ref)
         {
             super(ref);
             this.blockCipherNi = blockCipherNi;
+            this.poolKey = null;
+        }
+
+        Disposer(CipherContextPool.Key poolKey, long ref)
+        {
+            super(ref);
+            this.blockCipherNi = null;
+            this.poolKey = poolKey;
         }
 
         @Override
         protected void dispose(long reference)
         {
-            blockCipherNi.dispose(reference);
+            if (poolKey != null)
+            {
+                CipherContextPool.giveBack(poolKey, reference);
+            }
+            else
+            {
+                blockCipherNi.dispose(reference);
+            }
         }
     }
 
@@ -923,6 +1061,11 @@ class BlockCipherSpi extends CipherSpi
             super(reference, name, new BlockCipherSpi.Disposer(blockCipherNi, reference));
         }
 
+        OSSLBlockCipherRefWrapper(CipherContextPool.Key poolKey, long reference, String name)
+        {
+            super(reference, name, new BlockCipherSpi.Disposer(poolKey, reference));
+        }
+
     }
 
     @Override
@@ -0,0 +1,154 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.jcajce.provider.blockcipher;
+
+import org.openssl.jostle.util.Properties;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded pool of native block cipher contexts.
+ * <p>
+ * A native context is bound to the cipher, mode and padding it was created for,
+ * so contexts are pooled per (interface, cipher, mode, padding). When a
+ * BlockCipherSpi is released or collected its context is reset, which cleanses
+ * key material, and offered back to the pool; a full pool or a failed reset
+ * frees the context instead.
+ * <p>
+ * The per key bound is set by {@link #POOL_SIZE_PROP}, zero disables pooling.
+ */
+public final class CipherContextPool
+{
+    private static final Logger LOG = Logger.getLogger(CipherContextPool.class.getName());
+
+    /**
+     * Maximum number of idle contexts kept for each cipher, mode and padding combination.
+     */
+    public static final String POOL_SIZE_PROP = "org.openssl.jostle.cipher.pool_size";
+
+    private static final int poolSize = Math.max(0, Properties.asInteger(POOL_SIZE_PROP, 64));
+
+    private static final ConcurrentHashMap<Key, ArrayBlockingQueue<Long>> pools = new ConcurrentHashMap<>();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private CipherContextPool()
+    {
+
+    }
+
+    /**
+     * Number of contexts served from the pool.
+     */
+    public static long getHitCount()
+    {
+        return hits.sum();
+    }
+
+    /**
+     * Number of contexts that had to be created because the pool was empty.
+     */
+    public static long getMissCount()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * Take an idle context for the combination or create one.
+     */
+    static long borrow(Key key)
+    {
+        if (poolSize > 0)
+        {
+            ArrayBlockingQueue<Long> pool = pools.get(key);
+            Long ref = pool != null ? pool.poll() : null;
+            if (ref != null)
+            {
+                hits.increment();
+                return ref;
+            }
+            misses.increment();
+        }
+        return key.blockCipherNi.makeInstance(key.cipher.ordinal(), key.mode.ordinal(), key.padding);
+    }
+
+    /**
+     * Reset the context and keep it for reuse, or free it if it cannot be kept.
+     */
+    static void giveBack(Key key, long ref)
+    {
+        if (poolSize > 0)
+        {
+            try
+            {
+                key.blockCipherNi.reset(ref);
+                if (pools.computeIfAbsent(key, k -> new ArrayBlockingQueue<Long>(poolSize)).offer(ref))
+                {
+                    return;
+                }
+            }
+            catch (RuntimeException e)
+            {
+                LOG.log(Level.FINE, "unable to reset cipher context, disposing", e);
+            }
+        }
+        key.blockCipherNi.dispose(ref);
+    }
+
+    static final class Key
+    {
+        private final BlockCipherNI blockCipherNi;
+        private final OSSLCipher cipher;
+        private final OSSLMode mode;
+        private final int padding;
+
+        Key(BlockCipherNI blockCipherNi, OSSLCipher cipher, OSSLMode mode, int padding)
+        {
+            this.blockCipherNi = blockCipherNi;
+            this.cipher = cipher;
+            this.mode = mode;
+            this.padding = padding;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Key))
+            {
+                return false;
+            }
+            Key other = (Key) o;
+            // The FIPS and default interfaces allocate from different libraries.
+            return blockCipherNi == other.blockCipherNi
+                    && cipher == other.cipher
+                    && mode == other.mode
+                    && padding == other.padding;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int h = System.identityHashCode(blockCipherNi);
+            h = 31 * h + cipher.ordinal();
+            h = 31 * h + mode.ordinal();
+            return 31 * h + padding;
+        }
+    }
+}
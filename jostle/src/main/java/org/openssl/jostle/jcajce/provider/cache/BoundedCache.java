@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.jcajce.provider.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Least recently used map behind the bounded caches of this package: one lock,
+ * the bound, and the hit, miss, eviction and size counts each cache reports.
+ * <p>
+ * Lookups and inserts are short and taken under the map's monitor, the work a
+ * miss pays for happens in the caller with no lock held. Two threads missing on
+ * the same key both do that work, {@link #putIfAbsent} keeps the first result
+ * and hands it to the second.
+ *
+ * @param <K> the slot type, with value equality.
+ * @param <V> the cached value.
+ */
+final class BoundedCache<K, V>
+{
+    /**
+     * Counts reported by a kind of cache, shared by every instance of that kind.
+     * Hits and misses are counted by the cache itself, which knows what a hit is,
+     * evictions and size are kept here.
+     */
+    static final class Counters
+    {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+        final LongAdder size = new LongAdder();
+    }
+
+    /**
+     * Release of a value dropped because the cache was full.
+     */
+    interface Evictor<V>
+    {
+        void evicted(V value);
+    }
+
+    private final Counters counters;
+    private final LinkedHashMap<K, V> entries;
+
+    /**
+     * @param bound    maximum number of entries, least recently used entries are dropped past it.
+     * @param counters where evictions and the size are counted.
+     * @param evictor  release of dropped values, called with the lock held, or null.
+     */
+    BoundedCache(final int bound, final Counters counters, final Evictor<V> evictor)
+    {
+        this.counters = counters;
+        this.entries = new LinkedHashMap<K, V>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest)
+            {
+                if (size() > bound)
+                {
+                    counters.evictions.increment();
+                    counters.size.decrement();
+                    if (evictor != null)
+                    {
+                        evictor.evicted(eldest.getValue());
+                    }
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return the value held for key, marking it most recently used.
+     *
+     * @return the value or null if there is none.
+     */
+    V get(K key)
+    {
+        synchronized (entries)
+        {
+            return entries.get(key);
+        }
+    }
+
+    /**
+     * Return true if a value is held for key, without marking it used.
+     */
+    boolean containsKey(K key)
+    {
+        synchronized (entries)
+        {
+            return entries.containsKey(key);
+        }
+    }
+
+    /**
+     * Hold value for key unless a value is already held for it.
+     *
+     * @return the value already held, in which case value was not stored, or null.
+     */
+    V putIfAbsent(K key, V value)
+    {
+        synchronized (entries)
+        {
+            V existing = entries.get(key);
+            if (existing != null)
+            {
+                return existing;
+            }
+            counters.size.increment();
+            entries.put(key, value);
+            return null;
+        }
+    }
+
+    /**
+     * Drop the value held for key.
+     *
+     * @return the value dropped, or null if there was none.
+     */
+    V remove(Object key)
+    {
+        synchronized (entries)
+        {
+            V removed = entries.remove(key);
+            if (removed != null)
+            {
+                counters.size.decrement();
+            }
+            return removed;
+        }
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.jcajce.provider.cache;
+
+import org.openssl.jostle.disposal.NativeDisposer;
+import org.openssl.jostle.disposal.NativeReference;
+import org.openssl.jostle.jcajce.provider.mac.MacServiceNI;
+import org.openssl.jostle.jcajce.provider.rand.RandServiceNI;
+import org.openssl.jostle.util.Properties;
+
+import java.security.InvalidKeyException;
+import java.security.ProviderException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded, process-wide cache of keyed MAC contexts.
+ * <p>
+ * Keying a MAC is most of the work for a short message: HMAC digests the padded key
+ * twice and CMAC expands the cipher key and derives its subkeys. Services that MAC
+ * every request under one of a handful of keys repeat that setup on every Mac.init.
+ * The second init with a key keeps a copy of the freshly keyed context as a template,
+ * later inits with the same key duplicate the template in one native call instead.
+ * A key's first init only notes its fingerprint, so one-off keys, session keys used
+ * for a single message, never cost a context copy or stay keyed in native memory.
+ * <p>
+ * Templates are found by (interface, MAC and function, HMAC-SHA256 of the key under a
+ * random key drawn once per process), the key itself is never held on the heap and a
+ * fingerprint is no use as a verifier outside the process. The fingerprint is computed
+ * by the same interface library as the MAC, keyed from that library's DRBG. Least recently used
+ * templates are freed past the bound set by {@link #CACHE_SIZE_PROP}, zero disables
+ * caching. Poly1305 keys are one time keys and are never cached.
+ * <p>
+ * The entry points are {@code public} only so the MAC SPIs in
+ * {@code org.openssl.jostle.jcajce.provider.mac} can reach them, the package is not
+ * exported from the module.
+ */
+public final class MacTemplateCache
+{
+    private static final Logger LOG = Logger.getLogger(MacTemplateCache.class.getName());
+
+    /**
+     * Maximum number of keyed MAC templates kept by the process.
+     */
+    public static final String CACHE_SIZE_PROP = "org.openssl.jostle.mac_template_cache.size";
+
+    private static final int cacheSize = Math.max(0, Properties.asInteger(CACHE_SIZE_PROP, 64));
+
+    // Fingerprints of keys seen once, per template slot that may be kept.
+    private static final int SIGHTINGS_PER_TEMPLATE = 4;
+
+    private static final BoundedCache.Counters counters = new BoundedCache.Counters();
+
+    private static final BoundedCache<Slot, Template> entries = new BoundedCache<Slot, Template>(cacheSize, counters,
+            new BoundedCache.Evictor<Template>()
+            {
+                @Override
+                public void evicted(Template template)
+                {
+                    template.free();
+                }
+            });
+
+    // Keys seen once and not yet templated, only their fingerprints are held.
+    private static final BoundedCache<Slot, Boolean> sightings = new BoundedCache<Slot, Boolean>(
+            cacheSize * SIGHTINGS_PER_TEMPLATE, new BoundedCache.Counters(), null);
+
+    // One fingerprinter per interface library, the FIPS module's keys never leave it.
+    private static final ConcurrentHashMap<MacServiceNI, Fingerprinter> fingerprinters =
+            new ConcurrentHashMap<MacServiceNI, Fingerprinter>();
+
+    private MacTemplateCache()
+    {
+
+    }
+
+    /**
+     * Number of inits served by duplicating a template.
+     */
+    public static long getHitCount()
+    {
+        return counters.hits.sum();
+    }
+
+    /**
+     * Number of inits that had to key the context from scratch.
+     */
+    public static long getMissCount()
+    {
+        return counters.misses.sum();
+    }
+
+    /**
+     * Number of templates freed because the cache was full.
+     */
+    public static long getEvictionCount()
+    {
+        return counters.evictions.sum();
+    }
+
+    /**
+     * Number of templates currently held.
+     */
+    public static int getSize()
+    {
+        return (int) counters.size.sum();
+    }
+
+    /**
+     * Where the template for keyBytes lives, or null if the MAC must not be cached.
+     *
+     * @param randServiceNI the DRBG of the interface library behind macServiceNI, it
+     *                      supplies the fingerprint key the first time that library is seen.
+     */
+    public static Slot slotFor(MacServiceNI macServiceNI, RandServiceNI randServiceNI, String cacheKey, byte[] keyBytes)
+    {
+        if (cacheSize == 0 || cacheKey.startsWith("POLY1305 "))
+        {
+            return null;
+        }
+
+        Fingerprinter fingerprinter = fingerprinters.get(macServiceNI);
+        if (fingerprinter == null)
+        {
+            fingerprinter = new Fingerprinter(macServiceNI, randServiceNI);
+            Fingerprinter existing = fingerprinters.putIfAbsent(macServiceNI, fingerprinter);
+            if (existing != null)
+            {
+                fingerprinter.free();
+                fingerprinter = existing;
+            }
+        }
+
+        return new Slot(macServiceNI, cacheKey, fingerprinter.fingerprint(keyBytes));
+    }
+
+    /**
+     * Key the context ref from the template in slot.
+     *
+     * @return false if there is no template, the caller keys ref itself.
+     */
+    public static boolean initFrom(Slot slot, long ref)
+    {
+        Template template = entries.get(slot);
+        if (template != null && template.initInto(ref))
+        {
+            counters.hits.increment();
+            return true;
+        }
+        counters.misses.increment();
+        return false;
+    }
+
+    /**
+     * Keep a copy of keyedRef, a context just keyed for slot that has absorbed no
+     * input, as the template for slot if the key has been seen before.
+     */
+    public static void remember(Slot slot, long keyedRef)
+    {
+        // Another thread may have keyed the same MAC meanwhile, keep the first.
+        if (entries.containsKey(slot))
+        {
+            return;
+        }
+        // A key seen for the first time is only noted, it is templated if it comes back.
+        if (sightings.remove(slot) == null)
+        {
+            sightings.putIfAbsent(slot, Boolean.TRUE);
+            return;
+        }
+
+        MacServiceNI macServiceNI = slot.macServiceNI;
+        Template template;
+        try
+        {
+            template = new Template(macServiceNI, macServiceNI.copyMac(keyedRef), slot.cacheKey);
+        }
+        catch (RuntimeException e)
+        {
+            // The context is keyed either way, only the next init pays for it.
+            LOG.log(Level.FINE, "unable to copy keyed mac context, not caching", e);
+            return;
+        }
+        if (entries.putIfAbsent(slot, template) != null)
+        {
+            template.free();
+        }
+    }
+
+    public static final class Slot
+    {
+        private final MacServiceNI macServiceNI;
+        private final String cacheKey;
+        private final byte[] fingerprint;
+        private final int hash;
+
+        Slot(MacServiceNI macServiceNI, String cacheKey, byte[] fingerprint)
+        {
+            this.macServiceNI = macServiceNI;
+            this.cacheKey = cacheKey;
+            this.fingerprint = fingerprint;
+            int h = System.identityHashCode(macServiceNI);
+            h = 31 * h + cacheKey.hashCode();
+            this.hash = 31 * h + Arrays.hashCode(fingerprint);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Slot))
+            {
+                return false;
+            }
+            Slot other = (Slot) o;
+            // The FIPS and default interfaces allocate from different libraries.
+            return hash == other.hash
+                    && macServiceNI == other.macServiceNI
+                    && cacheKey.equals(other.cacheKey)
+                    && Arrays.equals(fingerprint, other.fingerprint);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+
+    //
+    // HMAC-SHA256 under a random key drawn once from the interface library's own
+    // DRBG. Fingerprinting runs entirely in that library, never through a JCA
+    // provider, so it cannot recurse into this cache or send FIPS key material
+    // to another module. Each thread finalizes on its own copy of the keyed
+    // context, which re-keys itself after every fingerprint.
+    //
+    private static final class Fingerprinter
+    {
+        private static final int KEY_LENGTH = 32;
+
+        private final MacServiceNI macServiceNI;
+        private final Template keyed;
+        private final ThreadLocal<Template> contexts;
+
+        Fingerprinter(final MacServiceNI macServiceNI, RandServiceNI randServiceNI)
+        {
+            this.macServiceNI = macServiceNI;
+
+            byte[] key = new byte[KEY_LENGTH];
+            long ref = macServiceNI.allocateMac("HMAC", "SHA2-256");
+            try
+            {
+                long drbg = randServiceNI.createContext("CTR-DRBG", "AES-256-CTR", true, 256, false, null);
+                try
+                {
+                    randServiceNI.contextRandomBytes(drbg, key, key.length, 256, false, null);
+                }
+                finally
+                {
+                    randServiceNI.disposeContext(drbg);
+                }
+                macServiceNI.engineInit(ref, key);
+            }
+            catch (InvalidKeyException e)
+            {
+                macServiceNI.dispose(ref);
+                throw new ProviderException("unable to key mac template cache fingerprint", e);
+            }
+            catch (RuntimeException e)
+            {
+                macServiceNI.dispose(ref);
+                throw e;
+            }
+            finally
+            {
+                Arrays.fill(key, (byte) 0);
+            }
+            this.keyed = new Template(macServiceNI, ref, "HMAC fingerprint");
+
+            this.contexts = new ThreadLocal<Template>()
+            {
+                @Override
+                protected Template initialValue()
+                {
+                    return new Template(macServiceNI, macServiceNI.copyMac(keyed.getReference()), "HMAC fingerprint");
+                }
+            };
+        }
+
+        byte[] fingerprint(byte[] keyBytes)
+        {
+            byte[] fingerprint = new byte[KEY_LENGTH];
+            macServiceNI.updateDoFinalReset(contexts.get().getReference(), keyBytes, 0, keyBytes.length, fingerprint, 0);
+            return fingerprint;
+        }
+
+        // Only for a fingerprinter that lost the race to be published, no thread has used it.
+        void free()
+        {
+            keyed.free();
+        }
+    }
+
+    //
+    // A template is shared by every thread keying with it, so it is not tied to
+    // the release scope of the thread that created it. Duplication and freeing
+    // hold the template's monitor, an evicted template is never read after free.
+    //
+    private static final class Template extends NativeReference
+    {
+        private final MacServiceNI macServiceNI;
+
+        Template(MacServiceNI macServiceNI, long reference, String name)
+        {
+            super(reference, name, new Disposer(macServiceNI, reference), false);
+            this.macServiceNI = macServiceNI;
+        }
+
+        synchronized boolean initInto(long ref)
+        {
+            if (isReleased())
+            {
+                return false;
+            }
+            macServiceNI.initFrom(ref, getReference());
+            return true;
+        }
+
+        synchronized void free()
+        {
+            release();
+        }
+    }
+
+    private static class Disposer extends NativeDisposer
+    {
+        private final MacServiceNI macServiceNI;
+
+        Disposer(MacServiceNI macServiceNI, long ref)
+        {
+            super(ref);
+            this.macServiceNI = macServiceNI;
+        }
+
+        @Override
+        protected void dispose(long reference)
+        {
+            macServiceNI.dispose(reference);
+        }
+    }
+}
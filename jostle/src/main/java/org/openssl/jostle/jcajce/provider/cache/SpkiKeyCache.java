@@ -0,0 +1,180 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.jcajce.provider.cache;
+
+import org.openssl.jostle.disposal.ReleaseScope;
+import org.openssl.jostle.util.Properties;
+
+import java.security.PublicKey;
+import java.util.Arrays;
+
+/**
+ * Bounded, process-wide memo of public keys imported from a SubjectPublicKeyInfo
+ * encoding.
+ * <p>
+ * The same certificate is usually parsed many times over - once per TLS handshake,
+ * once per path validation - and each copy re-derives its public key through a JSL
+ * KeyFactory. Entries are keyed by the provider name and the encoding itself, so
+ * every wrapper of the same certificate shares one imported key and its one native
+ * EVP_PKEY. Least recently used entries are evicted past the bound set by
+ * {@link #CACHE_SIZE_PROP}, zero disables caching.
+ * <p>
+ * Imports run with the caller's release scope suspended, a shared key must not be
+ * released when the thread that happened to import it closes its scope. A failed
+ * import is not cached, the caller decides what to do instead.
+ */
+public final class SpkiKeyCache
+{
+    /**
+     * Maximum number of imported certificate public keys kept by the process.
+     */
+    public static final String CACHE_SIZE_PROP = "org.openssl.jostle.spki_key_cache.size";
+
+    private static final int cacheSize = Math.max(0, Properties.asInteger(CACHE_SIZE_PROP, 256));
+
+    private static final BoundedCache.Counters counters = new BoundedCache.Counters();
+
+    private static final BoundedCache<Slot, PublicKey> entries =
+            new BoundedCache<Slot, PublicKey>(cacheSize, counters, null);
+
+    private SpkiKeyCache()
+    {
+
+    }
+
+    /**
+     * Import of an encoding, usually through a KeyFactory of the named provider.
+     */
+    public interface Importer
+    {
+        /**
+         * @return the imported key, or null if the encoding cannot be imported.
+         */
+        PublicKey importKey(byte[] spki);
+    }
+
+    /**
+     * Number of imports served from the cache.
+     */
+    public static long getHitCount()
+    {
+        return counters.hits.sum();
+    }
+
+    /**
+     * Number of encodings that had to be imported.
+     */
+    public static long getMissCount()
+    {
+        return counters.misses.sum();
+    }
+
+    /**
+     * Number of entries dropped because the cache was full.
+     */
+    public static long getEvictionCount()
+    {
+        return counters.evictions.sum();
+    }
+
+    /**
+     * Number of imported keys currently held.
+     */
+    public static int getSize()
+    {
+        return (int) counters.size.sum();
+    }
+
+    /**
+     * Return the key already imported from spki through providerName, or import it
+     * and remember the result.
+     *
+     * @param providerName the provider the key is imported through.
+     * @param spki         the SubjectPublicKeyInfo encoding, not modified or retained by reference.
+     * @param importer     the import to apply on a miss.
+     * @return the imported key, or null if the importer returned null.
+     */
+    public static PublicKey importKey(String providerName, byte[] spki, Importer importer)
+    {
+        if (cacheSize == 0)
+        {
+            return importSuspended(spki, importer);
+        }
+
+        PublicKey cached = entries.get(new Slot(providerName, spki));
+        if (cached != null)
+        {
+            counters.hits.increment();
+            return cached;
+        }
+        counters.misses.increment();
+
+        PublicKey imported = importSuspended(spki, importer);
+        if (imported != null)
+        {
+            // Another thread may have imported the same encoding meanwhile, keep the first.
+            PublicKey winner = entries.putIfAbsent(new Slot(providerName, spki.clone()), imported);
+            if (winner != null)
+            {
+                return winner;
+            }
+        }
+        return imported;
+    }
+
+    private static PublicKey importSuspended(byte[] spki, Importer importer)
+    {
+        ReleaseScope scope = ReleaseScope.suspend();
+        try
+        {
+            return importer.importKey(spki);
+        }
+        finally
+        {
+            ReleaseScope.resume(scope);
+        }
+    }
+
+    private static final class Slot
+    {
+        private final String providerName;
+        private final byte[] spki;
+        private final int hash;
+
+        Slot(String providerName, byte[] spki)
+        {
+            this.providerName = providerName;
+            this.spki = spki;
+            this.hash = 31 * providerName.hashCode() + Arrays.hashCode(spki);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Slot))
+            {
+                return false;
+            }
+            Slot other = (Slot) o;
+            return hash == other.hash && providerName.equals(other.providerName) && Arrays.equals(spki, other.spki);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.jcajce.provider.cache;
+
+import org.openssl.jostle.disposal.ReleaseScope;
+import org.openssl.jostle.util.Properties;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.security.InvalidKeyException;
+import java.security.Key;
+
+/**
+ * Bounded memo of foreign public keys already translated to a JSL key.
+ * <p>
+ * A key from another provider — {@code X509Certificate.getPublicKey()},
+ * a BouncyCastle key — has to be re-encoded and imported into a new native
+ * EVP_PKEY before a JSL SPI can use it. Callers that verify many messages
+ * against the same few certificate keys would otherwise pay for that import on
+ * every init, so the translated key, and with it its one PKEYKeySpec, is kept
+ * for as long as the foreign key is reachable.
+ * <p>
+ * Entries are held weakly by the identity of the foreign key and by an owner,
+ * the SpecNI the key was translated through, so keys imported through the FIPS
+ * interface library are never handed to the default one or the reverse. The
+ * translated key does not refer back to the foreign key, once the caller drops
+ * the foreign key the entry is expunged and the native key is left to the
+ * disposal daemon. Least recently used entries are evicted past the bound set
+ * by {@link #CACHE_SIZE_PROP}, zero disables caching.
+ * <p>
+ * Only public keys are cached, a cached private key would keep secret material
+ * alive in native memory beyond the caller's control. SLH-DSA does not use a
+ * cache, its key factory accepts only its own keys and never translates.
+ * <p>
+ * A miss is translated outside any {@link ReleaseScope} open on the calling
+ * thread, the translated key is shared and must outlive the caller's scope.
+ * <p>
+ * Each consumer owns one {@code static final} instance, as with
+ * {@link NativeLengthCache}, the counters are shared by all instances.
+ */
+public final class TranslatedKeyCache
+{
+    /**
+     * Maximum number of translated keys kept by each key family.
+     */
+    public static final String CACHE_SIZE_PROP = "org.openssl.jostle.key_cache.size";
+
+    private static final int cacheSize = Math.max(0, Properties.asInteger(CACHE_SIZE_PROP, 64));
+
+    private static final BoundedCache.Counters counters = new BoundedCache.Counters();
+
+    private final ReferenceQueue<Key> queue = new ReferenceQueue<Key>();
+
+    private final BoundedCache<Slot, Key> entries = new BoundedCache<Slot, Key>(cacheSize, counters, null);
+
+    /**
+     * Translation of a foreign key, usually a KeyFactory's engineTranslateKey.
+     */
+    public interface Translator
+    {
+        Key translate(Key key) throws InvalidKeyException;
+    }
+
+    /**
+     * Number of translations served from a cache.
+     */
+    public static long getHitCount()
+    {
+        return counters.hits.sum();
+    }
+
+    /**
+     * Number of foreign keys that had to be translated.
+     */
+    public static long getMissCount()
+    {
+        return counters.misses.sum();
+    }
+
+    /**
+     * Number of entries dropped because a cache was full.
+     */
+    public static long getEvictionCount()
+    {
+        return counters.evictions.sum();
+    }
+
+    /**
+     * Number of translated keys currently held across all caches.
+     */
+    public static long getSize()
+    {
+        return counters.size.sum();
+    }
+
+    /**
+     * Return the cached translation of key made through owner, or translate it
+     * and remember the result. A failed translation is not cached.
+     *
+     * @param owner      the SpecNI, or other singleton, the translation is bound to.
+     * @param key        the foreign key.
+     * @param translator the translation to apply on a miss.
+     * @return the translated key.
+     * @throws InvalidKeyException if the translator rejects the key.
+     */
+    public Key translate(Object owner, Key key, Translator translator) throws InvalidKeyException
+    {
+        if (cacheSize == 0 || key == null)
+        {
+            return translator.translate(key);
+        }
+
+        expunge();
+        Key cached = entries.get(new Slot(owner, key, null));
+        if (cached != null)
+        {
+            counters.hits.increment();
+            return cached;
+        }
+        counters.misses.increment();
+
+        Key translated = translateSuspended(key, translator);
+        if (translated != null)
+        {
+            // Another thread may have translated the same key meanwhile, keep the first.
+            Key winner = entries.putIfAbsent(new Slot(owner, key, queue), translated);
+            if (winner != null)
+            {
+                return winner;
+            }
+        }
+        return translated;
+    }
+
+    private static Key translateSuspended(Key key, Translator translator) throws InvalidKeyException
+    {
+        ReleaseScope scope = ReleaseScope.suspend();
+        try
+        {
+            return translator.translate(key);
+        }
+        finally
+        {
+            ReleaseScope.resume(scope);
+        }
+    }
+
+    /**
+     * Remove entries whose foreign key has been collected.
+     */
+    private void expunge()
+    {
+        Reference<? extends Key> ref;
+        while ((ref = queue.poll()) != null)
+        {
+            entries.remove(ref);
+        }
+    }
+
+    private static final class Slot
+            extends WeakReference<Key>
+    {
+        private final Object owner;
+        private final int hash;
+
+        Slot(Object owner, Key key, ReferenceQueue<Key> queue)
+        {
+            super(key, queue);
+            this.owner = owner;
+            this.hash = 31 * System.identityHashCode(owner) + System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Slot))
+            {
+                return false;
+            }
+            Slot other = (Slot) o;
+            // A cleared entry only ever matches itself.
+            Key key = get();
+            return key != null && owner == other.owner && key == other.get();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+}
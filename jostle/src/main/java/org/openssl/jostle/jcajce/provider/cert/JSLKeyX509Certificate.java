@@ -10,6 +10,8 @@
 
 package org.openssl.jostle.jcajce.provider.cert;
 
+import org.openssl.jostle.jcajce.provider.cache.SpkiKeyCache;
+
 import java.security.InvalidKeyException;
 import java.security.KeyFactory;
 import java.security.NoSuchAlgorithmException;
@@ -50,6 +52,10 @@ import java.util.Set;
  * search. The two-argument verify overloads name a provider explicitly, so the
  * caller's deliberate choice is honoured unchanged.</li>
  * </ol>
+ *
+ * <p>The outcome is worked out once per wrapper, path validation and TLS ask for
+ * the key many times per certificate. Imported keys are also shared between
+ * wrappers of the same certificate through {@link SpkiKeyCache}.</p>
  */
 class JSLKeyX509Certificate
     extends X509Certificate
@@ -58,6 +64,12 @@ class JSLKeyX509Certificate
     private final String providerName;
     private final boolean providerBound;
 
+    // The key getPublicKey() returns, JSL or the lenient JDK fallback, or the
+    // reason a provider-bound wrapper refuses. Racing first calls compute the
+    // same answer, so plain volatile publication is enough.
+    private volatile PublicKey resolvedKey;
+    private volatile String refusal;
+
     JSLKeyX509Certificate(X509Certificate delegate, String providerName, boolean providerBound)
     {
         this.delegate = delegate;
@@ -86,15 +98,33 @@ class JSLKeyX509Certificate
 
     public PublicKey getPublicKey()
     {
-        PublicKey key = delegate.getPublicKey();
+        PublicKey key = resolvedKey;
+        if (key != null)
+        {
+            return key;
+        }
+
+        String reason = refusal;
+        if (reason != null)
+        {
+            throw new ProviderException(reason);
+        }
+
+        key = resolvePublicKey();
+        resolvedKey = key;
+        return key;
+    }
+
+    private PublicKey resolvePublicKey()
+    {
+        final PublicKey key = delegate.getPublicKey();
         byte[] encoded = key.getEncoded();
         if (encoded == null)
         {
             if (providerBound)
             {
-                throw new ProviderException(
-                    "certificate public key (" + key.getAlgorithm()
-                        + ") has no encoding to re-derive through provider " + providerName);
+                throw refuse("certificate public key (" + key.getAlgorithm()
+                    + ") has no encoding to re-derive through provider " + providerName);
             }
             return key;
         }
@@ -105,14 +135,18 @@ class JSLKeyX509Certificate
         // SPKI OID aliases (e.g. 1.2.840.113549.1.1.1 for RSA, 1.2.840.10045.2.1
         // for EC), whereas getAlgorithm() returns a provider-specific name that
         // may not match any registered KeyFactory.
-        String oid = subjectPublicKeyInfoAlgorithmOid(encoded);
-        PublicKey jslKey = importKey(oid, encoded);
-        if (jslKey == null)
+        final String oid = subjectPublicKeyInfoAlgorithmOid(encoded);
+        PublicKey jslKey = SpkiKeyCache.importKey(providerName, encoded, spki ->
         {
-            // No KeyFactory registered under the OID (e.g. an algorithm JSL only
-            // registers by name) — fall back to the JDK key's algorithm name.
-            jslKey = importKey(key.getAlgorithm(), encoded);
-        }
+            PublicKey imported = importKey(oid, spki);
+            if (imported == null)
+            {
+                // No KeyFactory registered under the OID (e.g. an algorithm JSL only
+                // registers by name) — fall back to the JDK key's algorithm name.
+                imported = importKey(key.getAlgorithm(), spki);
+            }
+            return imported;
+        });
         if (jslKey != null)
         {
             return jslKey;
@@ -125,17 +159,26 @@ class JSLKeyX509Certificate
             // the algorithm at all (e.g. EdDSA on a provider serving none), or
             // a KeyFactory exists but refused the key (e.g. an EC key on a
             // curve the FIPS module does not serve).
-            throw new ProviderException(
-                "provider " + providerName
-                    + " cannot re-derive the certificate public key (algorithm "
-                    + (oid != null ? oid : key.getAlgorithm())
-                    + "): no KeyFactory for the algorithm, or the key was refused");
+            throw refuse("provider " + providerName
+                + " cannot re-derive the certificate public key (algorithm "
+                + (oid != null ? oid : key.getAlgorithm())
+                + "): no KeyFactory for the algorithm, or the key was refused");
         }
         // The provider has no KeyFactory for this algorithm (or can't import
         // it); fall back to the JDK-provided key.
         return key;
     }
 
+    /**
+     * Remember why this provider-bound wrapper cannot produce a key, so later calls
+     * fail the same way without another import attempt.
+     */
+    private ProviderException refuse(String reason)
+    {
+        refusal = reason;
+        return new ProviderException(reason);
+    }
+
     /**
      * Re-derive a JSL public key from its X.509 encoding via the JSL provider's
      * KeyFactory for {@code algorithm}, or {@code null} if the algorithm is
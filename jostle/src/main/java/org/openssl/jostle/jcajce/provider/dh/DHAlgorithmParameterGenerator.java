@@ -54,7 +54,7 @@ public class DHAlgorithmParameterGenerator extends AlgorithmParameterGeneratorSp
 
     public DHAlgorithmParameterGenerator()
     {
-        this(NISelector.DHServiceNI, NISelector.SpecNI);
+        this(NISelector.getDHServiceNI(), NISelector.getSpecNI());
     }
 
     public DHAlgorithmParameterGenerator(DHServiceNI dhServiceNI, SpecNI specNI)
@@ -59,7 +59,7 @@ public class DHKeyAgreementSpi extends KeyAgreementSpi
 
     public DHKeyAgreementSpi()
     {
-        this(NISelector.DHServiceNI, new DHKeyFactorySpi());
+        this(NISelector.getDHServiceNI(), new DHKeyFactorySpi());
     }
 
     public DHKeyAgreementSpi(DHServiceNI dhServiceNI, DHKeyFactorySpi keyFactory)
@@ -125,7 +125,7 @@ public class DHKeyAgreementSpi extends KeyAgreementSpi
         }
         if (key instanceof DHPublicKey)
         {
-            Key translated = keyFactory.engineTranslateKey(key);
+            Key translated = keyFactory.translatePublicKey(key);
             if (translated instanceof JODHPublicKey)
             {
                 return (JODHPublicKey) translated;
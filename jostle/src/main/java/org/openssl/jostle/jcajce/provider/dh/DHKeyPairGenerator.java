@@ -81,7 +81,7 @@ public class DHKeyPairGenerator extends KeyPairGenerator
 
     public DHKeyPairGenerator()
     {
-        this(NISelector.DHServiceNI, NISelector.SpecNI, NISelector.Asn1NI);
+        this(NISelector.getDHServiceNI(), NISelector.getSpecNI(), NISelector.getAsn1NI());
     }
 
     public DHKeyPairGenerator(DHServiceNI dhServiceNI, SpecNI specNI, Asn1Ni asn1NI)
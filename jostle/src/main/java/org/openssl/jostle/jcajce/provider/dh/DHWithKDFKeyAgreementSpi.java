@@ -10,6 +10,8 @@
 
 package org.openssl.jostle.jcajce.provider.dh;
 
+import org.openssl.jostle.jcajce.provider.NISelector;
+import org.openssl.jostle.jcajce.provider.kdf.KdfNI;
 import org.openssl.jostle.jcajce.provider.kdf.KeyAgreementKDF;
 import org.openssl.jostle.util.Arrays;
 
@@ -32,21 +34,23 @@ import java.security.spec.AlgorithmParameterSpec;
  *
  * <p>Builds on {@link DHKeyAgreementSpi} for the raw {@code EVP_PKEY_derive}
  * shared secret, then layers the KDF (which builds the {@code OtherInfo}
- * structure and hashes {@code ZZ || DER(OtherInfo)}) in pure Java —
- * {@link KeyAgreementKDF#x942}. The wrap-algorithm name passed to
- * {@link #engineGenerateSecret(String)} selects the KEK length and is embedded
- * in {@code OtherInfo}.
+ * structure and hashes {@code ZZ || DER(OtherInfo)}) natively —
+ * {@link KeyAgreementKDF#x942(KdfNI, String, byte[], String, int, byte[])}.
+ * The wrap-algorithm name passed to {@link #engineGenerateSecret(String)}
+ * selects the KEK length and is embedded in {@code OtherInfo}.
  *
  * <p>RFC 2631 fixes the KDF digest at SHA-1; the constructor takes the digest
  * name so future scheme registrations can reuse the class.
  */
 public class DHWithKDFKeyAgreementSpi extends DHKeyAgreementSpi
 {
+    private final KdfNI kdfNI;
     private final String digest;
     private byte[] ukm;
 
     public DHWithKDFKeyAgreementSpi(String digest)
     {
+        this.kdfNI = NISelector.getKdfNI();
         this.digest = digest;
     }
 
@@ -54,9 +58,10 @@ public class DHWithKDFKeyAgreementSpi extends DHKeyAgreementSpi
     // NI-binding constructor for the FIPS provider: identical behaviour,
     // bound to the FIPS interface library.
     //
-    public DHWithKDFKeyAgreementSpi(DHServiceNI dhServiceNI, DHKeyFactorySpi keyFactory, String digest)
+    public DHWithKDFKeyAgreementSpi(DHServiceNI dhServiceNI, KdfNI kdfNI, DHKeyFactorySpi keyFactory, String digest)
     {
         super(dhServiceNI, keyFactory);
+        this.kdfNI = kdfNI;
         this.digest = digest;
     }
 
@@ -128,7 +133,7 @@ public class DHWithKDFKeyAgreementSpi extends DHKeyAgreementSpi
             // byte-for-byte (BC's KeyAgreement surface does not odd-parity-adjust
             // the 3DES KEK; DES wrapping ignores the parity bits). An earlier
             // parity adjustment here broke BC agreement and was removed.
-            kek = KeyAgreementKDF.x942(digest, zz, algorithm, keyLen, ukm);
+            kek = KeyAgreementKDF.x942(kdfNI, digest, zz, algorithm, keyLen, ukm);
             return new SecretKeySpec(kek, keyAlg);
         }
         finally
@@ -50,7 +50,7 @@ public class DSAAlgorithmParameterGenerator extends AlgorithmParameterGeneratorS
 
     public DSAAlgorithmParameterGenerator()
     {
-        this(NISelector.DSAServiceNI, NISelector.SpecNI);
+        this(NISelector.getDSAServiceNI(), NISelector.getSpecNI());
     }
 
     public DSAAlgorithmParameterGenerator(DSAServiceNI dsaServiceNI, SpecNI specNI)
@@ -13,6 +13,7 @@ package org.openssl.jostle.jcajce.provider.dsa;
 
 import org.openssl.jostle.CryptoServicesRegistrar;
 import org.openssl.jostle.jcajce.provider.NISelector;
+import org.openssl.jostle.jcajce.provider.cache.TranslatedKeyCache;
 import org.openssl.jostle.jcajce.spec.SpecNI;
 import org.openssl.jostle.util.asn1.Asn1Ni;
 import org.openssl.jostle.jcajce.spec.OSSLKeyType;
@@ -56,9 +57,12 @@ public class DSAKeyFactorySpi extends KeyFactorySpi
     private final SpecNI specNI;
     private final Asn1Ni asn1NI;
 
+    /** Foreign public keys already translated, per interface library. */
+    private static final TranslatedKeyCache TRANSLATED = new TranslatedKeyCache();
+
     public DSAKeyFactorySpi()
     {
-        this(NISelector.DSAServiceNI, NISelector.SpecNI, NISelector.Asn1NI);
+        this(NISelector.getDSAServiceNI(), NISelector.getSpecNI(), NISelector.getAsn1NI());
     }
 
     public DSAKeyFactorySpi(DSAServiceNI dsaServiceNI, SpecNI specNI, Asn1Ni asn1NI)
@@ -77,6 +81,15 @@ public class DSAKeyFactorySpi extends KeyFactorySpi
         return specNI;
     }
 
+    /**
+     * {@link #engineTranslateKey} for a foreign public key, remembered for as
+     * long as the foreign key is reachable so repeated inits share one native key.
+     */
+    Key translatePublicKey(Key key) throws java.security.InvalidKeyException
+    {
+        return TRANSLATED.translate(specNI, key, this::engineTranslateKey);
+    }
+
     @Override
     protected PublicKey engineGeneratePublic(KeySpec keySpec) throws InvalidKeySpecException
     {
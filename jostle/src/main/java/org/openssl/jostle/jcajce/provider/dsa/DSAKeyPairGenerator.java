@@ -12,6 +12,7 @@
 package org.openssl.jostle.jcajce.provider.dsa;
 
 import org.openssl.jostle.CryptoServicesRegistrar;
+import org.openssl.jostle.disposal.ReleaseScope;
 import org.openssl.jostle.jcajce.provider.NISelector;
 import org.openssl.jostle.jcajce.spec.SpecNI;
 import org.openssl.jostle.util.asn1.Asn1Ni;
@@ -103,7 +104,7 @@ public class DSAKeyPairGenerator extends KeyPairGenerator
 
     public DSAKeyPairGenerator()
     {
-        this(NISelector.DSAServiceNI, NISelector.SpecNI, NISelector.Asn1NI);
+        this(NISelector.getDSAServiceNI(), NISelector.getSpecNI(), NISelector.getAsn1NI());
     }
 
     public DSAKeyPairGenerator(DSAServiceNI dsaServiceNI, SpecNI specNI, Asn1Ni asn1NI)
@@ -272,7 +273,18 @@ public class DSAKeyPairGenerator extends KeyPairGenerator
         }
         long paramsRef = dsaServiceNI.generateParameters(
                 keySize, qBitsFor(keySize), random);
-        PKEYKeySpec fresh = new PKEYKeySpec(specNI, paramsRef, OSSLKeyType.DSA);
+
+        // Cached for the life of the process, so never owned by the caller's release scope.
+        PKEYKeySpec fresh;
+        ReleaseScope scope = ReleaseScope.suspend();
+        try
+        {
+            fresh = new PKEYKeySpec(specNI, paramsRef, OSSLKeyType.DSA);
+        }
+        finally
+        {
+            ReleaseScope.resume(scope);
+        }
         PKEYKeySpec winner = PARAM_CACHE.putIfAbsent(cacheKey, fresh);
         return winner != null ? winner : fresh;
     }
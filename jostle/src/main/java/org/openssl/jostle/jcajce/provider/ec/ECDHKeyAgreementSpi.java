@@ -65,7 +65,7 @@ public class ECDHKeyAgreementSpi extends KeyAgreementSpi
 
     public ECDHKeyAgreementSpi()
     {
-        this(NISelector.ECServiceNI, new ECKeyFactorySpi());
+        this(NISelector.getECServiceNI(), new ECKeyFactorySpi());
     }
 
     public ECDHKeyAgreementSpi(ECServiceNI ecServiceNI, ECKeyFactorySpi keyFactory)
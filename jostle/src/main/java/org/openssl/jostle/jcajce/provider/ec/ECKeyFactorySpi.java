@@ -78,7 +78,7 @@ public class ECKeyFactorySpi extends KeyFactorySpi
 
     public ECKeyFactorySpi()
     {
-        this(NISelector.ECServiceNI, NISelector.SpecNI, NISelector.Asn1NI);
+        this(NISelector.getECServiceNI(), NISelector.getSpecNI(), NISelector.getAsn1NI());
     }
 
     public ECKeyFactorySpi(ECServiceNI ecServiceNI, SpecNI specNI, Asn1Ni asn1NI)
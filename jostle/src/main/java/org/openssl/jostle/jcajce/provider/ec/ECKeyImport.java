@@ -10,6 +10,8 @@
 
 package org.openssl.jostle.jcajce.provider.ec;
 
+import org.openssl.jostle.jcajce.provider.cache.TranslatedKeyCache;
+
 import java.security.InvalidKeyException;
 import java.security.Key;
 import java.security.PrivateKey;
@@ -31,6 +33,9 @@ public final class ECKeyImport
     {
     }
 
+    /** Foreign public keys already translated, per interface library. */
+    private static final TranslatedKeyCache TRANSLATED = new TranslatedKeyCache();
+
     private static final String DEFAULT_PUBLIC_MESSAGE = "expected an ECPublicKey from the Jostle provider";
     private static final String DEFAULT_PRIVATE_MESSAGE = "expected an ECPrivateKey from the Jostle provider";
 
@@ -72,7 +77,7 @@ public final class ECKeyImport
         {
             try
             {
-                Key translated = keyFactory.engineTranslateKey(key);
+                Key translated = TRANSLATED.translate(keyFactory.ownSpecNI(), key, keyFactory::engineTranslateKey);
                 if (translated instanceof JOECPublicKey)
                 {
                     return (JOECPublicKey) translated;
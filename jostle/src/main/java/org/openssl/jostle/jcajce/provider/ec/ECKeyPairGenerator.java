@@ -125,7 +125,7 @@ public class ECKeyPairGenerator extends KeyPairGenerator
 
     public ECKeyPairGenerator()
     {
-        this(NISelector.ECServiceNI, NISelector.SpecNI, NISelector.Asn1NI);
+        this(NISelector.getECServiceNI(), NISelector.getSpecNI(), NISelector.getAsn1NI());
     }
 
     public ECKeyPairGenerator(ECServiceNI ecServiceNI, SpecNI specNI, Asn1Ni asn1NI)
@@ -10,6 +10,8 @@
 
 package org.openssl.jostle.jcajce.provider.ec;
 
+import org.openssl.jostle.jcajce.provider.NISelector;
+import org.openssl.jostle.jcajce.provider.kdf.KdfNI;
 import org.openssl.jostle.jcajce.provider.kdf.KeyAgreementKDF;
 import org.openssl.jostle.util.Arrays;
 
@@ -29,8 +31,9 @@ import java.security.spec.AlgorithmParameterSpec;
  * {@code KeyAgreeRecipientInfo} uses for EC recipients.
  *
  * <p>Builds on {@link ECDHKeyAgreementSpi} for the raw {@code EVP_PKEY_derive}
- * shared secret, then runs {@link KeyAgreementKDF#x963} which hashes
- * {@code ZZ || counter || sharedInfo}. Unlike the X9.42 DH KDF, the SPI does
+ * shared secret, then runs the X9.63 KDF natively, see
+ * {@link KeyAgreementKDF#x963(KdfNI, String, byte[], int, byte[])}, which
+ * hashes {@code ZZ || counter || sharedInfo}. Unlike the X9.42 DH KDF, the SPI does
  * <em>not</em> build any ASN.1 here: the {@code SharedInfo} is the UKM passed
  * verbatim — for CMS that is the {@code ECC-CMS-SharedInfo} the CMS layer
  * pre-builds and hands over via the {@code UserKeyingMaterialSpec}.
@@ -42,11 +45,13 @@ import java.security.spec.AlgorithmParameterSpec;
  */
 public class ECWithKDFKeyAgreementSpi extends ECDHKeyAgreementSpi
 {
+    private final KdfNI kdfNI;
     private final String digest;
     private byte[] ukm;
 
     public ECWithKDFKeyAgreementSpi(String digest)
     {
+        this.kdfNI = NISelector.getKdfNI();
         this.digest = digest;
     }
 
@@ -54,9 +59,10 @@ public class ECWithKDFKeyAgreementSpi extends ECDHKeyAgreementSpi
     // NI-binding constructor for the FIPS provider: identical behaviour,
     // bound to the FIPS interface library.
     //
-    public ECWithKDFKeyAgreementSpi(ECServiceNI ecServiceNI, ECKeyFactorySpi keyFactory, String digest)
+    public ECWithKDFKeyAgreementSpi(ECServiceNI ecServiceNI, KdfNI kdfNI, ECKeyFactorySpi keyFactory, String digest)
     {
         super(ecServiceNI, keyFactory);
+        this.kdfNI = kdfNI;
         this.digest = digest;
     }
 
@@ -130,7 +136,7 @@ public class ECWithKDFKeyAgreementSpi extends ECDHKeyAgreementSpi
             // NOT odd-parity-adjust the derived 3DES KEK (DES wrapping ignores
             // the parity bits anyway). An earlier parity adjustment here broke
             // byte-exact agreement with BC and was removed.
-            kek = KeyAgreementKDF.x963(digest, zz, keyLen, ukm);
+            kek = KeyAgreementKDF.x963(kdfNI, digest, zz, keyLen, ukm);
             return new SecretKeySpec(kek, keyAlg);
         }
         finally
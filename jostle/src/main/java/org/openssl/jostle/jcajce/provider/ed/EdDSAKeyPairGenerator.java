@@ -29,7 +29,7 @@ import java.util.Map;
 
 public class EdDSAKeyPairGenerator extends KeyPairGenerator
 {
-    private static final EDServiceNI edServiceNI = NISelector.EDServiceNI;
+    private static final EDServiceNI edServiceNI = NISelector.getEDServiceNI();
     private OSSLKeyType keyType = OSSLKeyType.NONE;
     private RandSource random = DefaultRandSource.wrap(CryptoServicesRegistrar.getSecureRandom());
 
@@ -12,6 +12,7 @@
 package org.openssl.jostle.jcajce.provider.ed;
 
 import org.openssl.jostle.jcajce.provider.NISelector;
+import org.openssl.jostle.jcajce.provider.cache.TranslatedKeyCache;
 import org.openssl.jostle.jcajce.spec.*;
 import org.openssl.jostle.util.Arrays;
 import org.openssl.jostle.util.asn1.ASN1Encoder;
@@ -29,6 +30,9 @@ public class EdKeyFactorySpi extends KeyFactorySpi
 {
     private final OSSLKeyType fixedType;
 
+    /** Foreign public keys already translated. */
+    private static final TranslatedKeyCache TRANSLATED = new TranslatedKeyCache();
+
     private static final Map<EdDSAParameterSpec, OSSLKeyType> typeMap = Collections.unmodifiableMap(new HashMap<EdDSAParameterSpec, OSSLKeyType>()
     {
         {
@@ -98,9 +102,9 @@ public class EdKeyFactorySpi extends KeyFactorySpi
                 byte[] encoded = ((EdDSAPublicKeySpec) keySpec).getPublicData();
                 try
                 {
-                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.SpecNI.allocate(), osslKeyType);
+                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.getSpecNI().allocate(), osslKeyType);
 
-                    NISelector.EDServiceNI.decode_publicKey(
+                    NISelector.getEDServiceNI().decode_publicKey(
                             pkeySpec.getReference(), osslKeyType.getKsType(), encoded, 0, encoded.length);
                     return new JOEdPublicKey(pkeySpec);
                 }
@@ -174,8 +178,8 @@ public class EdKeyFactorySpi extends KeyFactorySpi
 
                 try
                 {
-                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.SpecNI.allocate(), osslKeyType);
-                    NISelector.EDServiceNI.decode_privateKey(
+                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.getSpecNI().allocate(), osslKeyType);
+                    NISelector.getEDServiceNI().decode_privateKey(
                             pkeySpec.getReference(), osslKeyType.getKsType(),
                             encoded, 0, encoded.length);
                     return new JOEdPrivateKey(pkeySpec);
@@ -279,6 +283,11 @@ public class EdKeyFactorySpi extends KeyFactorySpi
         {
             return (JOEdPublicKey) key;
         }
+        return (JOEdPublicKey) TRANSLATED.translate(NISelector.getSpecNI(), key, k -> decodePublicKey((PublicKey) k));
+    }
+
+    private static JOEdPublicKey decodePublicKey(PublicKey key) throws InvalidKeyException
+    {
         byte[] encoded = key.getEncoded();
         if (encoded == null)
         {
@@ -39,12 +39,24 @@ class BlockCipherFIPSJNI implements BlockCipherNI
     @Override
     public native int ni_updateAAD(long ref, byte[] input, int inputOffset, int inputLen);
 
+    @Override
+    public native int ni_updateBuffer(long ref, Object output, int outputOffset, int outputLen, Object input, int inputOffset, int inputLen);
+
+    @Override
+    public native int ni_doFinalBuffer(long ref, Object output, int outputOffset, int outputLen);
+
     @Override
     public native int ni_getFinalSize(long ref, int length);
 
     @Override
     public native int ni_getUpdateSize(long ref, int length);
 
+    @Override
+    public native int ni_reset(long ref);
+
+    @Override
+    public native int ni_aeadBatch(long ref, int oppmode, byte[] nonces, byte[] aad, byte[] input, int[] spans, int count, byte[] output, int outputOffset, int[] status);
+
     @Override
     public native void ni_dispose(long ref);
 
@@ -270,5 +270,7 @@ public final class JostleFIPSProvider
         // A deployment needing to restrict this provider's surface should use the
         // JVM's own mechanism (jdk.security.providers.filter) rather than expect
         // JSLFIPS to withhold what the module implements.
+
+        publishServices();
     }
 }
@@ -25,5 +25,11 @@ class KdfFIPSJNI implements KdfNI
 
     @Override
     public native int hkdf(byte[] ikm, byte[] salt, byte[] info, String digest, byte[] out, int outOffset, int outLen);
+
+    @Override
+    public native int x963kdf(byte[] secret, byte[] sharedInfo, String digest, byte[] out, int outOffset, int outLen);
+
+    @Override
+    public native int x942kdf(byte[] secret, String cekAlg, byte[] ukm, String digest, byte[] out, int outOffset, int outLen);
 }
 
@@ -12,6 +12,8 @@ package org.openssl.jostle.jcajce.provider.fips;
 
 import org.openssl.jostle.jcajce.provider.md.MDServiceNI;
 
+import java.nio.ByteBuffer;
+
 /**
  * JNI implementation of MDServiceNI backed by the FIPS interface library
  * (libinterface_fips_jni). The distinct fully-qualified class name gives the
@@ -36,6 +38,9 @@ class MDServiceFIPSJNI implements MDServiceNI
     @Override
     native public int ni_updateBytes(long ref, byte[] input, int offset, int len);
 
+    @Override
+    native public int ni_updateBuffer(long ref, ByteBuffer input, int offset, int len);
+
 
     @Override
     native public void ni_dispose(long ref);
@@ -52,4 +57,11 @@ class MDServiceFIPSJNI implements MDServiceNI
     @Override
     native public int ni_reset(long ref);
 
+
+    @Override
+    native public int ni_updateDigestReset(long ref, byte[] in, int inOff, int inLen, byte[] out, int outOff, int outLen);
+
+    @Override
+    native public int ni_digestBatch(long ref, byte[] in, int[] spans, int count, byte[] out, int outOff);
+
 }
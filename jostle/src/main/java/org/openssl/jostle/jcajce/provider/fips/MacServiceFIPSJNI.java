@@ -12,6 +12,8 @@ package org.openssl.jostle.jcajce.provider.fips;
 
 import org.openssl.jostle.jcajce.provider.mac.MacServiceNI;
 
+import java.nio.ByteBuffer;
+
 /**
  * JNI implementation of MacServiceNI backed by the FIPS interface library
  * (libinterface_fips_jni). Distinct FQCN gives the FIPS library its own
@@ -30,15 +32,27 @@ class MacServiceFIPSJNI implements MacServiceNI
     @Override
     public native int ni_init(long ref, byte[] keyBytes);
 
+    @Override
+    public native int ni_initFrom(long ref, long templateRef);
+
     @Override
     public native int ni_updateByte(long ref, byte b);
 
     @Override
     public native int ni_updateBytes(long ref, byte[] in, int inOff, int inLen);
 
+    @Override
+    public native int ni_updateBuffer(long ref, ByteBuffer in, int inOff, int inLen);
+
     @Override
     public native int ni_doFinal(long ref, byte[] out, int outOff);
 
+    @Override
+    public native int ni_updateDoFinalReset(long ref, byte[] in, int inOff, int inLen, byte[] out, int outOff);
+
+    @Override
+    public native int ni_doFinalBatch(long ref, byte[] in, int[] spans, int count, byte[] out, int outOff);
+
     @Override
     public native int ni_getMacLength(long ref);
 
@@ -49,65 +49,65 @@ class ProvFIPSAES
     public void configure(final JostleFIPSProvider provider)
     {
         provider.addAlgorithmImplementation("Cipher", "AES", PREFIX + "Base", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI()));
         provider.addAlgorithmImplementation("KeyGenerator", "AES", PREFIX + "AES", generalAesAttributes,
                 (arg) -> new AESKeyGenerator(provider.getDefaultSecureRandom()));
 
 
         provider.addAlgorithmImplementation("Cipher", "AESWrap", PREFIX + "AESWRAPNAME", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, null, OSSLMode.WRAP));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), null, OSSLMode.WRAP));
         provider.addAlias("Cipher", "AESWrap", "AESKW");
         provider.addAlgorithmImplementation("Cipher", "AESWrapPad", PREFIX + "AESWRAPPADNAME", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, null, OSSLMode.WRAP_PAD));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), null, OSSLMode.WRAP_PAD));
         provider.addAlias("Cipher", "AESWrapPad", "AESKWP");
 
         provider.addAlgorithmImplementation("Cipher", "AES128", PREFIX + "AES128", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES128, OSSLMode.ECB));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES128, OSSLMode.ECB));
         provider.addAlias("Cipher", "AES128", NISTObjectIdentifiers.id_aes128_ECB);
         provider.addAlgorithmImplementation("KeyGenerator", "AES128", PREFIX + "AESKeyGen128", generalAesAttributes,
                 (arg) -> new AESKeyGenerator(128, provider.getDefaultSecureRandom()));
         provider.addAlias("KeyGenerator", "AES128", NISTObjectIdentifiers.id_aes128_ECB, NISTObjectIdentifiers.id_aes128_CBC, NISTObjectIdentifiers.id_aes128_GCM, NISTObjectIdentifiers.id_aes128_wrap, NISTObjectIdentifiers.id_aes128_wrap_pad);
         provider.addAlgorithmImplementation("Cipher", NISTObjectIdentifiers.id_aes128_CBC, PREFIX + "AES128CBC", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES128, OSSLMode.CBC));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES128, OSSLMode.CBC));
         provider.addAlgorithmImplementation("Cipher", NISTObjectIdentifiers.id_aes128_GCM, PREFIX + "AES128GCM", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES128, OSSLMode.GCM));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES128, OSSLMode.GCM));
         provider.addAlgorithmImplementation("Cipher", NISTObjectIdentifiers.id_aes128_wrap, PREFIX + "AES128WRAP", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES128, OSSLMode.WRAP));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES128, OSSLMode.WRAP));
         provider.addAlgorithmImplementation("Cipher", NISTObjectIdentifiers.id_aes128_wrap_pad, PREFIX + "AES128WRAPPAD", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES128, OSSLMode.WRAP_PAD));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES128, OSSLMode.WRAP_PAD));
 
         provider.addAlgorithmImplementation("Cipher", "AES192", PREFIX + "AES192", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES192, OSSLMode.ECB));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES192, OSSLMode.ECB));
         provider.addAlias("Cipher", "AES192", NISTObjectIdentifiers.id_aes192_ECB);
         provider.addAlgorithmImplementation("KeyGenerator", "AES192", PREFIX + "AESKeyGen192", generalAesAttributes,
                 (arg) -> new AESKeyGenerator(192, provider.getDefaultSecureRandom()));
         provider.addAlias("KeyGenerator", "AES192", NISTObjectIdentifiers.id_aes192_ECB, NISTObjectIdentifiers.id_aes192_CBC, NISTObjectIdentifiers.id_aes192_GCM, NISTObjectIdentifiers.id_aes192_wrap, NISTObjectIdentifiers.id_aes192_wrap_pad);
         provider.addAlgorithmImplementation("Cipher", NISTObjectIdentifiers.id_aes192_CBC, PREFIX + "AES192CBC", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES192, OSSLMode.CBC));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES192, OSSLMode.CBC));
         provider.addAlgorithmImplementation("Cipher", NISTObjectIdentifiers.id_aes192_GCM, PREFIX + "AES192GCM", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES192, OSSLMode.GCM));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES192, OSSLMode.GCM));
         provider.addAlgorithmImplementation("Cipher", NISTObjectIdentifiers.id_aes192_wrap, PREFIX + "AES192WRAP", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES192, OSSLMode.WRAP));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES192, OSSLMode.WRAP));
         provider.addAlgorithmImplementation("Cipher", NISTObjectIdentifiers.id_aes192_wrap_pad, PREFIX + "AES192WRAPPAD", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES192, OSSLMode.WRAP_PAD));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES192, OSSLMode.WRAP_PAD));
 
         provider.addAlgorithmImplementation("Cipher", "AES256", PREFIX + "AES256", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES256, OSSLMode.ECB));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES256, OSSLMode.ECB));
         provider.addAlias("Cipher", "AES256", NISTObjectIdentifiers.id_aes256_ECB);
         provider.addAlgorithmImplementation("KeyGenerator", "AES256", PREFIX + "AESKeyGen256", generalAesAttributes,
                 (arg) -> new AESKeyGenerator(256, provider.getDefaultSecureRandom()));
         provider.addAlias("KeyGenerator", "AES256", NISTObjectIdentifiers.id_aes256_ECB, NISTObjectIdentifiers.id_aes256_CBC, NISTObjectIdentifiers.id_aes256_GCM, NISTObjectIdentifiers.id_aes256_wrap, NISTObjectIdentifiers.id_aes256_wrap_pad);
         provider.addAlgorithmImplementation("Cipher", NISTObjectIdentifiers.id_aes256_CBC, PREFIX + "AES256CBC", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES256, OSSLMode.CBC));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES256, OSSLMode.CBC));
         provider.addAlgorithmImplementation("Cipher", NISTObjectIdentifiers.id_aes256_GCM, PREFIX + "AES256GCM", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES256, OSSLMode.GCM));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES256, OSSLMode.GCM));
         provider.addAlgorithmImplementation("Cipher", NISTObjectIdentifiers.id_aes256_wrap, PREFIX + "AES256WRAP", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES256, OSSLMode.WRAP));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES256, OSSLMode.WRAP));
         provider.addAlgorithmImplementation("Cipher", NISTObjectIdentifiers.id_aes256_wrap_pad, PREFIX + "AES256WRAPPAD", generalAesAttributes,
-                (arg) -> new AESBlockCipherSpi(FIPSNISelector.BlockCipherNI, OSSLCipher.AES256, OSSLMode.WRAP_PAD));
+                (arg) -> new AESBlockCipherSpi(FIPSNISelector.getBlockCipherNI(), OSSLCipher.AES256, OSSLMode.WRAP_PAD));
 
         provider.addAlgorithmImplementation("Cipher", "AES/CCM/NoPadding", PREFIX + "AESCCM", generalAesAttributes,
-                (arg) -> new AESCCMCipherSpi(FIPSNISelector.CCMCipherNI));
+                (arg) -> new AESCCMCipherSpi(FIPSNISelector.getCCMCipherNI()));
 
         //
         // AlgorithmParameters are pure-Java ASN.1 encodings - no NI binding.
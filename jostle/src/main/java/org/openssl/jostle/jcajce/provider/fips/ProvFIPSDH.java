@@ -44,7 +44,7 @@ class ProvFIPSDH
         provider.addAlgorithmImplementation("KeyPairGenerator", "DH",
                 PREFIX + "DHKeyPairGenerator", attr,
                 (arg) -> new DHKeyPairGenerator(
-                        FIPSNISelector.DHServiceNI, FIPSNISelector.SpecNI, FIPSNISelector.Asn1NI));
+                        FIPSNISelector.getDHServiceNI(), FIPSNISelector.getSpecNI(), FIPSNISelector.getAsn1NI()));
         provider.addAlias("KeyPairGenerator", "DH",
                 "DiffieHellman", PKCS3_DH_OID, X942_DH_OID);
 
@@ -63,18 +63,19 @@ class ProvFIPSDH
         provider.addAlgorithmImplementation("AlgorithmParameterGenerator", "DH",
                 PREFIX + "DHAlgorithmParameterGenerator", new HashMap<>(),
                 (arg) -> new DHAlgorithmParameterGenerator(
-                        FIPSNISelector.DHServiceNI, FIPSNISelector.SpecNI));
+                        FIPSNISelector.getDHServiceNI(), FIPSNISelector.getSpecNI()));
         provider.addAlias("AlgorithmParameterGenerator", "DH", "DiffieHellman");
 
         provider.addAlgorithmImplementation("KeyAgreement", "DH",
                 PREFIX + "DHKeyAgreementSpi", attr,
-                (arg) -> new DHKeyAgreementSpi(FIPSNISelector.DHServiceNI, keyFactory()));
+                (arg) -> new DHKeyAgreementSpi(FIPSNISelector.getDHServiceNI(), keyFactory()));
         provider.addAlias("KeyAgreement", "DH",
                 "DiffieHellman", PKCS3_DH_OID);
 
         provider.addAlgorithmImplementation("KeyAgreement", "DHWITHRFC2631KDF",
                 PREFIX + "DHWithKDFKeyAgreementSpi", attr,
-                (arg) -> new DHWithKDFKeyAgreementSpi(FIPSNISelector.DHServiceNI, keyFactory(), "SHA-1"));
+                (arg) -> new DHWithKDFKeyAgreementSpi(FIPSNISelector.getDHServiceNI(),
+                        FIPSNISelector.getKdfNI(), keyFactory(), "SHA-1"));
         provider.addAlias("KeyAgreement", "DHWITHRFC2631KDF",
                 ID_ALG_ESDH, ID_ALG_SSDH);
     }
@@ -82,6 +83,6 @@ class ProvFIPSDH
     private static DHKeyFactorySpi keyFactory()
     {
         return new DHKeyFactorySpi(
-                FIPSNISelector.DHServiceNI, FIPSNISelector.SpecNI, FIPSNISelector.Asn1NI);
+                FIPSNISelector.getDHServiceNI(), FIPSNISelector.getSpecNI(), FIPSNISelector.getAsn1NI());
     }
 }
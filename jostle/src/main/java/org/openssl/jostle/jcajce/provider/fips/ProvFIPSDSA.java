@@ -42,7 +42,7 @@ class ProvFIPSDSA
         provider.addAlgorithmImplementation("KeyPairGenerator", "DSA",
                 PREFIX + "DSAKeyPairGenerator", attr,
                 (arg) -> new DSAKeyPairGenerator(
-                        FIPSNISelector.DSAServiceNI, FIPSNISelector.SpecNI, FIPSNISelector.Asn1NI));
+                        FIPSNISelector.getDSAServiceNI(), FIPSNISelector.getSpecNI(), FIPSNISelector.getAsn1NI()));
         provider.addAlias("KeyPairGenerator", "DSA", ID_DSA_OID);
 
         provider.addAlgorithmImplementation("KeyFactory", "DSA",
@@ -58,7 +58,7 @@ class ProvFIPSDSA
         provider.addAlgorithmImplementation("AlgorithmParameterGenerator", "DSA",
                 PREFIX + "DSAAlgorithmParameterGenerator", new HashMap<>(),
                 (arg) -> new DSAAlgorithmParameterGenerator(
-                        FIPSNISelector.DSAServiceNI, FIPSNISelector.SpecNI));
+                        FIPSNISelector.getDSAServiceNI(), FIPSNISelector.getSpecNI()));
         provider.addAlias("AlgorithmParameterGenerator", "DSA", ID_DSA_OID);
 
         registerDsaSignature(provider, attr, "SHA1withDSA", "SHA-1", ID_DSA_WITH_SHA1_OID);
@@ -73,13 +73,13 @@ class ProvFIPSDSA
 
         provider.addAlgorithmImplementation("Signature", "NoneWithDSA",
                 PREFIX + "DSASignatureSpi$None", attr,
-                (arg) -> new DSASignatureSpi(FIPSNISelector.DSAServiceNI, keyFactory(), "NONE"));
+                (arg) -> new DSASignatureSpi(FIPSNISelector.getDSAServiceNI(), keyFactory(), "NONE"));
     }
 
     private static DSAKeyFactorySpi keyFactory()
     {
         return new DSAKeyFactorySpi(
-                FIPSNISelector.DSAServiceNI, FIPSNISelector.SpecNI, FIPSNISelector.Asn1NI);
+                FIPSNISelector.getDSAServiceNI(), FIPSNISelector.getSpecNI(), FIPSNISelector.getAsn1NI());
     }
 
     private static void registerDsaSignature(JostleFIPSProvider provider,
@@ -90,7 +90,7 @@ class ProvFIPSDSA
     {
         provider.addAlgorithmImplementation("Signature", name,
                 PREFIX + "DSASignatureSpi$" + name.replace("-", "_"), attr,
-                (arg) -> new DSASignatureSpi(FIPSNISelector.DSAServiceNI, keyFactory(), digestName));
+                (arg) -> new DSASignatureSpi(FIPSNISelector.getDSAServiceNI(), keyFactory(), digestName));
         provider.addAlias("Signature", name, oid);
     }
 }
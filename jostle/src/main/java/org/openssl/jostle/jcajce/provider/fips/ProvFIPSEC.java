@@ -41,7 +41,7 @@ class ProvFIPSEC
         provider.addAlgorithmImplementation("KeyPairGenerator", "EC",
                 PREFIX + "ECKeyPairGenerator", attr,
                 (arg) -> new ECKeyPairGenerator(
-                        FIPSNISelector.ECServiceNI, FIPSNISelector.SpecNI, FIPSNISelector.Asn1NI));
+                        FIPSNISelector.getECServiceNI(), FIPSNISelector.getSpecNI(), FIPSNISelector.getAsn1NI()));
         provider.addAlias("KeyPairGenerator", "EC", "1.2.840.10045.2.1");
 
         provider.addAlgorithmImplementation("KeyFactory", "EC",
@@ -75,11 +75,11 @@ class ProvFIPSEC
         // as non-approved (Table 8, §4.4 Table 13). The module performs both.
         provider.addAlgorithmImplementation("Signature", "NoneWithECDSA",
                 PREFIX + "ECDSASignatureSpi$None", attr,
-                (arg) -> new ECDSASignatureSpi(FIPSNISelector.ECServiceNI, keyFactory(), "NONE"));
+                (arg) -> new ECDSASignatureSpi(FIPSNISelector.getECServiceNI(), keyFactory(), "NONE"));
 
         provider.addAlgorithmImplementation("KeyAgreement", "ECDH",
                 PREFIX + "ECDHKeyAgreementSpi", attr,
-                (arg) -> new ECDHKeyAgreementSpi(FIPSNISelector.ECServiceNI, keyFactory()));
+                (arg) -> new ECDHKeyAgreementSpi(FIPSNISelector.getECServiceNI(), keyFactory()));
         // id-ecDH (SECG SEC1) — so CMS/PKIX KeyAgreeRecipientInfo can resolve
         // the EC agreement by OID, mirroring the non-FIPS ProvEC surface.
         provider.addAlias("KeyAgreement", "ECDH", "1.3.132.1.12");
@@ -98,7 +98,7 @@ class ProvFIPSEC
     private static ECKeyFactorySpi keyFactory()
     {
         return new ECKeyFactorySpi(
-                FIPSNISelector.ECServiceNI, FIPSNISelector.SpecNI, FIPSNISelector.Asn1NI);
+                FIPSNISelector.getECServiceNI(), FIPSNISelector.getSpecNI(), FIPSNISelector.getAsn1NI());
     }
 
     private static void registerEcdsaSignature(JostleFIPSProvider provider,
@@ -109,7 +109,7 @@ class ProvFIPSEC
     {
         provider.addAlgorithmImplementation("Signature", name,
                 PREFIX + "ECDSASignatureSpi$" + name.replace("-", "_"), attr,
-                (arg) -> new ECDSASignatureSpi(FIPSNISelector.ECServiceNI, keyFactory(), digestName));
+                (arg) -> new ECDSASignatureSpi(FIPSNISelector.getECServiceNI(), keyFactory(), digestName));
         provider.addAlias("Signature", name, oid);
     }
 
@@ -121,7 +121,8 @@ class ProvFIPSEC
     {
         provider.addAlgorithmImplementation("KeyAgreement", name,
                 PREFIX + "ECWithKDFKeyAgreementSpi$" + name.replace("-", "_"), attr,
-                (arg) -> new ECWithKDFKeyAgreementSpi(FIPSNISelector.ECServiceNI, keyFactory(), digestName));
+                (arg) -> new ECWithKDFKeyAgreementSpi(FIPSNISelector.getECServiceNI(),
+                        FIPSNISelector.getKdfNI(), keyFactory(), digestName));
         provider.addAlias("KeyAgreement", name, oid);
     }
 }
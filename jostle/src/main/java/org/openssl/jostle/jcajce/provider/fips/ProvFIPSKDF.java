@@ -37,7 +37,7 @@ class ProvFIPSKDF
     public void configure(final JostleFIPSProvider provider)
     {
         provider.addAlgorithmImplementation("SecretKeyFactory", "PBKDF2", PBKDF_PREFIX + "Base", generalKDFAttributes,
-                (arg) -> new PBKDF2SecretKeyFactory(FIPSNISelector.KdfNI, null));
+                (arg) -> new PBKDF2SecretKeyFactory(FIPSNISelector.getKdfNI(), null));
         registerPbkdf2(provider, "PBKDF2WITHHMACSHA1", "BaseSHA1", "SHA-1");
         registerPbkdf2(provider, "PBKDF2WITHHMACSHA224", "BaseSHA224", "SHA-224");
         registerPbkdf2(provider, "PBKDF2WITHHMACSHA256", "BaseSHA256", "SHA-256");
@@ -51,16 +51,16 @@ class ProvFIPSKDF
         registerPbkdf2(provider, "PBKDF2WITHHMACSHA3-512", "BaseSHA3_512", "SHA3-512");
 
         provider.addAlgorithmImplementation("SecretKeyFactory", "HKDF-SHA256", HKDF_PREFIX + "SHA256", generalKDFAttributes,
-                (arg) -> new HKDFSecretKeyFactory(FIPSNISelector.KdfNI, "SHA-256"));
+                (arg) -> new HKDFSecretKeyFactory(FIPSNISelector.getKdfNI(), "SHA-256"));
         provider.addAlgorithmImplementation("SecretKeyFactory", "HKDF-SHA384", HKDF_PREFIX + "SHA384", generalKDFAttributes,
-                (arg) -> new HKDFSecretKeyFactory(FIPSNISelector.KdfNI, "SHA-384"));
+                (arg) -> new HKDFSecretKeyFactory(FIPSNISelector.getKdfNI(), "SHA-384"));
         provider.addAlgorithmImplementation("SecretKeyFactory", "HKDF-SHA512", HKDF_PREFIX + "SHA512", generalKDFAttributes,
-                (arg) -> new HKDFSecretKeyFactory(FIPSNISelector.KdfNI, "SHA-512"));
+                (arg) -> new HKDFSecretKeyFactory(FIPSNISelector.getKdfNI(), "SHA-512"));
     }
 
     private static void registerPbkdf2(JostleFIPSProvider provider, String name, String classNameSuffix, String digest)
     {
         provider.addAlgorithmImplementation("SecretKeyFactory", name, PBKDF_PREFIX + classNameSuffix, generalKDFAttributes,
-                (arg) -> new PBKDF2SecretKeyFactory(FIPSNISelector.KdfNI, digest));
+                (arg) -> new PBKDF2SecretKeyFactory(FIPSNISelector.getKdfNI(), digest));
     }
 }
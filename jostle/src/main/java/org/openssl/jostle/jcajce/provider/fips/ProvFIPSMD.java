@@ -76,7 +76,7 @@ class ProvFIPSMD
             }
             String clName = name.replace("-", "_").replace("/", "_");
             provider.addAlgorithmImplementation("MessageDigest", name, PREFIX + "MDServiceSPI$" + clName, attr,
-                    (arg) -> new MDServiceSPI(FIPSNISelector.MDServiceNI, name, xofLen));
+                    (arg) -> new MDServiceSPI(FIPSNISelector.getMDServiceNI(), name, xofLen));
             provider.addAlias("MessageDigest", name, keyAliasMap.get(name).toArray(new String[0]));
         }
 
@@ -85,8 +85,8 @@ class ProvFIPSMD
         // CMS/PKIX layer requests these by name).
         //
         provider.addAlgorithmImplementation("MessageDigest", "SHAKE128-256", PREFIX + "MDServiceSPI$SHAKE128_256", attr,
-                (arg) -> new MDServiceSPI(FIPSNISelector.MDServiceNI, "SHAKE-128", 32));
+                (arg) -> new MDServiceSPI(FIPSNISelector.getMDServiceNI(), "SHAKE-128", 32));
         provider.addAlgorithmImplementation("MessageDigest", "SHAKE256-512", PREFIX + "MDServiceSPI$SHAKE256_512", attr,
-                (arg) -> new MDServiceSPI(FIPSNISelector.MDServiceNI, "SHAKE-256", 64));
+                (arg) -> new MDServiceSPI(FIPSNISelector.getMDServiceNI(), "SHAKE-256", 64));
     }
 }
@@ -53,7 +53,7 @@ class ProvFIPSMac
         // AES CMAC -- the function name selects the cipher family; the actual
         // AES variant follows the key size (as in ProvMac).
         provider.addAlgorithmImplementation("Mac", "AESCMAC", PREFIX + "MacServiceSPI$AESCMAC",
-                generalAttributes, (arg) -> new MacServiceSPI(FIPSNISelector.MacServiceNI, "CMAC", "aes-cbc"));
+                generalAttributes, (arg) -> new MacServiceSPI(FIPSNISelector.getMacServiceNI(), FIPSNISelector.getRandServiceNI(), "CMAC", "aes-cbc"));
     }
 
     private void addMac(JostleFIPSProvider provider, String type, String name, String function)
@@ -61,7 +61,7 @@ class ProvFIPSMac
         String mainName = type + name;
         String className = PREFIX + "MacServiceSPI$" + mainName.replace("-", "_").replace("/", "_");
         provider.addAlgorithmImplementation("Mac", mainName, className, generalAttributes,
-                (arg) -> new MacServiceSPI(FIPSNISelector.MacServiceNI, type, function));
+                (arg) -> new MacServiceSPI(FIPSNISelector.getMacServiceNI(), FIPSNISelector.getRandServiceNI(), type, function));
         provider.addAlias("Mac", mainName, type + "-" + name, type + "/" + name);
     }
 }
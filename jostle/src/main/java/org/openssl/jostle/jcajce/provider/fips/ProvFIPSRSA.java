@@ -59,7 +59,7 @@ class ProvFIPSRSA
         provider.addAlgorithmImplementation("KeyPairGenerator", "RSA",
                 PREFIX + "RSAKeyPairGenerator", attr,
                 (arg) -> new RSAKeyPairGenerator(
-                        FIPSNISelector.RSAServiceNI, FIPSNISelector.SpecNI, FIPSNISelector.Asn1NI,
+                        FIPSNISelector.getRSAServiceNI(), FIPSNISelector.getSpecNI(), FIPSNISelector.getAsn1NI(),
                         FIPS_RSA_MIN_KEY_SIZE_BITS));
         provider.addAlias("KeyPairGenerator", "RSA", "1.2.840.113549.1.1.1");
 
@@ -94,11 +94,11 @@ class ProvFIPSRSA
         // (see FIPSRSANoneWithRSASignatureTest for the pinned behaviour).
         provider.addAlgorithmImplementation("Signature", "NoneWithRSA",
                 PREFIX + "RSASignatureSpi", attr,
-                (arg) -> new RSASignatureSpi(FIPSNISelector.RSAServiceNI, keyFactory(), "NONE"));
+                (arg) -> new RSASignatureSpi(FIPSNISelector.getRSAServiceNI(), keyFactory(), "NONE"));
 
         provider.addAlgorithmImplementation("Signature", "RSASSA-PSS",
                 PREFIX + "RSAPSSSignatureSpi", attr,
-                (arg) -> new RSAPSSSignatureSpi(FIPSNISelector.RSAServiceNI, keyFactory()));
+                (arg) -> new RSAPSSSignatureSpi(FIPSNISelector.getRSAServiceNI(), keyFactory()));
         provider.addAlias("Signature", "RSASSA-PSS", "1.2.840.113549.1.1.10");
 
         registerPssSignature(provider, attr, "SHA1", "SHA-1");
@@ -119,14 +119,14 @@ class ProvFIPSRSA
         Map<String, String> cipherAttr = new HashMap<>(attr);
         provider.addAlgorithmImplementation("Cipher", "RSA",
                 PREFIX + "RSAOAEPCipherSpi", cipherAttr,
-                (arg) -> new RSAOAEPCipherSpi(FIPSNISelector.RSAOAEPCipherNI, keyFactory()));
+                (arg) -> new RSAOAEPCipherSpi(FIPSNISelector.getRSAOAEPCipherNI(), keyFactory()));
         provider.addAlias("Cipher", "RSA", "1.2.840.113549.1.1.1");
     }
 
     private static RSAKeyFactorySpi keyFactory()
     {
         return new RSAKeyFactorySpi(
-                FIPSNISelector.RSAServiceNI, FIPSNISelector.SpecNI, FIPSNISelector.Asn1NI);
+                FIPSNISelector.getRSAServiceNI(), FIPSNISelector.getSpecNI(), FIPSNISelector.getAsn1NI());
     }
 
     private static void registerPkcs1Signature(JostleFIPSProvider provider,
@@ -138,7 +138,7 @@ class ProvFIPSRSA
     {
         provider.addAlgorithmImplementation("Signature", name,
                 PREFIX + classNameSuffix, attr,
-                (arg) -> new RSASignatureSpi(FIPSNISelector.RSAServiceNI, keyFactory(), digestName));
+                (arg) -> new RSASignatureSpi(FIPSNISelector.getRSAServiceNI(), keyFactory(), digestName));
         provider.addAlias("Signature", name, oid);
     }
 
@@ -151,7 +151,7 @@ class ProvFIPSRSA
         String implName = PREFIX + "RSAPSSSignatureSpi$" + digestJcaName.replace("-", "_");
         provider.addAlgorithmImplementation("Signature", mgf1Name,
                 implName, attr,
-                (arg) -> new RSAPSSSignatureSpi(FIPSNISelector.RSAServiceNI, keyFactory(), opensslDigest));
+                (arg) -> new RSAPSSSignatureSpi(FIPSNISelector.getRSAServiceNI(), keyFactory(), opensslDigest));
         // BouncyCastle's PKIX/CMS layer derives <digest>WITHRSASSA-PSS as the
         // fallback Signature name from an id-RSASSA-PSS AlgorithmIdentifier;
         // register the alias so RSASSA-PSS verification resolves under JSLFIPS
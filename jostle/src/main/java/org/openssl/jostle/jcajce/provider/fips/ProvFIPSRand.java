@@ -90,6 +90,6 @@ class ProvFIPSRand
             throw new NoSuchAlgorithmException("SecureRandom parameters are not supported");
         }
 
-        return new RandServiceSPI(FIPSNISelector.RandServiceNI, algorithm);
+        return new RandServiceSPI(FIPSNISelector.getRandServiceNI(), algorithm);
     }
 }
@@ -51,14 +51,14 @@ class ProvFIPSXDH
 
         provider.addAlgorithmImplementation("KeyPairGenerator", "X25519",
                 PREFIX + "XECKeyPairGenerator$X25519", attr,
-                (arg) -> new XECKeyPairGenerator(FIPSNISelector.XECServiceNI, FIPSNISelector.SpecNI,
-                        FIPSNISelector.Asn1NI, OSSLKeyType.X25519));
+                (arg) -> new XECKeyPairGenerator(FIPSNISelector.getXECServiceNI(), FIPSNISelector.getSpecNI(),
+                        FIPSNISelector.getAsn1NI(), OSSLKeyType.X25519));
         provider.addAlias("KeyPairGenerator", "X25519", X25519_OID);
 
         provider.addAlgorithmImplementation("KeyPairGenerator", "X448",
                 PREFIX + "XECKeyPairGenerator$X448", attr,
-                (arg) -> new XECKeyPairGenerator(FIPSNISelector.XECServiceNI, FIPSNISelector.SpecNI,
-                        FIPSNISelector.Asn1NI, OSSLKeyType.X448));
+                (arg) -> new XECKeyPairGenerator(FIPSNISelector.getXECServiceNI(), FIPSNISelector.getSpecNI(),
+                        FIPSNISelector.getAsn1NI(), OSSLKeyType.X448));
         provider.addAlias("KeyPairGenerator", "X448", X448_OID);
 
         provider.addAlgorithmImplementation("KeyFactory", "X25519",
@@ -72,17 +72,17 @@ class ProvFIPSXDH
 
         provider.addAlgorithmImplementation("KeyAgreement", "X25519",
                 PREFIX + "XDHKeyAgreementSpi$X25519", attr,
-                (arg) -> new XDHKeyAgreementSpi(FIPSNISelector.ECServiceNI, keyFactory()));
+                (arg) -> new XDHKeyAgreementSpi(FIPSNISelector.getECServiceNI(), keyFactory()));
         provider.addAlgorithmImplementation("KeyAgreement", "X448",
                 PREFIX + "XDHKeyAgreementSpi$X448", attr,
-                (arg) -> new XDHKeyAgreementSpi(FIPSNISelector.ECServiceNI, keyFactory()));
+                (arg) -> new XDHKeyAgreementSpi(FIPSNISelector.getECServiceNI(), keyFactory()));
         provider.addAlgorithmImplementation("KeyAgreement", "XDH",
                 PREFIX + "XDHKeyAgreementSpi$XDH", attr,
-                (arg) -> new XDHKeyAgreementSpi(FIPSNISelector.ECServiceNI, keyFactory()));
+                (arg) -> new XDHKeyAgreementSpi(FIPSNISelector.getECServiceNI(), keyFactory()));
     }
 
     private static XECKeyFactorySpi keyFactory()
     {
-        return new XECKeyFactorySpi(FIPSNISelector.SpecNI, FIPSNISelector.Asn1NI);
+        return new XECKeyFactorySpi(FIPSNISelector.getSpecNI(), FIPSNISelector.getAsn1NI());
     }
 }
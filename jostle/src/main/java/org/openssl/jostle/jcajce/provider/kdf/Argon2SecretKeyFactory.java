@@ -13,6 +13,7 @@ import org.openssl.jostle.jcajce.provider.NISelector;
 import org.openssl.jostle.jcajce.provider.OpenSSLException;
 import org.openssl.jostle.jcajce.spec.Argon2KeySpec;
 import org.openssl.jostle.util.Arrays;
+import org.openssl.jostle.util.Properties;
 import org.openssl.jostle.util.Strings;
 
 import javax.crypto.SecretKey;
@@ -30,9 +31,20 @@ import java.security.spec.KeySpec;
  * <p>The type (Argon2d / Argon2i / Argon2id) and version travel in the
  * {@link Argon2KeySpec} rather than in the service name, matching how
  * BouncyCastle registers its own single {@code ARGON2} factory.</p>
+ *
+ * <p>Derivations are single threaded unless {@link #THREADS_PROP} is set above
+ * one, in which case the lanes of a derivation are computed on up to that many
+ * threads. The derived key is the same either way.</p>
  */
 public class Argon2SecretKeyFactory extends SecretKeyFactorySpi
 {
+    /**
+     * Maximum number of threads a single Argon2 derivation may use, default 1.
+     */
+    public static final String THREADS_PROP = "org.openssl.jostle.argon2.threads";
+
+    private static final int threads = Math.max(1, Properties.asInteger(THREADS_PROP, 1));
+
     /**
      * Upper bound on the memory cost, rejected here rather than left to the
      * native allocation: {@code memory} is kibibytes and a caller-controlled
@@ -50,7 +62,7 @@ public class Argon2SecretKeyFactory extends SecretKeyFactorySpi
 
     public Argon2SecretKeyFactory()
     {
-        this(NISelector.MemoryHardKdfNI);
+        this(NISelector.getMemoryHardKdfNI());
     }
 
     public Argon2SecretKeyFactory(MemoryHardKdfNI kdfNI)
@@ -106,6 +118,7 @@ public class Argon2SecretKeyFactory extends SecretKeyFactorySpi
                     spec.getIterations(),
                     spec.getMemory(),
                     spec.getParallelism(),
+                    threads,
                     rawKey, 0, rawKey.length));
 
             return new JOArgon2Key("Argon2", password, salt, spec.getType(), spec.getVersion(),
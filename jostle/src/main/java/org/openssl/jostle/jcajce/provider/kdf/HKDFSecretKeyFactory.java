@@ -48,7 +48,7 @@ public class HKDFSecretKeyFactory extends SecretKeyFactorySpi
 
     public HKDFSecretKeyFactory(String digestAlgorithm)
     {
-        this(NISelector.KdfNI, digestAlgorithm);
+        this(NISelector.getKdfNI(), digestAlgorithm);
     }
 
     public HKDFSecretKeyFactory(KdfNI kdfNI, String digestAlgorithm)
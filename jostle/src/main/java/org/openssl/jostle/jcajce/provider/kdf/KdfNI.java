@@ -14,8 +14,9 @@ package org.openssl.jostle.jcajce.provider.kdf;
 import org.openssl.jostle.jcajce.provider.*;
 
 /**
- * Native entry points for the KDFs both providers serve: PBKDF2 and HKDF, each
- * an approved service of the OpenSSL FIPS module.
+ * Native entry points for the KDFs both providers serve: PBKDF2, HKDF and the
+ * X9.63 / X9.42 key agreement KDFs, each an approved service of the OpenSSL
+ * FIPS module.
  *
  * <p>The memory-hard password KDFs (scrypt, Argon2) are NOT here — they live on
  * {@link MemoryHardKdfNI} so the FIPS interface library carries no bridge code
@@ -28,6 +29,17 @@ public interface KdfNI extends DefaultServiceNI
 
     int hkdf(byte[] ikm, byte[] salt, byte[] info, String digest, byte[] out, int outOffset, int outLen);
 
+    /**
+     * ANSI X9.63 KDF ({@code EVP_KDF "X963KDF"}) over the shared secret, sharedInfo may be null.
+     */
+    int x963kdf(byte[] secret, byte[] sharedInfo, String digest, byte[] out, int outOffset, int outLen);
+
+    /**
+     * ANSI X9.42 KDF with a DER OtherInfo ({@code EVP_KDF "X942KDF-ASN1"}). cekAlg is the
+     * OpenSSL name of the key wrap cipher, ukm may be null.
+     */
+    int x942kdf(byte[] secret, String cekAlg, byte[] ukm, String digest, byte[] out, int outOffset, int outLen);
+
     default long handleErrorCodes(int code)
     {
         if (code >= 0)
@@ -48,6 +60,14 @@ public interface KdfNI extends DefaultServiceNI
                 throw new AccessException("unable to access ikm array");
             case JO_KDF_HKDF_INFO_FAILED_ACCESS:
                 throw new AccessException("unable to access info array");
+            case JO_KDF_SECRET_NULL:
+                throw new IllegalArgumentException("secret is null");
+            case JO_KDF_SECRET_FAILED_ACCESS:
+                throw new AccessException("unable to access secret array");
+            case JO_KDF_INFO_FAILED_ACCESS:
+                throw new AccessException("unable to access shared info array");
+            case JO_KDF_CEK_ALG_UNKNOWN:
+                throw new IllegalArgumentException("unknown key wrap algorithm");
             default:
         }
         return baseErrorHandler(code);
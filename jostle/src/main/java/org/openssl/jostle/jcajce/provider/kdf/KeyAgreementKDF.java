@@ -23,8 +23,10 @@ import java.security.spec.AlgorithmParameterSpec;
 /**
  * The two single-pass key-derivation functions CMS key agreement layers on
  * top of a raw Diffie-Hellman / ECDH shared secret, plus the wrap-algorithm
- * key-size table. Pure Java: a {@link MessageDigest} over the shared secret
- * and some framing — no native dependency.
+ * key-size table. The key agreement SPIs derive through {@link KdfNI} in one
+ * native call, OpenSSL's {@code X963KDF} and {@code X942KDF-ASN1}; the
+ * digest-and-framing implementations here are the reference the native
+ * output is held to, and serve the inputs OpenSSL cannot express.
  *
  * <ul>
  *   <li>{@link #x942} — ANSI X9.42 / RFC 2631 KDF (the {@code DHwithRFC2631KDF}
@@ -107,6 +109,37 @@ public final class KeyAgreementKDF
         return truncateAndScrub(out, keyLenBytes);
     }
 
+    /**
+     * {@link #x942(String, byte[], String, int, byte[])} derived natively
+     * through kdfNI. OpenSSL names no cipher for the padded AES key wraps and
+     * leaves an empty UKM out of {@code OtherInfo} rather than encoding an
+     * empty {@code partyAInfo}, those inputs are derived in Java so the result
+     * does not depend on the path taken.
+     */
+    public static byte[] x942(KdfNI kdfNI, String digest, byte[] zz, String wrapOid, int keyLenBytes, byte[] ukm)
+            throws NoSuchAlgorithmException
+    {
+        String cekAlg = x942CekAlg(wrapOid);
+        if (cekAlg == null || (ukm != null && ukm.length == 0))
+        {
+            return x942(digest, zz, wrapOid, keyLenBytes, ukm);
+        }
+
+        byte[] out = new byte[keyLenBytes];
+        kdfNI.handleErrorCodes(kdfNI.x942kdf(zz, cekAlg, ukm, digest, out, 0, keyLenBytes));
+        return out;
+    }
+
+    /**
+     * {@link #x963(String, byte[], int, byte[])} derived natively through kdfNI.
+     */
+    public static byte[] x963(KdfNI kdfNI, String digest, byte[] zz, int keyLenBytes, byte[] sharedInfo)
+    {
+        byte[] out = new byte[keyLenBytes];
+        kdfNI.handleErrorCodes(kdfNI.x963kdf(zz, sharedInfo, digest, out, 0, keyLenBytes));
+        return out;
+    }
+
     /**
      * Return the leftmost {@code keyLenBytes} of {@code derived}, zeroing the
      * working buffer when a truncated copy is taken so no KEK material lingers
@@ -152,6 +185,27 @@ public final class KeyAgreementKDF
         }
     }
 
+    /**
+     * The OpenSSL key wrap cipher {@code X942KDF-ASN1} maps to the OID for a
+     * key-wrap algorithm OID, or null when it has none.
+     */
+    private static String x942CekAlg(String alg)
+    {
+        switch (alg)
+        {
+        case "2.16.840.1.101.3.4.1.5":
+            return "AES-128-WRAP";
+        case "2.16.840.1.101.3.4.1.25":
+            return "AES-192-WRAP";
+        case "2.16.840.1.101.3.4.1.45":
+            return "AES-256-WRAP";
+        case "1.2.840.113549.1.9.16.3.6":
+            return "DES3-WRAP";
+        default:
+            return null;
+        }
+    }
+
     /**
      * The JCE key-algorithm name to stamp onto the derived {@code SecretKey}
      * so the subsequent key-wrap {@code Cipher} accepts it. Mirrors the wrap
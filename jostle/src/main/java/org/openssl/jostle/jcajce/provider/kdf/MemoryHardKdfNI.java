@@ -40,8 +40,20 @@ public interface MemoryHardKdfNI extends DefaultServiceNI
      * memoryKiB} is the memory cost in kibibytes and must be at least
      * {@code 8 * lanes}.
      */
+    default int argon2(byte[] password, byte[] salt, int type, int version, int iterations, int memoryKiB,
+                       int lanes, byte[] out, int outOffset, int outLen)
+    {
+        return argon2(password, salt, type, version, iterations, memoryKiB, lanes, 1, out, outOffset, outLen);
+    }
+
+    /**
+     * Argon2 computed on up to {@code threads} threads. The derived key does not
+     * depend on {@code threads}; more than one thread runs in a dedicated OpenSSL
+     * library context, is capped at {@code lanes}, and falls back to a single
+     * thread when that context's pool is unavailable or busy.
+     */
     int argon2(byte[] password, byte[] salt, int type, int version, int iterations, int memoryKiB,
-               int lanes, byte[] out, int outOffset, int outLen);
+               int lanes, int threads, byte[] out, int outOffset, int outLen);
 
     default long handleErrorCodes(int code)
     {
@@ -24,5 +24,5 @@ public class MemoryHardKdfNIJNI implements MemoryHardKdfNI
 
     @Override
     public native int argon2(byte[] password, byte[] salt, int type, int version, int iterations,
-                             int memoryKiB, int lanes, byte[] out, int outOffset, int outLen);
+                             int memoryKiB, int lanes, int threads, byte[] out, int outOffset, int outLen);
 }
@@ -35,12 +35,12 @@ public class PBKDF2SecretKeyFactory extends SecretKeyFactorySpi
 
     public PBKDF2SecretKeyFactory(String forcedDigestAlgorithm)
     {
-        this(NISelector.KdfNI, forcedDigestAlgorithm);
+        this(NISelector.getKdfNI(), forcedDigestAlgorithm);
     }
 
     public PBKDF2SecretKeyFactory()
     {
-        this.kdfNI = NISelector.KdfNI;
+        this.kdfNI = NISelector.getKdfNI();
         this.forcedDigestAlgorithm = null;
     }
 
@@ -32,7 +32,7 @@ public class ScryptSecretKeyFactory extends SecretKeyFactorySpi
 
     public ScryptSecretKeyFactory()
     {
-        this(NISelector.MemoryHardKdfNI);
+        this(NISelector.getMemoryHardKdfNI());
     }
 
     public ScryptSecretKeyFactory(MemoryHardKdfNI kdfNI)
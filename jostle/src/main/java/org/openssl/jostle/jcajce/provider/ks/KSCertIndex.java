@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.jcajce.provider.ks;
+
+import org.openssl.jostle.util.Arrays;
+
+import java.util.HashMap;
+
+/**
+ * Index from the DER of each leaf certificate held by a keystore to the alias
+ * it belongs to, so engineGetCertificateAlias is a map read rather than a walk
+ * over every chain.
+ * <p>
+ * Each {@link KSSnapshot} builds its own index while it is decoded and never
+ * changes it afterwards, so lookups need no lock. When several aliases hold the
+ * same leaf certificate the first added, which is the first in store order, is
+ * returned.
+ */
+final class KSCertIndex
+{
+    private final HashMap<Encoding, String> aliases = new HashMap<Encoding, String>();
+
+    /**
+     * Record alias as a holder of the leaf certificate with the passed in encoding.
+     *
+     * @param alias the entry alias.
+     * @param leaf  DER encoding of the leaf certificate, null if the entry has no chain.
+     */
+    void add(String alias, byte[] leaf)
+    {
+        if (leaf == null)
+        {
+            return;
+        }
+        Encoding key = new Encoding(leaf);
+        if (!aliases.containsKey(key))
+        {
+            aliases.put(key, alias);
+        }
+    }
+
+    /**
+     * Return the alias whose leaf certificate has the passed in encoding.
+     *
+     * @param encoded DER encoding of the certificate.
+     * @return the alias or null if no entry holds the certificate.
+     */
+    String alias(byte[] encoded)
+    {
+        return aliases.get(new Encoding(encoded));
+    }
+
+    private static final class Encoding
+    {
+        private final byte[] encoded;
+        private final int hash;
+
+        Encoding(byte[] encoded)
+        {
+            this.encoded = encoded;
+            this.hash = Arrays.hashCode(encoded);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Encoding))
+            {
+                return false;
+            }
+            Encoding other = (Encoding) o;
+            return hash == other.hash && Arrays.areEqual(encoded, other.encoded);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+}
@@ -49,6 +49,12 @@ public class KSServiceJNI
     @Override
     public native byte[] ni_getAliases(long ref, int[] err);
 
+    @Override
+    public native byte[] ni_getEntries(long ref, int[] err);
+
+    @Override
+    public native byte[] ni_getEntry(long ref, String alias, int[] err);
+
     @Override
     public native int ni_containsAlias(long ref, String alias);
 
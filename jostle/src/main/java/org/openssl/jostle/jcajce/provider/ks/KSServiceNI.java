@@ -44,6 +44,10 @@ public interface KSServiceNI
 
     byte[] ni_getAliases(long ref, int[] err);
 
+    byte[] ni_getEntries(long ref, int[] err);
+
+    byte[] ni_getEntry(long ref, String alias, int[] err);
+
     int ni_containsAlias(long ref, String alias);
 
     int ni_size(long ref);
@@ -148,6 +152,28 @@ public interface KSServiceNI
         return aliases;
     }
 
+    default byte[] getEntries(long ref)
+        throws KeyStoreException
+    {
+        int[] err = new int[1];
+        byte[] entries = ni_getEntries(ref, err);
+        handleKeyStoreErrors(err[0]);
+        return entries;
+    }
+
+    /**
+     * The entry under alias in the {@link #getEntries} encoding, with a count of
+     * zero if the store has no such alias.
+     */
+    default byte[] getEntry(long ref, String alias)
+        throws KeyStoreException
+    {
+        int[] err = new int[1];
+        byte[] entry = ni_getEntry(ref, alias, err);
+        handleKeyStoreErrors(err[0]);
+        return entry;
+    }
+
     default boolean containsAlias(long ref, String alias)
     {
         return handleErrors(ni_containsAlias(ref, alias)) != 0;
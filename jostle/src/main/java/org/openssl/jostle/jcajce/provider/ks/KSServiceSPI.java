@@ -22,7 +22,6 @@ import org.openssl.jostle.rand.RandSource;
 import org.openssl.jostle.util.Arrays;
 import org.openssl.jostle.util.asn1.ASN1Encoder;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
@@ -43,15 +42,12 @@ import java.security.UnrecoverableEntryException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateEncodingException;
-import java.security.cert.CertificateFactory;
 import java.security.cert.CertificateException;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Enumeration;
-import java.util.List;
 import java.util.Set;
 
 import javax.security.auth.callback.Callback;
@@ -63,8 +59,8 @@ public class KSServiceSPI
     extends KeyStoreSpi
 {
     // Instance field, not a NISelector static: the SPI is bound to whichever
-    // NI backend its provider passes in - NISelector.KSServiceNI for JSL,
-    // FIPSNISelector.KSServiceNI (the FIPS interface library) for JSLFIPS.
+    // NI backend its provider passes in - NISelector.getKSServiceNI() for JSL,
+    // FIPSNISelector.getKSServiceNI() (the FIPS interface library) for JSLFIPS.
     private final KSServiceNI ksServiceNI;
     private static final byte[] PKCS12_AUTH_SAFE_DATA_OID = new byte[] {
             0x2a, (byte)0x86, 0x48, (byte)0x86, (byte)0xf7, 0x0d, 0x01,
@@ -91,6 +87,12 @@ public class KSServiceSPI
 
     private final KSReference ref;
 
+    // Every entry as last exported by the native store, so the read-only
+    // methods make no native call and take no lock. Built at load, marked
+    // stale by each set or delete and exported again by the next read, null
+    // until first built.
+    private volatile KSSnapshot snapshot;
+
     // Store-time algorithm profile, selected per registered JCA type name (see
     // ProvKS). Default-provider algorithms only (no RC2), so BouncyCastle's
     // RC2-cert legacy default is not reproduced; bare "PKCS12" is a modern AES
@@ -111,7 +113,7 @@ public class KSServiceSPI
     {
         // Bare PKCS12: modern default -- AES-256-CBC keys, AES-128-CBC certs
         // (PBES2 / PBKDF2-HMAC-SHA256), HMAC-SHA256 integrity MAC.
-        this(NISelector.KSServiceNI, PBE_AES256_CBC, PBE_AES128_CBC, MAC_TRADITIONAL, MD_SHA256,
+        this(NISelector.getKSServiceNI(), PBE_AES256_CBC, PBE_AES128_CBC, MAC_TRADITIONAL, MD_SHA256,
                 PBE_ITERATIONS, MAC_ITERATIONS);
     }
 
@@ -134,7 +136,7 @@ public class KSServiceSPI
     protected KSServiceSPI(int keyPbe, int certPbe, int macScheme, int macDigest,
                            int pbeIter, int macIter)
     {
-        this(NISelector.KSServiceNI, keyPbe, certPbe, macScheme, macDigest, pbeIter, macIter);
+        this(NISelector.getKSServiceNI(), keyPbe, certPbe, macScheme, macDigest, pbeIter, macIter);
     }
 
     protected KSServiceSPI(KSServiceNI ksServiceNI, int keyPbe, int certPbe, int macScheme,
@@ -267,19 +269,8 @@ public class KSServiceSPI
             throw new NullPointerException("alias must not be null");
         }
 
-        try
-        {
-            byte[] encoded;
-            synchronized (this)
-            {
-                encoded = ksServiceNI.getCertificateChain(ref.getReference(), alias);
-            }
-            return decodeCertificateChain(encoded);
-        }
-        catch (KeyStoreException | CertificateException | IOException e)
-        {
-            throw new IllegalStateException(e.getMessage(), e);
-        }
+        Certificate[] chain = snapshot().chain(alias);
+        return chain == null ? null : chain.clone();
     }
 
     @Override
@@ -297,21 +288,8 @@ public class KSServiceSPI
             throw new NullPointerException("alias must not be null");
         }
 
-        synchronized (this)
-        {
-            if (!ksServiceNI.containsAlias(ref.getReference(), alias))
-            {
-                return null;
-            }
-            try
-            {
-                return new Date(ksServiceNI.getCreationDate(ref.getReference(), alias));
-            }
-            catch (KeyStoreException e)
-            {
-                throw new IllegalStateException(e.getMessage(), e);
-            }
-        }
+        KSSnapshot.Item item = snapshot().get(alias);
+        return item == null ? null : new Date(item.getCreationDate());
     }
 
     @Override
@@ -348,9 +326,16 @@ public class KSServiceSPI
             encodedChain = encodeCertificateChain(chain);
             synchronized (this)
             {
-                ksServiceNI.setKey(ref.getReference(), alias, encoded,
-                        encodedPassword);
-                ksServiceNI.setCertificateChain(ref.getReference(), alias, encodedChain);
+                try
+                {
+                    ksServiceNI.setKey(ref.getReference(), alias, encoded,
+                            encodedPassword);
+                    ksServiceNI.setCertificateChain(ref.getReference(), alias, encodedChain);
+                }
+                finally
+                {
+                    refresh(alias);
+                }
             }
         }
         catch (CertificateEncodingException e)
@@ -405,8 +390,15 @@ public class KSServiceSPI
 
         synchronized (this)
         {
-            ksServiceNI.setKey(ref.getReference(), alias, key, null);
-            ksServiceNI.setCertificateChain(ref.getReference(), alias, encodedChain);
+            try
+            {
+                ksServiceNI.setKey(ref.getReference(), alias, key, null);
+                ksServiceNI.setCertificateChain(ref.getReference(), alias, encodedChain);
+            }
+            finally
+            {
+                refresh(alias);
+            }
         }
     }
 
@@ -441,6 +433,10 @@ public class KSServiceSPI
                 kse.initCause(e);
                 throw kse;
             }
+            finally
+            {
+                refresh(alias);
+            }
         }
     }
 
@@ -454,25 +450,21 @@ public class KSServiceSPI
         }
         synchronized (this)
         {
-            ksServiceNI.deleteEntry(ref.getReference(), alias);
+            try
+            {
+                ksServiceNI.deleteEntry(ref.getReference(), alias);
+            }
+            finally
+            {
+                refresh(alias);
+            }
         }
     }
 
     @Override
     public Enumeration<String> engineAliases()
     {
-        try
-        {
-            synchronized (this)
-            {
-                return Collections.enumeration(
-                        decodeAliases(ksServiceNI.getAliases(ref.getReference())));
-            }
-        }
-        catch (KeyStoreException | IOException e)
-        {
-            throw new IllegalStateException(e.getMessage(), e);
-        }
+        return Collections.enumeration(snapshot().aliases());
     }
 
     @Override
@@ -483,19 +475,13 @@ public class KSServiceSPI
             throw new NullPointerException("alias must not be null");
         }
 
-        synchronized (this)
-        {
-            return ksServiceNI.containsAlias(ref.getReference(), alias);
-        }
+        return snapshot().get(alias) != null;
     }
 
     @Override
     public int engineSize()
     {
-        synchronized (this)
-        {
-            return ksServiceNI.size(ref.getReference());
-        }
+        return snapshot().size();
     }
 
     @Override
@@ -506,10 +492,8 @@ public class KSServiceSPI
             throw new NullPointerException("alias must not be null");
         }
 
-        synchronized (this)
-        {
-            return ksServiceNI.isKeyEntry(ref.getReference(), alias);
-        }
+        KSSnapshot.Item item = snapshot().get(alias);
+        return item != null && item.isKeyEntry();
     }
 
     @Override
@@ -520,10 +504,8 @@ public class KSServiceSPI
             throw new NullPointerException("alias must not be null");
         }
 
-        synchronized (this)
-        {
-            return ksServiceNI.isCertificateEntry(ref.getReference(), alias);
-        }
+        KSSnapshot.Item item = snapshot().get(alias);
+        return item != null && item.isCertificateEntry();
     }
 
     @Override
@@ -536,19 +518,7 @@ public class KSServiceSPI
 
         try
         {
-            byte[] encoded = cert.getEncoded();
-            Enumeration<String> aliases = engineAliases();
-            while (aliases.hasMoreElements())
-            {
-                String alias = aliases.nextElement();
-                Certificate candidate = engineGetCertificate(alias);
-                if (candidate != null
-                        && Arrays.areEqual(encoded, candidate.getEncoded()))
-                {
-                    return alias;
-                }
-            }
-            return null;
+            return snapshot().alias(cert.getEncoded());
         }
         catch (CertificateEncodingException e)
         {
@@ -630,12 +600,14 @@ public class KSServiceSPI
             byte[] encodedPassword = encodePassword(password);
             try
             {
+                snapshot = null;
                 ksServiceNI.load(ref.getReference(), input, encodedPassword);
             }
             finally
             {
                 Arrays.clear(encodedPassword);
             }
+            snapshotLoadedStore();
         }
     }
 
@@ -917,6 +889,76 @@ public class KSServiceSPI
 
     }
 
+    /**
+     * The entry snapshot, exported from the native store if not yet built or
+     * stale.
+     */
+    private KSSnapshot snapshot()
+    {
+        KSSnapshot current = snapshot;
+        if (current != null && !current.isStale())
+        {
+            return current;
+        }
+        synchronized (this)
+        {
+            current = snapshot;
+            if (current == null || current.isStale())
+            {
+                try
+                {
+                    current = KSSnapshot.decode(ksServiceNI.getEntries(ref.getReference()), current);
+                }
+                catch (KeyStoreException | CertificateException | IOException e)
+                {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Export the entries of a freshly loaded store. A store whose certificates
+     * cannot be decoded here is left without a snapshot and reports the
+     * failure from the first lookup instead.
+     */
+    private void snapshotLoadedStore()
+    {
+        try
+        {
+            snapshot();
+        }
+        catch (RuntimeException e)
+        {
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Patch the snapshot with the entry now stored under alias after a change
+     * to the native store, a single ks_get_entry read rather than an export of
+     * every entry. A snapshot that cannot be patched is marked stale and the
+     * next read exports the store again. Callers hold the lock.
+     */
+    private void refresh(String alias)
+    {
+        KSSnapshot current = snapshot;
+        if (current == null || current.isStale())
+        {
+            return;
+        }
+        try
+        {
+            snapshot = current.with(alias, ksServiceNI.getEntry(ref.getReference(), alias));
+        }
+        catch (KeyStoreException | CertificateException | IOException e)
+        {
+            snapshot = current.stale();
+        }
+    }
+
     private static PrivateKey generatePrivateKey(byte[] encoded)
         throws NoSuchAlgorithmException, InvalidKeySpecException
     {
@@ -1076,78 +1118,4 @@ public class KSServiceSPI
         }
         return out.toByteArray();
     }
-
-    private static Certificate[] decodeCertificateChain(byte[] encoded)
-        throws CertificateException, IOException
-    {
-        if (encoded == null || encoded.length == 0)
-        {
-            return null;
-        }
-
-        CertificateFactory factory;
-        try
-        {
-            factory = CertificateFactory.getInstance("X.509",
-                    JostleProvider.PROVIDER_NAME);
-        }
-        catch (NoSuchProviderException e)
-        {
-            CertificateException ce =
-                    new CertificateException("Jostle provider is not registered");
-            ce.initCause(e);
-            throw ce;
-        }
-
-        // The native side serialised the chain as concatenated DER; the X.509
-        // factory reads the run back as an ordered collection.
-        return factory.generateCertificates(new ByteArrayInputStream(encoded))
-                .toArray(new Certificate[0]);
-    }
-
-    private static List<String> decodeAliases(byte[] encoded)
-        throws IOException
-    {
-        if (encoded == null || encoded.length < 4)
-        {
-            return Collections.emptyList();
-        }
-
-        List<String> aliases = new ArrayList<String>();
-        int offset = 0;
-        int count = readInt(encoded, offset);
-        offset += 4;
-        if (count < 0)
-        {
-            throw new IOException("alias count is negative");
-        }
-        for (int i = 0; i < count; i++)
-        {
-            if (offset + 4 > encoded.length)
-            {
-                throw new IOException("alias length is truncated");
-            }
-            int length = readInt(encoded, offset);
-            offset += 4;
-            if (length < 0 || length > encoded.length - offset)
-            {
-                throw new IOException("alias value is truncated");
-            }
-            aliases.add(new String(encoded, offset, length, StandardCharsets.UTF_8));
-            offset += length;
-        }
-        if (offset != encoded.length)
-        {
-            throw new IOException("aliases have trailing data");
-        }
-        return aliases;
-    }
-
-    private static int readInt(byte[] in, int offset)
-    {
-        return ((in[offset] & 0xff) << 24)
-                | ((in[offset + 1] & 0xff) << 16)
-                | ((in[offset + 2] & 0xff) << 8)
-                | (in[offset + 3] & 0xff);
-    }
 }
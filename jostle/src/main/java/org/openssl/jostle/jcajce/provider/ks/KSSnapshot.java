@@ -0,0 +1,521 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.jcajce.provider.ks;
+
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchProviderException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of the entries held by a native keystore: the type, creation
+ * date and decoded chain of each alias and a {@link KSCertIndex} of their leaf
+ * certificates. The read-only KeyStore methods are answered from the current
+ * snapshot without a native call.
+ * <p>
+ * A snapshot is decoded from a single ks_get_entries export of the native
+ * store. A set or delete re-reads only the alias it wrote, through
+ * ks_get_entry, and {@link #with} returns a new snapshot holding the change in
+ * a small overlay over the exported entries, so filling a store never exports
+ * it again. Once the overlay outgrows the square root of the exported entries
+ * it is folded into a fresh base without a native call, keeping both the copy
+ * made per write and the fold cost per write at about that square root. It
+ * lives here rather than in the SPI so the Java 8 and Java 9+ copies of
+ * {@link KSServiceSPI} share one implementation.
+ */
+final class KSSnapshot
+{
+    private static final LinkedHashMap<String, Change> NO_CHANGES = new LinkedHashMap<String, Change>();
+
+    static final KSSnapshot EMPTY = new KSSnapshot(new LinkedHashMap<String, Item>(), new KSCertIndex(),
+            NO_CHANGES, 0, false);
+
+    // Entry flags of the export, KS_ENTRY_KEY and KS_ENTRY_CERTIFICATE in ks.h.
+    private static final int KEY_ENTRY = 1;
+    private static final int CERTIFICATE_ENTRY = 2;
+
+    // Smallest overlay folded into the base, so small stores are not rebuilt on every write.
+    private static final int MIN_FOLD = 32;
+
+    private final LinkedHashMap<String, Item> entries;
+    private final KSCertIndex index;
+    private final LinkedHashMap<String, Change> changes;
+    private final int size;
+    private final boolean stale;
+    private volatile List<String> aliasList;
+
+    private KSSnapshot(LinkedHashMap<String, Item> entries, KSCertIndex index,
+                       LinkedHashMap<String, Change> changes, int size, boolean stale)
+    {
+        this.entries = entries;
+        this.index = index;
+        this.changes = changes;
+        this.size = size;
+        this.stale = stale;
+    }
+
+    /**
+     * Decode the output of ks_get_entries: a big-endian u32 count followed by,
+     * per entry, a u32 length and UTF-8 alias, a u8 of entry flags, an i64
+     * creation time and a u32 length and the chain as concatenated DER.
+     *
+     * @param encoded  the export, null for an empty store.
+     * @param previous an earlier snapshot of the store whose decoded chains may be
+     *                 reused, or null.
+     * @return the snapshot.
+     * @throws IOException if the export is malformed.
+     * @throws CertificateException if a chain cannot be decoded.
+     */
+    static KSSnapshot decode(byte[] encoded, KSSnapshot previous)
+        throws IOException, CertificateException
+    {
+        if (encoded == null || encoded.length < 4)
+        {
+            return EMPTY;
+        }
+
+        LinkedHashMap<String, Item> entries = new LinkedHashMap<String, Item>();
+        KSCertIndex index = new KSCertIndex();
+        Export export = new Export(encoded);
+        for (int i = 0; i < export.count; i++)
+        {
+            Item item = export.next(previous);
+            entries.put(export.alias, item);
+            index.add(export.alias, item.leaf);
+        }
+        export.finish();
+        return new KSSnapshot(entries, index, NO_CHANGES, entries.size(), false);
+    }
+
+    /**
+     * Return this snapshot with the entry under alias replaced by the output of
+     * ks_get_entry for it, a count of zero meaning the alias was deleted. An
+     * alias new to the store is placed first, as the native store prepends it,
+     * a replaced alias keeps its position.
+     *
+     * @param alias   the alias that was written.
+     * @param encoded the ks_get_entry export of alias.
+     * @return the patched snapshot.
+     * @throws IOException if the export is malformed or holds another alias.
+     * @throws CertificateException if the chain cannot be decoded.
+     */
+    KSSnapshot with(String alias, byte[] encoded)
+        throws IOException, CertificateException
+    {
+        Item item = null;
+        if (encoded != null && encoded.length >= 4)
+        {
+            Export export = new Export(encoded);
+            if (export.count > 1)
+            {
+                throw new IOException("entry export holds more than one entry");
+            }
+            if (export.count == 1)
+            {
+                item = export.next(this);
+                if (!alias.equals(export.alias))
+                {
+                    throw new IOException("entry export holds another alias");
+                }
+            }
+            export.finish();
+        }
+
+        Item current = get(alias);
+        if (item == null && current == null)
+        {
+            return this;
+        }
+
+        LinkedHashMap<String, Change> patched = new LinkedHashMap<String, Change>(changes);
+        if (item == null)
+        {
+            patched.put(alias, new Change(null, false));
+        }
+        else if (current != null)
+        {
+            Change earlier = changes.get(alias);
+            patched.put(alias, new Change(item, earlier != null && earlier.added));
+        }
+        else
+        {
+            // Re-inserted so the overlay keeps additions oldest first.
+            patched.remove(alias);
+            patched.put(alias, new Change(item, true));
+        }
+
+        int patchedSize = size + (item == null ? 0 : 1) - (current == null ? 0 : 1);
+        KSSnapshot snapshot = new KSSnapshot(entries, index, patched, patchedSize, false);
+        if (patched.size() > Math.max(MIN_FOLD, (int)Math.sqrt(entries.size())))
+        {
+            return snapshot.fold();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Return this snapshot with the overlay merged into a new base.
+     */
+    private KSSnapshot fold()
+    {
+        LinkedHashMap<String, Item> folded = new LinkedHashMap<String, Item>();
+        KSCertIndex foldedIndex = new KSCertIndex();
+        for (String alias : aliases())
+        {
+            Item item = get(alias);
+            folded.put(alias, item);
+            foldedIndex.add(alias, item.leaf);
+        }
+        return new KSSnapshot(folded, foldedIndex, NO_CHANGES, folded.size(), false);
+    }
+
+    /**
+     * Return this snapshot marked as no longer matching the native store. The
+     * result is a new instance on every call, so a reader that exported the
+     * store before a write can tell the write happened, and shares this
+     * snapshot's decoded chains for the next {@link #decode}.
+     */
+    KSSnapshot stale()
+    {
+        return new KSSnapshot(entries, index, changes, size, true);
+    }
+
+    /**
+     * Return true if the native store may have changed since this snapshot was decoded.
+     */
+    boolean isStale()
+    {
+        return stale;
+    }
+
+    /**
+     * Return the entry stored under alias.
+     *
+     * @param alias the entry alias.
+     * @return the entry or null if the store has no such alias.
+     */
+    Item get(String alias)
+    {
+        Change change = changes.get(alias);
+        if (change != null)
+        {
+            return change.item;
+        }
+        return entries.get(alias);
+    }
+
+    /**
+     * Return the chain stored for alias, the caller must not modify it.
+     *
+     * @param alias the entry alias.
+     * @return the decoded chain, or null if the alias has none.
+     */
+    Certificate[] chain(String alias)
+    {
+        Item item = get(alias);
+        return item == null ? null : item.chain;
+    }
+
+    /**
+     * Return the alias whose leaf certificate has the passed in encoding.
+     *
+     * @param encoded DER encoding of the certificate.
+     * @return the alias or null if no entry holds the certificate.
+     */
+    String alias(byte[] encoded)
+    {
+        String found = index.alias(encoded);
+        if (changes.isEmpty())
+        {
+            return found;
+        }
+
+        // An added alias precedes the base, the newest addition first. A
+        // replaced alias or a changed base hit needs the merged order.
+        String added = null;
+        boolean walk = found != null && changes.containsKey(found);
+        for (Map.Entry<String, Change> entry : changes.entrySet())
+        {
+            Change change = entry.getValue();
+            if (change.item != null && change.item.leaf != null && Arrays.equals(change.item.leaf, encoded))
+            {
+                if (change.added)
+                {
+                    added = entry.getKey();
+                }
+                else
+                {
+                    walk = true;
+                }
+            }
+        }
+        if (added != null)
+        {
+            return added;
+        }
+        if (!walk)
+        {
+            return found;
+        }
+        for (String alias : aliases())
+        {
+            Item item = get(alias);
+            if (item.leaf != null && Arrays.equals(item.leaf, encoded))
+            {
+                return alias;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Return the aliases in store order.
+     */
+    List<String> aliases()
+    {
+        List<String> list = aliasList;
+        if (list == null)
+        {
+            ArrayList<String> merged = new ArrayList<String>(size);
+            for (Map.Entry<String, Change> entry : changes.entrySet())
+            {
+                if (entry.getValue().added)
+                {
+                    merged.add(entry.getKey());
+                }
+            }
+            Collections.reverse(merged);
+            for (String alias : entries.keySet())
+            {
+                Change change = changes.get(alias);
+                if (change == null || (change.item != null && !change.added))
+                {
+                    merged.add(alias);
+                }
+            }
+            list = Collections.unmodifiableList(merged);
+            aliasList = list;
+        }
+        return list;
+    }
+
+    int size()
+    {
+        return size;
+    }
+
+    private static Certificate[] decodeChain(byte[] encoded, int offset, int length)
+        throws CertificateException
+    {
+        CertificateFactory factory;
+        try
+        {
+            factory = CertificateFactory.getInstance("X.509",
+                    JostleProvider.PROVIDER_NAME);
+        }
+        catch (NoSuchProviderException e)
+        {
+            CertificateException ce =
+                    new CertificateException("Jostle provider is not registered");
+            ce.initCause(e);
+            throw ce;
+        }
+
+        // The native side serialised the chain as concatenated DER; the X.509
+        // factory reads the run back as an ordered collection.
+        return factory.generateCertificates(new ByteArrayInputStream(encoded, offset, length))
+                .toArray(new Certificate[0]);
+    }
+
+    private static int readInt(byte[] in, int offset)
+    {
+        return ((in[offset] & 0xff) << 24)
+                | ((in[offset + 1] & 0xff) << 16)
+                | ((in[offset + 2] & 0xff) << 8)
+                | (in[offset + 3] & 0xff);
+    }
+
+    /**
+     * Reader over the records of a ks_get_entries or ks_get_entry export.
+     */
+    private static final class Export
+    {
+        private final byte[] encoded;
+        private final int count;
+        private int offset;
+        private String alias;
+
+        private Export(byte[] encoded)
+            throws IOException
+        {
+            this.encoded = encoded;
+            this.count = readInt(encoded, 0);
+            this.offset = 4;
+            if (count < 0)
+            {
+                throw new IOException("entry count is negative");
+            }
+        }
+
+        /**
+         * Read the next entry, leaving its alias in alias.
+         *
+         * @param previous snapshot whose decoded chain for the alias may be reused, or null.
+         */
+        private Item next(KSSnapshot previous)
+            throws IOException, CertificateException
+        {
+            if (offset + 4 > encoded.length)
+            {
+                throw new IOException("alias length is truncated");
+            }
+            int length = readInt(encoded, offset);
+            offset += 4;
+            if (length < 0 || length > encoded.length - offset - 13)
+            {
+                throw new IOException("entry is truncated");
+            }
+            alias = new String(encoded, offset, length, StandardCharsets.UTF_8);
+            offset += length;
+            int flags = encoded[offset++];
+            long created = ((long)readInt(encoded, offset) << 32) | (readInt(encoded, offset + 4) & 0xffffffffL);
+            offset += 8;
+            length = readInt(encoded, offset);
+            offset += 4;
+            if (length < 0 || length > encoded.length - offset)
+            {
+                throw new IOException("certificate chain is truncated");
+            }
+            Item earlier = previous == null ? null : previous.get(alias);
+            Item item;
+            if (earlier != null && earlier.hasChain(encoded, offset, length))
+            {
+                item = new Item((flags & KEY_ENTRY) != 0, (flags & CERTIFICATE_ENTRY) != 0, created, earlier);
+            }
+            else
+            {
+                item = new Item((flags & KEY_ENTRY) != 0, (flags & CERTIFICATE_ENTRY) != 0, created,
+                        encoded, offset, length);
+            }
+            offset += length;
+            return item;
+        }
+
+        private void finish()
+            throws IOException
+        {
+            if (offset != encoded.length)
+            {
+                throw new IOException("entries have trailing data");
+            }
+        }
+    }
+
+    /**
+     * An alias written since the base was exported: its entry, null once
+     * deleted, and whether it was added rather than replaced in place.
+     */
+    private static final class Change
+    {
+        private final Item item;
+        private final boolean added;
+
+        private Change(Item item, boolean added)
+        {
+            this.item = item;
+            this.added = added;
+        }
+    }
+
+    /**
+     * One keystore entry as the native store reported it.
+     */
+    static final class Item
+    {
+        private final boolean keyEntry;
+        private final boolean certificateEntry;
+        private final long creationDate;
+        private final byte[] chainEncoding;
+        private final Certificate[] chain;
+        private final byte[] leaf;
+
+        private Item(boolean keyEntry, boolean certificateEntry, long creationDate,
+                     byte[] encoded, int offset, int length)
+            throws CertificateException
+        {
+            this.keyEntry = keyEntry;
+            this.certificateEntry = certificateEntry;
+            this.creationDate = creationDate;
+            this.chainEncoding = length == 0 ? null : Arrays.copyOfRange(encoded, offset, offset + length);
+            this.chain = length == 0 ? null : decodeChain(encoded, offset, length);
+            this.leaf = chain == null || chain.length == 0 ? null : chain[0].getEncoded();
+        }
+
+        private Item(boolean keyEntry, boolean certificateEntry, long creationDate, Item earlier)
+        {
+            this.keyEntry = keyEntry;
+            this.certificateEntry = certificateEntry;
+            this.creationDate = creationDate;
+            this.chainEncoding = earlier.chainEncoding;
+            this.chain = earlier.chain;
+            this.leaf = earlier.leaf;
+        }
+
+        /**
+         * Return true if this entry's chain has the encoding at offset in encoded.
+         */
+        private boolean hasChain(byte[] encoded, int offset, int length)
+        {
+            if (chainEncoding == null)
+            {
+                return length == 0;
+            }
+            if (chainEncoding.length != length)
+            {
+                return false;
+            }
+            for (int i = 0; i != length; i++)
+            {
+                if (chainEncoding[i] != encoded[offset + i])
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isKeyEntry()
+        {
+            return keyEntry;
+        }
+
+        boolean isCertificateEntry()
+        {
+            return certificateEntry;
+        }
+
+        long getCreationDate()
+        {
+            return creationDate;
+        }
+    }
+}
@@ -13,6 +13,7 @@ package org.openssl.jostle.jcajce.provider.mac;
 import org.openssl.jostle.jcajce.provider.DefaultServiceNI;
 import org.openssl.jostle.jcajce.provider.ErrorCode;
 
+import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
 
 public interface MacServiceNI extends DefaultServiceNI
@@ -23,10 +24,15 @@ public interface MacServiceNI extends DefaultServiceNI
 
     int ni_init(long ref, byte[] keyBytes);
 
+    int ni_initFrom(long ref, long templateRef);
+
     int ni_updateByte(long ref, byte b);
 
     int ni_updateBytes(long ref, byte[] in, int inOff, int inLen);
 
+    // in must be a direct buffer, inOff is absolute from the start of the buffer
+    int ni_updateBuffer(long ref, ByteBuffer in, int inOff, int inLen);
+
     int ni_doFinal(long ref, byte[] out, int outOff);
 
     int ni_getMacLength(long ref);
@@ -37,6 +43,12 @@ public interface MacServiceNI extends DefaultServiceNI
 
     int ni_reset(long ref);
 
+    // in may be null when inLen is zero; final and reset always run, see updateDoFinalReset
+    int ni_updateDoFinalReset(long ref, byte[] in, int inOff, int inLen, byte[] out, int outOff);
+
+    // spans holds an (offset, length) pair into in per message, in may be null when every message is empty
+    int ni_doFinalBatch(long ref, byte[] in, int[] spans, int count, byte[] out, int outOff);
+
     void ni_dispose(long ref);
 
 
@@ -65,6 +77,13 @@ public interface MacServiceNI extends DefaultServiceNI
         handleInitErrors(ni_init(ref, keyBytes));
     }
 
+    // Key ref by duplicating templateRef, a keyed context of the same MAC and
+    // function that has absorbed no input.
+    default void initFrom(long ref, long templateRef)
+    {
+        handleErrors(ni_initFrom(ref, templateRef));
+    }
+
     default void engineUpdate(long ref, byte b)
     {
         handleErrors(ni_updateByte(ref, b));
@@ -75,6 +94,11 @@ public interface MacServiceNI extends DefaultServiceNI
         handleErrors(ni_updateBytes(ref, in, inOff, inLen));
     }
 
+    default void updateBuffer(long ref, ByteBuffer in, int inOff, int inLen)
+    {
+        handleErrors(ni_updateBuffer(ref, in, inOff, inLen));
+    }
+
     default int doFinal(long ref, byte[] out, int outOff)
     {
         return (int) handleErrors(ni_doFinal(ref, out, outOff));
@@ -95,6 +119,20 @@ public interface MacServiceNI extends DefaultServiceNI
         handleErrors( ni_reset(ref));
     }
 
+    // Absorb any trailing input, write the MAC and re-key the context in one
+    // native call. The context is reset even when the update or final fails.
+    default int updateDoFinalReset(long ref, byte[] in, int inOff, int inLen, byte[] out, int outOff)
+    {
+        return (int) handleErrors(ni_updateDoFinalReset(ref, in, inOff, inLen, out, outOff));
+    }
+
+    // MAC count independent messages under the current key in one native call,
+    // tag i is written at outOff + i * MAC length. The context is left re-keyed.
+    default int doFinalBatch(long ref, byte[] in, int[] spans, int count, byte[] out, int outOff)
+    {
+        return (int) handleErrors(ni_doFinalBatch(ref, in, spans, count, out, outOff));
+    }
+
     default void dispose(long ref)
     {
         ni_dispose(ref);
@@ -13,11 +13,14 @@ package org.openssl.jostle.jcajce.provider.mac;
 import org.openssl.jostle.disposal.NativeDisposer;
 import org.openssl.jostle.disposal.NativeReference;
 import org.openssl.jostle.jcajce.provider.NISelector;
+import org.openssl.jostle.jcajce.provider.cache.MacTemplateCache;
 import org.openssl.jostle.jcajce.provider.cache.NativeLengthCache;
+import org.openssl.jostle.jcajce.provider.rand.RandServiceNI;
 import org.openssl.jostle.util.Arrays;
 
 import javax.crypto.MacSpi;
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.Key;
@@ -27,35 +30,49 @@ import java.security.spec.AlgorithmParameterSpec;
 public class MacServiceSPI extends MacSpi implements Cloneable
 {
     // Instance field, not a NISelector static: the SPI is bound to whichever
-    // NI backend its provider passes in - NISelector.MacServiceNI for JSL,
-    // FIPSNISelector.MacServiceNI (the FIPS interface library) for JSLFIPS.
+    // NI backend its provider passes in - NISelector.getMacServiceNI() for JSL,
+    // FIPSNISelector.getMacServiceNI() (the FIPS interface library) for JSLFIPS.
+    // The rand NI is the same library's, it keys the template cache fingerprint.
     private final MacServiceNI macServiceNI;
+    private final RandServiceNI randServiceNI;
 
     // OpenSSL-probed MAC lengths, memoized once per (macName, function) (see NativeLengthCache).
     private static final NativeLengthCache<String> macLengths = new NativeLengthCache<String>();
 
+    //
+    // Updates up to this size are held back and handed to the native layer with
+    // the final, so Mac.doFinal(byte[]) is a single native crossing rather than
+    // update, final and reset.
+    //
+    private static final int DEFERRED_LIMIT = 256;
+
     private final MacReference ref;
     private final String cacheKey;
 
+    private byte[] deferred;
+    private int deferredLen;
+
     public MacServiceSPI(String macName, String function)
     {
-        this(NISelector.MacServiceNI, macName, function);
+        this(NISelector.getMacServiceNI(), NISelector.getRandServiceNI(), macName, function);
     }
 
     //
     // Clone path: adopt an already-copied native handle. cacheKey is carried
     // verbatim so the clone shares the memoized MAC length of its source.
     //
-    private MacServiceSPI(MacServiceNI macServiceNI, String cacheKey, MacReference ref)
+    private MacServiceSPI(MacServiceNI macServiceNI, RandServiceNI randServiceNI, String cacheKey, MacReference ref)
     {
         this.macServiceNI = macServiceNI;
+        this.randServiceNI = randServiceNI;
         this.cacheKey = cacheKey;
         this.ref = ref;
     }
 
-    public MacServiceSPI(MacServiceNI macServiceNI, String macName, String function)
+    public MacServiceSPI(MacServiceNI macServiceNI, RandServiceNI randServiceNI, String macName, String function)
     {
         this.macServiceNI = macServiceNI;
+        this.randServiceNI = randServiceNI;
         // Composite cache key: a space cannot appear in a real mac/digest/cipher
         // name (e.g. "HMAC", "SHA2-256", "aes-cbc"), so it is unambiguous.
         this.cacheKey = macName + ' ' + function;
@@ -82,8 +99,42 @@ public class MacServiceSPI extends MacSpi implements Cloneable
         return len;
     }
 
+    /**
+     * Pass any held back input to the native context, ahead of an update that
+     * is not deferred.
+     */
+    private void flushDeferred()
+    {
+        if (deferredLen > 0)
+        {
+            int len = deferredLen;
+            deferredLen = 0;
+            try
+            {
+                macServiceNI.engineUpdate(ref.getReference(), deferred, 0, len);
+            }
+            finally
+            {
+                wipeDeferred(len);
+            }
+        }
+    }
+
+    /**
+     * Zero the first len bytes of the held back input so caller data does not
+     * stay on the heap after the native context has absorbed or dropped it.
+     */
+    private void wipeDeferred(int len)
+    {
+        if (len > 0)
+        {
+            Arrays.fill(deferred, 0, len, (byte) 0);
+        }
+    }
+
+    // Widened to public for BatchMac, which sizes its output from it.
     @Override
-    protected int engineGetMacLength()
+    public int engineGetMacLength()
     {
         synchronized (this)
         {
@@ -119,7 +170,19 @@ public class MacServiceSPI extends MacSpi implements Cloneable
         {
             try
             {
-                macServiceNI.engineInit(ref.getReference(), keyBytes);
+                wipeDeferred(deferredLen);
+                deferredLen = 0;
+                // A templated key is applied by duplicating its keyed template, any
+                // other is keyed here and becomes a template on its second init.
+                MacTemplateCache.Slot slot = MacTemplateCache.slotFor(macServiceNI, randServiceNI, cacheKey, keyBytes);
+                if (slot == null || !MacTemplateCache.initFrom(slot, ref.getReference()))
+                {
+                    macServiceNI.engineInit(ref.getReference(), keyBytes);
+                    if (slot != null)
+                    {
+                        MacTemplateCache.remember(slot, ref.getReference());
+                    }
+                }
             }
             finally
             {
@@ -138,7 +201,18 @@ public class MacServiceSPI extends MacSpi implements Cloneable
     {
         synchronized (this)
         {
-            macServiceNI.engineUpdate(ref.getReference(), input);
+            if (deferred == null)
+            {
+                deferred = new byte[DEFERRED_LIMIT];
+            }
+            else
+            {
+                if (deferredLen == DEFERRED_LIMIT)
+                {
+                    flushDeferred();
+                }
+            }
+            deferred[deferredLen++] = input;
         }
     }
 
@@ -147,27 +221,70 @@ public class MacServiceSPI extends MacSpi implements Cloneable
     {
         synchronized (this)
         {
+            // Only well formed ranges are held back, anything else is left to the
+            // native layer to report.
+            if (input != null && offset >= 0 && len >= 0 && offset <= input.length - len
+                    && len <= DEFERRED_LIMIT - deferredLen)
+            {
+                if (deferred == null)
+                {
+                    deferred = new byte[DEFERRED_LIMIT];
+                }
+                System.arraycopy(input, offset, deferred, deferredLen, len);
+                deferredLen += len;
+                return;
+            }
+            flushDeferred();
             macServiceNI.engineUpdate(ref.getReference(), input, offset, len);
         }
     }
 
+    /**
+     * Direct and mapped buffers are passed to the native layer by address in a single
+     * call, anything else goes through the default which uses the backing array.
+     */
+    @Override
+    protected void engineUpdate(ByteBuffer input)
+    {
+        if (!input.isDirect())
+        {
+            super.engineUpdate(input);
+            return;
+        }
+
+        int len = input.remaining();
+        if (len == 0)
+        {
+            return;
+        }
+
+        synchronized (this)
+        {
+            flushDeferred();
+            macServiceNI.updateBuffer(ref.getReference(), input, input.position(), len);
+        }
+        input.position(input.limit());
+    }
+
     @Override
     protected byte[] engineDoFinal()
     {
         synchronized (this)
         {
             byte[] out = new byte[macLength()];
+            int len = deferredLen;
+            deferredLen = 0;
+            // Held back input, final and re-key in one crossing. The native layer
+            // resets even if the final fails, a finalized ctx must not absorb the
+            // next message.
             int written;
-            // reset must run even if doFinal throws: a failed EVP_MAC_final
-            // leaves the ctx finalized, and skipping the re-init would let the
-            // next update absorb into finalized state (wrong-but-consistent).
             try
             {
-                written = macServiceNI.doFinal(ref.getReference(), out, 0);
+                written = macServiceNI.updateDoFinalReset(ref.getReference(), deferred, 0, len, out, 0);
             }
             finally
             {
-                macServiceNI.reset(ref.getReference());
+                wipeDeferred(len);
             }
             if (written == out.length)
             {
@@ -183,10 +300,45 @@ public class MacServiceSPI extends MacSpi implements Cloneable
     {
         synchronized (this)
         {
+            wipeDeferred(deferredLen);
+            deferredLen = 0;
             macServiceNI.reset(ref.getReference());
         }
     }
 
+    /**
+     * Key the MAC, the entry point for {@link org.openssl.jostle.jcajce.BatchMac}.
+     */
+    public void engineInit(Key key)
+            throws InvalidKeyException
+    {
+        try
+        {
+            engineInit(key, null);
+        }
+        catch (InvalidAlgorithmParameterException e)
+        {
+            // Not reachable, null params are always accepted.
+            throw new InvalidKeyException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * MAC count independent messages under the current key in one native call,
+     * the entry point for {@link org.openssl.jostle.jcajce.BatchMac}. Message i is
+     * the spans[2i + 1] bytes at spans[2i] in input, tag i is written at
+     * outOff + i * MAC length. Must not be called part way through a message.
+     *
+     * @return the number of bytes written.
+     */
+    public int engineDoFinalBatch(byte[] input, int[] spans, int count, byte[] out, int outOff)
+    {
+        synchronized (this)
+        {
+            return macServiceNI.doFinalBatch(ref.getReference(), input, spans, count, out, outOff);
+        }
+    }
+
     //
     // Mac.clone() routes here (the JCA Delegate calls Object.clone() on the SPI
     // when it is Cloneable). A shallow Object.clone() would share the single
@@ -204,8 +356,15 @@ public class MacServiceSPI extends MacSpi implements Cloneable
             try
             {
                 long clonedRef = macServiceNI.copyMac(ref.getReference());
-                return new MacServiceSPI(macServiceNI, cacheKey,
+                MacServiceSPI clone = new MacServiceSPI(macServiceNI, randServiceNI, cacheKey,
                         new MacReference(macServiceNI, clonedRef, cacheKey));
+                // Held back input is part of the running state, the clone gets its own copy.
+                if (deferredLen > 0)
+                {
+                    clone.deferred = deferred.clone();
+                    clone.deferredLen = deferredLen;
+                }
+                return clone;
             }
             catch (RuntimeException e)
             {
@@ -11,6 +11,8 @@
 
 package org.openssl.jostle.jcajce.provider.md;
 
+import java.nio.ByteBuffer;
+
 public class MDServiceJNI implements MDServiceNI
 {
     @Override
@@ -28,6 +30,9 @@ public class MDServiceJNI implements MDServiceNI
     @Override
     native public int ni_updateBytes(long ref, byte[] input, int offset, int len);
 
+    @Override
+    native public int ni_updateBuffer(long ref, ByteBuffer input, int offset, int len);
+
 
     @Override
     native public void ni_dispose(long ref);
@@ -44,4 +49,11 @@ public class MDServiceJNI implements MDServiceNI
     @Override
     native public int ni_reset(long ref);
 
+
+    @Override
+    native public int ni_updateDigestReset(long ref, byte[] in, int inOff, int inLen, byte[] out, int outOff, int outLen);
+
+    @Override
+    native public int ni_digestBatch(long ref, byte[] in, int[] spans, int count, byte[] out, int outOff);
+
 }
@@ -14,6 +14,8 @@ package org.openssl.jostle.jcajce.provider.md;
 import org.openssl.jostle.jcajce.provider.DefaultServiceNI;
 import org.openssl.jostle.jcajce.provider.ErrorCode;
 
+import java.nio.ByteBuffer;
+
 
 public interface MDServiceNI extends DefaultServiceNI
 {
@@ -26,6 +28,9 @@ public interface MDServiceNI extends DefaultServiceNI
 
     int ni_updateBytes(long ref, byte[] input, int offset, int len);
 
+    // input must be a direct buffer, offset is absolute from the start of the buffer
+    int ni_updateBuffer(long ref, ByteBuffer input, int offset, int len);
+
     void ni_dispose(long reference);
 
     int ni_getDigestOutputLen(long ref);
@@ -34,6 +39,12 @@ public interface MDServiceNI extends DefaultServiceNI
 
     int ni_reset(long ref);
 
+    // in may be null when inLen is zero; final and reset always run, see updateDigestReset
+    int ni_updateDigestReset(long ref, byte[] in, int inOff, int inLen, byte[] out, int outOff, int outLen);
+
+    // spans holds an (offset, length) pair into in per message, in may be null when every message is empty
+    int ni_digestBatch(long ref, byte[] in, int[] spans, int count, byte[] out, int outOff);
+
 
     // Allocate state for digest
     default long allocateDigest(String name, int xofLen)
@@ -66,6 +77,11 @@ public interface MDServiceNI extends DefaultServiceNI
         handleErrors(ni_updateBytes(ref, input, offset, len));
     }
 
+    default void updateBuffer(long ref, ByteBuffer input, int offset, int len)
+    {
+        handleErrors(ni_updateBuffer(ref, input, offset, len));
+    }
+
     default void dispose(long ref)
     {
         ni_dispose(ref);
@@ -86,6 +102,20 @@ public interface MDServiceNI extends DefaultServiceNI
         handleErrors(ni_reset(ref));
     }
 
+    // Absorb any trailing input, write the digest and reset the context in one
+    // native call. The context is reset even when the update or final fails.
+    default int updateDigestReset(long ref, byte[] in, int inOff, int inLen, byte[] out, int outOff, int outLen)
+    {
+        return (int) handleErrors(ni_updateDigestReset(ref, in, inOff, inLen, out, outOff, outLen));
+    }
+
+    // Digest count independent messages in one native call, digest i is written
+    // at outOff + i * digest length. The context is left reset.
+    default int digestBatch(long ref, byte[] in, int[] spans, int count, byte[] out, int outOff)
+    {
+        return (int) handleErrors(ni_digestBatch(ref, in, spans, count, out, outOff));
+    }
+
 
     default long handleErrors(long code)
     {
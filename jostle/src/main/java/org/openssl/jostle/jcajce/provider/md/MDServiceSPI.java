@@ -14,28 +14,45 @@ package org.openssl.jostle.jcajce.provider.md;
 import org.openssl.jostle.disposal.NativeDisposer;
 import org.openssl.jostle.disposal.NativeReference;
 import org.openssl.jostle.jcajce.provider.NISelector;
+import org.openssl.jostle.jcajce.provider.cache.NativeLengthCache;
+import org.openssl.jostle.util.Arrays;
 
+import java.nio.ByteBuffer;
 import java.security.DigestException;
 import java.security.MessageDigestSpi;
 
 public class MDServiceSPI extends MessageDigestSpi implements Cloneable
 {
     // Instance field, not a NISelector static: the SPI is bound to whichever
-    // NI backend its provider passes in - NISelector.MDServiceNI for JSL,
-    // FIPSNISelector.MDServiceNI (the FIPS interface library) for JSLFIPS.
+    // NI backend its provider passes in - NISelector.getMDServiceNI() for JSL,
+    // FIPSNISelector.getMDServiceNI() (the FIPS interface library) for JSLFIPS.
     private final MDServiceNI mdServiceNI;
 
+    // OpenSSL-probed digest lengths, memoized once per (algorithm, xofLen) (see NativeLengthCache).
+    private static final NativeLengthCache<String> digestLengths = new NativeLengthCache<String>();
+
+    //
+    // Updates up to this size are held back and handed to the native layer with
+    // the final, so MessageDigest.digest(byte[]) is a single native crossing
+    // rather than update, length, final and reset.
+    //
+    private static final int DEFERRED_LIMIT = 256;
+
     private final MDReference ref;
     private final String algorithm;
+    private final String cacheKey;
+
+    private byte[] deferred;
+    private int deferredLen;
 
     public MDServiceSPI(String algorithm)
     {
-        this(NISelector.MDServiceNI, algorithm, 0);
+        this(NISelector.getMDServiceNI(), algorithm, 0);
     }
 
     public MDServiceSPI(String algorithm, int xofLen)
     {
-        this(NISelector.MDServiceNI, algorithm, xofLen);
+        this(NISelector.getMDServiceNI(), algorithm, xofLen);
     }
 
     public MDServiceSPI(MDServiceNI mdServiceNI, String algorithm, int xofLen)
@@ -45,6 +62,7 @@ public class MDServiceSPI extends MessageDigestSpi implements Cloneable
         //
         this.mdServiceNI = mdServiceNI;
         this.algorithm = algorithm;
+        this.cacheKey = algorithm + ' ' + xofLen;
         this.ref = new MDReference(mdServiceNI, mdServiceNI.allocateDigest(algorithm, xofLen), algorithm);
     }
 
@@ -55,20 +73,98 @@ public class MDServiceSPI extends MessageDigestSpi implements Cloneable
     // *allocates* a fresh context — this one takes ownership of an existing
     // MDReference.
     //
-    private MDServiceSPI(MDServiceNI mdServiceNI, String algorithm, MDReference clonedRef)
+    private MDServiceSPI(MDServiceNI mdServiceNI, String algorithm, String cacheKey, MDReference clonedRef)
     {
         this.mdServiceNI = mdServiceNI;
         this.algorithm = algorithm;
+        this.cacheKey = cacheKey;
         this.ref = clonedRef;
     }
 
+    /**
+     * Digest output length for this (algorithm, xofLen), memoized cross-instance.
+     * On a miss OpenSSL is asked and whatever it reports is recorded.
+     */
+    private int digestLength()
+    {
+        int len = digestLengths.get(cacheKey);
+        if (len == NativeLengthCache.UNKNOWN)
+        {
+            len = mdServiceNI.getDigestOutputLen(ref.getReference());
+            digestLengths.cache(cacheKey, len);
+        }
+        return len;
+    }
+
+    /**
+     * Pass any held back input to the native context, ahead of an update that
+     * is not deferred.
+     */
+    private void flushDeferred()
+    {
+        if (deferredLen > 0)
+        {
+            int len = deferredLen;
+            deferredLen = 0;
+            try
+            {
+                mdServiceNI.engineUpdate(ref.getReference(), deferred, 0, len);
+            }
+            finally
+            {
+                wipeDeferred(len);
+            }
+        }
+    }
+
+    /**
+     * Zero the first len bytes of the held back input so caller data does not
+     * stay on the heap after the native context has absorbed or dropped it.
+     */
+    private void wipeDeferred(int len)
+    {
+        if (len > 0)
+        {
+            Arrays.fill(deferred, 0, len, (byte) 0);
+        }
+    }
+
+    /**
+     * Absorb the held back input, write the digest and reset the context in one
+     * native call. The native layer resets the context even if the final fails.
+     */
+    private int finish(byte[] out, int outOff, int outLen)
+    {
+        int len = deferredLen;
+        deferredLen = 0;
+        try
+        {
+            return mdServiceNI.updateDigestReset(ref.getReference(), deferred, 0, len, out, outOff, outLen);
+        }
+        finally
+        {
+            wipeDeferred(len);
+        }
+    }
+
 
     @Override
     protected void engineUpdate(byte input)
     {
         synchronized (this)
         {
-            mdServiceNI.engineUpdate(ref.getReference(), input);
+            if (deferred == null)
+            {
+                deferred = new byte[DEFERRED_LIMIT];
+            }
+            else
+            {
+                if (deferredLen == DEFERRED_LIMIT)
+                {
+                    flushDeferred();
+                }
+            }
+            deferred[deferredLen++] = input;
         }
     }
 
@@ -77,27 +173,58 @@ public class MDServiceSPI extends MessageDigestSpi implements Cloneable
     {
         synchronized (this)
         {
+            // Only well formed ranges are held back, anything else is left to the
+            // native layer to report.
+            if (input != null && offset >= 0 && len >= 0 && offset <= input.length - len
+                    && len <= DEFERRED_LIMIT - deferredLen)
+            {
+                if (deferred == null)
+                {
+                    deferred = new byte[DEFERRED_LIMIT];
+                }
+                System.arraycopy(input, offset, deferred, deferredLen, len);
+                deferredLen += len;
+                return;
+            }
+            flushDeferred();
             mdServiceNI.engineUpdate(ref.getReference(), input, offset, len);
         }
     }
 
+    /**
+     * Direct and mapped buffers are passed to the native layer by address in a single
+     * call, anything else goes through the default which uses the backing array.
+     */
+    @Override
+    protected void engineUpdate(ByteBuffer input)
+    {
+        if (!input.isDirect())
+        {
+            super.engineUpdate(input);
+            return;
+        }
+
+        int len = input.remaining();
+        if (len == 0)
+        {
+            return;
+        }
+
+        synchronized (this)
+        {
+            flushDeferred();
+            mdServiceNI.updateBuffer(ref.getReference(), input, input.position(), len);
+        }
+        input.position(input.limit());
+    }
+
     @Override
     protected byte[] engineDigest()
     {
         synchronized (this)
         {
-            byte[] out = new byte[mdServiceNI.getDigestOutputLen(ref.getReference())];
-            // reset must run even if digest throws: a failed EVP_DigestFinal
-            // leaves the ctx finalized, and skipping the re-init would let the
-            // next update absorb into finalized state (wrong-but-consistent).
-            try
-            {
-                mdServiceNI.digest(ref.getReference(), out, 0, out.length);
-            }
-            finally
-            {
-                mdServiceNI.reset(ref.getReference());
-            }
+            byte[] out = new byte[digestLength()];
+            finish(out, 0, out.length);
             return out;
         }
     }
@@ -110,21 +237,12 @@ public class MDServiceSPI extends MessageDigestSpi implements Cloneable
             // Per the MessageDigestSpi contract, "buffer too small for the
             // digest output" must surface as DigestException rather than the
             // IllegalArgumentException the NI layer would otherwise throw.
-            int needed = mdServiceNI.getDigestOutputLen(ref.getReference());
+            int needed = digestLength();
             if (len < needed)
             {
                 throw new DigestException("output buffer too small (need " + needed + ", got " + len + ")");
             }
-            int l;
-            try
-            {
-                l = mdServiceNI.digest(ref.getReference(), buf, offset, len);
-            }
-            finally
-            {
-                mdServiceNI.reset(ref.getReference());
-            }
-            return l;
+            return finish(buf, offset, len);
         }
     }
 
@@ -133,16 +251,35 @@ public class MDServiceSPI extends MessageDigestSpi implements Cloneable
     {
         synchronized (this)
         {
+            wipeDeferred(deferredLen);
+            deferredLen = 0;
             mdServiceNI.reset(ref.getReference());
         }
     }
 
+    // Widened to public for BatchDigest, which sizes its output from it.
     @Override
-    protected int engineGetDigestLength()
+    public int engineGetDigestLength()
+    {
+        synchronized (this)
+        {
+            return digestLength();
+        }
+    }
+
+    /**
+     * Digest count independent messages in one native call, the entry point for
+     * {@link org.openssl.jostle.jcajce.BatchDigest}. Message i is the spans[2i + 1]
+     * bytes at spans[2i] in input, digest i is written at outOff + i * digest
+     * length. Must not be called part way through a message.
+     *
+     * @return the number of bytes written.
+     */
+    public int engineDigestBatch(byte[] input, int[] spans, int count, byte[] out, int outOff)
     {
         synchronized (this)
         {
-            return mdServiceNI.getDigestOutputLen(ref.getReference());
+            return mdServiceNI.digestBatch(ref.getReference(), input, spans, count, out, outOff);
         }
     }
 
@@ -161,7 +298,15 @@ public class MDServiceSPI extends MessageDigestSpi implements Cloneable
             try
             {
                 long clonedRef = mdServiceNI.copyDigest(ref.getReference());
-                return new MDServiceSPI(mdServiceNI, algorithm, new MDReference(mdServiceNI, clonedRef, algorithm));
+                MDServiceSPI clone = new MDServiceSPI(mdServiceNI, algorithm, cacheKey,
+                        new MDReference(mdServiceNI, clonedRef, algorithm));
+                // Held back input is part of the running state, the clone gets its own copy.
+                if (deferredLen > 0)
+                {
+                    clone.deferred = deferred.clone();
+                    clone.deferredLen = deferredLen;
+                }
+                return clone;
             }
             catch (RuntimeException e)
             {
@@ -59,9 +59,9 @@ class JOMLDSAPublicKey extends AsymmetricKeyImpl implements MLDSAPublicKey
         //
         synchronized (this)
         {
-            long len = NISelector.MLDSAServiceNI.getPublicKey(spec.getReference(), null);
+            long len = NISelector.getMLDSAServiceNI().getPublicKey(spec.getReference(), null);
             byte[] out = new byte[(int) len];
-            NISelector.MLDSAServiceNI.getPublicKey(spec.getReference(), out);
+            NISelector.getMLDSAServiceNI().getPublicKey(spec.getReference(), out);
 
             return out;
         }
@@ -13,6 +13,7 @@ package org.openssl.jostle.jcajce.provider.mldsa;
 import org.openssl.jostle.jcajce.interfaces.MLDSAPrivateKey;
 import org.openssl.jostle.jcajce.interfaces.MLDSAPublicKey;
 import org.openssl.jostle.jcajce.provider.NISelector;
+import org.openssl.jostle.jcajce.provider.cache.TranslatedKeyCache;
 import org.openssl.jostle.jcajce.spec.*;
 import org.openssl.jostle.util.Arrays;
 import org.openssl.jostle.util.asn1.ASN1Encoder;
@@ -32,6 +33,9 @@ public class MLDSAKeyFactorySpiImpl extends KeyFactorySpi
 
     private final OSSLKeyType fixedType;
 
+    /** Foreign public keys already translated, per interface library. */
+    private static final TranslatedKeyCache TRANSLATED = new TranslatedKeyCache();
+
     private static final Map<MLDSAParameterSpec, OSSLKeyType> typeMap = Collections.unmodifiableMap(new HashMap<MLDSAParameterSpec, OSSLKeyType>()
     {
         {
@@ -52,6 +56,15 @@ public class MLDSAKeyFactorySpiImpl extends KeyFactorySpi
         this.fixedType = OSSLKeyType.NONE;
     }
 
+    /**
+     * {@link #engineTranslateKey} for a foreign public key, remembered for as
+     * long as the foreign key is reachable so repeated inits share one native key.
+     */
+    Key translatePublicKey(Key key) throws InvalidKeyException
+    {
+        return TRANSLATED.translate(NISelector.getSpecNI(), key, this::engineTranslateKey);
+    }
+
     @Override
     protected PublicKey engineGeneratePublic(KeySpec keySpec) throws InvalidKeySpecException
     {
@@ -111,9 +124,9 @@ public class MLDSAKeyFactorySpiImpl extends KeyFactorySpi
                 byte[] encoded = pubSpec.getPublicData();
                 try
                 {
-                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.SpecNI.allocate(), osslKeyType);
+                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.getSpecNI().allocate(), osslKeyType);
 
-                    NISelector.MLDSAServiceNI.decode_publicKey(
+                    NISelector.getMLDSAServiceNI().decode_publicKey(
                             pkeySpec.getReference(), osslKeyType.getKsType(), encoded, 0, encoded.length);
                     return new JOMLDSAPublicKey(pkeySpec);
                 }
@@ -209,8 +222,8 @@ public class MLDSAKeyFactorySpiImpl extends KeyFactorySpi
                 }
                 try
                 {
-                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.SpecNI.allocate(), osslKeyType);
-                    NISelector.MLDSAServiceNI.decode_privateKey(
+                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.getSpecNI().allocate(), osslKeyType);
+                    NISelector.getMLDSAServiceNI().decode_privateKey(
                             pkeySpec.getReference(), osslKeyType.getKsType(),
                             encoded, 0, encoded.length);
                     return new JOMLDSAPrivateKey(pkeySpec, spec.isSeed());
@@ -195,7 +195,7 @@ public class MLDSAKeyPairGeneratorImpl extends KeyPairGenerator
     @Override
     public KeyPair generateKeyPair()
     {
-        long res = NISelector.MLDSAServiceNI.generateKeyPair(keyType.getKsType(), randSource);
+        long res = NISelector.getMLDSAServiceNI().generateKeyPair(keyType.getKsType(), randSource);
 
 
         if (res == 0)
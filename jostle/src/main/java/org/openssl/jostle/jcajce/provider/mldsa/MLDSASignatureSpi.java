@@ -82,7 +82,7 @@ public class MLDSASignatureSpi extends SignatureSpi
 
             if (ref == null)
             {
-                ref = new MLDSARef(NISelector.MLDSAServiceNI.allocateSigner(), key.getAlgorithm());
+                ref = new MLDSARef(NISelector.getMLDSAServiceNI().allocateSigner(), key.getAlgorithm());
             }
 
             byte[] context = null;
@@ -96,7 +96,7 @@ public class MLDSASignatureSpi extends SignatureSpi
 
             try
             {
-                NISelector.MLDSAServiceNI.initVerify(ref.getReference(), key.getSpec().getReference(), context, contextLen, muHandling.ordinal());
+                NISelector.getMLDSAServiceNI().initVerify(ref.getReference(), key.getSpec().getReference(), context, contextLen, muHandling.ordinal());
             }
             catch (IllegalArgumentException e)
             {
@@ -134,7 +134,7 @@ public class MLDSASignatureSpi extends SignatureSpi
 
             if (ref == null)
             {
-                ref = new MLDSARef(NISelector.MLDSAServiceNI.allocateSigner(), key.getAlgorithm());
+                ref = new MLDSARef(NISelector.getMLDSAServiceNI().allocateSigner(), key.getAlgorithm());
             }
 
             byte[] context = null;
@@ -148,7 +148,7 @@ public class MLDSASignatureSpi extends SignatureSpi
 
             try
             {
-                NISelector.MLDSAServiceNI.initSign(
+                NISelector.getMLDSAServiceNI().initSign(
                         ref.getReference(),
                         key.getSpec().getReference(),
                         context, contextLen, muHandling.ordinal(), randSource);
@@ -175,7 +175,7 @@ public class MLDSASignatureSpi extends SignatureSpi
         {
             return (MLDSAPublicKey) publicKey;
         }
-        Key translated = new MLDSAKeyFactorySpiImpl(forcedType).engineTranslateKey(publicKey);
+        Key translated = new MLDSAKeyFactorySpiImpl(forcedType).translatePublicKey(publicKey);
         if (translated instanceof MLDSAPublicKey)
         {
             return (MLDSAPublicKey) translated;
@@ -213,7 +213,7 @@ public class MLDSASignatureSpi extends SignatureSpi
         synchronized (this)
         {
             updateCalled = true;
-            NISelector.MLDSAServiceNI.update(ref.getReference(), b, off, len);
+            NISelector.getMLDSAServiceNI().update(ref.getReference(), b, off, len);
         }
     }
 
@@ -233,7 +233,7 @@ public class MLDSASignatureSpi extends SignatureSpi
             }
             if (len == NativeLengthCache.UNKNOWN)
             {
-                len = NISelector.MLDSAServiceNI.sign(ref.getReference(), null, 0, randSource);
+                len = NISelector.getMLDSAServiceNI().sign(ref.getReference(), null, 0, randSource);
                 if (fixedLength)
                 {
                     // Memoize OpenSSL's reported length for this parameter set.
@@ -241,7 +241,7 @@ public class MLDSASignatureSpi extends SignatureSpi
                 }
             }
             sig = new byte[len];
-            int written = NISelector.MLDSAServiceNI.sign(ref.getReference(), sig, 0, randSource);
+            int written = NISelector.getMLDSAServiceNI().sign(ref.getReference(), sig, 0, randSource);
             if (written != sig.length)
             {
                 throw new SignatureException("signature length mismatch");
@@ -260,7 +260,7 @@ public class MLDSASignatureSpi extends SignatureSpi
     {
         try
         {
-            int code = NISelector.MLDSAServiceNI.verify(ref.getReference(), sigBytes, sigBytes != null ? sigBytes.length : 0);
+            int code = NISelector.getMLDSAServiceNI().verify(ref.getReference(), sigBytes, sigBytes != null ? sigBytes.length : 0);
             return code == ErrorCode.JO_SUCCESS.getCode();
         }
         finally
@@ -363,7 +363,7 @@ public class MLDSASignatureSpi extends SignatureSpi
         @Override
         protected void dispose(long reference)
         {
-            NISelector.MLDSAServiceNI.disposeSigner(reference);
+            NISelector.getMLDSAServiceNI().disposeSigner(reference);
         }
     }
 
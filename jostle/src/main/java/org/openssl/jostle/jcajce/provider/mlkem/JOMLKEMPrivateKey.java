@@ -77,14 +77,14 @@ class JOMLKEMPrivateKey extends AsymmetricKeyImpl implements MLKEMPrivateKey
             // private-key encoding) answers null rather than surfacing a generic
             // OpenSSL error. getPrivateKey(preferSeedOnly) relies on this null
             // to fall back to the expanded key.
-            int len = NISelector.MLKEMServiceNI.ni_getSeed(spec.getReference(), null);
+            int len = NISelector.getMLKEMServiceNI().ni_getSeed(spec.getReference(), null);
             if (len == ErrorCode.JO_SEED_UNAVAILABLE.getCode())
             {
                 return null;
             }
-            NISelector.MLKEMServiceNI.handleErrors(len);
+            NISelector.getMLKEMServiceNI().handleErrors(len);
             byte[] out = new byte[len];
-            NISelector.MLKEMServiceNI.handleErrors(NISelector.MLKEMServiceNI.ni_getSeed(spec.getReference(), out));
+            NISelector.getMLKEMServiceNI().handleErrors(NISelector.getMLKEMServiceNI().ni_getSeed(spec.getReference(), out));
 
             return out;
         }
@@ -101,7 +101,7 @@ class JOMLKEMPrivateKey extends AsymmetricKeyImpl implements MLKEMPrivateKey
                 OSSLKeyType type = getType();
                 return new JOMLKEMPrivateKey(
                         new PKEYKeySpec(
-                                NISelector.MLKEMServiceNI.generateKeyPair(
+                                NISelector.getMLKEMServiceNI().generateKeyPair(
                                         type.getKsType(),
                                         seed,
                                         seed.length,
@@ -122,9 +122,9 @@ class JOMLKEMPrivateKey extends AsymmetricKeyImpl implements MLKEMPrivateKey
         //
         synchronized (this)
         {
-            long len = NISelector.MLKEMServiceNI.getPrivateKey(spec.getReference(), null);
+            long len = NISelector.getMLKEMServiceNI().getPrivateKey(spec.getReference(), null);
             byte[] out = new byte[(int) len];
-            NISelector.MLKEMServiceNI.getPrivateKey(spec.getReference(), out);
+            NISelector.getMLKEMServiceNI().getPrivateKey(spec.getReference(), out);
 
             return out;
         }
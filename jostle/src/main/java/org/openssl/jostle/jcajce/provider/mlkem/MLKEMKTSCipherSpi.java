@@ -134,7 +134,10 @@ public class MLKEMKTSCipherSpi
             }
             try
             {
-                key = new MLKEMKeyFactorySpi().engineTranslateKey(key);
+                MLKEMKeyFactorySpi keyFactory = new MLKEMKeyFactorySpi();
+                key = key instanceof PublicKey
+                        ? keyFactory.translatePublicKey(key)
+                        : keyFactory.engineTranslateKey(key);
             }
             catch (InvalidKeyException e)
             {
@@ -14,6 +14,7 @@ import org.openssl.jostle.CryptoServicesRegistrar;
 import org.openssl.jostle.jcajce.interfaces.MLKEMPrivateKey;
 import org.openssl.jostle.jcajce.interfaces.MLKEMPublicKey;
 import org.openssl.jostle.jcajce.provider.NISelector;
+import org.openssl.jostle.jcajce.provider.cache.TranslatedKeyCache;
 import org.openssl.jostle.jcajce.spec.*;
 import org.openssl.jostle.rand.DefaultRandSource;
 import org.openssl.jostle.util.Arrays;
@@ -34,6 +35,9 @@ public class MLKEMKeyFactorySpi extends KeyFactorySpi
 
     private final OSSLKeyType fixedType;
 
+    /** Foreign public keys already translated, per interface library. */
+    private static final TranslatedKeyCache TRANSLATED = new TranslatedKeyCache();
+
     private static final Map<MLKEMParameterSpec, OSSLKeyType> typeMap = Collections.unmodifiableMap(new HashMap<MLKEMParameterSpec, OSSLKeyType>()
     {
         {
@@ -54,6 +58,15 @@ public class MLKEMKeyFactorySpi extends KeyFactorySpi
         this.fixedType = OSSLKeyType.NONE;
     }
 
+    /**
+     * {@link #engineTranslateKey} for a foreign public key, remembered for as
+     * long as the foreign key is reachable so repeated inits share one native key.
+     */
+    Key translatePublicKey(Key key) throws InvalidKeyException
+    {
+        return TRANSLATED.translate(NISelector.getSpecNI(), key, this::engineTranslateKey);
+    }
+
     @Override
     protected PublicKey engineGeneratePublic(KeySpec keySpec) throws InvalidKeySpecException
     {
@@ -112,9 +125,9 @@ public class MLKEMKeyFactorySpi extends KeyFactorySpi
                 byte[] encoded = pubSpec.getPublicData();
                 try
                 {
-                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.SpecNI.allocate(), osslKeyType);
+                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.getSpecNI().allocate(), osslKeyType);
 
-                    NISelector.MLKEMServiceNI.decode_publicKey(
+                    NISelector.getMLKEMServiceNI().decode_publicKey(
                             pkeySpec.getReference(), osslKeyType.getKsType(), encoded, 0, encoded.length,
                             DefaultRandSource.wrap(CryptoServicesRegistrar.getSecureRandom()));
                     return new JOMLKEMPublicKey(pkeySpec);
@@ -216,7 +229,7 @@ public class MLKEMKeyFactorySpi extends KeyFactorySpi
                         // than via decode_privateKey (which only accepts the
                         // long form).
                         material = spec.getSeed();
-                        long ref = NISelector.MLKEMServiceNI.generateKeyPair(
+                        long ref = NISelector.getMLKEMServiceNI().generateKeyPair(
                                 osslKeyType.getKsType(),
                                 material, material.length,
                                 DefaultRandSource.replaceWith(null, null, strengthBits));
@@ -225,8 +238,8 @@ public class MLKEMKeyFactorySpi extends KeyFactorySpi
                     else
                     {
                         material = spec.getPrivateData();
-                        pkeySpec = new PKEYKeySpec(NISelector.SpecNI.allocate(), osslKeyType);
-                        NISelector.MLKEMServiceNI.decode_privateKey(
+                        pkeySpec = new PKEYKeySpec(NISelector.getSpecNI().allocate(), osslKeyType);
+                        NISelector.getMLKEMServiceNI().decode_privateKey(
                                 pkeySpec.getReference(), osslKeyType.getKsType(),
                                 material, 0, material.length,
                                 DefaultRandSource.replaceWith(null, null, strengthBits));
@@ -206,7 +206,7 @@ public class MLKEMKeyPairGenerator extends KeyPairGenerator
     @Override
     public KeyPair generateKeyPair()
     {
-        long res = NISelector.MLKEMServiceNI.generateKeyPair(keyType.getKsType(), randSource);
+        long res = NISelector.getMLKEMServiceNI().generateKeyPair(keyType.getKsType(), randSource);
 
         PKEYKeySpec spec = new PKEYKeySpec(res, keyType);
         return new KeyPair(new JOMLKEMPublicKey(spec), new JOMLKEMPrivateKey(spec));
@@ -11,6 +11,8 @@
 
 package org.openssl.jostle.jcajce.provider.rand;
 
+import org.openssl.jostle.util.Properties;
+
 import java.security.Security;
 
 /**
@@ -80,6 +82,34 @@ final class DrbgConfig
         return parse(cfg);
     }
 
+    /**
+     * Returns the number of native DRBGs an instance of algorithm is split
+     * into, 1 unless the algorithm is striped or {@link RandAlgorithm#STRIPED_DEFAULT_PROP}
+     * stripes the configurable DRBG.
+     * <p>
+     * Striping is a Jostle property rather than a {@code securerandom.drbg.config}
+     * aspect, the JDK's own DRBG reads that property too and rejects aspects it
+     * does not know.
+     * </p>
+     *
+     * @param algorithm the registered SecureRandom algorithm
+     * @return a power of two between 1 and {@link RandAlgorithm#MAX_STRIPES}
+     */
+    static int stripesFor(RandAlgorithm algorithm)
+    {
+        if (!algorithm.isStriped()
+                && !(algorithm.honorsConfig() && Properties.isOverrideSet(RandAlgorithm.STRIPED_DEFAULT_PROP)))
+        {
+            return 1;
+        }
+
+        int stripes = Properties.asInteger(RandAlgorithm.STRIPES_PROP,
+                Runtime.getRuntime().availableProcessors());
+        stripes = Math.max(1, Math.min(RandAlgorithm.MAX_STRIPES, stripes));
+
+        return Integer.highestOneBit(stripes) == stripes ? stripes : Integer.highestOneBit(stripes) << 1;
+    }
+
     static DrbgConfig parse(String config)
     {
         String mech = null;
@@ -24,6 +24,11 @@ import org.openssl.jostle.jcajce.provider.cache.NativeLengthCache;
  * the mechanism/algorithm can be selected the JDK way; the mechanism-named
  * constants are fixed and ignore the property.
  * </p>
+ * <p>
+ * {@code DRBG-STRIPED} is the configurable DRBG split into stripes, each its
+ * own native DRBG, so threads sharing one SecureRandom do not queue on a single
+ * context. See {@link #STRIPES_PROP} and {@link #STRIPED_DEFAULT_PROP}.
+ * </p>
  */
 public enum RandAlgorithm
 {
@@ -33,6 +38,12 @@ public enum RandAlgorithm
      */
     DRBG("DRBG", "CTR-DRBG", "AES-256-CTR", true, true),
 
+    /**
+     * The {@code DRBG} service with one native DRBG per stripe of calling
+     * threads, for a SecureRandom shared across many threads.
+     */
+    DRBG_STRIPED("DRBG-STRIPED", "CTR-DRBG", "AES-256-CTR", true, true, true),
+
     CTR_DRBG("CTR-DRBG", "CTR-DRBG", "AES-256-CTR", true, false),
     CTR_DRBG_AES128("CTR-DRBG-AES128", "CTR-DRBG", "AES-128-CTR", true, false),
     CTR_DRBG_AES192("CTR-DRBG-AES192", "CTR-DRBG", "AES-192-CTR", true, false),
@@ -52,11 +63,29 @@ public enum RandAlgorithm
     HMAC_DRBG_SHA384("HMAC-DRBG-SHA384", "HMAC-DRBG", "SHA2-384", false, false),
     HMAC_DRBG_SHA512("HMAC-DRBG-SHA512", "HMAC-DRBG", "SHA2-512", false, false);
 
+    /**
+     * Number of stripes in a striped DRBG, rounded up to a power of two and at
+     * most {@link #MAX_STRIPES}. Defaults to the number of available processors.
+     */
+    public static final String STRIPES_PROP = "org.openssl.jostle.rand.stripes";
+
+    /**
+     * Set to true to stripe the {@code DRBG} / {@code DEFAULT} service as well
+     * as {@code DRBG-STRIPED}.
+     */
+    public static final String STRIPED_DEFAULT_PROP = "org.openssl.jostle.rand.striped_default";
+
+    /**
+     * Upper bound on the number of stripes.
+     */
+    public static final int MAX_STRIPES = 64;
+
     private final String jcaName;
     private final String mechanism;
     private final String variant;
     private final boolean useDerivationFunction;
     private final boolean honorsConfig;
+    private final boolean striped;
 
     /**
      * Memoizes the OpenSSL-reported strength per mechanism/variant so each
@@ -68,6 +97,12 @@ public enum RandAlgorithm
 
     RandAlgorithm(String jcaName, String mechanism, String variant,
                   boolean useDerivationFunction, boolean honorsConfig)
+    {
+        this(jcaName, mechanism, variant, useDerivationFunction, honorsConfig, false);
+    }
+
+    RandAlgorithm(String jcaName, String mechanism, String variant,
+                  boolean useDerivationFunction, boolean honorsConfig, boolean striped)
     {
         if (jcaName == null || mechanism == null || variant == null)
         {
@@ -79,6 +114,7 @@ public enum RandAlgorithm
         this.variant = variant;
         this.useDerivationFunction = useDerivationFunction;
         this.honorsConfig = honorsConfig;
+        this.striped = striped;
     }
 
     /**
@@ -128,13 +164,25 @@ public enum RandAlgorithm
      * {@code securerandom.drbg.config} security property to select its
      * mechanism/variant.
      *
-     * @return {@code true} only for the {@code DRBG}/{@code DEFAULT} service
+     * @return {@code true} only for the {@code DRBG}/{@code DEFAULT} and
+     * {@code DRBG-STRIPED} services
      */
     public boolean honorsConfig()
     {
         return honorsConfig;
     }
 
+    /**
+     * Returns whether instances of this algorithm are striped regardless of
+     * {@link #STRIPED_DEFAULT_PROP}.
+     *
+     * @return {@code true} only for the {@code DRBG-STRIPED} service
+     */
+    public boolean isStriped()
+    {
+        return striped;
+    }
+
     /**
      * Returns the maximum security strength advertised by this algorithm's
      * default variant.
@@ -173,7 +221,7 @@ public enum RandAlgorithm
      */
     static int maxStrengthFor(String variant)
     {
-        return maxStrengthFor(NISelector.RandServiceNI, variant);
+        return maxStrengthFor(NISelector.getRandServiceNI(), variant);
     }
 
     //
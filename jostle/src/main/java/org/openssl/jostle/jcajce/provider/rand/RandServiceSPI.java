@@ -13,11 +13,13 @@ package org.openssl.jostle.jcajce.provider.rand;
 
 import org.openssl.jostle.disposal.NativeDisposer;
 import org.openssl.jostle.disposal.NativeReference;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
 import org.openssl.jostle.jcajce.provider.NISelector;
 
 import java.io.IOException;
 import java.io.ObjectStreamException;
 import java.security.ProviderException;
+import java.security.SecureRandom;
 import java.security.SecureRandomSpi;
 
 /**
@@ -32,19 +34,30 @@ import java.security.SecureRandomSpi;
  * support for {@code DrbgParameters}.
  * </p>
  * <p>
+ * A striped instance, see {@link RandAlgorithm#isStriped()}, owns several
+ * contexts, all created on the constructing thread and so chained to the same
+ * parent DRBG, and serves each calling thread from one of them. Reseeding and
+ * seed material apply to every stripe.
+ * </p>
+ * <p>
  * Instances are not serializable: the native context handle cannot be persisted,
- * so {@code writeObject}/{@code readObject} throw. The native call sites use
- * {@code synchronized(this)} (the Java 8 baseline idiom) to keep this instance
- * reachable for the duration of each native call, preventing the disposer from
- * freeing the context mid-call.
+ * so {@code writeObject}/{@code readObject} throw. The native call sites
+ * synchronize on the stripe's reference (the Java 8 baseline idiom) to keep the
+ * context reachable for the duration of each native call, preventing the
+ * disposer from freeing it mid-call.
  * </p>
  */
 public final class RandServiceSPI extends SecureRandomSpi
 {
     private static final long serialVersionUID = 5952625728129925027L;
+
+    // Recognised by engineNextBytes while nativeDrbgOf is asking, see there.
+    private static final byte[] PROBE = new byte[0];
+    private static final ThreadLocal<RandServiceSPI[]> PROBED = new ThreadLocal<RandServiceSPI[]>();
+
     // Instance field, not a NISelector static: the SPI is bound to whichever
-    // NI backend its provider passes in - NISelector.RandServiceNI for JSL,
-    // FIPSNISelector.RandServiceNI (the FIPS interface library) for JSLFIPS.
+    // NI backend its provider passes in - NISelector.getRandServiceNI() for JSL,
+    // FIPSNISelector.getRandServiceNI() (the FIPS interface library) for JSLFIPS.
     private final RandServiceNI randServiceNI;
 
     private final RandAlgorithm algorithm;
@@ -52,7 +65,7 @@ public final class RandServiceSPI extends SecureRandomSpi
     private final String variant;
     private final boolean useDerivationFunction;
     private final int maxStrength;
-    private final transient RandReference ref;
+    private final transient RandReference[] stripes;
 
     /**
      * Constructs an OpenSSL-backed SecureRandom SPI for the supplied algorithm.
@@ -63,7 +76,7 @@ public final class RandServiceSPI extends SecureRandomSpi
      */
     public RandServiceSPI(RandAlgorithm algorithm)
     {
-        this(NISelector.RandServiceNI, algorithm, null);
+        this(NISelector.getRandServiceNI(), algorithm, null);
     }
 
     public RandServiceSPI(RandServiceNI randServiceNI, RandAlgorithm algorithm)
@@ -87,7 +100,7 @@ public final class RandServiceSPI extends SecureRandomSpi
      */
     public RandServiceSPI(RandAlgorithm algorithm, Object params)
     {
-        this(NISelector.RandServiceNI, algorithm, params);
+        this(NISelector.getRandServiceNI(), algorithm, params);
     }
 
     public RandServiceSPI(RandServiceNI randServiceNI, RandAlgorithm algorithm, Object params)
@@ -121,12 +134,16 @@ public final class RandServiceSPI extends SecureRandomSpi
             this.maxStrength = algorithm.getMaxStrength(randServiceNI);
         }
 
+        this.stripes = new RandReference[DrbgConfig.stripesFor(algorithm)];
         try
         {
-            this.ref = new RandReference(randServiceNI,
-                    randServiceNI.createContext(mechanism, variant, useDerivationFunction,
-                            maxStrength, false, null),
-                    algorithm.getJcaName());
+            for (int i = 0; i != stripes.length; i++)
+            {
+                stripes[i] = new RandReference(randServiceNI,
+                        randServiceNI.createContext(mechanism, variant, useDerivationFunction,
+                                maxStrength, false, null),
+                        algorithm.getJcaName());
+            }
         }
         catch (Exception e)
         {
@@ -134,6 +151,49 @@ public final class RandServiceSPI extends SecureRandomSpi
         }
     }
 
+    /**
+     * Return the native DRBG behind a JSL SecureRandom so the interface
+     * library can draw from it without calling back into Java, or 0 if random
+     * is anything else, including a JSLFIPS SecureRandom.
+     * <p>
+     * The SecureRandom does not expose its SPI, so a zero length request is
+     * passed through it and the SPI that receives it identifies itself. The
+     * native draws honour this instance's strength and prediction resistance
+     * the same way the Java RandSource would. A striped instance returns 0,
+     * callers keep the reference and a stripe picked for one thread would be
+     * shared by every other, the Java path picks the stripe per call instead.
+     * </p>
+     *
+     * @param random the SecureRandom to inspect, may be {@code null}
+     * @return the DRBG context reference, valid while random is reachable, or 0
+     */
+    public static long nativeDrbgOf(SecureRandom random)
+    {
+        if (random == null || !(random.getProvider() instanceof JostleProvider))
+        {
+            return 0;
+        }
+
+        RandServiceSPI[] probed = new RandServiceSPI[1];
+        PROBED.set(probed);
+        try
+        {
+            random.nextBytes(PROBE);
+        }
+        finally
+        {
+            PROBED.remove();
+        }
+
+        RandServiceSPI spi = probed[0];
+        if (spi == null || spi.randServiceNI != NISelector.getRandServiceNI()
+                || spi.stripes.length != 1)
+        {
+            return 0;
+        }
+        return spi.stripes[0].getReference();
+    }
+
     @Override
     protected void engineSetSeed(byte[] seed)
     {
@@ -169,22 +229,57 @@ public final class RandServiceSPI extends SecureRandomSpi
             throw new NullPointerException("bytes cannot be null");
         }
 
+        if (bytes == PROBE)
+        {
+            RandServiceSPI[] probed = PROBED.get();
+            if (probed != null)
+            {
+                probed[0] = this;
+            }
+            return;
+        }
+
         contextRandomBytes(bytes, maxStrength, false, null);
     }
 
-    private synchronized void contextRandomBytes(byte[] bytes, int strength,
-                                                 boolean predictionResistant,
-                                                 byte[] additionalInput)
+    //
+    // The stripe for the calling thread. Thread ids are sequential, the
+    // multiply spreads neighbouring ids across the stripes.
+    //
+    private RandReference stripe()
+    {
+        if (stripes.length == 1)
+        {
+            return stripes[0];
+        }
+
+        long id = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (id >>> 32) & (stripes.length - 1)];
+    }
+
+    private void contextRandomBytes(byte[] bytes, int strength,
+                                    boolean predictionResistant,
+                                    byte[] additionalInput)
     {
-        randServiceNI.contextRandomBytes(ref.getReference(), bytes, bytes.length,
-                strength, predictionResistant, additionalInput);
+        RandReference stripe = stripe();
+        synchronized (stripe)
+        {
+            randServiceNI.contextRandomBytes(stripe.getReference(), bytes, bytes.length,
+                    strength, predictionResistant, additionalInput);
+        }
     }
 
-    private synchronized void contextReseed(int strength, boolean predictionResistant,
-                                            byte[] additionalInput)
+    private void contextReseed(int strength, boolean predictionResistant,
+                               byte[] additionalInput)
     {
-        randServiceNI.contextReseed(ref.getReference(), strength,
-                predictionResistant, additionalInput);
+        for (RandReference stripe : stripes)
+        {
+            synchronized (stripe)
+            {
+                randServiceNI.contextReseed(stripe.getReference(), strength,
+                        predictionResistant, additionalInput);
+            }
+        }
     }
 
     private Object readResolve()
@@ -234,7 +329,9 @@ public final class RandServiceSPI extends SecureRandomSpi
 
         RandReference(RandServiceNI randServiceNI, long reference, String name)
         {
-            super(reference, name, new Disposer(randServiceNI, reference));
+            // SecureRandom instances are cached process wide, the JDK included,
+            // so a DRBG must never be freed by whichever release scope created it.
+            super(reference, name, new Disposer(randServiceNI, reference), false);
         }
 
     }
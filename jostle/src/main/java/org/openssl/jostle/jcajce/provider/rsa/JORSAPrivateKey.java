@@ -41,7 +41,7 @@ class JORSAPrivateKey extends AsymmetricKeyImpl implements RSAPrivateCrtKey, OSS
 
     JORSAPrivateKey(PKEYKeySpec spec)
     {
-        this(NISelector.RSAServiceNI, NISelector.Asn1NI, spec);
+        this(NISelector.getRSAServiceNI(), NISelector.getAsn1NI(), spec);
     }
 
     /**
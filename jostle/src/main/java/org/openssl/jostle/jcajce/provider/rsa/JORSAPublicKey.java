@@ -47,7 +47,7 @@ class JORSAPublicKey extends AsymmetricKeyImpl implements RSAPublicKey, OSSLKey
 
     JORSAPublicKey(PKEYKeySpec spec)
     {
-        this(NISelector.RSAServiceNI, NISelector.Asn1NI, spec);
+        this(NISelector.getRSAServiceNI(), NISelector.getAsn1NI(), spec);
     }
 
     JORSAPublicKey(RSAServiceNI rsaServiceNI, Asn1Ni asn1NI, PKEYKeySpec spec)
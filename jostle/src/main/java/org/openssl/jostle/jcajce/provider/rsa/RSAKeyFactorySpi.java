@@ -44,7 +44,7 @@ public class RSAKeyFactorySpi extends KeyFactorySpi
 
     public RSAKeyFactorySpi()
     {
-        this(NISelector.RSAServiceNI, NISelector.SpecNI, NISelector.Asn1NI);
+        this(NISelector.getRSAServiceNI(), NISelector.getSpecNI(), NISelector.getAsn1NI());
     }
 
     public RSAKeyFactorySpi(RSAServiceNI rsaServiceNI, SpecNI specNI, Asn1Ni asn1NI)
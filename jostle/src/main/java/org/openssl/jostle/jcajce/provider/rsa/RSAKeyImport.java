@@ -10,6 +10,8 @@
 
 package org.openssl.jostle.jcajce.provider.rsa;
 
+import org.openssl.jostle.jcajce.provider.cache.TranslatedKeyCache;
+
 import java.security.InvalidKeyException;
 import java.security.Key;
 import java.security.PrivateKey;
@@ -32,6 +34,9 @@ public final class RSAKeyImport
     {
     }
 
+    /** Foreign public keys already translated, per interface library. */
+    private static final TranslatedKeyCache TRANSLATED = new TranslatedKeyCache();
+
     /** Default message used by the signature SPIs. */
     private static final String DEFAULT_PUBLIC_MESSAGE = "expected an RSAPublicKey from the Jostle provider";
     private static final String DEFAULT_PRIVATE_MESSAGE = "expected an RSAPrivateKey from the Jostle provider";
@@ -75,7 +80,7 @@ public final class RSAKeyImport
         {
             try
             {
-                Key translated = keyFactory.engineTranslateKey(key);
+                Key translated = TRANSLATED.translate(keyFactory.ownSpecNI(), key, keyFactory::engineTranslateKey);
                 if (translated instanceof JORSAPublicKey)
                 {
                     return (JORSAPublicKey) translated;
@@ -88,7 +88,7 @@ public class RSAKeyPairGenerator extends KeyPairGenerator
 
     public RSAKeyPairGenerator()
     {
-        this(NISelector.RSAServiceNI, NISelector.SpecNI, NISelector.Asn1NI);
+        this(NISelector.getRSAServiceNI(), NISelector.getSpecNI(), NISelector.getAsn1NI());
     }
 
     /**
@@ -97,7 +97,7 @@ public class RSAKeyPairGenerator extends KeyPairGenerator
      */
     public RSAKeyPairGenerator(int minKeySizeBits)
     {
-        this(NISelector.RSAServiceNI, NISelector.SpecNI, NISelector.Asn1NI, minKeySizeBits);
+        this(NISelector.getRSAServiceNI(), NISelector.getSpecNI(), NISelector.getAsn1NI(), minKeySizeBits);
     }
 
     public RSAKeyPairGenerator(RSAServiceNI rsaServiceNI, SpecNI specNI, Asn1Ni asn1NI)
@@ -114,7 +114,7 @@ public class RSAOAEPCipherSpi extends CipherSpi
 
     public RSAOAEPCipherSpi()
     {
-        this(NISelector.RSAOAEPCipherNI, new RSAKeyFactorySpi());
+        this(NISelector.getRSAOAEPCipherNI(), new RSAKeyFactorySpi());
     }
 
     public RSAOAEPCipherSpi(RSAOAEPCipherNI cipherNI, RSAKeyFactorySpi keyFactory)
@@ -76,9 +76,9 @@ class JOSLHDSAPublicKey extends AsymmetricKeyImpl implements SLHDSAPublicKey
         //
         synchronized (this)
         {
-            long len = NISelector.SLHDSAServiceNI.getPublicKey(spec.getReference(), null);
+            long len = NISelector.getSLHDSAServiceNI().getPublicKey(spec.getReference(), null);
             byte[] out = new byte[(int) len];
-            NISelector.SLHDSAServiceNI.getPublicKey(spec.getReference(), out);
+            NISelector.getSLHDSAServiceNI().getPublicKey(spec.getReference(), out);
 
             return out;
         }
@@ -114,8 +114,8 @@ public class SLHDSAKeyFactorySpi extends KeyFactorySpi
                 byte[] encoded = pubSpec.getPublicData();
                 try
                 {
-                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.SpecNI.allocate(), osslKeyType);
-                    NISelector.SLHDSAServiceNI.decode_publicKey(
+                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.getSpecNI().allocate(), osslKeyType);
+                    NISelector.getSLHDSAServiceNI().decode_publicKey(
                             pkeySpec.getReference(), osslKeyType.getKsType(), encoded, 0, encoded.length);
                     return new JOSLHDSAPublicKey(pkeySpec);
                 }
@@ -194,8 +194,8 @@ public class SLHDSAKeyFactorySpi extends KeyFactorySpi
                 byte[] encoded = spec.getPrivateData();
                 try
                 {
-                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.SpecNI.allocate(), osslKeyType);
-                    NISelector.SLHDSAServiceNI.decode_privateKey(
+                    PKEYKeySpec pkeySpec = new PKEYKeySpec(NISelector.getSpecNI().allocate(), osslKeyType);
+                    NISelector.getSLHDSAServiceNI().decode_privateKey(
                             pkeySpec.getReference(), osslKeyType.getKsType(),
                             encoded, 0, encoded.length);
                     return new JOSLHDSAPrivateKey(pkeySpec);
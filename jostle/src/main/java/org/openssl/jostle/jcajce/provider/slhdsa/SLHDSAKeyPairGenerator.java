@@ -175,7 +175,7 @@ public class SLHDSAKeyPairGenerator extends KeyPairGenerator
 
     public KeyPair generateKeyPair()
     {
-        long res = NISelector.SLHDSAServiceNI.generateKeyPair(keyType.getKsType(), randSource);
+        long res = NISelector.getSLHDSAServiceNI().generateKeyPair(keyType.getKsType(), randSource);
 
         PKEYKeySpec spec = new PKEYKeySpec(res, keyType);
         return new KeyPair(new JOSLHDSAPublicKey(spec), new JOSLHDSAPrivateKey(spec));
@@ -100,7 +100,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
 
                 if (ref == null)
                 {
-                    ref = new SLHDSARef(NISelector.SLHDSAServiceNI.allocateSigner(), publicKey.getAlgorithm());
+                    ref = new SLHDSARef(NISelector.getSLHDSAServiceNI().allocateSigner(), publicKey.getAlgorithm());
                 }
 
                 byte[] context = null;
@@ -112,7 +112,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
                     contextLen = context.length;
                 }
 
-                NISelector.SLHDSAServiceNI.initVerify(ref.getReference(), key.getSpec().getReference(), context, contextLen, messageEncoding.ordinal(), deterministic.ordinal());
+                NISelector.getSLHDSAServiceNI().initVerify(ref.getReference(), key.getSpec().getReference(), context, contextLen, messageEncoding.ordinal(), deterministic.ordinal());
                 return;
             }
         }
@@ -144,7 +144,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
 
                 if (ref == null)
                 {
-                    ref = new SLHDSARef(NISelector.SLHDSAServiceNI.allocateSigner(), privateKey.getAlgorithm());
+                    ref = new SLHDSARef(NISelector.getSLHDSAServiceNI().allocateSigner(), privateKey.getAlgorithm());
                 }
 
                 byte[] context = null;
@@ -156,7 +156,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
                     contextLen = context.length;
                 }
 
-                NISelector.SLHDSAServiceNI.initSign(
+                NISelector.getSLHDSAServiceNI().initSign(
                         ref.getReference(),
                         key.getSpec().getReference(),
                         context, contextLen, messageEncoding.ordinal(), deterministic.ordinal(),
@@ -179,7 +179,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
         synchronized (this)
         {
             updateCalled = true;
-            NISelector.SLHDSAServiceNI.update(ref.getReference(), b, off, len);
+            NISelector.getSLHDSAServiceNI().update(ref.getReference(), b, off, len);
         }
     }
 
@@ -198,7 +198,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
                 }
                 if (len == NativeLengthCache.UNKNOWN)
                 {
-                    len = (int) NISelector.SLHDSAServiceNI.sign(ref.getReference(), null, 0, randSource);
+                    len = (int) NISelector.getSLHDSAServiceNI().sign(ref.getReference(), null, 0, randSource);
                     if (lastKey != null)
                     {
                         // Memoize OpenSSL's reported length for this parameter set.
@@ -206,7 +206,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
                     }
                 }
                 sig = new byte[len];
-                long written = NISelector.SLHDSAServiceNI.sign(ref.getReference(), sig, 0, randSource);
+                long written = NISelector.getSLHDSAServiceNI().sign(ref.getReference(), sig, 0, randSource);
                 if (written != sig.length)
                 {
                     throw new SignatureException("signature length mismatch");
@@ -228,7 +228,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
         {
             try
             {
-                int code = NISelector.SLHDSAServiceNI.verify(ref.getReference(), sigBytes, sigBytes != null ? sigBytes.length : 0);
+                int code = NISelector.getSLHDSAServiceNI().verify(ref.getReference(), sigBytes, sigBytes != null ? sigBytes.length : 0);
 
                 return code == ErrorCode.JO_SUCCESS.getCode();
             }
@@ -324,7 +324,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
         @Override
         protected void dispose(long reference)
         {
-            NISelector.SLHDSAServiceNI.disposeSigner(reference);
+            NISelector.getSLHDSAServiceNI().disposeSigner(reference);
         }
     }
 
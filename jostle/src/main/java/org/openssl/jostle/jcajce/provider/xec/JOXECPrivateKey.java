@@ -35,7 +35,7 @@ class JOXECPrivateKey extends AsymmetricKeyImpl implements PrivateKey, XDHKey, O
 
     JOXECPrivateKey(PKEYKeySpec spec)
     {
-        this(NISelector.Asn1NI, spec);
+        this(NISelector.getAsn1NI(), spec);
     }
 
     JOXECPrivateKey(Asn1Ni asn1NI, PKEYKeySpec spec)
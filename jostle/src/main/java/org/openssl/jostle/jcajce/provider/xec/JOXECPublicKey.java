@@ -35,7 +35,7 @@ class JOXECPublicKey extends AsymmetricKeyImpl implements PublicKey, XDHKey, OSS
 
     JOXECPublicKey(PKEYKeySpec spec)
     {
-        this(NISelector.Asn1NI, spec);
+        this(NISelector.getAsn1NI(), spec);
     }
 
     JOXECPublicKey(Asn1Ni asn1NI, PKEYKeySpec spec)
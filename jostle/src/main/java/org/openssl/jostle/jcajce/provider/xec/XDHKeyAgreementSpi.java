@@ -57,7 +57,7 @@ public class XDHKeyAgreementSpi extends KeyAgreementSpi
 
     public XDHKeyAgreementSpi()
     {
-        this(NISelector.ECServiceNI, new XECKeyFactorySpi());
+        this(NISelector.getECServiceNI(), new XECKeyFactorySpi());
     }
 
     public XDHKeyAgreementSpi(ECServiceNI ecServiceNI, XECKeyFactorySpi keyFactory)
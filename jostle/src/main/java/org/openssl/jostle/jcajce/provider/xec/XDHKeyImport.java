@@ -10,6 +10,8 @@
 
 package org.openssl.jostle.jcajce.provider.xec;
 
+import org.openssl.jostle.jcajce.provider.cache.TranslatedKeyCache;
+
 import java.security.InvalidKeyException;
 import java.security.Key;
 import java.security.PrivateKey;
@@ -29,6 +31,9 @@ public final class XDHKeyImport
     {
     }
 
+    /** Foreign public keys already translated, per interface library. */
+    private static final TranslatedKeyCache TRANSLATED = new TranslatedKeyCache();
+
     public static JOXECPublicKey importPublic(Key key, String failMessage) throws InvalidKeyException
     {
         return importPublic(new XECKeyFactorySpi(), key, failMessage);
@@ -48,7 +53,7 @@ public final class XDHKeyImport
         {
             try
             {
-                Key translated = keyFactory.engineTranslateKey(key);
+                Key translated = TRANSLATED.translate(keyFactory.ownSpecNI(), key, keyFactory::engineTranslateKey);
                 if (translated instanceof JOXECPublicKey)
                 {
                     return (JOXECPublicKey) translated;
@@ -51,7 +51,7 @@ public class XECKeyFactorySpi extends KeyFactorySpi
 
     public XECKeyFactorySpi()
     {
-        this(NISelector.SpecNI, NISelector.Asn1NI);
+        this(NISelector.getSpecNI(), NISelector.getAsn1NI());
     }
 
     public XECKeyFactorySpi(SpecNI specNI, Asn1Ni asn1NI)
@@ -63,7 +63,7 @@ public class XECKeyPairGenerator extends KeyPairGenerator
 
     public XECKeyPairGenerator(OSSLKeyType keyType)
     {
-        this(NISelector.XECServiceNI, NISelector.SpecNI, NISelector.Asn1NI, keyType);
+        this(NISelector.getXECServiceNI(), NISelector.getSpecNI(), NISelector.getAsn1NI(), keyType);
     }
 
     public XECKeyPairGenerator(XECServiceNI xecServiceNI, SpecNI specNI, Asn1Ni asn1NI, OSSLKeyType keyType)
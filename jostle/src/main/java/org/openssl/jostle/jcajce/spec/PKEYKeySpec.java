@@ -22,8 +22,8 @@ import org.openssl.jostle.jcajce.provider.NISelector;
 public class PKEYKeySpec
 {
     // Instance field, not a NISelector static: the spec is bound to whichever
-    // NI backend created the PKEY - NISelector.SpecNI for JSL,
-    // FIPSNISelector.SpecNI (the FIPS interface library) for JSLFIPS - so
+    // NI backend created the PKEY - NISelector.getSpecNI() for JSL,
+    // FIPSNISelector.getSpecNI() (the FIPS interface library) for JSLFIPS - so
     // name lookup and disposal go through the library that owns the key.
     protected final SpecNI specNI;
     protected final PKEYReference ref;
@@ -32,7 +32,7 @@ public class PKEYKeySpec
 
     public PKEYKeySpec(long ref)
     {
-        this(NISelector.SpecNI, ref);
+        this(NISelector.getSpecNI(), ref);
     }
 
     public PKEYKeySpec(SpecNI specNI, long ref)
@@ -58,7 +58,7 @@ public class PKEYKeySpec
 
     public PKEYKeySpec(long ref, OSSLKeyType type)
     {
-        this(NISelector.SpecNI, ref, type);
+        this(NISelector.getSpecNI(), ref, type);
     }
 
     public PKEYKeySpec(SpecNI specNI, long ref, OSSLKeyType type)
@@ -112,6 +112,15 @@ public class PKEYKeySpec
         return ref.getReference();
     }
 
+    /**
+     * Free the PKEY now rather than when this spec becomes unreachable, see
+     * {@link NativeReference#release()}.
+     */
+    public void release()
+    {
+        ref.release();
+    }
+
     public OSSLKeyType getType()
     {
         return type;
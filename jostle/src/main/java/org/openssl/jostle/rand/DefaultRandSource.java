@@ -13,6 +13,7 @@ package org.openssl.jostle.rand;
 
 import org.openssl.jostle.CryptoServicesRegistrar;
 import org.openssl.jostle.jcajce.provider.ErrorCode;
+import org.openssl.jostle.jcajce.provider.rand.RandServiceSPI;
 
 import java.security.SecureRandom;
 import java.util.logging.Level;
@@ -23,6 +24,11 @@ public class DefaultRandSource implements RandSource
     Logger LOG = Logger.getLogger("DefaultEntropyProvider(Java 8)");
     private final SecureRandom random;
 
+    // The native DRBG behind a JSL SecureRandom, 0 for any other source or a
+    // subclass. The interface library reads this field and draws from that
+    // DRBG directly instead of calling getRandomBytes.
+    private final long nativeDrbg;
+
     public static DefaultRandSource wrap(SecureRandom random)
     {
         return new DefaultRandSource(random);
@@ -31,6 +37,7 @@ public class DefaultRandSource implements RandSource
     public DefaultRandSource(SecureRandom secureRandom)
     {
         this.random = secureRandom;
+        this.nativeDrbg = getClass() == DefaultRandSource.class ? RandServiceSPI.nativeDrbgOf(secureRandom) : 0;
 
         if (LOG.isLoggable(Level.FINE))
         {
@@ -160,6 +167,14 @@ public class DefaultRandSource implements RandSource
         return len;
     }
 
+    /**
+     * The native DRBG this source draws from without an up-call, or 0.
+     */
+    long nativeDrbg()
+    {
+        return nativeDrbg;
+    }
+
     @Override
     public SecureRandom getRandom()
     {
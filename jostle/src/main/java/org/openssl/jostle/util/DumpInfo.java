@@ -14,6 +14,10 @@ import org.openssl.jostle.Loader;
 import org.openssl.jostle.jcajce.provider.JostleProvider;
 import org.openssl.jostle.jcajce.provider.fips.JostleFIPSProvider;
 import org.openssl.jostle.jcajce.provider.NISelector;
+import org.openssl.jostle.jcajce.provider.blockcipher.CipherContextPool;
+import org.openssl.jostle.jcajce.provider.cache.MacTemplateCache;
+import org.openssl.jostle.jcajce.provider.cache.SpkiKeyCache;
+import org.openssl.jostle.jcajce.provider.cache.TranslatedKeyCache;
 
 import java.security.Provider;
 import java.security.Security;
@@ -125,11 +129,29 @@ public class DumpInfo
         // -DM System.out.println
         System.out.println("\nNative Status:");
         // -DM System.out.println
-        System.out.println("  Native Available: " + NISelector.NativeServiceNI.isNativeAvailable());
-        if (NISelector.NativeServiceNI.isNativeAvailable())
+        System.out.println("  Native Available: " + NISelector.getNativeServiceNI().isNativeAvailable());
+        if (NISelector.getNativeServiceNI().isNativeAvailable())
         {
             // -DM System.out.println
-            System.out.println("  OpenSSL Version: " + NISelector.NativeServiceNI.getOpenSSLVersion());
+            System.out.println("  OpenSSL Version: " + NISelector.getNativeServiceNI().getOpenSSLVersion());
+            // -DM System.out.println
+            System.out.println("  Fetch Cache: " + NISelector.getNativeServiceNI().getFetchCacheHits() + " hits, "
+                    + NISelector.getNativeServiceNI().getFetchCacheMisses() + " misses");
+            // -DM System.out.println
+            System.out.println("  Cipher Context Pool: " + CipherContextPool.getHitCount() + " hits, "
+                    + CipherContextPool.getMissCount() + " misses");
+            // -DM System.out.println
+            System.out.println("  Translated Key Cache: " + TranslatedKeyCache.getSize() + " keys, "
+                    + TranslatedKeyCache.getHitCount() + " hits, " + TranslatedKeyCache.getMissCount() + " misses, "
+                    + TranslatedKeyCache.getEvictionCount() + " evictions");
+            // -DM System.out.println
+            System.out.println("  Certificate Key Cache: " + SpkiKeyCache.getSize() + " keys, "
+                    + SpkiKeyCache.getHitCount() + " hits, " + SpkiKeyCache.getMissCount() + " misses, "
+                    + SpkiKeyCache.getEvictionCount() + " evictions");
+            // -DM System.out.println
+            System.out.println("  MAC Template Cache: " + MacTemplateCache.getSize() + " keys, "
+                    + MacTemplateCache.getHitCount() + " hits, " + MacTemplateCache.getMissCount() + " misses, "
+                    + MacTemplateCache.getEvictionCount() + " evictions");
         }
         else
         {
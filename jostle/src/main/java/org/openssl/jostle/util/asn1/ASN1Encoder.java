@@ -25,7 +25,7 @@ public class ASN1Encoder
      */
     public static byte[] asSubjectPublicKeyInfo(PKEYKeySpec spec)
     {
-        return asSubjectPublicKeyInfo(NISelector.Asn1NI, spec);
+        return asSubjectPublicKeyInfo(NISelector.getAsn1NI(), spec);
     }
 
     /**
@@ -52,7 +52,7 @@ public class ASN1Encoder
 
     public static byte[] asPrivateKeyInfo(PKEYKeySpec spec, PrivateKeyOptions option)
     {
-        return asPrivateKeyInfo(NISelector.Asn1NI, spec, option);
+        return asPrivateKeyInfo(NISelector.getAsn1NI(), spec, option);
     }
 
     /**
@@ -104,7 +104,7 @@ public class ASN1Encoder
 
     public static PKEYKeySpec fromPrivateKeyInfo(byte[] data, int start, int len)
     {
-        return fromPrivateKeyInfo(NISelector.Asn1NI, NISelector.SpecNI, data, start, len);
+        return fromPrivateKeyInfo(NISelector.getAsn1NI(), NISelector.getSpecNI(), data, start, len);
     }
 
     /**
@@ -120,7 +120,7 @@ public class ASN1Encoder
 
     public static PKEYKeySpec fromSubjectPublicKeyInfo(byte[] data, int start, int len)
     {
-        return fromSubjectPublicKeyInfo(NISelector.Asn1NI, NISelector.SpecNI, data, start, len);
+        return fromSubjectPublicKeyInfo(NISelector.getAsn1NI(), NISelector.getSpecNI(), data, start, len);
     }
 
     /** Variant bound to specific NI backends (see fromPrivateKeyInfo). */
@@ -84,9 +84,9 @@ public class JOEdPrivateKey extends AsymmetricKeyImpl implements EdDSAPrivateKey
     {
         try
         {
-            int len = NISelector.EDServiceNI.getPrivateKey(spec.getReference(), null);
+            int len = NISelector.getEDServiceNI().getPrivateKey(spec.getReference(), null);
             byte[] raw = new byte[len];
-            NISelector.EDServiceNI.getPrivateKey(spec.getReference(), raw);
+            NISelector.getEDServiceNI().getPrivateKey(spec.getReference(), raw);
             return raw;
         }
         finally
@@ -103,9 +103,9 @@ public class JOEdPrivateKey extends AsymmetricKeyImpl implements EdDSAPrivateKey
     {
         try
         {
-            int len = NISelector.EDServiceNI.getPublicKey(spec.getReference(), null);
+            int len = NISelector.getEDServiceNI().getPublicKey(spec.getReference(), null);
             byte[] raw = new byte[len];
-            NISelector.EDServiceNI.getPublicKey(spec.getReference(), raw);
+            NISelector.getEDServiceNI().getPublicKey(spec.getReference(), raw);
             return raw;
         }
         finally
@@ -73,9 +73,9 @@ public class JOEdPublicKey extends AsymmetricKeyImpl implements EdDSAPublicKey,
     {
         try
         {
-            int len = NISelector.EDServiceNI.getPublicKey(spec.getReference(), null);
+            int len = NISelector.getEDServiceNI().getPublicKey(spec.getReference(), null);
             byte[] raw = new byte[len];
-            NISelector.EDServiceNI.getPublicKey(spec.getReference(), raw);
+            NISelector.getEDServiceNI().getPublicKey(spec.getReference(), raw);
             return raw;
         }
         finally
@@ -0,0 +1,87 @@
+/*
+ *
+ *   Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *   Licensed under the Apache License 2.0 (the "License"). You may not use
+ *   this file except in compliance with the License.  You can obtain a copy
+ *   in the file LICENSE in the source distribution or at
+ *   https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.jcajce.provider;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reusable native memory for the FFI bindings so that the common downcalls do
+ * not open an Arena per call.
+ * <p>
+ * Each thread gets an error slot, allocated once from an automatic arena and
+ * released when the thread's scratch is collected. A binding may use its
+ * thread's slot for the duration of one downcall and must read it before
+ * returning. That is only safe for downcalls that cannot call back into Java:
+ * an upcall, such as an EntropyUpcall feeding a DRBG or a foreign RandSource,
+ * may enter another binding on the same thread and overwrite the slot. Downcalls
+ * that generate random bytes or take a RandSource must use their own arena.
+ * <p>
+ * Algorithm and function names come from a fixed set, their native copies are
+ * kept for the life of the process.
+ */
+public final class FFIScratch
+{
+    // Well past the number of names the providers register.
+    private static final int MAX_NAMES = 512;
+
+    private static final ThreadLocal<FFIScratch> LOCAL = ThreadLocal.withInitial(FFIScratch::new);
+
+    private static final ConcurrentHashMap<String, MemorySegment> NAMES = new ConcurrentHashMap<>();
+
+    private final MemorySegment errorSlot;
+
+    private FFIScratch()
+    {
+        Arena arena = Arena.ofAuto();
+        errorSlot = arena.allocate(ValueLayout.JAVA_INT);
+    }
+
+    /**
+     * The calling thread's int out parameter for native error codes, zeroed.
+     */
+    public static MemorySegment errorSlot()
+    {
+        MemorySegment slot = LOCAL.get().errorSlot;
+        slot.set(ValueLayout.JAVA_INT, 0, 0);
+        return slot;
+    }
+
+    /**
+     * A NUL terminated native copy of name, or MemorySegment.NULL for null.
+     */
+    public static MemorySegment name(String name)
+    {
+        if (name == null)
+        {
+            return MemorySegment.NULL;
+        }
+
+        MemorySegment seg = NAMES.get(name);
+        if (seg != null)
+        {
+            return seg;
+        }
+
+        if (NAMES.size() >= MAX_NAMES)
+        {
+            // Callers passing arbitrary names do not get to grow the global arena.
+            return Arena.ofAuto().allocateFrom(name);
+        }
+
+        seg = Arena.global().allocateFrom(name);
+        MemorySegment existing = NAMES.putIfAbsent(name, seg);
+        return existing != null ? existing : seg;
+    }
+}
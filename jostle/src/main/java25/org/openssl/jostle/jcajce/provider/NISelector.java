@@ -72,93 +72,251 @@ import org.openssl.jostle.util.ops.OperationsTestNI;
  * Same class is implemented in src/main/java this version
  * will select an FFI version when the FFI interface is loaded.
  * NB: FFI will replace JNI eventually, and later JVMs may not support it.
+ * <p>
+ * Each family is held in its own nested class, so an implementation and its
+ * downcall handles are only created the first time its getter is called.
  */
 public class NISelector
 {
-    public static final BlockCipherNI BlockCipherNI;
-    public static final CCMCipherNI CCMCipherNI;
-    public static final OpenSSLNI OpenSSLNI;
-    public static final NativeServiceNI NativeServiceNI;
-    public static final MLDSAServiceNI MLDSAServiceNI;
-    public static final SpecNI SpecNI;
-    public static final Asn1Ni Asn1NI;
-    public static final OperationsTestNI OperationsTestNI;
-    public static final SLHDSAServiceNI SLHDSAServiceNI;
-    public static final MLKEMServiceNI MLKEMServiceNI;
-    public static final KdfNI KdfNI;
+    public static BlockCipherNI getBlockCipherNI()
+    {
+        return BlockCipherHolder.NI;
+    }
+
+    private static final class BlockCipherHolder
+    {
+        static final BlockCipherNI NI = Loader.isFFI() ? new BlockCipherFFI() : new BlockCipherJNI();
+    }
+
+    public static CCMCipherNI getCCMCipherNI()
+    {
+        return CCMCipherHolder.NI;
+    }
+
+    private static final class CCMCipherHolder
+    {
+        static final CCMCipherNI NI = Loader.isFFI() ? new CCMCipherFFI() : new CCMCipherJNI();
+    }
+
+    public static OpenSSLNI getOpenSSLNI()
+    {
+        return OpenSSLHolder.NI;
+    }
+
+    private static final class OpenSSLHolder
+    {
+        static final OpenSSLNI NI = Loader.isFFI() ? new OpenSSLFFI() : new OpenSSLJNI();
+    }
+
+    public static NativeServiceNI getNativeServiceNI()
+    {
+        return NativeServiceHolder.NI;
+    }
+
+    private static final class NativeServiceHolder
+    {
+        static final NativeServiceNI NI = Loader.isFFI() ? new NativeServiceFFI() : new NativeServiceJNI();
+    }
+
+    public static MLDSAServiceNI getMLDSAServiceNI()
+    {
+        return MLDSAServiceHolder.NI;
+    }
+
+    private static final class MLDSAServiceHolder
+    {
+        static final MLDSAServiceNI NI = Loader.isFFI() ? new MLDSAServiceFFI() : new MLDSAServiceJNI();
+    }
+
+    public static SpecNI getSpecNI()
+    {
+        return SpecHolder.NI;
+    }
+
+    private static final class SpecHolder
+    {
+        static final SpecNI NI = Loader.isFFI() ? new SpecFFI() : new SpecJNI();
+    }
+
+    public static Asn1Ni getAsn1NI()
+    {
+        return Asn1Holder.NI;
+    }
+
+    private static final class Asn1Holder
+    {
+        static final Asn1Ni NI = Loader.isFFI() ? new Asn1NIFFI() : new Asn1NiJNI();
+    }
+
+    public static OperationsTestNI getOperationsTestNI()
+    {
+        return OperationsTestHolder.NI;
+    }
+
+    private static final class OperationsTestHolder
+    {
+        static final OperationsTestNI NI = Loader.isFFI() ? new OperationsTestFFI() : new OperationsTestJNI();
+    }
+
+    public static SLHDSAServiceNI getSLHDSAServiceNI()
+    {
+        return SLHDSAServiceHolder.NI;
+    }
+
+    private static final class SLHDSAServiceHolder
+    {
+        static final SLHDSAServiceNI NI = Loader.isFFI() ? new SLHDSAServiceFFI() : new SLHDSAServiceJNI();
+    }
+
+    public static MLKEMServiceNI getMLKEMServiceNI()
+    {
+        return MLKEMServiceHolder.NI;
+    }
+
+    private static final class MLKEMServiceHolder
+    {
+        static final MLKEMServiceNI NI = Loader.isFFI() ? new MLKEMServiceFFI() : new MLKEMServiceJNI();
+    }
+
+    public static KdfNI getKdfNI()
+    {
+        return KdfHolder.NI;
+    }
+
+    private static final class KdfHolder
+    {
+        static final KdfNI NI = Loader.isFFI() ? new KdfNIFFI() : new KdfNIJNI();
+    }
 
     // Base-provider only: scrypt / Argon2 are not served by the FIPS module,
     // so there is no FIPSNISelector counterpart (see MemoryHardKdfNI).
-    public static final MemoryHardKdfNI MemoryHardKdfNI;
-    public static final MDServiceNI MDServiceNI;
-    public static final EDServiceNI EDServiceNI;
-    public static final RSAServiceNI RSAServiceNI;
-    public static final RSAOAEPCipherNI RSAOAEPCipherNI;
-    public static final RSAPKCS1CipherNI RSAPKCS1CipherNI;
-    public static final ECServiceNI ECServiceNI;
-    public static final DSAServiceNI DSAServiceNI;
-    public static final DHServiceNI DHServiceNI;
-    public static final XECServiceNI XECServiceNI;
-    public static final MacServiceNI MacServiceNI;
-    public static final RandServiceNI RandServiceNI;
-    public static final KSServiceNI KSServiceNI;
-
-    static
-    {
-        if (Loader.isFFI())
-        {
-            BlockCipherNI = new BlockCipherFFI();
-            CCMCipherNI = new CCMCipherFFI();
-            OpenSSLNI = new OpenSSLFFI();
-            NativeServiceNI = new NativeServiceFFI();
-            MLDSAServiceNI = new MLDSAServiceFFI();
-            SpecNI = new SpecFFI();
-            Asn1NI = new Asn1NIFFI();
-            OperationsTestNI = new OperationsTestFFI();
-            SLHDSAServiceNI = new SLHDSAServiceFFI();
-            MLKEMServiceNI = new MLKEMServiceFFI();
-            KdfNI = new KdfNIFFI();
-            MemoryHardKdfNI = new MemoryHardKdfNIFFI();
-            MDServiceNI = new MDServiceFFI();
-            EDServiceNI = new EdDSAServiceFFI();
-            RSAServiceNI = new RSAServiceFFI();
-            RSAOAEPCipherNI = new RSAOAEPCipherFFI();
-            RSAPKCS1CipherNI = new RSAPKCS1CipherFFI();
-            ECServiceNI = new ECServiceFFI();
-            DSAServiceNI = new DSAServiceFFI();
-            DHServiceNI = new DHServiceFFI();
-            XECServiceNI = new XECServiceFFI();
-            MacServiceNI = new MacServiceFFI();
-            RandServiceNI = new RandServiceFFI();
-            KSServiceNI = new KSServiceFFI();
-
-        }
-        else
-        {
-            BlockCipherNI = new BlockCipherJNI();
-            CCMCipherNI = new CCMCipherJNI();
-            OpenSSLNI = new OpenSSLJNI();
-            NativeServiceNI = new NativeServiceJNI();
-            MLDSAServiceNI = new MLDSAServiceJNI();
-            SpecNI = new SpecJNI();
-            Asn1NI = new Asn1NiJNI();
-            OperationsTestNI = new OperationsTestJNI();
-            SLHDSAServiceNI = new SLHDSAServiceJNI();
-            MLKEMServiceNI = new MLKEMServiceJNI();
-            KdfNI = new KdfNIJNI();
-            MemoryHardKdfNI = new MemoryHardKdfNIJNI();
-            MDServiceNI = new MDServiceJNI();
-            EDServiceNI = new EDServiceJNI();
-            RSAServiceNI = new RSAServiceJNI();
-            RSAOAEPCipherNI = new RSAOAEPCipherJNI();
-            RSAPKCS1CipherNI = new RSAPKCS1CipherJNI();
-            ECServiceNI = new ECServiceJNI();
-            DSAServiceNI = new DSAServiceJNI();
-            DHServiceNI = new DHServiceJNI();
-            XECServiceNI = new XECServiceJNI();
-            MacServiceNI = new MacServiceJNI();
-            RandServiceNI = new RandServiceJNI();
-            KSServiceNI = new KSServiceJNI();
-        }
+    public static MemoryHardKdfNI getMemoryHardKdfNI()
+    {
+        return MemoryHardKdfHolder.NI;
+    }
+
+    private static final class MemoryHardKdfHolder
+    {
+        static final MemoryHardKdfNI NI = Loader.isFFI() ? new MemoryHardKdfNIFFI() : new MemoryHardKdfNIJNI();
+    }
+
+    public static MDServiceNI getMDServiceNI()
+    {
+        return MDServiceHolder.NI;
+    }
+
+    private static final class MDServiceHolder
+    {
+        static final MDServiceNI NI = Loader.isFFI() ? new MDServiceFFI() : new MDServiceJNI();
+    }
+
+    public static EDServiceNI getEDServiceNI()
+    {
+        return EDServiceHolder.NI;
+    }
+
+    private static final class EDServiceHolder
+    {
+        static final EDServiceNI NI = Loader.isFFI() ? new EdDSAServiceFFI() : new EDServiceJNI();
+    }
+
+    public static RSAServiceNI getRSAServiceNI()
+    {
+        return RSAServiceHolder.NI;
+    }
+
+    private static final class RSAServiceHolder
+    {
+        static final RSAServiceNI NI = Loader.isFFI() ? new RSAServiceFFI() : new RSAServiceJNI();
+    }
+
+    public static RSAOAEPCipherNI getRSAOAEPCipherNI()
+    {
+        return RSAOAEPCipherHolder.NI;
+    }
+
+    private static final class RSAOAEPCipherHolder
+    {
+        static final RSAOAEPCipherNI NI = Loader.isFFI() ? new RSAOAEPCipherFFI() : new RSAOAEPCipherJNI();
+    }
+
+    public static RSAPKCS1CipherNI getRSAPKCS1CipherNI()
+    {
+        return RSAPKCS1CipherHolder.NI;
+    }
+
+    private static final class RSAPKCS1CipherHolder
+    {
+        static final RSAPKCS1CipherNI NI = Loader.isFFI() ? new RSAPKCS1CipherFFI() : new RSAPKCS1CipherJNI();
+    }
+
+    public static ECServiceNI getECServiceNI()
+    {
+        return ECServiceHolder.NI;
+    }
+
+    private static final class ECServiceHolder
+    {
+        static final ECServiceNI NI = Loader.isFFI() ? new ECServiceFFI() : new ECServiceJNI();
+    }
+
+    public static DSAServiceNI getDSAServiceNI()
+    {
+        return DSAServiceHolder.NI;
+    }
+
+    private static final class DSAServiceHolder
+    {
+        static final DSAServiceNI NI = Loader.isFFI() ? new DSAServiceFFI() : new DSAServiceJNI();
+    }
+
+    public static DHServiceNI getDHServiceNI()
+    {
+        return DHServiceHolder.NI;
+    }
+
+    private static final class DHServiceHolder
+    {
+        static final DHServiceNI NI = Loader.isFFI() ? new DHServiceFFI() : new DHServiceJNI();
+    }
+
+    public static XECServiceNI getXECServiceNI()
+    {
+        return XECServiceHolder.NI;
+    }
+
+    private static final class XECServiceHolder
+    {
+        static final XECServiceNI NI = Loader.isFFI() ? new XECServiceFFI() : new XECServiceJNI();
+    }
+
+    public static MacServiceNI getMacServiceNI()
+    {
+        return MacServiceHolder.NI;
+    }
+
+    private static final class MacServiceHolder
+    {
+        static final MacServiceNI NI = Loader.isFFI() ? new MacServiceFFI() : new MacServiceJNI();
+    }
+
+    public static RandServiceNI getRandServiceNI()
+    {
+        return RandServiceHolder.NI;
+    }
+
+    private static final class RandServiceHolder
+    {
+        static final RandServiceNI NI = Loader.isFFI() ? new RandServiceFFI() : new RandServiceJNI();
+    }
+
+    public static KSServiceNI getKSServiceNI()
+    {
+        return KSServiceHolder.NI;
+    }
+
+    private static final class KSServiceHolder
+    {
+        static final KSServiceNI NI = Loader.isFFI() ? new KSServiceFFI() : new KSServiceJNI();
     }
 }
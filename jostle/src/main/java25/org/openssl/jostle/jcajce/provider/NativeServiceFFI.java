@@ -65,4 +65,30 @@ public class NativeServiceFFI implements NativeServiceNI
         return "unable to obtain OpenSSL library version";
     }
 
+    public long getFetchCacheHits()
+    {
+        return fetchCacheCounter("fetch_cache_hit_count");
+    }
+
+    public long getFetchCacheMisses()
+    {
+        return fetchCacheCounter("fetch_cache_miss_count");
+    }
+
+    private static long fetchCacheCounter(String name)
+    {
+        try
+        {
+            var funcPtr = lookup.find(name).orElseThrow();
+            var linker = Linker.nativeLinker();
+            var dch = linker.downcallHandle(funcPtr, FunctionDescriptor.of(ValueLayout.JAVA_LONG));
+            return (long) dch.invokeExact();
+        }
+        catch (Throwable e)
+        {
+            L.warning("ffi access to " + name + ": " + e.getMessage());
+        }
+        return -1;
+    }
+
 }
@@ -48,6 +48,23 @@ class OpenSSLFFI implements OpenSSLNI
 
     }
 
+    @Override
+    public void setRandUpCallBlock(int blockSize)
+    {
+        try
+        {
+            var func = lookup.find("set_rand_up_call_block").orElseThrow();
+            var handle = linker.downcallHandle(func, FunctionDescriptor.ofVoid(ValueLayout.JAVA_INT));
+
+            handle.invokeExact(blockSize);
+        }
+        catch (Throwable t)
+        {
+            L.log(Level.WARNING, "ffi set_rand_up_call_block", t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+    }
+
     @Override
     public String getOSSLErrors()
     {
@@ -11,8 +11,11 @@
 
 package org.openssl.jostle.jcajce.provider.blockcipher;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
+
 import java.lang.foreign.*;
 import java.lang.invoke.MethodHandle;
+import java.nio.ByteBuffer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -40,10 +43,18 @@ public class BlockCipherFFI implements BlockCipherNI
 
     private final MethodHandle finalFuncHandle;
 
+    private final MethodHandle updateBufferFuncHandle;
+
+    private final MethodHandle finalBufferFuncHandle;
+
     private final MethodHandle finalSizeFuncHandle;
 
     private final MethodHandle updateSizeFuncHandle;
 
+    private final MethodHandle resetFuncHandle;
+
+    private final MethodHandle aeadBatchFuncHandle;
+
     private final MethodHandle disposeFuncHandle;
 
     public BlockCipherFFI()
@@ -120,6 +131,32 @@ public class BlockCipherFFI implements BlockCipherNI
                         ValueLayout.JAVA_INT // out_off
                 ), Linker.Option.critical(true));
 
+        MemorySegment updateBufferFunc = lookup.find("BlockCipherNI_updateBuffer").orElseThrow();
+        updateBufferFuncHandle = linker.downcallHandle(updateBufferFunc,
+                FunctionDescriptor.of(
+                        ValueLayout.JAVA_INT, // Return code
+                        ValueLayout.JAVA_LONG, // Reference
+                        ValueLayout.ADDRESS, // output region
+                        ValueLayout.JAVA_LONG, // output_size
+                        ValueLayout.JAVA_INT, // out_off
+                        ValueLayout.JAVA_INT, // out_len
+                        ValueLayout.ADDRESS, // input region
+                        ValueLayout.JAVA_LONG, // input_size
+                        ValueLayout.JAVA_INT, // in_off
+                        ValueLayout.JAVA_INT // in_len
+                ), Linker.Option.critical(true));
+
+        MemorySegment finalBufferFunc = lookup.find("BlockCipherNI_doFinalBuffer").orElseThrow();
+        finalBufferFuncHandle = linker.downcallHandle(finalBufferFunc,
+                FunctionDescriptor.of(
+                        ValueLayout.JAVA_INT, // Return code
+                        ValueLayout.JAVA_LONG, // Reference
+                        ValueLayout.ADDRESS, // output region
+                        ValueLayout.JAVA_LONG, // output_size
+                        ValueLayout.JAVA_INT, // out_off
+                        ValueLayout.JAVA_INT // out_len
+                ), Linker.Option.critical(true));
+
         MemorySegment finalSizeFunc = lookup.find("BlockCipherNI_getFinalSize").orElseThrow();
         finalSizeFuncHandle = linker.downcallHandle(finalSizeFunc,
                 FunctionDescriptor.of(
@@ -138,6 +175,37 @@ public class BlockCipherFFI implements BlockCipherNI
                 ));
 
 
+        MemorySegment resetFunc = lookup.find("BlockCipherNI_reset").orElseThrow();
+        resetFuncHandle = linker.downcallHandle(resetFunc,
+                FunctionDescriptor.of(
+                        ValueLayout.JAVA_INT,
+                        ValueLayout.JAVA_LONG
+                ));
+
+
+        MemorySegment aeadBatchFunc = lookup.find("BlockCipherNI_aeadBatch").orElseThrow();
+        aeadBatchFuncHandle = linker.downcallHandle(aeadBatchFunc,
+                FunctionDescriptor.of(
+                        ValueLayout.JAVA_INT, // Return code
+                        ValueLayout.JAVA_LONG, // Reference
+                        ValueLayout.JAVA_INT, // Opp Mode
+                        ValueLayout.ADDRESS, // nonces array
+                        ValueLayout.JAVA_LONG, // nonces_size
+                        ValueLayout.ADDRESS, // aad array
+                        ValueLayout.JAVA_LONG, // aad_size
+                        ValueLayout.ADDRESS, // input array
+                        ValueLayout.JAVA_LONG, // input_size
+                        ValueLayout.ADDRESS, // spans array
+                        ValueLayout.JAVA_LONG, // spans_len
+                        ValueLayout.JAVA_INT, // count
+                        ValueLayout.ADDRESS, // output array
+                        ValueLayout.JAVA_LONG, // output_size
+                        ValueLayout.JAVA_INT, // out_off
+                        ValueLayout.ADDRESS, // status array
+                        ValueLayout.JAVA_LONG // status_len
+                ), Linker.Option.critical(true));
+
+
         MemorySegment disposeFunc = lookup.find("BlockCipherNI_dispose").orElseThrow();
         disposeFuncHandle = linker.downcallHandle(disposeFunc,
                 FunctionDescriptor.ofVoid(ValueLayout.JAVA_LONG));
@@ -149,9 +217,9 @@ public class BlockCipherFFI implements BlockCipherNI
     public long ni_makeInstance(int cipher, int mode, int padding, int[] err)
     {
         long ref = 0;
-        try (Arena a = Arena.ofConfined())
+        try
         {
-            MemorySegment errSeg = a.allocate(ValueLayout.JAVA_INT);
+            MemorySegment errSeg = FFIScratch.errorSlot();
             ref = (long) makeInstanceFuncHandle.invokeExact(cipher, mode, padding, errSeg);
             err[0] = errSeg.getAtIndex(ValueLayout.JAVA_INT, 0);
         }
@@ -299,6 +367,80 @@ public class BlockCipherFFI implements BlockCipherNI
     }
 
 
+    /**
+     * A direct ByteBuffer maps to its native memory from address zero to capacity,
+     * offsets are absolute, a byte[] maps to the heap array.
+     */
+    private static MemorySegment regionOf(Object buffer)
+    {
+        if (buffer == null)
+        {
+            return MemorySegment.NULL;
+        }
+        if (buffer instanceof byte[] array)
+        {
+            return MemorySegment.ofArray(array);
+        }
+        return MemorySegment.ofBuffer(((ByteBuffer) buffer).duplicate().clear());
+    }
+
+    @Override
+    public int ni_updateBuffer(long ref, Object output, int outputOffset, int outputLen, Object input, int inputOffset, int inputLen)
+    {
+        int code = 0;
+        try
+        {
+            var outputSegment = regionOf(output);
+            var inputSegment = regionOf(input);
+
+            code = (int) updateBufferFuncHandle.invokeExact(
+                    ref,
+                    outputSegment,
+                    outputSegment.byteSize(),
+                    outputOffset,
+                    outputLen,
+                    inputSegment,
+                    inputSegment.byteSize(),
+                    inputOffset,
+                    inputLen);
+        }
+        catch (Throwable t)
+        {
+            L.log(
+                    Level.WARNING,
+                    "FFI BlockCipherNI_updateBuffer",
+                    t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+        return code;
+    }
+
+    @Override
+    public int ni_doFinalBuffer(long ref, Object output, int outputOffset, int outputLen)
+    {
+        int code = 0;
+        try
+        {
+            var outputSegment = regionOf(output);
+
+            code = (int) finalBufferFuncHandle.invokeExact(
+                    ref,
+                    outputSegment,
+                    outputSegment.byteSize(),
+                    outputOffset,
+                    outputLen);
+        }
+        catch (Throwable t)
+        {
+            L.log(
+                    Level.WARNING,
+                    "FFI BlockCipherNI_doFinalBuffer",
+                    t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+        return code;
+    }
+
     @Override
     public int ni_getFinalSize(long ref, int length)
     {
@@ -337,6 +479,67 @@ public class BlockCipherFFI implements BlockCipherNI
         return code;
     }
 
+    @Override
+    public int ni_reset(long ref)
+    {
+        int code = 0;
+        try
+        {
+            code = (int) resetFuncHandle.invokeExact(ref);
+        }
+        catch (Throwable t)
+        {
+            L.log(
+                    Level.WARNING,
+                    "FFI BlockCipherNI_reset",
+                    t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+        return code;
+    }
+
+    @Override
+    public int ni_aeadBatch(long ref, int oppmode, byte[] nonces, byte[] aad, byte[] input, int[] spans, int count, byte[] output, int outputOffset, int[] status)
+    {
+        int code = 0;
+        try
+        {
+            var noncesSegment = nonces == null ? MemorySegment.NULL : MemorySegment.ofArray(nonces);
+            var aadSegment = aad == null ? MemorySegment.NULL : MemorySegment.ofArray(aad);
+            var inputSegment = input == null ? MemorySegment.NULL : MemorySegment.ofArray(input);
+            var spansSegment = spans == null ? MemorySegment.NULL : MemorySegment.ofArray(spans);
+            var outputSegment = output == null ? MemorySegment.NULL : MemorySegment.ofArray(output);
+            var statusSegment = status == null ? MemorySegment.NULL : MemorySegment.ofArray(status);
+
+            code = (int) aeadBatchFuncHandle.invokeExact(
+                    ref,
+                    oppmode,
+                    noncesSegment,
+                    noncesSegment.byteSize(),
+                    aadSegment,
+                    aadSegment.byteSize(),
+                    inputSegment,
+                    inputSegment.byteSize(),
+                    spansSegment,
+                    spans == null ? 0L : (long) spans.length,
+                    count,
+                    outputSegment,
+                    outputSegment.byteSize(),
+                    outputOffset,
+                    statusSegment,
+                    status == null ? 0L : (long) status.length);
+        }
+        catch (Throwable t)
+        {
+            L.log(
+                    Level.WARNING,
+                    "FFI BlockCipherNI_aeadBatch",
+                    t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+        return code;
+    }
+
     @Override
     public void ni_dispose(long ref)
     {
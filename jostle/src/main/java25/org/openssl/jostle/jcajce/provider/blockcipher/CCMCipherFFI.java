@@ -11,6 +11,8 @@
 
 package org.openssl.jostle.jcajce.provider.blockcipher;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
+
 import java.lang.foreign.*;
 import java.lang.invoke.MethodHandle;
 import java.util.logging.Level;
@@ -100,9 +102,9 @@ public class CCMCipherFFI implements CCMCipherNI
     @Override
     public long ni_makeInstance(int cipherId, int[] err)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
-            MemorySegment errSeg = a.allocate(ValueLayout.JAVA_INT);
+            MemorySegment errSeg = FFIScratch.errorSlot();
             MemorySegment ref = (MemorySegment) makeInstanceH.invokeExact(cipherId, errSeg);
             err[0] = errSeg.get(ValueLayout.JAVA_INT, 0);
             return ref.address();
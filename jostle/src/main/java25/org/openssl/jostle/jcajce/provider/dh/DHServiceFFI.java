@@ -11,6 +11,7 @@
 
 package org.openssl.jostle.jcajce.provider.dh;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
 import org.openssl.jostle.rand.EntropyUpcall;
 import org.openssl.jostle.rand.RandSource;
 
@@ -21,8 +22,6 @@ import java.lang.foreign.MemorySegment;
 import java.lang.foreign.SymbolLookup;
 import java.lang.foreign.ValueLayout;
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.nio.charset.StandardCharsets;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -52,10 +51,6 @@ public class DHServiceFFI implements DHServiceNI
     private final MethodHandle kexSetPeerH;
     private final MethodHandle kexDeriveH;
 
-    // Lookup-independent constants for the RandSource entropy upcall stub.
-    private static final FunctionDescriptor entropyFd = EntropyUpcall.DESCRIPTOR;
-    private static final MethodType entropyMt = EntropyUpcall.METHOD_TYPE;
-
 
     public DHServiceFFI()
     {
@@ -202,10 +197,7 @@ public class DHServiceFFI implements DHServiceNI
         }
         try
         {
-            MethodHandle h = MethodHandles.lookup()
-                    .findVirtual(RandSource.class, "getRandomSegment", entropyMt)
-                    .bindTo(src);
-            return linker.upcallStub(h, entropyFd, arena);
+            return EntropyUpcall.stub(arena, src);
         }
         catch (Throwable t)
         {
@@ -254,9 +246,9 @@ public class DHServiceFFI implements DHServiceNI
     @Override
     public int ni_groupSupported(String groupName)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
-            return (int) groupSupportedH.invokeExact(nativeString(a, groupName));
+            return (int) groupSupportedH.invokeExact(FFIScratch.name(groupName));
         }
         catch (Throwable t)
         {
@@ -408,9 +400,9 @@ public class DHServiceFFI implements DHServiceNI
     @Override
     public long ni_allocateKex(int[] err)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
-            MemorySegment errSeg = a.allocate(ValueLayout.JAVA_INT);
+            MemorySegment errSeg = FFIScratch.errorSlot();
             MemorySegment ref = (MemorySegment) allocKexH.invokeExact(errSeg);
             err[0] = errSeg.get(ValueLayout.JAVA_INT, 0);
             return ref.address();
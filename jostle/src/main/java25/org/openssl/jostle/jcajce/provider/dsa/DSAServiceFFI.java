@@ -11,6 +11,7 @@
 
 package org.openssl.jostle.jcajce.provider.dsa;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
 import org.openssl.jostle.rand.EntropyUpcall;
 import org.openssl.jostle.rand.RandSource;
 
@@ -21,8 +22,6 @@ import java.lang.foreign.MemorySegment;
 import java.lang.foreign.SymbolLookup;
 import java.lang.foreign.ValueLayout;
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.nio.charset.StandardCharsets;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -52,10 +51,6 @@ public class DSAServiceFFI implements DSAServiceNI
     private final MethodHandle signH;
     private final MethodHandle verifyH;
 
-    // Lookup-independent constants for the RandSource entropy upcall stub.
-    private static final FunctionDescriptor entropyFd = EntropyUpcall.DESCRIPTOR;
-    private static final MethodType entropyMt = EntropyUpcall.METHOD_TYPE;
-
 
     public DSAServiceFFI()
     {
@@ -224,10 +219,7 @@ public class DSAServiceFFI implements DSAServiceNI
         }
         try
         {
-            MethodHandle h = MethodHandles.lookup()
-                    .findVirtual(RandSource.class, "getRandomSegment", entropyMt)
-                    .bindTo(src);
-            return linker.upcallStub(h, entropyFd, arena);
+            return EntropyUpcall.stub(arena, src);
         }
         catch (Throwable t)
         {
@@ -401,9 +393,9 @@ public class DSAServiceFFI implements DSAServiceNI
     @Override
     public long ni_allocateSigner(int[] err)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
-            MemorySegment errSeg = a.allocate(ValueLayout.JAVA_INT);
+            MemorySegment errSeg = FFIScratch.errorSlot();
             MemorySegment ref = (MemorySegment) allocSignerH.invokeExact(errSeg);
             err[0] = errSeg.get(ValueLayout.JAVA_INT, 0);
             return ref.address();
@@ -450,12 +442,12 @@ public class DSAServiceFFI implements DSAServiceNI
     @Override
     public int ni_initVerify(long ref, long keyRef, String digestName)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
             return (int) initVerifyH.invokeExact(
                     MemorySegment.ofAddress(ref),
                     MemorySegment.ofAddress(keyRef),
-                    nativeString(a, digestName));
+                    FFIScratch.name(digestName));
         }
         catch (Throwable t)
         {
@@ -11,13 +11,12 @@
 
 package org.openssl.jostle.jcajce.provider.ed;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
 import org.openssl.jostle.rand.EntropyUpcall;
 import org.openssl.jostle.rand.RandSource;
 
 import java.lang.foreign.*;
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -64,9 +63,6 @@ public class EdDSAServiceFFI implements EDServiceNI
     private static final MemorySegment verifierFunc;
     private static final MethodHandle verifierFuncHandle;
 
-    private static final FunctionDescriptor entropyFd;
-    private static final MethodType entropyMt;
-
 
     static
     {
@@ -198,13 +194,6 @@ public class EdDSAServiceFFI implements EDServiceNI
                         ValueLayout.JAVA_LONG,
                         ValueLayout.JAVA_INT
                 ), Linker.Option.critical(true));
-
-
-        entropyFd = EntropyUpcall.DESCRIPTOR;
-
-        entropyMt = EntropyUpcall.METHOD_TYPE;
-
-
     }
 
 
@@ -220,11 +209,7 @@ public class EdDSAServiceFFI implements EDServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
             MemorySegment retCodeRef = a.allocate(ValueLayout.JAVA_INT);
             MemorySegment segment = (MemorySegment) generateKeyPairFuncHandle.invokeExact(type, retCodeRef, getEntropySegment);
@@ -336,9 +321,9 @@ public class EdDSAServiceFFI implements EDServiceNI
     @Override
     public long ni_allocateSigner(int[] err)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
-            MemorySegment errSeg = a.allocate(ValueLayout.JAVA_INT);
+            MemorySegment errSeg = FFIScratch.errorSlot();
             MemorySegment segment = (MemorySegment) allocSignerFuncHandle.invokeExact(errSeg);
             err[0] = errSeg.getAtIndex(ValueLayout.JAVA_INT, 0);
             return segment.address();
@@ -395,11 +380,7 @@ public class EdDSAServiceFFI implements EDServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
 
             MemorySegment ctx = MemorySegment.ofAddress(ref);
@@ -459,11 +440,7 @@ public class EdDSAServiceFFI implements EDServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
             MemorySegment ctx = MemorySegment.ofAddress(ref);
 
@@ -36,66 +36,179 @@ import org.openssl.jostle.util.ops.OperationsTestNI;
  */
 public class FIPSNISelector
 {
-    public static final OpenSSLFIPSNI OpenSSLFIPSNI;
-    public static final MDServiceNI MDServiceNI;
-    public static final BlockCipherNI BlockCipherNI;
-    public static final CCMCipherNI CCMCipherNI;
-    public static final MacServiceNI MacServiceNI;
-    public static final RandServiceNI RandServiceNI;
-    public static final SpecNI SpecNI;
-    public static final Asn1Ni Asn1NI;
-    public static final RSAServiceNI RSAServiceNI;
-    public static final RSAOAEPCipherNI RSAOAEPCipherNI;
-    public static final RSAPKCS1CipherNI RSAPKCS1CipherNI;
-    public static final ECServiceNI ECServiceNI;
-    public static final DSAServiceNI DSAServiceNI;
-    public static final DHServiceNI DHServiceNI;
-    public static final XECServiceNI XECServiceNI;
-    public static final KdfNI KdfNI;
-    public static final OperationsTestNI OperationsTestNI;
-
     static
     {
+        // Every family needs the FIPS interface library, load it once here.
         Loader.loadFipsInterface();
-        if (Loader.isFFI())
-        {
-            OpenSSLFIPSNI = new OpenSSLFIPSFFI();
-            MDServiceNI = new MDServiceFIPSFFI();
-            BlockCipherNI = new BlockCipherFIPSFFI();
-            CCMCipherNI = new CCMCipherFIPSFFI();
-            MacServiceNI = new MacServiceFIPSFFI();
-            RandServiceNI = new RandServiceFIPSFFI();
-            SpecNI = new SpecFIPSFFI();
-            Asn1NI = new Asn1FIPSFFI();
-            RSAServiceNI = new RSAServiceFIPSFFI();
-            RSAOAEPCipherNI = new RSAOAEPCipherFIPSFFI();
-            RSAPKCS1CipherNI = new RSAPKCS1CipherFIPSFFI();
-            ECServiceNI = new ECServiceFIPSFFI();
-            DSAServiceNI = new DSAServiceFIPSFFI();
-            DHServiceNI = new DHServiceFIPSFFI();
-            XECServiceNI = new XECServiceFIPSFFI();
-            KdfNI = new KdfFIPSFFI();
-            OperationsTestNI = new OperationsTestFIPSFFI();
-        }
-        else
-        {
-            OpenSSLFIPSNI = new OpenSSLFIPSJNI();
-            MDServiceNI = new MDServiceFIPSJNI();
-            BlockCipherNI = new BlockCipherFIPSJNI();
-            CCMCipherNI = new CCMCipherFIPSJNI();
-            MacServiceNI = new MacServiceFIPSJNI();
-            RandServiceNI = new RandServiceFIPSJNI();
-            SpecNI = new SpecFIPSJNI();
-            Asn1NI = new Asn1FIPSJNI();
-            RSAServiceNI = new RSAServiceFIPSJNI();
-            RSAOAEPCipherNI = new RSAOAEPCipherFIPSJNI();
-            RSAPKCS1CipherNI = new RSAPKCS1CipherFIPSJNI();
-            ECServiceNI = new ECServiceFIPSJNI();
-            DSAServiceNI = new DSAServiceFIPSJNI();
-            DHServiceNI = new DHServiceFIPSJNI();
-            XECServiceNI = new XECServiceFIPSJNI();
-            KdfNI = new KdfFIPSJNI();
-            OperationsTestNI = new OperationsTestFIPSJNI();
-        }
+    }
+
+    public static OpenSSLFIPSNI getOpenSSLFIPSNI()
+    {
+        return OpenSSLFIPSHolder.NI;
+    }
+
+    private static final class OpenSSLFIPSHolder
+    {
+        static final OpenSSLFIPSNI NI = Loader.isFFI() ? new OpenSSLFIPSFFI() : new OpenSSLFIPSJNI();
+    }
+
+    public static MDServiceNI getMDServiceNI()
+    {
+        return MDServiceHolder.NI;
+    }
+
+    private static final class MDServiceHolder
+    {
+        static final MDServiceNI NI = Loader.isFFI() ? new MDServiceFIPSFFI() : new MDServiceFIPSJNI();
+    }
+
+    public static BlockCipherNI getBlockCipherNI()
+    {
+        return BlockCipherHolder.NI;
+    }
+
+    private static final class BlockCipherHolder
+    {
+        static final BlockCipherNI NI = Loader.isFFI() ? new BlockCipherFIPSFFI() : new BlockCipherFIPSJNI();
+    }
+
+    public static CCMCipherNI getCCMCipherNI()
+    {
+        return CCMCipherHolder.NI;
+    }
+
+    private static final class CCMCipherHolder
+    {
+        static final CCMCipherNI NI = Loader.isFFI() ? new CCMCipherFIPSFFI() : new CCMCipherFIPSJNI();
+    }
+
+    public static MacServiceNI getMacServiceNI()
+    {
+        return MacServiceHolder.NI;
+    }
+
+    private static final class MacServiceHolder
+    {
+        static final MacServiceNI NI = Loader.isFFI() ? new MacServiceFIPSFFI() : new MacServiceFIPSJNI();
+    }
+
+    public static RandServiceNI getRandServiceNI()
+    {
+        return RandServiceHolder.NI;
+    }
+
+    private static final class RandServiceHolder
+    {
+        static final RandServiceNI NI = Loader.isFFI() ? new RandServiceFIPSFFI() : new RandServiceFIPSJNI();
+    }
+
+    public static SpecNI getSpecNI()
+    {
+        return SpecHolder.NI;
+    }
+
+    private static final class SpecHolder
+    {
+        static final SpecNI NI = Loader.isFFI() ? new SpecFIPSFFI() : new SpecFIPSJNI();
+    }
+
+    public static Asn1Ni getAsn1NI()
+    {
+        return Asn1Holder.NI;
+    }
+
+    private static final class Asn1Holder
+    {
+        static final Asn1Ni NI = Loader.isFFI() ? new Asn1FIPSFFI() : new Asn1FIPSJNI();
+    }
+
+    public static RSAServiceNI getRSAServiceNI()
+    {
+        return RSAServiceHolder.NI;
+    }
+
+    private static final class RSAServiceHolder
+    {
+        static final RSAServiceNI NI = Loader.isFFI() ? new RSAServiceFIPSFFI() : new RSAServiceFIPSJNI();
+    }
+
+    public static RSAOAEPCipherNI getRSAOAEPCipherNI()
+    {
+        return RSAOAEPCipherHolder.NI;
+    }
+
+    private static final class RSAOAEPCipherHolder
+    {
+        static final RSAOAEPCipherNI NI = Loader.isFFI() ? new RSAOAEPCipherFIPSFFI() : new RSAOAEPCipherFIPSJNI();
+    }
+
+    public static RSAPKCS1CipherNI getRSAPKCS1CipherNI()
+    {
+        return RSAPKCS1CipherHolder.NI;
+    }
+
+    private static final class RSAPKCS1CipherHolder
+    {
+        static final RSAPKCS1CipherNI NI = Loader.isFFI() ? new RSAPKCS1CipherFIPSFFI() : new RSAPKCS1CipherFIPSJNI();
+    }
+
+    public static ECServiceNI getECServiceNI()
+    {
+        return ECServiceHolder.NI;
+    }
+
+    private static final class ECServiceHolder
+    {
+        static final ECServiceNI NI = Loader.isFFI() ? new ECServiceFIPSFFI() : new ECServiceFIPSJNI();
+    }
+
+    public static DSAServiceNI getDSAServiceNI()
+    {
+        return DSAServiceHolder.NI;
+    }
+
+    private static final class DSAServiceHolder
+    {
+        static final DSAServiceNI NI = Loader.isFFI() ? new DSAServiceFIPSFFI() : new DSAServiceFIPSJNI();
+    }
+
+    public static DHServiceNI getDHServiceNI()
+    {
+        return DHServiceHolder.NI;
+    }
+
+    private static final class DHServiceHolder
+    {
+        static final DHServiceNI NI = Loader.isFFI() ? new DHServiceFIPSFFI() : new DHServiceFIPSJNI();
+    }
+
+    public static XECServiceNI getXECServiceNI()
+    {
+        return XECServiceHolder.NI;
+    }
+
+    private static final class XECServiceHolder
+    {
+        static final XECServiceNI NI = Loader.isFFI() ? new XECServiceFIPSFFI() : new XECServiceFIPSJNI();
+    }
+
+    public static KdfNI getKdfNI()
+    {
+        return KdfHolder.NI;
+    }
+
+    private static final class KdfHolder
+    {
+        static final KdfNI NI = Loader.isFFI() ? new KdfFIPSFFI() : new KdfFIPSJNI();
+    }
+
+    public static OperationsTestNI getOperationsTestNI()
+    {
+        return OperationsTestHolder.NI;
+    }
+
+    private static final class OperationsTestHolder
+    {
+        static final OperationsTestNI NI = Loader.isFFI() ? new OperationsTestFIPSFFI() : new OperationsTestFIPSJNI();
     }
 }
@@ -35,6 +35,8 @@ public class KdfNIFFI implements KdfNI
     private final MethodHandle pbkdf2FuncHandle;
 
     private final MethodHandle hkdfFuncHandle;
+    private final MethodHandle x963FuncHandle;
+    private final MethodHandle x942FuncHandle;
 
     public KdfNIFFI()
     {
@@ -82,9 +84,39 @@ public class KdfNIFFI implements KdfNI
                         ValueLayout.JAVA_INT // output length wanted
                 ));
 
+        MemorySegment x963 = lookup.find("JoKDF_X963").orElseThrow();
+        x963FuncHandle = linker.downcallHandle(x963,
+                FunctionDescriptor.of(
+                        ValueLayout.JAVA_INT, // return value
+                        ValueLayout.ADDRESS, // secret
+                        ValueLayout.JAVA_LONG, // secret_len
+                        ValueLayout.ADDRESS, // shared info
+                        ValueLayout.JAVA_LONG, // shared_info_len
+                        ValueLayout.ADDRESS, // digest name as bytes
+                        ValueLayout.JAVA_LONG, // length of digest name (excluding null terminus)
+                        ValueLayout.ADDRESS, // output
+                        ValueLayout.JAVA_LONG, // output_size -- total length of output array
+                        ValueLayout.JAVA_INT, // output offset
+                        ValueLayout.JAVA_INT // output length wanted
+                ));
 
-
-
+        MemorySegment x942 = lookup.find("JoKDF_X942").orElseThrow();
+        x942FuncHandle = linker.downcallHandle(x942,
+                FunctionDescriptor.of(
+                        ValueLayout.JAVA_INT, // return value
+                        ValueLayout.ADDRESS, // secret
+                        ValueLayout.JAVA_LONG, // secret_len
+                        ValueLayout.ADDRESS, // key wrap cipher name as bytes
+                        ValueLayout.JAVA_LONG, // length of cipher name (excluding null terminus)
+                        ValueLayout.ADDRESS, // ukm
+                        ValueLayout.JAVA_LONG, // ukm_len
+                        ValueLayout.ADDRESS, // digest name as bytes
+                        ValueLayout.JAVA_LONG, // length of digest name (excluding null terminus)
+                        ValueLayout.ADDRESS, // output
+                        ValueLayout.JAVA_LONG, // output_size -- total length of output array
+                        ValueLayout.JAVA_INT, // output offset
+                        ValueLayout.JAVA_INT // output length wanted
+                ));
     }
 
     /**
@@ -197,6 +229,73 @@ public class KdfNIFFI implements KdfNI
         }
     }
 
+    @Override
+    public int x963kdf(byte[] secret, byte[] sharedInfo, String digest, byte[] out, int outOffset, int outLen)
+    {
+        try (Arena a = Arena.ofConfined())
+        {
+            MemorySegment secretSeg = copyIn(a, secret);
+            MemorySegment infoSeg = copyIn(a, sharedInfo);
+            MemorySegment digestName = (digest == null) ? MemorySegment.NULL : a.allocateFrom(digest);
+            MemorySegment output = outSeg(a, out);
+
+            int ret = (int) x963FuncHandle.invokeExact(
+                    secretSeg, len(secret),
+                    infoSeg, len(sharedInfo),
+                    digestName,
+                    digest == null ? 0L : digestName.byteSize() - 1, // less null terminus
+                    output,
+                    len(out),
+                    outOffset,
+                    outLen
+            );
+
+            copyOutBack(ret, output, out, outOffset, outLen);
+            return ret;
+        }
+        catch (Throwable t)
+        {
+            L.log(Level.WARNING,
+                    "FFI JoKDF_X963", t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+    }
+
+    @Override
+    public int x942kdf(byte[] secret, String cekAlg, byte[] ukm, String digest, byte[] out, int outOffset, int outLen)
+    {
+        try (Arena a = Arena.ofConfined())
+        {
+            MemorySegment secretSeg = copyIn(a, secret);
+            MemorySegment cekName = (cekAlg == null) ? MemorySegment.NULL : a.allocateFrom(cekAlg);
+            MemorySegment ukmSeg = copyIn(a, ukm);
+            MemorySegment digestName = (digest == null) ? MemorySegment.NULL : a.allocateFrom(digest);
+            MemorySegment output = outSeg(a, out);
+
+            int ret = (int) x942FuncHandle.invokeExact(
+                    secretSeg, len(secret),
+                    cekName,
+                    cekAlg == null ? 0L : cekName.byteSize() - 1, // less null terminus
+                    ukmSeg, len(ukm),
+                    digestName,
+                    digest == null ? 0L : digestName.byteSize() - 1, // less null terminus
+                    output,
+                    len(out),
+                    outOffset,
+                    outLen
+            );
+
+            copyOutBack(ret, output, out, outOffset, outLen);
+            return ret;
+        }
+        catch (Throwable t)
+        {
+            L.log(Level.WARNING,
+                    "FFI JoKDF_X942", t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+    }
+
     /**
      * Copy the derived bytes back to the caller's array. The KDF bridges return
      * {@code JO_SUCCESS} (0) and write exactly {@code outLen} bytes at
@@ -77,6 +77,7 @@ public class MemoryHardKdfNIFFI implements MemoryHardKdfNI
                         ValueLayout.JAVA_INT, // iterations
                         ValueLayout.JAVA_INT, // memory cost in KiB
                         ValueLayout.JAVA_INT, // lanes
+                        ValueLayout.JAVA_INT, // threads
                         ValueLayout.ADDRESS, // output
                         ValueLayout.JAVA_LONG, // output_size -- total length of output array
                         ValueLayout.JAVA_INT, // output offset
@@ -117,7 +118,7 @@ public class MemoryHardKdfNIFFI implements MemoryHardKdfNI
 
     @Override
     public int argon2(byte[] password, byte[] salt, int type, int version, int iterations, int memoryKiB,
-                      int lanes, byte[] out, int outOffset, int outLen)
+                      int lanes, int threads, byte[] out, int outOffset, int outLen)
     {
         try (Arena a = Arena.ofConfined())
         {
@@ -133,6 +134,7 @@ public class MemoryHardKdfNIFFI implements MemoryHardKdfNI
                     iterations,
                     memoryKiB,
                     lanes,
+                    threads,
                     output,
                     len(out),
                     outOffset,
@@ -10,6 +10,8 @@
 
 package org.openssl.jostle.jcajce.provider.ks;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
+
 import java.lang.foreign.Arena;
 import java.lang.foreign.FunctionDescriptor;
 import java.lang.foreign.Linker;
@@ -17,8 +19,6 @@ import java.lang.foreign.MemorySegment;
 import java.lang.foreign.SymbolLookup;
 import java.lang.foreign.ValueLayout;
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -46,6 +46,10 @@ public class KSServiceFFI
     private final MethodHandle deleteEntryH;
     private final MethodHandle getAliasesLenH;
     private final MethodHandle getAliasesH;
+    private final MethodHandle getEntriesLenH;
+    private final MethodHandle getEntriesH;
+    private final MethodHandle getEntryLenH;
+    private final MethodHandle getEntryH;
     private final MethodHandle containsAliasH;
     private final MethodHandle sizeH;
     private final MethodHandle isKeyEntryH;
@@ -127,6 +131,22 @@ public class KSServiceFFI
                 lookup.find("JoKS_GetAliases").orElseThrow(),
                 FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.JAVA_LONG),
                 Linker.Option.critical(true));
+        this.getEntriesLenH = linker.downcallHandle(
+                lookup.find("JoKS_GetEntriesLen").orElseThrow(),
+                FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.ADDRESS),
+                Linker.Option.critical(true));
+        this.getEntriesH = linker.downcallHandle(
+                lookup.find("JoKS_GetEntries").orElseThrow(),
+                FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.JAVA_LONG),
+                Linker.Option.critical(true));
+        this.getEntryLenH = linker.downcallHandle(
+                lookup.find("JoKS_GetEntryLen").orElseThrow(),
+                FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.ADDRESS),
+                Linker.Option.critical(true));
+        this.getEntryH = linker.downcallHandle(
+                lookup.find("JoKS_GetEntry").orElseThrow(),
+                FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.JAVA_LONG),
+                Linker.Option.critical(true));
         this.containsAliasH = linker.downcallHandle(
                 lookup.find("JoKS_ContainsAlias").orElseThrow(),
                 FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.ADDRESS),
@@ -158,15 +178,13 @@ public class KSServiceFFI
     // forbidden from a critical downcall. Buffers are passed off-heap (see
     // ni_store), and the trailing ADDRESS before output/err is the entropy
     // upcall stub.
-    private static final FunctionDescriptor entropyFd = EntropyUpcall.DESCRIPTOR;
-    private static final MethodType entropyMt = EntropyUpcall.METHOD_TYPE;
 
     @Override
     public long ni_allocateKeyStore(String type, int[] err)
     {
-        try (Arena arena = Arena.ofConfined())
+        try
         {
-            MemorySegment typeSeg = type == null ? MemorySegment.NULL : arena.allocateFrom(type);
+            MemorySegment typeSeg = FFIScratch.name(type);
             MemorySegment errSeg = errSegment(err);
             MemorySegment ctx = (MemorySegment) allocateH.invokeExact(typeSeg, errSeg);
             return ctx.address();
@@ -280,9 +298,7 @@ public class KSServiceFFI
                 }
                 else
                 {
-                    var gHandle = MethodHandles.lookup().findVirtual(
-                            RandSource.class, "getRandomSegment", entropyMt).bindTo(randSource);
-                    randSeg = linker.upcallStub(gHandle, entropyFd, a);
+                    randSeg = EntropyUpcall.stub(a, randSource);
                 }
 
                 MemorySegment ctx = MemorySegment.ofAddress(ref);
@@ -477,6 +493,57 @@ public class KSServiceFFI
         }
     }
 
+    @Override
+    public byte[] ni_getEntries(long ref, int[] err)
+    {
+        try
+        {
+            MemorySegment errSeg = errSegment(err);
+            MemorySegment ctx = MemorySegment.ofAddress(ref);
+            int len = (int) getEntriesLenH.invokeExact(ctx, errSeg);
+            if (err[0] != 0 || len == 0)
+            {
+                return null;
+            }
+
+            byte[] entries = new byte[len];
+            MemorySegment entriesSeg = MemorySegment.ofArray(entries);
+            err[0] = (int) getEntriesH.invokeExact(ctx, entriesSeg, entriesSeg.byteSize());
+            return err[0] == 0 ? entries : null;
+        }
+        catch (Throwable t)
+        {
+            L.log(Level.WARNING, "FFI JoKS_GetEntries", t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+    }
+
+    @Override
+    public byte[] ni_getEntry(long ref, String alias, int[] err)
+    {
+        try (Arena arena = Arena.ofConfined())
+        {
+            MemorySegment aliasSeg = alias == null ? MemorySegment.NULL : arena.allocateFrom(alias);
+            MemorySegment errSeg = errSegment(err);
+            MemorySegment ctx = MemorySegment.ofAddress(ref);
+            int len = (int) getEntryLenH.invokeExact(ctx, aliasSeg, errSeg);
+            if (err[0] != 0 || len == 0)
+            {
+                return null;
+            }
+
+            byte[] entry = new byte[len];
+            MemorySegment entrySeg = MemorySegment.ofArray(entry);
+            err[0] = (int) getEntryH.invokeExact(ctx, aliasSeg, entrySeg, entrySeg.byteSize());
+            return err[0] == 0 ? entry : null;
+        }
+        catch (Throwable t)
+        {
+            L.log(Level.WARNING, "FFI JoKS_GetEntry", t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+    }
+
     @Override
     public int ni_containsAlias(long ref, String alias)
     {
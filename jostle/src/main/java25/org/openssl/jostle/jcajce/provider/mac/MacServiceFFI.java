@@ -1,7 +1,10 @@
 package org.openssl.jostle.jcajce.provider.mac;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
+
 import java.lang.foreign.*;
 import java.lang.invoke.MethodHandle;
+import java.nio.ByteBuffer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -15,9 +18,13 @@ public class MacServiceFFI implements MacServiceNI
     private final MethodHandle MH_new;
     private final MethodHandle MH_copy;
     private final MethodHandle MH_init;
+    private final MethodHandle MH_initFrom;
     private final MethodHandle MH_updateByte;
     private final MethodHandle MH_update;
+    private final MethodHandle MH_updateBuffer;
     private final MethodHandle MH_final;
+    private final MethodHandle MH_updateFinalReset;
+    private final MethodHandle MH_finalBatch;
     private final MethodHandle MH_len;
     private final MethodHandle MH_lenMeta;
     private final MethodHandle MH_reset;
@@ -57,6 +64,15 @@ public class MacServiceFFI implements MacServiceNI
                         ValueLayout.JAVA_LONG // key len
                 ), Linker.Option.critical(true));
 
+        // Not critical: no heap memory is passed, both arguments are native contexts.
+        MH_initFrom = LINKER.downcallHandle(
+                lookup.find("JoMAC_initFrom").orElseThrow(),
+                FunctionDescriptor.of(
+                        ValueLayout.JAVA_INT,
+                        ValueLayout.ADDRESS, // *ctx
+                        ValueLayout.ADDRESS  // *template
+                ));
+
         MH_updateByte = LINKER.downcallHandle(
                 lookup.find("JoMAC_updateByte").orElseThrow(),
                 FunctionDescriptor.of(
@@ -76,6 +92,19 @@ public class MacServiceFFI implements MacServiceNI
                         ValueLayout.JAVA_INT
                 ), Linker.Option.critical(true));
 
+        // Same symbol, not critical: direct and mapped buffers are off heap and
+        // a long update must not hold off safepoints.
+        MH_updateBuffer = LINKER.downcallHandle(
+                lookup.find("JoMAC_update").orElseThrow(),
+                FunctionDescriptor.of(
+                        ValueLayout.JAVA_INT,
+                        ValueLayout.ADDRESS,
+                        ValueLayout.ADDRESS,
+                        ValueLayout.JAVA_LONG,
+                        ValueLayout.JAVA_INT,
+                        ValueLayout.JAVA_INT
+                ));
+
         MH_final = LINKER.downcallHandle(
                 lookup.find("JoMAC_final").orElseThrow(),
                 FunctionDescriptor.of(
@@ -86,6 +115,35 @@ public class MacServiceFFI implements MacServiceNI
                         ValueLayout.JAVA_INT
                 ), Linker.Option.critical(true));
 
+        MH_updateFinalReset = LINKER.downcallHandle(
+                lookup.find("JoMAC_updateFinalReset").orElseThrow(),
+                FunctionDescriptor.of(
+                        ValueLayout.JAVA_INT,
+                        ValueLayout.ADDRESS, // *ctx
+                        ValueLayout.ADDRESS, // *input
+                        ValueLayout.JAVA_LONG, // input size
+                        ValueLayout.JAVA_INT, // input offset
+                        ValueLayout.JAVA_INT, // input len
+                        ValueLayout.ADDRESS, // *output
+                        ValueLayout.JAVA_LONG, // output size
+                        ValueLayout.JAVA_INT // output offset
+                ), Linker.Option.critical(true));
+
+        MH_finalBatch = LINKER.downcallHandle(
+                lookup.find("JoMAC_finalBatch").orElseThrow(),
+                FunctionDescriptor.of(
+                        ValueLayout.JAVA_INT,
+                        ValueLayout.ADDRESS, // *ctx
+                        ValueLayout.ADDRESS, // *input
+                        ValueLayout.JAVA_LONG, // input size
+                        ValueLayout.ADDRESS, // *spans
+                        ValueLayout.JAVA_LONG, // spans len
+                        ValueLayout.JAVA_INT, // count
+                        ValueLayout.ADDRESS, // *output
+                        ValueLayout.JAVA_LONG, // output size
+                        ValueLayout.JAVA_INT // output offset
+                ), Linker.Option.critical(true));
+
         MH_len = LINKER.downcallHandle(
                 lookup.find("JoMAC_len").orElseThrow(),
                 FunctionDescriptor.of(
@@ -116,11 +174,11 @@ public class MacServiceFFI implements MacServiceNI
     @Override
     public long ni_allocateMac(String macName, String functionName, int[] err)
     {
-        try (Arena arena = Arena.ofConfined())
+        try
         {
-            MemorySegment typeSeg = macName == null ? MemorySegment.NULL : arena.allocateFrom(macName);
-            MemorySegment functionSeg = functionName == null ? MemorySegment.NULL : arena.allocateFrom(functionName);
-            MemorySegment errSeg = arena.allocate(ValueLayout.JAVA_INT);
+            MemorySegment typeSeg = FFIScratch.name(macName);
+            MemorySegment functionSeg = FFIScratch.name(functionName);
+            MemorySegment errSeg = FFIScratch.errorSlot();
             MemorySegment outPtr = (MemorySegment) MH_new.invokeExact(typeSeg, functionSeg, errSeg);
             err[0] = errSeg.getAtIndex(ValueLayout.JAVA_INT, 0);
             return outPtr.address();
@@ -135,12 +193,11 @@ public class MacServiceFFI implements MacServiceNI
     @Override
     public long ni_copyMac(long ref, int[] err)
     {
-        // NOT critical: mac_copy allocates and calls into OpenSSL, and the err
-        // out-parameter is read back after the call, so the confined-arena copy
-        // is the correct marshalling (mirrors ni_allocateMac).
-        try (Arena arena = Arena.ofConfined())
+        // NOT critical: mac_copy allocates and calls into OpenSSL, the err
+        // out-parameter is the thread's native scratch slot (mirrors ni_allocateMac).
+        try
         {
-            MemorySegment errSeg = arena.allocate(ValueLayout.JAVA_INT);
+            MemorySegment errSeg = FFIScratch.errorSlot();
             MemorySegment outPtr = (MemorySegment) MH_copy.invokeExact(
                     MemorySegment.ofAddress(ref), errSeg);
             err[0] = errSeg.getAtIndex(ValueLayout.JAVA_INT, 0);
@@ -168,6 +225,20 @@ public class MacServiceFFI implements MacServiceNI
         }
     }
 
+    @Override
+    public int ni_initFrom(long ref, long templateRef)
+    {
+        try
+        {
+            return (int) MH_initFrom.invokeExact(MemorySegment.ofAddress(ref), MemorySegment.ofAddress(templateRef));
+        }
+        catch (Throwable t)
+        {
+            L.log(Level.WARNING, "FFI MAC_initFrom", t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+    }
+
     @Override
     public int ni_updateByte(long ref, byte b)
     {
@@ -197,6 +268,21 @@ public class MacServiceFFI implements MacServiceNI
         }
     }
 
+    @Override
+    public int ni_updateBuffer(long ref, ByteBuffer in, int inOff, int inLen)
+    {
+        try
+        {
+            MemorySegment input = in == null ? MemorySegment.NULL : MemorySegment.ofBuffer(in.duplicate().clear());
+            return (int) MH_updateBuffer.invokeExact(MemorySegment.ofAddress(ref), input, input.byteSize(), inOff, inLen);
+        }
+        catch (Throwable t)
+        {
+            L.log(Level.WARNING, "FFI MAC_updateBuffer", t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+    }
+
     @Override
     public int ni_doFinal(long ref, byte[] out, int outOff)
     {
@@ -212,6 +298,43 @@ public class MacServiceFFI implements MacServiceNI
         }
     }
 
+    @Override
+    public int ni_updateDoFinalReset(long ref, byte[] in, int inOff, int inLen, byte[] out, int outOff)
+    {
+        try
+        {
+            MemorySegment input = in == null ? MemorySegment.NULL : MemorySegment.ofArray(in);
+            MemorySegment output = out == null ? MemorySegment.NULL : MemorySegment.ofArray(out);
+            return (int) MH_updateFinalReset.invokeExact(MemorySegment.ofAddress(ref),
+                    input, input.byteSize(), inOff, inLen,
+                    output, output.byteSize(), outOff);
+        }
+        catch (Throwable t)
+        {
+            L.log(Level.WARNING, "FFI MAC_updateFinalReset", t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+    }
+
+    @Override
+    public int ni_doFinalBatch(long ref, byte[] in, int[] spans, int count, byte[] out, int outOff)
+    {
+        try
+        {
+            MemorySegment input = in == null ? MemorySegment.NULL : MemorySegment.ofArray(in);
+            MemorySegment spanSeg = spans == null ? MemorySegment.NULL : MemorySegment.ofArray(spans);
+            MemorySegment output = out == null ? MemorySegment.NULL : MemorySegment.ofArray(out);
+            return (int) MH_finalBatch.invokeExact(MemorySegment.ofAddress(ref),
+                    input, input.byteSize(), spanSeg, spans == null ? 0L : (long) spans.length, count,
+                    output, output.byteSize(), outOff);
+        }
+        catch (Throwable t)
+        {
+            L.log(Level.WARNING, "FFI MAC_finalBatch", t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+    }
+
     @Override
     public int ni_getMacLength(long ref)
     {
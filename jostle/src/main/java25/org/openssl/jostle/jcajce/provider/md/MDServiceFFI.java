@@ -11,8 +11,11 @@
 
 package org.openssl.jostle.jcajce.provider.md;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
+
 import java.lang.foreign.*;
 import java.lang.invoke.MethodHandle;
+import java.nio.ByteBuffer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -34,10 +37,13 @@ public class MDServiceFFI implements MDServiceNI
     private final MethodHandle copyDigestFuncHandle;
     private final MethodHandle updateByteFuncHandle;
     private final MethodHandle updateBytesFuncHandle;
+    private final MethodHandle updateBufferFuncHandle;
     private final MethodHandle disposeFuncHandle;
     private final MethodHandle digestLenFuncHandle;
     private final MethodHandle digestBytesFuncHandle;
     private final MethodHandle resetFuncHandle;
+    private final MethodHandle updateDigestResetFuncHandle;
+    private final MethodHandle digestBatchFuncHandle;
 
 
     public MDServiceFFI()
@@ -84,6 +90,19 @@ public class MDServiceFFI implements MDServiceNI
                 ), Linker.Option.critical(true)
         );
 
+        // Same symbol, not critical: direct and mapped buffers are off heap and
+        // a long update must not hold off safepoints.
+        updateBufferFuncHandle = linker.downcallHandle(lookup.find("JoMD_UpdateBytes").orElseThrow(),
+                FunctionDescriptor.of(
+                        ValueLayout.JAVA_INT, // return value
+                        ValueLayout.ADDRESS, // md_ctx *
+                        ValueLayout.ADDRESS, // uint8_t *input
+                        ValueLayout.JAVA_LONG, //size_t input_size
+                        ValueLayout.JAVA_INT,// in_off
+                        ValueLayout.JAVA_INT // in_len
+                )
+        );
+
         disposeFuncHandle = linker.downcallHandle(lookup.find("JoMD_Dispose").orElseThrow(),
                 FunctionDescriptor.ofVoid(
                         ValueLayout.ADDRESS // md_ctx *
@@ -107,22 +126,51 @@ public class MDServiceFFI implements MDServiceNI
                         ValueLayout.JAVA_INT // out_len
                 ), Linker.Option.critical(true));
 
+        digestBatchFuncHandle = linker.downcallHandle(lookup.find("JoMD_DigestBatch").orElseThrow(),
+                FunctionDescriptor.of(
+                        ValueLayout.JAVA_INT, // return value
+                        ValueLayout.ADDRESS, // md_ctx *
+                        ValueLayout.ADDRESS, // uint8_t *input
+                        ValueLayout.JAVA_LONG, // size_t input_size
+                        ValueLayout.ADDRESS, // int32_t *spans
+                        ValueLayout.JAVA_LONG, // size_t spans_len
+                        ValueLayout.JAVA_INT, // count
+                        ValueLayout.ADDRESS, // uint8_t *output
+                        ValueLayout.JAVA_LONG, // size_t output_size
+                        ValueLayout.JAVA_INT // out_off
+                ), Linker.Option.critical(true));
+
         resetFuncHandle = linker.downcallHandle(lookup.find("JoMD_Reset").orElseThrow(),
                 FunctionDescriptor.of(
                         ValueLayout.JAVA_INT, // return value
                         ValueLayout.ADDRESS // md_ctx *
                 )
         );
+
+        updateDigestResetFuncHandle = linker.downcallHandle(lookup.find("JoMD_UpdateDigestReset").orElseThrow(),
+                FunctionDescriptor.of(
+                        ValueLayout.JAVA_INT, // return value
+                        ValueLayout.ADDRESS, // md_ctx *
+                        ValueLayout.ADDRESS, // uint8_t *input
+                        ValueLayout.JAVA_LONG, // size_t input_size
+                        ValueLayout.JAVA_INT, // in_off
+                        ValueLayout.JAVA_INT, // in_len
+                        ValueLayout.ADDRESS, // uint8_t *output
+                        ValueLayout.JAVA_LONG, // size_t output_size
+                        ValueLayout.JAVA_INT, // out_off
+                        ValueLayout.JAVA_INT // out_len
+                ), Linker.Option.critical(true));
     }
 
     @Override
     public long ni_allocateDigest(String name, int xofLen, int[] err)
     {
-        try (var a = Arena.ofConfined())
+        try
         {
-            var nameSeg = name == null ? MemorySegment.NULL : a.allocateFrom(name);
-            var errSeg = MemorySegment.ofArray(err);
+            var nameSeg = FFIScratch.name(name);
+            var errSeg = FFIScratch.errorSlot();
             var ctxSeg = (MemorySegment) allocateDigestFuncHandle.invokeExact(nameSeg, xofLen, errSeg);
+            err[0] = errSeg.get(ValueLayout.JAVA_INT, 0);
             return ctxSeg.address();
         }
         catch (Throwable t)
@@ -188,6 +236,28 @@ public class MDServiceFFI implements MDServiceNI
         }
     }
 
+    @Override
+    public int ni_updateBuffer(long ref, ByteBuffer input, int offset, int len)
+    {
+        try
+        {
+            var inSeg = input == null ?
+                    MemorySegment.NULL :
+                    MemorySegment.ofBuffer(input.duplicate().clear());
+            return (int) updateBufferFuncHandle.invokeExact(
+                    MemorySegment.ofAddress(ref),
+                    inSeg,
+                    inSeg.byteSize(),
+                    offset,
+                    len);
+        }
+        catch (Throwable t)
+        {
+            L.log(Level.WARNING, "FFI MD_UpdateBuffer", t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+    }
+
     @Override
     public void ni_dispose(long reference)
     {
@@ -252,4 +322,67 @@ public class MDServiceFFI implements MDServiceNI
             throw new RuntimeException(t.getMessage(), t);
         }
     }
+
+    @Override
+    public int ni_updateDigestReset(long ref, byte[] in, int inOff, int inLen, byte[] out, int outOff, int outLen)
+    {
+        try
+        {
+            var inSeg = in == null ?
+                    MemorySegment.NULL :
+                    MemorySegment.ofArray(in);
+            var outSeg = out == null ?
+                    MemorySegment.NULL :
+                    MemorySegment.ofArray(out);
+
+            return (int) updateDigestResetFuncHandle.invokeExact(
+                    MemorySegment.ofAddress(ref),
+                    inSeg,
+                    inSeg.byteSize(),
+                    inOff, inLen,
+                    outSeg,
+                    outSeg.byteSize(),
+                    outOff, outLen
+            );
+        }
+        catch (Throwable t)
+        {
+            L.log(Level.WARNING, "FFI MD_UpdateDigestReset", t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+    }
+
+    @Override
+    public int ni_digestBatch(long ref, byte[] in, int[] spans, int count, byte[] out, int outOff)
+    {
+        try
+        {
+            var inSeg = in == null ?
+                    MemorySegment.NULL :
+                    MemorySegment.ofArray(in);
+            var spansSeg = spans == null ?
+                    MemorySegment.NULL :
+                    MemorySegment.ofArray(spans);
+            var outSeg = out == null ?
+                    MemorySegment.NULL :
+                    MemorySegment.ofArray(out);
+
+            return (int) digestBatchFuncHandle.invokeExact(
+                    MemorySegment.ofAddress(ref),
+                    inSeg,
+                    inSeg.byteSize(),
+                    spansSeg,
+                    spans == null ? 0L : (long) spans.length,
+                    count,
+                    outSeg,
+                    outSeg.byteSize(),
+                    outOff
+            );
+        }
+        catch (Throwable t)
+        {
+            L.log(Level.WARNING, "FFI MD_DigestBatch", t);
+            throw new RuntimeException(t.getMessage(), t);
+        }
+    }
 }
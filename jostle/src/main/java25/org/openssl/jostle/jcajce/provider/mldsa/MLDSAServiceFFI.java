@@ -11,13 +11,12 @@
 
 package org.openssl.jostle.jcajce.provider.mldsa;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
 import org.openssl.jostle.rand.EntropyUpcall;
 import org.openssl.jostle.rand.RandSource;
 
 import java.lang.foreign.*;
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -70,9 +69,6 @@ public class MLDSAServiceFFI implements MLDSAServiceNI
     private static final MemorySegment verifierFunc;
     private static final MethodHandle verifierFuncHandle;
 
-    private static final FunctionDescriptor entropyFd;
-    private static final MethodType entropyMt;
-
 
     static
     {
@@ -222,13 +218,6 @@ public class MLDSAServiceFFI implements MLDSAServiceNI
                         ValueLayout.JAVA_LONG,
                         ValueLayout.JAVA_INT
                 ), Linker.Option.critical(true));
-
-
-        entropyFd = EntropyUpcall.DESCRIPTOR;
-
-        entropyMt = EntropyUpcall.METHOD_TYPE;
-
-
     }
 
 
@@ -244,11 +233,7 @@ public class MLDSAServiceFFI implements MLDSAServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
             MemorySegment retCodeRef = a.allocate(ValueLayout.JAVA_INT);
             MemorySegment segment = (MemorySegment) generateKeyPairFuncHandle.invokeExact(type, retCodeRef, getEntropySegment);
@@ -277,11 +262,7 @@ public class MLDSAServiceFFI implements MLDSAServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(rndSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, rndSource);
             }
 
             MemorySegment retCodeRef = a.allocate(ValueLayout.JAVA_INT);
@@ -426,9 +407,9 @@ public class MLDSAServiceFFI implements MLDSAServiceNI
     @Override
     public long ni_allocateSigner(int[] err)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
-            MemorySegment errSeg = a.allocate(ValueLayout.JAVA_INT);
+            MemorySegment errSeg = FFIScratch.errorSlot();
             MemorySegment segment = (MemorySegment) allocSignerFuncHandle.invokeExact(errSeg);
             err[0] = errSeg.getAtIndex(ValueLayout.JAVA_INT, 0);
             return segment.address();
@@ -477,11 +458,7 @@ public class MLDSAServiceFFI implements MLDSAServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
 
             MemorySegment ctx = MemorySegment.ofAddress(ref);
@@ -535,11 +512,7 @@ public class MLDSAServiceFFI implements MLDSAServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
             MemorySegment ctx = MemorySegment.ofAddress(ref);
 
@@ -16,8 +16,6 @@ import org.openssl.jostle.rand.RandSource;
 
 import java.lang.foreign.*;
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -51,9 +49,6 @@ public class MLKEMServiceFFI implements MLKEMServiceNI
     private static final MemorySegment decodePrivateKeyFunc;
     private static final MethodHandle decodePrivateKeyFuncHandle;
 
-    private static final FunctionDescriptor entropyFd;
-    private static final MethodType entropyMt;
-
 
     static
     {
@@ -132,8 +127,6 @@ public class MLKEMServiceFFI implements MLKEMServiceNI
                         ValueLayout.ADDRESS
                 ));
 
-        entropyFd = EntropyUpcall.DESCRIPTOR;
-        entropyMt = EntropyUpcall.METHOD_TYPE;
     }
 
 
@@ -150,11 +143,7 @@ public class MLKEMServiceFFI implements MLKEMServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
 
 
@@ -188,11 +177,7 @@ public class MLKEMServiceFFI implements MLKEMServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
             if (seed != null)
             {
@@ -297,11 +282,7 @@ public class MLKEMServiceFFI implements MLKEMServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
 
             return (int) decodePublicKeyFuncHandle.invokeExact(keySpec, keyType, inputRef, inputRef.byteSize(), inputOffset, inputLen, getEntropySegment);
@@ -333,11 +314,7 @@ public class MLKEMServiceFFI implements MLKEMServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
 
             return (int) decodePrivateKeyFuncHandle.invokeExact(keySpec, keyType, inputRef, inputRef.byteSize(), inputOffset, inputLen, getEntropySegment);
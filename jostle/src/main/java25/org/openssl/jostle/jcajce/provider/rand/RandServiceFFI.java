@@ -11,6 +11,8 @@
 
 package org.openssl.jostle.jcajce.provider.rand;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
+
 import java.lang.foreign.FunctionDescriptor;
 import java.lang.foreign.Arena;
 import java.lang.foreign.Linker;
@@ -152,6 +154,8 @@ public class RandServiceFFI implements RandServiceNI
     public int ni_contextRandomBytes(long reference, byte[] output, int outputLen, int strength,
                                      boolean predictionResistant, byte[] additionalInput)
     {
+        // Not FFIScratch: a DRBG fed by an EntropyUpcall or a foreign RandSource
+        // calls back into Java mid generate and may draw on this thread again.
         try (Arena a = Arena.ofConfined())
         {
             MemorySegment outputSeg = output == null ?
@@ -210,10 +214,10 @@ public class RandServiceFFI implements RandServiceNI
     @Override
     public int ni_drbgStrength(String mechanism, String variant)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
-            MemorySegment mechanismSeg = mechanism == null ? MemorySegment.NULL : a.allocateFrom(mechanism);
-            MemorySegment variantSeg = variant == null ? MemorySegment.NULL : a.allocateFrom(variant);
+            MemorySegment mechanismSeg = FFIScratch.name(mechanism);
+            MemorySegment variantSeg = FFIScratch.name(variant);
 
             return (int) drbgStrengthFuncHandle.invokeExact(mechanismSeg, variantSeg);
         }
@@ -11,6 +11,7 @@
 
 package org.openssl.jostle.jcajce.provider.rsa;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
 import org.openssl.jostle.rand.EntropyUpcall;
 import org.openssl.jostle.rand.RandSource;
 
@@ -21,8 +22,6 @@ import java.lang.foreign.MemorySegment;
 import java.lang.foreign.SymbolLookup;
 import java.lang.foreign.ValueLayout;
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -43,10 +42,6 @@ public class RSAPKCS1CipherFFI implements RSAPKCS1CipherNI
     private final MethodHandle initH;
     private final MethodHandle doFinalH;
 
-    // Lookup-independent constants for the RandSource entropy upcall stub.
-    private static final FunctionDescriptor entropyFd = EntropyUpcall.DESCRIPTOR;
-    private static final MethodType entropyMt = EntropyUpcall.METHOD_TYPE;
-
 
     public RSAPKCS1CipherFFI()
     {
@@ -99,10 +94,7 @@ public class RSAPKCS1CipherFFI implements RSAPKCS1CipherNI
         }
         try
         {
-            MethodHandle h = MethodHandles.lookup()
-                    .findVirtual(RandSource.class, "getRandomSegment", entropyMt)
-                    .bindTo(src);
-            return linker.upcallStub(h, entropyFd, arena);
+            return EntropyUpcall.stub(arena, src);
         }
         catch (Throwable t)
         {
@@ -114,9 +106,9 @@ public class RSAPKCS1CipherFFI implements RSAPKCS1CipherNI
     @Override
     public long ni_allocateCipher(int[] err)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
-            MemorySegment errSeg = a.allocate(ValueLayout.JAVA_INT);
+            MemorySegment errSeg = FFIScratch.errorSlot();
             MemorySegment ref = (MemorySegment) allocCipherH.invokeExact(errSeg);
             err[0] = errSeg.get(ValueLayout.JAVA_INT, 0);
             return ref.address();
@@ -11,6 +11,7 @@
 
 package org.openssl.jostle.jcajce.provider.rsa;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
 import org.openssl.jostle.rand.EntropyUpcall;
 import org.openssl.jostle.rand.RandSource;
 
@@ -21,8 +22,6 @@ import java.lang.foreign.MemorySegment;
 import java.lang.foreign.SymbolLookup;
 import java.lang.foreign.ValueLayout;
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -54,11 +53,6 @@ public class RSAServiceFFI implements RSAServiceNI
     private final MethodHandle signH;
     private final MethodHandle verifyH;
 
-    // Entropy upcall stub descriptor (shared with EdDSA's pattern).
-    // Lookup-independent constants for the RandSource entropy upcall stub.
-    private static final FunctionDescriptor entropyFd = EntropyUpcall.DESCRIPTOR;
-    private static final MethodType entropyMt = EntropyUpcall.METHOD_TYPE;
-
 
     public RSAServiceFFI()
     {
@@ -208,10 +202,7 @@ public class RSAServiceFFI implements RSAServiceNI
         }
         try
         {
-            MethodHandle h = MethodHandles.lookup()
-                    .findVirtual(RandSource.class, "getRandomSegment", entropyMt)
-                    .bindTo(src);
-            return linker.upcallStub(h, entropyFd, arena);
+            return EntropyUpcall.stub(arena, src);
         }
         catch (Throwable t)
         {
@@ -227,9 +218,9 @@ public class RSAServiceFFI implements RSAServiceNI
     @Override
     public long ni_allocateSigner(int[] err)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
-            MemorySegment errSeg = a.allocate(ValueLayout.JAVA_INT);
+            MemorySegment errSeg = FFIScratch.errorSlot();
             MemorySegment ref = (MemorySegment) allocSignerH.invokeExact(errSeg);
             err[0] = errSeg.get(ValueLayout.JAVA_INT, 0);
             return ref.address();
@@ -424,12 +415,12 @@ public class RSAServiceFFI implements RSAServiceNI
     public int ni_initVerify(long ref, long keyRef, String digestName,
                              int paddingMode, String mgf1MdName, int saltLen)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
             MemorySegment ctx = MemorySegment.ofAddress(ref);
             MemorySegment key = MemorySegment.ofAddress(keyRef);
-            MemorySegment digestSeg = digestName == null ? MemorySegment.NULL : a.allocateFrom(digestName);
-            MemorySegment mgfSeg = mgf1MdName == null ? MemorySegment.NULL : a.allocateFrom(mgf1MdName);
+            MemorySegment digestSeg = FFIScratch.name(digestName);
+            MemorySegment mgfSeg = FFIScratch.name(mgf1MdName);
 
             return (int) initVerifyH.invokeExact(ctx, key,
                     digestSeg, paddingMode,
@@ -11,13 +11,12 @@
 
 package org.openssl.jostle.jcajce.provider.slhdsa;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
 import org.openssl.jostle.rand.EntropyUpcall;
 import org.openssl.jostle.rand.RandSource;
 
 import java.lang.foreign.*;
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -67,9 +66,6 @@ public class SLHDSAServiceFFI implements SLHDSAServiceNI
     private static final MemorySegment verifierFunc;
     private static final MethodHandle verifierFuncHandle;
 
-    private static final FunctionDescriptor entropyFd;
-    private static final MethodType entropyMt;
-
 
     static
     {
@@ -214,10 +210,6 @@ public class SLHDSAServiceFFI implements SLHDSAServiceNI
                         ValueLayout.JAVA_LONG,
                         ValueLayout.JAVA_INT
                 ), Linker.Option.critical(true));
-
-        entropyFd = EntropyUpcall.DESCRIPTOR;
-
-        entropyMt = EntropyUpcall.METHOD_TYPE;
     }
 
     @Override
@@ -234,11 +226,7 @@ public class SLHDSAServiceFFI implements SLHDSAServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
 
             MemorySegment segment = (MemorySegment) generateKeyPairFuncHandle.invokeExact(type, retCodeRef, getEntropySegment);
@@ -269,11 +257,7 @@ public class SLHDSAServiceFFI implements SLHDSAServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
 
             if (seed != null)
@@ -382,9 +366,9 @@ public class SLHDSAServiceFFI implements SLHDSAServiceNI
     @Override
     public long ni_allocateSigner(int[] err)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
-            MemorySegment retCode = a.allocate(ValueLayout.JAVA_INT);
+            MemorySegment retCode = FFIScratch.errorSlot();
             MemorySegment segment = (MemorySegment) allocSignerFuncHandle.invokeExact(retCode);
             err[0] = retCode.get(ValueLayout.JAVA_INT, 0);
             return segment.address();
@@ -451,11 +435,7 @@ public class SLHDSAServiceFFI implements SLHDSAServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
 
             MemorySegment ctx = MemorySegment.ofAddress(ref);
@@ -512,11 +492,7 @@ public class SLHDSAServiceFFI implements SLHDSAServiceNI
             }
             else
             {
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
 
             MemorySegment ctx = MemorySegment.ofAddress(reference);
@@ -12,13 +12,12 @@
 package org.openssl.jostle.jcajce.spec;
 
 import org.openssl.jostle.jcajce.provider.ErrorCode;
+import org.openssl.jostle.jcajce.provider.FFIScratch;
 import org.openssl.jostle.rand.EntropyUpcall;
 import org.openssl.jostle.rand.RandSource;
 
 import java.lang.foreign.*;
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -39,9 +38,6 @@ public class SpecFFI implements SpecNI
 
     private final MethodHandle getNameFuncHandle;
 
-    // Lookup-independent constants for the RandSource entropy upcall stub.
-    private static final FunctionDescriptor entropyFd = EntropyUpcall.DESCRIPTOR;
-    private static final MethodType entropyMt = EntropyUpcall.METHOD_TYPE;
 
     public SpecFFI()
     {
@@ -118,9 +114,9 @@ public class SpecFFI implements SpecNI
     @Override
     public long ni_allocate(int[] err)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
-            MemorySegment retCode = a.allocate(ValueLayout.JAVA_INT);
+            MemorySegment retCode = FFIScratch.errorSlot();
             MemorySegment addr = (MemorySegment) allocateFuncHandle.invokeExact(retCode);
             int code = retCode.get(ValueLayout.JAVA_INT, 0);
             // Mirror the JNI bridge, which writes the status into err[0] via
@@ -225,16 +221,7 @@ public class SpecFFI implements SpecNI
             }
             else
             {
-                // Resolve against the RandSource interface, not the concrete
-                // class: getRandomSegment is a public interface default, and a
-                // findVirtual on an inaccessible concrete implementation would
-                // throw IllegalAccessException. bindTo still binds the actual
-                // instance, so a subclass override dispatches virtually.
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
 
 
@@ -306,16 +293,7 @@ public class SpecFFI implements SpecNI
             }
             else
             {
-                // Resolve against the RandSource interface, not the concrete
-                // class: getRandomSegment is a public interface default, and a
-                // findVirtual on an inaccessible concrete implementation would
-                // throw IllegalAccessException. bindTo still binds the actual
-                // instance, so a subclass override dispatches virtually.
-                var gHandle = MethodHandles.lookup().findVirtual(
-                        RandSource.class,
-                        "getRandomSegment",
-                        entropyMt).bindTo(randSource);
-                getEntropySegment = linker.upcallStub(gHandle, entropyFd, a);
+                getEntropySegment = EntropyUpcall.stub(a, randSource);
             }
 
             int r = (int) decapFuncHandle.invokeExact(ref, optRef, inputRef, inputRef.byteSize(), inOff, inLen, outRef, outRef.byteSize(), off, len, getEntropySegment);
@@ -11,10 +11,15 @@
 
 package org.openssl.jostle.rand;
 
+import java.lang.foreign.Arena;
 import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
 
 /**
  * Single source of truth for the {@link RandSource} entropy up-call ABI shared
@@ -31,6 +36,12 @@ import java.lang.invoke.MethodType;
  * {@code int32_t (*)(uint8_t *out, size_t len, int32_t strength, int32_t predictionResistance)}.
  * Java-25 only (FFI), so it lives alongside the Java-25 {@code RandSource}
  * override.
+ *
+ * <p>{@link #stub} is the one place the entropy argument for a native call is
+ * made. A {@link DefaultRandSource} over a JSL DRBG is passed as that DRBG's
+ * address with the low bit set ({@code RAND_UP_CALL_DIRECT_TAG} in
+ * {@code rand_upcall_ffi.h}) and the native side draws from it without an
+ * up-call; anything else gets an up-call stub.
  */
 public final class EntropyUpcall
 {
@@ -53,4 +64,50 @@ public final class EntropyUpcall
             long.class,          // len
             int.class,           // strength
             int.class);          // prediction resistance
+
+    private static final long DIRECT_TAG = 1;
+
+    // Resolved against the RandSource interface, not the concrete class:
+    // getRandomSegment is a public interface default, and a findVirtual on an
+    // inaccessible concrete implementation would throw IllegalAccessException.
+    // bindTo still binds the actual instance, so a subclass override
+    // dispatches virtually.
+    private static final MethodHandle GET_RANDOM_SEGMENT;
+
+    static
+    {
+        try
+        {
+            GET_RANDOM_SEGMENT = MethodHandles.lookup().findVirtual(RandSource.class, "getRandomSegment", METHOD_TYPE);
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The entropy argument for a native call that draws from randSource,
+     * valid until arena is closed.
+     *
+     * @param arena      scope of the native call
+     * @param randSource the source, must not be null
+     * @return a tagged DRBG address or an up-call stub
+     */
+    public static MemorySegment stub(Arena arena, RandSource randSource)
+    {
+        if (randSource instanceof DefaultRandSource)
+        {
+            long drbg = ((DefaultRandSource) randSource).nativeDrbg();
+            if (drbg != 0)
+            {
+                // The cleanup keeps randSource, and through its SecureRandom
+                // the DRBG, reachable until the arena closes.
+                return MemorySegment.ofAddress(drbg | DIRECT_TAG)
+                        .reinterpret(arena, seg -> Reference.reachabilityFence(randSource));
+            }
+        }
+
+        return Linker.nativeLinker().upcallStub(GET_RANDOM_SEGMENT.bindTo(randSource), DESCRIPTOR, arena);
+    }
 }
@@ -11,6 +11,8 @@
 
 package org.openssl.jostle.util.asn1;
 
+import org.openssl.jostle.jcajce.provider.FFIScratch;
+
 import java.lang.foreign.*;
 import java.lang.invoke.MethodHandle;
 import java.util.logging.Level;
@@ -115,9 +117,9 @@ public class Asn1NIFFI implements Asn1Ni
     @Override
     public long ni_allocate(int[] err)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
-            MemorySegment errSeg = a.allocate(ValueLayout.JAVA_INT);
+            MemorySegment errSeg = FFIScratch.errorSlot();
             MemorySegment addr = (MemorySegment) allocateFuncHandle.invokeExact(errSeg);
             err[0] = errSeg.getAtIndex(ValueLayout.JAVA_INT, 0);
             return addr.address();
@@ -170,7 +172,7 @@ public class Asn1NIFFI implements Asn1Ni
     @Override
     public int ni_encodePrivateKey(long ref, long keyRef, String option)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
             MemorySegment opt;
             long optSize;
@@ -181,7 +183,7 @@ public class Asn1NIFFI implements Asn1Ni
             }
             else
             {
-                opt = a.allocateFrom(option);
+                opt = FFIScratch.name(option);
                 optSize = opt.byteSize();
             }
             return (int) encodePrivateKeyFuncHandle.invokeExact(MemorySegment.ofAddress(ref), MemorySegment.ofAddress(keyRef), opt, optSize);
@@ -218,10 +220,10 @@ public class Asn1NIFFI implements Asn1Ni
     @Override
     public long ni_fromPrivateKeyInfo(byte[] data, int start, int len)
     {
-        try (Arena a = Arena.ofConfined())
+        try
         {
             MemorySegment inputSegment = data == null ? MemorySegment.NULL : MemorySegment.ofArray(data);
-            MemorySegment errorCodeRcvr = a.allocate(ValueLayout.JAVA_INT);
+            MemorySegment errorCodeRcvr = FFIScratch.errorSlot();
             MemorySegment ptr = (MemorySegment) fromPrivateKeyInfoFuncHandle.invokeExact(
                     inputSegment,
                     inputSegment.byteSize(),
@@ -254,10 +256,10 @@ public class Asn1NIFFI implements Asn1Ni
     public long ni_fromPublicKeyInfo(byte[] data, int start, int len)
     {
 
-        try (Arena a = Arena.ofConfined())
+        try
         {
             MemorySegment inputSegment = data == null ? MemorySegment.NULL : MemorySegment.ofArray(data);
-            MemorySegment errorCodeRcvr = a.allocate(ValueLayout.JAVA_INT);
+            MemorySegment errorCodeRcvr = FFIScratch.errorSlot();
             MemorySegment ptr = (MemorySegment) fromPublicKeyInfoFuncHandle.invokeExact(
                     inputSegment,
                     inputSegment.byteSize(),
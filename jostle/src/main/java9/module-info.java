@@ -1,5 +1,6 @@
 module org.openssl.jostle.prov {
     requires java.logging;
+    requires static java.management;
 
     provides java.security.Provider with org.openssl.jostle.jcajce.provider.JostleProvider,
             org.openssl.jostle.jcajce.provider.fips.JostleFIPSProvider;
@@ -41,8 +41,8 @@ import java.util.Locale;
 public class CCMCipherSpi extends CipherSpi
 {
     // Instance field, not a NISelector static: the SPI is bound to whichever
-    // NI backend its provider passes in - NISelector.CCMCipherNI for JSL,
-    // FIPSNISelector.CCMCipherNI (the FIPS interface library) for JSLFIPS.
+    // NI backend its provider passes in - NISelector.getCCMCipherNI() for JSL,
+    // FIPSNISelector.getCCMCipherNI() (the FIPS interface library) for JSLFIPS.
     private final CCMCipherNI cipherNI;
 
     /** CCM nonce length range, NIST SP 800-38C §6.1: 7..13 bytes. */
@@ -97,7 +97,7 @@ public class CCMCipherSpi extends CipherSpi
 
     public CCMCipherSpi(CipherFamily family)
     {
-        this(NISelector.CCMCipherNI, family);
+        this(NISelector.getCCMCipherNI(), family);
     }
 
     public CCMCipherSpi(CCMCipherNI cipherNI, CipherFamily family)
@@ -40,7 +40,7 @@ class JODHPrivateKey extends AsymmetricKeyImpl implements DHPrivateKey, DHKey, O
 
     JODHPrivateKey(PKEYKeySpec spec)
     {
-        this(NISelector.DHServiceNI, NISelector.Asn1NI, spec);
+        this(NISelector.getDHServiceNI(), NISelector.getAsn1NI(), spec);
     }
 
     JODHPrivateKey(DHServiceNI dhServiceNI, Asn1Ni asn1NI, PKEYKeySpec spec)
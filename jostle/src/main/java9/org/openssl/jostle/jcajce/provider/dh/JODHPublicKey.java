@@ -39,7 +39,7 @@ class JODHPublicKey extends AsymmetricKeyImpl implements DHPublicKey, DHKey, OSS
 
     JODHPublicKey(PKEYKeySpec spec)
     {
-        this(NISelector.DHServiceNI, NISelector.Asn1NI, spec);
+        this(NISelector.getDHServiceNI(), NISelector.getAsn1NI(), spec);
     }
 
     JODHPublicKey(DHServiceNI dhServiceNI, Asn1Ni asn1NI, PKEYKeySpec spec)
@@ -52,10 +52,14 @@ public class DSASignatureSpi extends SignatureSpi
     private RandSource randSource = DefaultRandSource.wrap(CryptoServicesRegistrar.getSecureRandom());
     private Object lastKey = null;
 
+    // Sized to the maximum signature length of lastKey by the first sign,
+    // later signatures with the same key are one native call.
+    private byte[] sigBuf = null;
+
 
     public DSASignatureSpi(String digestName)
     {
-        this(NISelector.DSAServiceNI, new DSAKeyFactorySpi(), digestName);
+        this(NISelector.getDSAServiceNI(), new DSAKeyFactorySpi(), digestName);
     }
 
     public DSASignatureSpi(DSAServiceNI dsaServiceNI, DSAKeyFactorySpi keyFactory, String digestName)
@@ -85,7 +89,7 @@ public class DSASignatureSpi extends SignatureSpi
         }
         try
         {
-            Key translated = keyFactory.engineTranslateKey(publicKey);
+            Key translated = keyFactory.translatePublicKey(publicKey);
             if (translated instanceof JODSAPublicKey)
             {
                 return (JODSAPublicKey) translated;
@@ -159,6 +163,10 @@ public class DSASignatureSpi extends SignatureSpi
         try
         {
             JODSAPrivateKey key = importPrivate(privateKey);
+            if (key != lastKey)
+            {
+                sigBuf = null;
+            }
             lastKey = key;
             initSignInternal(key);
         }
@@ -215,20 +223,17 @@ public class DSASignatureSpi extends SignatureSpi
         requireInitialised();
         try
         {
-            int upperBound = dsaServiceNI.sign(ref.getReference(), null, 0, randSource);
-            byte[] sig = new byte[upperBound];
-            int actualLen = dsaServiceNI.sign(ref.getReference(), sig, 0, randSource);
-            if (actualLen == sig.length)
+            if (sigBuf == null)
             {
-                return sig;
+                sigBuf = new byte[dsaServiceNI.sign(ref.getReference(), null, 0, randSource)];
             }
+            int actualLen = dsaServiceNI.sign(ref.getReference(), sigBuf, 0, randSource);
             // DSA DER-encoded signatures vary in length per call
             // (each integer can be 1 byte shorter when the high bit
-            // is unset). Trim to the actual length the second call
-            // wrote.
-            byte[] trimmed = new byte[actualLen];
-            System.arraycopy(sig, 0, trimmed, 0, actualLen);
-            return trimmed;
+            // is unset). Copy out the actual length written.
+            byte[] sig = new byte[actualLen];
+            System.arraycopy(sigBuf, 0, sig, 0, actualLen);
+            return sig;
         }
         finally
         {
@@ -40,7 +40,7 @@ class JODSAPrivateKey extends AsymmetricKeyImpl implements DSAPrivateKey, DSAKey
 
     JODSAPrivateKey(PKEYKeySpec spec)
     {
-        this(NISelector.DSAServiceNI, NISelector.Asn1NI, spec);
+        this(NISelector.getDSAServiceNI(), NISelector.getAsn1NI(), spec);
     }
 
     JODSAPrivateKey(DSAServiceNI dsaServiceNI, Asn1Ni asn1NI, PKEYKeySpec spec)
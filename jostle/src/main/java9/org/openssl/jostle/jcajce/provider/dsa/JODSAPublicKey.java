@@ -39,7 +39,7 @@ class JODSAPublicKey extends AsymmetricKeyImpl implements DSAPublicKey, DSAKey,
 
     JODSAPublicKey(PKEYKeySpec spec)
     {
-        this(NISelector.DSAServiceNI, NISelector.Asn1NI, spec);
+        this(NISelector.getDSAServiceNI(), NISelector.getAsn1NI(), spec);
     }
 
     JODSAPublicKey(DSAServiceNI dsaServiceNI, Asn1Ni asn1NI, PKEYKeySpec spec)
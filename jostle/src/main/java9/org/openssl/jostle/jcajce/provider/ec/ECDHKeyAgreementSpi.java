@@ -47,7 +47,7 @@ public class ECDHKeyAgreementSpi extends KeyAgreementSpi
 
     public ECDHKeyAgreementSpi()
     {
-        this(NISelector.ECServiceNI, new ECKeyFactorySpi());
+        this(NISelector.getECServiceNI(), new ECKeyFactorySpi());
     }
 
     public ECDHKeyAgreementSpi(ECServiceNI ecServiceNI, ECKeyFactorySpi keyFactory)
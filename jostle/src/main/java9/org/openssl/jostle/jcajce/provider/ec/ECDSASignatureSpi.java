@@ -51,10 +51,14 @@ public class ECDSASignatureSpi extends SignatureSpi
     private RandSource randSource = DefaultRandSource.wrap(CryptoServicesRegistrar.getSecureRandom());
     private Object lastKey = null;
 
+    // Sized to the maximum signature length of lastKey by the first sign,
+    // later signatures with the same key are one native call.
+    private byte[] sigBuf = null;
+
 
     public ECDSASignatureSpi(String digestName)
     {
-        this(NISelector.ECServiceNI, new ECKeyFactorySpi(), digestName);
+        this(NISelector.getECServiceNI(), new ECKeyFactorySpi(), digestName);
     }
 
     public ECDSASignatureSpi(ECServiceNI ecServiceNI, ECKeyFactorySpi keyFactory, String digestName)
@@ -98,6 +102,10 @@ public class ECDSASignatureSpi extends SignatureSpi
         try
         {
             JOECPrivateKey key = ECKeyImport.importPrivate(keyFactory, privateKey);
+            if (key != lastKey)
+            {
+                sigBuf = null;
+            }
             lastKey = key;
             initSignInternal(key);
         }
@@ -133,20 +141,17 @@ public class ECDSASignatureSpi extends SignatureSpi
         requireInitialised();
         try
         {
-            int upperBound = ecServiceNI.sign(ref.getReference(), null, 0, randSource);
-            byte[] sig = new byte[upperBound];
-            int actualLen = ecServiceNI.sign(ref.getReference(), sig, 0, randSource);
-            if (actualLen == sig.length)
+            if (sigBuf == null)
             {
-                return sig;
+                sigBuf = new byte[ecServiceNI.sign(ref.getReference(), null, 0, randSource)];
             }
+            int actualLen = ecServiceNI.sign(ref.getReference(), sigBuf, 0, randSource);
             // ECDSA DER-encoded signatures vary in length per call
             // (each integer can be 1 byte shorter when the high bit
-            // is unset). Trim to the actual length the second call
-            // wrote.
-            byte[] trimmed = new byte[actualLen];
-            System.arraycopy(sig, 0, trimmed, 0, actualLen);
-            return trimmed;
+            // is unset). Copy out the actual length written.
+            byte[] sig = new byte[actualLen];
+            System.arraycopy(sigBuf, 0, sig, 0, actualLen);
+            return sig;
         }
         finally
         {
@@ -40,7 +40,7 @@ class JOECPrivateKey extends AsymmetricKeyImpl implements ECPrivateKey, ECKey, O
 
     JOECPrivateKey(PKEYKeySpec spec)
     {
-        this(NISelector.ECServiceNI, NISelector.Asn1NI, spec);
+        this(NISelector.getECServiceNI(), NISelector.getAsn1NI(), spec);
     }
 
     JOECPrivateKey(ECServiceNI ecServiceNI, Asn1Ni asn1NI, PKEYKeySpec spec)
@@ -39,7 +39,7 @@ class JOECPublicKey extends AsymmetricKeyImpl implements ECPublicKey, ECKey, OSS
 
     JOECPublicKey(PKEYKeySpec spec)
     {
-        this(NISelector.ECServiceNI, NISelector.Asn1NI, spec);
+        this(NISelector.getECServiceNI(), NISelector.getAsn1NI(), spec);
     }
 
     JOECPublicKey(ECServiceNI ecServiceNI, Asn1Ni asn1NI, PKEYKeySpec spec)
@@ -32,7 +32,7 @@ import java.security.spec.AlgorithmParameterSpec;
 public class EdSignatureSpi extends SignatureSpi
 {
 
-    private static final EDServiceNI edServiceNI = NISelector.EDServiceNI;
+    private static final EDServiceNI edServiceNI = NISelector.getEDServiceNI();
 
     // OpenSSL-probed signature lengths, memoized once per key type (see NativeLengthCache).
     private static final NativeLengthCache<OSSLKeyType> signatureLengths = new NativeLengthCache<OSSLKeyType>();
@@ -82,12 +82,12 @@ class ProvFIPSRand
     {
         if (arg == null)
         {
-            return new RandServiceSPI(FIPSNISelector.RandServiceNI, algorithm);
+            return new RandServiceSPI(FIPSNISelector.getRandServiceNI(), algorithm);
         }
 
         if (arg instanceof SecureRandomParameters)
         {
-            return new RandServiceSPI(FIPSNISelector.RandServiceNI, algorithm, (SecureRandomParameters) arg);
+            return new RandServiceSPI(FIPSNISelector.getRandServiceNI(), algorithm, (SecureRandomParameters) arg);
         }
 
         throw new NoSuchAlgorithmException("SecureRandom parameters must implement SecureRandomParameters");
@@ -22,7 +22,6 @@ import org.openssl.jostle.rand.RandSource;
 import org.openssl.jostle.util.Arrays;
 import org.openssl.jostle.util.asn1.ASN1Encoder;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
@@ -44,16 +43,14 @@ import java.security.UnrecoverableEntryException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateEncodingException;
-import java.security.cert.CertificateFactory;
 import java.security.cert.CertificateException;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Enumeration;
-import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.security.auth.callback.Callback;
 import javax.security.auth.callback.CallbackHandler;
@@ -64,8 +61,8 @@ public class KSServiceSPI
     extends KeyStoreSpi
 {
     // Instance field, not a NISelector static: the SPI is bound to whichever
-    // NI backend its provider passes in - NISelector.KSServiceNI for JSL,
-    // FIPSNISelector.KSServiceNI (the FIPS interface library) for JSLFIPS.
+    // NI backend its provider passes in - NISelector.getKSServiceNI() for JSL,
+    // FIPSNISelector.getKSServiceNI() (the FIPS interface library) for JSLFIPS.
     private final KSServiceNI ksServiceNI;
     private static final byte[] PKCS12_AUTH_SAFE_DATA_OID = new byte[] {
             0x2a, (byte)0x86, 0x48, (byte)0x86, (byte)0xf7, 0x0d, 0x01,
@@ -92,6 +89,13 @@ public class KSServiceSPI
 
     private final KSReference ref;
 
+    // Every entry as last exported by the native store, so the read-only
+    // methods make no native call. Built at load, replaced by a fresh stale
+    // marker on each set or delete and exported again by the next read. No
+    // lock is taken, a reader only publishes its export if no write replaced
+    // the marker it started from, null until first built.
+    private final AtomicReference<KSSnapshot> snapshot = new AtomicReference<KSSnapshot>();
+
     // Store-time algorithm profile, selected per registered JCA type name (see
     // ProvKS). Default-provider algorithms only (no RC2), so BouncyCastle's
     // RC2-cert legacy default is not reproduced; bare "PKCS12" is a modern AES
@@ -112,7 +116,7 @@ public class KSServiceSPI
     {
         // Bare PKCS12: modern default -- AES-256-CBC keys, AES-128-CBC certs
         // (PBES2 / PBKDF2-HMAC-SHA256), HMAC-SHA256 integrity MAC.
-        this(NISelector.KSServiceNI, PBE_AES256_CBC, PBE_AES128_CBC, MAC_TRADITIONAL, MD_SHA256,
+        this(NISelector.getKSServiceNI(), PBE_AES256_CBC, PBE_AES128_CBC, MAC_TRADITIONAL, MD_SHA256,
                 PBE_ITERATIONS, MAC_ITERATIONS);
     }
 
@@ -135,7 +139,7 @@ public class KSServiceSPI
     protected KSServiceSPI(int keyPbe, int certPbe, int macScheme, int macDigest,
                            int pbeIter, int macIter)
     {
-        this(NISelector.KSServiceNI, keyPbe, certPbe, macScheme, macDigest, pbeIter, macIter);
+        this(NISelector.getKSServiceNI(), keyPbe, certPbe, macScheme, macDigest, pbeIter, macIter);
     }
 
     protected KSServiceSPI(KSServiceNI ksServiceNI, int keyPbe, int certPbe, int macScheme,
@@ -272,23 +276,16 @@ public class KSServiceSPI
             throw new NullPointerException("alias must not be null");
         }
 
+        Certificate[] chain;
         try
         {
-            byte[] encoded;
-            try
-            {
-                encoded = ksServiceNI.getCertificateChain(ref.getReference(), alias);
-            }
-            finally
-            {
-                Reference.reachabilityFence(this);
-            }
-            return decodeCertificateChain(encoded);
+            chain = snapshot().chain(alias);
         }
-        catch (KeyStoreException | CertificateException | IOException e)
+        finally
         {
-            throw new IllegalStateException(e.getMessage(), e);
+            Reference.reachabilityFence(this);
         }
+        return chain == null ? null : chain.clone();
     }
 
     @Override
@@ -306,25 +303,16 @@ public class KSServiceSPI
             throw new NullPointerException("alias must not be null");
         }
 
+        KSSnapshot.Item item;
         try
         {
-            if (!ksServiceNI.containsAlias(ref.getReference(), alias))
-            {
-                return null;
-            }
-            try
-            {
-                return new Date(ksServiceNI.getCreationDate(ref.getReference(), alias));
-            }
-            catch (KeyStoreException e)
-            {
-                throw new IllegalStateException(e.getMessage(), e);
-            }
+            item = snapshot().get(alias);
         }
         finally
         {
             Reference.reachabilityFence(this);
         }
+        return item == null ? null : new Date(item.getCreationDate());
     }
 
     @Override
@@ -367,6 +355,7 @@ public class KSServiceSPI
             }
             finally
             {
+                refresh(alias);
                 Reference.reachabilityFence(this);
             }
         }
@@ -427,6 +416,7 @@ public class KSServiceSPI
         }
         finally
         {
+            refresh(alias);
             Reference.reachabilityFence(this);
         }
     }
@@ -462,6 +452,10 @@ public class KSServiceSPI
                 kse.initCause(e);
                 throw kse;
             }
+            finally
+            {
+                refresh(alias);
+            }
         }
         finally
         {
@@ -483,6 +477,7 @@ public class KSServiceSPI
         }
         finally
         {
+            refresh(alias);
             Reference.reachabilityFence(this);
         }
     }
@@ -492,19 +487,11 @@ public class KSServiceSPI
     {
         try
         {
-            try
-            {
-                return Collections.enumeration(
-                        decodeAliases(ksServiceNI.getAliases(ref.getReference())));
-            }
-            finally
-            {
-                Reference.reachabilityFence(this);
-            }
+            return Collections.enumeration(snapshot().aliases());
         }
-        catch (KeyStoreException | IOException e)
+        finally
         {
-            throw new IllegalStateException(e.getMessage(), e);
+            Reference.reachabilityFence(this);
         }
     }
 
@@ -518,7 +505,7 @@ public class KSServiceSPI
 
         try
         {
-            return ksServiceNI.containsAlias(ref.getReference(), alias);
+            return snapshot().get(alias) != null;
         }
         finally
         {
@@ -531,7 +518,7 @@ public class KSServiceSPI
     {
         try
         {
-            return ksServiceNI.size(ref.getReference());
+            return snapshot().size();
         }
         finally
         {
@@ -549,7 +536,8 @@ public class KSServiceSPI
 
         try
         {
-            return ksServiceNI.isKeyEntry(ref.getReference(), alias);
+            KSSnapshot.Item item = snapshot().get(alias);
+            return item != null && item.isKeyEntry();
         }
         finally
         {
@@ -567,7 +555,8 @@ public class KSServiceSPI
 
         try
         {
-            return ksServiceNI.isCertificateEntry(ref.getReference(), alias);
+            KSSnapshot.Item item = snapshot().get(alias);
+            return item != null && item.isCertificateEntry();
         }
         finally
         {
@@ -586,18 +575,14 @@ public class KSServiceSPI
         try
         {
             byte[] encoded = cert.getEncoded();
-            Enumeration<String> aliases = engineAliases();
-            while (aliases.hasMoreElements())
+            try
             {
-                String alias = aliases.nextElement();
-                Certificate candidate = engineGetCertificate(alias);
-                if (candidate != null
-                        && Arrays.areEqual(encoded, candidate.getEncoded()))
-                {
-                    return alias;
-                }
+                return snapshot().alias(encoded);
+            }
+            finally
+            {
+                Reference.reachabilityFence(this);
             }
-            return null;
         }
         catch (CertificateEncodingException e)
         {
@@ -687,8 +672,10 @@ public class KSServiceSPI
             }
             finally
             {
+                snapshot.set(KSSnapshot.EMPTY.stale());
                 Arrays.clear(encodedPassword);
             }
+            snapshotLoadedStore();
         }
         finally
         {
@@ -974,6 +961,76 @@ public class KSServiceSPI
 
     }
 
+    /**
+     * The entry snapshot, exported from the native store if not yet built or
+     * stale. Callers keep this instance reachable.
+     */
+    private KSSnapshot snapshot()
+    {
+        KSSnapshot observed = snapshot.get();
+        if (observed != null && !observed.isStale())
+        {
+            return observed;
+        }
+
+        KSSnapshot current;
+        try
+        {
+            current = KSSnapshot.decode(ksServiceNI.getEntries(ref.getReference()), observed);
+        }
+        catch (KeyStoreException | CertificateException | IOException e)
+        {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        // A write since observed was read leaves it stale, the export still answers this read.
+        snapshot.compareAndSet(observed, current);
+        return current;
+    }
+
+    /**
+     * Export the entries of a freshly loaded store. A store whose certificates
+     * cannot be decoded here is left stale and reports the failure from the
+     * first lookup instead.
+     */
+    private void snapshotLoadedStore()
+    {
+        try
+        {
+            snapshot();
+        }
+        catch (RuntimeException e)
+        {
+            // Left stale, exported again by the next lookup.
+        }
+    }
+
+    /**
+     * Patch the snapshot with the entry now stored under alias after a change
+     * to the native store, a single ks_get_entry read rather than an export of
+     * every entry. The entry is read again if another write wins the update.
+     * With no snapshot yet, or one that cannot be patched, a fresh stale
+     * snapshot is published so an export racing the write is not kept, and the
+     * next read exports the store again. Callers keep this instance reachable.
+     */
+    private void refresh(String alias)
+    {
+        snapshot.updateAndGet(current ->
+        {
+            if (current == null || current.isStale())
+            {
+                return current == null ? KSSnapshot.EMPTY.stale() : current.stale();
+            }
+            try
+            {
+                return current.with(alias, ksServiceNI.getEntry(ref.getReference(), alias));
+            }
+            catch (KeyStoreException | CertificateException | IOException e)
+            {
+                return current.stale();
+            }
+        });
+    }
+
     private static PrivateKey generatePrivateKey(byte[] encoded)
         throws NoSuchAlgorithmException, InvalidKeySpecException
     {
@@ -1133,78 +1190,4 @@ public class KSServiceSPI
         }
         return out.toByteArray();
     }
-
-    private static Certificate[] decodeCertificateChain(byte[] encoded)
-        throws CertificateException, IOException
-    {
-        if (encoded == null || encoded.length == 0)
-        {
-            return null;
-        }
-
-        CertificateFactory factory;
-        try
-        {
-            factory = CertificateFactory.getInstance("X.509",
-                    JostleProvider.PROVIDER_NAME);
-        }
-        catch (NoSuchProviderException e)
-        {
-            CertificateException ce =
-                    new CertificateException("Jostle provider is not registered");
-            ce.initCause(e);
-            throw ce;
-        }
-
-        // The native side serialised the chain as concatenated DER; the X.509
-        // factory reads the run back as an ordered collection.
-        return factory.generateCertificates(new ByteArrayInputStream(encoded))
-                .toArray(new Certificate[0]);
-    }
-
-    private static List<String> decodeAliases(byte[] encoded)
-        throws IOException
-    {
-        if (encoded == null || encoded.length < 4)
-        {
-            return Collections.emptyList();
-        }
-
-        List<String> aliases = new ArrayList<String>();
-        int offset = 0;
-        int count = readInt(encoded, offset);
-        offset += 4;
-        if (count < 0)
-        {
-            throw new IOException("alias count is negative");
-        }
-        for (int i = 0; i < count; i++)
-        {
-            if (offset + 4 > encoded.length)
-            {
-                throw new IOException("alias length is truncated");
-            }
-            int length = readInt(encoded, offset);
-            offset += 4;
-            if (length < 0 || length > encoded.length - offset)
-            {
-                throw new IOException("alias value is truncated");
-            }
-            aliases.add(new String(encoded, offset, length, StandardCharsets.UTF_8));
-            offset += length;
-        }
-        if (offset != encoded.length)
-        {
-            throw new IOException("aliases have trailing data");
-        }
-        return aliases;
-    }
-
-    private static int readInt(byte[] in, int offset)
-    {
-        return ((in[offset] & 0xff) << 24)
-                | ((in[offset + 1] & 0xff) << 16)
-                | ((in[offset + 2] & 0xff) << 8)
-                | (in[offset + 3] & 0xff);
-    }
 }
@@ -85,14 +85,14 @@ class JOMLDSAPrivateKey extends AsymmetricKeyImpl implements MLDSAPrivateKey, OS
             // the raw NI getter returns JO_SEED_UNAVAILABLE, which we answer as
             // null (rather than surfacing it as an error) so getPrivateKey(true)
             // can fall back to the expanded key.
-            int len = NISelector.MLDSAServiceNI.ni_getSeed(spec.getReference(), null);
+            int len = NISelector.getMLDSAServiceNI().ni_getSeed(spec.getReference(), null);
             if (len == ErrorCode.JO_SEED_UNAVAILABLE.getCode())
             {
                 return null;
             }
-            NISelector.MLDSAServiceNI.handleErrors(len);
+            NISelector.getMLDSAServiceNI().handleErrors(len);
             byte[] out = new byte[len];
-            NISelector.MLDSAServiceNI.handleErrors(NISelector.MLDSAServiceNI.ni_getSeed(spec.getReference(), out));
+            NISelector.getMLDSAServiceNI().handleErrors(NISelector.getMLDSAServiceNI().ni_getSeed(spec.getReference(), out));
 
             return out;
         }
@@ -110,9 +110,9 @@ class JOMLDSAPrivateKey extends AsymmetricKeyImpl implements MLDSAPrivateKey, OS
         //
         try
         {
-            long len = NISelector.MLDSAServiceNI.getPrivateKey(spec.getReference(), null);
+            long len = NISelector.getMLDSAServiceNI().getPrivateKey(spec.getReference(), null);
             byte[] out = new byte[(int) len];
-            NISelector.MLDSAServiceNI.getPrivateKey(spec.getReference(), out);
+            NISelector.getMLDSAServiceNI().getPrivateKey(spec.getReference(), out);
 
             return out;
         }
@@ -135,7 +135,7 @@ class JOMLDSAPrivateKey extends AsymmetricKeyImpl implements MLDSAPrivateKey, OS
                     return new JOMLDSAPrivateKey(
                             new PKEYKeySpec(
 
-                                            NISelector.MLDSAServiceNI.generateKeyPair(type.getKsType(), seed, seed.length,
+                                            NISelector.getMLDSAServiceNI().generateKeyPair(type.getKsType(), seed, seed.length,
                                                     DefaultRandSource.wrap(CryptoServicesRegistrar.getSecureRandom())
                                     ), type), preferSeedOnly
                     );
@@ -83,9 +83,9 @@ class JOMLKEMPublicKey extends AsymmetricKeyImpl implements MLKEMPublicKey
         //
         try
         {
-            long len = NISelector.MLKEMServiceNI.getPublicKey(spec.getReference(), null);
+            long len = NISelector.getMLKEMServiceNI().getPublicKey(spec.getReference(), null);
             byte[] out = new byte[(int) len];
-            NISelector.MLKEMServiceNI.getPublicKey(spec.getReference(), out);
+            NISelector.getMLKEMServiceNI().getPublicKey(spec.getReference(), out);
 
             return out;
         }
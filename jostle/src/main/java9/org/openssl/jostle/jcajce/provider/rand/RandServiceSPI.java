@@ -13,6 +13,7 @@ package org.openssl.jostle.jcajce.provider.rand;
 
 import org.openssl.jostle.disposal.NativeDisposer;
 import org.openssl.jostle.disposal.NativeReference;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
 import org.openssl.jostle.jcajce.provider.NISelector;
 import org.openssl.jostle.util.Arrays;
 
@@ -21,6 +22,7 @@ import java.io.ObjectStreamException;
 import java.lang.ref.Reference;
 import java.security.DrbgParameters;
 import java.security.ProviderException;
+import java.security.SecureRandom;
 import java.security.SecureRandomParameters;
 import java.security.SecureRandomSpi;
 
@@ -40,13 +42,25 @@ import java.security.SecureRandomSpi;
  * resistance must be enabled by the instance capability before it can be used
  * for generation or reseeding.
  * </p>
+ * <p>
+ * A striped instance, see {@link RandAlgorithm#isStriped()}, owns several
+ * contexts with the same instantiation parameters, all created on the
+ * constructing thread and so chained to the same parent DRBG. Each calling
+ * thread is served from one stripe and only contends with the threads sharing
+ * it. Reseeding and seed material apply to every stripe.
+ * </p>
  */
 public final class RandServiceSPI extends SecureRandomSpi
 {
     private static final long serialVersionUID = 5952625728129925027L;
+
+    // Recognised by engineNextBytes while nativeDrbgOf is asking, see there.
+    private static final byte[] PROBE = new byte[0];
+    private static final ThreadLocal<RandServiceSPI[]> PROBED = new ThreadLocal<RandServiceSPI[]>();
+
     // Instance field, not a NISelector static: the SPI is bound to whichever
-    // NI backend its provider passes in - NISelector.RandServiceNI for JSL,
-    // FIPSNISelector.RandServiceNI (the FIPS interface library) for JSLFIPS.
+    // NI backend its provider passes in - NISelector.getRandServiceNI() for JSL,
+    // FIPSNISelector.getRandServiceNI() (the FIPS interface library) for JSLFIPS.
     private final RandServiceNI randServiceNI;
 
     private final RandAlgorithm algorithm;
@@ -57,7 +71,7 @@ public final class RandServiceSPI extends SecureRandomSpi
     private final int instanceStrength;
     private final DrbgParameters.Capability instanceCapability;
     private final byte[] personalizationString;
-    private final transient RandReference ref;
+    private final transient RandReference[] stripes;
 
     /**
      * Constructs an OpenSSL-backed SecureRandom SPI using the algorithm's
@@ -68,7 +82,7 @@ public final class RandServiceSPI extends SecureRandomSpi
      */
     public RandServiceSPI(RandAlgorithm algorithm)
     {
-        this(NISelector.RandServiceNI, algorithm, null);
+        this(NISelector.getRandServiceNI(), algorithm, null);
     }
 
     public RandServiceSPI(RandServiceNI randServiceNI, RandAlgorithm algorithm)
@@ -96,7 +110,7 @@ public final class RandServiceSPI extends SecureRandomSpi
      */
     public RandServiceSPI(RandAlgorithm algorithm, Object params)
     {
-        this(NISelector.RandServiceNI, algorithm, params);
+        this(NISelector.getRandServiceNI(), algorithm, params);
     }
 
     public RandServiceSPI(RandServiceNI randServiceNI, RandAlgorithm algorithm, Object params)
@@ -144,12 +158,16 @@ public final class RandServiceSPI extends SecureRandomSpi
 
         checkInstantiationStrength(strength);
         boolean predRes = capability.supportsPredictionResistance();
+        this.stripes = new RandReference[DrbgConfig.stripesFor(algorithm)];
         try
         {
-            this.ref = new RandReference(randServiceNI,
-                    randServiceNI.createContext(mechanism, variant, useDerivationFunction,
-                            strength, predRes, pstr),
-                    algorithm.getJcaName());
+            for (int i = 0; i != stripes.length; i++)
+            {
+                stripes[i] = new RandReference(randServiceNI,
+                        randServiceNI.createContext(mechanism, variant, useDerivationFunction,
+                                strength, predRes, pstr),
+                        algorithm.getJcaName());
+            }
         } catch (Exception e)
         {
             throw new ProviderException("unable to instantiate OpenSSL DRBG: " + e.getMessage(), e);
@@ -161,6 +179,51 @@ public final class RandServiceSPI extends SecureRandomSpi
         this.instanceCapability = capability;
     }
 
+    /**
+     * Return the native DRBG behind a JSL SecureRandom so the interface
+     * library can draw from it without calling back into Java, or 0 if random
+     * is anything else, including a JSLFIPS SecureRandom.
+     * <p>
+     * The SecureRandom does not expose its SPI, so a zero length request is
+     * passed through it and the SPI that receives it identifies itself. The
+     * native draws honour this instance's strength and prediction resistance
+     * the same way the Java RandSource would, a DRBG that cannot reseed is
+     * left to the up-call so prediction resistance is refused as before. A
+     * striped instance returns 0, callers keep the reference and a stripe
+     * picked for one thread would be shared by every other, the Java path
+     * picks the stripe per call instead.
+     * </p>
+     *
+     * @param random the SecureRandom to inspect, may be {@code null}
+     * @return the DRBG context reference, valid while random is reachable, or 0
+     */
+    public static long nativeDrbgOf(SecureRandom random)
+    {
+        if (random == null || !(random.getProvider() instanceof JostleProvider))
+        {
+            return 0;
+        }
+
+        RandServiceSPI[] probed = new RandServiceSPI[1];
+        PROBED.set(probed);
+        try
+        {
+            random.nextBytes(PROBE);
+        }
+        finally
+        {
+            PROBED.remove();
+        }
+
+        RandServiceSPI spi = probed[0];
+        if (spi == null || spi.randServiceNI != NISelector.getRandServiceNI()
+                || !spi.instanceCapability.supportsReseeding() || spi.stripes.length != 1)
+        {
+            return 0;
+        }
+        return spi.stripes[0].getReference();
+    }
+
     @Override
     protected void engineSetSeed(byte[] seed)
     {
@@ -196,6 +259,16 @@ public final class RandServiceSPI extends SecureRandomSpi
             throw new NullPointerException("bytes cannot be null");
         }
 
+        if (bytes == PROBE)
+        {
+            RandServiceSPI[] probed = PROBED.get();
+            if (probed != null)
+            {
+                probed[0] = this;
+            }
+            return;
+        }
+
         contextRandomBytes(bytes, instanceStrength,
                 instanceCapability.supportsPredictionResistance(), null);
     }
@@ -346,30 +419,55 @@ public final class RandServiceSPI extends SecureRandomSpi
         }
     }
 
-    private synchronized void contextRandomBytes(byte[] bytes, int strength,
-                                                 boolean predictionResistant,
-                                                 byte[] additionalInput)
+    //
+    // The stripe for the calling thread. Thread ids are sequential, the
+    // multiply spreads neighbouring ids across the stripes.
+    //
+    private RandReference stripe()
     {
-        try
-        {
-            randServiceNI.contextRandomBytes(ref.getReference(), bytes, bytes.length,
-                    strength, predictionResistant, additionalInput);
-        } finally
+        if (stripes.length == 1)
         {
-            Reference.reachabilityFence(this);
+            return stripes[0];
         }
+
+        long id = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (id >>> 32) & (stripes.length - 1)];
     }
 
-    private synchronized void contextReseed(int strength, boolean predictionResistant,
-                                            byte[] additionalInput)
+    private void contextRandomBytes(byte[] bytes, int strength,
+                                    boolean predictionResistant,
+                                    byte[] additionalInput)
     {
-        try
+        RandReference stripe = stripe();
+        synchronized (stripe)
         {
-            randServiceNI.contextReseed(ref.getReference(), strength,
-                    predictionResistant, additionalInput);
-        } finally
+            try
+            {
+                randServiceNI.contextRandomBytes(stripe.getReference(), bytes, bytes.length,
+                        strength, predictionResistant, additionalInput);
+            } finally
+            {
+                Reference.reachabilityFence(stripe);
+            }
+        }
+    }
+
+    private void contextReseed(int strength, boolean predictionResistant,
+                               byte[] additionalInput)
+    {
+        for (RandReference stripe : stripes)
         {
-            Reference.reachabilityFence(this);
+            synchronized (stripe)
+            {
+                try
+                {
+                    randServiceNI.contextReseed(stripe.getReference(), strength,
+                            predictionResistant, additionalInput);
+                } finally
+                {
+                    Reference.reachabilityFence(stripe);
+                }
+            }
         }
     }
 
@@ -397,7 +495,9 @@ public final class RandServiceSPI extends SecureRandomSpi
 
         RandReference(RandServiceNI randServiceNI, long reference, String name)
         {
-            super(reference, name, new Disposer(randServiceNI, reference));
+            // SecureRandom instances are cached process wide, the JDK included,
+            // so a DRBG must never be freed by whichever release scope created it.
+            super(reference, name, new Disposer(randServiceNI, reference), false);
         }
 
     }
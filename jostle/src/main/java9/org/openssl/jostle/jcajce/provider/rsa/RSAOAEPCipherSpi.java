@@ -115,7 +115,7 @@ public class RSAOAEPCipherSpi extends CipherSpi
 
     public RSAOAEPCipherSpi()
     {
-        this(NISelector.RSAOAEPCipherNI, new RSAKeyFactorySpi());
+        this(NISelector.getRSAOAEPCipherNI(), new RSAKeyFactorySpi());
     }
 
     public RSAOAEPCipherSpi(RSAOAEPCipherNI cipherNI, RSAKeyFactorySpi keyFactory)
@@ -88,7 +88,7 @@ public class RSAPKCS1CipherSpi extends CipherSpi
 
     public RSAPKCS1CipherSpi()
     {
-        this(NISelector.RSAPKCS1CipherNI, new RSAKeyFactorySpi());
+        this(NISelector.getRSAPKCS1CipherNI(), new RSAKeyFactorySpi());
     }
 
     public RSAPKCS1CipherSpi(RSAPKCS1CipherNI cipherNI, RSAKeyFactorySpi keyFactory)
@@ -20,6 +20,7 @@ import org.openssl.jostle.jcajce.interfaces.RSAPublicKey;
 import org.openssl.jostle.jcajce.provider.ErrorCode;
 import org.openssl.jostle.jcajce.provider.NISelector;
 import org.openssl.jostle.jcajce.provider.OpenSSLException;
+import org.openssl.jostle.jcajce.provider.cache.NativeLengthCache;
 import org.openssl.jostle.rand.DefaultRandSource;
 import org.openssl.jostle.rand.RandSource;
 
@@ -57,6 +58,10 @@ abstract class RSASignatureSpiBase extends SignatureSpi
     private RSARef ref;
     private RandSource randSource = DefaultRandSource.wrap(CryptoServicesRegistrar.getSecureRandom());
     private RSAKey lastKey = null;
+
+    // Signature length of lastKey, the modulus length, learnt by the first
+    // sign so later signatures with the same key are one native call.
+    private int sigLen = NativeLengthCache.UNKNOWN;
     // Set by engineUpdate, cleared on every (re)init below. A parameter-driven
     // subclass (RSA-PSS) reads it to reject setParameter() after update() has
     // begun, per the JCE Signature state-machine contract.
@@ -71,7 +76,7 @@ abstract class RSASignatureSpiBase extends SignatureSpi
      */
     protected RSASignatureSpiBase()
     {
-        this(NISelector.RSAServiceNI, new RSAKeyFactorySpi());
+        this(NISelector.getRSAServiceNI(), new RSAKeyFactorySpi());
     }
 
     protected RSASignatureSpiBase(RSAServiceNI rsaServiceNI, RSAKeyFactorySpi keyFactory)
@@ -131,6 +136,10 @@ abstract class RSASignatureSpiBase extends SignatureSpi
         try
         {
             JORSAPrivateKey key = RSAKeyImport.importPrivate(keyFactory, privateKey);
+            if (key != lastKey)
+            {
+                sigLen = NativeLengthCache.UNKNOWN;
+            }
             lastKey = key;
             try
             {
@@ -199,8 +208,11 @@ abstract class RSASignatureSpiBase extends SignatureSpi
         requireInitialised();
         try
         {
-            long len = rsaServiceNI.sign(ref.getReference(), null, 0, randSource);
-            byte[] sig = new byte[(int) len];
+            if (sigLen == NativeLengthCache.UNKNOWN)
+            {
+                sigLen = rsaServiceNI.sign(ref.getReference(), null, 0, randSource);
+            }
+            byte[] sig = new byte[sigLen];
             rsaServiceNI.sign(ref.getReference(), sig, 0, randSource);
             return sig;
         }
@@ -70,9 +70,9 @@ class JOSLHDSAPrivateKey extends AsymmetricKeyImpl implements SLHDSAPrivateKey,
         //
         try
         {
-            long len = NISelector.SLHDSAServiceNI.getPrivateKey(spec.getReference(), null);
+            long len = NISelector.getSLHDSAServiceNI().getPrivateKey(spec.getReference(), null);
             byte[] out = new byte[(int) len];
-            NISelector.SLHDSAServiceNI.getPrivateKey(spec.getReference(), out);
+            NISelector.getSLHDSAServiceNI().getPrivateKey(spec.getReference(), out);
 
             return out;
         }
@@ -82,9 +82,9 @@ class JOSLHDSAPublicKey extends AsymmetricKeyImpl implements SLHDSAPublicKey
         //
         try
         {
-            long len = NISelector.SLHDSAServiceNI.getPublicKey(spec.getReference(), null);
+            long len = NISelector.getSLHDSAServiceNI().getPublicKey(spec.getReference(), null);
             byte[] out = new byte[(int) len];
-            NISelector.SLHDSAServiceNI.getPublicKey(spec.getReference(), out);
+            NISelector.getSLHDSAServiceNI().getPublicKey(spec.getReference(), out);
 
             return out;
         }
@@ -101,7 +101,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
 
                 if (ref == null)
                 {
-                    ref = new SLHDSARef(NISelector.SLHDSAServiceNI.allocateSigner(), publicKey.getAlgorithm());
+                    ref = new SLHDSARef(NISelector.getSLHDSAServiceNI().allocateSigner(), publicKey.getAlgorithm());
                 }
 
                 byte[] context = null;
@@ -113,7 +113,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
                     contextLen = context.length;
                 }
 
-                NISelector.SLHDSAServiceNI.initVerify(ref.getReference(), key.getSpec().getReference(), context, contextLen, messageEncoding.ordinal(), deterministic.ordinal());
+                NISelector.getSLHDSAServiceNI().initVerify(ref.getReference(), key.getSpec().getReference(), context, contextLen, messageEncoding.ordinal(), deterministic.ordinal());
                 return;
             }
             finally
@@ -149,7 +149,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
 
                 if (ref == null)
                 {
-                    ref = new SLHDSARef(NISelector.SLHDSAServiceNI.allocateSigner(), privateKey.getAlgorithm());
+                    ref = new SLHDSARef(NISelector.getSLHDSAServiceNI().allocateSigner(), privateKey.getAlgorithm());
                 }
 
                 byte[] context = null;
@@ -161,7 +161,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
                     contextLen = context.length;
                 }
 
-                NISelector.SLHDSAServiceNI.initSign(
+                NISelector.getSLHDSAServiceNI().initSign(
                         ref.getReference(),
                         key.getSpec().getReference(),
                         context, contextLen, messageEncoding.ordinal(), deterministic.ordinal(),
@@ -188,7 +188,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
         try
         {
             updateCalled = true;
-            NISelector.SLHDSAServiceNI.update(ref.getReference(), b, off, len);
+            NISelector.getSLHDSAServiceNI().update(ref.getReference(), b, off, len);
         }
         finally
         {
@@ -211,7 +211,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
                 }
                 if (len == NativeLengthCache.UNKNOWN)
                 {
-                    len = (int) NISelector.SLHDSAServiceNI.sign(ref.getReference(), null, 0, randSource);
+                    len = (int) NISelector.getSLHDSAServiceNI().sign(ref.getReference(), null, 0, randSource);
                     if (lastKey != null)
                     {
                         // Memoize OpenSSL's reported length for this parameter set.
@@ -219,7 +219,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
                     }
                 }
                 sig = new byte[len];
-                long written = NISelector.SLHDSAServiceNI.sign(ref.getReference(), sig, 0, randSource);
+                long written = NISelector.getSLHDSAServiceNI().sign(ref.getReference(), sig, 0, randSource);
                 if (written != sig.length)
                 {
                     throw new SignatureException("signature length mismatch");
@@ -245,7 +245,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
         {
             try
             {
-                int code = NISelector.SLHDSAServiceNI.verify(ref.getReference(), sigBytes, sigBytes != null ? sigBytes.length : 0);
+                int code = NISelector.getSLHDSAServiceNI().verify(ref.getReference(), sigBytes, sigBytes != null ? sigBytes.length : 0);
 
                 return code == ErrorCode.JO_SUCCESS.getCode();
             }
@@ -349,7 +349,7 @@ public class SLHDSASignatureSpi extends SignatureSpi
         @Override
         protected void dispose(long reference)
         {
-            NISelector.SLHDSAServiceNI.disposeSigner(reference);
+            NISelector.getSLHDSAServiceNI().disposeSigner(reference);
         }
     }
 
@@ -13,6 +13,7 @@ package org.openssl.jostle.rand;
 
 import org.openssl.jostle.CryptoServicesRegistrar;
 import org.openssl.jostle.jcajce.provider.ErrorCode;
+import org.openssl.jostle.jcajce.provider.rand.RandServiceSPI;
 
 import java.security.DrbgParameters;
 import java.security.SecureRandom;
@@ -29,6 +30,11 @@ public class DefaultRandSource implements RandSource
     protected final boolean rngSupportsPredictionResistant;
     protected final boolean rngSupportsReseed;
 
+    // The native DRBG behind a JSL SecureRandom, 0 for any other source or a
+    // subclass. The interface library reads this field and draws from that
+    // DRBG directly instead of calling getRandomBytes.
+    private final long nativeDrbg;
+
     public static DefaultRandSource wrap(SecureRandom random)
     {
         return new DefaultRandSource(random);
@@ -72,7 +78,7 @@ public class DefaultRandSource implements RandSource
         }
 
         this.random = secureRandom;
-
+        this.nativeDrbg = getClass() == DefaultRandSource.class ? RandServiceSPI.nativeDrbgOf(secureRandom) : 0;
     }
 
 
@@ -217,6 +223,14 @@ public class DefaultRandSource implements RandSource
         return len;
     }
 
+    /**
+     * The native DRBG this source draws from without an up-call, or 0.
+     */
+    long nativeDrbg()
+    {
+        return nativeDrbg;
+    }
+
     @Override
     public SecureRandom getRandom()
     {
@@ -12,10 +12,20 @@
 package org.openssl.jostle;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
 
 public class LoaderUtilsTest
 {
@@ -127,4 +137,241 @@ public class LoaderUtilsTest
         Assertions.assertFalse(LoaderUtils.isContentSame(left, right));
     }
 
+
+    @Test()
+    public void testCacheValid_1() throws Exception
+    {
+        File root = Files.createTempDirectory("jostle-cache-test").toFile();
+        try
+        {
+            File dir = populate(root, "staging", "content");
+
+            Assertions.assertTrue(LoaderUtils.isCacheValid(dir, "k1", entries("content"), false));
+            Assertions.assertTrue(LoaderUtils.isCacheValid(dir, "k1", entries("content"), true));
+            Assertions.assertFalse(LoaderUtils.isCacheValid(dir, "k2", entries("content"), false));
+            Assertions.assertFalse(LoaderUtils.isCacheValid(new File(root, "absent"), "k1", entries("content"), false));
+        }
+        finally
+        {
+            LoaderUtils.deleteDir(root);
+        }
+    }
+
+    @Test()
+    public void testCacheValid_2() throws Exception
+    {
+        File root = Files.createTempDirectory("jostle-cache-test").toFile();
+        try
+        {
+            File dir = populate(root, "staging", "content");
+
+            // Same length, different content, the CRC from the jar notices.
+            write(new File(dir, "lib.so"), "CONTENT");
+            Assertions.assertFalse(LoaderUtils.isCacheValid(dir, "k1", entries("content"), false));
+            Assertions.assertFalse(LoaderUtils.isCacheValid(dir, "k1", entries("content"), true));
+
+            write(new File(dir, "lib.so"), "longer content");
+            Assertions.assertFalse(LoaderUtils.isCacheValid(dir, "k1", entries("content"), false));
+        }
+        finally
+        {
+            LoaderUtils.deleteDir(root);
+        }
+    }
+
+    @Test()
+    public void testCacheValid_3() throws Exception
+    {
+        // Rewriting the manifest does not help, the expected content comes from the jar.
+
+        File root = Files.createTempDirectory("jostle-cache-test").toFile();
+        try
+        {
+            File dir = populate(root, "staging", "content");
+            write(new File(dir, "lib.so"), "CONTENT");
+            LoaderUtils.writeCacheManifest(dir, "k1", Collections.singletonList("lib.so"));
+
+            Assertions.assertFalse(LoaderUtils.isCacheValid(dir, "k1", entries("content"), false));
+            Assertions.assertTrue(LoaderUtils.isCacheValid(dir, "k1", entries("CONTENT"), false));
+        }
+        finally
+        {
+            LoaderUtils.deleteDir(root);
+        }
+    }
+
+    @Test()
+    public void testCacheValid_4() throws Exception
+    {
+        // Anything writable by group or others is refused.
+
+        Assumptions.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+
+        File root = Files.createTempDirectory("jostle-cache-test").toFile();
+        try
+        {
+            File dir = populate(root, "staging", "content");
+            File lib = new File(dir, "lib.so");
+
+            Files.setPosixFilePermissions(lib.toPath(), PosixFilePermissions.fromString("rwxrwx---"));
+            Assertions.assertFalse(LoaderUtils.isCacheValid(dir, "k1", entries("content"), false));
+
+            Files.setPosixFilePermissions(lib.toPath(), PosixFilePermissions.fromString("rwx------"));
+            Files.setPosixFilePermissions(dir.toPath(), PosixFilePermissions.fromString("rwxrwxrwx"));
+            Assertions.assertFalse(LoaderUtils.isCacheValid(dir, "k1", entries("content"), false));
+
+            Files.setPosixFilePermissions(dir.toPath(), PosixFilePermissions.fromString("rwx------"));
+            Assertions.assertTrue(LoaderUtils.isCacheValid(dir, "k1", entries("content"), false));
+        }
+        finally
+        {
+            LoaderUtils.deleteDir(root);
+        }
+    }
+
+    @Test()
+    public void testCacheValid_5() throws Exception
+    {
+        // A cached library that is a symbolic link is refused, wherever it points.
+
+        File root = Files.createTempDirectory("jostle-cache-test").toFile();
+        try
+        {
+            File dir = populate(root, "staging", "content");
+            File lib = new File(dir, "lib.so");
+            File elsewhere = new File(dir, "elsewhere.so");
+            Files.move(lib.toPath(), elsewhere.toPath());
+            try
+            {
+                Files.createSymbolicLink(lib.toPath(), elsewhere.toPath());
+            }
+            catch (UnsupportedOperationException | IOException e)
+            {
+                Assumptions.assumeTrue(false, "symbolic links not available");
+            }
+
+            Assertions.assertFalse(LoaderUtils.isCacheValid(dir, "k1", entries("content"), false));
+        }
+        finally
+        {
+            LoaderUtils.deleteDir(root);
+        }
+    }
+
+    @Test()
+    public void testStagingDir_1() throws Exception
+    {
+        Assumptions.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+
+        File root = Files.createTempDirectory("jostle-cache-test").toFile();
+        try
+        {
+            File dir = populate(root, "staging", "content");
+
+            Assertions.assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(dir.toPath())));
+            Assertions.assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(new File(dir, "lib.so").toPath())));
+            Assertions.assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(new File(dir, LoaderUtils.CACHE_MANIFEST).toPath())));
+        }
+        finally
+        {
+            LoaderUtils.deleteDir(root);
+        }
+    }
+
+    @Test()
+    public void testPublishCache_1() throws Exception
+    {
+        File root = Files.createTempDirectory("jostle-cache-test").toFile();
+        try
+        {
+            File staging = populate(root, "staging", "content");
+            File target = new File(root, "jostle_k1");
+
+            Assertions.assertEquals(target, LoaderUtils.publishCacheDir(staging, target, "k1", entries("content"), true));
+            Assertions.assertFalse(staging.exists());
+            Assertions.assertTrue(LoaderUtils.isCacheValid(target, "k1", entries("content"), true));
+        }
+        finally
+        {
+            LoaderUtils.deleteDir(root);
+        }
+    }
+
+    @Test()
+    public void testPublishCache_2() throws Exception
+    {
+        // Lost the race, the winner is used and the staging directory is discarded.
+
+        File root = Files.createTempDirectory("jostle-cache-test").toFile();
+        try
+        {
+            File winner = populate(root, "winner", "content");
+            File target = new File(root, "jostle_k1");
+            Files.move(winner.toPath(), target.toPath());
+
+            File staging = populate(root, "staging", "content");
+            Assertions.assertEquals(target, LoaderUtils.publishCacheDir(staging, target, "k1", entries("content"), false));
+            Assertions.assertFalse(staging.exists());
+            Assertions.assertTrue(LoaderUtils.isCacheValid(target, "k1", entries("content"), true));
+        }
+        finally
+        {
+            LoaderUtils.deleteDir(root);
+        }
+    }
+
+    @Test()
+    public void testPublishCache_3() throws Exception
+    {
+        // An invalid directory at the target is replaced.
+
+        File root = Files.createTempDirectory("jostle-cache-test").toFile();
+        try
+        {
+            File target = new File(root, "jostle_k1");
+            Assertions.assertTrue(target.mkdir());
+            write(new File(target, "lib.so"), "partial");
+
+            File staging = populate(root, "staging", "content");
+            Assertions.assertEquals(target, LoaderUtils.publishCacheDir(staging, target, "k1", entries("content"), false));
+            Assertions.assertTrue(LoaderUtils.isCacheValid(target, "k1", entries("content"), true));
+
+            File[] entries = root.listFiles();
+            Assertions.assertNotNull(entries);
+            Assertions.assertEquals(1, entries.length);
+        }
+        finally
+        {
+            LoaderUtils.deleteDir(root);
+        }
+    }
+
+    /**
+     * What the jar would record for a single lib.so holding content.
+     */
+    private static List<LoaderUtils.CacheEntry> entries(String content) throws Exception
+    {
+        byte[] data = content.getBytes();
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+        return Collections.singletonList(new LoaderUtils.CacheEntry("lib.so", data.length, crc.getValue(), null, digest));
+    }
+
+    private static File populate(File root, String name, String content) throws IOException
+    {
+        File dir = LoaderUtils.createCacheStagingDir(root, name);
+        write(new File(dir, "lib.so"), content);
+        LoaderUtils.writeCacheManifest(dir, "k1", Collections.singletonList("lib.so"));
+        return dir;
+    }
+
+    private static void write(File file, String content) throws IOException
+    {
+        try (FileOutputStream fos = new FileOutputStream(file))
+        {
+            fos.write(content.getBytes());
+        }
+    }
+
 }
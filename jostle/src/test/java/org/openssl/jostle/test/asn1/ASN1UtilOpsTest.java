@@ -223,15 +223,15 @@ public class ASN1UtilOpsTest
         MLDSAPrivateKey privateKey = (MLDSAPrivateKey) keyPair.getPrivate();
 
 
-        long asn1Ref = TestNISelector.Asn1NI.allocate();
+        long asn1Ref = TestNISelector.getAsn1NI().allocate();
 
         try
         {
             // Exercises interface/nonfips/jni/asn1_ni_jni.c:134
             operationsTestNI.setFlag(OperationsTestNI.OpsTestFlag.OPS_FAILED_ACCESS_1);
-            long len = TestNISelector.Asn1NI.encodePrivateKey(asn1Ref, privateKey.getSpec().getReference(), PrivateKeyOptions.DEFAULT.getValue());
+            long len = TestNISelector.getAsn1NI().encodePrivateKey(asn1Ref, privateKey.getSpec().getReference(), PrivateKeyOptions.DEFAULT.getValue());
             byte[] out = new byte[(int) len];
-           TestNISelector.Asn1NI.getData(asn1Ref, out);
+           TestNISelector.getAsn1NI().getData(asn1Ref, out);
             Assertions.fail("Should have thrown exception");
 
         } catch (AccessException e)
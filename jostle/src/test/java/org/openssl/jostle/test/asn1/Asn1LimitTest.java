@@ -57,25 +57,25 @@ public class Asn1LimitTest
     @Test
     public void allocDeallocTest() throws Exception
     {
-        long ref = TestNISelector.Asn1NI.allocate();
+        long ref = TestNISelector.getAsn1NI().allocate();
         try
         {
             // Can it cope with null, if not it will SIGSEGV
-            TestNISelector.Asn1NI.dispose(0);
+            TestNISelector.getAsn1NI().dispose(0);
         } finally
         {
-            TestNISelector.Asn1NI.dispose(ref);
+            TestNISelector.getAsn1NI().dispose(ref);
         }
     }
 
     @Test
     public void encodePrivateKey_keyRefIsZero() throws Exception
     {
-        long asn1Ref = TestNISelector.Asn1NI.allocate();
+        long asn1Ref = TestNISelector.getAsn1NI().allocate();
 
         try
         {
-            TestNISelector.Asn1NI.encodePrivateKey(asn1Ref, 0, PrivateKeyOptions.DEFAULT.getValue());
+            TestNISelector.getAsn1NI().encodePrivateKey(asn1Ref, 0, PrivateKeyOptions.DEFAULT.getValue());
 
             Assertions.fail("Should have thrown exception");
         } catch (Exception e)
@@ -83,18 +83,18 @@ public class Asn1LimitTest
             Assertions.assertEquals("key reference is null", e.getMessage());
         } finally
         {
-            TestNISelector.Asn1NI.dispose(asn1Ref);
+            TestNISelector.getAsn1NI().dispose(asn1Ref);
         }
     }
 
     @Test
     public void encodePublicKey_keyRefIsZero() throws Exception
     {
-        long asn1Ref = TestNISelector.Asn1NI.allocate();
+        long asn1Ref = TestNISelector.getAsn1NI().allocate();
 
         try
         {
-            TestNISelector.Asn1NI.encodePublicKey(asn1Ref, 0);
+            TestNISelector.getAsn1NI().encodePublicKey(asn1Ref, 0);
 
             Assertions.fail("Should have thrown exception");
         } catch (Exception e)
@@ -102,7 +102,7 @@ public class Asn1LimitTest
             Assertions.assertEquals("key reference is null", e.getMessage());
         } finally
         {
-            TestNISelector.Asn1NI.dispose(asn1Ref);
+            TestNISelector.getAsn1NI().dispose(asn1Ref);
         }
     }
 
@@ -116,29 +116,29 @@ public class Asn1LimitTest
         // key). Regression lock for the ctx null-check bridge fix
         // (asn1_ni_jni.c / asn1_ni_ffi.c).
         Assertions.assertEquals("asn1 context is null", Assertions.assertThrows(IllegalArgumentException.class,
-                () -> TestNISelector.Asn1NI.encodePublicKey(0, 0)).getMessage());
+                () -> TestNISelector.getAsn1NI().encodePublicKey(0, 0)).getMessage());
         Assertions.assertEquals("asn1 context is null", Assertions.assertThrows(IllegalArgumentException.class,
-                () -> TestNISelector.Asn1NI.encodePrivateKey(0, 0, PrivateKeyOptions.DEFAULT.getValue())).getMessage());
+                () -> TestNISelector.getAsn1NI().encodePrivateKey(0, 0, PrivateKeyOptions.DEFAULT.getValue())).getMessage());
         Assertions.assertEquals("asn1 context is null", Assertions.assertThrows(IllegalArgumentException.class,
-                () -> TestNISelector.Asn1NI.getData(0, new byte[16])).getMessage());
+                () -> TestNISelector.getAsn1NI().getData(0, new byte[16])).getMessage());
     }
 
     @Test
     public void encodePublicKey_specNullKeyTest() throws Exception
     {
-        long asn1Ref = TestNISelector.Asn1NI.allocate();
-        long specRef = TestNISelector.SpecNI.allocate();
+        long asn1Ref = TestNISelector.getAsn1NI().allocate();
+        long specRef = TestNISelector.getSpecNI().allocate();
         try
         {
-            TestNISelector.Asn1NI.encodePublicKey(asn1Ref, specRef);
+            TestNISelector.getAsn1NI().encodePublicKey(asn1Ref, specRef);
             Assertions.fail("Should have thrown exception");
         } catch (Exception e)
         {
             Assertions.assertEquals("key spec has null key", e.getMessage());
         } finally
         {
-            TestNISelector.Asn1NI.dispose(asn1Ref);
-            TestNISelector.SpecNI.dispose(specRef);
+            TestNISelector.getAsn1NI().dispose(asn1Ref);
+            TestNISelector.getSpecNI().dispose(specRef);
         }
     }
 
@@ -153,14 +153,14 @@ public class Asn1LimitTest
         MLDSAPublicKey publicKey = (MLDSAPublicKey) keyPair.getPublic();
 
 
-        long asn1Ref = TestNISelector.Asn1NI.allocate();
+        long asn1Ref = TestNISelector.getAsn1NI().allocate();
         try
         {
             try
             { // Too long by one
-                long len = TestNISelector.Asn1NI.encodePublicKey(asn1Ref, publicKey.getSpec().getReference());
+                long len = TestNISelector.getAsn1NI().encodePublicKey(asn1Ref, publicKey.getSpec().getReference());
                 byte[] out = new byte[(int) (len + 1)];
-                TestNISelector.Asn1NI.getData(asn1Ref, out);
+                TestNISelector.getAsn1NI().getData(asn1Ref, out);
                 Assertions.fail("Should have thrown exception");
             } catch (Exception e)
             {
@@ -169,9 +169,9 @@ public class Asn1LimitTest
 
             try
             { // Too small by one
-                long len = TestNISelector.Asn1NI.encodePublicKey(asn1Ref, publicKey.getSpec().getReference());
+                long len = TestNISelector.getAsn1NI().encodePublicKey(asn1Ref, publicKey.getSpec().getReference());
                 byte[] out = new byte[(int) (len - 1)];
-                TestNISelector.Asn1NI.getData(asn1Ref, out);
+                TestNISelector.getAsn1NI().getData(asn1Ref, out);
                 Assertions.fail("Should have thrown exception");
             } catch (Exception e)
             {
@@ -181,7 +181,7 @@ public class Asn1LimitTest
 
         } finally
         {
-            TestNISelector.Asn1NI.dispose(asn1Ref);
+            TestNISelector.getAsn1NI().dispose(asn1Ref);
         }
     }
 
@@ -189,38 +189,38 @@ public class Asn1LimitTest
     @Test
     public void encodePrivateKey_specNullKeyTest() throws Exception
     {
-        long asn1Ref = TestNISelector.Asn1NI.allocate();
-        long specRef = TestNISelector.SpecNI.allocate();
+        long asn1Ref = TestNISelector.getAsn1NI().allocate();
+        long specRef = TestNISelector.getSpecNI().allocate();
         try
         {
-            TestNISelector.Asn1NI.encodePrivateKey(asn1Ref, specRef, PrivateKeyOptions.DEFAULT.getValue());
+            TestNISelector.getAsn1NI().encodePrivateKey(asn1Ref, specRef, PrivateKeyOptions.DEFAULT.getValue());
             Assertions.fail("Should have thrown exception");
         } catch (Exception e)
         {
             Assertions.assertEquals("key spec has null key", e.getMessage());
         } finally
         {
-            TestNISelector.Asn1NI.dispose(asn1Ref);
-            TestNISelector.SpecNI.dispose(specRef);
+            TestNISelector.getAsn1NI().dispose(asn1Ref);
+            TestNISelector.getSpecNI().dispose(specRef);
         }
     }
 
     @Test
     public void encodePrivateKey_keyNullInSpec() throws Exception
     {
-        long asn1Ref = TestNISelector.Asn1NI.allocate();
-        long specRef = TestNISelector.SpecNI.allocate();
+        long asn1Ref = TestNISelector.getAsn1NI().allocate();
+        long specRef = TestNISelector.getSpecNI().allocate();
         try
         {
-            TestNISelector.Asn1NI.encodePrivateKey(asn1Ref, specRef, PrivateKeyOptions.DEFAULT.getValue());
+            TestNISelector.getAsn1NI().encodePrivateKey(asn1Ref, specRef, PrivateKeyOptions.DEFAULT.getValue());
             Assertions.fail("Should have thrown exception");
         } catch (Exception e)
         {
             Assertions.assertEquals("key spec has null key", e.getMessage());
         } finally
         {
-            TestNISelector.Asn1NI.dispose(asn1Ref);
-            TestNISelector.SpecNI.dispose(specRef);
+            TestNISelector.getAsn1NI().dispose(asn1Ref);
+            TestNISelector.getSpecNI().dispose(specRef);
         }
     }
 
@@ -236,14 +236,14 @@ public class Asn1LimitTest
 
         MLDSAPrivateKey privateKey = (MLDSAPrivateKey) keyPair.getPrivate();
 
-        long asn1Ref = TestNISelector.Asn1NI.allocate();
+        long asn1Ref = TestNISelector.getAsn1NI().allocate();
         try
         {
             try
             { // Too long by one
-                long len = TestNISelector.Asn1NI.encodePrivateKey(asn1Ref, privateKey.getSpec().getReference(), PrivateKeyOptions.DEFAULT.getValue());
+                long len = TestNISelector.getAsn1NI().encodePrivateKey(asn1Ref, privateKey.getSpec().getReference(), PrivateKeyOptions.DEFAULT.getValue());
                 byte[] out = new byte[(int) (len + 1)];
-                TestNISelector.Asn1NI.getData(asn1Ref, out);
+                TestNISelector.getAsn1NI().getData(asn1Ref, out);
                 Assertions.fail("Should have thrown exception");
             } catch (Exception e)
             {
@@ -252,9 +252,9 @@ public class Asn1LimitTest
 
             try
             { // Too small by one
-                long len = TestNISelector.Asn1NI.encodePrivateKey(asn1Ref, privateKey.getSpec().getReference(), PrivateKeyOptions.DEFAULT.getValue());
+                long len = TestNISelector.getAsn1NI().encodePrivateKey(asn1Ref, privateKey.getSpec().getReference(), PrivateKeyOptions.DEFAULT.getValue());
                 byte[] out = new byte[(int) (len - 1)];
-                TestNISelector.Asn1NI.getData(asn1Ref, out);
+                TestNISelector.getAsn1NI().getData(asn1Ref, out);
                 Assertions.fail("Should have thrown exception");
             } catch (Exception e)
             {
@@ -264,7 +264,7 @@ public class Asn1LimitTest
 
         } finally
         {
-            TestNISelector.Asn1NI.dispose(asn1Ref);
+            TestNISelector.getAsn1NI().dispose(asn1Ref);
         }
     }
 
@@ -281,10 +281,10 @@ public class Asn1LimitTest
         org.openssl.jostle.jcajce.interfaces.OSSLKey privateKey =
                 (org.openssl.jostle.jcajce.interfaces.OSSLKey) keyPair.getPrivate();
 
-        long asn1Ref = TestNISelector.Asn1NI.allocate();
+        long asn1Ref = TestNISelector.getAsn1NI().allocate();
         try
         {
-            TestNISelector.Asn1NI.encodePrivateKey(asn1Ref, privateKey.getSpec().getReference(),
+            TestNISelector.getAsn1NI().encodePrivateKey(asn1Ref, privateKey.getSpec().getReference(),
                     PrivateKeyOptions.SEED_ONLY.getValue());
             Assertions.fail("Should have thrown exception");
         }
@@ -294,7 +294,7 @@ public class Asn1LimitTest
         }
         finally
         {
-            TestNISelector.Asn1NI.dispose(asn1Ref);
+            TestNISelector.getAsn1NI().dispose(asn1Ref);
         }
     }
 
@@ -309,14 +309,14 @@ public class Asn1LimitTest
         MLDSAPrivateKey privateKey = (MLDSAPrivateKey) keyPair.getPrivate();
 
 
-        long asn1Ref = TestNISelector.Asn1NI.allocate();
+        long asn1Ref = TestNISelector.getAsn1NI().allocate();
         try
         {
             try
             {
-                long len = TestNISelector.Asn1NI.encodePrivateKey(asn1Ref, privateKey.getSpec().getReference(), "unknown");
+                long len = TestNISelector.getAsn1NI().encodePrivateKey(asn1Ref, privateKey.getSpec().getReference(), "unknown");
                 byte[] out = new byte[(int) len];
-                TestNISelector.Asn1NI.getData(asn1Ref, out);
+                TestNISelector.getAsn1NI().getData(asn1Ref, out);
                 Assertions.fail("Should have thrown exception");
             } catch (IllegalArgumentException e)
             {
@@ -325,7 +325,7 @@ public class Asn1LimitTest
 
         } finally
         {
-            TestNISelector.Asn1NI.dispose(asn1Ref);
+            TestNISelector.getAsn1NI().dispose(asn1Ref);
         }
     }
 
@@ -345,17 +345,17 @@ public class Asn1LimitTest
 
         MLDSAPrivateKey privateKey = (MLDSAPrivateKey) keyPair.getPrivate();
 
-        long asn1Ref = TestNISelector.Asn1NI.allocate();
+        long asn1Ref = TestNISelector.getAsn1NI().allocate();
         try
         {
             for (String prefix : new String[]{"d", "s"})
             {
                 try
                 {
-                    long len = TestNISelector.Asn1NI.encodePrivateKey(
+                    long len = TestNISelector.getAsn1NI().encodePrivateKey(
                             asn1Ref, privateKey.getSpec().getReference(), prefix);
                     byte[] out = new byte[(int) len];
-                    TestNISelector.Asn1NI.getData(asn1Ref, out);
+                    TestNISelector.getAsn1NI().getData(asn1Ref, out);
                     Assertions.fail("prefix option '" + prefix + "' should have been rejected");
                 }
                 catch (IllegalArgumentException e)
@@ -366,7 +366,7 @@ public class Asn1LimitTest
         }
         finally
         {
-            TestNISelector.Asn1NI.dispose(asn1Ref);
+            TestNISelector.getAsn1NI().dispose(asn1Ref);
         }
     }
 
@@ -376,7 +376,7 @@ public class Asn1LimitTest
     {
         try
         {
-            TestNISelector.Asn1NI.fromPrivateKeyInfo(null, 0, 0);
+            TestNISelector.getAsn1NI().fromPrivateKeyInfo(null, 0, 0);
             Assertions.fail();
         } catch (NullPointerException ex)
         {
@@ -389,7 +389,7 @@ public class Asn1LimitTest
     {
         try
         {
-            TestNISelector.Asn1NI.fromPrivateKeyInfo(new byte[0], -1, 0);
+            TestNISelector.getAsn1NI().fromPrivateKeyInfo(new byte[0], -1, 0);
             Assertions.fail();
         } catch (IllegalArgumentException ex)
         {
@@ -402,7 +402,7 @@ public class Asn1LimitTest
     {
         try
         {
-            TestNISelector.Asn1NI.fromPrivateKeyInfo(new byte[0], 0, -1);
+            TestNISelector.getAsn1NI().fromPrivateKeyInfo(new byte[0], 0, -1);
             Assertions.fail();
         } catch (IllegalArgumentException ex)
         {
@@ -416,7 +416,7 @@ public class Asn1LimitTest
         try
         {
             // Offset causes overflow
-            TestNISelector.Asn1NI.fromPrivateKeyInfo(new byte[16], 1, 16);
+            TestNISelector.getAsn1NI().fromPrivateKeyInfo(new byte[16], 1, 16);
             Assertions.fail();
         } catch (IllegalArgumentException ex)
         {
@@ -426,7 +426,7 @@ public class Asn1LimitTest
         try
         {
             // too long
-            TestNISelector.Asn1NI.fromPrivateKeyInfo(new byte[16], 0, 17);
+            TestNISelector.getAsn1NI().fromPrivateKeyInfo(new byte[16], 0, 17);
             Assertions.fail();
         } catch (IllegalArgumentException ex)
         {
@@ -441,12 +441,12 @@ public class Asn1LimitTest
         }
 
         // OK — dispose the decoded specs so the positive controls don't leak.
-        long ref0 = TestNISelector.Asn1NI.fromPrivateKeyInfo(validKey, 0, validKey.length);
-        TestNISelector.SpecNI.dispose(ref0);
+        long ref0 = TestNISelector.getAsn1NI().fromPrivateKeyInfo(validKey, 0, validKey.length);
+        TestNISelector.getSpecNI().dispose(ref0);
         byte[] offset = new byte[validKey.length + 1];
         System.arraycopy(validKey, 0, offset, 1, validKey.length);
-        long ref1 = TestNISelector.Asn1NI.fromPrivateKeyInfo(offset, 1, validKey.length);
-        TestNISelector.SpecNI.dispose(ref1);
+        long ref1 = TestNISelector.getAsn1NI().fromPrivateKeyInfo(offset, 1, validKey.length);
+        TestNISelector.getSpecNI().dispose(ref1);
     }
 
     @Test
@@ -463,7 +463,7 @@ public class Asn1LimitTest
 
         try
         {
-            TestNISelector.Asn1NI.fromPrivateKeyInfo(validKey, 0, validKey.length);
+            TestNISelector.getAsn1NI().fromPrivateKeyInfo(validKey, 0, validKey.length);
             Assertions.fail();
         } catch (OpenSSLException ex)
         {
@@ -489,7 +489,7 @@ public class Asn1LimitTest
 
         try
         {
-            TestNISelector.Asn1NI.fromPrivateKeyInfo(validKey, 0, validKey.length - 10);
+            TestNISelector.getAsn1NI().fromPrivateKeyInfo(validKey, 0, validKey.length - 10);
             Assertions.fail();
         } catch (OpenSSLException ex)
         {
@@ -504,7 +504,7 @@ public class Asn1LimitTest
     {
         try
         {
-            TestNISelector.Asn1NI.fromPublicKeyInfo(null, 0, 0);
+            TestNISelector.getAsn1NI().fromPublicKeyInfo(null, 0, 0);
             Assertions.fail();
         } catch (NullPointerException ex)
         {
@@ -517,7 +517,7 @@ public class Asn1LimitTest
     {
         try
         {
-            TestNISelector.Asn1NI.fromPublicKeyInfo(new byte[0], -1, 0);
+            TestNISelector.getAsn1NI().fromPublicKeyInfo(new byte[0], -1, 0);
             Assertions.fail();
         } catch (IllegalArgumentException ex)
         {
@@ -530,7 +530,7 @@ public class Asn1LimitTest
     {
         try
         {
-            TestNISelector.Asn1NI.fromPublicKeyInfo(new byte[0], 0, -1);
+            TestNISelector.getAsn1NI().fromPublicKeyInfo(new byte[0], 0, -1);
             Assertions.fail();
         } catch (IllegalArgumentException ex)
         {
@@ -544,7 +544,7 @@ public class Asn1LimitTest
         try
         {
             // Offset causes overflow
-            TestNISelector.Asn1NI.fromPublicKeyInfo(new byte[16], 1, 16);
+            TestNISelector.getAsn1NI().fromPublicKeyInfo(new byte[16], 1, 16);
             Assertions.fail();
         } catch (IllegalArgumentException ex)
         {
@@ -554,7 +554,7 @@ public class Asn1LimitTest
         try
         {
             // too long
-            TestNISelector.Asn1NI.fromPublicKeyInfo(new byte[16], 0, 17);
+            TestNISelector.getAsn1NI().fromPublicKeyInfo(new byte[16], 0, 17);
             Assertions.fail();
         } catch (IllegalArgumentException ex)
         {
@@ -569,12 +569,12 @@ public class Asn1LimitTest
         }
 
         // OK — dispose the decoded specs so the positive controls don't leak.
-        long ref0 = TestNISelector.Asn1NI.fromPublicKeyInfo(validKey, 0, validKey.length);
-        TestNISelector.SpecNI.dispose(ref0);
+        long ref0 = TestNISelector.getAsn1NI().fromPublicKeyInfo(validKey, 0, validKey.length);
+        TestNISelector.getSpecNI().dispose(ref0);
         byte[] offset = new byte[validKey.length + 1];
         System.arraycopy(validKey, 0, offset, 1, validKey.length);
-        long ref1 = TestNISelector.Asn1NI.fromPublicKeyInfo(offset, 1, validKey.length);
-        TestNISelector.SpecNI.dispose(ref1);
+        long ref1 = TestNISelector.getAsn1NI().fromPublicKeyInfo(offset, 1, validKey.length);
+        TestNISelector.getSpecNI().dispose(ref1);
     }
 
 
@@ -592,7 +592,7 @@ public class Asn1LimitTest
 
         try
         {
-            TestNISelector.Asn1NI.fromPublicKeyInfo(validKey, 0, validKey.length);
+            TestNISelector.getAsn1NI().fromPublicKeyInfo(validKey, 0, validKey.length);
             Assertions.fail();
         } catch (OpenSSLException ex)
         {
@@ -617,7 +617,7 @@ public class Asn1LimitTest
 
         try
         {
-            TestNISelector.Asn1NI.fromPublicKeyInfo(validKey, 0, validKey.length - 10);
+            TestNISelector.getAsn1NI().fromPublicKeyInfo(validKey, 0, validKey.length - 10);
             Assertions.fail();
         } catch (OpenSSLException ex)
         {
@@ -652,8 +652,8 @@ public class Asn1LimitTest
 
         // Positive control: the unmodified encoding decodes cleanly — the
         // rejection boundary is exactly consumed == len (boundary + 1 rule).
-        TestNISelector.SpecNI.dispose(
-                TestNISelector.Asn1NI.fromPrivateKeyInfo(validKey, 0, validKey.length));
+        TestNISelector.getSpecNI().dispose(
+                TestNISelector.getAsn1NI().fromPrivateKeyInfo(validKey, 0, validKey.length));
 
         // One junk byte (boundary + 1), then several.
         for (int junkLen : new int[]{1, 7})
@@ -661,7 +661,7 @@ public class Asn1LimitTest
             byte[] withJunk = withTrailingJunk(validKey, junkLen);
             try
             {
-                TestNISelector.Asn1NI.fromPrivateKeyInfo(withJunk, 0, withJunk.length);
+                TestNISelector.getAsn1NI().fromPrivateKeyInfo(withJunk, 0, withJunk.length);
                 Assertions.fail("Should have thrown exception");
             }
             catch (Asn1TrailingDataException ex)
@@ -683,8 +683,8 @@ public class Asn1LimitTest
         RANDOM.nextBytes(padded);
         System.arraycopy(validKey, 0, padded, 0, validKey.length);
 
-        TestNISelector.SpecNI.dispose(
-                TestNISelector.Asn1NI.fromPrivateKeyInfo(padded, 0, validKey.length));
+        TestNISelector.getSpecNI().dispose(
+                TestNISelector.getAsn1NI().fromPrivateKeyInfo(padded, 0, validKey.length));
     }
 
     @Test
@@ -693,15 +693,15 @@ public class Asn1LimitTest
         byte[] validKey = generateMldsaKeyPair().getPublic().getEncoded();
 
         // Positive control: the unmodified encoding decodes cleanly.
-        TestNISelector.SpecNI.dispose(
-                TestNISelector.Asn1NI.fromPublicKeyInfo(validKey, 0, validKey.length));
+        TestNISelector.getSpecNI().dispose(
+                TestNISelector.getAsn1NI().fromPublicKeyInfo(validKey, 0, validKey.length));
 
         for (int junkLen : new int[]{1, 7})
         {
             byte[] withJunk = withTrailingJunk(validKey, junkLen);
             try
             {
-                TestNISelector.Asn1NI.fromPublicKeyInfo(withJunk, 0, withJunk.length);
+                TestNISelector.getAsn1NI().fromPublicKeyInfo(withJunk, 0, withJunk.length);
                 Assertions.fail("Should have thrown exception");
             }
             catch (Asn1TrailingDataException ex)
@@ -720,8 +720,8 @@ public class Asn1LimitTest
         RANDOM.nextBytes(padded);
         System.arraycopy(validKey, 0, padded, 0, validKey.length);
 
-        TestNISelector.SpecNI.dispose(
-                TestNISelector.Asn1NI.fromPublicKeyInfo(padded, 0, validKey.length));
+        TestNISelector.getSpecNI().dispose(
+                TestNISelector.getAsn1NI().fromPublicKeyInfo(padded, 0, validKey.length));
     }
 
     @Test
@@ -27,7 +27,10 @@ import org.bouncycastle.asn1.x509.V1TBSCertificateGenerator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.openssl.jostle.JostleResources;
+import org.openssl.jostle.disposal.ReleaseScope;
 import org.openssl.jostle.jcajce.provider.JostleProvider;
+import org.openssl.jostle.jcajce.provider.cache.SpkiKeyCache;
 import org.openssl.jostle.util.Arrays;
 
 import java.io.ByteArrayInputStream;
@@ -447,6 +450,59 @@ public class X509CertificateFactoryTest
                 "CertPath did not round-trip through PKCS7 encode/parse");
     }
 
+    // -----------------------------------------------------------------
+    // Imported key is memoised per wrapper and shared between wrappers
+    // -----------------------------------------------------------------
+
+    @Test
+    public void testPublicKey_importedOncePerWrapper() throws Exception
+    {
+        X509Certificate cert = parse(ecCertDer());
+        PublicKey first = cert.getPublicKey();
+        long misses = SpkiKeyCache.getMissCount();
+        long hits = SpkiKeyCache.getHitCount();
+
+        for (int t = 0; t < 10; t++)
+        {
+            Assertions.assertSame(first, cert.getPublicKey());
+        }
+
+        // Served by the wrapper itself, the shared cache is not consulted again.
+        Assertions.assertEquals(misses, SpkiKeyCache.getMissCount());
+        Assertions.assertEquals(hits, SpkiKeyCache.getHitCount());
+    }
+
+    @Test
+    public void testPublicKey_sharedBetweenWrappersOfSameCertificate() throws Exception
+    {
+        X509Certificate first = parse(rsaCertDer());
+        X509Certificate second = parse(rsaCertDer());
+        Assertions.assertNotSame(first, second);
+
+        PublicKey key = first.getPublicKey();
+        long hits = SpkiKeyCache.getHitCount();
+        Assertions.assertSame(key, second.getPublicKey());
+        Assertions.assertTrue(SpkiKeyCache.getHitCount() > hits);
+
+        // A different certificate never receives the shared key.
+        Assertions.assertNotEquals(key, parse(ecCertDer()).getPublicKey());
+    }
+
+    @Test
+    public void testPublicKey_sharedKeyOutlivesReleaseScope() throws Exception
+    {
+        PublicKey key;
+        try (ReleaseScope scope = JostleResources.openScope())
+        {
+            key = parse(caCertDer()).getPublicKey();
+        }
+
+        // The import ran outside the scope, so closing it left the shared key usable.
+        X509Certificate cert = parse(caCertDer());
+        Assertions.assertSame(key, cert.getPublicKey());
+        cert.verify(key, JostleProvider.PROVIDER_NAME);
+    }
+
     // -----------------------------------------------------------------
     // CRL parsing (delegated passthrough)
     // -----------------------------------------------------------------
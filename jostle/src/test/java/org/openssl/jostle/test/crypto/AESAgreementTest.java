@@ -1606,7 +1606,7 @@ public class AESAgreementTest
     @Test
     public void testJce_byteBufferUpdate_directBuffer() throws Exception
     {
-        // Direct (non-array-backed) ByteBuffers exercise the staging-buffer
+        // Direct (non-array-backed) ByteBuffers exercise the by-address
         // branch of engineUpdate(ByteBuffer, ByteBuffer).
         Cipher enc = Cipher.getInstance("AES/CTR/NoPadding", JostleProvider.PROVIDER_NAME);
         enc.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(new byte[16], "AES"), new IvParameterSpec(new byte[16]));
@@ -0,0 +1,302 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.test.crypto;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openssl.jostle.jcajce.BatchAEAD;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Arrays;
+
+public class BatchAEADTest
+{
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static SecureRandom seededRandom(String testName) throws Exception
+    {
+        long seed = RANDOM.nextLong();
+        System.out.println(testName + " seed=" + seed);
+        SecureRandom sr = SecureRandom.getInstance("SHA1PRNG");
+        sr.setSeed(seed);
+        return sr;
+    }
+
+    @BeforeAll
+    public static void before()
+    {
+        if (Security.getProvider(JostleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new JostleProvider());
+        }
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+    }
+
+    private static AlgorithmParameterSpec spec(String keyAlg, byte[] nonce)
+    {
+        // BC's ChaCha20-Poly1305 takes the nonce as an IvParameterSpec.
+        return keyAlg.equals("AES") ? new GCMParameterSpec(128, nonce) : new IvParameterSpec(nonce);
+    }
+
+    @Test
+    public void testSealOpenAgreesWithBC() throws Exception
+    {
+        SecureRandom sr = seededRandom("testSealOpenAgreesWithBC");
+        byte[] input = new byte[4096];
+        byte[] aad = new byte[512];
+        sr.nextBytes(input);
+        sr.nextBytes(aad);
+
+        String[][] algs = {
+                {"AES/GCM/NoPadding", "AES", "16"},
+                {"AES/GCM/NoPadding", "AES", "24"},
+                {"AES/GCM/NoPadding", "AES", "32"},
+                {"ChaCha20-Poly1305", "ChaCha20", "32"}};
+
+        for (String[] alg : algs)
+        {
+            byte[] keyBytes = new byte[Integer.parseInt(alg[2])];
+            sr.nextBytes(keyBytes);
+            SecretKeySpec key = new SecretKeySpec(keyBytes, alg[1]);
+
+            BatchAEAD batch = BatchAEAD.getInstance(alg[0], JostleProvider.PROVIDER_NAME);
+            batch.init(key);
+            Cipher bc = Cipher.getInstance(alg[0], BouncyCastleProvider.PROVIDER_NAME);
+
+            int count = 64;
+            byte[] nonces = new byte[count * BatchAEAD.NONCE_LENGTH];
+            sr.nextBytes(nonces);
+            int[] spans = new int[4 * count];
+            for (int i = 0; i < count; i++)
+            {
+                int aadLen = sr.nextInt(40);
+                int len = sr.nextInt(300);
+                spans[4 * i] = sr.nextInt(aad.length - aadLen + 1);
+                spans[4 * i + 1] = aadLen;
+                spans[4 * i + 2] = sr.nextInt(input.length - len + 1);
+                spans[4 * i + 3] = len;
+            }
+
+            byte[] sealed = new byte[BatchAEAD.getSealOutputSize(spans, count)];
+            Assertions.assertEquals(sealed.length, batch.seal(nonces, aad, input, spans, count, sealed, 0));
+
+            int[] openSpans = new int[4 * count];
+            int pos = 0;
+            for (int i = 0; i < count; i++)
+            {
+                byte[] nonce = Arrays.copyOfRange(nonces, i * 12, (i + 1) * 12);
+                bc.init(Cipher.ENCRYPT_MODE, key, spec(alg[1], nonce));
+                bc.updateAAD(aad, spans[4 * i], spans[4 * i + 1]);
+                byte[] expected = bc.doFinal(input, spans[4 * i + 2], spans[4 * i + 3]);
+                Assertions.assertArrayEquals(expected, Arrays.copyOfRange(sealed, pos, pos + expected.length),
+                        alg[0] + " " + alg[2] + " record " + i);
+
+                openSpans[4 * i] = spans[4 * i];
+                openSpans[4 * i + 1] = spans[4 * i + 1];
+                openSpans[4 * i + 2] = pos;
+                openSpans[4 * i + 3] = expected.length;
+                pos += expected.length;
+            }
+
+            byte[] opened = new byte[BatchAEAD.getOpenOutputSize(openSpans, count)];
+            boolean[] verified = new boolean[count];
+            Assertions.assertEquals(0, batch.open(nonces, aad, sealed, openSpans, count, opened, 0, verified));
+
+            pos = 0;
+            for (int i = 0; i < count; i++)
+            {
+                Assertions.assertTrue(verified[i]);
+                int len = spans[4 * i + 3];
+                Assertions.assertArrayEquals(
+                        Arrays.copyOfRange(input, spans[4 * i + 2], spans[4 * i + 2] + len),
+                        Arrays.copyOfRange(opened, pos, pos + len),
+                        alg[0] + " " + alg[2] + " open " + i);
+                pos += len;
+            }
+        }
+    }
+
+    @Test
+    public void testTamperedRecordDoesNotAbortBatch() throws Exception
+    {
+        SecureRandom sr = seededRandom("testTamperedRecordDoesNotAbortBatch");
+        byte[] keyBytes = new byte[16];
+        sr.nextBytes(keyBytes);
+        BatchAEAD batch = BatchAEAD.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME);
+        batch.init(new SecretKeySpec(keyBytes, "AES"));
+
+        int count = 4;
+        byte[] nonces = new byte[count * 12];
+        byte[] input = new byte[count * 20];
+        byte[] aad = new byte[count * 8];
+        sr.nextBytes(nonces);
+        sr.nextBytes(input);
+        sr.nextBytes(aad);
+
+        int[] spans = new int[4 * count];
+        int[] openSpans = new int[4 * count];
+        for (int i = 0; i < count; i++)
+        {
+            spans[4 * i] = i * 8;
+            spans[4 * i + 1] = 8;
+            spans[4 * i + 2] = i * 20;
+            spans[4 * i + 3] = 20;
+            openSpans[4 * i] = i * 8;
+            openSpans[4 * i + 1] = 8;
+            openSpans[4 * i + 2] = i * 36;
+            openSpans[4 * i + 3] = 36;
+        }
+
+        byte[] sealed = new byte[count * 36];
+        batch.seal(nonces, aad, input, spans, count, sealed, 0);
+
+        sealed[36 + 3] ^= 1;     // ciphertext of record 1
+        aad[2 * 8] ^= 1;         // associated data of record 2
+
+        byte[] opened = new byte[count * 20];
+        Arrays.fill(opened, (byte) 0xAA);
+        boolean[] verified = new boolean[count];
+        Assertions.assertEquals(2, batch.open(nonces, aad, sealed, openSpans, count, opened, 0, verified));
+
+        Assertions.assertArrayEquals(new boolean[]{true, false, false, true}, verified);
+        Assertions.assertArrayEquals(Arrays.copyOfRange(input, 0, 20), Arrays.copyOfRange(opened, 0, 20));
+        Assertions.assertArrayEquals(new byte[40], Arrays.copyOfRange(opened, 20, 60));
+        Assertions.assertArrayEquals(Arrays.copyOfRange(input, 60, 80), Arrays.copyOfRange(opened, 60, 80));
+
+        // A record too short to hold a tag cannot authenticate.
+        Assertions.assertEquals(1, batch.open(nonces, null, sealed, new int[]{0, 0, 0, 15}, 1, new byte[0], 0, verified));
+        Assertions.assertFalse(verified[0]);
+    }
+
+    @Test
+    public void testOutputOffsetAndEmptyRecords() throws Exception
+    {
+        BatchAEAD batch = BatchAEAD.getInstance("ChaCha20-Poly1305", JostleProvider.PROVIDER_NAME);
+        SecretKeySpec key = new SecretKeySpec(new byte[32], "ChaCha20");
+        batch.init(key);
+
+        byte[] nonces = new byte[24];
+        nonces[12] = 1;
+        int[] spans = {0, 0, 0, 0, 0, 0, 0, 0};
+        byte[] sealed = new byte[5 + 32];
+        Assertions.assertEquals(32, batch.seal(nonces, null, null, spans, 2, sealed, 5));
+
+        Cipher cipher = Cipher.getInstance("ChaCha20-Poly1305", JostleProvider.PROVIDER_NAME);
+        cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(Arrays.copyOfRange(nonces, 12, 24)));
+        Assertions.assertArrayEquals(cipher.doFinal(), Arrays.copyOfRange(sealed, 21, 37));
+
+        Assertions.assertEquals(0, batch.seal(nonces, null, null, spans, 0, new byte[0], 0));
+    }
+
+    @Test
+    public void testReInitChangesKey() throws Exception
+    {
+        BatchAEAD batch = BatchAEAD.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME);
+        byte[] nonces = new byte[12];
+        byte[] input = "Hello".getBytes();
+        int[] spans = {0, 0, 0, 5};
+
+        batch.init(new SecretKeySpec(new byte[16], "AES"));
+        byte[] first = new byte[21];
+        batch.seal(nonces, null, input, spans, 1, first, 0);
+
+        batch.init(new SecretKeySpec(new byte[32], "AES"));
+        byte[] second = new byte[21];
+        batch.seal(nonces, null, input, spans, 1, second, 0);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME);
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(new byte[16], "AES"), new GCMParameterSpec(128, nonces));
+        Assertions.assertArrayEquals(cipher.doFinal(input), first);
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(new byte[32], "AES"), new GCMParameterSpec(128, nonces));
+        Assertions.assertArrayEquals(cipher.doFinal(input), second);
+    }
+
+    @Test
+    public void testMisuse() throws Exception
+    {
+        BatchAEAD batch = BatchAEAD.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME);
+        byte[] buf = new byte[64];
+
+        IllegalStateException ise = Assertions.assertThrows(IllegalStateException.class,
+                () -> batch.seal(new byte[12], null, buf, new int[]{0, 0, 0, 1}, 1, new byte[17], 0));
+        Assertions.assertEquals("not initialized", ise.getMessage());
+
+        Assertions.assertThrows(InvalidKeyException.class, () -> batch.init(new SecretKeySpec(new byte[15], "AES")));
+        batch.init(new SecretKeySpec(new byte[16], "AES"));
+
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> batch.seal(new byte[12], null, buf, new int[]{0, 0, 0, 1}, 1, buf, 32));
+        Assertions.assertEquals("output must not share an array with the input", e.getMessage());
+
+        e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> batch.seal(new byte[12], null, buf, new int[]{0, 0, 0, 1}, 2, new byte[64], 0));
+        Assertions.assertEquals("count out of range for spans", e.getMessage());
+
+        e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> batch.seal(new byte[11], null, buf, new int[]{0, 0, 0, 1}, 1, new byte[64], 0));
+        Assertions.assertEquals("fewer than count nonces", e.getMessage());
+
+        e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> batch.seal(new byte[12], null, buf, new int[]{0, 0, 0, 1}, 1, new byte[16], 0));
+        Assertions.assertEquals("output offset + length is out of range", e.getMessage());
+
+        e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> batch.open(new byte[12], null, buf, new int[]{0, 0, 0, 32}, 1, new byte[16], 0, new boolean[0]));
+        Assertions.assertEquals("verified is shorter than count", e.getMessage());
+
+        // Records 0 and 2 share a nonce, nothing is sealed.
+        byte[] nonces = new byte[36];
+        nonces[12] = 1;
+        byte[] sealed = new byte[48];
+        e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> batch.seal(nonces, null, buf, new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}, 3, sealed, 0));
+        Assertions.assertEquals("duplicate nonce in batch", e.getMessage());
+        Assertions.assertArrayEquals(new byte[48], sealed);
+
+        // Opening records that share a nonce is not refused, the check guards sealing.
+        boolean[] verified = new boolean[2];
+        batch.open(new byte[24], null, new byte[32], new int[]{0, 0, 0, 16, 0, 0, 16, 16}, 2, new byte[0], 0, verified);
+    }
+
+    @Test
+    public void testGetInstance() throws Exception
+    {
+        Assertions.assertNotNull(BatchAEAD.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME));
+        Assertions.assertNotNull(BatchAEAD.getInstance("ChaCha20-Poly1305", JostleProvider.PROVIDER_NAME));
+
+        Assertions.assertThrows(NoSuchAlgorithmException.class,
+                () -> BatchAEAD.getInstance("AES/CBC/NoPadding", JostleProvider.PROVIDER_NAME));
+        Assertions.assertThrows(NoSuchAlgorithmException.class,
+                () -> BatchAEAD.getInstance("AES/OCB/NoPadding", JostleProvider.PROVIDER_NAME));
+        Assertions.assertThrows(NoSuchAlgorithmException.class,
+                () -> BatchAEAD.getInstance("AES", JostleProvider.PROVIDER_NAME));
+        Assertions.assertThrows(NoSuchAlgorithmException.class,
+                () -> BatchAEAD.getInstance("AES/GCM/PKCS5Padding", JostleProvider.PROVIDER_NAME));
+
+        NoSuchAlgorithmException e = Assertions.assertThrows(NoSuchAlgorithmException.class,
+                () -> BatchAEAD.getInstance("AES/GCM/NoPadding", BouncyCastleProvider.PROVIDER_NAME));
+        Assertions.assertEquals("AES/GCM/NoPadding from BC does not support batching", e.getMessage());
+    }
+}
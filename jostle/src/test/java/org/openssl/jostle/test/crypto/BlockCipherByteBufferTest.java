@@ -0,0 +1,276 @@
+/*
+ *
+ *   Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *   Licensed under the Apache License 2.0 (the "License"). You may not use
+ *   this file except in compliance with the License.  You can obtain a copy
+ *   in the file LICENSE in the source distribution or at
+ *   https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.test.crypto;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.security.spec.AlgorithmParameterSpec;
+
+/**
+ * ByteBuffer update / doFinal in BlockCipherSpi. Direct buffers are passed to the
+ * native layer by address and heap buffers by their backing array, in every
+ * combination, and the result must agree with the byte[] API.
+ */
+public class BlockCipherByteBufferTest
+{
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final String[] TRANSFORMATIONS = {
+            "AES/CBC/PKCS5Padding",
+            "AES/CTR/NoPadding",
+            "AES/GCM/NoPadding"
+    };
+
+    private static final int[] LENGTHS = {1, 15, 16, 17, 64, 1000};
+
+    @BeforeAll
+    static void before()
+    {
+        if (Security.getProvider(JostleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new JostleProvider());
+        }
+    }
+
+    private static SecureRandom seededRandom(String testName) throws Exception
+    {
+        long seed = RANDOM.nextLong();
+        System.out.println(testName + " seed=" + seed);
+        SecureRandom sr = SecureRandom.getInstance("SHA1PRNG");
+        sr.setSeed(seed);
+        return sr;
+    }
+
+    private static AlgorithmParameterSpec spec(String xform, byte[] iv)
+    {
+        return xform.contains("/GCM/") ? new GCMParameterSpec(128, iv) : new IvParameterSpec(iv);
+    }
+
+    /**
+     * Place data in a buffer of the given kind, offset within the buffer so
+     * positions and array offsets are non-zero.
+     */
+    private static ByteBuffer buffer(boolean direct, byte[] data, int capacity)
+    {
+        ByteBuffer b = direct ? ByteBuffer.allocateDirect(capacity + 7) : ByteBuffer.allocate(capacity + 7);
+        b.position(3);
+        ByteBuffer s = b.slice();
+        s.put(data);
+        s.flip();
+        return s;
+    }
+
+    private static byte[] drain(ByteBuffer out)
+    {
+        out.flip();
+        byte[] r = new byte[out.remaining()];
+        out.get(r);
+        return r;
+    }
+
+    private static byte[] process(Cipher c, byte[] input, boolean directIn, boolean directOut, boolean split)
+            throws Exception
+    {
+        ByteBuffer in = buffer(directIn, input, input.length);
+        ByteBuffer out = directOut ? ByteBuffer.allocateDirect(c.getOutputSize(input.length) + 32) : ByteBuffer.allocate(c.getOutputSize(input.length) + 32);
+        out.position(5);
+        out = out.slice();
+
+        if (split)
+        {
+            int half = input.length / 2;
+            ByteBuffer first = in.duplicate();
+            first.limit(half);
+            c.update(first, out);
+            Assertions.assertEquals(half, first.position());
+            in.position(half);
+        }
+        c.doFinal(in, out);
+        Assertions.assertEquals(0, in.remaining());
+        return drain(out);
+    }
+
+    @Test
+    public void testAllBufferCombinationsAgreeWithByteArrays() throws Exception
+    {
+        SecureRandom sr = seededRandom("testAllBufferCombinationsAgreeWithByteArrays");
+        byte[] key = new byte[16];
+        sr.nextBytes(key);
+        SecretKeySpec secretKey = new SecretKeySpec(key, "AES");
+
+        for (String xform : TRANSFORMATIONS)
+        {
+            for (int len : LENGTHS)
+            {
+                byte[] msg = new byte[len];
+                sr.nextBytes(msg);
+                byte[] iv = new byte[xform.contains("/GCM/") ? 12 : 16];
+                sr.nextBytes(iv);
+
+                Cipher ref = Cipher.getInstance(xform, JostleProvider.PROVIDER_NAME);
+                ref.init(Cipher.ENCRYPT_MODE, secretKey, spec(xform, iv));
+                byte[] expectedCt = ref.doFinal(msg);
+
+                for (int mask = 0; mask < 8; mask++)
+                {
+                    boolean directIn = (mask & 1) != 0;
+                    boolean directOut = (mask & 2) != 0;
+                    boolean split = (mask & 4) != 0;
+                    String label = xform + " len=" + len + " directIn=" + directIn + " directOut=" + directOut + " split=" + split;
+
+                    Cipher enc = Cipher.getInstance(xform, JostleProvider.PROVIDER_NAME);
+                    enc.init(Cipher.ENCRYPT_MODE, secretKey, spec(xform, iv));
+                    Assertions.assertArrayEquals(expectedCt, process(enc, msg, directIn, directOut, split), label);
+
+                    Cipher dec = Cipher.getInstance(xform, JostleProvider.PROVIDER_NAME);
+                    dec.init(Cipher.DECRYPT_MODE, secretKey, spec(xform, iv));
+                    Assertions.assertArrayEquals(msg, process(dec, expectedCt, directIn, directOut, split), label);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDirectInPlace() throws Exception
+    {
+        // Input and output are views of the same direct memory; the native
+        // layer cannot rely on the two regions being disjoint.
+        SecureRandom sr = seededRandom("testDirectInPlace");
+        SecretKeySpec secretKey = new SecretKeySpec(new byte[16], "AES");
+        byte[] iv = new byte[16];
+        sr.nextBytes(iv);
+        byte[] msg = new byte[100];
+        sr.nextBytes(msg);
+
+        Cipher ref = Cipher.getInstance("AES/CBC/PKCS5Padding", JostleProvider.PROVIDER_NAME);
+        ref.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(iv));
+        byte[] expectedCt = ref.doFinal(msg);
+
+        ByteBuffer shared = ByteBuffer.allocateDirect(expectedCt.length);
+        shared.put(msg);
+        shared.flip();
+        ByteBuffer out = shared.duplicate();
+        out.clear();
+
+        Cipher enc = Cipher.getInstance("AES/CBC/PKCS5Padding", JostleProvider.PROVIDER_NAME);
+        enc.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(iv));
+        Assertions.assertEquals(expectedCt.length, enc.doFinal(shared, out));
+        Assertions.assertArrayEquals(expectedCt, drain(out));
+
+        // Decrypt in place, offset by a partial block so the regions partially overlap.
+        ByteBuffer mem = ByteBuffer.allocateDirect(expectedCt.length + 5);
+        mem.position(5);
+        mem.put(expectedCt);
+        mem.position(5);
+        ByteBuffer decOut = mem.duplicate();
+        decOut.clear();
+
+        Cipher dec = Cipher.getInstance("AES/CBC/PKCS5Padding", JostleProvider.PROVIDER_NAME);
+        dec.init(Cipher.DECRYPT_MODE, secretKey, new IvParameterSpec(iv));
+        Assertions.assertEquals(msg.length, dec.doFinal(mem, decOut));
+        Assertions.assertArrayEquals(msg, drain(decOut));
+    }
+
+    @Test
+    public void testReadOnlyInputs() throws Exception
+    {
+        // Read-only heap buffers expose no array, read-only direct buffers still have an address.
+        SecureRandom sr = seededRandom("testReadOnlyInputs");
+        SecretKeySpec secretKey = new SecretKeySpec(new byte[16], "AES");
+        byte[] iv = new byte[16];
+        sr.nextBytes(iv);
+        byte[] msg = new byte[33];
+        sr.nextBytes(msg);
+
+        Cipher ref = Cipher.getInstance("AES/CTR/NoPadding", JostleProvider.PROVIDER_NAME);
+        ref.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(iv));
+        byte[] expectedCt = ref.doFinal(msg);
+
+        for (boolean direct : new boolean[]{false, true})
+        {
+            for (boolean directOut : new boolean[]{false, true})
+            {
+                ByteBuffer in = buffer(direct, msg, msg.length).asReadOnlyBuffer();
+                ByteBuffer out = directOut ? ByteBuffer.allocateDirect(msg.length) : ByteBuffer.allocate(msg.length);
+
+                Cipher enc = Cipher.getInstance("AES/CTR/NoPadding", JostleProvider.PROVIDER_NAME);
+                enc.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(iv));
+                enc.doFinal(in, out);
+                Assertions.assertArrayEquals(expectedCt, drain(out), "direct=" + direct + " directOut=" + directOut);
+            }
+        }
+    }
+
+    @Test
+    public void testShortDirectOutputLeavesPositionsUnchanged() throws Exception
+    {
+        Cipher enc = Cipher.getInstance("AES/CBC/PKCS5Padding", JostleProvider.PROVIDER_NAME);
+        enc.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(new byte[16], "AES"), new IvParameterSpec(new byte[16]));
+
+        ByteBuffer in = buffer(true, new byte[40], 40);
+        ByteBuffer out = ByteBuffer.allocateDirect(20);
+
+        try
+        {
+            enc.update(in, out);
+            Assertions.fail("expected ShortBufferException");
+        }
+        catch (ShortBufferException e)
+        {
+            Assertions.assertEquals("output buffer too small", e.getMessage());
+        }
+        Assertions.assertEquals(0, in.position());
+        Assertions.assertEquals(0, out.position());
+
+        try
+        {
+            enc.doFinal(in, out);
+            Assertions.fail("expected ShortBufferException");
+        }
+        catch (ShortBufferException e)
+        {
+            Assertions.assertEquals("output buffer too small", e.getMessage());
+        }
+        Assertions.assertEquals(0, in.position());
+        Assertions.assertEquals(0, out.position());
+    }
+
+    @Test
+    public void testGcmDirectTagMismatch() throws Exception
+    {
+        SecretKeySpec secretKey = new SecretKeySpec(new byte[16], "AES");
+        GCMParameterSpec gcmSpec = new GCMParameterSpec(128, new byte[12]);
+
+        Cipher enc = Cipher.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME);
+        enc.init(Cipher.ENCRYPT_MODE, secretKey, gcmSpec);
+        byte[] ct = enc.doFinal(new byte[32]);
+        ct[ct.length - 1] ^= 1;
+
+        Cipher dec = Cipher.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME);
+        dec.init(Cipher.DECRYPT_MODE, secretKey, gcmSpec);
+        ByteBuffer in = buffer(true, ct, ct.length);
+        ByteBuffer out = ByteBuffer.allocateDirect(ct.length);
+        Assertions.assertThrows(AEADBadTagException.class, () -> dec.doFinal(in, out));
+    }
+}
@@ -2006,4 +2006,176 @@ public class BlockCipherLimitTest
         }
     }
 
+    @Test
+    public void testAeadBatch_nullCtx() throws Exception
+    {
+        try
+        {
+            blockCipherNI.aeadBatch(0, Cipher.ENCRYPT_MODE, new byte[12], null, new byte[1], new int[]{0, 0, 0, 1}, 1, new byte[17], 0, new int[1]);
+            Assertions.fail("expected exception");
+        }
+        catch (Exception e)
+        {
+            Assertions.assertSame(IllegalArgumentException.class, e.getClass(), "unexpected exception class");
+            Assertions.assertEquals("cipher context is null", e.getMessage(), "unexpected exception message");
+        }
+    }
+
+    @Test
+    public void testAeadBatch_notInitialized() throws Exception
+    {
+        long ref = 0;
+        try
+        {
+            ref = blockCipherNI.makeInstance(8, 8, 0); // AES128, GCM
+            blockCipherNI.aeadBatch(ref, Cipher.ENCRYPT_MODE, new byte[12], null, new byte[1], new int[]{0, 0, 0, 1}, 1, new byte[17], 0, new int[1]);
+            Assertions.fail("expected exception");
+        }
+        catch (Exception e)
+        {
+            Assertions.assertSame(IllegalStateException.class, e.getClass(), "unexpected exception class");
+            Assertions.assertEquals("not initialized", e.getMessage(), "unexpected exception message");
+        }
+        finally
+        {
+            blockCipherNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void testAeadBatch_modeNotBatchable() throws Exception
+    {
+        long ref = 0;
+        try
+        {
+            ref = blockCipherNI.makeInstance(8, 1, 0); // AES128, CBC
+            blockCipherNI.init(ref, Cipher.ENCRYPT_MODE, new byte[16], new byte[16], 0);
+            blockCipherNI.aeadBatch(ref, Cipher.ENCRYPT_MODE, new byte[16], null, new byte[16], new int[]{0, 0, 0, 16}, 1, new byte[32], 0, new int[1]);
+            Assertions.fail("expected exception");
+        }
+        catch (Exception e)
+        {
+            Assertions.assertSame(IllegalArgumentException.class, e.getClass(), "unexpected exception class");
+            Assertions.assertEquals("mode not supported for cipher", e.getMessage(), "unexpected exception message");
+        }
+        finally
+        {
+            blockCipherNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void testAeadBatch_invalidOpMode() throws Exception
+    {
+        long ref = 0;
+        try
+        {
+            ref = blockCipherNI.makeInstance(8, 8, 0);
+            blockCipherNI.init(ref, Cipher.ENCRYPT_MODE, new byte[16], new byte[12], 16);
+            blockCipherNI.aeadBatch(ref, Cipher.WRAP_MODE, new byte[12], null, new byte[1], new int[]{0, 0, 0, 1}, 1, new byte[17], 0, new int[1]);
+            Assertions.fail("expected exception");
+        }
+        catch (Exception e)
+        {
+            Assertions.assertSame(IllegalStateException.class, e.getClass(), "unexpected exception class");
+            Assertions.assertEquals("invalid operation mode", e.getMessage(), "unexpected exception message");
+        }
+        finally
+        {
+            blockCipherNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void testAeadBatch_spansTooShort() throws Exception
+    {
+        long ref = 0;
+        try
+        {
+            ref = blockCipherNI.makeInstance(8, 8, 0);
+            blockCipherNI.init(ref, Cipher.ENCRYPT_MODE, new byte[16], new byte[12], 16);
+            blockCipherNI.aeadBatch(ref, Cipher.ENCRYPT_MODE, new byte[24], null, new byte[2], new int[]{0, 0, 0, 1, 0, 0, 1}, 2, new byte[34], 0, new int[2]);
+            Assertions.fail("expected exception");
+        }
+        catch (Exception e)
+        {
+            Assertions.assertSame(IllegalArgumentException.class, e.getClass(), "unexpected exception class");
+            Assertions.assertEquals("input offset + length is out of range", e.getMessage(), "unexpected exception message");
+        }
+        finally
+        {
+            blockCipherNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void testAeadBatch_tooFewNonces() throws Exception
+    {
+        long ref = 0;
+        try
+        {
+            ref = blockCipherNI.makeInstance(8, 8, 0);
+            blockCipherNI.init(ref, Cipher.ENCRYPT_MODE, new byte[16], new byte[12], 16);
+            blockCipherNI.aeadBatch(ref, Cipher.ENCRYPT_MODE, new byte[23], null, new byte[2], new int[]{0, 0, 0, 1, 0, 0, 1, 1}, 2, new byte[34], 0, new int[2]);
+            Assertions.fail("expected exception");
+        }
+        catch (Exception e)
+        {
+            Assertions.assertSame(IllegalArgumentException.class, e.getClass(), "unexpected exception class");
+            Assertions.assertEquals("invalid iv length", e.getMessage(), "unexpected exception message");
+        }
+        finally
+        {
+            blockCipherNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void testAeadBatch_recordOutOfRange() throws Exception
+    {
+        long ref = 0;
+        byte[] out = new byte[34];
+        try
+        {
+            ref = blockCipherNI.makeInstance(8, 8, 0);
+            blockCipherNI.init(ref, Cipher.ENCRYPT_MODE, new byte[16], new byte[12], 16);
+            // Second record runs past the end of the input.
+            blockCipherNI.aeadBatch(ref, Cipher.ENCRYPT_MODE, new byte[24], null, new byte[2], new int[]{0, 0, 0, 1, 0, 0, 1, 2}, 2, out, 0, new int[2]);
+            Assertions.fail("expected exception");
+        }
+        catch (Exception e)
+        {
+            Assertions.assertSame(IllegalArgumentException.class, e.getClass(), "unexpected exception class");
+            Assertions.assertEquals("input offset + length is out of range", e.getMessage(), "unexpected exception message");
+            // Rejected before any record was sealed.
+            Assertions.assertArrayEquals(new byte[34], out);
+        }
+        finally
+        {
+            blockCipherNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void testAeadBatch_outputOutOfRange() throws Exception
+    {
+        long ref = 0;
+        try
+        {
+            ref = blockCipherNI.makeInstance(8, 8, 0);
+            blockCipherNI.init(ref, Cipher.ENCRYPT_MODE, new byte[16], new byte[12], 16);
+            blockCipherNI.aeadBatch(ref, Cipher.ENCRYPT_MODE, new byte[24], null, new byte[2], new int[]{0, 0, 0, 1, 0, 0, 1, 1}, 2, new byte[34], 1, new int[2]);
+            Assertions.fail("expected exception");
+        }
+        catch (Exception e)
+        {
+            Assertions.assertSame(IllegalArgumentException.class, e.getClass(), "unexpected exception class");
+            Assertions.assertEquals("output offset + length is out of range", e.getMessage(), "unexpected exception message");
+        }
+        finally
+        {
+            blockCipherNI.dispose(ref);
+        }
+    }
+
 }
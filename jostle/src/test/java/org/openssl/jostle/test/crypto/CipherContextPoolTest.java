@@ -0,0 +1,168 @@
+/*
+ *
+ *   Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *   Licensed under the Apache License 2.0 (the "License"). You may not use
+ *   this file except in compliance with the License.  You can obtain a copy
+ *   in the file LICENSE in the source distribution or at
+ *   https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.test.crypto;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openssl.jostle.JostleResources;
+import org.openssl.jostle.disposal.ReleaseScope;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+import org.openssl.jostle.jcajce.provider.blockcipher.CipherContextPool;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.security.Security;
+
+/**
+ * Native cipher contexts released through a scope are reset and handed to the
+ * next cipher of the same transformation. A reused context must carry nothing
+ * over from its previous owner. Counters are process-wide so assertions only
+ * rely on them growing.
+ */
+public class CipherContextPoolTest
+{
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @BeforeAll
+    static void before()
+    {
+        if (Security.getProvider(JostleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new JostleProvider());
+        }
+    }
+
+    private static SecureRandom seededRandom(String testName) throws Exception
+    {
+        long seed = RANDOM.nextLong();
+        System.out.println(testName + " seed=" + seed);
+        SecureRandom sr = SecureRandom.getInstance("SHA1PRNG");
+        sr.setSeed(seed);
+        return sr;
+    }
+
+    @Test
+    public void testReleasedContextsAreReused() throws Exception
+    {
+        SecureRandom sr = seededRandom("testReleasedContextsAreReused");
+        byte[] key = new byte[16];
+        sr.nextBytes(key);
+        byte[] iv = new byte[16];
+        sr.nextBytes(iv);
+        byte[] msg = new byte[45];
+        sr.nextBytes(msg);
+        SecretKeySpec secretKey = new SecretKeySpec(key, "AES");
+
+        Cipher ref = Cipher.getInstance("AES/CBC/PKCS5Padding", JostleProvider.PROVIDER_NAME);
+        ref.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(iv));
+        byte[] expected = ref.doFinal(msg);
+
+        try (ReleaseScope scope = JostleResources.openScope())
+        {
+            for (int i = 0; i < 4; i++)
+            {
+                Cipher c = Cipher.getInstance("AES/CBC/PKCS5Padding", JostleProvider.PROVIDER_NAME);
+                c.init(Cipher.ENCRYPT_MODE, secretKey, new IvParameterSpec(iv));
+                Assertions.assertArrayEquals(expected, c.doFinal(msg));
+            }
+        }
+
+        long hits = CipherContextPool.getHitCount();
+        for (int i = 0; i < 4; i++)
+        {
+            Cipher c = Cipher.getInstance("AES/CBC/PKCS5Padding", JostleProvider.PROVIDER_NAME);
+            c.init(Cipher.DECRYPT_MODE, secretKey, new IvParameterSpec(iv));
+            Assertions.assertArrayEquals(msg, c.doFinal(expected));
+        }
+        Assertions.assertTrue(CipherContextPool.getHitCount() >= hits + 4, "hits");
+    }
+
+    @Test
+    public void testReusedContextCarriesNoState() throws Exception
+    {
+        // Leave a GCM context mid-stream and after a failed tag check, the
+        // next owner must see a clean context.
+        SecureRandom sr = seededRandom("testReusedContextCarriesNoState");
+        byte[] key = new byte[32];
+        sr.nextBytes(key);
+        byte[] nonce = new byte[12];
+        sr.nextBytes(nonce);
+        byte[] msg = new byte[70];
+        sr.nextBytes(msg);
+        SecretKeySpec secretKey = new SecretKeySpec(key, "AES");
+
+        Cipher ref = Cipher.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME);
+        ref.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(128, nonce));
+        byte[] expected = ref.doFinal(msg);
+        byte[] tampered = expected.clone();
+        tampered[tampered.length - 1] ^= 1;
+
+        try (ReleaseScope scope = JostleResources.openScope())
+        {
+            Cipher partial = Cipher.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME);
+            partial.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(new byte[32], "AES"), new GCMParameterSpec(128, new byte[12]));
+            partial.updateAAD(new byte[7]);
+            partial.update(new byte[33]);
+
+            Cipher failed = Cipher.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME);
+            failed.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(128, nonce));
+            Assertions.assertThrows(AEADBadTagException.class, () -> failed.doFinal(tampered));
+        }
+
+        for (int i = 0; i < 2; i++)
+        {
+            Cipher enc = Cipher.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME);
+            enc.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(128, nonce));
+            Assertions.assertArrayEquals(expected, enc.doFinal(msg));
+
+            Cipher dec = Cipher.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME);
+            dec.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(128, nonce));
+            Assertions.assertArrayEquals(msg, dec.doFinal(expected));
+        }
+    }
+
+    @Test
+    public void testUseAfterReleaseAndReinit() throws Exception
+    {
+        SecretKeySpec secretKey = new SecretKeySpec(new byte[16], "AES");
+        IvParameterSpec iv = new IvParameterSpec(new byte[16]);
+
+        Cipher c;
+        try (ReleaseScope scope = JostleResources.openScope())
+        {
+            c = Cipher.getInstance("AES/CTR/NoPadding", JostleProvider.PROVIDER_NAME);
+            c.init(Cipher.ENCRYPT_MODE, secretKey, iv);
+        }
+
+        // The context has gone back to the pool, this instance no longer holds it.
+        try
+        {
+            c.doFinal(new byte[16]);
+            Assertions.fail("expected IllegalArgumentException");
+        }
+        catch (IllegalArgumentException e)
+        {
+            Assertions.assertEquals("cipher context is null", e.getMessage());
+        }
+
+        // Init takes a fresh context.
+        c.init(Cipher.ENCRYPT_MODE, secretKey, iv);
+        Cipher ref = Cipher.getInstance("AES/CTR/NoPadding", JostleProvider.PROVIDER_NAME);
+        ref.init(Cipher.ENCRYPT_MODE, secretKey, iv);
+        Assertions.assertArrayEquals(ref.doFinal(new byte[16]), c.doFinal(new byte[16]));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *
+ *   Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *   Licensed under the Apache License 2.0 (the "License"). You may not use
+ *   this file except in compliance with the License.  You can obtain a copy
+ *   in the file LICENSE in the source distribution or at
+ *   https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.test.crypto;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openssl.jostle.NativeServiceNI;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+import org.openssl.jostle.jcajce.provider.NISelector;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.MessageDigest;
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The native fetch cache must serve repeat lookups of the same algorithm,
+ * and the objects it hands out must behave exactly as freshly fetched ones.
+ * Counters are process-wide, so assertions only rely on them growing.
+ */
+public class FetchCacheTest
+{
+    private static final NativeServiceNI NATIVE = NISelector.getNativeServiceNI();
+
+    @BeforeAll
+    static void before()
+    {
+        if (Security.getProvider(JostleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new JostleProvider());
+        }
+    }
+
+    @Test
+    public void testRepeatDigestAllocationHitsCache() throws Exception
+    {
+        MessageDigest.getInstance("SHA-256", JostleProvider.PROVIDER_NAME).digest(new byte[1]);
+
+        long hits = NATIVE.getFetchCacheHits();
+        long misses = NATIVE.getFetchCacheMisses();
+
+        byte[] expected = null;
+        for (int i = 0; i < 20; i++)
+        {
+            byte[] d = MessageDigest.getInstance("SHA-256", JostleProvider.PROVIDER_NAME).digest(new byte[1]);
+            if (expected != null)
+            {
+                Assertions.assertArrayEquals(expected, d);
+            }
+            expected = d;
+        }
+
+        Assertions.assertTrue(NATIVE.getFetchCacheHits() >= hits + 20, "hits");
+        Assertions.assertTrue(NATIVE.getFetchCacheMisses() >= misses, "misses never go backwards");
+    }
+
+    @Test
+    public void testRepeatCipherAndMacInitHitCache() throws Exception
+    {
+        SecretKeySpec key = new SecretKeySpec(new byte[16], "AES");
+
+        Cipher warm = Cipher.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME);
+        warm.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, new byte[12]));
+        byte[] expectedCt = warm.doFinal(new byte[32]);
+
+        Mac warmMac = Mac.getInstance("HmacSHA256", JostleProvider.PROVIDER_NAME);
+        warmMac.init(new SecretKeySpec(new byte[32], "HmacSHA256"));
+        byte[] expectedTag = warmMac.doFinal(new byte[32]);
+
+        long hits = NATIVE.getFetchCacheHits();
+
+        for (int i = 0; i < 10; i++)
+        {
+            Cipher c = Cipher.getInstance("AES/GCM/NoPadding", JostleProvider.PROVIDER_NAME);
+            c.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, new byte[12]));
+            Assertions.assertArrayEquals(expectedCt, c.doFinal(new byte[32]));
+
+            Mac m = Mac.getInstance("HmacSHA256", JostleProvider.PROVIDER_NAME);
+            m.init(new SecretKeySpec(new byte[32], "HmacSHA256"));
+            Assertions.assertArrayEquals(expectedTag, m.doFinal(new byte[32]));
+        }
+
+        Assertions.assertTrue(NATIVE.getFetchCacheHits() >= hits + 20, "hits");
+    }
+
+    @Test
+    public void testConcurrentLookups() throws Exception
+    {
+        // Many threads sharing the cached EVP_MD concurrently must all agree.
+        byte[] expected = MessageDigest.getInstance("SHA3-512", JostleProvider.PROVIDER_NAME).digest(new byte[3]);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<byte[]>> results = new ArrayList<>();
+            for (int t = 0; t < 64; t++)
+            {
+                results.add(pool.submit((Callable<byte[]>) () ->
+                        MessageDigest.getInstance("SHA3-512", JostleProvider.PROVIDER_NAME).digest(new byte[3])));
+            }
+            for (Future<byte[]> f : results)
+            {
+                Assertions.assertArrayEquals(expected, f.get());
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+}
@@ -43,52 +43,52 @@ public class TestNISelector extends NISelector
 
     static BlockCipherNI getBlockCipher()
     {
-        return BlockCipherNI;
+        return NISelector.getBlockCipherNI();
     }
 
     static CCMCipherNI getCCMCipher()
     {
-        return CCMCipherNI;
+        return NISelector.getCCMCipherNI();
     }
 
     public static OpenSSLNI getOpenSSLNI()
     {
-        return OpenSSLNI;
+        return NISelector.getOpenSSLNI();
     }
 
     public static NativeServiceNI getNativeServiceNI()
     {
-        return NativeServiceNI;
+        return NISelector.getNativeServiceNI();
     }
 
     public static MLDSAServiceNI getMLDSANI()
     {
-        return MLDSAServiceNI;
+        return NISelector.getMLDSAServiceNI();
     }
 
     public static MLKEMServiceNI getMLKEMNI()
     {
-        return MLKEMServiceNI;
+        return NISelector.getMLKEMServiceNI();
     }
 
     public static SLHDSAServiceNI getSLHDSANI()
     {
-        return SLHDSAServiceNI;
+        return NISelector.getSLHDSAServiceNI();
     }
 
     public static SpecNI getSpecNI()
     {
-        return SpecNI;
+        return NISelector.getSpecNI();
     }
 
     public static Asn1Ni getAsn1NI()
     {
-        return Asn1NI;
+        return NISelector.getAsn1NI();
     }
 
     public static KdfNI getKDFNI()
     {
-        return KdfNI;
+        return NISelector.getKdfNI();
     }
 
     /**
@@ -97,58 +97,58 @@ public class TestNISelector extends NISelector
      */
     public static MemoryHardKdfNI getMemoryHardKDFNI()
     {
-        return MemoryHardKdfNI;
+        return NISelector.getMemoryHardKdfNI();
     }
 
     public static OperationsTestNI getOperationsTestNI()
     {
-        return OperationsTestNI;
+        return NISelector.getOperationsTestNI();
     }
 
     public static MDServiceNI getMDNI() {
-        return MDServiceNI;
+        return NISelector.getMDServiceNI();
     }
 
     public static EDServiceNI getEdNi() {
-        return EDServiceNI;
+        return NISelector.getEDServiceNI();
     }
 
     public static MacServiceNI getMacServiceNI()
     {
-        return MacServiceNI;
+        return NISelector.getMacServiceNI();
     }
 
     public static RandServiceNI getRandNI()
     {
-        return RandServiceNI;
+        return NISelector.getRandServiceNI();
     }
 
     public static RSAServiceNI getRSANi() {
-        return RSAServiceNI;
+        return NISelector.getRSAServiceNI();
     }
 
     public static RSAOAEPCipherNI getRSAOAEPCipherNi() {
-        return RSAOAEPCipherNI;
+        return NISelector.getRSAOAEPCipherNI();
     }
 
     public static RSAPKCS1CipherNI getRSAPKCS1CipherNi() {
-        return RSAPKCS1CipherNI;
+        return NISelector.getRSAPKCS1CipherNI();
     }
 
     public static ECServiceNI getECNi() {
-        return ECServiceNI;
+        return NISelector.getECServiceNI();
     }
 
     public static DSAServiceNI getDSANi() {
-        return DSAServiceNI;
+        return NISelector.getDSAServiceNI();
     }
 
     public static DHServiceNI getDHNi() {
-        return DHServiceNI;
+        return NISelector.getDHServiceNI();
     }
 
     public static XECServiceNI getXECNi() {
-        return XECServiceNI;
+        return NISelector.getXECServiceNI();
     }
 
 }
@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.test.disposal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.openssl.jostle.disposal.DisposalDaemon;
+import org.openssl.jostle.disposal.DisposalDaemonMXBean;
+import org.openssl.jostle.disposal.NativeReference;
+
+import javax.management.JMX;
+import javax.management.StandardMBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * References registered from many threads at once must all be disposed
+ * exactly once, and the metrics must account for them.
+ */
+public class DisposalDaemonTest
+{
+    private static final AtomicInteger DISPOSED = new AtomicInteger();
+
+    private static class CountingReference
+            extends NativeReference
+    {
+        CountingReference(long reference)
+        {
+            super(reference, "Counting", new Runnable()
+            {
+                private boolean called;
+
+                @Override
+                public void run()
+                {
+                    if (called)
+                    {
+                        Assertions.fail("disposed twice");
+                    }
+                    called = true;
+                    DISPOSED.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    @Test
+    public void testConcurrentRegistrationAllDisposed() throws Exception
+    {
+        final int threads = 8;
+        final int perThread = 5000;
+
+        DisposalDaemonMXBean metrics = DisposalDaemon.getMetrics();
+        long registeredBefore = metrics.getRegisteredCount();
+        int disposedBefore = DISPOSED.get();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try
+        {
+            List<Future<?>> results = new ArrayList<Future<?>>();
+            for (int t = 0; t < threads; t++)
+            {
+                results.add(pool.submit(new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        for (int i = 0; i < perThread; i++)
+                        {
+                            new CountingReference(i);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : results)
+            {
+                f.get();
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        Assertions.assertTrue(metrics.getRegisteredCount() >= registeredBefore + threads * perThread);
+
+        int expected = disposedBefore + threads * perThread;
+        for (int i = 0; i < 200 && DISPOSED.get() < expected; i++)
+        {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        Assertions.assertEquals(expected, DISPOSED.get());
+        Assertions.assertTrue(metrics.getDisposedCount() >= threads * perThread);
+        Assertions.assertTrue(metrics.getPendingCount() >= 0);
+        Assertions.assertTrue(metrics.getWorkerCount() >= 1);
+    }
+
+    @Test
+    public void testMetricsAreValidMXBean() throws Exception
+    {
+        Assertions.assertTrue(JMX.isMXBeanInterface(DisposalDaemonMXBean.class));
+
+        StandardMBean mbean = new StandardMBean(DisposalDaemon.getMetrics(), DisposalDaemonMXBean.class, true);
+        Assertions.assertTrue(((Long)mbean.getAttribute("RegisteredCount")) >= 0);
+        Assertions.assertTrue(((Long)mbean.getAttribute("PendingCount")) >= 0);
+        Assertions.assertTrue(((Double)mbean.getAttribute("DisposedPerSecond")) >= 0);
+        Assertions.assertTrue(((Long)mbean.getAttribute("QueueLagMillis")) >= 0);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.test.disposal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openssl.jostle.JostleResources;
+import org.openssl.jostle.disposal.DisposalDaemon;
+import org.openssl.jostle.disposal.NativeReference;
+import org.openssl.jostle.disposal.ReleaseScope;
+import org.openssl.jostle.jcajce.provider.AsymmetricKeyImpl;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Explicit release of native references, directly and through a {@link ReleaseScope}.
+ */
+public class ReleaseTest
+{
+    @BeforeAll
+    static void before()
+    {
+        if (Security.getProvider(JostleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new JostleProvider());
+        }
+    }
+
+    private static class RecordingReference
+            extends NativeReference
+    {
+        RecordingReference(long reference, final List<Long> log)
+        {
+            super(reference, "Recording", new Runnable()
+            {
+                private final long ref = reference;
+
+                @Override
+                public void run()
+                {
+                    log.add(ref);
+                }
+            });
+        }
+    }
+
+    @Test
+    public void testReleaseRunsDisposeOnce() throws Exception
+    {
+        List<Long> log = new ArrayList<Long>();
+        long releasedBefore = DisposalDaemon.getMetrics().getReleasedCount();
+
+        RecordingReference ref = new RecordingReference(42, log);
+        Assertions.assertEquals(42, ref.getReference());
+        Assertions.assertFalse(ref.isReleased());
+
+        Assertions.assertTrue(JostleResources.release(ref));
+        Assertions.assertTrue(ref.isReleased());
+        Assertions.assertEquals(0, ref.getReference());
+
+        ref.release();
+        ref = null;
+        for (int i = 0; i < 5; i++)
+        {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        Assertions.assertEquals(1, log.size());
+        Assertions.assertEquals(releasedBefore + 1, DisposalDaemon.getMetrics().getReleasedCount());
+        Assertions.assertFalse(JostleResources.release("not native"));
+    }
+
+    @Test
+    public void testScopeReleasesNewestFirst()
+    {
+        List<Long> log = new ArrayList<Long>();
+        RecordingReference outside = new RecordingReference(1, log);
+
+        try (ReleaseScope outer = JostleResources.openScope())
+        {
+            new RecordingReference(2, log);
+            try (ReleaseScope inner = JostleResources.openScope())
+            {
+                new RecordingReference(3, log);
+                new RecordingReference(4, log);
+                Assertions.assertEquals(2, inner.size());
+            }
+            Assertions.assertEquals(2, log.size());
+            new RecordingReference(5, log);
+            Assertions.assertEquals(2, outer.size());
+        }
+
+        Assertions.assertEquals(Arrays.asList(4L, 3L, 5L, 2L), log);
+        Assertions.assertFalse(outside.isReleased());
+        outside.release();
+    }
+
+    @Test
+    public void testScopeMisuse() throws Exception
+    {
+        final ReleaseScope outer = JostleResources.openScope();
+        ReleaseScope inner = JostleResources.openScope();
+        try
+        {
+            Assertions.assertThrows(IllegalStateException.class, outer::close);
+
+            final Throwable[] fromOtherThread = new Throwable[1];
+            Thread t = new Thread(new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        outer.close();
+                    }
+                    catch (Throwable e)
+                    {
+                        fromOtherThread[0] = e;
+                    }
+                }
+            });
+            t.start();
+            t.join();
+            Assertions.assertTrue(fromOtherThread[0] instanceof IllegalStateException);
+        }
+        finally
+        {
+            inner.close();
+            outer.close();
+        }
+    }
+
+    @Test
+    public void testScopedEngineAndKey() throws Exception
+    {
+        KeyPair kp;
+        MessageDigest md;
+        SecureRandom random;
+        try (ReleaseScope scope = JostleResources.openScope())
+        {
+            md = MessageDigest.getInstance("SHA-256", JostleProvider.PROVIDER_NAME);
+            md.update(new byte[10]);
+
+            KeyPairGenerator kpg = KeyPairGenerator.getInstance("ED25519", JostleProvider.PROVIDER_NAME);
+            kp = kpg.generateKeyPair();
+
+            random = SecureRandom.getInstance("DEFAULT", JostleProvider.PROVIDER_NAME);
+
+            Assertions.assertTrue(scope.size() >= 2);
+        }
+
+        final MessageDigest released = md;
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class, () -> released.update(new byte[10]));
+        Assertions.assertEquals("md context is null", e.getMessage());
+
+        Assertions.assertEquals(0, ((AsymmetricKeyImpl) kp.getPrivate()).getReference());
+
+        // DRBGs are never collected by a scope.
+        random.nextBytes(new byte[16]);
+    }
+
+    @Test
+    public void testReleaseKeyDirectly() throws Exception
+    {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("ED25519", JostleProvider.PROVIDER_NAME);
+        KeyPair kp = kpg.generateKeyPair();
+
+        Assertions.assertNotEquals(0, ((AsymmetricKeyImpl) kp.getPublic()).getReference());
+        Assertions.assertTrue(JostleResources.release(kp.getPrivate()));
+
+        // Both halves of a generated pair share one native key.
+        Assertions.assertEquals(0, ((AsymmetricKeyImpl) kp.getPrivate()).getReference());
+        Assertions.assertEquals(0, ((AsymmetricKeyImpl) kp.getPublic()).getReference());
+    }
+}
@@ -105,7 +105,7 @@ public class ECDHTest
         int generated = 0;
         for (String curve : STANDARD_CURVES)
         {
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
@@ -162,8 +162,8 @@ public class ECDHTest
     @Test
     public void testEcdh_CurveMismatch_rejectsAtDoPhase() throws Exception
     {
-        Assumptions.assumeTrue(NISelector.ECServiceNI.curveSupported("P-256"));
-        Assumptions.assumeTrue(NISelector.ECServiceNI.curveSupported("P-384"));
+        Assumptions.assumeTrue(NISelector.getECServiceNI().curveSupported("P-256"));
+        Assumptions.assumeTrue(NISelector.getECServiceNI().curveSupported("P-384"));
 
         KeyPair alice = generateKeyPair("P-256");
         KeyPair bob = generateKeyPair("P-384");
@@ -194,7 +194,7 @@ public class ECDHTest
     {
         for (String curve : STANDARD_CURVES)
         {
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
@@ -612,7 +612,7 @@ public class ECDHTest
 
     private static KeyPair generateKeyPair(String curve) throws Exception
     {
-        Assumptions.assumeTrue(NISelector.ECServiceNI.curveSupported(curve),
+        Assumptions.assumeTrue(NISelector.getECServiceNI().curveSupported(curve),
                 curve + " not supported by the loaded OpenSSL build");
         KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC", JostleProvider.PROVIDER_NAME);
         kpg.initialize(new ECGenParameterSpec(curve));
@@ -70,7 +70,7 @@ public class ECDSANoneWithECDSASignatureTest
         {
             Security.addProvider(new JostleProvider());
         }
-        Assumptions.assumeTrue(NISelector.ECServiceNI.curveSupported("P-256"),
+        Assumptions.assumeTrue(NISelector.getECServiceNI().curveSupported("P-256"),
                 "P-256 must be supported by the loaded OpenSSL build");
 
         KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC", JostleProvider.PROVIDER_NAME);
@@ -192,7 +192,7 @@ public class ECDSANoneWithECDSASignatureTest
         {
             String curve = row[0];
             int digestLen = Integer.parseInt(row[1]);
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
@@ -125,7 +125,7 @@ public class ECDSATest
         int trials = 0;
         for (String curve : STANDARD_CURVES)
         {
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
@@ -327,7 +327,7 @@ public class ECDSATest
         SecureRandom sr = seededRandom("testEcdsa_BCAgreement_signJostleVerifyBC");
         for (String curve : STANDARD_CURVES)
         {
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
@@ -363,7 +363,7 @@ public class ECDSATest
         SecureRandom sr = seededRandom("testEcdsa_BCAgreement_signBCVerifyJostle");
         for (String curve : STANDARD_CURVES)
         {
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
@@ -491,6 +491,37 @@ public class ECDSATest
         Assertions.assertTrue(verifier.verify(sigB), "sigB must verify");
     }
 
+    /**
+     * The SPI keeps its signature buffer sized for the key it was
+     * initialised with; moving the same instance to a larger curve and
+     * back must resize it, every signature must verify.
+     */
+    @Test
+    public void testEcdsa_ReInitWithOtherCurve_resizesSignature() throws Exception
+    {
+        SecureRandom sr = seededRandom("testEcdsa_ReInitWithOtherCurve_resizesSignature");
+        KeyPair p256 = generateKeyPair("P-256");
+        KeyPair p521 = generateKeyPair("P-521");
+        Signature signer = Signature.getInstance("SHA256withECDSA", JostleProvider.PROVIDER_NAME);
+
+        for (KeyPair kp : new KeyPair[]{p256, p521, p521, p256})
+        {
+            signer.initSign(kp.getPrivate());
+            for (int i = 0; i < 3; i++)
+            {
+                byte[] msg = randomMessage(sr, 64);
+                signer.update(msg);
+                byte[] sig = signer.sign();
+
+                Assertions.assertTrue(sig.length <= (kp == p256 ? 72 : 139), "length " + sig.length);
+                Signature verifier = Signature.getInstance("SHA256withECDSA", JostleProvider.PROVIDER_NAME);
+                verifier.initVerify(kp.getPublic());
+                verifier.update(msg);
+                Assertions.assertTrue(verifier.verify(sig));
+            }
+        }
+    }
+
     /**
      * ECDSA is non-deterministic. Two signatures over the same message
      * with the same key MUST differ — a stale internal state caching
@@ -928,7 +959,7 @@ public class ECDSATest
 
     private static KeyPair generateKeyPair(String curve) throws Exception
     {
-        Assumptions.assumeTrue(NISelector.ECServiceNI.curveSupported(curve),
+        Assumptions.assumeTrue(NISelector.getECServiceNI().curveSupported(curve),
                 curve + " not supported by the loaded OpenSSL build");
         KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC", JostleProvider.PROVIDER_NAME);
         kpg.initialize(new ECGenParameterSpec(curve));
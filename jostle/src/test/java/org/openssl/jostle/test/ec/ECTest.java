@@ -113,20 +113,20 @@ public class ECTest
     public void testCurveSupported_acceptsKnownCurves()
     {
         // P-256 is universal; if even this fails the build is broken.
-        Assertions.assertTrue(NISelector.ECServiceNI.curveSupported("P-256"),
+        Assertions.assertTrue(NISelector.getECServiceNI().curveSupported("P-256"),
                 "P-256 must be supported by any reasonable OpenSSL build");
     }
 
     @Test
     public void testCurveSupported_rejectsUnknownCurve()
     {
-        Assertions.assertFalse(NISelector.ECServiceNI.curveSupported("not-a-real-curve"));
+        Assertions.assertFalse(NISelector.getECServiceNI().curveSupported("not-a-real-curve"));
     }
 
     @Test
     public void testCurveSupported_rejectsNullName()
     {
-        Assertions.assertFalse(NISelector.ECServiceNI.curveSupported(null));
+        Assertions.assertFalse(NISelector.getECServiceNI().curveSupported(null));
     }
 
 
@@ -157,14 +157,14 @@ public class ECTest
     @Test
     public void testKeyPairGenerator_initializeBitSize_P384() throws Exception
     {
-        Assumptions.assumeTrue(NISelector.ECServiceNI.curveSupported("P-384"));
+        Assumptions.assumeTrue(NISelector.getECServiceNI().curveSupported("P-384"));
         runKeySizeTest(384, 384);
     }
 
     @Test
     public void testKeyPairGenerator_initializeBitSize_P521() throws Exception
     {
-        Assumptions.assumeTrue(NISelector.ECServiceNI.curveSupported("P-521"));
+        Assumptions.assumeTrue(NISelector.getECServiceNI().curveSupported("P-521"));
         runKeySizeTest(521, 521);
     }
 
@@ -278,7 +278,7 @@ public class ECTest
     @Test
     public void testKeyPairGenerator_ecGenParameterSpec_secp256r1Alias() throws Exception
     {
-        Assumptions.assumeTrue(NISelector.ECServiceNI.curveSupported("P-256"));
+        Assumptions.assumeTrue(NISelector.getECServiceNI().curveSupported("P-256"));
         for (String name : new String[]{"secp256r1", "1.2.840.10045.3.1.7"})
         {
             KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC", JostleProvider.PROVIDER_NAME);
@@ -303,7 +303,7 @@ public class ECTest
     @Test
     public void testKeyPairGenerator_explicitECParameterSpec_P256() throws Exception
     {
-        Assumptions.assumeTrue(NISelector.ECServiceNI.curveSupported("P-256"));
+        Assumptions.assumeTrue(NISelector.getECServiceNI().curveSupported("P-256"));
         SecureRandom sr = seededRandom("testKeyPairGenerator_explicitECParameterSpec_P256");
 
         // Source a genuine P-256 ECParameterSpec from a named-curve key.
@@ -408,7 +408,7 @@ public class ECTest
             int expectedBits = Integer.parseInt(row[2]);
             // Skip a name only if the loaded OpenSSL build doesn't
             // advertise the SECG underlying curve.
-            if (!NISelector.ECServiceNI.curveSupported(secgName))
+            if (!NISelector.getECServiceNI().curveSupported(secgName))
             {
                 continue;
             }
@@ -433,7 +433,7 @@ public class ECTest
         int generated = 0;
         for (String curve : STANDARD_CURVES)
         {
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
@@ -468,7 +468,7 @@ public class ECTest
     {
         for (String curve : STANDARD_CURVES)
         {
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
@@ -493,7 +493,7 @@ public class ECTest
     {
         for (String curve : STANDARD_CURVES)
         {
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
@@ -521,7 +521,7 @@ public class ECTest
         // Jostle's KeyFactory.
         for (String curve : STANDARD_CURVES)
         {
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
@@ -565,7 +565,7 @@ public class ECTest
     {
         for (String curve : STANDARD_CURVES)
         {
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
@@ -722,7 +722,7 @@ public class ECTest
     {
         for (String curve : STANDARD_CURVES)
         {
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
@@ -765,7 +765,7 @@ public class ECTest
     {
         for (String curve : STANDARD_CURVES)
         {
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
@@ -1056,7 +1056,7 @@ public class ECTest
         SecureRandom sr = seededRandom("testKeyFactory_ECPrivateKeySpec_EncodesAndInteroperatesWithBC");
         for (String curve : new String[]{"P-256", "P-384", "P-521"})
         {
-            if (!NISelector.ECServiceNI.curveSupported(curve))
+            if (!NISelector.getECServiceNI().curveSupported(curve))
             {
                 continue;
             }
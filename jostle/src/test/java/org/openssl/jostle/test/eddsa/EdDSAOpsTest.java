@@ -14,6 +14,7 @@ package org.openssl.jostle.test.eddsa;
 import org.junit.jupiter.api.*;
 import org.openssl.jostle.Loader;
 import org.openssl.jostle.jcajce.provider.AccessException;
+import org.openssl.jostle.jcajce.provider.ErrorCode;
 import org.openssl.jostle.jcajce.provider.JostleProvider;
 import org.openssl.jostle.jcajce.provider.OpenSSL;
 import org.openssl.jostle.jcajce.provider.OpenSSLException;
@@ -298,6 +299,42 @@ public class EdDSAOpsTest
     }
 
 
+    @Test()
+    public void EDDSAServiceJNI__initSign_prehash_EVP_PKEY_sign_init() throws Exception
+    {
+        Assumptions.assumeTrue(operationsTestNI.opsTestAvailable());
+        long eddsaRef = 0;
+        long keyRef = 0;
+
+        try
+        {
+            eddsaRef = edDSAServiceNI.allocateSigner();
+            Assertions.assertTrue(eddsaRef > 0);
+            keyRef = edDSAServiceNI.generateKeyPair(OSSLKeyType.ED25519.getKsType(), TestUtil.RNDSrc);
+
+            Assertions.assertTrue(keyRef > 0);
+
+
+            // Exercises edec_ctx_init_prehash in interface/nonfips/util/edec.c
+            operationsTestNI.setFlag(OperationsTestNI.OpsTestFlag.OPS_OPENSSL_ERROR_7);
+            long code = edDSAServiceNI.ni_initSign(eddsaRef, keyRef, "Ed25519ph", new byte[1024], 0, TestUtil.RNDSrc);
+            Assertions.assertEquals(-1026, code); // OpenSSL error with offset
+
+            // A failed init leaves the signer uninitialised.
+            operationsTestNI.resetFlags();
+            Assertions.assertEquals(ErrorCode.JO_NOT_INITIALIZED.getCode(),
+                    edDSAServiceNI.ni_update(eddsaRef, new byte[1], 0, 1));
+        }
+        finally
+        {
+            operationsTestNI.resetFlags();
+            specNI.dispose(keyRef);
+            edDSAServiceNI.disposeSigner(eddsaRef);
+
+        }
+    }
+
+
     @Test()
     public void EDDSAServiceJNI__initVerify_accessContextArray() throws Exception
     {
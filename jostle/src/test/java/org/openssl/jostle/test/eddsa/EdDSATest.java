@@ -1024,6 +1024,73 @@ public class EdDSATest
     }
 
 
+    /**
+     * The ph variants absorb the message natively as it arrives, a message
+     * streamed in uneven chunks must still sign to exactly the deterministic
+     * signature BC's ph signers produce over the whole message.
+     */
+    @Test
+    public void testPrehashStreamedAgreesWithBC() throws Exception
+    {
+        SecureRandom sr = seededRandom("testPrehashStreamedAgreesWithBC");
+        byte[] message = new byte[4 * 1024 * 1024 + 17];
+        sr.nextBytes(message);
+        byte[] ctxBytes = new byte[16];
+        sr.nextBytes(ctxBytes);
+
+        for (EdDSAParameterSpec spec : new EdDSAParameterSpec[]{EdDSAParameterSpec.ED25519, EdDSAParameterSpec.ED448})
+        {
+            boolean ed25519 = spec == EdDSAParameterSpec.ED25519;
+
+            KeyPairGenerator keyGen = KeyPairGenerator.getInstance("EdDSA", JostleProvider.PROVIDER_NAME);
+            keyGen.initialize(spec);
+            KeyPair keyPair = keyGen.generateKeyPair();
+
+            Signature joSigner = Signature.getInstance(ed25519 ? "Ed25519ph" : "Ed448ph", JostleProvider.PROVIDER_NAME);
+            joSigner.initSign(keyPair.getPrivate());
+            joSigner.setParameter(new ContextParameterSpec(ctxBytes));
+            for (int off = 0, chunk = 1; off < message.length; off += chunk, chunk = chunk * 3 + 1)
+            {
+                joSigner.update(message, off, Math.min(chunk, message.length - off));
+            }
+            byte[] joSignature = joSigner.sign();
+
+            byte[] bcSignature;
+            if (ed25519)
+            {
+                Ed25519phSigner bcSigner = new Ed25519phSigner(ctxBytes);
+                bcSigner.init(true, PrivateKeyFactory.createKey(keyPair.getPrivate().getEncoded()));
+                bcSigner.update(message, 0, message.length);
+                bcSignature = bcSigner.generateSignature();
+            }
+            else
+            {
+                Ed448phSigner bcSigner = new Ed448phSigner(ctxBytes);
+                bcSigner.init(true, PrivateKeyFactory.createKey(keyPair.getPrivate().getEncoded()));
+                bcSigner.update(message, 0, message.length);
+                bcSignature = bcSigner.generateSignature();
+            }
+            Assertions.assertArrayEquals(bcSignature, joSignature, spec.getName());
+
+            joSigner.initVerify(keyPair.getPublic());
+            joSigner.setParameter(new ContextParameterSpec(ctxBytes));
+            for (int off = 0; off < message.length; off += 65536)
+            {
+                joSigner.update(message, off, Math.min(65536, message.length - off));
+            }
+            Assertions.assertTrue(joSigner.verify(bcSignature), spec.getName());
+
+            // The pre-hash restarts after each operation, the same message
+            // signs to the same signature again.
+            joSigner.initSign(keyPair.getPrivate());
+            joSigner.setParameter(new ContextParameterSpec(ctxBytes));
+            joSigner.update(message);
+            Assertions.assertArrayEquals(joSignature, joSigner.sign(), spec.getName());
+            joSigner.update(message);
+            Assertions.assertArrayEquals(joSignature, joSigner.sign(), spec.getName());
+        }
+    }
+
 
     //
     // (1) Forced-type / key-type mismatch on Signature.
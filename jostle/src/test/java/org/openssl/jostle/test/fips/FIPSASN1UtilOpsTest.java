@@ -60,10 +60,10 @@ public class FIPSASN1UtilOpsTest
         TestUtil.addFipsProvider();
     }
 
-    private final Asn1Ni asn1NI = FIPSNISelector.Asn1NI;
-    private final OperationsTestNI operationsTestNI = FIPSNISelector.OperationsTestNI;
-    private final SpecNI specNI = FIPSNISelector.SpecNI;
-    private final ECServiceNI ec = FIPSNISelector.ECServiceNI;
+    private final Asn1Ni asn1NI = FIPSNISelector.getAsn1NI();
+    private final OperationsTestNI operationsTestNI = FIPSNISelector.getOperationsTestNI();
+    private final SpecNI specNI = FIPSNISelector.getSpecNI();
+    private final ECServiceNI ec = FIPSNISelector.getECServiceNI();
 
     @BeforeEach
     public void beforeEach()
@@ -79,9 +79,9 @@ public class FIPSAsn1LimitTest
         Assumptions.assumeFalse(TestUtil.skipFipsTests(),
                 "TEST_FIPS_LIB not set (full path to the FIPS module library)");
         TestUtil.addFipsProvider();
-        asn1 = FIPSNISelector.Asn1NI;
-        specNI = FIPSNISelector.SpecNI;
-        ec = FIPSNISelector.ECServiceNI;
+        asn1 = FIPSNISelector.getAsn1NI();
+        specNI = FIPSNISelector.getSpecNI();
+        ec = FIPSNISelector.getECServiceNI();
         ecKeyRef = ec.generateKeyPair("P-256", RND);
         pubDer = encode(false);
         privDer = encode(true);
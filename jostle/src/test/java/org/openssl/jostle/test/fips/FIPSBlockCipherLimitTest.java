@@ -58,7 +58,7 @@ public class FIPSBlockCipherLimitTest
         TestUtil.addFipsProvider();
     }
 
-    private final BlockCipherNI ni = FIPSNISelector.BlockCipherNI;
+    private final BlockCipherNI ni = FIPSNISelector.getBlockCipherNI();
 
     // ---------------------------------------------------------------------
     // init: key / iv / mode validation.
@@ -52,8 +52,8 @@ public class FIPSBlockCipherOpsTest
         TestUtil.addFipsProvider();
     }
 
-    private final BlockCipherNI blockCipherNI = FIPSNISelector.BlockCipherNI;
-    private final OperationsTestNI operationsTestNI = FIPSNISelector.OperationsTestNI;
+    private final BlockCipherNI blockCipherNI = FIPSNISelector.getBlockCipherNI();
+    private final OperationsTestNI operationsTestNI = FIPSNISelector.getOperationsTestNI();
 
     @BeforeEach
     public void beforeEach() throws Exception
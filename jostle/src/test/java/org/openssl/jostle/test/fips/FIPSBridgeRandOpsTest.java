@@ -25,7 +25,7 @@ import org.openssl.jostle.util.ops.OperationsTestNI;
 /**
  * Operations-test fault injection at the FIPS RAND NI surface, restricted to the
  * <b>context path</b> ({@code rand_ctx_*} in interface/fips/util/rand.c, reached
- * via {@code FIPSNISelector.RandServiceNI.ni_createContext /
+ * via {@code FIPSNISelector.getRandServiceNI().ni_createContext /
  * ni_contextRandomBytes / ni_contextReseed}).
  *
  * <p>This is the context-path subset of the base {@code BridgeRandOpsTest}. The
@@ -58,8 +58,8 @@ public class FIPSBridgeRandOpsTest
     private static final int JO_UNEXPECTED_STATE = -40;
     private static final int JO_RAND_RESEED = -100;
 
-    private final RandServiceNI randServiceNI = FIPSNISelector.RandServiceNI;
-    private final OperationsTestNI operationsTestNI = FIPSNISelector.OperationsTestNI;
+    private final RandServiceNI randServiceNI = FIPSNISelector.getRandServiceNI();
+    private final OperationsTestNI operationsTestNI = FIPSNISelector.getOperationsTestNI();
 
     @BeforeAll
     public static void beforeAll()
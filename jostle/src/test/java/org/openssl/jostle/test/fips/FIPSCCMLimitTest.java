@@ -48,7 +48,7 @@ public class FIPSCCMLimitTest
         TestUtil.addFipsProvider();
     }
 
-    private final CCMCipherNI ni = FIPSNISelector.CCMCipherNI;
+    private final CCMCipherNI ni = FIPSNISelector.getCCMCipherNI();
 
     private long makeInstance()
     {
@@ -45,8 +45,8 @@ public class FIPSCCMOpsTest
         TestUtil.addFipsProvider();
     }
 
-    private final CCMCipherNI ccmCipherNI = FIPSNISelector.CCMCipherNI;
-    private final OperationsTestNI operationsTestNI = FIPSNISelector.OperationsTestNI;
+    private final CCMCipherNI ccmCipherNI = FIPSNISelector.getCCMCipherNI();
+    private final OperationsTestNI operationsTestNI = FIPSNISelector.getOperationsTestNI();
 
     @BeforeEach
     public void beforeEach()
@@ -75,8 +75,8 @@ public class FIPSDHLimitTest
         Assumptions.assumeFalse(TestUtil.skipFipsTests(),
                 "TEST_FIPS_LIB not set (full path to the FIPS module library)");
         TestUtil.addFipsProvider();
-        dh = FIPSNISelector.DHServiceNI;
-        specNI = FIPSNISelector.SpecNI;
+        dh = FIPSNISelector.getDHServiceNI();
+        specNI = FIPSNISelector.getSpecNI();
         keyRef = dh.generateKeyPairByGroup(GROUP, RND);
         peerRef = dh.generateKeyPairByGroup(GROUP, RND);
     }
@@ -304,7 +304,7 @@ public class FIPSDHLimitTest
     @Test
     public void generateKeyPair_wrongKeyType()
     {
-        ECServiceNI ec = FIPSNISelector.ECServiceNI;
+        ECServiceNI ec = FIPSNISelector.getECServiceNI();
         long ecRef = 0;
         try
         {
@@ -406,7 +406,7 @@ public class FIPSDHLimitTest
     @Test
     public void kexInit_wrongKeyType()
     {
-        ECServiceNI ec = FIPSNISelector.ECServiceNI;
+        ECServiceNI ec = FIPSNISelector.getECServiceNI();
         long ecRef = 0;
         try
         {
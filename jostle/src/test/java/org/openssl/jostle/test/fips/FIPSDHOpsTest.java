@@ -142,9 +142,9 @@ public class FIPSDHOpsTest
         Assumptions.assumeFalse(TestUtil.skipFipsTests(),
                 "TEST_FIPS_LIB not set (full path to the FIPS module library)");
         TestUtil.addFipsProvider();
-        dh = FIPSNISelector.DHServiceNI;
-        specNI = FIPSNISelector.SpecNI;
-        ops = FIPSNISelector.OperationsTestNI;
+        dh = FIPSNISelector.getDHServiceNI();
+        specNI = FIPSNISelector.getSpecNI();
+        ops = FIPSNISelector.getOperationsTestNI();
         if (ops.opsTestAvailable())
         {
             ops.resetFlags();
@@ -74,8 +74,8 @@ public class FIPSDSALimitTest
         Assumptions.assumeFalse(TestUtil.skipFipsTests(),
                 "TEST_FIPS_LIB not set (full path to the FIPS module library)");
         TestUtil.addFipsProvider();
-        dsa = FIPSNISelector.DSAServiceNI;
-        specNI = FIPSNISelector.SpecNI;
+        dsa = FIPSNISelector.getDSAServiceNI();
+        specNI = FIPSNISelector.getSpecNI();
         paramsRef = dsa.generateParameters(2048, 256, RND);
         keyRef = dsa.generateKeyPair(paramsRef, RND);
     }
@@ -189,7 +189,7 @@ public class FIPSDSALimitTest
     public void generateKeyPair_wrongKeyType()
     {
         // A non-DSA spec (EC keypair) handed to DSA keygen must be rejected.
-        ECServiceNI ec = FIPSNISelector.ECServiceNI;
+        ECServiceNI ec = FIPSNISelector.getECServiceNI();
         long ecRef = 0;
         try
         {
@@ -403,7 +403,7 @@ public class FIPSDSALimitTest
     @Test
     public void initSign_wrongKeyType()
     {
-        ECServiceNI ec = FIPSNISelector.ECServiceNI;
+        ECServiceNI ec = FIPSNISelector.getECServiceNI();
         long ecRef = 0;
         try
         {
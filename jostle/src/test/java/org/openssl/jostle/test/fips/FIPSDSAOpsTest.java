@@ -133,9 +133,9 @@ public class FIPSDSAOpsTest
         Assumptions.assumeFalse(TestUtil.skipFipsTests(),
                 "TEST_FIPS_LIB not set (full path to the FIPS module library)");
         TestUtil.addFipsProvider();
-        dsa = FIPSNISelector.DSAServiceNI;
-        specNI = FIPSNISelector.SpecNI;
-        ops = FIPSNISelector.OperationsTestNI;
+        dsa = FIPSNISelector.getDSAServiceNI();
+        specNI = FIPSNISelector.getSpecNI();
+        ops = FIPSNISelector.getOperationsTestNI();
         if (ops.opsTestAvailable())
         {
             ops.resetFlags();
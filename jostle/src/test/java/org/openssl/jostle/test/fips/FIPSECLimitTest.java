@@ -60,8 +60,8 @@ public class FIPSECLimitTest
         TestUtil.addFipsProvider();
     }
 
-    private final ECServiceNI ec = FIPSNISelector.ECServiceNI;
-    private final SpecNI specNI = FIPSNISelector.SpecNI;
+    private final ECServiceNI ec = FIPSNISelector.getECServiceNI();
+    private final SpecNI specNI = FIPSNISelector.getSpecNI();
 
     // -----------------------------------------------------------------
     // curveSupported / generateKeyPair
@@ -134,9 +134,9 @@ public class FIPSECOpsTest
     private static final int JO_OUTPUT_TOO_LONG_INT32 = -20;
     private static final int JO_UNABLE_TO_ACCESS_NAME = -89;
 
-    private final ECServiceNI ec = FIPSNISelector.ECServiceNI;
-    private final SpecNI specNI = FIPSNISelector.SpecNI;
-    private final OperationsTestNI ops = FIPSNISelector.OperationsTestNI;
+    private final ECServiceNI ec = FIPSNISelector.getECServiceNI();
+    private final SpecNI specNI = FIPSNISelector.getSpecNI();
+    private final OperationsTestNI ops = FIPSNISelector.getOperationsTestNI();
 
 
     @BeforeAll
@@ -24,7 +24,7 @@ import java.security.SecureRandom;
 
 /**
  * Input-validation limit tests at the FIPS HKDF NI surface
- * ({@code FIPSNISelector.KdfNI.hkdf}). The FIPS JNI glue is the base
+ * ({@code FIPSNISelector.getKdfNI().hkdf}). The FIPS JNI glue is the base
  * kdf_ni_jni.c re-included under renamed symbols, so the bridge's null /
  * negative / range rejections and typed-error mapping are identical by
  * construction — this pins that they survived into the FIPS interface library
@@ -47,7 +47,7 @@ public class FIPSHkdfLimitTest
         TestUtil.addFipsProvider();
     }
 
-    private final KdfNI kdfNI = FIPSNISelector.KdfNI;
+    private final KdfNI kdfNI = FIPSNISelector.getKdfNI();
 
     @Test
     public void testHKDF_null_ikm()
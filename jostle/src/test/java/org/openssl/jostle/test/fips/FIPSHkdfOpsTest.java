@@ -51,8 +51,8 @@ public class FIPSHkdfOpsTest
         TestUtil.addFipsProvider();
     }
 
-    private final KdfNI kdfNI = FIPSNISelector.KdfNI;
-    private final OperationsTestNI operationsTestNI = FIPSNISelector.OperationsTestNI;
+    private final KdfNI kdfNI = FIPSNISelector.getKdfNI();
+    private final OperationsTestNI operationsTestNI = FIPSNISelector.getOperationsTestNI();
 
     @BeforeEach
     public void beforeEach()
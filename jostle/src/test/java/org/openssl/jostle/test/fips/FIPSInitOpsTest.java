@@ -55,8 +55,8 @@ public class FIPSInitOpsTest
                 "TEST_FIPS_LIB not set (full path to the FIPS module library)");
     }
 
-    private final OpenSSLFIPSNI fipsNI = FIPSNISelector.OpenSSLFIPSNI;
-    private final OperationsTestNI operationsTestNI = FIPSNISelector.OperationsTestNI;
+    private final OpenSSLFIPSNI fipsNI = FIPSNISelector.getOpenSSLFIPSNI();
+    private final OperationsTestNI operationsTestNI = FIPSNISelector.getOperationsTestNI();
 
     // Forward slashes: this test drives setOSSLFIPSModule directly, bypassing
     // FIPSOpenSSL's path normalisation. OpenSSL's config .include parser treats
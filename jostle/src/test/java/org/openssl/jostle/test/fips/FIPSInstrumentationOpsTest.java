@@ -41,7 +41,7 @@ public class FIPSInstrumentationOpsTest
         TestUtil.addFipsProvider();
     }
 
-    private final OperationsTestNI ops = FIPSNISelector.OperationsTestNI;
+    private final OperationsTestNI ops = FIPSNISelector.getOperationsTestNI();
 
     @Test
     public void opsInstrumentationIsWired()
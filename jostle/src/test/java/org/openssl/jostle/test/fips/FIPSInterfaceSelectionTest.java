@@ -62,7 +62,7 @@ public class FIPSInterfaceSelectionTest
     {
         // Touch a selector field: forces FIPSNISelector's static init, which
         // calls Loader.loadFipsInterface() - the load these assertions observe.
-        Object mdImpl = FIPSNISelector.MDServiceNI;
+        Object mdImpl = FIPSNISelector.getMDServiceNI();
 
         Assertions.assertTrue(Loader.isFipsLoadSuccessful(),
                 "FIPS interface load must have succeeded: " + Loader.getFipsMessage());
@@ -75,23 +75,23 @@ public class FIPSInterfaceSelectionTest
 
         String expectedSuffix = Loader.isFFI() ? "FFI" : "JNI";
 
-        assertImplFlavour(FIPSNISelector.OpenSSLFIPSNI, expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getOpenSSLFIPSNI(), expectedSuffix);
         assertImplFlavour(mdImpl, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.BlockCipherNI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.CCMCipherNI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.MacServiceNI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.RandServiceNI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.SpecNI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.Asn1NI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.RSAServiceNI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.RSAOAEPCipherNI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.RSAPKCS1CipherNI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.ECServiceNI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.DSAServiceNI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.DHServiceNI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.XECServiceNI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.KdfNI, expectedSuffix);
-        assertImplFlavour(FIPSNISelector.OperationsTestNI, expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getBlockCipherNI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getCCMCipherNI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getMacServiceNI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getRandServiceNI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getSpecNI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getAsn1NI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getRSAServiceNI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getRSAOAEPCipherNI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getRSAPKCS1CipherNI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getECServiceNI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getDSAServiceNI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getDHServiceNI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getXECServiceNI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getKdfNI(), expectedSuffix);
+        assertImplFlavour(FIPSNISelector.getOperationsTestNI(), expectedSuffix);
     }
 
     private static void assertImplFlavour(Object impl, String expectedSuffix)
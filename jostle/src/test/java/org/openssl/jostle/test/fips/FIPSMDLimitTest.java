@@ -57,7 +57,7 @@ public class FIPSMDLimitTest
         TestUtil.addFipsProvider();
     }
 
-    private final MDServiceNI mdNI = FIPSNISelector.MDServiceNI;
+    private final MDServiceNI mdNI = FIPSNISelector.getMDServiceNI();
 
     // ---------------------------------------------------------------------
     // allocateDigest: name + xof-length validation (bridge-level).
@@ -50,8 +50,8 @@ public class FIPSMDOpsTest
         TestUtil.addFipsProvider();
     }
 
-    private final MDServiceNI mdNI = FIPSNISelector.MDServiceNI;
-    private final OperationsTestNI operationsTestNI = FIPSNISelector.OperationsTestNI;
+    private final MDServiceNI mdNI = FIPSNISelector.getMDServiceNI();
+    private final OperationsTestNI operationsTestNI = FIPSNISelector.getOperationsTestNI();
 
     @BeforeEach
     public void beforeEach()
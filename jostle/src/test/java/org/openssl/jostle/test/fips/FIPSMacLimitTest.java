@@ -57,7 +57,7 @@ public class FIPSMacLimitTest
         TestUtil.addFipsProvider();
     }
 
-    private final MacServiceNI macNI = FIPSNISelector.MacServiceNI;
+    private final MacServiceNI macNI = FIPSNISelector.getMacServiceNI();
 
     // ---------------------------------------------------------------------
     // allocateMac: name validation + FIPS-approval boundary.
@@ -49,8 +49,8 @@ public class FIPSMacOpsTest
         TestUtil.addFipsProvider();
     }
 
-    private final MacServiceNI macServiceNI = FIPSNISelector.MacServiceNI;
-    private final OperationsTestNI operationsTestNI = FIPSNISelector.OperationsTestNI;
+    private final MacServiceNI macServiceNI = FIPSNISelector.getMacServiceNI();
+    private final OperationsTestNI operationsTestNI = FIPSNISelector.getOperationsTestNI();
 
     @BeforeEach
     public void beforeEach() throws Exception
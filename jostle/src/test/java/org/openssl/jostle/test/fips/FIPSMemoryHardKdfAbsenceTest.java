@@ -23,6 +23,7 @@ import org.openssl.jostle.test.TestUtil;
 
 import javax.crypto.SecretKeyFactory;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.security.NoSuchAlgorithmException;
 import java.security.Security;
 
@@ -92,10 +93,18 @@ public class FIPSMemoryHardKdfAbsenceTest
     @Test
     public void fipsNiSelectorExposesNoMemoryHardKdf()
     {
-        for (Field field : FIPSNISelector.class.getDeclaredFields())
+        for (Method method : FIPSNISelector.class.getDeclaredMethods())
         {
-            Assertions.assertFalse(MemoryHardKdfNI.class.isAssignableFrom(field.getType()),
-                    "FIPSNISelector must expose no memory-hard KDF NI, found: " + field.getName());
+            Assertions.assertFalse(MemoryHardKdfNI.class.isAssignableFrom(method.getReturnType()),
+                    "FIPSNISelector must expose no memory-hard KDF NI, found: " + method.getName());
+        }
+        for (Class<?> holder : FIPSNISelector.class.getDeclaredClasses())
+        {
+            for (Field field : holder.getDeclaredFields())
+            {
+                Assertions.assertFalse(MemoryHardKdfNI.class.isAssignableFrom(field.getType()),
+                        "FIPSNISelector must hold no memory-hard KDF NI, found: " + holder.getSimpleName());
+            }
         }
     }
 
@@ -107,8 +116,8 @@ public class FIPSMemoryHardKdfAbsenceTest
     @Test
     public void baseNiSelectorDoesExposeMemoryHardKdf() throws Exception
     {
-        Field field = org.openssl.jostle.jcajce.provider.NISelector.class.getField("MemoryHardKdfNI");
-        Assertions.assertTrue(MemoryHardKdfNI.class.isAssignableFrom(field.getType()));
-        Assertions.assertNotNull(field.get(null), "the base provider must supply a memory-hard KDF NI");
+        Method method = org.openssl.jostle.jcajce.provider.NISelector.class.getMethod("getMemoryHardKdfNI");
+        Assertions.assertTrue(MemoryHardKdfNI.class.isAssignableFrom(method.getReturnType()));
+        Assertions.assertNotNull(method.invoke(null), "the base provider must supply a memory-hard KDF NI");
     }
 }
@@ -63,14 +63,14 @@ public class FIPSNIParityTest
         // Null digest name is rejected at the bridge.
         int[] baseErr = new int[1];
         int[] fipsErr = new int[1];
-        NISelector.MDServiceNI.ni_allocateDigest(null, 0, baseErr);
-        FIPSNISelector.MDServiceNI.ni_allocateDigest(null, 0, fipsErr);
+        NISelector.getMDServiceNI().ni_allocateDigest(null, 0, baseErr);
+        FIPSNISelector.getMDServiceNI().ni_allocateDigest(null, 0, fipsErr);
         Assertions.assertEquals(baseErr[0], fipsErr[0], "null-name codes must match");
         Assertions.assertEquals(ErrorCode.JO_NAME_IS_NULL, ErrorCode.forCode(fipsErr[0]));
 
         // Unknown digest name fails the fetch in both lib ctxs with the same code.
-        NISelector.MDServiceNI.ni_allocateDigest("NoSuchDigest-XYZ", 0, baseErr);
-        FIPSNISelector.MDServiceNI.ni_allocateDigest("NoSuchDigest-XYZ", 0, fipsErr);
+        NISelector.getMDServiceNI().ni_allocateDigest("NoSuchDigest-XYZ", 0, baseErr);
+        FIPSNISelector.getMDServiceNI().ni_allocateDigest("NoSuchDigest-XYZ", 0, fipsErr);
         Assertions.assertEquals(baseErr[0], fipsErr[0], "unknown-name codes must match");
     }
 
@@ -79,8 +79,8 @@ public class FIPSNIParityTest
     {
         int[] baseErr = new int[1];
         int[] fipsErr = new int[1];
-        NISelector.MacServiceNI.ni_allocateMac(null, "SHA2-256", baseErr);
-        FIPSNISelector.MacServiceNI.ni_allocateMac(null, "SHA2-256", fipsErr);
+        NISelector.getMacServiceNI().ni_allocateMac(null, "SHA2-256", baseErr);
+        FIPSNISelector.getMacServiceNI().ni_allocateMac(null, "SHA2-256", fipsErr);
         Assertions.assertEquals(baseErr[0], fipsErr[0], "null-mac-name codes must match");
         Assertions.assertEquals(ErrorCode.JO_NAME_IS_NULL, ErrorCode.forCode(fipsErr[0]));
     }
@@ -89,12 +89,12 @@ public class FIPSNIParityTest
     public void kdfBridgeCodesMatch()
     {
         // Null password, then negative iteration count - both bridge-validated.
-        int base = NISelector.KdfNI.pbkdf2(null, new byte[8], 100, "SHA-256", new byte[16], 0, 16);
-        int fips = FIPSNISelector.KdfNI.pbkdf2(null, new byte[8], 100, "SHA-256", new byte[16], 0, 16);
+        int base = NISelector.getKdfNI().pbkdf2(null, new byte[8], 100, "SHA-256", new byte[16], 0, 16);
+        int fips = FIPSNISelector.getKdfNI().pbkdf2(null, new byte[8], 100, "SHA-256", new byte[16], 0, 16);
         Assertions.assertEquals(base, fips, "null-password codes must match");
 
-        base = NISelector.KdfNI.pbkdf2(new byte[8], new byte[8], -1, "SHA-256", new byte[16], 0, 16);
-        fips = FIPSNISelector.KdfNI.pbkdf2(new byte[8], new byte[8], -1, "SHA-256", new byte[16], 0, 16);
+        base = NISelector.getKdfNI().pbkdf2(new byte[8], new byte[8], -1, "SHA-256", new byte[16], 0, 16);
+        fips = FIPSNISelector.getKdfNI().pbkdf2(new byte[8], new byte[8], -1, "SHA-256", new byte[16], 0, 16);
         Assertions.assertEquals(base, fips, "negative-iter codes must match");
     }
 
@@ -102,8 +102,8 @@ public class FIPSNIParityTest
     public void randBridgeCodesMatch()
     {
         // Unknown DRBG mechanism fails the fetch in both rand lib ctxs.
-        int base = NISelector.RandServiceNI.ni_drbgStrength("NOT-A-MECHANISM", "SHA2-256");
-        int fips = FIPSNISelector.RandServiceNI.ni_drbgStrength("NOT-A-MECHANISM", "SHA2-256");
+        int base = NISelector.getRandServiceNI().ni_drbgStrength("NOT-A-MECHANISM", "SHA2-256");
+        int fips = FIPSNISelector.getRandServiceNI().ni_drbgStrength("NOT-A-MECHANISM", "SHA2-256");
         Assertions.assertEquals(base, fips, "unknown-mechanism codes must match");
         Assertions.assertEquals(ErrorCode.JO_OPENSSL_ERROR, ErrorCode.forCode(fips));
     }
@@ -117,8 +117,8 @@ public class FIPSNIParityTest
         RANDOM.nextBytes(garbage);
         garbage[0] = (byte) 0xFF; // never a valid DER SEQUENCE header
 
-        long base = NISelector.Asn1NI.ni_fromPublicKeyInfo(garbage, 0, garbage.length);
-        long fips = FIPSNISelector.Asn1NI.ni_fromPublicKeyInfo(garbage, 0, garbage.length);
+        long base = NISelector.getAsn1NI().ni_fromPublicKeyInfo(garbage, 0, garbage.length);
+        long fips = FIPSNISelector.getAsn1NI().ni_fromPublicKeyInfo(garbage, 0, garbage.length);
         Assertions.assertEquals(base, fips, "invalid-DER codes must match");
         Assertions.assertTrue(fips < 0, "invalid DER must be rejected");
     }
@@ -24,7 +24,7 @@ import java.security.SecureRandom;
 
 /**
  * Input-validation limit tests at the FIPS PBKDF2 NI surface
- * ({@code FIPSNISelector.KdfNI.pbkdf2}). The FIPS JNI glue is the base
+ * ({@code FIPSNISelector.getKdfNI().pbkdf2}). The FIPS JNI glue is the base
  * kdf_ni_jni.c re-included under renamed symbols, so the bridge's null /
  * negative / range rejections and typed-error mapping are identical by
  * construction — this pins that they survived into the FIPS interface library
@@ -51,7 +51,7 @@ public class FIPSPBKdf2LimitTest
         TestUtil.addFipsProvider();
     }
 
-    private final KdfNI kdfNI = FIPSNISelector.KdfNI;
+    private final KdfNI kdfNI = FIPSNISelector.getKdfNI();
 
     private static final SecureRandom RANDOM = new SecureRandom();
 
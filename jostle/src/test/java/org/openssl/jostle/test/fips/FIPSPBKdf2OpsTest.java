@@ -26,7 +26,7 @@ import org.openssl.jostle.util.ops.OperationsTestNI;
 
 /**
  * Operations-test fault injection at the FIPS PBKDF2 NI surface
- * ({@code FIPSNISelector.KdfNI.pbkdf2}). The FIPS JNI glue
+ * ({@code FIPSNISelector.getKdfNI().pbkdf2}). The FIPS JNI glue
  * (interface/fips/jni/kdf_fips_jni.c) is the base kdf_jni.c re-included under renamed
  * symbols, and the fault sites live in the shared interface/fips/util/kdf.c, so the
  * injected error paths (JNI access faults, plus the {@code OPS_OFFSET_*}
@@ -53,8 +53,8 @@ public class FIPSPBKdf2OpsTest
         TestUtil.addFipsProvider();
     }
 
-    private final KdfNI kdfNI = FIPSNISelector.KdfNI;
-    private final OperationsTestNI operationsTestNI = FIPSNISelector.OperationsTestNI;
+    private final KdfNI kdfNI = FIPSNISelector.getKdfNI();
+    private final OperationsTestNI operationsTestNI = FIPSNISelector.getOperationsTestNI();
 
     @BeforeEach
     public void beforeEach()
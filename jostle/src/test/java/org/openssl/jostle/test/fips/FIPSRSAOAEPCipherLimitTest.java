@@ -53,9 +53,9 @@ public class FIPSRSAOAEPCipherLimitTest
         TestUtil.addFipsProvider();
     }
 
-    private final RSAServiceNI rsaServiceNI = FIPSNISelector.RSAServiceNI;
-    private final RSAOAEPCipherNI cipherNI = FIPSNISelector.RSAOAEPCipherNI;
-    private final SpecNI specNI = FIPSNISelector.SpecNI;
+    private final RSAServiceNI rsaServiceNI = FIPSNISelector.getRSAServiceNI();
+    private final RSAOAEPCipherNI cipherNI = FIPSNISelector.getRSAOAEPCipherNI();
+    private final SpecNI specNI = FIPSNISelector.getSpecNI();
 
     @Test
     public void init_nullKey()
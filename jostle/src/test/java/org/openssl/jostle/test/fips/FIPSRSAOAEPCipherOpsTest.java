@@ -49,10 +49,10 @@ public class FIPSRSAOAEPCipherOpsTest
 {
     private static final byte[] PUB_EXP_F4 = {0x01, 0x00, 0x01};
 
-    RSAServiceNI rsaServiceNI = FIPSNISelector.RSAServiceNI;
-    RSAOAEPCipherNI cipherNI = FIPSNISelector.RSAOAEPCipherNI;
-    SpecNI specNI = FIPSNISelector.SpecNI;
-    OperationsTestNI operationsTestNI = FIPSNISelector.OperationsTestNI;
+    RSAServiceNI rsaServiceNI = FIPSNISelector.getRSAServiceNI();
+    RSAOAEPCipherNI cipherNI = FIPSNISelector.getRSAOAEPCipherNI();
+    SpecNI specNI = FIPSNISelector.getSpecNI();
+    OperationsTestNI operationsTestNI = FIPSNISelector.getOperationsTestNI();
 
     @BeforeAll
     public static void beforeAll()
@@ -59,9 +59,9 @@ public class FIPSRSAOpsTest
         TestUtil.addFipsProvider();
     }
 
-    private final RSAServiceNI rsaServiceNI = FIPSNISelector.RSAServiceNI;
-    private final SpecNI specNI = FIPSNISelector.SpecNI;
-    private final OperationsTestNI operationsTestNI = FIPSNISelector.OperationsTestNI;
+    private final RSAServiceNI rsaServiceNI = FIPSNISelector.getRSAServiceNI();
+    private final SpecNI specNI = FIPSNISelector.getSpecNI();
+    private final OperationsTestNI operationsTestNI = FIPSNISelector.getOperationsTestNI();
 
     @BeforeEach
     public void beforeEach()
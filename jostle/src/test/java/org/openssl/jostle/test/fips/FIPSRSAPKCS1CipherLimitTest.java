@@ -84,9 +84,9 @@ public class FIPSRSAPKCS1CipherLimitTest
         }
     }
 
-    private final RSAServiceNI rsaServiceNI = FIPSNISelector.RSAServiceNI;
-    private final RSAPKCS1CipherNI cipherNI = FIPSNISelector.RSAPKCS1CipherNI;
-    private final SpecNI specNI = FIPSNISelector.SpecNI;
+    private final RSAServiceNI rsaServiceNI = FIPSNISelector.getRSAServiceNI();
+    private final RSAPKCS1CipherNI cipherNI = FIPSNISelector.getRSAPKCS1CipherNI();
+    private final SpecNI specNI = FIPSNISelector.getSpecNI();
 
     @Test
     public void init_nullKey()
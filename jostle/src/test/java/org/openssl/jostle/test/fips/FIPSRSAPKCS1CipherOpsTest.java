@@ -57,10 +57,10 @@ public class FIPSRSAPKCS1CipherOpsTest
 {
     private static final byte[] PUB_EXP_F4 = {0x01, 0x00, 0x01};
 
-    RSAServiceNI rsaServiceNI = FIPSNISelector.RSAServiceNI;
-    RSAPKCS1CipherNI cipherNI = FIPSNISelector.RSAPKCS1CipherNI;
-    SpecNI specNI = FIPSNISelector.SpecNI;
-    OperationsTestNI operationsTestNI = FIPSNISelector.OperationsTestNI;
+    RSAServiceNI rsaServiceNI = FIPSNISelector.getRSAServiceNI();
+    RSAPKCS1CipherNI cipherNI = FIPSNISelector.getRSAPKCS1CipherNI();
+    SpecNI specNI = FIPSNISelector.getSpecNI();
+    OperationsTestNI operationsTestNI = FIPSNISelector.getOperationsTestNI();
 
     @BeforeAll
     public static void beforeAll()
@@ -57,8 +57,8 @@ public class FIPSRSAServiceLimitTest
         TestUtil.addFipsProvider();
     }
 
-    private final RSAServiceNI rsaServiceNI = FIPSNISelector.RSAServiceNI;
-    private final SpecNI specNI = FIPSNISelector.SpecNI;
+    private final RSAServiceNI rsaServiceNI = FIPSNISelector.getRSAServiceNI();
+    private final SpecNI specNI = FIPSNISelector.getSpecNI();
 
     // -----------------------------------------------------------------
     // generateKeyPair
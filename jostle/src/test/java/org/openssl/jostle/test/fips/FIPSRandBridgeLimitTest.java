@@ -68,9 +68,9 @@ public class FIPSRandBridgeLimitTest
         TestUtil.addFipsProvider();
     }
 
-    private final ECServiceNI ecNI = FIPSNISelector.ECServiceNI;
-    private final RSAServiceNI rsaNI = FIPSNISelector.RSAServiceNI;
-    private final SpecNI specNI = FIPSNISelector.SpecNI;
+    private final ECServiceNI ecNI = FIPSNISelector.getECServiceNI();
+    private final RSAServiceNI rsaNI = FIPSNISelector.getRSAServiceNI();
+    private final SpecNI specNI = FIPSNISelector.getSpecNI();
 
     // ---------------------------------------------------------------------
     // Entropy stays in the FIPS boundary: the Java RandSource is never
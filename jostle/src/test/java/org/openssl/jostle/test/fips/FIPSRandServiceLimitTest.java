@@ -62,7 +62,7 @@ public class FIPSRandServiceLimitTest
         TestUtil.addFipsProvider();
     }
 
-    private final RandServiceNI randServiceNI = FIPSNISelector.RandServiceNI;
+    private final RandServiceNI randServiceNI = FIPSNISelector.getRandServiceNI();
 
     // ---------------------------------------------------------------------
     // contextRandomBytes: state / null / negative / range / strength.
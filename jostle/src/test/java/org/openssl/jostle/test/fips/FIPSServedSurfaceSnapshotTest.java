@@ -163,6 +163,7 @@ public class FIPSServedSurfaceSnapshotTest
             "SecureRandom.CTR-DRBG-AES256",
             "SecureRandom.DEFAULT",
             "SecureRandom.DRBG",
+            "SecureRandom.DRBG-STRIPED",
             "SecureRandom.HASH-DRBG",
             "SecureRandom.HASH-DRBG-SHA1",
             "SecureRandom.HASH-DRBG-SHA256",
@@ -57,7 +57,7 @@ public class FIPSXDHLimitTest
         TestUtil.addFipsProvider();
     }
 
-    private final XECServiceNI xec = FIPSNISelector.XECServiceNI;
+    private final XECServiceNI xec = FIPSNISelector.getXECServiceNI();
 
     // -----------------------------------------------------------------
     // generateKeyPair — bridge null / type validation
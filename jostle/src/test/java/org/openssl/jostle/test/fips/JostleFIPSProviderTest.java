@@ -113,10 +113,10 @@ public class JostleFIPSProviderTest
                         + "', fips_config='" + fipsDir + File.separator + "some-other.cnf'"));
 
         // The raw NI double-init is rejected by the native one-shot guard.
-        int rc = FIPSNISelector.OpenSSLFIPSNI.setOSSLFIPSModule(
+        int rc = FIPSNISelector.getOpenSSLFIPSNI().setOSSLFIPSModule(
                 fipsDir, "fips", fipsDir + "/fipsmodule.cnf");
         Assertions.assertEquals(ErrorCode.JO_OPENSSL_ERROR.getCode(), rc);
-        String errors = FIPSNISelector.OpenSSLFIPSNI.getOSSLErrors();
+        String errors = FIPSNISelector.getOpenSSLFIPSNI().getOSSLErrors();
         Assertions.assertTrue(errors != null && errors.contains("set_global_jostle_lib_ctx already called"),
                 "expected one-shot guard message, got: " + errors);
 
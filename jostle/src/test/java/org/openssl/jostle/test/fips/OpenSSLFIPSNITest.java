@@ -58,7 +58,7 @@ public class OpenSSLFIPSNITest
 
         // First touch of FIPSNISelector lazily extracts/loads the FIPS
         // interface library.
-        OpenSSLFIPSNI fipsNI = FIPSNISelector.OpenSSLFIPSNI;
+        OpenSSLFIPSNI fipsNI = FIPSNISelector.getOpenSSLFIPSNI();
         Assertions.assertTrue(Loader.isFipsLoadAttempted());
         Assertions.assertTrue(Loader.isFipsLoadSuccessful(),
                 "FIPS interface library load failed: " + Loader.getFipsMessage());
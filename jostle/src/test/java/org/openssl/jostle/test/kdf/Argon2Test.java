@@ -16,14 +16,22 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.openssl.jostle.jcajce.provider.JostleProvider;
+import org.openssl.jostle.jcajce.provider.kdf.MemoryHardKdfNI;
 import org.openssl.jostle.jcajce.spec.Argon2KeySpec;
+import org.openssl.jostle.test.crypto.TestNISelector;
 import org.openssl.jostle.util.Arrays;
+import org.openssl.jostle.util.Strings;
 
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
 import java.security.SecureRandom;
 import java.security.Security;
 import java.security.spec.InvalidKeySpecException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * JCE-level tests for the JSL {@code SecretKeyFactory.ARGON2} (RFC 9106).
@@ -231,6 +239,56 @@ public class Argon2Test
         assertDiffers(first, different, "second spec on a reused factory");
     }
 
+    /**
+     * The thread count is a scheduling choice only: every count, including more
+     * threads than lanes, and derivations racing for the same thread pool must
+     * all produce BC's key.
+     */
+    @Test
+    public void argon2_threadCountDoesNotChangeTheKey() throws Exception
+    {
+        SecureRandom sr = seededRandom("argon2_threadCountDoesNotChangeTheKey");
+        char[] password = randomPassword(sr);
+        byte[] salt = randomSalt(sr);
+        int lanes = 4;
+
+        byte[] expected = deriveBc(Argon2KeySpec.ARGON2_id, Argon2KeySpec.ARGON2_VERSION_13,
+                password, salt, 2, 256, lanes, 256);
+        byte[] passwordBytes = Strings.toUTF8ByteArray(password);
+        MemoryHardKdfNI kdfNI = TestNISelector.getMemoryHardKDFNI();
+
+        for (int threads = 1; threads <= 2 * lanes; threads++)
+        {
+            byte[] out = new byte[32];
+            kdfNI.handleErrorCodes(kdfNI.argon2(passwordBytes, salt, Argon2KeySpec.ARGON2_id,
+                    Argon2KeySpec.ARGON2_VERSION_13, 2, 256, lanes, threads, out, 0, out.length));
+            Assertions.assertArrayEquals(expected, out, "threads=" + threads);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<byte[]>> results = new ArrayList<>();
+            for (int t = 0; t < 16; t++)
+            {
+                results.add(pool.submit(() -> {
+                    byte[] out = new byte[32];
+                    kdfNI.handleErrorCodes(kdfNI.argon2(passwordBytes, salt, Argon2KeySpec.ARGON2_id,
+                            Argon2KeySpec.ARGON2_VERSION_13, 2, 256, lanes, lanes, out, 0, out.length));
+                    return out;
+                }));
+            }
+            for (Future<byte[]> f : results)
+            {
+                Assertions.assertArrayEquals(expected, f.get(), "concurrent threaded derivation");
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
     /**
      * The key exposes its parameters (PBEKey/Destroyable contract) and destroy()
      * scrubs it.
@@ -0,0 +1,234 @@
+/*
+ *
+ *   Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *   Licensed under the Apache License 2.0 (the "License"). You may not use
+ *   this file except in compliance with the License.  You can obtain a copy
+ *   in the file LICENSE in the source distribution or at
+ *   https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.test.kdf;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+import org.openssl.jostle.jcajce.provider.OpenSSLException;
+import org.openssl.jostle.jcajce.provider.kdf.KdfNI;
+import org.openssl.jostle.test.crypto.TestNISelector;
+
+import java.security.Security;
+
+/**
+ * NI-layer input-validation tests for the X9.63 and X9.42 KDF bridges
+ * ({@code KdfNI.x963kdf}, {@code KdfNI.x942kdf}), mirroring
+ * {@link HkdfLimitTest}.
+ */
+public class KeyAgreementKDFLimitTest
+{
+    private static final String AES256_WRAP = "AES-256-WRAP";
+
+    KdfNI kdfNI = TestNISelector.getKDFNI();
+
+    @BeforeAll
+    public static void beforeAll()
+    {
+        if (Security.getProvider(JostleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new JostleProvider());
+        }
+    }
+
+    @Test
+    public void testX963_null_secret() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x963kdf(null, new byte[1], "SHA-256", new byte[1], 0, 1));
+            Assertions.fail();
+        } catch (IllegalArgumentException iae)
+        {
+            Assertions.assertEquals("secret is null", iae.getMessage());
+        }
+    }
+
+    @Test
+    public void testX963_null_shared_info_accepted() throws Exception
+    {
+        byte[] out = new byte[32];
+        kdfNI.handleErrorCodes(kdfNI.x963kdf(new byte[32], null, "SHA-256", out, 0, out.length));
+    }
+
+    @Test
+    public void testX963_null_output() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x963kdf(new byte[32], null, "SHA-256", null, 0, 1));
+            Assertions.fail();
+        } catch (NullPointerException npe)
+        {
+            Assertions.assertEquals("output is null", npe.getMessage());
+        }
+    }
+
+    @Test
+    public void testX963_output_offset_negative() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x963kdf(new byte[32], null, "SHA-256", new byte[1], -1, 1));
+            Assertions.fail();
+        } catch (IllegalArgumentException iae)
+        {
+            Assertions.assertEquals("output offset is negative", iae.getMessage());
+        }
+    }
+
+    @Test
+    public void testX963_output_length_negative() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x963kdf(new byte[32], null, "SHA-256", new byte[1], 0, -1));
+            Assertions.fail();
+        } catch (IllegalArgumentException iae)
+        {
+            Assertions.assertEquals("output len negative", iae.getMessage());
+        }
+    }
+
+    @Test
+    public void testX963_output_range_past_end() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x963kdf(new byte[32], null, "SHA-256", new byte[16], 1, 16));
+            Assertions.fail();
+        } catch (IllegalArgumentException iae)
+        {
+            Assertions.assertEquals("output offset + length is out of range", iae.getMessage());
+        }
+    }
+
+    @Test
+    public void testX963_null_digest() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x963kdf(new byte[32], null, null, new byte[16], 0, 16));
+            Assertions.fail();
+        } catch (IllegalArgumentException iae)
+        {
+            Assertions.assertEquals("unknown digest", iae.getMessage());
+        }
+    }
+
+    @Test
+    public void testX963_unknown_digest() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x963kdf(new byte[32], null, "NOT-A-DIGEST", new byte[16], 0, 16));
+            Assertions.fail();
+        } catch (OpenSSLException osex)
+        {
+            Assertions.assertTrue(osex.getMessage().startsWith("OpenSSL Error:"),
+                    "unexpected message: " + osex.getMessage());
+        }
+    }
+
+    @Test
+    public void testX942_null_secret() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x942kdf(null, AES256_WRAP, null, "SHA-1", new byte[32], 0, 32));
+            Assertions.fail();
+        } catch (IllegalArgumentException iae)
+        {
+            Assertions.assertEquals("secret is null", iae.getMessage());
+        }
+    }
+
+    @Test
+    public void testX942_null_cek_alg() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x942kdf(new byte[32], null, null, "SHA-1", new byte[32], 0, 32));
+            Assertions.fail();
+        } catch (IllegalArgumentException iae)
+        {
+            Assertions.assertEquals("unknown key wrap algorithm", iae.getMessage());
+        }
+    }
+
+    @Test
+    public void testX942_empty_cek_alg() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x942kdf(new byte[32], "", null, "SHA-1", new byte[32], 0, 32));
+            Assertions.fail();
+        } catch (IllegalArgumentException iae)
+        {
+            Assertions.assertEquals("unknown key wrap algorithm", iae.getMessage());
+        }
+    }
+
+    @Test
+    public void testX942_unknown_cek_alg() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x942kdf(new byte[32], "AES-256-CBC", null, "SHA-1", new byte[32], 0, 32));
+            Assertions.fail();
+        } catch (OpenSSLException osex)
+        {
+            Assertions.assertTrue(osex.getMessage().startsWith("OpenSSL Error:"),
+                    "unexpected message: " + osex.getMessage());
+        }
+    }
+
+    @Test
+    public void testX942_null_output() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x942kdf(new byte[32], AES256_WRAP, null, "SHA-1", null, 0, 32));
+            Assertions.fail();
+        } catch (NullPointerException npe)
+        {
+            Assertions.assertEquals("output is null", npe.getMessage());
+        }
+    }
+
+    @Test
+    public void testX942_output_range_past_end() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x942kdf(new byte[32], AES256_WRAP, null, "SHA-1", new byte[32], 1, 32));
+            Assertions.fail();
+        } catch (IllegalArgumentException iae)
+        {
+            Assertions.assertEquals("output offset + length is out of range", iae.getMessage());
+        }
+    }
+
+    @Test
+    public void testX942_null_digest() throws Exception
+    {
+        try
+        {
+            kdfNI.handleErrorCodes(kdfNI.x942kdf(new byte[32], AES256_WRAP, null, null, new byte[32], 0, 32));
+            Assertions.fail();
+        } catch (IllegalArgumentException iae)
+        {
+            Assertions.assertEquals("unknown digest", iae.getMessage());
+        }
+    }
+}
@@ -27,8 +27,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.openssl.jostle.jcajce.provider.JostleProvider;
+import org.openssl.jostle.jcajce.provider.kdf.KdfNI;
 import org.openssl.jostle.jcajce.provider.kdf.KeyAgreementKDF;
 import org.openssl.jostle.jcajce.spec.UserKeyingMaterialSpec;
+import org.openssl.jostle.test.crypto.TestNISelector;
 import org.openssl.jostle.util.Arrays;
 
 import javax.crypto.KeyAgreement;
@@ -188,6 +190,86 @@ public class KeyAgreementKDFTest
         }
     }
 
+    /**
+     * The native X9.42 KDF must be byte-identical to the Java one for every
+     * wrap algorithm, including the padded AES wraps and the empty UKM the
+     * native path hands back to Java.
+     */
+    @Test
+    public void x942_nativeMatchesJava() throws Exception
+    {
+        KdfNI kdfNI = TestNISelector.getKDFNI();
+        String[] wrapOids = {
+                WRAP_OIDS[0], WRAP_OIDS[1], WRAP_OIDS[2], WRAP_OIDS[3],
+                "2.16.840.1.101.3.4.1.8", "2.16.840.1.101.3.4.1.28", "2.16.840.1.101.3.4.1.48"
+        };
+        String[] digests = {"SHA-1", "SHA-224", "SHA-256", "SHA-384", "SHA-512"};
+
+        for (int trial = 0; trial < 70; trial++)
+        {
+            byte[] zz = new byte[16 + RANDOM.nextInt(112)];
+            RANDOM.nextBytes(zz);
+
+            byte[] ukm = null;
+            if (trial % 3 == 1)
+            {
+                ukm = new byte[1 + RANDOM.nextInt(40)];
+                RANDOM.nextBytes(ukm);
+            }
+            else if (trial % 3 == 2)
+            {
+                ukm = new byte[0];
+            }
+
+            String wrapOid = wrapOids[trial % wrapOids.length];
+            String digest = digests[trial % digests.length];
+            int keyLen = KeyAgreementKDF.wrapKeyLenBytes(wrapOid);
+
+            Assertions.assertArrayEquals(
+                    KeyAgreementKDF.x942(digest, zz, wrapOid, keyLen, ukm),
+                    KeyAgreementKDF.x942(kdfNI, digest, zz, wrapOid, keyLen, ukm),
+                    "native X9.42 KDF diverged (wrap=" + wrapOid + ", digest=" + digest
+                            + ", ukm=" + (ukm == null ? "none" : ukm.length) + ")");
+        }
+    }
+
+    /**
+     * The native X9.63 KDF must be byte-identical to the Java one, with and
+     * without SharedInfo and across output lengths spanning several counter
+     * blocks.
+     */
+    @Test
+    public void x963_nativeMatchesJava() throws Exception
+    {
+        KdfNI kdfNI = TestNISelector.getKDFNI();
+        String[] digests = {"SHA-1", "SHA-224", "SHA-256", "SHA-384", "SHA-512"};
+
+        for (int trial = 0; trial < 60; trial++)
+        {
+            byte[] zz = new byte[24 + RANDOM.nextInt(80)];
+            RANDOM.nextBytes(zz);
+
+            byte[] sharedInfo = null;
+            if (trial % 3 == 1)
+            {
+                sharedInfo = new byte[1 + RANDOM.nextInt(60)];
+                RANDOM.nextBytes(sharedInfo);
+            }
+            else if (trial % 3 == 2)
+            {
+                sharedInfo = new byte[0];
+            }
+
+            String digest = digests[trial % digests.length];
+            int keyLen = 1 + RANDOM.nextInt(160);
+
+            Assertions.assertArrayEquals(
+                    KeyAgreementKDF.x963(digest, zz, keyLen, sharedInfo),
+                    KeyAgreementKDF.x963(kdfNI, digest, zz, keyLen, sharedInfo),
+                    "native X9.63 KDF diverged (digest=" + digest + ", keyLen=" + keyLen + ")");
+        }
+    }
+
     @Test
     public void x942_distinctUkmGivesDistinctKek() throws Exception
     {
@@ -65,7 +65,7 @@ public class KSServiceLimitTest
     private static final byte[] PASSWORD = "changeit".getBytes(StandardCharsets.UTF_8);
     private static final byte[] DUMMY_KEY = {0x01};
 
-    private final KSServiceNI ni = NISelector.KSServiceNI;
+    private final KSServiceNI ni = NISelector.getKSServiceNI();
     private long validRef = 0L;
 
     @BeforeAll
@@ -469,6 +469,56 @@ public class KSServiceLimitTest
         }
     }
 
+    // -----------------------------------------------------------------
+    // getEntries -- KeyStoreException wrapper
+    // -----------------------------------------------------------------
+
+    @Test
+    public void getEntries_nullCtx()
+    {
+        try
+        {
+            ni.getEntries(0L);
+            Assertions.fail();
+        }
+        catch (KeyStoreException e)
+        {
+            Assertions.assertEquals("key store context is null", e.getMessage());
+        }
+    }
+
+    // -----------------------------------------------------------------
+    // getEntry -- KeyStoreException wrapper
+    // -----------------------------------------------------------------
+
+    @Test
+    public void getEntry_nullCtx()
+    {
+        try
+        {
+            ni.getEntry(0L, "alias");
+            Assertions.fail();
+        }
+        catch (KeyStoreException e)
+        {
+            Assertions.assertEquals("key store context is null", e.getMessage());
+        }
+    }
+
+    @Test
+    public void getEntry_nullAlias()
+    {
+        try
+        {
+            ni.getEntry(validRef, null);
+            Assertions.fail();
+        }
+        catch (KeyStoreException e)
+        {
+            Assertions.assertEquals("key store alias is null", e.getMessage());
+        }
+    }
+
     // -----------------------------------------------------------------
     // containsAlias -- raw handleErrors
     // -----------------------------------------------------------------
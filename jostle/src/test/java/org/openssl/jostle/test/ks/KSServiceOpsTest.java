@@ -67,7 +67,7 @@ public class KSServiceOpsTest
     private static final byte[] PASSWORD = "changeit".getBytes(StandardCharsets.UTF_8);
     private static final byte[] DUMMY = {0x01};
 
-    private final KSServiceNI ni = NISelector.KSServiceNI;
+    private final KSServiceNI ni = NISelector.getKSServiceNI();
     private final OperationsTestNI operationsTestNI = TestNISelector.getOperationsTestNI();
     private long validRef = 0L;
 
@@ -209,7 +209,7 @@ public class KSServiceOpsTest
         byte[] encoded = buildValidKeystore();
         try
         {
-            // Exercises interface/nonfips/util/ks.c:578
+            // Exercises interface/nonfips/util/ks.c:615
             operationsTestNI.setFlag(OperationsTestNI.OpsTestFlag.OPS_OPENSSL_ERROR_4);
             ni.load(validRef, encoded, PASSWORD);
             Assertions.fail();
@@ -233,7 +233,7 @@ public class KSServiceOpsTest
         byte[] encoded = buildValidKeystore();
         try
         {
-            // Exercises interface/nonfips/util/ks.c:623
+            // Exercises interface/nonfips/util/ks.c:660
             operationsTestNI.setFlag(OperationsTestNI.OpsTestFlag.OPS_OPENSSL_ERROR_5);
             ni.load(validRef, encoded, PASSWORD);
             Assertions.fail();
@@ -292,7 +292,7 @@ public class KSServiceOpsTest
         ni.setKey(validRef, "k", keyPkcs8, PASSWORD);
         try
         {
-            // Exercises interface/nonfips/util/ks.c:786
+            // Exercises interface/nonfips/util/ks.c:823
             operationsTestNI.setFlag(OperationsTestNI.OpsTestFlag.OPS_OPENSSL_ERROR_1);
             ni.store(validRef, PASSWORD, KEY_PBE, CERT_PBE, MAC_SCHEME, MAC_DIGEST,
                     PBE_ITER, MAC_ITER, TestUtil.RNDSrc);
@@ -315,7 +315,7 @@ public class KSServiceOpsTest
         Assumptions.assumeFalse(Loader.isFFI());
         try
         {
-            // Exercises interface/nonfips/util/ks.c:831
+            // Exercises interface/nonfips/util/ks.c:868
             operationsTestNI.setFlag(OperationsTestNI.OpsTestFlag.OPS_OPENSSL_ERROR_2);
             ni.store(validRef, PASSWORD, KEY_PBE, CERT_PBE, MAC_SCHEME, MAC_DIGEST,
                     PBE_ITER, MAC_ITER, TestUtil.RNDSrc);
@@ -338,7 +338,7 @@ public class KSServiceOpsTest
         Assumptions.assumeFalse(Loader.isFFI());
         try
         {
-            // Exercises interface/nonfips/util/ks.c:856
+            // Exercises interface/nonfips/util/ks.c:893
             operationsTestNI.setFlag(OperationsTestNI.OpsTestFlag.OPS_OPENSSL_ERROR_3);
             ni.store(validRef, PASSWORD, KEY_PBE, CERT_PBE, MAC_SCHEME, MAC_DIGEST,
                     PBE_ITER, MAC_ITER, TestUtil.RNDSrc);
@@ -710,6 +710,34 @@ public class KSServiceOpsTest
         }
     }
 
+    // -----------------------------------------------------------------
+    // getEntries
+    // -----------------------------------------------------------------
+
+    @Test
+    public void getEntries_int32Overflow()
+        throws Exception
+    {
+        Assumptions.assumeTrue(operationsTestNI.opsTestAvailable());
+        Assumptions.assumeFalse(Loader.isFFI());
+        ni.setKey(validRef, "k", keyPkcs8, PASSWORD);
+        try
+        {
+            // Exercises interface/nonfips/jni/ks_jni.c:542
+            operationsTestNI.setFlag(OperationsTestNI.OpsTestFlag.OPS_INT32_OVERFLOW_2);
+            ni.getEntries(validRef);
+            Assertions.fail();
+        }
+        catch (KeyStoreException e)
+        {
+            Assertions.assertEquals("output too long int32", e.getMessage());
+        }
+        finally
+        {
+            operationsTestNI.resetFlags();
+        }
+    }
+
     // -----------------------------------------------------------------
     // containsAlias
     // -----------------------------------------------------------------
@@ -721,7 +749,7 @@ public class KSServiceOpsTest
         Assumptions.assumeFalse(Loader.isFFI());
         try
         {
-            // Exercises interface/nonfips/jni/ks_jni.c:532
+            // Exercises interface/nonfips/jni/ks_jni.c:579
             operationsTestNI.setFlag(OperationsTestNI.OpsTestFlag.OPS_FAILED_ACCESS_1);
             ni.containsAlias(validRef, "alias");
             Assertions.fail();
@@ -747,7 +775,7 @@ public class KSServiceOpsTest
         Assumptions.assumeFalse(Loader.isFFI());
         try
         {
-            // Exercises interface/nonfips/jni/ks_jni.c:576
+            // Exercises interface/nonfips/jni/ks_jni.c:623
             operationsTestNI.setFlag(OperationsTestNI.OpsTestFlag.OPS_FAILED_ACCESS_1);
             ni.isKeyEntry(validRef, "alias");
             Assertions.fail();
@@ -773,7 +801,7 @@ public class KSServiceOpsTest
         Assumptions.assumeFalse(Loader.isFFI());
         try
         {
-            // Exercises interface/nonfips/jni/ks_jni.c:607
+            // Exercises interface/nonfips/jni/ks_jni.c:654
             operationsTestNI.setFlag(OperationsTestNI.OpsTestFlag.OPS_FAILED_ACCESS_1);
             ni.isCertificateEntry(validRef, "alias");
             Assertions.fail();
@@ -799,7 +827,7 @@ public class KSServiceOpsTest
         Assumptions.assumeFalse(Loader.isFFI());
         try
         {
-            // Exercises interface/nonfips/jni/ks_jni.c:648
+            // Exercises interface/nonfips/jni/ks_jni.c:695
             operationsTestNI.setFlag(OperationsTestNI.OpsTestFlag.OPS_FAILED_ACCESS_1);
             ni.getCreationDate(validRef, "alias");
             Assertions.fail();
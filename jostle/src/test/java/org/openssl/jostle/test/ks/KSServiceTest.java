@@ -49,9 +49,11 @@ import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.ECGenParameterSpec;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -400,6 +402,109 @@ public class KSServiceTest
         Assertions.assertNull(keyStore.getCertificate("trusted"));
     }
 
+    @Test
+    public void certificateAliasLookupFollowsChanges()
+        throws Exception
+    {
+        char[] password = "changeit".toCharArray();
+        KeyStore keyStore = KeyStore.getInstance("PKCS12", JostleProvider.PROVIDER_NAME);
+        keyStore.load(null, null);
+
+        X509Certificate[] certificates = new X509Certificate[3];
+        for (int i = 0; i < certificates.length; i++)
+        {
+            certificates[i] = selfSignedCertificate(generateRsaKeyPair(),
+                    "CN=Jostle Certificate Index Test " + i, BigInteger.valueOf(20 + i));
+            keyStore.setCertificateEntry("trusted" + i, certificates[i]);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        keyStore.store(out, password);
+        KeyStore loaded = KeyStore.getInstance("PKCS12", JostleProvider.PROVIDER_NAME);
+        loaded.load(new ByteArrayInputStream(out.toByteArray()), password);
+
+        for (int i = 0; i < certificates.length; i++)
+        {
+            Assertions.assertEquals("trusted" + i, loaded.getCertificateAlias(certificates[i]));
+        }
+
+        // Replacing an entry moves the lookup to the new certificate.
+        loaded.setCertificateEntry("trusted0", certificates[2]);
+        Assertions.assertNull(loaded.getCertificateAlias(certificates[0]));
+        Assertions.assertArrayEquals(certificates[2].getEncoded(),
+                loaded.getCertificate("trusted0").getEncoded());
+
+        // A certificate held twice is found under the remaining alias once
+        // either is deleted.
+        String holder = loaded.getCertificateAlias(certificates[2]);
+        Assertions.assertTrue("trusted0".equals(holder) || "trusted2".equals(holder));
+        loaded.deleteEntry(holder);
+        Assertions.assertEquals("trusted0".equals(holder) ? "trusted2" : "trusted0",
+                loaded.getCertificateAlias(certificates[2]));
+
+        // Chains handed out are copies.
+        KeyPair keyPair = generateRsaKeyPair();
+        X509Certificate keyCertificate = selfSignedCertificate(keyPair,
+                "CN=Jostle Certificate Index Key Test", BigInteger.valueOf(30));
+        loaded.setKeyEntry("key", keyPair.getPrivate(), password,
+                new Certificate[] {keyCertificate});
+        Certificate[] chain = loaded.getCertificateChain("key");
+        chain[0] = certificates[1];
+        assertCertificateChain(loaded, "key", keyCertificate);
+        Assertions.assertEquals("key", loaded.getCertificateAlias(keyCertificate));
+        Assertions.assertEquals("trusted1", loaded.getCertificateAlias(certificates[1]));
+    }
+
+    @Test
+    public void writesPatchTheSnapshotInStoreOrder()
+        throws Exception
+    {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12", JostleProvider.PROVIDER_NAME);
+        keyStore.load(null, null);
+
+        X509Certificate first = selfSignedCertificate(generateRsaKeyPair(),
+                "CN=Jostle Snapshot Test 0", BigInteger.valueOf(40));
+        X509Certificate second = selfSignedCertificate(generateRsaKeyPair(),
+                "CN=Jostle Snapshot Test 1", BigInteger.valueOf(41));
+
+        // Enough writes to fold the overlay into the base more than once, the
+        // store keeps the newest alias first.
+        for (int i = 0; i < 100; i++)
+        {
+            keyStore.setCertificateEntry("trusted" + i, first);
+        }
+        Assertions.assertEquals(100, keyStore.size());
+        List<String> aliases = Collections.list(keyStore.aliases());
+        Assertions.assertEquals("trusted99", aliases.get(0));
+        Assertions.assertEquals("trusted0", aliases.get(99));
+        Assertions.assertEquals("trusted99", keyStore.getCertificateAlias(first));
+
+        // A replaced alias keeps its position and the decoded chains of the
+        // others stay in place.
+        Certificate held = keyStore.getCertificate("trusted2");
+        keyStore.setCertificateEntry("trusted1", second);
+        Assertions.assertSame(held, keyStore.getCertificate("trusted2"));
+        Assertions.assertArrayEquals(second.getEncoded(), keyStore.getCertificate("trusted1").getEncoded());
+        Assertions.assertEquals("trusted1", Collections.list(keyStore.aliases()).get(98));
+        Assertions.assertEquals("trusted1", keyStore.getCertificateAlias(second));
+
+        // A deleted and re-added alias moves to the front.
+        keyStore.deleteEntry("trusted99");
+        Assertions.assertFalse(keyStore.containsAlias("trusted99"));
+        Assertions.assertEquals(99, keyStore.size());
+        Assertions.assertEquals("trusted98", keyStore.getCertificateAlias(first));
+        keyStore.setCertificateEntry("trusted0", second);
+        keyStore.deleteEntry("trusted0");
+        keyStore.setCertificateEntry("trusted0", first);
+        Assertions.assertEquals("trusted0", Collections.list(keyStore.aliases()).get(0));
+        Assertions.assertEquals("trusted0", keyStore.getCertificateAlias(first));
+        Assertions.assertEquals(99, keyStore.size());
+
+        keyStore.deleteEntry("trusted1");
+        Assertions.assertNull(keyStore.getCertificateAlias(second));
+        Assertions.assertEquals(98, keyStore.size());
+    }
+
     @Test
     public void storeLoadRetainsMultipleEntryTypes()
         throws Exception
@@ -448,7 +553,7 @@ public class KSServiceTest
                 "CN=Jostle Native Multi Entry Trusted Test",
                 BigInteger.valueOf(16));
 
-        KSServiceNI serviceNI = NISelector.KSServiceNI;
+        KSServiceNI serviceNI = NISelector.getKSServiceNI();
         long source = 0L;
         long loaded = 0L;
         try
@@ -501,12 +606,123 @@ public class KSServiceTest
         }
     }
 
+    @Test
+    public void nativeEntriesExportMatchesPerAliasQueries()
+        throws Exception
+    {
+        byte[] password = "changeit".getBytes(StandardCharsets.UTF_8);
+        KeyPair keyPair = generateRsaKeyPair();
+        X509Certificate keyCertificate = selfSignedCertificate(keyPair,
+                "CN=Jostle Native Export Key Test", BigInteger.valueOf(40));
+        X509Certificate trustedCertificate = selfSignedCertificate(generateRsaKeyPair(),
+                "CN=Jostle Native Export Trusted Test", BigInteger.valueOf(41));
+
+        KSServiceNI serviceNI = NISelector.getKSServiceNI();
+        long ref = 0L;
+        try
+        {
+            ref = serviceNI.allocateKeyStore("PKCS12");
+            byte[] empty = serviceNI.getEntries(ref);
+            Assertions.assertArrayEquals(new byte[4], empty);
+
+            serviceNI.setKey(ref, "key", keyPair.getPrivate().getEncoded(), password);
+            serviceNI.setCertificateChain(ref, "key", encodeCertificateChain(keyCertificate));
+            serviceNI.setCertificateEntry(ref, "trusted", trustedCertificate.getEncoded());
+
+            byte[] encoded = serviceNI.getEntries(ref);
+            int offset = 0;
+            int count = readInt(encoded, offset);
+            offset += 4;
+            Assertions.assertEquals(serviceNI.size(ref), count);
+
+            Set<String> seen = new HashSet<String>();
+            for (int i = 0; i < count; i++)
+            {
+                int length = readInt(encoded, offset);
+                offset += 4;
+                String alias = new String(encoded, offset, length, StandardCharsets.UTF_8);
+                offset += length;
+                int flags = encoded[offset++];
+                long created = ((long)readInt(encoded, offset) << 32)
+                        | (readInt(encoded, offset + 4) & 0xffffffffL);
+                offset += 8;
+                length = readInt(encoded, offset);
+                offset += 4;
+                byte[] chain = new byte[length];
+                System.arraycopy(encoded, offset, chain, 0, length);
+                offset += length;
+
+                seen.add(alias);
+                Assertions.assertEquals(serviceNI.isKeyEntry(ref, alias), (flags & 1) != 0);
+                Assertions.assertEquals(serviceNI.isCertificateEntry(ref, alias), (flags & 2) != 0);
+                Assertions.assertEquals(serviceNI.getCreationDate(ref, alias), created);
+                Assertions.assertArrayEquals(serviceNI.getCertificateChain(ref, alias), chain);
+            }
+            Assertions.assertEquals(encoded.length, offset);
+            Assertions.assertEquals(aliasSet("key", "trusted"), seen);
+        }
+        finally
+        {
+            if (ref != 0L)
+            {
+                serviceNI.dispose(ref);
+            }
+        }
+    }
+
+    @Test
+    public void readOnlyMethodsFollowChanges()
+        throws Exception
+    {
+        char[] password = "changeit".toCharArray();
+        KeyStore keyStore = KeyStore.getInstance("PKCS12", JostleProvider.PROVIDER_NAME);
+        keyStore.load(null, null);
+
+        KeyPair keyPair = generateRsaKeyPair();
+        X509Certificate keyCertificate = selfSignedCertificate(keyPair,
+                "CN=Jostle Snapshot Key Test", BigInteger.valueOf(42));
+        X509Certificate trustedCertificate = selfSignedCertificate(generateRsaKeyPair(),
+                "CN=Jostle Snapshot Trusted Test", BigInteger.valueOf(43));
+        keyStore.setKeyEntry("key", keyPair.getPrivate(), password,
+                new Certificate[] {keyCertificate});
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        keyStore.store(out, password);
+        KeyStore loaded = KeyStore.getInstance("PKCS12", JostleProvider.PROVIDER_NAME);
+        loaded.load(new ByteArrayInputStream(out.toByteArray()), password);
+
+        Assertions.assertEquals(1, loaded.size());
+        Assertions.assertTrue(loaded.containsAlias("key"));
+        Assertions.assertTrue(loaded.isKeyEntry("key"));
+        Assertions.assertFalse(loaded.isCertificateEntry("key"));
+        Assertions.assertNotNull(loaded.getCreationDate("key"));
+        Assertions.assertNull(loaded.getCreationDate("trusted"));
+
+        loaded.setCertificateEntry("trusted", trustedCertificate);
+        Assertions.assertEquals(2, loaded.size());
+        Assertions.assertEquals(aliasSet("key", "trusted"),
+                new HashSet<String>(Collections.list(loaded.aliases())));
+        Assertions.assertTrue(loaded.isCertificateEntry("trusted"));
+        Assertions.assertFalse(loaded.isKeyEntry("trusted"));
+        Assertions.assertNotNull(loaded.getCreationDate("trusted"));
+        Assertions.assertEquals("trusted", loaded.getCertificateAlias(trustedCertificate));
+
+        loaded.deleteEntry("key");
+        Assertions.assertEquals(1, loaded.size());
+        Assertions.assertFalse(loaded.containsAlias("key"));
+        Assertions.assertFalse(loaded.isKeyEntry("key"));
+        Assertions.assertNull(loaded.getCreationDate("key"));
+        Assertions.assertNull(loaded.getCertificateChain("key"));
+        Assertions.assertEquals(aliasSet("trusted"),
+                new HashSet<String>(Collections.list(loaded.aliases())));
+    }
+
     @Test
     public void nativeEmptyPersistenceAndEmptyChainDoNotCreateAliases()
         throws Exception
     {
         byte[] password = "changeit".getBytes(StandardCharsets.UTF_8);
-        KSServiceNI serviceNI = NISelector.KSServiceNI;
+        KSServiceNI serviceNI = NISelector.getKSServiceNI();
         long source = 0L;
         long loaded = 0L;
         try
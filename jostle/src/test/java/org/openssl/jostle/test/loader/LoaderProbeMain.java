@@ -48,6 +48,8 @@ public final class LoaderProbeMain
         emit("isFFI", String.valueOf(Loader.isFFI()));
         emit("installDir", String.valueOf(Loader.getInstallDir()));
         emit("fixedInstallDir", String.valueOf(Loader.isFixedInstallDir()));
+        emit("cacheInstall", String.valueOf(Loader.isCacheInstall()));
+        emit("cacheDir", String.valueOf(Loader.getCacheDir()));
 
         List<String> libs = Loader.getLoadedLibs();
         emit("libCount", Integer.toString(libs.size()));
@@ -17,8 +17,10 @@ import org.openssl.jostle.Loader;
 import org.openssl.jostle.test.JvmProbe;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +49,8 @@ public class LoaderPropertyIntegrationTest
     private static final String P_INSTALL_DIR = "org.openssl.jostle.loader.install_dir";
     private static final String P_INTERFACE = "org.openssl.jostle.loader.interface";
     private static final String P_EXTRACT_OPENSSL = "org.openssl.jostle.loader.extract_openssl";
+    private static final String P_CACHE = "org.openssl.jostle.loader.cache";
+    private static final String P_CACHE_VERIFY = "org.openssl.jostle.loader.cache_verify";
     //
     // Both spellings are accepted: the un-padded "_0" the format strings render, and the
     // zero-padded "_00" documented in README.md. Mirrored here as literals rather than
@@ -131,6 +135,132 @@ public class LoaderPropertyIntegrationTest
         }
     }
 
+    //
+    // ---------------------------------------------------------------- cache
+    //
+
+    /**
+     * The first start populates a cache directory under the install dir, a second start with
+     * the same jar reuses it, loading from the same place and leaving no staging directory.
+     */
+    @Test
+    public void cache_secondStart_reusesTheCacheDirectory() throws Exception
+    {
+        File installDir = createInstallDir("cache");
+        try
+        {
+            Probe first = runProbe(props(
+                    P_INSTALL_DIR, installDir.getAbsolutePath(),
+                    P_INTERFACE, "jni",
+                    P_CACHE, "true"));
+
+            first.assertLoadSucceeded();
+            Assertions.assertEquals("true", first.get("cacheInstall"));
+            File cacheDir = new File(first.get("cacheDir"));
+            Assertions.assertEquals(installDir.getCanonicalFile(), cacheDir.getParentFile().getCanonicalFile());
+            Assertions.assertTrue(new File(cacheDir, "jostle.cache").isFile(), "no manifest in " + cacheDir);
+
+            long manifestModified = new File(cacheDir, "jostle.cache").lastModified();
+
+            Probe second = runProbe(props(
+                    P_INSTALL_DIR, installDir.getAbsolutePath(),
+                    P_INTERFACE, "jni",
+                    P_CACHE, "true",
+                    P_CACHE_VERIFY, "true"));
+
+            second.assertLoadSucceeded();
+            Assertions.assertEquals(first.get("cacheDir"), second.get("cacheDir"));
+            Assertions.assertEquals(manifestModified, new File(cacheDir, "jostle.cache").lastModified());
+            Assertions.assertTrue(second.anyLibContains("Cached: " + cacheDir.getAbsolutePath()),
+                    "second start did not load from the cache: " + second.libs());
+
+            File[] entries = installDir.listFiles();
+            Assertions.assertNotNull(entries);
+            Assertions.assertEquals(1, entries.length, "unexpected entries: " + Arrays.toString(entries));
+        }
+        finally
+        {
+            deleteBestEffort(installDir);
+        }
+    }
+
+    /**
+     * A cached library that no longer matches the jar is not loaded, the cache is
+     * repopulated in its place.
+     */
+    @Test
+    public void cache_damagedLibrary_isRepopulated() throws Exception
+    {
+        File installDir = createInstallDir("cache-damaged");
+        try
+        {
+            Probe first = runProbe(props(
+                    P_INSTALL_DIR, installDir.getAbsolutePath(),
+                    P_INTERFACE, "jni",
+                    P_CACHE, "true"));
+            first.assertLoadSucceeded();
+
+            File cacheDir = new File(first.get("cacheDir"));
+            File victim = null;
+            for (File candidate : filesUnder(cacheDir))
+            {
+                if (candidate.getName().contains(JNI_LIB))
+                {
+                    victim = candidate;
+                }
+            }
+            Assertions.assertNotNull(victim, "no JNI library in " + cacheDir);
+            try (FileOutputStream fos = new FileOutputStream(victim, true))
+            {
+                fos.write(0);
+            }
+            long damagedLength = victim.length();
+
+            Probe second = runProbe(props(
+                    P_INSTALL_DIR, installDir.getAbsolutePath(),
+                    P_INTERFACE, "jni",
+                    P_CACHE, "true"));
+
+            second.assertLoadSucceeded();
+            Assertions.assertEquals("true", second.get("cacheInstall"));
+            Assertions.assertEquals(first.get("cacheDir"), second.get("cacheDir"));
+            Assertions.assertNotEquals(damagedLength, victim.length());
+        }
+        finally
+        {
+            deleteBestEffort(installDir);
+        }
+    }
+
+    /**
+     * The cache is refused in the shared temp dir, without an explicit install dir the loader
+     * extracts as before.
+     */
+    @Test
+    public void cache_withoutInstallDir_isNotUsed() throws Exception
+    {
+        Probe probe = runProbe(props(
+                P_INTERFACE, "jni",
+                P_CACHE, "true"));
+
+        probe.assertLoadSucceeded();
+        Assertions.assertEquals("false", probe.get("cacheInstall"));
+        Assertions.assertEquals("null", probe.get("cacheDir"));
+    }
+
+    /**
+     * Without the property the loader extracts as before and reports no cache.
+     */
+    @Test
+    public void cache_whenUnset_isNotUsed() throws Exception
+    {
+        Probe probe = runProbe(props(P_INTERFACE, "jni"));
+
+        probe.assertLoadSucceeded();
+        Assertions.assertEquals("false", probe.get("cacheInstall"));
+        Assertions.assertEquals("null", probe.get("cacheDir"));
+    }
+
     //
     // ---------------------------------------------------------------- interface
     //
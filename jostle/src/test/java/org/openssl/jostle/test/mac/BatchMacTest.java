@@ -0,0 +1,134 @@
+/*
+ *  Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License 2.0 (the "License"). You may not use
+ *  this file except in compliance with the License.  You can obtain a copy
+ *  in the file LICENSE in the source distribution or at
+ *  https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.test.mac;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openssl.jostle.jcajce.BatchMac;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.util.Arrays;
+
+public class BatchMacTest
+{
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static SecureRandom seededRandom(String testName) throws Exception
+    {
+        long seed = RANDOM.nextLong();
+        System.out.println(testName + " seed=" + seed);
+        SecureRandom sr = SecureRandom.getInstance("SHA1PRNG");
+        sr.setSeed(seed);
+        return sr;
+    }
+
+    @BeforeAll
+    public static void before()
+    {
+        if (Security.getProvider(JostleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new JostleProvider());
+        }
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+    }
+
+    @Test
+    public void testBatchAgreesWithBC() throws Exception
+    {
+        SecureRandom sr = seededRandom("testBatchAgreesWithBC");
+        byte[] input = new byte[4096];
+        sr.nextBytes(input);
+
+        for (String[] alg : new String[][]{{"HmacSHA256", "HmacSHA256"}, {"HmacSHA512", "HmacSHA512"}, {"AESCMAC", "AES"}})
+        {
+            byte[] keyBytes = new byte[alg[1].equals("AES") ? 16 : 32];
+            sr.nextBytes(keyBytes);
+            SecretKeySpec key = new SecretKeySpec(keyBytes, alg[1]);
+
+            BatchMac batch = BatchMac.getInstance(alg[0], JostleProvider.PROVIDER_NAME);
+            batch.init(key);
+            Mac bc = Mac.getInstance(alg[0], BouncyCastleProvider.PROVIDER_NAME);
+            bc.init(key);
+            Assertions.assertEquals(bc.getMacLength(), batch.getMacLength(), alg[0]);
+
+            int count = 100;
+            int[] spans = new int[2 * count];
+            for (int i = 0; i < count; i++)
+            {
+                int len = sr.nextInt(300);
+                spans[2 * i] = sr.nextInt(input.length - len + 1);
+                spans[2 * i + 1] = len;
+            }
+
+            int ml = batch.getMacLength();
+            for (int round = 0; round < 2; round++)
+            {
+                byte[] tags = batch.doFinal(input, spans);
+                Assertions.assertEquals(count * ml, tags.length);
+                for (int i = 0; i < count; i++)
+                {
+                    bc.update(input, spans[2 * i], spans[2 * i + 1]);
+                    Assertions.assertArrayEquals(bc.doFinal(), Arrays.copyOfRange(tags, i * ml, (i + 1) * ml),
+                            alg[0] + " round " + round + " message " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testReInitChangesKey() throws Exception
+    {
+        BatchMac batch = BatchMac.getInstance("HmacSHA256", JostleProvider.PROVIDER_NAME);
+        int[] spans = {0, 5};
+        byte[] input = "Hello".getBytes();
+
+        batch.init(new SecretKeySpec(new byte[32], "HmacSHA256"));
+        byte[] first = batch.doFinal(input, spans);
+        batch.init(new SecretKeySpec(new byte[]{1, 2, 3, 4}, "HmacSHA256"));
+        byte[] second = batch.doFinal(input, spans);
+
+        Mac mac = Mac.getInstance("HmacSHA256", JostleProvider.PROVIDER_NAME);
+        mac.init(new SecretKeySpec(new byte[32], "HmacSHA256"));
+        Assertions.assertArrayEquals(mac.doFinal(input), first);
+        mac.init(new SecretKeySpec(new byte[]{1, 2, 3, 4}, "HmacSHA256"));
+        Assertions.assertArrayEquals(mac.doFinal(input), second);
+    }
+
+    @Test
+    public void testNotInitialised() throws Exception
+    {
+        BatchMac batch = BatchMac.getInstance("HmacSHA256", JostleProvider.PROVIDER_NAME);
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+                () -> batch.doFinal(new byte[1], new int[]{0, 1}));
+        Assertions.assertEquals("not initialized", e.getMessage());
+    }
+
+    @Test
+    public void testGetInstance() throws Exception
+    {
+        Assertions.assertThrows(NoSuchAlgorithmException.class,
+                () -> BatchMac.getInstance("HmacSHA257", JostleProvider.PROVIDER_NAME));
+
+        NoSuchAlgorithmException e = Assertions.assertThrows(NoSuchAlgorithmException.class,
+                () -> BatchMac.getInstance("HmacSHA256", BouncyCastleProvider.PROVIDER_NAME));
+        Assertions.assertEquals("HmacSHA256 from BC does not support batching", e.getMessage());
+    }
+}
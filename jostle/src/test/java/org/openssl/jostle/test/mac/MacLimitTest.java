@@ -8,6 +8,7 @@ import org.openssl.jostle.jcajce.provider.OpenSSLException;
 import org.openssl.jostle.jcajce.provider.mac.MacServiceNI;
 import org.openssl.jostle.test.crypto.TestNISelector;
 
+import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
 import java.security.SecureRandom;
 import java.security.Security;
@@ -222,6 +223,93 @@ public class MacLimitTest
         }
     }
 
+    @Test
+    public void updateBuffer_inputNull() throws Exception
+    {
+        long ref = macNI.allocateMac("HMAC", "SHA-256");
+        Assertions.assertTrue(ref > 0);
+        try
+        {
+            macNI.engineInit(ref, new byte[16]);
+            macNI.updateBuffer(ref, null, 0, 0);
+            Assertions.fail();
+        }
+        catch (NullPointerException e)
+        {
+            Assertions.assertEquals("input is null", e.getMessage());
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateBuffer_inputOffsetAndLenNegative() throws Exception
+    {
+        long ref = macNI.allocateMac("HMAC", "SHA-256");
+        Assertions.assertTrue(ref > 0);
+        try
+        {
+            macNI.engineInit(ref, new byte[16]);
+            ByteBuffer buf = ByteBuffer.allocateDirect(1);
+
+            IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> macNI.updateBuffer(ref, buf, -1, 1));
+            Assertions.assertEquals("input offset is negative", e.getMessage());
+
+            e = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> macNI.updateBuffer(ref, buf, 0, -1));
+            Assertions.assertEquals("input len is negative", e.getMessage());
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateBuffer_inputOutOfRange() throws Exception
+    {
+        long ref = macNI.allocateMac("HMAC", "SHA-256");
+        Assertions.assertTrue(ref > 0);
+        try
+        {
+            macNI.engineInit(ref, new byte[16]);
+            ByteBuffer buf = ByteBuffer.allocateDirect(1);
+            for (int[] offLen : new int[][]{{1, 1}, {0, 2}, {2, 0}})
+            {
+                IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> macNI.updateBuffer(ref, buf, offLen[0], offLen[1]));
+                Assertions.assertEquals("input offset + length is out of range", e.getMessage());
+            }
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateBuffer_notInitialised() throws Exception
+    {
+        long ref = macNI.allocateMac("HMAC", "SHA-512");
+        Assertions.assertTrue(ref > 0);
+        try
+        {
+            macNI.updateBuffer(ref, ByteBuffer.allocateDirect(32), 0, 32);
+            Assertions.fail();
+        }
+        catch (IllegalStateException e)
+        {
+            Assertions.assertEquals("not initialized", e.getMessage());
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
     @Test
     public void update_notInitialised_array() throws Exception
     {
@@ -804,5 +892,334 @@ public class MacLimitTest
                 where + ": bytes after the tag were clobbered");
     }
 
+    @Test
+    public void updateDoFinalReset_notInitialised() throws Exception
+    {
+        long ref = macNI.allocateMac("HMAC", "SHA-256");
+        try
+        {
+            IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+                    () -> macNI.updateDoFinalReset(ref, new byte[4], 0, 4, new byte[32], 0));
+            Assertions.assertEquals("not initialized", e.getMessage());
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateDoFinalReset_inputNullWithLength() throws Exception
+    {
+        long ref = macNI.allocateMac("HMAC", "SHA-256");
+        try
+        {
+            macNI.engineInit(ref, new byte[16]);
+            NullPointerException e = Assertions.assertThrows(NullPointerException.class,
+                    () -> macNI.updateDoFinalReset(ref, null, 0, 1, new byte[32], 0));
+            Assertions.assertEquals("input is null", e.getMessage());
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateDoFinalReset_inputRange() throws Exception
+    {
+        long ref = macNI.allocateMac("HMAC", "SHA-256");
+        try
+        {
+            macNI.engineInit(ref, new byte[16]);
+            for (int[] offLen : new int[][]{{0, 11}, {1, 10}, {11, 0}})
+            {
+                IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> macNI.updateDoFinalReset(ref, new byte[10], offLen[0], offLen[1], new byte[32], 0));
+                Assertions.assertEquals("input offset + length is out of range", e.getMessage());
+            }
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateDoFinalReset_outputTooSmall() throws Exception
+    {
+        long ref = macNI.allocateMac("HMAC", "SHA-512");
+        try
+        {
+            macNI.engineInit(ref, new byte[16]);
+            IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> macNI.updateDoFinalReset(ref, new byte[4], 0, 4, new byte[64], 1));
+            Assertions.assertEquals("output offset + mac len is out of range", e.getMessage());
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
+    //
+    // The fused call must agree with update + doFinal + reset, and must leave the
+    // context re-keyed so the next message starts fresh.
+    //
+    @Test
+    public void updateDoFinalReset_matchesSeparateCalls() throws Exception
+    {
+        byte[] key = new byte[32];
+        byte[] msg = new byte[100];
+        RANDOM.nextBytes(key);
+        RANDOM.nextBytes(msg);
+
+        long ref = macNI.allocateMac("HMAC", "SHA-256");
+        try
+        {
+            macNI.engineInit(ref, key);
+            byte[] expected = new byte[32];
+            macNI.engineUpdate(ref, msg, 0, 100);
+            macNI.doFinal(ref, expected, 0);
+            macNI.reset(ref);
+
+            byte[] emptyExpected = new byte[32];
+            macNI.doFinal(ref, emptyExpected, 0);
+            macNI.reset(ref);
+
+            for (int i = 0; i < 2; i++)
+            {
+                byte[] out = new byte[40];
+                macNI.engineUpdate(ref, msg, 0, 60);
+                Assertions.assertEquals(32, macNI.updateDoFinalReset(ref, msg, 60, 40, out, 8));
+                Assertions.assertArrayEquals(expected, Arrays.copyOfRange(out, 8, 40));
+            }
+
+            byte[] empty = new byte[32];
+            Assertions.assertEquals(32, macNI.updateDoFinalReset(ref, null, 0, 0, empty, 0));
+            Assertions.assertArrayEquals(emptyExpected, empty);
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void doFinalBatch_notInitialised() throws Exception
+    {
+        long ref = macNI.allocateMac("HMAC", "SHA-256");
+        try
+        {
+            IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+                    () -> macNI.doFinalBatch(ref, new byte[4], new int[]{0, 4}, 1, new byte[32], 0));
+            Assertions.assertEquals("not initialized", e.getMessage());
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void doFinalBatch_spansRange() throws Exception
+    {
+        long ref = macNI.allocateMac("HMAC", "SHA-256");
+        try
+        {
+            macNI.engineInit(ref, new byte[16]);
+            for (int[] spans : new int[][]{{0, 4, 0}, {0, 11, 0, 1}, {1, 10, 0, 1}, {11, 0, 0, 1}, {-1, 1, 0, 1}, {0, -1, 0, 1}})
+            {
+                IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> macNI.doFinalBatch(ref, new byte[10], spans, 2, new byte[64], 0));
+                Assertions.assertEquals("input offset + length is out of range", e.getMessage());
+            }
+
+            NullPointerException npe = Assertions.assertThrows(NullPointerException.class,
+                    () -> macNI.doFinalBatch(ref, new byte[10], null, 0, new byte[64], 0));
+            Assertions.assertEquals("input is null", npe.getMessage());
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void doFinalBatch_outputRange() throws Exception
+    {
+        long ref = macNI.allocateMac("HMAC", "SHA-256");
+        try
+        {
+            macNI.engineInit(ref, new byte[16]);
+            IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> macNI.doFinalBatch(ref, new byte[10], new int[]{0, 5, 5, 5}, 2, new byte[64], 1));
+            Assertions.assertEquals("output offset + mac len is out of range", e.getMessage());
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
+    //
+    // Every tag of a batch must match the tag of that message alone, and the
+    // context must stay keyed for the next batch.
+    //
+    @Test
+    public void doFinalBatch_matchesPerMessage() throws Exception
+    {
+        byte[] key = new byte[32];
+        byte[] msg = new byte[300];
+        RANDOM.nextBytes(key);
+        RANDOM.nextBytes(msg);
+        int[] spans = {0, 0, 0, 300, 17, 32, 299, 1, 100, 150};
+        int count = spans.length / 2;
 
+        long ref = macNI.allocateMac("HMAC", "SHA-256");
+        try
+        {
+            macNI.engineInit(ref, key);
+            for (int round = 0; round < 2; round++)
+            {
+                byte[] out = new byte[count * 32 + 3];
+                Assertions.assertEquals(count * 32, macNI.doFinalBatch(ref, msg, spans, count, out, 3));
+
+                for (int i = 0; i < count; i++)
+                {
+                    byte[] expected = new byte[32];
+                    macNI.updateDoFinalReset(ref, msg, spans[2 * i], spans[2 * i + 1], expected, 0);
+                    Assertions.assertArrayEquals(expected, Arrays.copyOfRange(out, 3 + i * 32, 3 + (i + 1) * 32),
+                            "round " + round + " message " + i);
+                }
+            }
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void initFrom_refNull()
+    {
+        long template = macNI.allocateMac("HMAC", "SHA-256");
+        try
+        {
+            macNI.initFrom(0, template);
+            Assertions.fail();
+        }
+        catch (IllegalArgumentException e)
+        {
+            Assertions.assertEquals("mac context is null", e.getMessage());
+        }
+        finally
+        {
+            macNI.dispose(template);
+        }
+    }
+
+    @Test
+    public void initFrom_templateNull()
+    {
+        long ref = macNI.allocateMac("HMAC", "SHA-256");
+        try
+        {
+            macNI.initFrom(ref, 0);
+            Assertions.fail();
+        }
+        catch (IllegalArgumentException e)
+        {
+            Assertions.assertEquals("mac context is null", e.getMessage());
+        }
+        finally
+        {
+            macNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void initFrom_templateNotInitialized()
+    {
+        long template = macNI.allocateMac("HMAC", "SHA-256");
+        long ref = macNI.allocateMac("HMAC", "SHA-256");
+        try
+        {
+            macNI.initFrom(ref, template);
+            Assertions.fail();
+        }
+        catch (IllegalStateException e)
+        {
+            Assertions.assertEquals("not initialized", e.getMessage());
+        }
+        finally
+        {
+            macNI.dispose(ref);
+            macNI.dispose(template);
+        }
+    }
+
+    @Test
+    public void initFrom_differentMac() throws Exception
+    {
+        long template = macNI.allocateMac("HMAC", "SHA-256");
+        long ref = macNI.allocateMac("HMAC", "SHA-512");
+        try
+        {
+            macNI.engineInit(template, new byte[32]);
+            macNI.initFrom(ref, template);
+            Assertions.fail();
+        }
+        catch (IllegalStateException e)
+        {
+            Assertions.assertEquals("unexpected state", e.getMessage());
+        }
+        finally
+        {
+            macNI.dispose(ref);
+            macNI.dispose(template);
+        }
+    }
+
+    //
+    // A context keyed from a template must produce the same tags as one keyed
+    // directly, and keep doing so across the re-key done by reset.
+    //
+    @Test
+    public void initFrom_matchesInit() throws Exception
+    {
+        byte[] msg = new byte[100];
+        RANDOM.nextBytes(msg);
+
+        for (int keyLen : new int[]{16, 24, 32})
+        {
+            byte[] key = new byte[keyLen];
+            RANDOM.nextBytes(key);
+
+            long template = macNI.allocateMac("CMAC", "aes-cbc");
+            long direct = macNI.allocateMac("CMAC", "aes-cbc");
+            long ref = macNI.allocateMac("CMAC", "aes-cbc");
+            try
+            {
+                macNI.engineInit(template, key);
+                macNI.engineInit(direct, key);
+                macNI.initFrom(ref, template);
+
+                byte[] expected = new byte[16];
+                macNI.updateDoFinalReset(direct, msg, 0, msg.length, expected, 0);
+                for (int round = 0; round < 2; round++)
+                {
+                    byte[] actual = new byte[16];
+                    macNI.updateDoFinalReset(ref, msg, 0, msg.length, actual, 0);
+                    Assertions.assertArrayEquals(expected, actual, "key len " + keyLen + " round " + round);
+                }
+            }
+            finally
+            {
+                macNI.dispose(ref);
+                macNI.dispose(direct);
+                macNI.dispose(template);
+            }
+        }
+    }
 }
@@ -523,5 +523,31 @@ public class MacOpsTest
         }
     }
 
+    @Test
+    public void initFrom_dupFailure() throws Exception
+    {
+        Assumptions.assumeTrue(operationsTestNI.opsTestAvailable(), "OPS Test support not compiled in");
+
+        long template = MacServiceNI.allocateMac("HMAC", "SHA-256");
+        long ref = MacServiceNI.allocateMac("HMAC", "SHA-256");
+        try
+        {
+            MacServiceNI.engineInit(template, new byte[32]);
 
+            // Exercises interface/nonfips/util/mac.c:279
+            operationsTestNI.setFlag(OperationsTestNI.OpsTestFlag.OPS_OPENSSL_ERROR_1);
+            MacServiceNI.initFrom(ref, template);
+            Assertions.fail();
+        }
+        catch (OpenSSLException e)
+        {
+            Assertions.assertEquals("OpenSSL Error: null", e.getMessage());
+        }
+        finally
+        {
+            MacServiceNI.dispose(ref);
+            MacServiceNI.dispose(template);
+            operationsTestNI.resetFlags();
+        }
+    }
 }
@@ -9,12 +9,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.openssl.jostle.jcajce.provider.JostleProvider;
+import org.openssl.jostle.jcajce.provider.cache.MacTemplateCache;
 import org.openssl.jostle.util.Arrays;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
+import java.io.File;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
@@ -493,6 +499,75 @@ public class MacTest
     }
 
 
+    @Test
+    public void testHmacDirectByteBufferPositionAndSlices() throws Exception
+    {
+        // Only position..limit is consumed, whatever the buffer's offset into its memory.
+        SecureRandom sr = seededRandom("testHmacDirectByteBufferPositionAndSlices");
+        byte[] key = new byte[32];
+        sr.nextBytes(key);
+        byte[] msg = new byte[5000];
+        sr.nextBytes(msg);
+
+        Mac bc = Mac.getInstance("HmacSHA512", BouncyCastleProvider.PROVIDER_NAME);
+        bc.init(new SecretKeySpec(key, "HmacSHA512"));
+        bc.update(msg, 9, msg.length - 9 - 3);
+        byte[] expected = bc.doFinal();
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(msg.length);
+        direct.put(msg).flip();
+        direct.position(9).limit(msg.length - 3);
+
+        for (ByteBuffer in : new ByteBuffer[]{direct.duplicate(), direct.asReadOnlyBuffer(), direct.slice()})
+        {
+            Mac jo = Mac.getInstance("HmacSHA512", JostleProvider.PROVIDER_NAME);
+            jo.init(new SecretKeySpec(key, "HmacSHA512"));
+            jo.update(in);
+            Assertions.assertFalse(in.hasRemaining());
+            Assertions.assertArrayEquals(expected, jo.doFinal());
+        }
+    }
+
+    @Test
+    public void testHmacMappedByteBuffer() throws Exception
+    {
+        SecureRandom sr = seededRandom("testHmacMappedByteBuffer");
+        byte[] key = new byte[32];
+        sr.nextBytes(key);
+        byte[] msg = new byte[1 << 20];
+        sr.nextBytes(msg);
+
+        File file = File.createTempFile("jostle-mac", ".bin");
+        try
+        {
+            Files.write(file.toPath(), msg);
+            try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+                 FileChannel channel = raf.getChannel())
+            {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+                Mac jo = Mac.getInstance("HmacSHA256", JostleProvider.PROVIDER_NAME);
+                jo.init(new SecretKeySpec(key, "HmacSHA256"));
+                jo.update(mapped);
+                Assertions.assertFalse(mapped.hasRemaining());
+
+                Mac bc = Mac.getInstance("HmacSHA256", BouncyCastleProvider.PROVIDER_NAME);
+                bc.init(new SecretKeySpec(key, "HmacSHA256"));
+                Assertions.assertArrayEquals(bc.doFinal(msg), jo.doFinal());
+            }
+        }
+        finally
+        {
+            // A mapping is only released when the buffer is collected, which
+            // some platforms require before the file can be deleted.
+            if (!file.delete())
+            {
+                file.deleteOnExit();
+            }
+        }
+    }
+
+
     @Test
     public void testUnknownAlgorithm()
     {
@@ -669,4 +744,139 @@ public class MacTest
         }
         return mac.doFinal();
     }
+
+    //
+    // Small updates are held back in the SPI and handed to the native layer with
+    // the final. Mixed update sizes either side of that threshold, single bytes,
+    // direct buffers, clones taken while input is held back and a re-init that
+    // discards held back input must all agree with BC.
+    //
+    @Test
+    public void testDeferredUpdates_agreeWithBC() throws Exception
+    {
+        SecureRandom sr = seededRandom("testDeferredUpdates_agreeWithBC");
+        byte[] key = new byte[32];
+        byte[] data = new byte[4096];
+        sr.nextBytes(key);
+        sr.nextBytes(data);
+        SecretKeySpec keySpec = new SecretKeySpec(key, "HmacSHA256");
+
+        Mac jo = Mac.getInstance("HmacSHA256", JostleProvider.PROVIDER_NAME);
+        Mac bc = Mac.getInstance("HmacSHA256", BouncyCastleProvider.PROVIDER_NAME);
+        jo.init(keySpec);
+        bc.init(keySpec);
+
+        for (int trial = 0; trial < 50; trial++)
+        {
+            int pos = 0;
+            while (pos < data.length && sr.nextInt(8) != 0)
+            {
+                int len = Math.min(data.length - pos, sr.nextBoolean() ? sr.nextInt(300) : sr.nextInt(1000));
+                switch (sr.nextInt(3))
+                {
+                case 0:
+                    jo.update(data[pos]);
+                    len = 1;
+                    break;
+                case 1:
+                    ByteBuffer direct = ByteBuffer.allocateDirect(len);
+                    direct.put(data, pos, len).flip();
+                    jo.update(direct);
+                    break;
+                default:
+                    jo.update(data, pos, len);
+                    break;
+                }
+                bc.update(data, pos, len);
+                pos += len;
+            }
+
+            Mac copy = (Mac) jo.clone();
+            byte[] want = bc.doFinal();
+            Assertions.assertArrayEquals(want, jo.doFinal(), "trial " + trial);
+            Assertions.assertArrayEquals(want, copy.doFinal(), "clone, trial " + trial);
+        }
+
+        jo.update(data, 0, 10);
+        jo.init(keySpec);
+        Assertions.assertArrayEquals(bc.doFinal(data), jo.doFinal(data), "re-init discards held back input");
+    }
+
+    //
+    // Inits with a key seen before are keyed from a cached template. Fresh Macs,
+    // re-inits, clones of template-keyed Macs and interleaved keys must all agree
+    // with BC, and a CMAC template must not be confused with another key size.
+    //
+    @Test
+    public void testTemplateKeyedInits_agreeWithBC() throws Exception
+    {
+        SecureRandom sr = seededRandom("testTemplateKeyedInits_agreeWithBC");
+        byte[] msg = new byte[333];
+        sr.nextBytes(msg);
+
+        String[][] cases = {{"HmacSHA256", "HmacSHA256"}, {"HmacSHA3-512", "HmacSHA3-512"}, {"AESCMAC", "AES"}};
+        for (String[] c : cases)
+        {
+            int[] keySizes = c[1].equals("AES") ? new int[]{16, 24, 32} : new int[]{20, 64, 200};
+            SecretKeySpec[] keys = new SecretKeySpec[keySizes.length];
+            for (int i = 0; i < keys.length; i++)
+            {
+                byte[] key = new byte[keySizes[i]];
+                sr.nextBytes(key);
+                keys[i] = new SecretKeySpec(key, c[1]);
+            }
+
+            Mac bc = Mac.getInstance(c[0], BouncyCastleProvider.PROVIDER_NAME);
+            Mac reused = Mac.getInstance(c[0], JostleProvider.PROVIDER_NAME);
+            for (int round = 0; round < 3; round++)
+            {
+                for (int i = 0; i < keys.length; i++)
+                {
+                    bc.init(keys[i]);
+                    byte[] want = bc.doFinal(msg);
+
+                    Mac fresh = Mac.getInstance(c[0], JostleProvider.PROVIDER_NAME);
+                    fresh.init(keys[i]);
+                    fresh.update(msg, 0, 100);
+                    Mac copy = (Mac) fresh.clone();
+                    Assertions.assertArrayEquals(want, fresh.doFinal(Arrays.copyOfRange(msg, 100, msg.length)),
+                            c[0] + " fresh, key " + i + " round " + round);
+                    copy.update(msg, 100, msg.length - 100);
+                    Assertions.assertArrayEquals(want, copy.doFinal(), c[0] + " clone, key " + i + " round " + round);
+
+                    // The reset after doFinal re-keys from the copied key.
+                    Assertions.assertArrayEquals(want, fresh.doFinal(msg), c[0] + " reset, key " + i + " round " + round);
+
+                    reused.init(keys[i]);
+                    Assertions.assertArrayEquals(want, reused.doFinal(msg), c[0] + " reused, key " + i + " round " + round);
+                }
+            }
+        }
+    }
+
+    //
+    // A key is only templated on its second init, a one-off key never costs a
+    // context copy. Counters are process-wide, so this relies on tests in this
+    // class running one at a time.
+    //
+    @Test
+    public void testTemplateAdmittedOnSecondInit() throws Exception
+    {
+        byte[] key = new byte[32];
+        RANDOM.nextBytes(key);
+        SecretKeySpec keySpec = new SecretKeySpec(key, "HmacSHA256");
+        Mac mac = Mac.getInstance("HmacSHA256", JostleProvider.PROVIDER_NAME);
+
+        long hits = MacTemplateCache.getHitCount();
+        mac.init(keySpec);
+        mac.init(keySpec);
+        Assertions.assertEquals(hits, MacTemplateCache.getHitCount(), "templated before the second init");
+
+        mac.init(keySpec);
+        Assertions.assertEquals(hits + 1, MacTemplateCache.getHitCount(), "not templated after the second init");
+
+        Mac bc = Mac.getInstance("HmacSHA256", BouncyCastleProvider.PROVIDER_NAME);
+        bc.init(keySpec);
+        Assertions.assertArrayEquals(bc.doFinal(key), mac.doFinal(key));
+    }
 }
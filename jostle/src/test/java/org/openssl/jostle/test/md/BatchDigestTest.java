@@ -0,0 +1,144 @@
+/*
+ *
+ *   Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *   Licensed under the Apache License 2.0 (the "License"). You may not use
+ *   this file except in compliance with the License.  You can obtain a copy
+ *   in the file LICENSE in the source distribution or at
+ *   https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.test.md;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openssl.jostle.jcajce.BatchDigest;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.util.Arrays;
+
+public class BatchDigestTest
+{
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static SecureRandom seededRandom(String testName) throws Exception
+    {
+        long seed = RANDOM.nextLong();
+        System.out.println(testName + " seed=" + seed);
+        SecureRandom sr = SecureRandom.getInstance("SHA1PRNG");
+        sr.setSeed(seed);
+        return sr;
+    }
+
+    @BeforeAll
+    public static void before()
+    {
+        if (Security.getProvider(JostleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new JostleProvider());
+        }
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+    }
+
+    @Test
+    public void testBatchAgreesWithBC() throws Exception
+    {
+        SecureRandom sr = seededRandom("testBatchAgreesWithBC");
+        byte[] input = new byte[8192];
+        sr.nextBytes(input);
+
+        for (String alg : new String[]{"SHA-256", "SHA-512", "SHA3-256", "SHAKE-256", "MD5"})
+        {
+            BatchDigest batch = BatchDigest.getInstance(alg, JostleProvider.PROVIDER_NAME);
+            MessageDigest bc = MessageDigest.getInstance(alg, BouncyCastleProvider.PROVIDER_NAME);
+            Assertions.assertEquals(bc.getDigestLength(), batch.getDigestLength(), alg);
+
+            // Overlapping, empty and full length spans in any order.
+            int count = 200;
+            int[] spans = new int[2 * count];
+            for (int i = 0; i < count; i++)
+            {
+                int len = i == 0 ? input.length : sr.nextInt(300);
+                spans[2 * i] = sr.nextInt(input.length - len + 1);
+                spans[2 * i + 1] = len;
+            }
+
+            byte[] digests = batch.digest(input, spans);
+            int dl = batch.getDigestLength();
+            Assertions.assertEquals(count * dl, digests.length);
+            for (int i = 0; i < count; i++)
+            {
+                bc.update(input, spans[2 * i], spans[2 * i + 1]);
+                Assertions.assertArrayEquals(bc.digest(), Arrays.copyOfRange(digests, i * dl, (i + 1) * dl),
+                        alg + " message " + i);
+            }
+
+            // A second batch on the same instance starts from a clean state.
+            Assertions.assertArrayEquals(digests, batch.digest(input, spans), alg + " repeat");
+        }
+    }
+
+    @Test
+    public void testBatchWritesAtOffset() throws Exception
+    {
+        BatchDigest batch = BatchDigest.getInstance("SHA256", JostleProvider.PROVIDER_NAME);
+        byte[] input = "HelloHello".getBytes();
+        byte[] out = new byte[3 + 64 + 3];
+
+        Assertions.assertEquals(64, batch.digest(input, new int[]{0, 5, 5, 5, 99, 99}, 2, out, 3));
+
+        byte[] hello = MessageDigest.getInstance("SHA-256", JostleProvider.PROVIDER_NAME).digest("Hello".getBytes());
+        Assertions.assertArrayEquals(hello, Arrays.copyOfRange(out, 3, 35));
+        Assertions.assertArrayEquals(hello, Arrays.copyOfRange(out, 35, 67));
+        Assertions.assertArrayEquals(new byte[3], Arrays.copyOf(out, 3));
+        Assertions.assertArrayEquals(new byte[3], Arrays.copyOfRange(out, 67, 70));
+    }
+
+    @Test
+    public void testInvalidArguments() throws Exception
+    {
+        BatchDigest batch = BatchDigest.getInstance("SHA-256", JostleProvider.PROVIDER_NAME);
+
+        NullPointerException npe = Assertions.assertThrows(NullPointerException.class,
+                () -> batch.digest(new byte[1], null));
+        Assertions.assertEquals("spans is null", npe.getMessage());
+
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> batch.digest(new byte[1], new int[]{0, 1}, 2, new byte[64], 0));
+        Assertions.assertEquals("count out of range for spans", e.getMessage());
+
+        e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> batch.digest(new byte[1], new int[]{0, 2}));
+        Assertions.assertEquals("input offset + length is out of range", e.getMessage());
+
+        e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> batch.digest(new byte[1], new int[]{0, 1}, 1, new byte[31], 0));
+        Assertions.assertEquals("output offset + length is out of range", e.getMessage());
+    }
+
+    @Test
+    public void testGetInstance() throws Exception
+    {
+        Assertions.assertEquals("SHA-256", BatchDigest.getInstance("SHA-256", new JostleProvider()).getAlgorithm());
+
+        Assertions.assertThrows(NoSuchAlgorithmException.class,
+                () -> BatchDigest.getInstance("SHA-255", JostleProvider.PROVIDER_NAME));
+        Assertions.assertThrows(NoSuchProviderException.class,
+                () -> BatchDigest.getInstance("SHA-256", "NOT-A-PROVIDER"));
+
+        NoSuchAlgorithmException e = Assertions.assertThrows(NoSuchAlgorithmException.class,
+                () -> BatchDigest.getInstance("SHA-256", BouncyCastleProvider.PROVIDER_NAME));
+        Assertions.assertEquals("SHA-256 from BC does not support batching", e.getMessage());
+    }
+}
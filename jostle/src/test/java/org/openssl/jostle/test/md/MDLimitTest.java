@@ -19,8 +19,10 @@ import org.openssl.jostle.CryptoServicesRegistrar;
 import org.openssl.jostle.jcajce.provider.JostleProvider;
 import org.openssl.jostle.jcajce.provider.md.MDServiceNI;
 import org.openssl.jostle.test.crypto.TestNISelector;
+import org.openssl.jostle.util.encoders.Hex;
 import org.openssl.jostle.util.ops.OperationsTestNI;
 
+import java.nio.ByteBuffer;
 import java.security.SecureRandom;
 import java.security.Security;
 import java.util.Arrays;
@@ -164,6 +166,86 @@ public void updateBytes_inputNull() throws Exception {
         }
     }
 
+    @Test
+    public void updateBuffer_inputNull() throws Exception
+    {
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            NullPointerException e = Assertions.assertThrows(NullPointerException.class,
+                    () -> mdNI.updateBuffer(ref, null, 0, 0));
+            Assertions.assertEquals("input is null", e.getMessage());
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateBuffer_inputOffsetNegative() throws Exception
+    {
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> mdNI.updateBuffer(ref, ByteBuffer.allocateDirect(10), -1, 1));
+            Assertions.assertEquals("input offset is negative", e.getMessage());
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateBuffer_inputLenNegative() throws Exception
+    {
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> mdNI.updateBuffer(ref, ByteBuffer.allocateDirect(10), 0, -1));
+            Assertions.assertEquals("input len is negative", e.getMessage());
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateBuffer_range() throws Exception
+    {
+        // Range is checked against the buffer capacity, not its limit.
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            ByteBuffer buf = ByteBuffer.allocateDirect(10);
+            for (int[] offLen : new int[][]{{0, 11}, {1, 10}, {11, 0}, {10, Integer.MAX_VALUE}})
+            {
+                IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> mdNI.updateBuffer(ref, buf, offLen[0], offLen[1]));
+                Assertions.assertEquals("input offset + length is out of range", e.getMessage());
+            }
+
+            buf.limit(1);
+            mdNI.updateBuffer(ref, buf, 0, 10);
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateBuffer_nullHandle_rejectedTyped() throws Exception
+    {
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> mdNI.updateBuffer(0, ByteBuffer.allocateDirect(4), 0, 4));
+        Assertions.assertEquals("md context is null", e.getMessage());
+    }
+
     @Test
     public void digest_outputOffsetNegative() throws Exception {
         long ref = mdNI.allocateDigest("SHA256", 0);
@@ -765,5 +847,244 @@ public void updateBytes_inputNull() throws Exception {
                 where + ": bytes after the digest were clobbered");
     }
 
+    @Test
+    public void updateDigestReset_inputNullWithLength() throws Exception
+    {
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            NullPointerException e = Assertions.assertThrows(NullPointerException.class,
+                    () -> mdNI.updateDigestReset(ref, null, 0, 1, new byte[32], 0, 32));
+            Assertions.assertEquals("input is null", e.getMessage());
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateDigestReset_inputRange() throws Exception
+    {
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            for (int[] offLen : new int[][]{{0, 11}, {1, 10}, {11, 0}})
+            {
+                IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> mdNI.updateDigestReset(ref, new byte[10], offLen[0], offLen[1], new byte[32], 0, 32));
+                Assertions.assertEquals("input offset + length is out of range", e.getMessage());
+            }
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateDigestReset_outputNull() throws Exception
+    {
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            NullPointerException e = Assertions.assertThrows(NullPointerException.class,
+                    () -> mdNI.updateDigestReset(ref, null, 0, 0, null, 0, 32));
+            Assertions.assertEquals("output is null", e.getMessage());
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateDigestReset_outputTooSmall() throws Exception
+    {
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> mdNI.updateDigestReset(ref, new byte[4], 0, 4, new byte[31], 0, 31));
+            Assertions.assertEquals("output too small", e.getMessage());
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void updateDigestReset_nullHandle_rejectedTyped() throws Exception
+    {
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> mdNI.updateDigestReset(0, new byte[4], 0, 4, new byte[32], 0, 32));
+        Assertions.assertEquals("md context is null", e.getMessage());
+    }
+
+    //
+    // The fused call must agree with update + digest + reset, and must leave the
+    // context reset so the next message starts fresh.
+    //
+    @Test
+    public void updateDigestReset_matchesSeparateCalls() throws Exception
+    {
+        byte[] msg = new byte[100];
+        RANDOM.nextBytes(msg);
+
+        byte[] expected = new byte[32];
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            mdNI.engineUpdate(ref, msg, 0, 60);
+            mdNI.engineUpdate(ref, msg, 60, 40);
+            mdNI.digest(ref, expected, 0, 32);
+            mdNI.reset(ref);
+
+            for (int i = 0; i < 2; i++)
+            {
+                byte[] out = new byte[40];
+                mdNI.engineUpdate(ref, msg, 0, 60);
+                Assertions.assertEquals(32, mdNI.updateDigestReset(ref, msg, 60, 40, out, 8, 32));
+                Assertions.assertArrayEquals(expected, Arrays.copyOfRange(out, 8, 40));
+            }
+
+            byte[] empty = new byte[32];
+            byte[] emptyExpected = Hex.decode("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+            Assertions.assertEquals(32, mdNI.updateDigestReset(ref, null, 0, 0, empty, 0, 32));
+            Assertions.assertArrayEquals(emptyExpected, empty);
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void digestBatch_spansNull() throws Exception
+    {
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            NullPointerException e = Assertions.assertThrows(NullPointerException.class,
+                    () -> mdNI.digestBatch(ref, new byte[4], null, 0, new byte[32], 0));
+            Assertions.assertEquals("input is null", e.getMessage());
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
 
+    @Test
+    public void digestBatch_countNegative() throws Exception
+    {
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> mdNI.digestBatch(ref, new byte[4], new int[2], -1, new byte[32], 0));
+            Assertions.assertEquals("input len is negative", e.getMessage());
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void digestBatch_spansRange() throws Exception
+    {
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            // Too few spans for the count, then spans outside the input.
+            for (int[] spans : new int[][]{{0, 4, 0}, {0, 11, 0, 1}, {1, 10, 0, 1}, {11, 0, 0, 1}, {-1, 1, 0, 1}, {0, -1, 0, 1}})
+            {
+                IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> mdNI.digestBatch(ref, new byte[10], spans, 2, new byte[64], 0));
+                Assertions.assertEquals("input offset + length is out of range", e.getMessage());
+            }
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void digestBatch_outputRange() throws Exception
+    {
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> mdNI.digestBatch(ref, new byte[10], new int[]{0, 5, 5, 5}, 2, new byte[64], 1));
+            Assertions.assertEquals("output offset + length is out of range", e.getMessage());
+
+            e = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> mdNI.digestBatch(ref, new byte[10], new int[]{0, 5, 5, 5}, 2, new byte[64], -1));
+            Assertions.assertEquals("output offset is negative", e.getMessage());
+
+            NullPointerException npe = Assertions.assertThrows(NullPointerException.class,
+                    () -> mdNI.digestBatch(ref, new byte[10], new int[]{0, 5, 5, 5}, 2, null, 0));
+            Assertions.assertEquals("output is null", npe.getMessage());
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
+
+    @Test
+    public void digestBatch_nullHandle_rejectedTyped() throws Exception
+    {
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> mdNI.digestBatch(0, new byte[4], new int[]{0, 4}, 1, new byte[32], 0));
+        Assertions.assertEquals("md context is null", e.getMessage());
+    }
+
+    //
+    // Every digest of a batch must match the digest of that message alone, and
+    // bytes either side of the written region must be left alone.
+    //
+    @Test
+    public void digestBatch_matchesPerMessage() throws Exception
+    {
+        byte[] msg = new byte[300];
+        RANDOM.nextBytes(msg);
+        int[] spans = {0, 0, 0, 300, 17, 32, 299, 1, 100, 150};
+        int count = spans.length / 2;
+
+        long ref = mdNI.allocateDigest("SHA256", 0);
+        try
+        {
+            byte[] out = new byte[count * 32 + 10];
+            RANDOM.nextBytes(out);
+            byte[] snapshot = out.clone();
+
+            Assertions.assertEquals(count * 32, mdNI.digestBatch(ref, msg, spans, count, out, 5));
+
+            for (int i = 0; i < count; i++)
+            {
+                byte[] expected = new byte[32];
+                mdNI.updateDigestReset(ref, msg, spans[2 * i], spans[2 * i + 1], expected, 0, 32);
+                Assertions.assertArrayEquals(expected, Arrays.copyOfRange(out, 5 + i * 32, 5 + (i + 1) * 32), "message " + i);
+            }
+            Assertions.assertArrayEquals(Arrays.copyOf(snapshot, 5), Arrays.copyOf(out, 5));
+            Assertions.assertArrayEquals(Arrays.copyOfRange(snapshot, 5 + count * 32, out.length),
+                    Arrays.copyOfRange(out, 5 + count * 32, out.length));
+
+            // Empty batch, null input with only empty messages.
+            Assertions.assertEquals(0, mdNI.digestBatch(ref, msg, spans, 0, new byte[0], 0));
+            byte[] empty = new byte[32];
+            Assertions.assertEquals(32, mdNI.digestBatch(ref, null, new int[]{0, 0}, 1, empty, 0));
+            Assertions.assertArrayEquals(
+                    Hex.decode("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855"), empty);
+        }
+        finally
+        {
+            mdNI.dispose(ref);
+        }
+    }
 }
@@ -19,7 +19,12 @@ import org.openssl.jostle.jcajce.provider.JostleProvider;
 import org.openssl.jostle.util.Arrays;
 import org.openssl.jostle.util.encoders.Hex;
 
+import java.io.File;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -554,6 +559,81 @@ public class MDTest
     }
 
 
+    //
+    // Direct, read-only direct and mapped buffers are passed to the native
+    // layer by address. Each must consume exactly position..limit and agree
+    // with the byte[] path.
+    //
+    @Test
+    public void testUpdateDirectByteBuffer() throws Exception
+    {
+        SecureRandom sr = seededRandom("testUpdateDirectByteBuffer");
+        byte[] data = new byte[70000];
+        sr.nextBytes(data);
+
+        for (String alg : new String[]{"SHA-256", "SHA-512", "SHA3-256"})
+        {
+            MessageDigest expected = MessageDigest.getInstance(alg, BouncyCastleProvider.PROVIDER_NAME);
+            expected.update(data, 17, data.length - 17 - 5);
+            byte[] want = expected.digest();
+
+            ByteBuffer bb = ByteBuffer.allocateDirect(data.length);
+            bb.put(data).flip();
+            bb.position(17).limit(data.length - 5);
+
+            for (ByteBuffer in : new ByteBuffer[]{bb.duplicate(), bb.asReadOnlyBuffer(), bb.slice()})
+            {
+                MessageDigest md = MessageDigest.getInstance(alg, JostleProvider.PROVIDER_NAME);
+                int split = in.position() + 1000;
+                ByteBuffer first = in.duplicate();
+                first.limit(split);
+                md.update(first);
+                Assertions.assertEquals(split, first.position());
+                md.update(ByteBuffer.allocateDirect(0));
+                in.position(split);
+                md.update(in);
+                Assertions.assertEquals(0, in.remaining());
+                Assertions.assertArrayEquals(want, md.digest(), alg);
+            }
+        }
+    }
+
+    @Test
+    public void testUpdateMappedByteBuffer() throws Exception
+    {
+        SecureRandom sr = seededRandom("testUpdateMappedByteBuffer");
+        byte[] data = new byte[1 << 20];
+        sr.nextBytes(data);
+
+        File file = File.createTempFile("jostle-md", ".bin");
+        try
+        {
+            Files.write(file.toPath(), data);
+            try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+                 FileChannel channel = raf.getChannel())
+            {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+                MessageDigest md = MessageDigest.getInstance("SHA-256", JostleProvider.PROVIDER_NAME);
+                md.update(mapped);
+                Assertions.assertFalse(mapped.hasRemaining());
+
+                MessageDigest expected = MessageDigest.getInstance("SHA-256", BouncyCastleProvider.PROVIDER_NAME);
+                Assertions.assertArrayEquals(expected.digest(data), md.digest());
+            }
+        }
+        finally
+        {
+            // A mapping is only released when the buffer is collected, which
+            // some platforms require before the file can be deleted.
+            if (!file.delete())
+            {
+                file.deleteOnExit();
+            }
+        }
+    }
+
+
     //
     // The one-shot digest(byte[]) convenience must produce the same bytes as
     // separate update + digest calls.
@@ -672,4 +752,70 @@ public class MDTest
         }
     }
 
+    //
+    // Small updates are held back in the SPI and handed to the native layer with
+    // the final. Mixed update sizes either side of that threshold, single bytes,
+    // direct buffers and clones taken while input is held back must all agree
+    // with BC.
+    //
+    @Test
+    public void testDeferredUpdates_agreeWithBC() throws Exception
+    {
+        SecureRandom sr = seededRandom("testDeferredUpdates_agreeWithBC");
+        byte[] data = new byte[4096];
+        sr.nextBytes(data);
+
+        for (String alg : new String[]{"SHA-256", "SHA3-512", "SHAKE-256"})
+        {
+            MessageDigest md = MessageDigest.getInstance(alg, JostleProvider.PROVIDER_NAME);
+            MessageDigest expected = MessageDigest.getInstance(alg, BouncyCastleProvider.PROVIDER_NAME);
+
+            for (int trial = 0; trial < 50; trial++)
+            {
+                int pos = 0;
+                while (pos < data.length && sr.nextInt(8) != 0)
+                {
+                    int len = Math.min(data.length - pos, sr.nextBoolean() ? sr.nextInt(300) : sr.nextInt(1000));
+                    switch (sr.nextInt(3))
+                    {
+                    case 0:
+                        md.update(data[pos]);
+                        len = 1;
+                        break;
+                    case 1:
+                        ByteBuffer direct = ByteBuffer.allocateDirect(len);
+                        direct.put(data, pos, len).flip();
+                        md.update(direct);
+                        break;
+                    default:
+                        md.update(data, pos, len);
+                        break;
+                    }
+                    expected.update(data, pos, len);
+                    pos += len;
+                }
+
+                MessageDigest copy = (MessageDigest) md.clone();
+                byte[] want = expected.digest();
+                Assertions.assertArrayEquals(want, md.digest(), alg + " trial " + trial);
+                Assertions.assertArrayEquals(want, copy.digest(), alg + " clone, trial " + trial);
+            }
+        }
+    }
+
+    //
+    // reset() must discard input that is still held back in the SPI.
+    //
+    @Test
+    public void testResetDiscardsDeferredInput() throws Exception
+    {
+        MessageDigest md = MessageDigest.getInstance("SHA-256", JostleProvider.PROVIDER_NAME);
+        md.update(new byte[10]);
+        md.update((byte) 1);
+        md.reset();
+
+        Assertions.assertArrayEquals(
+                Hex.decode("185f8db32271fe25f561a6fc938b2e264306ec304eda518007d1764826381969"),
+                md.digest("Hello".getBytes()));
+    }
 }
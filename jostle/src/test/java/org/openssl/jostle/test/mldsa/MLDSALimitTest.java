@@ -309,7 +309,7 @@ public class MLDSALimitTest
     @Test
     public void MLDSAServiceJNI_getPublicKey_keyRefNullKey() throws Exception
     {
-        long ref = TestNISelector.SpecNI.allocate();
+        long ref = TestNISelector.getSpecNI().allocate();
         try
         {
             mldsaServiceNI.getPublicKey(ref, new byte[0]);
@@ -372,7 +372,7 @@ public class MLDSALimitTest
     @Test
     public void MLDSAServiceJNI_getPrivateKey_keyRefNullKey() throws Exception
     {
-        long ref = TestNISelector.SpecNI.allocate();
+        long ref = TestNISelector.getSpecNI().allocate();
         try
         {
             mldsaServiceNI.getPrivateKey(ref, new byte[0]);
@@ -433,7 +433,7 @@ public class MLDSALimitTest
     @Test
     public void MLDSAServiceJNI_getSeed_keyRefNullKey() throws Exception
     {
-        long ref = TestNISelector.SpecNI.allocate();
+        long ref = TestNISelector.getSpecNI().allocate();
         try
         {
             mldsaServiceNI.getSeed(ref, new byte[0]);
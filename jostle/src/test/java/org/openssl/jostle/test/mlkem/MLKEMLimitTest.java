@@ -228,7 +228,7 @@ public class MLKEMLimitTest
     @Test
     public void MLKEMServiceJNI_getPublicKey_keyRefNullKey() throws Exception
     {
-        long ref = TestNISelector.SpecNI.allocate();
+        long ref = TestNISelector.getSpecNI().allocate();
         try
         {
             mlkemServiceNI.getPublicKey(ref, new byte[0]);
@@ -288,7 +288,7 @@ public class MLKEMLimitTest
     @Test
     public void MLKEMServiceJNI_getPrivateKey_keyRefNullKey() throws Exception
     {
-        long ref = TestNISelector.SpecNI.allocate();
+        long ref = TestNISelector.getSpecNI().allocate();
         try
         {
             mlkemServiceNI.getPrivateKey(ref, new byte[0]);
@@ -347,7 +347,7 @@ public class MLKEMLimitTest
     @Test
     public void MLKEMServiceJNI_getSeed_keyRefNullKey() throws Exception
     {
-        long ref = TestNISelector.SpecNI.allocate();
+        long ref = TestNISelector.getSpecNI().allocate();
         try
         {
             mlkemServiceNI.getSeed(ref, new byte[0]);
@@ -17,7 +17,13 @@ import org.openssl.jostle.jcajce.provider.JostleProvider;
 
 import java.security.Provider;
 import java.security.Security;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class ServiceIntegrationTest
 {
@@ -38,4 +44,79 @@ public class ServiceIntegrationTest
 
     }
 
+    @Test
+    public void testNameAliasAndOidResolveToSameService() throws Exception
+    {
+        JostleProvider provider = new JostleProvider();
+
+        Provider.Service service = provider.getService("MessageDigest", "SHA2-256");
+        Assertions.assertNotNull(service);
+        Assertions.assertEquals("SHA2-256", service.getAlgorithm());
+        Assertions.assertEquals("Software", service.getAttribute("ImplementedIn"));
+
+        Assertions.assertSame(service, provider.getService("MessageDigest", "sha2-256"));
+        Assertions.assertSame(service, provider.getService("MessageDigest", "SHA-256"));
+        Assertions.assertSame(service, provider.getService("MessageDigest", "sha256"));
+        Assertions.assertSame(service, provider.getService("messagedigest", "SHA-256"));
+        Assertions.assertSame(service, provider.getService("MessageDigest", "2.16.840.1.101.3.4.2.1"));
+
+        Assertions.assertNull(provider.getService("MessageDigest", "SHA-257"));
+        Assertions.assertNull(provider.getService("NoSuchType", "SHA-256"));
+
+        Assertions.assertTrue(provider.getServices().contains(service));
+        Assertions.assertSame(provider.getServices(), provider.getServices());
+    }
+
+    @Test
+    public void testConcurrentGetService() throws Exception
+    {
+        final JostleProvider provider = new JostleProvider();
+        final String[][] lookups = {
+                {"MessageDigest", "SHA-256"},
+                {"Cipher", "AES"},
+                {"Mac", "HmacSHA256"},
+                {"Signature", "ED25519"},
+                {"SecureRandom", "DEFAULT"}
+        };
+
+        final List<Provider.Service> expected = new ArrayList<Provider.Service>();
+        for (String[] lookup : lookups)
+        {
+            expected.add(provider.getService(lookup[0], lookup[1]));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int t = 0; t < 32; t++)
+            {
+                results.add(pool.submit(new Callable<Boolean>()
+                {
+                    @Override
+                    public Boolean call()
+                    {
+                        for (int i = 0; i < 1000; i++)
+                        {
+                            int j = i % lookups.length;
+                            if (provider.getService(lookups[j][0], lookups[j][1]) != expected.get(j))
+                            {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+                }));
+            }
+            for (Future<Boolean> f : results)
+            {
+                Assertions.assertTrue(f.get());
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,267 @@
+/*
+ *
+ *   Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *   Licensed under the Apache License 2.0 (the "License"). You may not use
+ *   this file except in compliance with the License.  You can obtain a copy
+ *   in the file LICENSE in the source distribution or at
+ *   https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.test.provider;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openssl.jostle.JostleResources;
+import org.openssl.jostle.disposal.ReleaseScope;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+import org.openssl.jostle.jcajce.provider.cache.TranslatedKeyCache;
+
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Foreign public keys handed to JSL SPIs are translated once and the JSL key
+ * reused while the foreign key is alive. Counters are process-wide so
+ * assertions only rely on them growing.
+ */
+public class TranslatedKeyCacheTest
+{
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @BeforeAll
+    static void before()
+    {
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+        if (Security.getProvider(JostleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new JostleProvider());
+        }
+    }
+
+    @Test
+    public void testTranslatedOncePerKeyAndOwner() throws Exception
+    {
+        TranslatedKeyCache cache = new TranslatedKeyCache();
+        final AtomicInteger calls = new AtomicInteger();
+        TranslatedKeyCache.Translator translator = k ->
+        {
+            calls.incrementAndGet();
+            return new Translated(k);
+        };
+
+        PublicKey foreign = bcKeyPair("Ed25519").getPublic();
+        Object owner = new Object();
+
+        Key first = cache.translate(owner, foreign, translator);
+        Key second = cache.translate(owner, foreign, translator);
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, calls.get());
+
+        // Another interface library translates for itself.
+        Key other = cache.translate(new Object(), foreign, translator);
+        Assertions.assertNotSame(first, other);
+        Assertions.assertEquals(2, calls.get());
+
+        // Identity, not equality, selects the entry.
+        PublicKey copy = KeyFactory.getInstance("Ed25519", BouncyCastleProvider.PROVIDER_NAME)
+                .generatePublic(new X509EncodedKeySpec(foreign.getEncoded()));
+        Assertions.assertEquals(foreign, copy);
+        Assertions.assertNotSame(first, cache.translate(owner, copy, translator));
+        Assertions.assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testFailedTranslationIsNotCached() throws Exception
+    {
+        TranslatedKeyCache cache = new TranslatedKeyCache();
+        final AtomicInteger calls = new AtomicInteger();
+        TranslatedKeyCache.Translator translator = k ->
+        {
+            calls.incrementAndGet();
+            throw new InvalidKeyException("rejected");
+        };
+
+        PublicKey foreign = bcKeyPair("Ed25519").getPublic();
+        Object owner = new Object();
+        for (int i = 0; i < 2; i++)
+        {
+            try
+            {
+                cache.translate(owner, foreign, translator);
+                Assertions.fail();
+            }
+            catch (InvalidKeyException e)
+            {
+                Assertions.assertEquals("rejected", e.getMessage());
+            }
+        }
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testCacheIsBounded() throws Exception
+    {
+        TranslatedKeyCache cache = new TranslatedKeyCache();
+        TranslatedKeyCache.Translator translator = Translated::new;
+        Object owner = new Object();
+
+        long evictions = TranslatedKeyCache.getEvictionCount();
+        PublicKey[] keys = new PublicKey[80];
+        for (int i = 0; i < keys.length; i++)
+        {
+            keys[i] = bcKeyPair("Ed25519").getPublic();
+            cache.translate(owner, keys[i], translator);
+        }
+        Assertions.assertTrue(TranslatedKeyCache.getEvictionCount() - evictions >= keys.length - 64);
+
+        // The most recent entry survived, the eldest did not.
+        long misses = TranslatedKeyCache.getMissCount();
+        cache.translate(owner, keys[keys.length - 1], translator);
+        cache.translate(owner, keys[0], translator);
+        Assertions.assertTrue(TranslatedKeyCache.getMissCount() - misses >= 1);
+    }
+
+    @Test
+    public void testRepeatedVerifyWithForeignEcKey() throws Exception
+    {
+        KeyPairGenerator bcKpg = KeyPairGenerator.getInstance("EC", BouncyCastleProvider.PROVIDER_NAME);
+        bcKpg.initialize(new ECGenParameterSpec("P-256"), RANDOM);
+        KeyPair bcKp = bcKpg.generateKeyPair();
+
+        byte[] msg = new byte[64];
+        RANDOM.nextBytes(msg);
+        Signature signer = Signature.getInstance("SHA256withECDSA", BouncyCastleProvider.PROVIDER_NAME);
+        signer.initSign(bcKp.getPrivate());
+        signer.update(msg);
+        byte[] sig = signer.sign();
+
+        long hits = TranslatedKeyCache.getHitCount();
+        for (int i = 0; i < 3; i++)
+        {
+            Signature verifier = Signature.getInstance("SHA256withECDSA", JostleProvider.PROVIDER_NAME);
+            verifier.initVerify(bcKp.getPublic());
+            verifier.update(msg);
+            Assertions.assertTrue(verifier.verify(sig));
+        }
+        Assertions.assertTrue(TranslatedKeyCache.getHitCount() - hits >= 2);
+    }
+
+    @Test
+    public void testRepeatedVerifyWithForeignRsaKey() throws Exception
+    {
+        KeyPairGenerator bcKpg = KeyPairGenerator.getInstance("RSA", BouncyCastleProvider.PROVIDER_NAME);
+        bcKpg.initialize(2048, RANDOM);
+        KeyPair bcKp = bcKpg.generateKeyPair();
+
+        byte[] msg = new byte[64];
+        RANDOM.nextBytes(msg);
+        Signature signer = Signature.getInstance("SHA256withRSA", BouncyCastleProvider.PROVIDER_NAME);
+        signer.initSign(bcKp.getPrivate());
+        signer.update(msg);
+        byte[] sig = signer.sign();
+
+        long hits = TranslatedKeyCache.getHitCount();
+        for (int i = 0; i < 3; i++)
+        {
+            Signature verifier = Signature.getInstance("SHA256withRSA", JostleProvider.PROVIDER_NAME);
+            verifier.initVerify(bcKp.getPublic());
+            verifier.update(msg);
+            Assertions.assertTrue(verifier.verify(sig));
+        }
+        Assertions.assertTrue(TranslatedKeyCache.getHitCount() - hits >= 2);
+
+        // A tampered signature still fails against the cached key.
+        sig[0] ^= 1;
+        Signature verifier = Signature.getInstance("SHA256withRSA", JostleProvider.PROVIDER_NAME);
+        verifier.initVerify(bcKp.getPublic());
+        verifier.update(msg);
+        Assertions.assertFalse(verifier.verify(sig));
+    }
+
+    @Test
+    public void testTranslatedKeyOutlivesReleaseScope() throws Exception
+    {
+        KeyPairGenerator bcKpg = KeyPairGenerator.getInstance("EC", BouncyCastleProvider.PROVIDER_NAME);
+        bcKpg.initialize(new ECGenParameterSpec("P-256"), RANDOM);
+        KeyPair bcKp = bcKpg.generateKeyPair();
+
+        byte[] msg = new byte[64];
+        RANDOM.nextBytes(msg);
+        Signature signer = Signature.getInstance("SHA256withECDSA", BouncyCastleProvider.PROVIDER_NAME);
+        signer.initSign(bcKp.getPrivate());
+        signer.update(msg);
+        byte[] sig = signer.sign();
+
+        // The first init misses and translates while the scope is open.
+        long misses = TranslatedKeyCache.getMissCount();
+        try (ReleaseScope scope = JostleResources.openScope())
+        {
+            Signature verifier = Signature.getInstance("SHA256withECDSA", JostleProvider.PROVIDER_NAME);
+            verifier.initVerify(bcKp.getPublic());
+            verifier.update(msg);
+            Assertions.assertTrue(verifier.verify(sig));
+        }
+        Assertions.assertTrue(TranslatedKeyCache.getMissCount() - misses >= 1);
+
+        // Closing the scope must not have released the cached key.
+        long hits = TranslatedKeyCache.getHitCount();
+        Signature verifier = Signature.getInstance("SHA256withECDSA", JostleProvider.PROVIDER_NAME);
+        verifier.initVerify(bcKp.getPublic());
+        verifier.update(msg);
+        Assertions.assertTrue(verifier.verify(sig));
+        Assertions.assertTrue(TranslatedKeyCache.getHitCount() - hits >= 1);
+    }
+
+    private static KeyPair bcKeyPair(String algorithm) throws Exception
+    {
+        return KeyPairGenerator.getInstance(algorithm, BouncyCastleProvider.PROVIDER_NAME).generateKeyPair();
+    }
+
+    private static final class Translated
+            implements PublicKey
+    {
+        private static final long serialVersionUID = 4181963624175410389L;
+
+        private final String algorithm;
+
+        Translated(Key key)
+        {
+            this.algorithm = key.getAlgorithm();
+        }
+
+        @Override
+        public String getAlgorithm()
+        {
+            return algorithm;
+        }
+
+        @Override
+        public String getFormat()
+        {
+            return null;
+        }
+
+        @Override
+        public byte[] getEncoded()
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *
+ *   Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *   Licensed under the Apache License 2.0 (the "License"). You may not use
+ *   this file except in compliance with the License.  You can obtain a copy
+ *   in the file LICENSE in the source distribution or at
+ *   https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.test.rand;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+import org.openssl.jostle.jcajce.provider.OpenSSLException;
+import org.openssl.jostle.jcajce.provider.mlkem.MLKEMServiceNI;
+import org.openssl.jostle.jcajce.provider.rand.RandServiceSPI;
+import org.openssl.jostle.jcajce.spec.OSSLKeyType;
+import org.openssl.jostle.rand.DefaultRandSource;
+import org.openssl.jostle.test.crypto.TestNISelector;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+
+/**
+ * A JSL SecureRandom handed to a native operation is drawn from natively, any
+ * other SecureRandom through the up-call, optionally prefetched in blocks.
+ */
+public class NativeDrbgRandSourceTest
+{
+    private final MLKEMServiceNI mlkemServiceNI = TestNISelector.getMLKEMNI();
+
+    @BeforeAll
+    public static void beforeAll()
+    {
+        if (Security.getProvider(JostleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new JostleProvider());
+        }
+    }
+
+    @Test
+    public void testOnlyJostleDrbgsAreDrawnNatively() throws Exception
+    {
+        SecureRandom jostle = SecureRandom.getInstance("DRBG", JostleProvider.PROVIDER_NAME);
+        Assertions.assertNotEquals(0, RandServiceSPI.nativeDrbgOf(jostle));
+
+        Assertions.assertEquals(0, RandServiceSPI.nativeDrbgOf(SecureRandom.getInstance("SHA1PRNG")));
+        Assertions.assertEquals(0, RandServiceSPI.nativeDrbgOf(null));
+
+        // The probe is a zero length request, the instance carries on as before.
+        byte[] out = new byte[32];
+        jostle.nextBytes(out);
+        Assertions.assertFalse(isZero(out));
+    }
+
+    @Test
+    public void testOperationsWithJostleDrbg() throws Exception
+    {
+        SecureRandom random = SecureRandom.getInstance("CTR-DRBG", JostleProvider.PROVIDER_NAME);
+
+        long ref = mlkemServiceNI.generateKeyPair(OSSLKeyType.ML_KEM_512.getKsType(), DefaultRandSource.wrap(random));
+        TestNISelector.getSpecNI().dispose(ref);
+
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC", JostleProvider.PROVIDER_NAME);
+        kpg.initialize(new ECGenParameterSpec("P-256"), random);
+        KeyPair kp = kpg.generateKeyPair();
+
+        byte[] msg = new byte[100];
+        random.nextBytes(msg);
+
+        // ECDSA draws its nonce from the signer's random on every signature.
+        Signature signer = Signature.getInstance("SHA256withECDSA", JostleProvider.PROVIDER_NAME);
+        signer.initSign(kp.getPrivate(), random);
+        signer.update(msg);
+        byte[] sig1 = signer.sign();
+        signer.update(msg);
+        byte[] sig2 = signer.sign();
+        Assertions.assertFalse(java.util.Arrays.equals(sig1, sig2));
+
+        Signature verifier = Signature.getInstance("SHA256withECDSA", JostleProvider.PROVIDER_NAME);
+        verifier.initVerify(kp.getPublic());
+        verifier.update(msg);
+        Assertions.assertTrue(verifier.verify(sig1));
+        verifier.update(msg);
+        Assertions.assertTrue(verifier.verify(sig2));
+    }
+
+    @Test
+    public void testBufferedUpCall() throws Exception
+    {
+        int unbuffered = countedKeyGens(0);
+        int buffered = countedKeyGens(4096);
+
+        Assertions.assertTrue(buffered > 0, "buffered source not consulted");
+        Assertions.assertTrue(buffered < unbuffered, "buffered " + buffered + " unbuffered " + unbuffered);
+    }
+
+    @Test
+    public void testBufferedUpCallFailures() throws Exception
+    {
+        TestNISelector.getOpenSSLNI().setRandUpCallBlock(4096);
+        try
+        {
+            mlkemServiceNI.generateKeyPair(OSSLKeyType.ML_KEM_512.getKsType(), new BridgeRandLimitTest.ShortRandSource());
+            Assertions.fail();
+        }
+        catch (OpenSSLException e)
+        {
+            Assertions.assertTrue(e.getMessage().contains("handler fail, short output: -96"));
+        }
+        finally
+        {
+            TestNISelector.getOpenSSLNI().setRandUpCallBlock(0);
+        }
+    }
+
+    private int countedKeyGens(int block)
+    {
+        BridgeRandLimitTest.CountingRandSource source = new BridgeRandLimitTest.CountingRandSource();
+        TestNISelector.getOpenSSLNI().setRandUpCallBlock(block);
+        try
+        {
+            for (int i = 0; i < 4; i++)
+            {
+                long ref = mlkemServiceNI.generateKeyPair(OSSLKeyType.ML_KEM_512.getKsType(), source);
+                TestNISelector.getSpecNI().dispose(ref);
+            }
+        }
+        finally
+        {
+            TestNISelector.getOpenSSLNI().setRandUpCallBlock(0);
+        }
+        return source.calls.get();
+    }
+
+    private static boolean isZero(byte[] b)
+    {
+        int v = 0;
+        for (byte x : b)
+        {
+            v |= x;
+        }
+        return v == 0;
+    }
+}
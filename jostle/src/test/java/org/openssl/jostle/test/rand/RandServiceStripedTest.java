@@ -0,0 +1,187 @@
+/*
+ *
+ *   Copyright 2026 OpenSSL Jostle Authors. All Rights Reserved.
+ *
+ *   Licensed under the Apache License 2.0 (the "License"). You may not use
+ *   this file except in compliance with the License.  You can obtain a copy
+ *   in the file LICENSE in the source distribution or at
+ *   https://github.com/openssl-projects/openssl-jostle/blob/main/LICENSE
+ *
+ */
+
+package org.openssl.jostle.test.rand;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.openssl.jostle.jcajce.provider.JostleProvider;
+import org.openssl.jostle.jcajce.provider.rand.RandAlgorithm;
+import org.openssl.jostle.jcajce.provider.rand.RandServiceSPI;
+import org.openssl.jostle.util.Arrays;
+import org.openssl.jostle.util.encoders.Hex;
+
+import java.security.SecureRandom;
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A striped DRBG serves each calling thread from one of several native DRBGs.
+ */
+public class RandServiceStripedTest
+{
+    private static final int THREADS = 16;
+
+    @BeforeAll
+    public static void beforeAll()
+    {
+        if (Security.getProvider(JostleProvider.PROVIDER_NAME) == null)
+        {
+            Security.addProvider(new JostleProvider());
+        }
+    }
+
+    @Test
+    public void testStripedIsRegistered() throws Exception
+    {
+        SecureRandom random = SecureRandom.getInstance("DRBG-STRIPED", JostleProvider.PROVIDER_NAME);
+        Assertions.assertEquals("DRBG-STRIPED", random.getAlgorithm());
+
+        byte[] first = new byte[32];
+        byte[] second = new byte[32];
+        random.nextBytes(first);
+        random.nextBytes(second);
+
+        Assertions.assertFalse(Arrays.areEqual(new byte[32], first));
+        Assertions.assertFalse(Arrays.areEqual(first, second));
+
+        Assertions.assertEquals("true",
+                Security.getProvider(JostleProvider.PROVIDER_NAME).get("SecureRandom.DRBG-STRIPED ThreadSafe"));
+    }
+
+    @Test
+    public void testSharedAcrossThreads() throws Exception
+    {
+        final SecureRandom random = SecureRandom.getInstance("DRBG-STRIPED", JostleProvider.PROVIDER_NAME);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++)
+            {
+                results.add(pool.submit((Callable<List<String>>) () ->
+                {
+                    List<String> drawn = new ArrayList<>();
+                    for (int i = 0; i < 256; i++)
+                    {
+                        byte[] out = new byte[32];
+                        random.nextBytes(out);
+                        drawn.add(Hex.toHexString(out));
+                    }
+                    return drawn;
+                }));
+            }
+
+            // No two stripes may produce the same stream.
+            Set<String> seen = new HashSet<>();
+            for (Future<List<String>> f : results)
+            {
+                for (String s : f.get())
+                {
+                    Assertions.assertTrue(seen.add(s), "repeated output " + s);
+                }
+            }
+            Assertions.assertEquals(THREADS * 256, seen.size());
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSeedAppliesToStripedInstance() throws Exception
+    {
+        SecureRandom random = SecureRandom.getInstance("DRBG-STRIPED", JostleProvider.PROVIDER_NAME);
+        random.setSeed("seed".getBytes("UTF-8"));
+        random.setSeed(23L);
+
+        byte[] seed = random.generateSeed(48);
+        Assertions.assertEquals(48, seed.length);
+        Assertions.assertFalse(Arrays.areEqual(new byte[48], seed));
+    }
+
+    @Test
+    public void testStripedInstanceHasNoFixedNativeDrbg() throws Exception
+    {
+        // A native DRBG handed out for a striped instance would pin every
+        // thread to the stripe of whichever thread asked first.
+        Assertions.assertEquals(0, nativeDrbgsSeenAcrossThreads("DRBG-STRIPED", "64", null));
+        Assertions.assertEquals(1, nativeDrbgsSeenAcrossThreads("DRBG-STRIPED", "1", null));
+    }
+
+    @Test
+    public void testStripedDefaultProperty() throws Exception
+    {
+        Assertions.assertEquals(1, nativeDrbgsSeenAcrossThreads("DEFAULT", "64", null));
+        Assertions.assertEquals(0, nativeDrbgsSeenAcrossThreads("DEFAULT", "64", "true"));
+
+        // Fixed mechanisms are never striped.
+        Assertions.assertEquals(1, nativeDrbgsSeenAcrossThreads("CTR-DRBG", "64", "true"));
+    }
+
+    /**
+     * The number of distinct native DRBGs reported across threads, 0 if none is.
+     */
+    private static int nativeDrbgsSeenAcrossThreads(String algorithm, String stripes, String stripedDefault)
+            throws Exception
+    {
+        final SecureRandom random;
+        System.setProperty(RandAlgorithm.STRIPES_PROP, stripes);
+        if (stripedDefault != null)
+        {
+            System.setProperty(RandAlgorithm.STRIPED_DEFAULT_PROP, stripedDefault);
+        }
+        try
+        {
+            random = SecureRandom.getInstance(algorithm, JostleProvider.PROVIDER_NAME);
+        }
+        finally
+        {
+            System.clearProperty(RandAlgorithm.STRIPES_PROP);
+            System.clearProperty(RandAlgorithm.STRIPED_DEFAULT_PROP);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++)
+            {
+                results.add(pool.submit((Callable<Long>) () -> RandServiceSPI.nativeDrbgOf(random)));
+            }
+
+            Set<Long> drbgs = new HashSet<>();
+            for (Future<Long> f : results)
+            {
+                long drbg = f.get();
+                if (drbg != 0)
+                {
+                    drbgs.add(drbg);
+                }
+            }
+            return drbgs.size();
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+}
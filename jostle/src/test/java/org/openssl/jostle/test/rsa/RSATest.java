@@ -506,6 +506,38 @@ public class RSATest
     }
 
 
+    /**
+     * The signature length is learnt once per key; re-initialising the
+     * same instance with a different modulus size must produce signatures
+     * of the new key's length.
+     */
+    @Test
+    public void testPkcs1_ReInitWithOtherModulus_resizesSignature() throws Exception
+    {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("RSA", JostleProvider.PROVIDER_NAME);
+        kpg.initialize(3072);
+        KeyPair rsa3072 = kpg.generateKeyPair();
+
+        byte[] msg = randomMessage(256);
+        Signature signer = Signature.getInstance("SHA256withRSA", JostleProvider.PROVIDER_NAME);
+        Signature verifier = Signature.getInstance("SHA256withRSA", JostleProvider.PROVIDER_NAME);
+
+        for (KeyPair kp : new KeyPair[]{sharedKeyPair, rsa3072, sharedKeyPair})
+        {
+            signer.initSign(kp.getPrivate());
+            for (int i = 0; i < 2; i++)
+            {
+                signer.update(msg);
+                byte[] sig = signer.sign();
+                Assertions.assertEquals(kp == rsa3072 ? 384 : 256, sig.length);
+
+                verifier.initVerify(kp.getPublic());
+                verifier.update(msg);
+                Assertions.assertTrue(verifier.verify(sig));
+            }
+        }
+    }
+
     /**
      * High-level (JCE Signature API) variant of the offset-write test
      * that lives in {@link RSALimitTest} at the NI layer. Validates the
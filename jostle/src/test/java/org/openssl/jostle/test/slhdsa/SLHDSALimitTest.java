@@ -395,7 +395,7 @@ public class SLHDSALimitTest
     @Test
     public void SLHDSAServiceJNI_getPublicKey_keyRefNullKey() throws Exception
     {
-        long ref = TestNISelector.SpecNI.allocate();
+        long ref = TestNISelector.getSpecNI().allocate();
         try
         {
             slhdsaServiceNI.getPublicKey(ref, new byte[0]);
@@ -455,7 +455,7 @@ public class SLHDSALimitTest
     @Test
     public void SLHDSAServiceJNI_getPrivateKey_keyRefNullKey() throws Exception
     {
-        long ref = TestNISelector.SpecNI.allocate();
+        long ref = TestNISelector.getSpecNI().allocate();
         try
         {
             slhdsaServiceNI.getPrivateKey(ref, new byte[0]);
@@ -2224,7 +2224,7 @@ public class SLHDSALimitTest
     @Test
     public void SLHDSAServiceNI_decode_minValueOffsetAndLen_rejectedTyped() throws Exception
     {
-        final long spec = TestNISelector.SpecNI.allocate();
+        final long spec = TestNISelector.getSpecNI().allocate();
         try
         {
             Assertions.assertEquals("input offset is negative", Assertions.assertThrows(